@@ -2,9 +2,13 @@ package com.digitalpetri.opcua.stack.codegen;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 
 public class StructuredType {
 
@@ -83,6 +87,72 @@ public class StructuredType {
         }
     }
 
+    /**
+     * @return the combined encoded size of the non-array fields of this type that always encode to the same number of
+     * bytes.
+     */
+    public int getFixedSize() {
+        return fields.stream().filter(f -> !f.isArray()).mapToInt(Field::getFixedSize).sum();
+    }
+
+    /**
+     * @return the imports needed by the binary codec for this type, java.* first, separated by an empty string.
+     */
+    public List<String> getBinaryCodecImports() {
+        Set<String> javaImports = new TreeSet<>();
+        Set<String> imports = new TreeSet<>();
+
+        imports.add("com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder");
+        imports.add("com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry");
+        imports.add("com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder");
+        imports.add("com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder");
+        imports.add("com.digitalpetri.opcua.stack.core.types.structured." + name);
+
+        for (Field field : fields) {
+            String javaClass = field.getType().getJavaClass();
+
+            if (field.isEnumeration()) {
+                imports.add("com.digitalpetri.opcua.stack.core.types.enumerated." + javaClass);
+            } else if (!field.getType().isBuiltin()) {
+                imports.add("com.digitalpetri.opcua.stack.core.types.structured." + javaClass);
+            } else if ("UUID".equals(javaClass)) {
+                javaImports.add("java.util.UUID");
+            } else if (UnsignedTypes.contains(javaClass)) {
+                imports.add("com.digitalpetri.opcua.stack.core.types.builtin.unsigned." + javaClass);
+            } else if (!JavaLangTypes.contains(javaClass)) {
+                imports.add("com.digitalpetri.opcua.stack.core.types.builtin." + javaClass);
+            }
+        }
+
+        List<String> all = Lists.newArrayList(javaImports);
+        if (!javaImports.isEmpty()) all.add("");
+        all.addAll(imports);
+        return all;
+    }
+
+    private static final ImmutableMap<String, Integer> FixedSizes =
+            ImmutableMap.<String, Integer>builder()
+                    .put("Boolean", 1)
+                    .put("SByte", 1)
+                    .put("Byte", 1)
+                    .put("Int16", 2)
+                    .put("UInt16", 2)
+                    .put("Int32", 4)
+                    .put("UInt32", 4)
+                    .put("Float", 4)
+                    .put("StatusCode", 4)
+                    .put("Int64", 8)
+                    .put("UInt64", 8)
+                    .put("Double", 8)
+                    .put("DateTime", 8)
+                    .put("Guid", 16)
+                    .build();
+
+    private static final Set<String> UnsignedTypes = ImmutableSet.of("UByte", "UShort", "UInteger", "ULong");
+
+    private static final Set<String> JavaLangTypes =
+            ImmutableSet.of("Boolean", "Byte", "Short", "Integer", "Long", "Float", "Double", "String");
+
     @Override
     public String toString() {
         return "StructuredType{" +
@@ -131,6 +201,19 @@ public class StructuredType {
             return enumeration;
         }
 
+        public boolean isStructure() {
+            return !type.isBuiltin() && !enumeration;
+        }
+
+        /**
+         * @return the encoded size of one value of this field's type, or 0 if it varies from value to value.
+         */
+        public int getFixedSize() {
+            if (enumeration) return 4;
+
+            return type.isBuiltin() ? FixedSizes.getOrDefault(type.getName(), 0) : 0;
+        }
+
         @Override
         public String toString() {
             return "Field{" +
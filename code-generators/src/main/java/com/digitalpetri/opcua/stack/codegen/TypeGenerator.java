@@ -32,6 +32,12 @@ public class TypeGenerator {
             System.exit(-1);
         }
 
+        File binaryCodecOutputDir = new File("/Users/kevin/Desktop/generated-classes/structured/binary/");
+        if (!binaryCodecOutputDir.exists() && !binaryCodecOutputDir.mkdirs()) {
+            System.out.println("Could not create output dir: " + binaryCodecOutputDir);
+            System.exit(-1);
+        }
+
         File enumeratedOutputDir = new File("/Users/kevin/Desktop/generated-classes/enumerated/");
         if (!enumeratedOutputDir.exists() && !enumeratedOutputDir.mkdirs()) {
             System.out.println("Could not create output dir: " + enumeratedOutputDir);
@@ -56,6 +62,12 @@ public class TypeGenerator {
             Velocity.mergeTemplate("StructuredType.vm", "UTF-8", context, fw);
             fw.flush();
             fw.close();
+
+            File cf = new File(binaryCodecOutputDir, structuredType.getName() + "BinaryCodec.java");
+            FileWriter cfw = new FileWriter(cf);
+            Velocity.mergeTemplate("StructuredTypeBinaryCodec.vm", "UTF-8", context, cfw);
+            cfw.flush();
+            cfw.close();
         }
 
         for (EnumeratedType enumeratedType : enumeratedTypes) {
@@ -0,0 +1,157 @@
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.digitalpetri.opcua.stack.core.Stack;
+import com.digitalpetri.opcua.stack.core.Transport;
+import com.digitalpetri.opcua.stack.core.TransportConfig;
+import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
+import com.digitalpetri.opcua.stack.core.channel.headers.HeaderDecoder;
+import com.digitalpetri.opcua.stack.core.channel.messages.HelloMessage;
+import com.digitalpetri.opcua.stack.core.channel.messages.TcpMessageEncoder;
+import com.digitalpetri.opcua.stack.server.tcp.SocketServer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.ReferenceCountUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Client threads open connections to a {@link SocketServer} on the loopback interface, send a Hello, wait for the
+ * server's reply, and close the connection. No server is registered for the endpoint URL, so the reply is an Error
+ * message; each operation covers accepting a connection, reading its first message, and answering it.
+ * <p>
+ * Throughput is connections per second. After each iteration the process CPU time spent per connection, client and
+ * server together, is printed. Compare {@code mode=nio}, {@code mode=epoll}, and {@code mode=epoll-reuseport}, which
+ * binds one SO_REUSEPORT acceptor per core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class AcceptBenchmark {
+
+    @Param({"nio", "epoll", "epoll-reuseport"})
+    private String mode;
+
+    private EventLoopGroup clientGroup;
+    private Bootstrap bootstrap;
+    private InetSocketAddress address;
+    private HelloMessage hello;
+
+    private final LongAdder connections = new LongAdder();
+    private long cpuTimeStart;
+
+    @Setup
+    public void setUp() throws Exception {
+        Transport transport = "nio".equals(mode) ? Transport.NIO : Transport.EPOLL;
+        int acceptorCount = "epoll-reuseport".equals(mode) ? Runtime.getRuntime().availableProcessors() : 1;
+
+        // Each set of parameters runs in its own fork, so the shared event loop has not been created yet.
+        Stack.setTransportConfig(new TransportConfig(transport, acceptorCount));
+
+        SocketServer server = SocketServer.boundTo(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        address = (InetSocketAddress) server.getLocalAddress();
+
+        hello = new HelloMessage(
+                HeaderDecoder.PROTOCOL_VERSION,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_COUNT,
+                "opc.tcp://localhost:" + address.getPort() + "/benchmark"
+        );
+
+        clientGroup = transport.newEventLoopGroup(0,
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("benchmark-client-%d").build());
+
+        // Reset instead of closing gracefully, so client ports are not held in TIME_WAIT.
+        bootstrap = new Bootstrap()
+                .group(clientGroup)
+                .channel(transport.getSocketChannelClass())
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.SO_LINGER, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SocketServer.shutdownAll();
+        clientGroup.shutdownGracefully();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        connections.reset();
+        cpuTimeStart = processCpuTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration() {
+        long count = connections.sum();
+
+        if (count > 0) {
+            double micros = (processCpuTime() - cpuTimeStart) / 1000.0 / count;
+            System.out.printf("%ncpu time per connection: %.1f us (%d connections)%n", micros, count);
+        }
+    }
+
+    @Benchmark
+    public void connect() throws Exception {
+        CompletableFuture<Void> replied = new CompletableFuture<>();
+
+        Channel channel = bootstrap.clone()
+                .handler(new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                        ReferenceCountUtil.release(msg);
+                        replied.complete(null);
+                    }
+
+                    @Override
+                    public void channelInactive(ChannelHandlerContext ctx) {
+                        replied.complete(null);
+                    }
+                })
+                .connect(address).sync().channel();
+
+        ByteBuf helloBuffer = TcpMessageEncoder.encode(hello);
+        channel.writeAndFlush(helloBuffer);
+
+        replied.get(5, TimeUnit.SECONDS);
+        channel.close().sync();
+
+        connections.increment();
+    }
+
+    private static long processCpuTime() {
+        return ((com.sun.management.OperatingSystemMXBean)
+                ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+    }
+
+}
@@ -0,0 +1,232 @@
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.NotificationMessage;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.binary.BrowseResponseBinaryCodec;
+import com.digitalpetri.opcua.stack.core.types.structured.binary.PublishResponseBinaryCodec;
+import com.digitalpetri.opcua.stack.core.types.structured.binary.ReadRequestBinaryCodec;
+import com.digitalpetri.opcua.stack.core.types.structured.binary.ReadResponseBinaryCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Encodes and decodes common service messages with the generic structure {@code encode}/{@code decode} methods and
+ * with the generated binary codecs.
+ * <p>
+ * Run with {@code -prof gc} to compare {@code gc.alloc.rate.norm} as well as time per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryCodecBenchmark {
+
+    @Param({"ReadRequest", "ReadResponse", "PublishResponse", "BrowseResponse"})
+    private String message;
+
+    @Param({"100"})
+    private int size;
+
+    private ByteBuf buffer;
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+
+    private Runnable genericEncode;
+    private Runnable codecEncode;
+    private Function<BinaryDecoder, Object> genericDecode;
+    private Function<BinaryDecoder, Object> codecDecode;
+
+    @Setup
+    public void setUp() {
+        buffer = Unpooled.directBuffer(size * 128).order(ByteOrder.LITTLE_ENDIAN);
+        encoder = new BinaryEncoder().setBuffer(buffer);
+        decoder = new BinaryDecoder().setBuffer(buffer);
+
+        switch (message) {
+            case "ReadRequest": {
+                ReadRequest request = readRequest(size);
+                bind(request, ReadRequest::encode, ReadRequestBinaryCodec::encode,
+                        ReadRequest::decode, ReadRequestBinaryCodec::decode);
+                break;
+            }
+            case "ReadResponse": {
+                ReadResponse response = readResponse(size);
+                bind(response, ReadResponse::encode, ReadResponseBinaryCodec::encode,
+                        ReadResponse::decode, ReadResponseBinaryCodec::decode);
+                break;
+            }
+            case "PublishResponse": {
+                PublishResponse response = publishResponse(size);
+                bind(response, PublishResponse::encode, PublishResponseBinaryCodec::encode,
+                        PublishResponse::decode, PublishResponseBinaryCodec::decode);
+                break;
+            }
+            case "BrowseResponse": {
+                BrowseResponse response = browseResponse(size);
+                bind(response, BrowseResponse::encode, BrowseResponseBinaryCodec::encode,
+                        BrowseResponse::decode, BrowseResponseBinaryCodec::decode);
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("message: " + message);
+        }
+
+        buffer.clear();
+        codecEncode.run();
+        buffer.markWriterIndex();
+    }
+
+    @TearDown
+    public void tearDown() {
+        buffer.release();
+    }
+
+    @Benchmark
+    public int encodeGeneric() {
+        buffer.clear();
+        genericEncode.run();
+        return buffer.writerIndex();
+    }
+
+    @Benchmark
+    public int encodeCodec() {
+        buffer.clear();
+        codecEncode.run();
+        return buffer.writerIndex();
+    }
+
+    @Benchmark
+    public Object decodeGeneric() {
+        buffer.readerIndex(0).resetWriterIndex();
+        return genericDecode.apply(decoder);
+    }
+
+    @Benchmark
+    public Object decodeCodec() {
+        buffer.readerIndex(0).resetWriterIndex();
+        return codecDecode.apply(decoder);
+    }
+
+    private <T> void bind(T value,
+                          BiConsumer<T, BinaryEncoder> generic,
+                          BiConsumer<T, BinaryEncoder> codec,
+                          Function<BinaryDecoder, T> genericDecoder,
+                          Function<BinaryDecoder, T> codecDecoder) {
+
+        genericEncode = () -> generic.accept(value, encoder);
+        codecEncode = () -> codec.accept(value, encoder);
+        genericDecode = genericDecoder::apply;
+        codecDecode = codecDecoder::apply;
+    }
+
+    private static RequestHeader requestHeader() {
+        return new RequestHeader(NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(0), null);
+    }
+
+    private static ResponseHeader responseHeader() {
+        return new ResponseHeader(DateTime.now(), uint(1), StatusCode.GOOD, null, new String[0], null);
+    }
+
+    private static ReadRequest readRequest(int size) {
+        ReadValueId[] nodesToRead = new ReadValueId[size];
+        for (int i = 0; i < size; i++) {
+            nodesToRead[i] = new ReadValueId(new NodeId(2, "Tag" + i), uint(13), null, QualifiedName.NULL_VALUE);
+        }
+
+        return new ReadRequest(requestHeader(), 0.0, TimestampsToReturn.Both, nodesToRead);
+    }
+
+    private static ReadResponse readResponse(int size) {
+        return new ReadResponse(responseHeader(), dataValues(size), new DiagnosticInfo[0]);
+    }
+
+    private static PublishResponse publishResponse(int size) {
+        DataValue[] values = dataValues(size);
+
+        MonitoredItemNotification[] items = new MonitoredItemNotification[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = new MonitoredItemNotification(uint(i), values[i]);
+        }
+
+        NotificationMessage notificationMessage = new NotificationMessage(
+                uint(1), DateTime.now(),
+                new ExtensionObject[]{ExtensionObject.encode(new DataChangeNotification(items, null))});
+
+        return new PublishResponse(
+                responseHeader(), uint(1), new UInteger[]{uint(1)}, false,
+                notificationMessage, new StatusCode[]{StatusCode.GOOD}, new DiagnosticInfo[0]);
+    }
+
+    private static BrowseResponse browseResponse(int size) {
+        ReferenceDescription[] references = new ReferenceDescription[size];
+        for (int i = 0; i < size; i++) {
+            references[i] = new ReferenceDescription(
+                    new NodeId(0, 35), true, new ExpandedNodeId(new NodeId(2, "Tag" + i)),
+                    new QualifiedName(2, "Tag" + i), LocalizedText.english("Tag" + i),
+                    NodeClass.Variable, new ExpandedNodeId(new NodeId(0, 63)));
+        }
+
+        BrowseResult result = new BrowseResult(StatusCode.GOOD, ByteString.NULL_VALUE, references);
+
+        return new BrowseResponse(responseHeader(), new BrowseResult[]{result}, new DiagnosticInfo[0]);
+    }
+
+    private static DataValue[] dataValues(int size) {
+        DataValue[] values = new DataValue[size];
+
+        DateTime now = DateTime.now();
+        for (int i = 0; i < size; i++) {
+            values[i] = new DataValue(new Variant((double) i), StatusCode.GOOD, now, now);
+        }
+
+        return values;
+    }
+
+}
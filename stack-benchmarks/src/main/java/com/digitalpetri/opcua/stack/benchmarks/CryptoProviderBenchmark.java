@@ -0,0 +1,225 @@
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.Security;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.digitalpetri.opcua.stack.core.security.CryptoProviders;
+import com.digitalpetri.opcua.stack.core.security.SecurityAlgorithm;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.util.CryptoRestrictions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares JCE providers for the sign and encrypt operations of each {@link SecurityPolicy}, with instances obtained
+ * through {@link CryptoProviders} exactly as the channel code obtains them.
+ * <p>
+ * Each operation has its own provider parameter, defaulting to the JVM's default lookup and the standard providers
+ * that implement it. Compare others that are installed with, for example, {@code -p aesProvider=default,SunJCE,BC}.
+ * Symmetric operations run over one full chunk with instances initialized once per token, as a channel does; the
+ * asymmetric operations include getting and initializing the instance, as they do per chunk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CryptoProviderBenchmark {
+
+    private static final String ALIAS = "server-test-certificate";
+    private static final char[] PASSWORD = "test".toCharArray();
+
+    private static final int CHUNK_SIZE = 8192;
+
+    static {
+        CryptoRestrictions.remove();
+    }
+
+    @State(Scope.Thread)
+    public static class Policy {
+
+        @Param({"Basic128Rsa15", "Basic256", "Basic256Sha256"})
+        private SecurityPolicy securityPolicy;
+
+        private KeyPair keyPair;
+        private ByteBuffer chunk;
+
+        @Setup
+        public void setUp() throws Exception {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(getClass().getClassLoader().getResourceAsStream("test-keystore.pfx"), PASSWORD);
+
+            X509Certificate certificate = (X509Certificate) keyStore.getCertificate(ALIAS);
+
+            keyPair = new KeyPair(certificate.getPublicKey(), (PrivateKey) keyStore.getKey(ALIAS, PASSWORD));
+
+            byte[] bs = new byte[CHUNK_SIZE];
+            for (int i = 0; i < bs.length; i++) {
+                bs[i] = (byte) i;
+            }
+            chunk = ByteBuffer.wrap(bs);
+        }
+
+        @TearDown
+        public void tearDown() {
+            CryptoProviders.clear();
+        }
+
+        private void configure(SecurityAlgorithm algorithm, String providerName) {
+            Provider provider = null;
+
+            if (!"default".equals(providerName)) {
+                provider = Security.getProvider(providerName);
+
+                if (provider == null) {
+                    throw new IllegalStateException("provider not installed: " + providerName);
+                }
+            }
+
+            CryptoProviders.setProvider(securityPolicy, algorithm, provider);
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Hmac {
+
+        @Param({"default", "SunJCE"})
+        private String hmacProvider;
+
+        private Mac mac;
+
+        @Setup
+        public void setUp(Policy policy) throws Exception {
+            SecurityAlgorithm algorithm = policy.securityPolicy.getSymmetricSignatureAlgorithm();
+            policy.configure(algorithm, hmacProvider);
+
+            mac = CryptoProviders.getMac(policy.securityPolicy, algorithm);
+            mac.init(new SecretKeySpec(new byte[32], algorithm.getTransformation()));
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Aes {
+
+        @Param({"default", "SunJCE"})
+        private String aesProvider;
+
+        private Cipher cipher;
+        private ByteBuffer output;
+
+        @Setup
+        public void setUp(Policy policy) throws Exception {
+            SecurityAlgorithm algorithm = policy.securityPolicy.getSymmetricEncryptionAlgorithm();
+            policy.configure(algorithm, aesProvider);
+
+            int keyLength = algorithm == SecurityAlgorithm.Aes256 ? 32 : 16;
+
+            cipher = CryptoProviders.getCipher(policy.securityPolicy, algorithm);
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(new byte[keyLength], "AES"), new IvParameterSpec(new byte[16]));
+
+            output = ByteBuffer.allocate(CHUNK_SIZE);
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class RsaSignature {
+
+        @Param({"default", "SunRsaSign"})
+        private String rsaSignatureProvider;
+
+        @Setup
+        public void setUp(Policy policy) {
+            policy.configure(policy.securityPolicy.getAsymmetricSignatureAlgorithm(), rsaSignatureProvider);
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class RsaCipher {
+
+        @Param({"default", "SunJCE"})
+        private String rsaCipherProvider;
+
+        private ByteBuffer plainTextBlock;
+        private ByteBuffer output;
+
+        @Setup
+        public void setUp(Policy policy) {
+            SecurityAlgorithm algorithm = policy.securityPolicy.getAsymmetricEncryptionAlgorithm();
+            policy.configure(algorithm, rsaCipherProvider);
+
+            int paddingOverhead = algorithm == SecurityAlgorithm.RsaOaep ? 42 : 11;
+
+            plainTextBlock = ByteBuffer.allocate(2048 / 8 - paddingOverhead);
+            output = ByteBuffer.allocate(2048 / 8);
+        }
+
+    }
+
+    @Benchmark
+    public byte[] symmetricSign(Policy policy, Hmac hmac) {
+        policy.chunk.clear();
+        hmac.mac.update(policy.chunk);
+
+        return hmac.mac.doFinal();
+    }
+
+    @Benchmark
+    public int symmetricEncrypt(Policy policy, Aes aes) throws Exception {
+        policy.chunk.clear();
+        aes.output.clear();
+
+        return aes.cipher.doFinal(policy.chunk, aes.output);
+    }
+
+    @Benchmark
+    public byte[] asymmetricSign(Policy policy, RsaSignature rsaSignature) throws Exception {
+        Signature signature = CryptoProviders.getSignature(
+                policy.securityPolicy, policy.securityPolicy.getAsymmetricSignatureAlgorithm());
+
+        signature.initSign(policy.keyPair.getPrivate());
+
+        policy.chunk.clear();
+        signature.update(policy.chunk);
+
+        return signature.sign();
+    }
+
+    @Benchmark
+    public int asymmetricEncrypt(Policy policy, RsaCipher rsaCipher) throws Exception {
+        Cipher cipher = CryptoProviders.getCipher(
+                policy.securityPolicy, policy.securityPolicy.getAsymmetricEncryptionAlgorithm());
+
+        cipher.init(Cipher.ENCRYPT_MODE, policy.keyPair.getPublic());
+
+        rsaCipher.plainTextBlock.clear();
+        rsaCipher.output.clear();
+
+        return cipher.doFinal(rsaCipher.plainTextBlock, rsaCipher.output);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes an array of {@link DataValue}s into a reused buffer.
+ * <p>
+ * Run with {@code -prof gc}; {@code gc.alloc.rate.norm} should stay flat regardless of {@code size}, i.e. encoding
+ * does not box any of the numeric fields it writes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataValueEncodingBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    private DataValue[] values;
+    private ByteBuf buffer;
+    private BinaryEncoder encoder;
+    private BiConsumer<String, DataValue> dataValueEncoder;
+
+    @Setup
+    public void setUp() {
+        values = new DataValue[size];
+
+        DateTime now = DateTime.now();
+        for (int i = 0; i < size; i++) {
+            StatusCode status = (i % 2 == 0) ? StatusCode.GOOD : new StatusCode(0x80000000L);
+
+            values[i] = new DataValue(new Variant((double) i), status, now, now);
+        }
+
+        buffer = Unpooled.directBuffer(size * 32).order(ByteOrder.LITTLE_ENDIAN);
+        encoder = new BinaryEncoder().setBuffer(buffer);
+        dataValueEncoder = encoder::encodeDataValue;
+    }
+
+    @TearDown
+    public void tearDown() {
+        buffer.release();
+    }
+
+    @Benchmark
+    public int encodeDataValueArray() {
+        buffer.clear();
+
+        encoder.encodeArray(null, values, dataValueEncoder);
+
+        return buffer.writerIndex();
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.DecoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.WriteRequest;
+import com.google.common.collect.Maps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares resolving decoders through {@link DelegateRegistry} against the {@code ConcurrentMap} lookups it used to
+ * perform, for a mix of encoding ids and classes seen on a typical read/publish workload.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DelegateLookupBenchmark {
+
+    private static final Class<?>[] CLASSES = {
+            ReadRequest.class, ReadResponse.class, ReadValueId.class, WriteRequest.class,
+            PublishRequest.class, PublishResponse.class, DataChangeNotification.class, MonitoredItemNotification.class
+    };
+
+    private NodeId[] ids;
+    private Class<?>[] classes;
+
+    private final Map<NodeId, DecoderDelegate<?>> decodersById = Maps.newConcurrentMap();
+    private final Map<Class<?>, DecoderDelegate<?>> decodersByClass = Maps.newConcurrentMap();
+
+    @Setup
+    public void setUp() throws Exception {
+        ids = new NodeId[CLASSES.length];
+        classes = CLASSES.clone();
+
+        for (int i = 0; i < CLASSES.length; i++) {
+            ids[i] = (NodeId) CLASSES[i].getField("BinaryEncodingId").get(null);
+
+            decodersById.put(ids[i], DelegateRegistry.getDecoder(ids[i]));
+            decodersByClass.put(CLASSES[i], DelegateRegistry.getDecoder(CLASSES[i]));
+        }
+    }
+
+    @Benchmark
+    public void mapById(Blackhole bh) {
+        for (NodeId id : ids) bh.consume(decodersById.get(id));
+    }
+
+    @Benchmark
+    public void registryById(Blackhole bh) {
+        for (NodeId id : ids) bh.consume(DelegateRegistry.getDecoder(id));
+    }
+
+    @Benchmark
+    public void mapByClass(Blackhole bh) {
+        for (Class<?> clazz : classes) bh.consume(decodersByClass.get(clazz));
+    }
+
+    @Benchmark
+    public void registryByClass(Blackhole bh) {
+        for (Class<?> clazz : classes) bh.consume(DelegateRegistry.getDecoder(clazz));
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.digitalpetri.opcua.stack.core.util.ExecutionQueue;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Producer threads submit small tasks to one shared queue, the way the channel handlers submit encodes and decodes to
+ * a {@link com.digitalpetri.opcua.stack.core.channel.SerializationQueue}, and wait until the last of their tasks has
+ * run.
+ * <p>
+ * Throughput is operations per microsecond summed over all producers; the sampled time of an operation is its latency
+ * from the first submit until its last task has run. Compare {@code queue=batched} ({@link ExecutionQueue}) against
+ * {@code queue=legacy} ({@link LegacyExecutionQueue}) at 1, 8, and 64 producers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutionQueueBenchmark {
+
+    private static final int TASKS_PER_OPERATION = 8;
+    private static final long TASK_TOKENS = 50;
+
+    private static final Runnable TASK = () -> Blackhole.consumeCPU(TASK_TOKENS);
+
+    @Param({"batched", "legacy"})
+    private String queue;
+
+    private ExecutorService executor;
+    private Consumer<Runnable> submit;
+
+    @Setup
+    public void setUp() {
+        executor = Executors.newCachedThreadPool(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("benchmark-pool-%d").build());
+
+        if ("batched".equals(queue)) {
+            ExecutionQueue executionQueue = new ExecutionQueue(executor);
+            submit = executionQueue::submit;
+        } else {
+            LegacyExecutionQueue executionQueue = new LegacyExecutionQueue(executor);
+            submit = executionQueue::submit;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void producers1() throws InterruptedException {
+        submitAndAwait();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void producers8() throws InterruptedException {
+        submitAndAwait();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void producers64() throws InterruptedException {
+        submitAndAwait();
+    }
+
+    private void submitAndAwait() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+
+        for (int i = 0; i < TASKS_PER_OPERATION - 1; i++) {
+            submit.accept(TASK);
+        }
+
+        submit.accept(() -> {
+            Blackhole.consumeCPU(TASK_TOKENS);
+            done.countDown();
+        });
+
+        done.await();
+    }
+
+}
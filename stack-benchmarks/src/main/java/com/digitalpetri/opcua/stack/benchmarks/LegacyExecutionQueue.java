@@ -0,0 +1,111 @@
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.LinkedList;
+import java.util.concurrent.ExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link com.digitalpetri.opcua.stack.core.util.ExecutionQueue} as it was before it drained in batches: a
+ * {@link LinkedList} guarded by a lock, and one executor hand-off per {@link Runnable}. Kept for
+ * {@link ExecutionQueueBenchmark} to compare against.
+ */
+public class LegacyExecutionQueue {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final Object queueLock = new Object();
+    private final LinkedList<Runnable> queue = new LinkedList<>();
+
+    private volatile boolean pollSubmitted = false;
+    private volatile boolean paused = false;
+
+    private final ExecutorService service;
+
+    public LegacyExecutionQueue(ExecutorService service) {
+        this.service = service;
+    }
+
+    /**
+     * Submit a {@link Runnable} to be executed.
+     *
+     * @param runnable the {@link Runnable} to be executed.
+     */
+    public void submit(Runnable runnable) {
+        synchronized (queueLock) {
+            queue.add(runnable);
+
+            maybeSubmitPoll();
+        }
+    }
+
+    /**
+     * Submit a {@link Runnable} to be executed at the head of the queue.
+     *
+     * @param runnable the {@link Runnable} to be executed.
+     */
+    public void submitToHead(Runnable runnable) {
+        synchronized (queueLock) {
+            queue.addFirst(runnable);
+
+            maybeSubmitPoll();
+        }
+    }
+
+    /**
+     * Pause execution of queued {@link java.lang.Runnable}s.
+     */
+    public void pause() {
+        synchronized (queueLock) {
+            paused = true;
+        }
+    }
+
+    /**
+     * Resume execution of queued {@link java.lang.Runnable}s.
+     */
+    public void resume() {
+        synchronized (queueLock) {
+            paused = false;
+
+            maybeSubmitPoll();
+        }
+    }
+
+    private void maybeSubmitPoll() {
+        synchronized (queueLock) {
+            if (!pollSubmitted && !paused && !queue.isEmpty()) {
+                service.submit(new PollAndExecute());
+                pollSubmitted = true;
+            }
+        }
+    }
+
+    private class PollAndExecute implements Runnable {
+        @Override
+        public void run() {
+            Runnable runnable;
+
+            synchronized (queueLock) {
+                runnable = queue.poll();
+            }
+
+            try {
+                runnable.run();
+            } catch (Throwable throwable) {
+                log.warn("Uncaught Throwable during execution.", throwable);
+            }
+
+            synchronized (queueLock) {
+                if (queue.isEmpty() || paused) {
+                    pollSubmitted = false;
+                } else {
+                    // polling remains true
+                    service.submit(new PollAndExecute());
+                }
+            }
+        }
+    }
+
+}
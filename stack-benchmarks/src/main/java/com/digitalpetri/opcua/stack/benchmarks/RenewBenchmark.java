@@ -0,0 +1,109 @@
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.channel.ChannelSecurity;
+import com.digitalpetri.opcua.stack.core.channel.ServerSecureChannel;
+import com.digitalpetri.opcua.stack.core.security.SecurityAlgorithm;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.util.NonceUtil;
+import com.digitalpetri.opcua.stack.core.util.PShaUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The symmetric part of a secure channel renewal: drawing the client and server nonces and deriving both sides' keys.
+ * <p>
+ * Sampled, so the report includes p99 and max latency alongside the mean. {@code noncePool=false} draws every nonce
+ * from the {@link java.security.SecureRandom} on the calling thread. {@code perKeyDerivation} derives the six keys
+ * one at a time, the way {@link ChannelSecurity#generateKeyPair} did before it used a single pass per secret.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenewBenchmark {
+
+    @Param({"Basic128Rsa15", "Basic256Sha256"})
+    private SecurityPolicy securityPolicy;
+
+    @Param({"true", "false"})
+    private boolean noncePool;
+
+    private ServerSecureChannel channel;
+    private int nonceLength;
+
+    @Setup
+    public void setUp() {
+        channel = new ServerSecureChannel();
+        channel.setSecurityPolicy(securityPolicy);
+        channel.setMessageSecurityMode(MessageSecurityMode.SignAndEncrypt);
+
+        nonceLength = NonceUtil.getNonceLength(securityPolicy.getSymmetricEncryptionAlgorithm());
+
+        if (noncePool) {
+            NonceUtil.enableNoncePool();
+        } else {
+            NonceUtil.disableNoncePool();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        NonceUtil.enableNoncePool();
+    }
+
+    @Benchmark
+    public ChannelSecurity.SecuritySecrets renew() {
+        ByteString clientNonce = NonceUtil.generateNonce(nonceLength);
+        ByteString serverNonce = NonceUtil.generateNonce(nonceLength);
+
+        return ChannelSecurity.generateKeyPair(channel, clientNonce, serverNonce);
+    }
+
+    @Benchmark
+    public byte[][] perKeyDerivation() {
+        ByteString clientNonce = NonceUtil.generateNonce(nonceLength);
+        ByteString serverNonce = NonceUtil.generateNonce(nonceLength);
+
+        int signatureKeySize = channel.getSymmetricSignatureKeySize();
+        int encryptionKeySize = channel.getSymmetricEncryptionKeySize();
+        int cipherTextBlockSize = channel.getSymmetricCipherTextBlockSize();
+
+        boolean sha1 = securityPolicy.getKeyDerivationAlgorithm() == SecurityAlgorithm.PSha1;
+
+        byte[][] keys = new byte[6][];
+        int i = 0;
+
+        for (ByteString[] secretAndSeed : new ByteString[][]{{serverNonce, clientNonce}, {clientNonce, serverNonce}}) {
+            byte[] secret = secretAndSeed[0].bytes();
+            byte[] seed = secretAndSeed[1].bytes();
+
+            int[] offsets = {0, signatureKeySize, signatureKeySize + encryptionKeySize};
+            int[] lengths = {signatureKeySize, encryptionKeySize, cipherTextBlockSize};
+
+            for (int k = 0; k < 3; k++) {
+                keys[i++] = sha1 ?
+                        PShaUtil.createPSha1Key(secret, seed, offsets[k], lengths[k]) :
+                        PShaUtil.createPSha256Key(secret, seed, offsets[k], lengths[k]);
+            }
+        }
+
+        return keys;
+    }
+
+}
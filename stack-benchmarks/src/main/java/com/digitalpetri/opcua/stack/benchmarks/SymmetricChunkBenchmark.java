@@ -0,0 +1,220 @@
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
+import com.digitalpetri.opcua.stack.core.channel.ChannelParameters;
+import com.digitalpetri.opcua.stack.core.channel.ChannelSecurity;
+import com.digitalpetri.opcua.stack.core.channel.ChunkDecoder;
+import com.digitalpetri.opcua.stack.core.channel.ChunkEncoder;
+import com.digitalpetri.opcua.stack.core.channel.ClientSecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.ServerSecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.messages.MessageType;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.types.structured.ChannelSecurityToken;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import com.digitalpetri.opcua.stack.core.util.CryptoRestrictions;
+import com.digitalpetri.opcua.stack.core.util.NonceUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Encodes and decodes a symmetric message on a client/server channel pair for each {@link SecurityPolicy}; secured
+ * policies use {@link MessageSecurityMode#SignAndEncrypt}.
+ * <p>
+ * The largest message size spans several chunks; compare {@code parallelChunkThreshold} 0 (serial) against 2 (chunks
+ * secured on {@link com.digitalpetri.opcua.stack.core.Stack#sharedForkJoinPool()}) for it.
+ * <p>
+ * Run with {@code -prof gc}; the per-chunk cost should be dominated by the cipher and MAC work rather than by
+ * provider lookup and key setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SymmetricChunkBenchmark {
+
+    private static final String CLIENT_ALIAS = "client-test-certificate";
+    private static final String SERVER_ALIAS = "server-test-certificate";
+    private static final char[] PASSWORD = "test".toCharArray();
+
+    static {
+        CryptoRestrictions.remove();
+    }
+
+    @Param({"None", "Basic128Rsa15", "Basic256", "Basic256Sha256"})
+    private SecurityPolicy securityPolicy;
+
+    @Param({"1024", "8192", "262144"})
+    private int messageSize;
+
+    @Param({"0", "2"})
+    private int parallelChunkThreshold;
+
+    private ClientSecureChannel clientChannel;
+    private ServerSecureChannel serverChannel;
+
+    private ChunkEncoder chunkEncoder;
+    private ChannelParameters parameters;
+
+    private ByteBuf messageBuffer;
+    private ByteBuf encodedChunks;
+    private int[] chunkSizes;
+
+    @Setup
+    public void setUp() throws Exception {
+        parameters = new ChannelParameters(
+                ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_COUNT,
+                ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_COUNT
+        );
+
+        createChannels();
+
+        chunkEncoder = new ChunkEncoder(parameters, parallelChunkThreshold);
+
+        messageBuffer = BufferUtil.buffer(messageSize);
+        for (int i = 0; i < messageSize; i++) {
+            messageBuffer.writeByte(i);
+        }
+
+        List<ByteBuf> chunks = chunkEncoder.encodeSymmetric(clientChannel, MessageType.SecureMessage, messageBuffer);
+
+        encodedChunks = BufferUtil.buffer();
+        chunkSizes = new int[chunks.size()];
+
+        for (int i = 0; i < chunks.size(); i++) {
+            ByteBuf chunk = chunks.get(i);
+            chunkSizes[i] = chunk.readableBytes();
+            encodedChunks.writeBytes(chunk);
+            chunk.release();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        messageBuffer.release();
+        encodedChunks.release();
+    }
+
+    @Benchmark
+    public int encodeChunk() throws Exception {
+        messageBuffer.readerIndex(0);
+
+        List<ByteBuf> chunks = chunkEncoder.encodeSymmetric(clientChannel, MessageType.SecureMessage, messageBuffer);
+
+        int size = 0;
+        for (ByteBuf chunk : chunks) {
+            size += chunk.readableBytes();
+            chunk.release();
+        }
+
+        return size;
+    }
+
+    @Benchmark
+    public int decodeChunk() throws Exception {
+        // Received chunks are slices of one cumulation buffer, and are decrypted in place.
+        ByteBuf cumulation = BufferUtil.buffer(encodedChunks.readableBytes())
+                .writeBytes(encodedChunks, encodedChunks.readerIndex(), encodedChunks.readableBytes());
+
+        List<ByteBuf> chunks = new ArrayList<>(chunkSizes.length);
+        for (int chunkSize : chunkSizes) {
+            chunks.add(cumulation.readSlice(chunkSize));
+        }
+
+        // A new decoder each time, so the repeated sequence numbers are accepted.
+        ChunkDecoder chunkDecoder = new ChunkDecoder(parameters, parallelChunkThreshold);
+
+        ByteBuf decoded = chunkDecoder.decodeSymmetric(serverChannel, MessageType.SecureMessage, chunks);
+
+        int size = decoded.readableBytes();
+        cumulation.release();
+
+        return size;
+    }
+
+    private void createChannels() throws Exception {
+        MessageSecurityMode messageSecurityMode = securityPolicy == SecurityPolicy.None ?
+                MessageSecurityMode.None : MessageSecurityMode.SignAndEncrypt;
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(getClass().getClassLoader().getResourceAsStream("test-keystore.pfx"), PASSWORD);
+
+        X509Certificate clientCertificate = (X509Certificate) keyStore.getCertificate(CLIENT_ALIAS);
+        X509Certificate serverCertificate = (X509Certificate) keyStore.getCertificate(SERVER_ALIAS);
+
+        KeyPair clientKeyPair = new KeyPair(
+                clientCertificate.getPublicKey(), (PrivateKey) keyStore.getKey(CLIENT_ALIAS, PASSWORD));
+        KeyPair serverKeyPair = new KeyPair(
+                serverCertificate.getPublicKey(), (PrivateKey) keyStore.getKey(SERVER_ALIAS, PASSWORD));
+
+        int nonceLength = NonceUtil.getNonceLength(securityPolicy.getSymmetricEncryptionAlgorithm());
+        ByteString clientNonce = NonceUtil.generateNonce(nonceLength);
+        ByteString serverNonce = NonceUtil.generateNonce(nonceLength);
+
+        boolean secured = securityPolicy != SecurityPolicy.None;
+
+        clientChannel = new ClientSecureChannel(
+                secured ? clientKeyPair : null,
+                secured ? clientCertificate : null,
+                secured ? serverCertificate : null,
+                secured ? Collections.singletonList(serverCertificate) : null,
+                securityPolicy,
+                messageSecurityMode
+        );
+        clientChannel.setLocalNonce(clientNonce);
+        clientChannel.setRemoteNonce(serverNonce);
+
+        serverChannel = new ServerSecureChannel();
+        serverChannel.setSecurityPolicy(securityPolicy);
+        serverChannel.setMessageSecurityMode(messageSecurityMode);
+        serverChannel.setLocalNonce(serverNonce);
+        serverChannel.setRemoteNonce(clientNonce);
+
+        if (secured) {
+            serverChannel.setKeyPair(serverKeyPair);
+            serverChannel.setLocalCertificate(serverCertificate);
+            serverChannel.setRemoteCertificate(clientCertificate.getEncoded());
+
+            ChannelSecurityToken token = new ChannelSecurityToken(uint(1), uint(1), DateTime.now(), uint(60000));
+
+            clientChannel.setChannelSecurity(new ChannelSecurity(
+                    ChannelSecurity.generateKeyPair(clientChannel, clientNonce, serverNonce), token));
+
+            serverChannel.setChannelSecurity(new ChannelSecurity(
+                    ChannelSecurity.generateKeyPair(serverChannel, clientNonce, serverNonce), token));
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes and decodes a Variant holding a Double array, boxed and primitive.
+ * <p>
+ * Run with {@code -prof gc}; {@code decodePrimitive} should allocate little more than the {@code double[]} itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariantArrayBenchmark {
+
+    @Param({"65536"})
+    private int size;
+
+    private Variant boxed;
+    private Variant primitive;
+
+    private ByteBuf buffer;
+    private ByteBuf encoded;
+    private BinaryEncoder encoder;
+    private BinaryDecoder boxedDecoder;
+    private BinaryDecoder primitiveDecoder;
+
+    @Setup
+    public void setUp() {
+        Double[] boxedValues = new Double[size];
+        double[] primitiveValues = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            boxedValues[i] = (double) i;
+            primitiveValues[i] = i;
+        }
+
+        boxed = new Variant(boxedValues);
+        primitive = new Variant(primitiveValues);
+
+        buffer = Unpooled.directBuffer(size * 8 + 16).order(ByteOrder.LITTLE_ENDIAN);
+        encoder = new BinaryEncoder().setBuffer(buffer);
+
+        encoded = Unpooled.directBuffer(size * 8 + 16).order(ByteOrder.LITTLE_ENDIAN);
+        new BinaryEncoder().setBuffer(encoded).encodeVariant(null, primitive);
+
+        boxedDecoder = new BinaryDecoder().setBuffer(encoded);
+        primitiveDecoder = new BinaryDecoder().setBuffer(encoded).setPrimitiveArrays(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        buffer.release();
+        encoded.release();
+    }
+
+    @Benchmark
+    public int encodeBoxed() {
+        buffer.clear();
+        encoder.encodeVariant(null, boxed);
+        return buffer.writerIndex();
+    }
+
+    @Benchmark
+    public int encodePrimitive() {
+        buffer.clear();
+        encoder.encodeVariant(null, primitive);
+        return buffer.writerIndex();
+    }
+
+    @Benchmark
+    public Variant decodeBoxed() {
+        encoded.readerIndex(0);
+        return boxedDecoder.decodeVariant(null);
+    }
+
+    @Benchmark
+    public Variant decodePrimitive() {
+        encoded.readerIndex(0);
+        return primitiveDecoder.decodeVariant(null);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.digitalpetri.opcua.stack.client;
 
+import javax.annotation.Nullable;
 import java.net.URI;
 import java.security.KeyPair;
 import java.security.cert.X509Certificate;
@@ -15,6 +16,7 @@ import com.digitalpetri.opcua.stack.client.config.UaTcpStackClientConfig;
 import com.digitalpetri.opcua.stack.client.handlers.UaTcpClientAcknowledgeHandler;
 import com.digitalpetri.opcua.stack.core.Stack;
 import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.TransportConfig;
 import com.digitalpetri.opcua.stack.core.UaException;
 import com.digitalpetri.opcua.stack.core.UaServiceFaultException;
 import com.digitalpetri.opcua.stack.core.application.UaStackClient;
@@ -23,6 +25,8 @@ import com.digitalpetri.opcua.stack.core.channel.ClientSecureChannel;
 import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.ArrayConsumers;
+import com.digitalpetri.opcua.stack.core.serialization.binary.InterningCache;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.digitalpetri.opcua.stack.core.types.enumerated.ApplicationType;
@@ -37,6 +41,7 @@ import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
 import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
 import com.digitalpetri.opcua.stack.core.types.structured.ServiceFault;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
@@ -45,7 +50,6 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timeout;
 import org.slf4j.Logger;
@@ -63,17 +67,30 @@ public class UaTcpStackClient implements UaStackClient {
     private final Map<UInteger, Timeout> timeouts = Maps.newConcurrentMap();
     private final HashedWheelTimer wheelTimer = Stack.sharedWheelTimer();
 
+    private final Map<UInteger, ArrayConsumers> arrayConsumers = Maps.newConcurrentMap();
+
+    /**
+     * Releases the ByteStrings sliced from the message buffer of each delivered response, until the caller releases the
+     * response with {@link #releaseResponse(UaResponseMessage)}. Weak keys are compared by identity.
+     */
+    private final Map<UaResponseMessage, Runnable> slicedResponses = new MapMaker().weakKeys().makeMap();
+
     private volatile ClientSecureChannel secureChannel;
 
     private final ApplicationDescription application;
 
     private final ChannelManager channelManager;
 
+    private final InterningCache interningCache;
+
     private final UaTcpStackClientConfig config;
 
     public UaTcpStackClient(UaTcpStackClientConfig config) {
         this.config = config;
 
+        int interningCacheSize = config.getChannelConfig().getInterningCacheSize();
+        interningCache = interningCacheSize > 0 ? new InterningCache(interningCacheSize) : null;
+
         application = new ApplicationDescription(
                 config.getApplicationUri(),
                 config.getProductUri(),
@@ -106,6 +123,25 @@ public class UaTcpStackClient implements UaStackClient {
         return CompletableFuture.completedFuture(this);
     }
 
+    /**
+     * Send a request whose response has array fields streamed to {@code arrayConsumers} as it is decoded, e.g.
+     * ReadResponse "Results" or HistoryData "DataValues", instead of being collected into the response.
+     *
+     * @param request        the request to send.
+     * @param arrayConsumers the {@link ArrayConsumers} used when decoding the response to this request only.
+     * @return a future completed with the response once it has been decoded and every element has been streamed.
+     */
+    public <T extends UaResponseMessage> CompletableFuture<T> sendRequest(UaRequestMessage request,
+                                                                        ArrayConsumers arrayConsumers) {
+
+        UInteger requestHandle = request.getRequestHeader().getRequestHandle();
+
+        this.arrayConsumers.put(requestHandle, arrayConsumers);
+
+        return this.<T>sendRequest(request)
+                .whenComplete((r, ex) -> this.arrayConsumers.remove(requestHandle));
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends UaResponseMessage> CompletableFuture<T> sendRequest(UaRequestMessage request) {
         return channelManager.getChannel().thenCompose(ch -> {
@@ -203,14 +239,37 @@ public class UaTcpStackClient implements UaStackClient {
     }
 
     public void receiveResponse(UaResponseMessage response) {
+        receiveResponse(response, () -> {});
+    }
+
+    /**
+     * Complete the future of the request {@code response} answers.
+     * <p>
+     * If the response is delivered, the caller of {@link #sendRequest(UaRequestMessage)} owns any ByteStrings sliced
+     * from its message buffer and must give them up with {@link #releaseResponse(UaResponseMessage)}. Otherwise
+     * {@code dispose} is run here.
+     *
+     * @param response the decoded response.
+     * @param dispose  releases the ByteStrings sliced from the message buffer of {@code response}.
+     */
+    public void receiveResponse(UaResponseMessage response, Runnable dispose) {
         ResponseHeader header = response.getResponseHeader();
         UInteger requestHandle = header.getRequestHandle();
 
         CompletableFuture<UaResponseMessage> future = pending.remove(requestHandle);
 
+        boolean delivered = false;
+
         if (future != null) {
             if (header.getServiceResult().isGood()) {
-                future.complete(response);
+                if (getChannelConfig().getByteStringSliceThreshold() > 0) {
+                    // Registered first, so dependents completing synchronously can release the response.
+                    slicedResponses.put(response, dispose);
+                }
+
+                delivered = future.complete(response);
+
+                if (!delivered) slicedResponses.remove(response);
             } else {
                 ServiceFault serviceFault;
 
@@ -229,6 +288,21 @@ public class UaTcpStackClient implements UaStackClient {
             logger.debug("Received {} for unknown requestHandle: {}",
                     response.getClass().getSimpleName(), requestHandle);
         }
+
+        if (!delivered) dispose.run();
+    }
+
+    /**
+     * Release the ByteStrings sliced from the message buffer of a delivered response. Only needed when
+     * {@link ChannelConfig#getByteStringSliceThreshold()} is enabled; values kept beyond this call must be
+     * {@link com.digitalpetri.opcua.stack.core.types.builtin.ByteString#retain() retained} or copied first. Does
+     * nothing if the response has no slices or was already released.
+     *
+     * @param response a response delivered by this client.
+     */
+    public void releaseResponse(UaResponseMessage response) {
+        Runnable dispose = slicedResponses.remove(response);
+        if (dispose != null) dispose.run();
     }
 
     @Override
@@ -278,6 +352,33 @@ public class UaTcpStackClient implements UaStackClient {
         return config.getExecutor();
     }
 
+    /**
+     * The cache is shared by every secure channel this client opens, so its hit and miss counts cover all of them.
+     *
+     * @return the {@link InterningCache} responses are decoded with, if interning is enabled.
+     * @see ChannelConfig#getInterningCacheSize()
+     */
+    public Optional<InterningCache> getInterningCache() {
+        return Optional.ofNullable(interningCache);
+    }
+
+    /**
+     * @return {@code true} if any request sent with {@link #sendRequest(UaRequestMessage, ArrayConsumers)} is still
+     * awaiting its response.
+     */
+    public boolean hasArrayConsumers() {
+        return !arrayConsumers.isEmpty();
+    }
+
+    /**
+     * @param requestHandle the request handle of a response being decoded.
+     * @return the {@link ArrayConsumers} the request was sent with, or {@code null} if it was sent without any.
+     */
+    @Nullable
+    public ArrayConsumers getArrayConsumers(UInteger requestHandle) {
+        return arrayConsumers.get(requestHandle);
+    }
+
     public void setSecureChannel(ClientSecureChannel secureChannel) {
         this.secureChannel = secureChannel;
     }
@@ -287,13 +388,17 @@ public class UaTcpStackClient implements UaStackClient {
 
         Bootstrap bootstrap = new Bootstrap();
 
+        TransportConfig transportConfig = Stack.getTransportConfig();
+
         bootstrap.group(Stack.sharedEventLoop())
-                .channel(NioSocketChannel.class)
+                .channel(transportConfig.getTransport().getSocketChannelClass())
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .option(ChannelOption.TCP_NODELAY, true)
                 .handler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel channel) throws Exception {
+                        transportConfig.configure(channel.config());
+
                         channel.pipeline().addLast(new UaTcpClientAcknowledgeHandler(client, handshake));
                     }
                 });
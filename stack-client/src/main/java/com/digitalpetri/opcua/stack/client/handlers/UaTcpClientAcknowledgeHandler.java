@@ -142,12 +142,9 @@ public class UaTcpClientAcknowledgeHandler extends ByteToMessageCodec<UaMessage>
         ctx.channel().attr(KEY_AWAITING_HANDSHAKE).set(awaitingHandshake);
 
         ctx.executor().execute(() -> {
-            int maxArrayLength = client.getChannelConfig().getMaxArrayLength();
-            int maxStringLength = client.getChannelConfig().getMaxStringLength();
-
             UaTcpClientAsymmetricHandler handler = new UaTcpClientAsymmetricHandler(
                     client,
-                    new SerializationQueue(parameters, maxArrayLength, maxStringLength),
+                    new SerializationQueue(parameters, config, client.getInterningCache().orElse(null)),
                     handshakeFuture);
 
             ctx.pipeline().addLast(handler);
@@ -3,6 +3,7 @@ package com.digitalpetri.opcua.stack.client.handlers;
 import java.nio.ByteOrder;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.IntUnaryOperator;
 
 import com.digitalpetri.opcua.stack.client.UaTcpStackClient;
 import com.digitalpetri.opcua.stack.core.StatusCodes;
@@ -15,9 +16,13 @@ import com.digitalpetri.opcua.stack.core.channel.headers.SymmetricSecurityHeader
 import com.digitalpetri.opcua.stack.core.channel.messages.ErrorMessage;
 import com.digitalpetri.opcua.stack.core.channel.messages.MessageType;
 import com.digitalpetri.opcua.stack.core.channel.messages.TcpMessageDecoder;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
 import com.digitalpetri.opcua.stack.core.serialization.UaMessage;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.ArrayConsumers;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
 import com.digitalpetri.opcua.stack.core.util.BufferUtil;
 import com.google.common.collect.Lists;
 import io.netty.buffer.ByteBuf;
@@ -32,11 +37,13 @@ public class UaTcpClientSymmetricHandler extends ByteToMessageCodec<UaRequestMes
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private List<ByteBuf> chunkBuffers;
+    private int chunkCount;
 
     private final ClientSecureChannel secureChannel;
 
     private final int maxChunkCount;
     private final int maxChunkSize;
+    private final boolean decodeIncrementally;
 
     private final UaTcpStackClient client;
     private final SerializationQueue serializationQueue;
@@ -54,6 +61,9 @@ public class UaTcpClientSymmetricHandler extends ByteToMessageCodec<UaRequestMes
         maxChunkCount = serializationQueue.getParameters().getLocalMaxChunkCount();
         maxChunkSize = serializationQueue.getParameters().getLocalReceiveBufferSize();
 
+        // Parallel chunk security needs every chunk of a message at once.
+        decodeIncrementally = serializationQueue.getParallelChunkThreshold() == 0;
+
         chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
     }
 
@@ -75,8 +85,11 @@ public class UaTcpClientSymmetricHandler extends ByteToMessageCodec<UaRequestMes
 
     @Override
     protected void encode(ChannelHandlerContext ctx, UaRequestMessage message, ByteBuf out) throws Exception {
-        serializationQueue.encode((binaryEncoder, chunkEncoder) -> {
-            ByteBuf messageBuffer = BufferUtil.buffer();
+        SecurityPolicy securityPolicy = secureChannel.getSecurityPolicy();
+        IntUnaryOperator messageSize = limit -> BinarySizeEncoder.encodedSize(message, limit);
+
+        serializationQueue.encode(securityPolicy, messageSize, (binaryEncoder, chunkEncoder, size) -> {
+            ByteBuf messageBuffer = BufferUtil.buffer(serializationQueue.messageBufferCapacity(size, messageSize));
 
             try {
                 binaryEncoder.setBuffer(messageBuffer);
@@ -131,76 +144,146 @@ public class UaTcpClientSymmetricHandler extends ByteToMessageCodec<UaRequestMes
 
         char chunkType = (char) buffer.readByte();
 
-        if (chunkType == 'A') {
-            chunkBuffers.forEach(ByteBuf::release);
-            chunkBuffers.clear();
-        } else {
-            buffer.skipBytes(4);
+        // Abort chunks go through the same header and size checks as the chunks they abort.
+        buffer.skipBytes(4);
+
+        long secureChannelId = buffer.readUnsignedInt();
+        if (secureChannelId != secureChannel.getChannelId()) {
+            throw new UaException(StatusCodes.Bad_SecureChannelIdInvalid,
+                    "invalid secure channel id: " + secureChannelId);
+        }
+
+        SymmetricSecurityHeader securityHeader = SymmetricSecurityHeader.decode(buffer);
+
+        ChannelSecurity channelSecurity = secureChannel.getChannelSecurity();
+        long currentTokenId = channelSecurity.getCurrentToken().getTokenId().longValue();
+
+        if (securityHeader.getTokenId() != currentTokenId) {
+            long previousTokenId = channelSecurity.getPreviousToken()
+                    .map(t -> t.getTokenId().longValue())
+                    .orElse(-1L);
 
-            long secureChannelId = buffer.readUnsignedInt();
-            if (secureChannelId != secureChannel.getChannelId()) {
-                throw new UaException(StatusCodes.Bad_SecureChannelIdInvalid,
-                        "invalid secure channel id: " + secureChannelId);
+            if (securityHeader.getTokenId() != previousTokenId) {
+                throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown,
+                        "unknown secure channel token: " + securityHeader.getTokenId());
             }
+        }
+
+        int chunkSize = buffer.readerIndex(0).readableBytes();
+
+        if (chunkSize > maxChunkSize) {
+            throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                    String.format("max chunk size exceeded (%s)", maxChunkSize));
+        }
 
-            SymmetricSecurityHeader securityHeader = SymmetricSecurityHeader.decode(buffer);
+        if (++chunkCount > maxChunkCount) {
+            throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                    String.format("max chunk count exceeded (%s)", maxChunkCount));
+        }
 
-            ChannelSecurity channelSecurity = secureChannel.getChannelSecurity();
-            long currentTokenId = channelSecurity.getCurrentToken().getTokenId().longValue();
+        if (chunkType == 'A') {
+            List<ByteBuf> abortedBuffers = chunkBuffers;
+            chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
+            chunkCount = 0;
 
-            if (securityHeader.getTokenId() != currentTokenId) {
-                long previousTokenId = channelSecurity.getPreviousToken()
-                        .map(t -> t.getTokenId().longValue())
-                        .orElse(-1L);
+            abortedBuffers.add(buffer.readerIndex(0).retain());
 
-                if (securityHeader.getTokenId() != previousTokenId) {
-                    throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown,
-                            "unknown secure channel token: " + securityHeader.getTokenId());
+            // The aborted chunks are still decoded so the sequence numbers they used are accounted for.
+            abortedBuffers.forEach(chunkBuffer -> decodeChunk(ctx, chunkBuffer, Integer.MAX_VALUE));
+        } else {
+            // Only a message that fits in one chunk is known to be small enough to decode inline.
+            int messageSize = (chunkType == 'F' && chunkCount == 1) ? chunkSize : Integer.MAX_VALUE;
+
+            if (chunkType == 'F') chunkCount = 0;
+
+            if (decodeIncrementally) {
+                decodeChunk(ctx, buffer.retain(), messageSize);
+            } else {
+                chunkBuffers.add(buffer.retain());
+
+                if (chunkType == 'F') {
+                    final List<ByteBuf> buffersToDecode = chunkBuffers;
+                    chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
+
+                    SecurityPolicy securityPolicy = secureChannel.getSecurityPolicy();
+
+                    serializationQueue.decode(securityPolicy, messageSize, (binaryDecoder, chunkDecoder) -> {
+                        try {
+                            ByteBuf messageBuffer = chunkDecoder.decodeSymmetric(
+                                    secureChannel,
+                                    MessageType.SecureMessage,
+                                    buffersToDecode
+                            );
+
+                            decodeResponse(ctx, messageBuffer);
+
+                            buffersToDecode.clear();
+                        } catch (Throwable t) {
+                            logger.error("Error decoding symmetric message: {}", t.getMessage(), t);
+                            ctx.close();
+                            serializationQueue.pause();
+                        }
+                    });
                 }
             }
+        }
+    }
 
-            int chunkSize = buffer.readerIndex(0).readableBytes();
+    /**
+     * Verify and decrypt a chunk as soon as it arrives, while later chunks of its message are still being received.
+     * The response is decoded once its final chunk has been.
+     */
+    private void decodeChunk(ChannelHandlerContext ctx, ByteBuf chunkBuffer, int messageSize) {
+        SecurityPolicy securityPolicy = secureChannel.getSecurityPolicy();
 
-            if (chunkSize > maxChunkSize) {
-                throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
-                        String.format("max chunk size exceeded (%s)", maxChunkSize));
+        serializationQueue.decode(securityPolicy, messageSize, (binaryDecoder, chunkDecoder) -> {
+            try {
+                ByteBuf messageBuffer = chunkDecoder.decodeSymmetricChunk(
+                        secureChannel,
+                        MessageType.SecureMessage,
+                        chunkBuffer
+                );
+
+                if (messageBuffer != null) {
+                    decodeResponse(ctx, messageBuffer);
+                }
+            } catch (Throwable t) {
+                logger.error("Error decoding symmetric message: {}", t.getMessage(), t);
+                ctx.close();
+                serializationQueue.pause();
             }
+        });
+    }
 
-            chunkBuffers.add(buffer.retain());
+    private void decodeResponse(ChannelHandlerContext ctx, ByteBuf messageBuffer) {
+        serializationQueue.decodeMessage(
+                messageBuffer,
+                binaryDecoder -> binaryDecoder
+                        .setArrayConsumers(getArrayConsumers(messageBuffer))
+                        .<UaResponseMessage>decodeMessage(null),
+                (response, dispose) -> client.getExecutorService().execute(
+                        () -> client.receiveResponse(response, dispose)),
+                t -> {
+                    logger.error("Error decoding symmetric message: {}", t.getMessage(), t);
+                    ctx.close();
+                    serializationQueue.pause();
+                }
+        );
+    }
 
-            if (chunkBuffers.size() > maxChunkCount) {
-                throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
-                        String.format("max chunk count exceeded (%s)", maxChunkCount));
-            }
+    /**
+     * @return the {@link ArrayConsumers} the request answered by the response in {@code messageBuffer} was sent with,
+     * or {@code null} if none.
+     */
+    private ArrayConsumers getArrayConsumers(ByteBuf messageBuffer) {
+        if (!client.hasArrayConsumers()) return null;
 
-            if (chunkType == 'F') {
-                final List<ByteBuf> buffersToDecode = chunkBuffers;
-                chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
-
-                serializationQueue.decode((binaryDecoder, chunkDecoder) -> {
-                    try {
-                        ByteBuf messageBuffer = chunkDecoder.decodeSymmetric(
-                                secureChannel,
-                                MessageType.SecureMessage,
-                                buffersToDecode
-                        );
-
-                        binaryDecoder.setBuffer(messageBuffer);
-                        UaResponseMessage response = binaryDecoder.decodeMessage(null);
-
-                        client.getExecutorService().execute(
-                                () -> client.receiveResponse(response));
-
-                        messageBuffer.release();
-                        buffersToDecode.clear();
-                    } catch (Throwable t) {
-                        logger.error("Error decoding symmetric message: {}", t.getMessage(), t);
-                        ctx.close();
-                        serializationQueue.pause();
-                    }
-                });
-            }
-        }
+        // Every response starts with its encoding id, then a ResponseHeader whose Timestamp precedes RequestHandle.
+        BinaryDecoder decoder = new BinaryDecoder().setBuffer(messageBuffer.duplicate());
+        decoder.decodeNodeId(null);
+        decoder.decodeDateTime(null);
+
+        return client.getArrayConsumers(decoder.decodeUInt32(null));
     }
 
     private void onError(ChannelHandlerContext ctx, ByteBuf buffer) {
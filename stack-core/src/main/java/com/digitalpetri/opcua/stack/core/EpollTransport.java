@@ -0,0 +1,42 @@
+package com.digitalpetri.opcua.stack.core;
+
+import java.util.concurrent.ThreadFactory;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+
+/**
+ * Every reference to Netty's native epoll classes, kept out of {@link Transport} so that they are only loaded once
+ * {@link Transport#EPOLL} is used. The netty-transport-native-epoll dependency is optional; without it this class
+ * fails to load and {@link Transport#EPOLL} reports itself unavailable.
+ */
+final class EpollTransport {
+
+    private EpollTransport() {}
+
+    static Throwable unavailabilityCause() {
+        return Epoll.unavailabilityCause();
+    }
+
+    static EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+        return new EpollEventLoopGroup(threads, threadFactory);
+    }
+
+    static Class<EpollServerSocketChannel> getServerSocketChannelClass() {
+        return EpollServerSocketChannel.class;
+    }
+
+    static Class<EpollSocketChannel> getSocketChannelClass() {
+        return EpollSocketChannel.class;
+    }
+
+    static void enableReusePort(ServerBootstrap bootstrap) {
+        bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+    }
+
+}
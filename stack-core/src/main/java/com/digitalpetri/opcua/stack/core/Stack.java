@@ -2,12 +2,14 @@ package com.digitalpetri.opcua.stack.core;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.digitalpetri.opcua.stack.core.util.ManifestUtil;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
 import io.netty.util.HashedWheelTimer;
 
 public final class Stack {
@@ -20,10 +22,46 @@ public final class Stack {
 
     public static final int DEFAULT_PORT = 12685;
 
+    private static TransportConfig transportConfig = TransportConfig.DEFAULT;
+    private static boolean eventLoopCreated = false;
+
+    /**
+     * Set the {@link TransportConfig} used by the shared event loop and by every server socket and client connection.
+     * <p>
+     * Must be called before {@link #sharedEventLoop()} is first used, i.e. before any server is bound or client
+     * connected.
+     *
+     * @param config the {@link TransportConfig}.
+     * @throws IllegalStateException if the shared event loop has already been created, or the configured
+     *                               {@link Transport} is not available on this platform.
+     */
+    public static synchronized void setTransportConfig(TransportConfig config) {
+        if (eventLoopCreated) {
+            throw new IllegalStateException("shared event loop already created");
+        }
+
+        Transport transport = config.getTransport();
+
+        if (!transport.isAvailable()) {
+            throw new IllegalStateException(
+                    "transport not available: " + transport, transport.unavailabilityCause());
+        }
+
+        transportConfig = config;
+    }
+
     /**
-     * @return a shared {@link NioEventLoopGroup}.
+     * @return the {@link TransportConfig} set by {@link #setTransportConfig(TransportConfig)}, or
+     * {@link TransportConfig#DEFAULT}.
      */
-    public static NioEventLoopGroup sharedEventLoop() {
+    public static synchronized TransportConfig getTransportConfig() {
+        return transportConfig;
+    }
+
+    /**
+     * @return a shared {@link EventLoopGroup} for the configured {@link Transport}.
+     */
+    public static EventLoopGroup sharedEventLoop() {
         return EventLoopHolder.EVENT_LOOP;
     }
 
@@ -34,6 +72,14 @@ public final class Stack {
         return ExecutorHolder.EXECUTOR_SERVICE;
     }
 
+    /**
+     * @return a shared {@link ForkJoinPool} for splitting CPU-bound work, such as securing the chunks of a large
+     * message, across cores.
+     */
+    public static ForkJoinPool sharedForkJoinPool() {
+        return ForkJoinPoolHolder.FORK_JOIN_POOL;
+    }
+
     /**
      * @return a shared {@link ScheduledExecutorService}.
      */
@@ -51,11 +97,18 @@ public final class Stack {
     public static void releaseSharedResources() {
         sharedEventLoop().shutdownGracefully();
         sharedExecutor().shutdown();
+        sharedForkJoinPool().shutdown();
         sharedWheelTimer().stop();
     }
 
+    private static synchronized EventLoopGroup createEventLoop(ThreadFactory threadFactory) {
+        eventLoopCreated = true;
+
+        return transportConfig.getTransport().newEventLoopGroup(0, threadFactory);
+    }
+
     private static class EventLoopHolder {
-        private static final NioEventLoopGroup EVENT_LOOP = new NioEventLoopGroup(0, new ThreadFactory() {
+        private static final EventLoopGroup EVENT_LOOP = createEventLoop(new ThreadFactory() {
             private final AtomicLong threadNumber = new AtomicLong(0L);
 
             @Override
@@ -82,6 +135,24 @@ public final class Stack {
                 });
     }
 
+    private static class ForkJoinPoolHolder {
+        private static final ForkJoinPool FORK_JOIN_POOL = new ForkJoinPool(
+                Runtime.getRuntime().availableProcessors(),
+                new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+                    private final AtomicLong threadNumber = new AtomicLong(0L);
+
+                    @Override
+                    public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                        thread.setName("ua-shared-fork-join-pool-" + threadNumber.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                },
+                null,
+                false);
+    }
+
     private static class ScheduledExecutorHolder {
         private static final ScheduledExecutorService SCHEDULED_EXECUTOR_SERVICE =
                 Executors.newSingleThreadScheduledExecutor(
@@ -0,0 +1,126 @@
+package com.digitalpetri.opcua.stack.core;
+
+import java.util.concurrent.ThreadFactory;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * The Netty transport the stack's event loop and sockets are built on.
+ *
+ * @see TransportConfig
+ * @see Stack#setTransportConfig(TransportConfig)
+ */
+public enum Transport {
+
+    /**
+     * The JDK's NIO selector; available on every platform.
+     */
+    NIO {
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public Throwable unavailabilityCause() {
+            return null;
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+            return new NioEventLoopGroup(threads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return NioSocketChannel.class;
+        }
+
+        @Override
+        public void enableReusePort(ServerBootstrap bootstrap) {
+            throw new UnsupportedOperationException("SO_REUSEPORT requires Transport.EPOLL");
+        }
+    },
+
+    /**
+     * Netty's native epoll transport; available on Linux x86_64 only, and only when the optional
+     * {@code netty-transport-native-epoll} dependency, classifier {@code linux-x86_64}, is on the classpath. Supports
+     * SO_REUSEPORT, so a server can bind several acceptors to the same address.
+     */
+    EPOLL {
+        @Override
+        public boolean isAvailable() {
+            return unavailabilityCause() == null;
+        }
+
+        @Override
+        public Throwable unavailabilityCause() {
+            try {
+                return EpollTransport.unavailabilityCause();
+            } catch (NoClassDefFoundError e) {
+                return e;
+            }
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+            return EpollTransport.newEventLoopGroup(threads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return EpollTransport.getServerSocketChannelClass();
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return EpollTransport.getSocketChannelClass();
+        }
+
+        @Override
+        public void enableReusePort(ServerBootstrap bootstrap) {
+            EpollTransport.enableReusePort(bootstrap);
+        }
+    };
+
+    /**
+     * @return {@code true} if this transport can be used on this platform.
+     */
+    public abstract boolean isAvailable();
+
+    /**
+     * @return the reason this transport cannot be used, or {@code null} if it is available.
+     */
+    public abstract Throwable unavailabilityCause();
+
+    /**
+     * @param threads       the number of event loop threads, or 0 for Netty's default.
+     * @param threadFactory the {@link ThreadFactory} the event loop threads are created with.
+     * @return a new {@link EventLoopGroup} for this transport.
+     */
+    public abstract EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory);
+
+    public abstract Class<? extends ServerSocketChannel> getServerSocketChannelClass();
+
+    public abstract Class<? extends SocketChannel> getSocketChannelClass();
+
+    /**
+     * Set SO_REUSEPORT on the server sockets {@code bootstrap} binds, so several can be bound to the same address.
+     *
+     * @param bootstrap the {@link ServerBootstrap} to configure.
+     * @throws UnsupportedOperationException if this transport does not support SO_REUSEPORT.
+     */
+    public abstract void enableReusePort(ServerBootstrap bootstrap);
+
+}
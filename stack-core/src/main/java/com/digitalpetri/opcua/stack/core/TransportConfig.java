@@ -0,0 +1,154 @@
+package com.digitalpetri.opcua.stack.core;
+
+import com.google.common.base.Preconditions;
+import io.netty.channel.socket.SocketChannelConfig;
+
+/**
+ * The {@link Transport} and socket settings shared by every server socket and client connection in the stack.
+ *
+ * @see Stack#setTransportConfig(TransportConfig)
+ */
+public class TransportConfig {
+
+    /**
+     * The default {@link Transport}.
+     */
+    public static final Transport DEFAULT_TRANSPORT = Transport.NIO;
+
+    /**
+     * The default number of acceptors bound to each server address; more than 1 requires {@link Transport#EPOLL}.
+     */
+    public static final int DEFAULT_ACCEPTOR_COUNT = 1;
+
+    /**
+     * The default SO_SNDBUF and SO_RCVBUF; 0 leaves the operating system's default in place.
+     */
+    public static final int DEFAULT_SOCKET_BUFFER_SIZE = 0;
+
+    /**
+     * The default number of bytes queued for writing below which a channel becomes writable again.
+     */
+    public static final int DEFAULT_WRITE_BUFFER_LOW_WATER_MARK = 32 * 1024;
+
+    /**
+     * The default number of bytes queued for writing above which a channel stops being writable.
+     */
+    public static final int DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK = 64 * 1024;
+
+    /**
+     * A {@link TransportConfig} that uses the default settings. Declared after the defaults so they are initialized
+     * before it is constructed.
+     */
+    public static final TransportConfig DEFAULT = new TransportConfig();
+
+    private final Transport transport;
+    private final int acceptorCount;
+    private final int sendBufferSize;
+    private final int receiveBufferSize;
+    private final int writeBufferLowWaterMark;
+    private final int writeBufferHighWaterMark;
+
+    /**
+     * Create a {@link TransportConfig} using the default parameters.
+     *
+     * @see {@link TransportConfig#DEFAULT_TRANSPORT}
+     * @see {@link TransportConfig#DEFAULT_ACCEPTOR_COUNT}
+     * @see {@link TransportConfig#DEFAULT_SOCKET_BUFFER_SIZE}
+     * @see {@link TransportConfig#DEFAULT_WRITE_BUFFER_LOW_WATER_MARK}
+     * @see {@link TransportConfig#DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK}
+     */
+    public TransportConfig() {
+        this(DEFAULT_TRANSPORT, DEFAULT_ACCEPTOR_COUNT);
+    }
+
+    /**
+     * @param transport     The {@link Transport} to use.
+     * @param acceptorCount The number of acceptors bound to each server address with SO_REUSEPORT. Must be 1 unless
+     *                      {@code transport} is {@link Transport#EPOLL}.
+     */
+    public TransportConfig(Transport transport, int acceptorCount) {
+        this(transport, acceptorCount,
+                DEFAULT_SOCKET_BUFFER_SIZE, DEFAULT_SOCKET_BUFFER_SIZE,
+                DEFAULT_WRITE_BUFFER_LOW_WATER_MARK, DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK);
+    }
+
+    /**
+     * @param transport                The {@link Transport} to use.
+     * @param acceptorCount            The number of acceptors bound to each server address with SO_REUSEPORT. Must
+     *                                 be 1 unless {@code transport} is {@link Transport#EPOLL}.
+     * @param sendBufferSize           The SO_SNDBUF of each connection, or 0 for the operating system's default.
+     * @param receiveBufferSize        The SO_RCVBUF of each connection, or 0 for the operating system's default.
+     * @param writeBufferLowWaterMark  The number of bytes queued for writing below which a connection becomes
+     *                                 writable again.
+     * @param writeBufferHighWaterMark The number of bytes queued for writing above which a connection stops being
+     *                                 writable.
+     */
+    public TransportConfig(Transport transport,
+                           int acceptorCount,
+                           int sendBufferSize,
+                           int receiveBufferSize,
+                           int writeBufferLowWaterMark,
+                           int writeBufferHighWaterMark) {
+
+        Preconditions.checkNotNull(transport);
+        Preconditions.checkArgument(acceptorCount >= 1,
+                "acceptorCount must be at least 1");
+        Preconditions.checkArgument(acceptorCount == 1 || transport == Transport.EPOLL,
+                "acceptorCount greater than 1 requires Transport.EPOLL");
+        Preconditions.checkArgument(sendBufferSize >= 0 && receiveBufferSize >= 0,
+                "socket buffer sizes must not be negative");
+        Preconditions.checkArgument(0 <= writeBufferLowWaterMark && writeBufferLowWaterMark <= writeBufferHighWaterMark,
+                "writeBufferLowWaterMark must be between 0 and writeBufferHighWaterMark");
+
+        this.transport = transport;
+        this.acceptorCount = acceptorCount;
+        this.sendBufferSize = sendBufferSize;
+        this.receiveBufferSize = receiveBufferSize;
+        this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+        this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public int getAcceptorCount() {
+        return acceptorCount;
+    }
+
+    public int getSendBufferSize() {
+        return sendBufferSize;
+    }
+
+    public int getReceiveBufferSize() {
+        return receiveBufferSize;
+    }
+
+    public int getWriteBufferLowWaterMark() {
+        return writeBufferLowWaterMark;
+    }
+
+    public int getWriteBufferHighWaterMark() {
+        return writeBufferHighWaterMark;
+    }
+
+    /**
+     * Apply the socket buffer sizes and write buffer water marks to a new connection, before it connects.
+     *
+     * @param config the {@link SocketChannelConfig} of the connection.
+     */
+    public void configure(SocketChannelConfig config) {
+        if (sendBufferSize > 0) config.setSendBufferSize(sendBufferSize);
+        if (receiveBufferSize > 0) config.setReceiveBufferSize(receiveBufferSize);
+
+        // Netty rejects a low water mark above the high one, so move whichever mark keeps them ordered first.
+        if (writeBufferHighWaterMark >= config.getWriteBufferLowWaterMark()) {
+            config.setWriteBufferHighWaterMark(writeBufferHighWaterMark);
+            config.setWriteBufferLowWaterMark(writeBufferLowWaterMark);
+        } else {
+            config.setWriteBufferLowWaterMark(writeBufferLowWaterMark);
+            config.setWriteBufferHighWaterMark(writeBufferHighWaterMark);
+        }
+    }
+
+}
@@ -22,6 +22,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.util.CertificateValidator;
 
 public interface CertificateManager {
 
@@ -39,4 +40,16 @@ public interface CertificateManager {
 
     void certificateRejected(X509Certificate certificate);
 
+    /**
+     * Get a {@link CertificateValidator} for this manager's trust and authority lists.
+     * <p>
+     * The default implementation creates a new, non-caching validator on each call. Implementations that know when
+     * their lists change may return a shared validator that caches results and invalidate it on change.
+     *
+     * @return a {@link CertificateValidator} for {@link #getTrustList()} and {@link #getAuthorityList()}.
+     */
+    default CertificateValidator getCertificateValidator() {
+        return new CertificateValidator(getTrustList(), getAuthorityList());
+    }
+
 }
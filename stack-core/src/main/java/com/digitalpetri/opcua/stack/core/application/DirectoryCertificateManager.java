@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import com.google.common.base.Preconditions;
@@ -29,6 +30,7 @@ import com.google.common.collect.Sets;
 import com.digitalpetri.opcua.stack.core.UaException;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.util.CertificateUtil;
+import com.digitalpetri.opcua.stack.core.util.CertificateValidator;
 import com.digitalpetri.opcua.stack.core.util.DigestUtil;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
@@ -37,6 +39,11 @@ import org.slf4j.LoggerFactory;
 
 public class DirectoryCertificateManager implements CertificateManager {
 
+    /**
+     * How long a trust chain validation result is reused before the chain is built again.
+     */
+    private static final long VALIDATION_CACHE_TTL_MINUTES = 5;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final Map<ByteString, KeyPair> privateKeys = Maps.newConcurrentMap();
@@ -45,6 +52,9 @@ public class DirectoryCertificateManager implements CertificateManager {
     private final Set<X509Certificate> trustedCertificates = Sets.newConcurrentHashSet();
     private final Set<X509Certificate> authorityCertificates = Sets.newConcurrentHashSet();
 
+    private final CertificateValidator certificateValidator = new CertificateValidator(
+            trustedCertificates, authorityCertificates, VALIDATION_CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+
     private final File trustedDir;
     private final File rejectedDir;
     private final File revocationDir;
@@ -114,7 +124,14 @@ public class DirectoryCertificateManager implements CertificateManager {
                     StandardWatchEventKinds.ENTRY_MODIFY
             );
 
-            Thread thread = new Thread(new Watcher(watchService, trustedKey));
+            WatchKey revocationKey = revocationDir.toPath().register(
+                    watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY
+            );
+
+            Thread thread = new Thread(new Watcher(watchService, trustedKey, revocationKey));
             thread.setDaemon(true);
             thread.start();
         } catch (IOException e) {
@@ -140,6 +157,8 @@ public class DirectoryCertificateManager implements CertificateManager {
 
         logger.debug("trustedCertificates.size()={}, authorityCertificates.size()={}",
                 trustedCertificates.size(), authorityCertificates.size());
+
+        certificateValidator.invalidate();
     }
 
     @Override
@@ -172,6 +191,15 @@ public class DirectoryCertificateManager implements CertificateManager {
         return authorityCertificates;
     }
 
+    /**
+     * @return a shared {@link CertificateValidator} that caches trust chain results until the trusted or revocation
+     * directory changes.
+     */
+    @Override
+    public CertificateValidator getCertificateValidator() {
+        return certificateValidator;
+    }
+
     @Override
     public void certificateRejected(X509Certificate certificate) {
         try {
@@ -216,10 +244,12 @@ public class DirectoryCertificateManager implements CertificateManager {
 
         private final WatchService watchService;
         private final WatchKey trustedKey;
+        private final WatchKey revocationKey;
 
-        public Watcher(WatchService watchService, WatchKey trustedKey) {
+        public Watcher(WatchService watchService, WatchKey trustedKey, WatchKey revocationKey) {
             this.watchService = watchService;
             this.trustedKey = trustedKey;
+            this.revocationKey = revocationKey;
         }
 
         @Override
@@ -236,6 +266,11 @@ public class DirectoryCertificateManager implements CertificateManager {
                                 synchronizeTrustedCertificates();
                             }
                         }
+                    } else if (key == revocationKey) {
+                        if (!key.pollEvents().isEmpty()) {
+                            logger.debug("Revocation directory changed; invalidating validation cache.");
+                            certificateValidator.invalidate();
+                        }
                     }
 
                     if (!key.reset()) {
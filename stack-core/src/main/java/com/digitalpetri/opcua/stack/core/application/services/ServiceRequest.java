@@ -1,6 +1,7 @@
 package com.digitalpetri.opcua.stack.core.application.services;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.base.MoreObjects;
 import com.digitalpetri.opcua.stack.core.UaException;
@@ -13,7 +14,17 @@ import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
 import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
 import com.digitalpetri.opcua.stack.core.types.structured.ServiceFault;
 import io.netty.util.DefaultAttributeMap;
-
+import io.netty.util.IllegalReferenceCountException;
+
+/**
+ * A decoded request and the future its response completes.
+ * <p>
+ * ByteStrings in the request may be slices of its message buffer; see
+ * {@link com.digitalpetri.opcua.stack.core.channel.ChannelConfig#DEFAULT_BYTE_STRING_SLICE_THRESHOLD}. They stay valid
+ * while the request is referenced. The stack holds one reference and releases it once the response has been encoded,
+ * so a handler that keeps values from the request beyond that must {@link #retain()} it and {@link #release()} it
+ * when done.
+ */
 public class ServiceRequest<ReqT extends UaRequestMessage, ResT extends UaResponseMessage> extends DefaultAttributeMap {
 
     private final CompletableFuture<ResT> future = new CompletableFuture<>();
@@ -22,16 +33,32 @@ public class ServiceRequest<ReqT extends UaRequestMessage, ResT extends UaRespon
     private final long requestId;
     private final UaStackServer server;
     private final ServerSecureChannel secureChannel;
+    private final AtomicInteger refCnt = new AtomicInteger(1);
+    private final Runnable dispose;
 
     public ServiceRequest(ReqT request,
                           long requestId,
                           UaStackServer server,
                           ServerSecureChannel secureChannel) {
 
+        this(request, requestId, server, secureChannel, () -> {});
+    }
+
+    /**
+     * @param dispose releases the resources held by the decoded request, such as ByteStrings sliced from its message
+     *                buffer; run when the last reference is released.
+     */
+    public ServiceRequest(ReqT request,
+                          long requestId,
+                          UaStackServer server,
+                          ServerSecureChannel secureChannel,
+                          Runnable dispose) {
+
         this.request = request;
         this.requestId = requestId;
         this.server = server;
         this.secureChannel = secureChannel;
+        this.dispose = dispose;
     }
 
     public CompletableFuture<ResT> getFuture() {
@@ -70,6 +97,37 @@ public class ServiceRequest<ReqT extends UaRequestMessage, ResT extends UaRespon
         future.completeExceptionally(new UaException(statusCode, "ServiceFault"));
     }
 
+    /**
+     * Take another reference to the decoded request, keeping the ByteStrings sliced from its message buffer valid until
+     * it is released.
+     *
+     * @return this {@link ServiceRequest}.
+     */
+    public ServiceRequest<ReqT, ResT> retain() {
+        int n = refCnt.getAndIncrement();
+        if (n <= 0) throw new IllegalReferenceCountException(n, 1);
+
+        return this;
+    }
+
+    /**
+     * Give up a reference to the decoded request. Releasing the last one releases the resources it holds; the request
+     * must not be used afterwards.
+     *
+     * @return {@code true} if this released the last reference.
+     */
+    public boolean release() {
+        int n = refCnt.decrementAndGet();
+        if (n < 0) throw new IllegalReferenceCountException(n + 1, -1);
+
+        if (n == 0) {
+            dispose.run();
+            return true;
+        }
+
+        return false;
+    }
+
     public ResponseHeader createResponseHeader() {
         return createResponseHeader(StatusCode.GOOD);
     }
@@ -4,23 +4,47 @@ import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
 import com.digitalpetri.opcua.stack.core.types.structured.ServiceFault;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.MoreObjects.ToStringHelper;
+import io.netty.util.AbstractReferenceCounted;
 
-public class ServiceResponse {
+/**
+ * A response waiting to be encoded. Releasing the last reference releases the stack's reference to the request it
+ * answers, which may share buffers with the response; the channel's encoder releases it once the response has been
+ * encoded.
+ */
+public class ServiceResponse extends AbstractReferenceCounted {
 
     private final UaResponseMessage response;
     private final long requestId;
     private final boolean serviceFault;
+    private final Runnable dispose;
 
     public ServiceResponse(UaResponseMessage response, long requestId) {
-        this.response = response;
-        this.requestId = requestId;
-        this.serviceFault = false;
+        this(response, requestId, () -> {});
     }
 
     public ServiceResponse(ServiceFault serviceFault, long requestId) {
-        this.response = serviceFault;
+        this(serviceFault, requestId, () -> {});
+    }
+
+    /**
+     * @param dispose releases the request this response answers; run when the last reference is released.
+     */
+    public ServiceResponse(UaResponseMessage response, long requestId, Runnable dispose) {
+        this(response, requestId, false, dispose);
+    }
+
+    /**
+     * @param dispose releases the request this response answers; run when the last reference is released.
+     */
+    public ServiceResponse(ServiceFault serviceFault, long requestId, Runnable dispose) {
+        this(serviceFault, requestId, true, dispose);
+    }
+
+    private ServiceResponse(UaResponseMessage response, long requestId, boolean serviceFault, Runnable dispose) {
+        this.response = response;
         this.requestId = requestId;
-        this.serviceFault = true;
+        this.serviceFault = serviceFault;
+        this.dispose = dispose;
     }
 
     public UaResponseMessage getResponse() {
@@ -35,6 +59,11 @@ public class ServiceResponse {
         return serviceFault;
     }
 
+    @Override
+    protected void deallocate() {
+        dispose.run();
+    }
+
     @Override
     public String toString() {
         ToStringHelper helper = MoreObjects.toStringHelper(this)
@@ -0,0 +1,184 @@
+package com.digitalpetri.opcua.stack.core.channel;
+
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import javax.annotation.Nullable;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.channel.headers.AsymmetricSecurityHeader;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import com.digitalpetri.opcua.stack.core.util.DigestUtil;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * The values a {@link SecureChannel} derives from its {@link SecurityPolicy} and certificates to secure asymmetric
+ * chunks: the DER-encoded certificates, their SHA1 thumbprints, the RSA key lengths, and the encoded
+ * {@link AsymmetricSecurityHeader}.
+ * <p>
+ * Everything is computed once, when the instance is created. If a certificate cannot be encoded the failure is
+ * reported by each accessor that needs the encoded form.
+ */
+public final class AsymmetricSecurityMaterial {
+
+    private final SecurityPolicy securityPolicy;
+    private final X509Certificate localCertificate;
+    private final X509Certificate remoteCertificate;
+
+    private final int localKeyLength;
+    private final int remoteKeyLength;
+
+    private final ByteString localCertificateBytes;
+    private final ByteString localCertificateThumbprint;
+    private final ByteString remoteCertificateBytes;
+    private final ByteString remoteCertificateThumbprint;
+
+    private final byte[] securityHeaderBytes;
+
+    private final UaException encodingFailure;
+
+    /**
+     * @param securityPolicy    the channel's {@link SecurityPolicy}, or {@code null} if it has not been set yet.
+     * @param localCertificate  the channel's local certificate, if any.
+     * @param remoteCertificate the channel's remote certificate, if any.
+     */
+    public AsymmetricSecurityMaterial(@Nullable SecurityPolicy securityPolicy,
+                                      @Nullable X509Certificate localCertificate,
+                                      @Nullable X509Certificate remoteCertificate) {
+
+        this.securityPolicy = securityPolicy;
+        this.localCertificate = localCertificate;
+        this.remoteCertificate = remoteCertificate;
+
+        localKeyLength = SecureChannel.getAsymmetricKeyLength(localCertificate);
+        remoteKeyLength = SecureChannel.getAsymmetricKeyLength(remoteCertificate);
+
+        ByteString localBytes = ByteString.NULL_VALUE;
+        ByteString localThumbprint = ByteString.NULL_VALUE;
+        ByteString remoteBytes = ByteString.NULL_VALUE;
+        ByteString remoteThumbprint = ByteString.NULL_VALUE;
+        byte[] headerBytes = null;
+        UaException failure = null;
+
+        try {
+            if (localCertificate != null) {
+                byte[] encoded = localCertificate.getEncoded();
+                localBytes = ByteString.of(encoded);
+                localThumbprint = ByteString.of(DigestUtil.sha1(encoded));
+            }
+
+            if (remoteCertificate != null) {
+                byte[] encoded = remoteCertificate.getEncoded();
+                remoteBytes = ByteString.of(encoded);
+                remoteThumbprint = ByteString.of(DigestUtil.sha1(encoded));
+            }
+
+            if (securityPolicy != null) {
+                headerBytes = encodeSecurityHeader(securityPolicy, localBytes, remoteThumbprint);
+            }
+        } catch (CertificateEncodingException e) {
+            failure = new UaException(StatusCodes.Bad_CertificateInvalid, e);
+        }
+
+        localCertificateBytes = localBytes;
+        localCertificateThumbprint = localThumbprint;
+        remoteCertificateBytes = remoteBytes;
+        remoteCertificateThumbprint = remoteThumbprint;
+        securityHeaderBytes = headerBytes;
+        encodingFailure = failure;
+    }
+
+    /**
+     * @return {@code true} if this material was derived from exactly these (identical, not merely equal) inputs.
+     */
+    public boolean isFor(@Nullable SecurityPolicy securityPolicy,
+                         @Nullable X509Certificate localCertificate,
+                         @Nullable X509Certificate remoteCertificate) {
+
+        return this.securityPolicy == securityPolicy &&
+                this.localCertificate == localCertificate &&
+                this.remoteCertificate == remoteCertificate;
+    }
+
+    /**
+     * @return the bit length of the local certificate's RSA modulus, or 0 if there is none.
+     */
+    public int getLocalKeyLength() {
+        return localKeyLength;
+    }
+
+    /**
+     * @return the bit length of the remote certificate's RSA modulus, or 0 if there is none.
+     */
+    public int getRemoteKeyLength() {
+        return remoteKeyLength;
+    }
+
+    public ByteString getLocalCertificateBytes() throws UaException {
+        checkEncoded();
+        return localCertificateBytes;
+    }
+
+    public ByteString getLocalCertificateThumbprint() throws UaException {
+        checkEncoded();
+        return localCertificateThumbprint;
+    }
+
+    public ByteString getRemoteCertificateBytes() throws UaException {
+        checkEncoded();
+        return remoteCertificateBytes;
+    }
+
+    public ByteString getRemoteCertificateThumbprint() throws UaException {
+        checkEncoded();
+        return remoteCertificateThumbprint;
+    }
+
+    /**
+     * Get the encoded {@link AsymmetricSecurityHeader} carrying the security policy URI, the local certificate, and
+     * the remote certificate thumbprint. Callers must not modify the returned array.
+     *
+     * @return the encoded {@link AsymmetricSecurityHeader}.
+     * @throws UaException if a certificate could not be encoded or no {@link SecurityPolicy} was set.
+     */
+    public byte[] getSecurityHeaderBytes() throws UaException {
+        checkEncoded();
+
+        if (securityHeaderBytes == null) {
+            throw new UaException(StatusCodes.Bad_SecurityPolicyRejected, "no security policy");
+        }
+
+        return securityHeaderBytes;
+    }
+
+    private void checkEncoded() throws UaException {
+        if (encodingFailure != null) throw encodingFailure;
+    }
+
+    private static byte[] encodeSecurityHeader(SecurityPolicy securityPolicy,
+                                               ByteString senderCertificate,
+                                               ByteString receiverThumbprint) {
+
+        AsymmetricSecurityHeader header = new AsymmetricSecurityHeader(
+                securityPolicy.getSecurityPolicyUri(),
+                senderCertificate,
+                receiverThumbprint
+        );
+
+        ByteBuf buffer = BufferUtil.buffer();
+
+        try {
+            AsymmetricSecurityHeader.encode(header, buffer);
+
+            byte[] bytes = new byte[buffer.readableBytes()];
+            buffer.readBytes(bytes);
+
+            return bytes;
+        } finally {
+            buffer.release();
+        }
+    }
+
+}
@@ -4,9 +4,6 @@ import com.google.common.base.Preconditions;
 
 public class ChannelConfig {
 
-    /** A {@link ChannelConfig} that uses the default settings. */
-    public static final ChannelConfig DEFAULT = new ChannelConfig();
-
     /**
      * The default maximum size of a single chunk.
      */
@@ -26,11 +23,74 @@ public class ChannelConfig {
     public static final int DEFAULT_MAX_ARRAY_LENGTH = 65536;
     public static final int DEFAULT_MAX_STRING_LENGTH = 65536;
 
+    /**
+     * The default size of the decoder's interning cache; 0 disables interning.
+     *
+     * @see com.digitalpetri.opcua.stack.core.serialization.binary.InterningCache
+     */
+    public static final int DEFAULT_INTERNING_CACHE_SIZE = 0;
+
+    /**
+     * The default minimum number of chunks a secured message must have before its chunks are signed and encrypted, or
+     * verified and decrypted, in parallel; 0 disables parallel chunk security.
+     *
+     * @see com.digitalpetri.opcua.stack.core.Stack#sharedForkJoinPool()
+     */
+    public static final int DEFAULT_PARALLEL_CHUNK_THRESHOLD = 0;
+
+    /**
+     * The default size, in bytes, up to which a message is encoded or decoded on its channel's event loop instead of
+     * being handed to the serialization pool; 0 serializes every message on the pool.
+     * <p>
+     * When enabled, a message that fits in a single chunk on a channel using
+     * {@link com.digitalpetri.opcua.stack.core.security.SecurityPolicy#None} is serialized on the event loop as well.
+     */
+    public static final int DEFAULT_INLINE_SERIALIZATION_THRESHOLD = 0;
+
+    /**
+     * The default {@link DecodingMode}; messages are decoded one at a time, in the order received.
+     */
+    public static final DecodingMode DEFAULT_DECODING_MODE = DecodingMode.SERIAL;
+
+    /**
+     * The default for decoding Variant arrays of numeric and Boolean types into primitive arrays; disabled, so they
+     * decode into arrays of their boxed equivalents.
+     *
+     * @see com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder#setPrimitiveArrays(boolean)
+     */
+    public static final boolean DEFAULT_PRIMITIVE_ARRAYS = false;
+
+    /**
+     * The default minimum length of a ByteString that is decoded as a slice of its message buffer instead of being
+     * copied; 0 copies every ByteString.
+     * <p>
+     * Sliced ByteStrings keep their message buffer alive until they are released, and whoever a message is delivered
+     * to owns them: a client must pass each response it receives to
+     * {@code UaTcpStackClient#releaseResponse(UaResponseMessage)} once done with it, and a server handler that keeps
+     * values from a request after responding must
+     * {@link com.digitalpetri.opcua.stack.core.application.services.ServiceRequest#retain() retain} the request.
+     *
+     * @see com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder#setByteStringSliceThreshold(int)
+     */
+    public static final int DEFAULT_BYTE_STRING_SLICE_THRESHOLD = 0;
+
+    /**
+     * A {@link ChannelConfig} that uses the default settings. Declared after the defaults so they are initialized
+     * before it is constructed.
+     */
+    public static final ChannelConfig DEFAULT = new ChannelConfig();
+
     private final int maxChunkSize;
     private final int maxChunkCount;
     private final int maxMessageSize;
     private final int maxArrayLength;
     private final int maxStringLength;
+    private final int interningCacheSize;
+    private final int parallelChunkThreshold;
+    private final int inlineSerializationThreshold;
+    private final DecodingMode decodingMode;
+    private final boolean primitiveArrays;
+    private final int byteStringSliceThreshold;
 
     /**
      * Create a {@link ChannelConfig} using the default parameters.
@@ -40,13 +100,15 @@ public class ChannelConfig {
      * @see {@link ChannelConfig#DEFAULT_MAX_MESSAGE_SIZE}
      * @see {@link ChannelConfig#DEFAULT_MAX_ARRAY_LENGTH}
      * @see {@link ChannelConfig#DEFAULT_MAX_STRING_LENGTH}
+     * @see {@link ChannelConfig#DEFAULT_INTERNING_CACHE_SIZE}
+     * @see {@link ChannelConfig#DEFAULT_PARALLEL_CHUNK_THRESHOLD}
+     * @see {@link ChannelConfig#DEFAULT_INLINE_SERIALIZATION_THRESHOLD}
+     * @see {@link ChannelConfig#DEFAULT_DECODING_MODE}
+     * @see {@link ChannelConfig#DEFAULT_PRIMITIVE_ARRAYS}
+     * @see {@link ChannelConfig#DEFAULT_BYTE_STRING_SLICE_THRESHOLD}
      */
     public ChannelConfig() {
-        this(DEFAULT_MAX_CHUNK_SIZE,
-                DEFAULT_MAX_CHUNK_COUNT,
-                DEFAULT_MAX_MESSAGE_SIZE,
-                DEFAULT_MAX_ARRAY_LENGTH,
-                DEFAULT_MAX_STRING_LENGTH);
+        this(builder());
     }
 
     /**
@@ -59,14 +121,37 @@ public class ChannelConfig {
                          int maxMessageSize,
                          int maxArrayLength,
                          int maxStringLength) {
-        Preconditions.checkArgument(maxChunkSize > 8192,
-                "maxChunkSize must be greater than 8192");
 
-        this.maxChunkSize = maxChunkSize;
-        this.maxChunkCount = maxChunkCount;
-        this.maxMessageSize = maxMessageSize;
-        this.maxArrayLength = maxArrayLength;
-        this.maxStringLength = maxStringLength;
+        this(builder()
+                .setMaxChunkSize(maxChunkSize)
+                .setMaxChunkCount(maxChunkCount)
+                .setMaxMessageSize(maxMessageSize)
+                .setMaxArrayLength(maxArrayLength)
+                .setMaxStringLength(maxStringLength));
+    }
+
+    /**
+     * Create a {@link ChannelConfig} from a {@link ChannelConfigBuilder}; every setting not covered by the other
+     * constructors is configured this way.
+     *
+     * @see ChannelConfig#builder()
+     */
+    ChannelConfig(ChannelConfigBuilder builder) {
+        Preconditions.checkArgument(builder.maxChunkSize > 8192,
+                "maxChunkSize must be greater than 8192");
+        Preconditions.checkNotNull(builder.decodingMode);
+
+        this.maxChunkSize = builder.maxChunkSize;
+        this.maxChunkCount = builder.maxChunkCount;
+        this.maxMessageSize = builder.maxMessageSize;
+        this.maxArrayLength = builder.maxArrayLength;
+        this.maxStringLength = builder.maxStringLength;
+        this.interningCacheSize = builder.interningCacheSize;
+        this.parallelChunkThreshold = builder.parallelChunkThreshold;
+        this.inlineSerializationThreshold = builder.inlineSerializationThreshold;
+        this.decodingMode = builder.decodingMode;
+        this.primitiveArrays = builder.primitiveArrays;
+        this.byteStringSliceThreshold = builder.byteStringSliceThreshold;
     }
 
     public int getMaxChunkSize() {
@@ -89,4 +174,35 @@ public class ChannelConfig {
         return maxStringLength;
     }
 
+    public int getInterningCacheSize() {
+        return interningCacheSize;
+    }
+
+    public int getParallelChunkThreshold() {
+        return parallelChunkThreshold;
+    }
+
+    public int getInlineSerializationThreshold() {
+        return inlineSerializationThreshold;
+    }
+
+    public DecodingMode getDecodingMode() {
+        return decodingMode;
+    }
+
+    public boolean isPrimitiveArrays() {
+        return primitiveArrays;
+    }
+
+    public int getByteStringSliceThreshold() {
+        return byteStringSliceThreshold;
+    }
+
+    /**
+     * @return a new {@link ChannelConfigBuilder}, initialized with the default settings.
+     */
+    public static ChannelConfigBuilder builder() {
+        return new ChannelConfigBuilder();
+    }
+
 }
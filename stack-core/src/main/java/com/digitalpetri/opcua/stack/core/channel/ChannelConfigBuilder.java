@@ -0,0 +1,106 @@
+package com.digitalpetri.opcua.stack.core.channel;
+
+public class ChannelConfigBuilder {
+
+    int maxChunkSize = ChannelConfig.DEFAULT_MAX_CHUNK_SIZE;
+    int maxChunkCount = ChannelConfig.DEFAULT_MAX_CHUNK_COUNT;
+    int maxMessageSize = ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE;
+    int maxArrayLength = ChannelConfig.DEFAULT_MAX_ARRAY_LENGTH;
+    int maxStringLength = ChannelConfig.DEFAULT_MAX_STRING_LENGTH;
+    int interningCacheSize = ChannelConfig.DEFAULT_INTERNING_CACHE_SIZE;
+    int parallelChunkThreshold = ChannelConfig.DEFAULT_PARALLEL_CHUNK_THRESHOLD;
+    int inlineSerializationThreshold = ChannelConfig.DEFAULT_INLINE_SERIALIZATION_THRESHOLD;
+    DecodingMode decodingMode = ChannelConfig.DEFAULT_DECODING_MODE;
+    boolean primitiveArrays = ChannelConfig.DEFAULT_PRIMITIVE_ARRAYS;
+    int byteStringSliceThreshold = ChannelConfig.DEFAULT_BYTE_STRING_SLICE_THRESHOLD;
+
+    /**
+     * @param maxChunkSize The maximum size of a single chunk. Must be greater than 8192.
+     */
+    public ChannelConfigBuilder setMaxChunkSize(int maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+        return this;
+    }
+
+    /**
+     * @param maxChunkCount The maximum number of chunks that a message can break down into.
+     */
+    public ChannelConfigBuilder setMaxChunkCount(int maxChunkCount) {
+        this.maxChunkCount = maxChunkCount;
+        return this;
+    }
+
+    /**
+     * @param maxMessageSize The maximum size of a message after all chunks have been assembled.
+     */
+    public ChannelConfigBuilder setMaxMessageSize(int maxMessageSize) {
+        this.maxMessageSize = maxMessageSize;
+        return this;
+    }
+
+    public ChannelConfigBuilder setMaxArrayLength(int maxArrayLength) {
+        this.maxArrayLength = maxArrayLength;
+        return this;
+    }
+
+    public ChannelConfigBuilder setMaxStringLength(int maxStringLength) {
+        this.maxStringLength = maxStringLength;
+        return this;
+    }
+
+    /**
+     * @param interningCacheSize The number of slots in the decoder's interning cache, or 0 to disable interning.
+     */
+    public ChannelConfigBuilder setInterningCacheSize(int interningCacheSize) {
+        this.interningCacheSize = interningCacheSize;
+        return this;
+    }
+
+    /**
+     * @param parallelChunkThreshold The minimum number of chunks a secured message must have before its chunks are
+     *                               secured in parallel, or 0 to always secure chunks one at a time.
+     */
+    public ChannelConfigBuilder setParallelChunkThreshold(int parallelChunkThreshold) {
+        this.parallelChunkThreshold = parallelChunkThreshold;
+        return this;
+    }
+
+    /**
+     * @param inlineSerializationThreshold The size in bytes up to which a message is serialized on its channel's
+     *                                     event loop, or 0 to serialize every message on the serialization pool.
+     */
+    public ChannelConfigBuilder setInlineSerializationThreshold(int inlineSerializationThreshold) {
+        this.inlineSerializationThreshold = inlineSerializationThreshold;
+        return this;
+    }
+
+    /**
+     * @param decodingMode The {@link DecodingMode} used to decode and dispatch received messages.
+     */
+    public ChannelConfigBuilder setDecodingMode(DecodingMode decodingMode) {
+        this.decodingMode = decodingMode;
+        return this;
+    }
+
+    /**
+     * @param primitiveArrays {@code true} to decode Variant arrays of numeric and Boolean types into primitive arrays.
+     */
+    public ChannelConfigBuilder setPrimitiveArrays(boolean primitiveArrays) {
+        this.primitiveArrays = primitiveArrays;
+        return this;
+    }
+
+    /**
+     * @param byteStringSliceThreshold The minimum length of a ByteString decoded as a slice of its message buffer
+     *                                 instead of being copied, or 0 to copy every ByteString.
+     */
+    public ChannelConfigBuilder setByteStringSliceThreshold(int byteStringSliceThreshold) {
+        this.byteStringSliceThreshold = byteStringSliceThreshold;
+        return this;
+    }
+
+    public ChannelConfig build() {
+        return new ChannelConfig(this);
+    }
+
+}
@@ -2,7 +2,7 @@ package com.digitalpetri.opcua.stack.core.channel;
 
 import java.util.Optional;
 
-import com.digitalpetri.opcua.stack.core.security.SecurityAlgorithm;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.structured.ChannelSecurityToken;
 import com.digitalpetri.opcua.stack.core.util.PShaUtil;
@@ -50,7 +50,7 @@ public class ChannelSecurity {
                                                  ByteString clientNonce,
                                                  ByteString serverNonce) {
 
-        SecurityAlgorithm keyDerivation = channel.getSecurityPolicy().getKeyDerivationAlgorithm();
+        SecurityPolicy securityPolicy = channel.getSecurityPolicy();
 
         int signatureKeySize = channel.getSymmetricSignatureKeySize();
         int encryptionKeySize = channel.getSymmetricEncryptionKeySize();
@@ -59,33 +59,16 @@ public class ChannelSecurity {
         assert (clientNonce != null);
         assert (serverNonce != null);
 
-        byte[] clientSignatureKey = (keyDerivation == SecurityAlgorithm.PSha1) ?
-                PShaUtil.createPSha1Key(serverNonce.bytes(), clientNonce.bytes(), 0, signatureKeySize) :
-                PShaUtil.createPSha256Key(serverNonce.bytes(), clientNonce.bytes(), 0, signatureKeySize);
+        // Each side's three keys are consecutive slices of one P_SHA stream, derived in a single pass.
+        byte[][] clientKeys = PShaUtil.createKeys(securityPolicy, serverNonce.bytes(), clientNonce.bytes(),
+                signatureKeySize, encryptionKeySize, cipherTextBlockSize);
 
-        byte[] clientEncryptionKey = (keyDerivation == SecurityAlgorithm.PSha1) ?
-                PShaUtil.createPSha1Key(serverNonce.bytes(), clientNonce.bytes(), signatureKeySize, encryptionKeySize) :
-                PShaUtil.createPSha256Key(serverNonce.bytes(), clientNonce.bytes(), signatureKeySize, encryptionKeySize);
-
-        byte[] clientInitializationVector = (keyDerivation == SecurityAlgorithm.PSha1) ?
-                PShaUtil.createPSha1Key(serverNonce.bytes(), clientNonce.bytes(), signatureKeySize + encryptionKeySize, cipherTextBlockSize) :
-                PShaUtil.createPSha256Key(serverNonce.bytes(), clientNonce.bytes(), signatureKeySize + encryptionKeySize, cipherTextBlockSize);
-
-        byte[] serverSignatureKey = (keyDerivation == SecurityAlgorithm.PSha1) ?
-                PShaUtil.createPSha1Key(clientNonce.bytes(), serverNonce.bytes(), 0, signatureKeySize) :
-                PShaUtil.createPSha256Key(clientNonce.bytes(), serverNonce.bytes(), 0, signatureKeySize);
-
-        byte[] serverEncryptionKey = (keyDerivation == SecurityAlgorithm.PSha1) ?
-                PShaUtil.createPSha1Key(clientNonce.bytes(), serverNonce.bytes(), signatureKeySize, encryptionKeySize) :
-                PShaUtil.createPSha256Key(clientNonce.bytes(), serverNonce.bytes(), signatureKeySize, encryptionKeySize);
-
-        byte[] serverInitializationVector = (keyDerivation == SecurityAlgorithm.PSha1) ?
-                PShaUtil.createPSha1Key(clientNonce.bytes(), serverNonce.bytes(), signatureKeySize + encryptionKeySize, cipherTextBlockSize) :
-                PShaUtil.createPSha256Key(clientNonce.bytes(), serverNonce.bytes(), signatureKeySize + encryptionKeySize, cipherTextBlockSize);
+        byte[][] serverKeys = PShaUtil.createKeys(securityPolicy, clientNonce.bytes(), serverNonce.bytes(),
+                signatureKeySize, encryptionKeySize, cipherTextBlockSize);
 
         return new SecuritySecrets(
-                new SecretKeys(clientSignatureKey, clientEncryptionKey, clientInitializationVector),
-                new SecretKeys(serverSignatureKey, serverEncryptionKey, serverInitializationVector)
+                new SecretKeys(clientKeys[0], clientKeys[1], clientKeys[2]),
+                new SecretKeys(serverKeys[0], serverKeys[1], serverKeys[2])
         );
     }
 
@@ -1,29 +1,31 @@
 package com.digitalpetri.opcua.stack.core.channel;
 
 import javax.crypto.Cipher;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
+import javax.crypto.Mac;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.security.Signature;
-import java.security.SignatureException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.digitalpetri.opcua.stack.core.channel.headers.AsymmetricSecurityHeader;
 import com.digitalpetri.opcua.stack.core.channel.headers.HeaderConstants;
 import com.digitalpetri.opcua.stack.core.channel.headers.SequenceHeader;
-import com.digitalpetri.opcua.stack.core.security.SecurityAlgorithm;
 import com.digitalpetri.opcua.stack.core.util.BufferUtil;
 import com.digitalpetri.opcua.stack.core.util.SignatureUtil;
+import com.digitalpetri.opcua.stack.core.Stack;
 import com.digitalpetri.opcua.stack.core.StatusCodes;
 import com.digitalpetri.opcua.stack.core.UaException;
 import com.digitalpetri.opcua.stack.core.channel.headers.SymmetricSecurityHeader;
 import com.digitalpetri.opcua.stack.core.channel.messages.MessageType;
+import com.digitalpetri.opcua.stack.core.security.CryptoProviders;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
@@ -41,9 +43,27 @@ public class ChunkDecoder implements HeaderConstants {
     private final AtomicLong requestId = new AtomicLong(-1L);
 
     private final ChannelParameters parameters;
+    private final int parallelChunkThreshold;
+
+    /**
+     * The bodies of the chunks of the symmetric message being received by {@link #decodeSymmetricChunk}, or
+     * {@code null} if no chunks of it have been received yet.
+     */
+    private ByteBuf partialMessage;
 
     public ChunkDecoder(ChannelParameters parameters) {
+        this(parameters, ChannelConfig.DEFAULT_PARALLEL_CHUNK_THRESHOLD);
+    }
+
+    /**
+     * @param parameters             the {@link ChannelParameters}.
+     * @param parallelChunkThreshold the minimum number of chunks a symmetric message must have before its chunks are
+     *                               verified and decrypted in parallel on {@link Stack#sharedForkJoinPool()}, or 0 to
+     *                               always handle chunks one at a time.
+     */
+    public ChunkDecoder(ChannelParameters parameters, int parallelChunkThreshold) {
         this.parameters = parameters;
+        this.parallelChunkThreshold = parallelChunkThreshold;
     }
 
     public ByteBuf decodeAsymmetric(SecureChannel channel, MessageType messageType, List<ByteBuf> chunkBuffers) throws UaException {
@@ -54,57 +74,94 @@ public class ChunkDecoder implements HeaderConstants {
         return decode(symmetricDelegate, channel, messageType, chunkBuffers);
     }
 
-    private ByteBuf decode(Delegate delegate, SecureChannel channel, MessageType messageType, List<ByteBuf> chunkBuffers) throws UaException {
-        CompositeByteBuf composite = BufferUtil.compositeBuffer();
+    /**
+     * Decode one chunk of a symmetric message as soon as it is received, rather than waiting for the whole message:
+     * the chunk is verified and decrypted, its sequence number is checked, and its body is added to the message being
+     * received.
+     * <p>
+     * Bodies of intermediate chunks are copied out so each chunk buffer is released right away. A message that is a
+     * single chunk is returned as a slice of it instead. An abort ('A') chunk discards the chunks received so far.
+     *
+     * @param chunkBuffer the chunk; this decoder takes ownership of it.
+     * @return the message body once the final chunk has been decoded, otherwise {@code null}. The caller must release
+     * it.
+     * @throws UaException if the chunk fails verification; the message received so far is discarded.
+     */
+    public ByteBuf decodeSymmetricChunk(SecureChannel channel,
+                                        MessageType messageType,
+                                        ByteBuf chunkBuffer) throws UaException {
 
-        int signatureSize = delegate.getSignatureSize(channel);
-        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
+        char chunkType = (char) chunkBuffer.getByte(3);
 
-        boolean encrypted = delegate.isEncryptionEnabled(channel);
-        boolean signed = delegate.isSigningEnabled(channel);
+        ByteBuf bodyBuffer;
 
-        for (ByteBuf chunkBuffer : chunkBuffers) {
+        try {
             chunkBuffer.skipBytes(SecureMessageHeaderSize);
 
-            delegate.readSecurityHeader(channel, chunkBuffer);
+            symmetricDelegate.readSecurityHeader(channel, chunkBuffer);
 
-            if (encrypted) {
-                decryptChunk(delegate, channel, chunkBuffer);
-            }
+            unsecureChunk(symmetricDelegate, channel, chunkBuffer, null);
 
-            int encryptedStart = chunkBuffer.readerIndex();
-            chunkBuffer.readerIndex(0);
+            bodyBuffer = readChunkBody(symmetricDelegate, channel, chunkBuffer);
+        } catch (UaException e) {
+            chunkBuffer.release();
+            discardPartialMessage();
+            throw e;
+        }
 
-            if (signed) {
-                delegate.verifyChunk(channel, chunkBuffer);
-            }
+        if (chunkType == 'A') {
+            chunkBuffer.release();
+            discardPartialMessage();
+            return null;
+        }
 
-            int paddingSize = encrypted ? getPaddingSize(cipherTextBlockSize, signatureSize, chunkBuffer) : 0;
-            int bodyEnd = chunkBuffer.readableBytes() - signatureSize - paddingSize;
+        if (partialMessage == null) {
+            if (chunkType == 'F') return bodyBuffer.order(ByteOrder.LITTLE_ENDIAN);
 
-            chunkBuffer.readerIndex(encryptedStart);
+            partialMessage = BufferUtil.buffer(bodyBuffer.readableBytes() * 2);
+        }
 
-            SequenceHeader sequenceHeader = SequenceHeader.decode(chunkBuffer);
-            long sequenceNumber = sequenceHeader.getSequenceNumber();
-            requestId.set(sequenceHeader.getRequestId());
+        partialMessage.writeBytes(bodyBuffer);
+        chunkBuffer.release();
 
-            if (previousSequenceNumber.get() == -1) {
-                previousSequenceNumber.set(sequenceNumber);
-            } else {
-                if (previousSequenceNumber.get() + 1 != sequenceNumber) {
-                    String message = String.format("expected sequence number %s but received %s",
-                            previousSequenceNumber.get() + 1, sequenceNumber);
+        if (chunkType == 'F') {
+            ByteBuf messageBuffer = partialMessage;
+            partialMessage = null;
+            return messageBuffer;
+        }
 
-                    logger.error(message);
-                    logger.error(ByteBufUtil.hexDump(chunkBuffer, 0, chunkBuffer.writerIndex()));
+        return null;
+    }
 
-                    throw new UaException(StatusCodes.Bad_SecurityChecksFailed, message);
-                }
+    private void discardPartialMessage() {
+        if (partialMessage != null) {
+            partialMessage.release();
+            partialMessage = null;
+        }
+    }
+
+    private ByteBuf decode(Delegate delegate, SecureChannel channel, MessageType messageType, List<ByteBuf> chunkBuffers) throws UaException {
+        CompositeByteBuf composite = BufferUtil.compositeBuffer();
+
+        boolean parallel = delegate == symmetricDelegate &&
+                (delegate.isSigningEnabled(channel) || delegate.isEncryptionEnabled(channel)) &&
+                parallelChunkThreshold > 0 &&
+                chunkBuffers.size() >= parallelChunkThreshold;
+
+        if (parallel) {
+            unsecureChunksInParallel(delegate, channel, chunkBuffers);
+        }
 
-                previousSequenceNumber.set(sequenceNumber);
+        for (ByteBuf chunkBuffer : chunkBuffers) {
+            if (!parallel) {
+                chunkBuffer.skipBytes(SecureMessageHeaderSize);
+
+                delegate.readSecurityHeader(channel, chunkBuffer);
+
+                unsecureChunk(delegate, channel, chunkBuffer, null);
             }
 
-            ByteBuf bodyBuffer = chunkBuffer.readSlice(bodyEnd - chunkBuffer.readerIndex());
+            ByteBuf bodyBuffer = readChunkBody(delegate, channel, chunkBuffer);
 
             composite.addComponent(bodyBuffer);
             composite.writerIndex(composite.writerIndex() + bodyBuffer.readableBytes());
@@ -113,6 +170,46 @@ public class ChunkDecoder implements HeaderConstants {
         return composite.order(ByteOrder.LITTLE_ENDIAN);
     }
 
+    /**
+     * Read the sequence header of a chunk that has been verified and decrypted, check its sequence number, and return
+     * its body.
+     */
+    private ByteBuf readChunkBody(Delegate delegate, SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
+        int signatureSize = delegate.getSignatureSize(channel);
+        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
+        boolean encrypted = delegate.isEncryptionEnabled(channel);
+
+        int encryptedStart = chunkBuffer.readerIndex();
+        chunkBuffer.readerIndex(0);
+
+        int paddingSize = encrypted ? getPaddingSize(cipherTextBlockSize, signatureSize, chunkBuffer) : 0;
+        int bodyEnd = chunkBuffer.readableBytes() - signatureSize - paddingSize;
+
+        chunkBuffer.readerIndex(encryptedStart);
+
+        SequenceHeader sequenceHeader = SequenceHeader.decode(chunkBuffer);
+        long sequenceNumber = sequenceHeader.getSequenceNumber();
+        requestId.set(sequenceHeader.getRequestId());
+
+        if (previousSequenceNumber.get() == -1) {
+            previousSequenceNumber.set(sequenceNumber);
+        } else {
+            if (previousSequenceNumber.get() + 1 != sequenceNumber) {
+                String message = String.format("expected sequence number %s but received %s",
+                        previousSequenceNumber.get() + 1, sequenceNumber);
+
+                logger.error(message);
+                logger.error(ByteBufUtil.hexDump(chunkBuffer, 0, chunkBuffer.writerIndex()));
+
+                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, message);
+            }
+
+            previousSequenceNumber.set(sequenceNumber);
+        }
+
+        return chunkBuffer.readSlice(bodyEnd - chunkBuffer.readerIndex());
+    }
+
     /**
      * @return the most recently decoded request id.
      */
@@ -120,45 +217,169 @@ public class ChunkDecoder implements HeaderConstants {
         return requestId.get();
     }
 
-    private void decryptChunk(Delegate delegate, SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
-        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
-        int blockCount = chunkBuffer.readableBytes() / cipherTextBlockSize;
+    /**
+     * Read the security header of every chunk in order, then decrypt and verify all but the last chunk on
+     * {@link Stack#sharedForkJoinPool()}, each with its own {@link SymmetricCryptoContext.Crypto}, while the last chunk
+     * is handled on this thread with the delegate's context. Sequence numbers are checked afterwards, in order.
+     */
+    private void unsecureChunksInParallel(Delegate delegate,
+                                          SecureChannel channel,
+                                          List<ByteBuf> chunkBuffers) throws UaException {
 
-        int plainTextBufferSize = cipherTextBlockSize * blockCount;
+        List<SymmetricCryptoContext> cryptoContexts = new ArrayList<>(chunkBuffers.size());
 
-        ByteBuf plainTextBuffer = BufferUtil.buffer(plainTextBufferSize);
+        for (ByteBuf chunkBuffer : chunkBuffers) {
+            chunkBuffer.skipBytes(SecureMessageHeaderSize);
+
+            delegate.readSecurityHeader(channel, chunkBuffer);
+
+            cryptoContexts.add(((SymmetricDelegate) delegate).cryptoContext);
+        }
+
+        ForkJoinPool pool = Stack.sharedForkJoinPool();
 
-        ByteBuffer plainTextNioBuffer = plainTextBuffer
-                .writerIndex(plainTextBufferSize)
-                .nioBuffer();
+        List<ForkJoinTask<UaException>> tasks = new ArrayList<>(chunkBuffers.size() - 1);
 
-        ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer();
+        for (int i = 0; i < chunkBuffers.size() - 1; i++) {
+            ByteBuf chunkBuffer = chunkBuffers.get(i);
+            SymmetricCryptoContext cryptoContext = cryptoContexts.get(i);
+
+            // Failures are returned rather than thrown so the UaException reaches this thread unwrapped.
+            tasks.add(pool.submit(() -> {
+                try {
+                    SymmetricCryptoContext.Crypto crypto = cryptoContext.acquireReceiver();
+                    try {
+                        unsecureChunk(delegate, channel, chunkBuffer, crypto);
+                    } finally {
+                        cryptoContext.release(crypto);
+                    }
+                    return null;
+                } catch (UaException e) {
+                    return e;
+                }
+            }));
+        }
+
+        UaException failure = null;
 
         try {
-            Cipher cipher = delegate.getCipher(channel);
+            unsecureChunk(delegate, channel, chunkBuffers.get(chunkBuffers.size() - 1), null);
+        } catch (UaException e) {
+            failure = e;
+        }
+
+        for (ForkJoinTask<UaException> task : tasks) {
+            try {
+                UaException e = task.get();
+
+                if (failure == null) failure = e;
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = new UaException(StatusCodes.Bad_InternalError, e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                if (failure == null) {
+                    failure = new UaException(StatusCodes.Bad_InternalError, e);
+                }
+            }
+        }
+
+        if (failure != null) throw failure;
+    }
+
+    /**
+     * Decrypt and verify a chunk whose security header has been read.
+     *
+     * @param crypto the {@link SymmetricCryptoContext.Crypto} to use, or {@code null} to use the delegate.
+     */
+    private void unsecureChunk(Delegate delegate,
+                               SecureChannel channel,
+                               ByteBuf chunkBuffer,
+                               SymmetricCryptoContext.Crypto crypto) throws UaException {
 
-            assert (chunkBuffer.readableBytes() % cipherTextBlockSize == 0);
+        if (delegate.isEncryptionEnabled(channel)) {
+            Cipher cipher = crypto != null ? crypto.getCipher() : delegate.getCipher(channel);
+
+            decryptChunk(delegate, channel, chunkBuffer, cipher);
+        }
+
+        if (delegate.isSigningEnabled(channel)) {
+            if (crypto != null) {
+                verifyHmac(crypto.getMac(), channel, chunkBuffer);
+            } else {
+                delegate.verifyChunk(channel, chunkBuffer);
+            }
+        }
+    }
+
+    private void decryptChunk(Delegate delegate, SecureChannel channel, ByteBuf chunkBuffer, Cipher cipher) throws UaException {
+        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
+        int blockCount = chunkBuffer.readableBytes() / cipherTextBlockSize;
+
+        int decryptStart = chunkBuffer.readerIndex();
+        int cipherTextSize = cipherTextBlockSize * blockCount;
+
+        assert (chunkBuffer.readableBytes() % cipherTextBlockSize == 0);
+
+        // Received chunks are slices of a single buffer, so their NIO views share its memory.
+        assert (chunkBuffer.nioBufferCount() == 1);
+
+        try {
+            int plainTextSize;
 
             if (delegate instanceof AsymmetricDelegate) {
+                /*
+                 * Plain text blocks are no larger than cipher text blocks, so decrypt front-to-back: each block's plain
+                 * text then only overwrites cipher text that has already been decrypted.
+                 */
+                int position = decryptStart;
+
                 for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
-                    chunkNioBuffer.limit(chunkNioBuffer.position() + cipherTextBlockSize);
+                    ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(
+                            decryptStart + blockNumber * cipherTextBlockSize, cipherTextBlockSize);
+                    ByteBuffer plainTextNioBuffer = chunkBuffer.nioBuffer(
+                            position, decryptStart + (blockNumber + 1) * cipherTextBlockSize - position);
 
-                    cipher.doFinal(chunkNioBuffer, plainTextNioBuffer);
+                    position += cipher.doFinal(chunkNioBuffer, plainTextNioBuffer);
                 }
+
+                plainTextSize = position - decryptStart;
             } else {
-                cipher.doFinal(chunkNioBuffer, plainTextNioBuffer);
+                ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(decryptStart, cipherTextSize);
+                ByteBuffer plainTextNioBuffer = chunkBuffer.nioBuffer(decryptStart, cipherTextSize);
+
+                plainTextSize = cipher.doFinal(chunkNioBuffer, plainTextNioBuffer);
             }
+
+            chunkBuffer.writerIndex(decryptStart + plainTextSize);
         } catch (GeneralSecurityException e) {
             throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
         }
+    }
 
-        /* Write plainTextBuffer back into the chunk buffer we decrypted from. */
-        plainTextNioBuffer.flip(); // limit = pos, pos = 0
+    /**
+     * Verify the symmetric signature at the end of a chunk, comparing it in constant time.
+     */
+    private static void verifyHmac(Mac mac, SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
+        int signatureSize = channel.getSymmetricSignatureSize();
+
+        ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
+        chunkNioBuffer.position(0).limit(chunkBuffer.writerIndex() - signatureSize);
 
-        chunkBuffer.writerIndex(chunkBuffer.readerIndex());
-        chunkBuffer.writeBytes(plainTextNioBuffer);
+        byte[] signature = SignatureUtil.hmac(mac, chunkNioBuffer);
 
-        plainTextBuffer.release();
+        int signatureStart = chunkBuffer.writerIndex() - signatureSize;
+        int difference = signature.length ^ signatureSize;
+
+        for (int i = 0; i < signatureSize && i < signature.length; i++) {
+            difference |= signature[i] ^ chunkBuffer.getByte(signatureStart + i);
+        }
+
+        if (difference != 0) {
+            throw new UaException(StatusCodes.Bad_SecurityChecksFailed, "could not verify signature");
+        }
     }
 
     private int getPaddingSize(int cipherTextBlockSize, int signatureSize, ByteBuf buffer) {
@@ -196,8 +417,9 @@ public class ChunkDecoder implements HeaderConstants {
         @Override
         public Cipher getCipher(SecureChannel channel) throws UaException {
             try {
-                String transformation = channel.getSecurityPolicy().getAsymmetricEncryptionAlgorithm().getTransformation();
-                Cipher cipher = Cipher.getInstance(transformation);
+                SecurityPolicy securityPolicy = channel.getSecurityPolicy();
+                Cipher cipher = CryptoProviders.getCipher(
+                        securityPolicy, securityPolicy.getAsymmetricEncryptionAlgorithm());
                 cipher.init(Cipher.DECRYPT_MODE, channel.getKeyPair().getPrivate());
                 return cipher;
             } catch (GeneralSecurityException e) {
@@ -217,14 +439,15 @@ public class ChunkDecoder implements HeaderConstants {
 
         @Override
         public void verifyChunk(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
-            String transformation = channel.getSecurityPolicy().getAsymmetricSignatureAlgorithm().getTransformation();
+            SecurityPolicy securityPolicy = channel.getSecurityPolicy();
             int signatureSize = channel.getRemoteAsymmetricSignatureSize();
 
             ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
             chunkNioBuffer.position(0).limit(chunkBuffer.writerIndex() - signatureSize);
 
             try {
-                Signature signature = Signature.getInstance(transformation);
+                Signature signature = CryptoProviders.getSignature(
+                        securityPolicy, securityPolicy.getAsymmetricSignatureAlgorithm());
 
                 signature.initVerify(channel.getRemoteCertificate().getPublicKey());
                 signature.update(chunkNioBuffer);
@@ -236,10 +459,10 @@ public class ChunkDecoder implements HeaderConstants {
                 if (!signature.verify(signatureBytes)) {
                     throw new UaException(StatusCodes.Bad_SecurityChecksFailed, "could not verify signature");
                 }
-            } catch (NoSuchAlgorithmException | SignatureException e) {
-                throw new UaException(StatusCodes.Bad_InternalError, e);
             } catch (InvalidKeyException e) {
                 throw new UaException(StatusCodes.Bad_CertificateInvalid, e);
+            } catch (GeneralSecurityException e) {
+                throw new UaException(StatusCodes.Bad_InternalError, e);
             }
         }
 
@@ -259,7 +482,7 @@ public class ChunkDecoder implements HeaderConstants {
 
         private final Logger logger = LoggerFactory.getLogger(getClass());
 
-        private volatile ChannelSecurity.SecuritySecrets securitySecrets;
+        private volatile SymmetricCryptoContext cryptoContext;
 
         @Override
         public void readSecurityHeader(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
@@ -272,12 +495,12 @@ public class ChunkDecoder implements HeaderConstants {
                     throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown,
                             "unknown secure channel token: " + receivedTokenId);
                 }
+
+                cryptoContext = null;
             } else {
                 long currentTokenId = channelSecurity.getCurrentToken().getTokenId().longValue();
 
-                if (receivedTokenId == currentTokenId) {
-                    securitySecrets = channelSecurity.getCurrentKeys();
-                } else {
+                if (receivedTokenId != currentTokenId) {
                     long previousTokenId = channelSecurity.getPreviousToken()
                             .map(t -> t.getTokenId().longValue())
                             .orElse(-1L);
@@ -290,30 +513,20 @@ public class ChunkDecoder implements HeaderConstants {
                         throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown,
                                 "unknown secure channel token: " + receivedTokenId);
                     }
+                }
 
-                    if (channel.isSymmetricEncryptionEnabled() && channelSecurity.getPreviousKeys().isPresent()) {
-                        securitySecrets = channelSecurity.getPreviousKeys().get();
-                    }
+                cryptoContext = channel.getSymmetricCryptoContext(receivedTokenId);
+
+                if (cryptoContext == null) {
+                    throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown,
+                            "no security secrets for secure channel token: " + receivedTokenId);
                 }
             }
         }
 
         @Override
         public Cipher getCipher(SecureChannel channel) throws UaException {
-            try {
-                String transformation = channel.getSecurityPolicy().getSymmetricEncryptionAlgorithm().getTransformation();
-                ChannelSecurity.SecretKeys decryptionKeys = channel.getDecryptionKeys(securitySecrets);
-
-                SecretKeySpec keySpec = new SecretKeySpec(decryptionKeys.getEncryptionKey(), "AES");
-                IvParameterSpec ivSpec = new IvParameterSpec(decryptionKeys.getInitializationVector());
-
-                Cipher cipher = Cipher.getInstance(transformation);
-                cipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
-
-                return cipher;
-            } catch (GeneralSecurityException e) {
-                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
-            }
+            return cryptoContext.getDecryptionCipher();
         }
 
         @Override
@@ -328,22 +541,7 @@ public class ChunkDecoder implements HeaderConstants {
 
         @Override
         public void verifyChunk(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
-            SecurityAlgorithm securityAlgorithm = channel.getSecurityPolicy().getSymmetricSignatureAlgorithm();
-            byte[] secretKey = channel.getDecryptionKeys(securitySecrets).getSignatureKey();
-            int signatureSize = channel.getSymmetricSignatureSize();
-
-            ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
-            chunkNioBuffer.position(0).limit(chunkBuffer.writerIndex() - signatureSize);
-
-            byte[] signature = SignatureUtil.hmac(securityAlgorithm, secretKey, chunkNioBuffer);
-
-            byte[] signatureBytes = new byte[signatureSize];
-            chunkNioBuffer.limit(chunkNioBuffer.position() + signatureSize);
-            chunkNioBuffer.get(signatureBytes);
-
-            if (!Arrays.equals(signature, signatureBytes)) {
-                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, "could not verify signature");
-            }
+            verifyHmac(cryptoContext.getVerificationMac(), channel, chunkBuffer);
         }
 
         @Override
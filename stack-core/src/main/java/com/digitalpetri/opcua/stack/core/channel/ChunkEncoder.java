@@ -1,29 +1,38 @@
 package com.digitalpetri.opcua.stack.core.channel;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.cert.Certificate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 import javax.crypto.Cipher;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
 
+import com.digitalpetri.opcua.stack.core.Stack;
 import com.digitalpetri.opcua.stack.core.StatusCodes;
 import com.digitalpetri.opcua.stack.core.UaException;
-import com.digitalpetri.opcua.stack.core.channel.headers.AsymmetricSecurityHeader;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
 import com.digitalpetri.opcua.stack.core.channel.headers.HeaderConstants;
 import com.digitalpetri.opcua.stack.core.channel.headers.SecureMessageHeader;
 import com.digitalpetri.opcua.stack.core.channel.headers.SequenceHeader;
-import com.digitalpetri.opcua.stack.core.channel.headers.SymmetricSecurityHeader;
 import com.digitalpetri.opcua.stack.core.channel.messages.MessageType;
-import com.digitalpetri.opcua.stack.core.security.SecurityAlgorithm;
+import com.digitalpetri.opcua.stack.core.security.CryptoProviders;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoderSink;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.digitalpetri.opcua.stack.core.util.BufferUtil;
 import com.digitalpetri.opcua.stack.core.util.LongSequence;
 import com.digitalpetri.opcua.stack.core.util.SignatureUtil;
 import com.google.common.collect.Lists;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.util.ReferenceCountUtil;
 
 public class ChunkEncoder implements HeaderConstants {
 
@@ -36,9 +45,21 @@ public class ChunkEncoder implements HeaderConstants {
     private final LongSequence requestId = new LongSequence(1L, UInteger.MAX_VALUE);
 
     private final ChannelParameters parameters;
+    private final int parallelChunkThreshold;
 
     public ChunkEncoder(ChannelParameters parameters) {
+        this(parameters, ChannelConfig.DEFAULT_PARALLEL_CHUNK_THRESHOLD);
+    }
+
+    /**
+     * @param parameters             the {@link ChannelParameters}.
+     * @param parallelChunkThreshold the minimum number of chunks a symmetric message must have before its chunks are
+     *                               signed and encrypted in parallel on {@link Stack#sharedForkJoinPool()}, or 0 to
+     *                               always secure chunks one at a time.
+     */
+    public ChunkEncoder(ChannelParameters parameters, int parallelChunkThreshold) {
         this.parameters = parameters;
+        this.parallelChunkThreshold = parallelChunkThreshold;
     }
 
     public List<ByteBuf> encodeAsymmetric(SecureChannel channel,
@@ -55,121 +76,285 @@ public class ChunkEncoder implements HeaderConstants {
         return encode(symmetricDelegate, channel, messageType, messageBuffer, requestId.getAndIncrement());
     }
 
+    /**
+     * Open a {@link ChunkStream} that a {@link BinaryEncoder} encodes a symmetric message into directly. Each chunk is
+     * secured and handed to {@code chunkConsumer} as soon as it is full, rather than after the whole message has been
+     * encoded and copied into chunks.
+     * <p>
+     * Chunks are secured one at a time on the encoding thread; the parallel chunk threshold does not apply.
+     *
+     * @param chunkConsumer receives each finished chunk, in sequence order, and takes ownership of it.
+     */
+    public ChunkStream openSymmetric(SecureChannel channel,
+                                     MessageType messageType,
+                                     Consumer<ByteBuf> chunkConsumer) throws UaException {
+
+        ChunkLayout layout = symmetricDelegate.getLayout(channel, parameters.getLocalSendBufferSize());
+
+        return new ChunkStream(
+                symmetricDelegate, channel, messageType, layout, requestId.getAndIncrement(), chunkConsumer);
+    }
+
+    /**
+     * @return the minimum chunk count of a symmetric message whose chunks are secured in parallel, or 0 if chunks are
+     * always secured one at a time.
+     */
+    public int getParallelChunkThreshold() {
+        return parallelChunkThreshold;
+    }
+
     private List<ByteBuf> encode(Delegate delegate,
                                  SecureChannel channel,
                                  MessageType messageType,
                                  ByteBuf messageBuffer,
                                  long requestId) throws UaException {
 
-        List<ByteBuf> chunks = Lists.newArrayList();
+        ChunkLayout layout = delegate.getLayout(channel, parameters.getLocalSendBufferSize());
 
-        boolean encrypted = delegate.isEncryptionEnabled(channel);
+        if (!layout.isSecured()) {
+            return encodeUnsecured(layout, channel, messageType, messageBuffer, requestId);
+        }
 
-        int securityHeaderSize = delegate.getSecurityHeaderSize(channel);
-        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
-        int plainTextBlockSize = delegate.getPlainTextBlockSize(channel);
-        int signatureSize = delegate.getSignatureSize(channel);
+        List<ByteBuf> chunks = Lists.newArrayList();
 
-        int maxChunkSize = parameters.getLocalSendBufferSize();
-        int headerSizes = SecureMessageHeaderSize + securityHeaderSize;
-        int paddingOverhead = encrypted ? (cipherTextBlockSize > 256 ? 2 : 1) : 0;
+        int chunkCount = layout.getChunkCount(messageBuffer.readableBytes());
 
-        int maxBlockCount = (maxChunkSize - headerSizes - signatureSize - paddingOverhead) / cipherTextBlockSize;
-        int maxBodySize = (plainTextBlockSize * maxBlockCount - SequenceHeaderSize);
+        boolean parallel = delegate == symmetricDelegate &&
+                parallelChunkThreshold > 0 &&
+                chunkCount >= parallelChunkThreshold;
 
         while (messageBuffer.readableBytes() > 0) {
-            int bodySize = Math.min(messageBuffer.readableBytes(), maxBodySize);
+            int bodySize = Math.min(messageBuffer.readableBytes(), layout.getMaxBodySize());
+            int paddingSize = layout.getPaddingSize(bodySize);
+            int chunkSize = layout.getChunkSize(bodySize);
 
-            int paddingSize = encrypted ?
-                    plainTextBlockSize - (SequenceHeaderSize + bodySize + signatureSize + paddingOverhead) % plainTextBlockSize : 0;
+            ByteBuf chunkBuffer = BufferUtil.buffer(chunkSize);
 
-            int plainTextContentSize = SequenceHeaderSize + bodySize + signatureSize + paddingSize + paddingOverhead;
+            writeHeaders(layout, channel, messageType, messageBuffer.readableBytes() > bodySize ? 'C' : 'F',
+                    chunkSize, requestId, chunkBuffer);
 
-            assert (plainTextContentSize % plainTextBlockSize == 0);
+            /* Message Body */
+            chunkBuffer.writeBytes(messageBuffer, bodySize);
 
-            int chunkSize = SecureMessageHeaderSize + securityHeaderSize +
-                    (plainTextContentSize / plainTextBlockSize) * cipherTextBlockSize;
+            /* Padding */
+            if (layout.isEncrypted()) {
+                writePadding(layout.getCipherTextBlockSize(), paddingSize, chunkBuffer);
+            }
 
-            ByteBuf chunkBuffer = BufferUtil.buffer(chunkSize);
+            /* Signature and Encryption */
+            if (!parallel) {
+                secureChunk(delegate, channel, layout, chunkBuffer, null);
+            }
 
-            /* Message Header */
-            SecureMessageHeader messageHeader = new SecureMessageHeader(
-                    messageType,
-                    messageBuffer.readableBytes() > bodySize ? 'C' : 'F',
-                    chunkSize,
-                    channel.getChannelId()
-            );
+            chunks.add(chunkBuffer);
+        }
 
-            SecureMessageHeader.encode(messageHeader, chunkBuffer);
+        if (parallel) {
+            secureChunksInParallel(delegate, channel, layout, chunks,
+                    ((SymmetricDelegate) delegate).cryptoContext);
+        }
 
-            /* Security Header */
-            delegate.encodeSecurityHeader(channel, chunkBuffer);
+        return chunks;
+    }
 
-            /* Sequence Header */
-            SequenceHeader sequenceHeader = new SequenceHeader(
-                    sequenceNumber.getAndIncrement(),
-                    requestId
-            );
+    /**
+     * Encode a message for a channel whose chunks are neither signed nor encrypted: each chunk is its headers followed
+     * by a slice of {@code messageBuffer}, so the message body is not copied.
+     */
+    private List<ByteBuf> encodeUnsecured(ChunkLayout layout,
+                                          SecureChannel channel,
+                                          MessageType messageType,
+                                          ByteBuf messageBuffer,
+                                          long requestId) throws UaException {
 
-            SequenceHeader.encode(sequenceHeader, chunkBuffer);
+        List<ByteBuf> chunks = Lists.newArrayList();
 
-            /* Message Body */
-            chunkBuffer.writeBytes(messageBuffer, bodySize);
+        int headerSize = layout.getEncryptStart() + SequenceHeaderSize;
 
-            /* Padding and Signature */
-            if (encrypted) {
-                writePadding(cipherTextBlockSize, paddingSize, chunkBuffer);
-            }
+        while (messageBuffer.readableBytes() > 0) {
+            int bodySize = Math.min(messageBuffer.readableBytes(), layout.getMaxBodySize());
+            int chunkSize = headerSize + bodySize;
 
-            if (delegate.isSigningEnabled(channel)) {
-                ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
+            ByteBuf headerBuffer = BufferUtil.buffer(headerSize);
 
-                byte[] signature = delegate.signChunk(channel, chunkNioBuffer);
+            writeHeaders(layout, channel, messageType, messageBuffer.readableBytes() > bodySize ? 'C' : 'F',
+                    chunkSize, requestId, headerBuffer);
 
-                chunkBuffer.writeBytes(signature);
-            }
+            ByteBuf bodyBuffer = messageBuffer.readSlice(bodySize).retain();
 
-            /* Encryption */
-            if (encrypted) {
-                chunkBuffer.readerIndex(SecureMessageHeaderSize + securityHeaderSize);
+            CompositeByteBuf chunkBuffer = BufferUtil.compositeBuffer();
+            chunkBuffer.addComponent(headerBuffer);
+            chunkBuffer.addComponent(bodyBuffer);
+            chunkBuffer.writerIndex(chunkSize);
 
-                assert (chunkBuffer.readableBytes() % plainTextBlockSize == 0);
+            chunks.add(chunkBuffer.order(ByteOrder.LITTLE_ENDIAN));
+        }
 
-                try {
-                    int blockCount = chunkBuffer.readableBytes() / plainTextBlockSize;
+        return chunks;
+    }
 
-                    ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(chunkBuffer.readerIndex(), blockCount * cipherTextBlockSize);
-                    ByteBuf copyBuffer = chunkBuffer.copy();
-                    ByteBuffer plainTextNioBuffer = copyBuffer.nioBuffer();
+    private void writeHeaders(ChunkLayout layout,
+                              SecureChannel channel,
+                              MessageType messageType,
+                              char chunkType,
+                              int chunkSize,
+                              long requestId,
+                              ByteBuf chunkBuffer) throws UaException {
+
+        /* Message Header */
+        SecureMessageHeader messageHeader = new SecureMessageHeader(
+                messageType,
+                chunkType,
+                chunkSize,
+                channel.getChannelId()
+        );
+
+        SecureMessageHeader.encode(messageHeader, chunkBuffer);
+
+        /* Security Header */
+        chunkBuffer.writeBytes(layout.getSecurityHeaderBytes());
+
+        /* Sequence Header */
+        SequenceHeader sequenceHeader = new SequenceHeader(
+                sequenceNumber.getAndIncrement(),
+                requestId
+        );
+
+        SequenceHeader.encode(sequenceHeader, chunkBuffer);
+    }
+
+    /**
+     * Sign and encrypt all but the last chunk on {@link Stack#sharedForkJoinPool()}, each with its own
+     * {@link SymmetricCryptoContext.Crypto}, while the last chunk is secured on this thread with the delegate's
+     * current context. The chunks stay in sequence order; only the cryptographic work is done out of order.
+     */
+    private void secureChunksInParallel(Delegate delegate,
+                                        SecureChannel channel,
+                                        ChunkLayout layout,
+                                        List<ByteBuf> chunks,
+                                        SymmetricCryptoContext cryptoContext) throws UaException {
 
-                    Cipher cipher = delegate.getAndInitializeCipher(channel);
+        ForkJoinPool pool = Stack.sharedForkJoinPool();
 
-                    if (delegate instanceof AsymmetricDelegate) {
-                        for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
-                            int position = blockNumber * plainTextBlockSize;
-                            int limit = (blockNumber + 1) * plainTextBlockSize;
-                            plainTextNioBuffer.position(position).limit(limit);
+        List<ForkJoinTask<UaException>> tasks = new ArrayList<>(chunks.size() - 1);
 
-                            int bytesWritten = cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
+        for (int i = 0; i < chunks.size() - 1; i++) {
+            ByteBuf chunkBuffer = chunks.get(i);
 
-                            assert (bytesWritten == cipherTextBlockSize);
-                        }
-                    } else {
-                        cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
+            // Failures are returned rather than thrown so the UaException reaches this thread unwrapped.
+            tasks.add(pool.submit(() -> {
+                try {
+                    SymmetricCryptoContext.Crypto crypto = cryptoContext.acquireSender();
+                    try {
+                        secureChunk(delegate, channel, layout, chunkBuffer, crypto);
+                    } finally {
+                        cryptoContext.release(crypto);
                     }
+                    return null;
+                } catch (UaException e) {
+                    return e;
+                }
+            }));
+        }
+
+        UaException failure = null;
 
-                    copyBuffer.release();
-                } catch (GeneralSecurityException e) {
-                    throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+        try {
+            secureChunk(delegate, channel, layout, chunks.get(chunks.size() - 1), null);
+        } catch (UaException e) {
+            failure = e;
+        }
+
+        for (ForkJoinTask<UaException> task : tasks) {
+            try {
+                UaException e = task.get();
+
+                if (failure == null) failure = e;
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = new UaException(StatusCodes.Bad_InternalError, e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                if (failure == null) {
+                    failure = new UaException(StatusCodes.Bad_InternalError, e);
                 }
             }
+        }
 
-            chunkBuffer.readerIndex(0).writerIndex(chunkSize);
+        if (failure != null) {
+            chunks.forEach(ReferenceCountUtil::safeRelease);
+            throw failure;
+        }
+    }
 
-            chunks.add(chunkBuffer);
+    /**
+     * Sign and encrypt a chunk whose headers, body, and padding have been written.
+     *
+     * @param crypto the {@link SymmetricCryptoContext.Crypto} to use, or {@code null} to use the delegate.
+     */
+    private void secureChunk(Delegate delegate,
+                             SecureChannel channel,
+                             ChunkLayout layout,
+                             ByteBuf chunkBuffer,
+                             SymmetricCryptoContext.Crypto crypto) throws UaException {
+
+        if (layout.isSigned()) {
+            ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
+
+            byte[] signature = crypto != null ?
+                    SignatureUtil.hmac(crypto.getMac(), chunkNioBuffer) :
+                    delegate.signChunk(channel, chunkNioBuffer);
+
+            chunkBuffer.writeBytes(signature);
         }
 
-        return chunks;
+        int chunkSize = chunkBuffer.writerIndex();
+
+        if (layout.isEncrypted()) {
+            int plainTextBlockSize = layout.getPlainTextBlockSize();
+            int cipherTextBlockSize = layout.getCipherTextBlockSize();
+
+            int encryptStart = layout.getEncryptStart();
+            int plainTextSize = chunkBuffer.writerIndex() - encryptStart;
+
+            assert (plainTextSize % plainTextBlockSize == 0);
+
+            int blockCount = plainTextSize / plainTextBlockSize;
+
+            chunkSize = encryptStart + blockCount * cipherTextBlockSize;
+
+            try {
+                Cipher cipher = crypto != null ? crypto.getCipher() : delegate.getAndInitializeCipher(channel);
+
+                if (delegate instanceof AsymmetricDelegate) {
+                    /*
+                     * Cipher text blocks are larger than plain text blocks, so encrypt back-to-front: each block's
+                     * cipher text then only overwrites plain text that has already been encrypted.
+                     */
+                    for (int blockNumber = blockCount - 1; blockNumber >= 0; blockNumber--) {
+                        ByteBuffer plainTextNioBuffer = chunkBuffer.nioBuffer(
+                                encryptStart + blockNumber * plainTextBlockSize, plainTextBlockSize);
+                        ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(
+                                encryptStart + blockNumber * cipherTextBlockSize, cipherTextBlockSize);
+
+                        int bytesWritten = cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
+
+                        assert (bytesWritten == cipherTextBlockSize);
+                    }
+                } else {
+                    ByteBuffer plainTextNioBuffer = chunkBuffer.nioBuffer(encryptStart, plainTextSize);
+                    ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(encryptStart, plainTextSize);
+
+                    cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
+                }
+            } catch (GeneralSecurityException e) {
+                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+            }
+        }
+
+        chunkBuffer.readerIndex(0).writerIndex(chunkSize);
     }
 
     private void writePadding(int cipherTextBlockSize, int paddingSize, ByteBuf buffer) {
@@ -191,177 +376,321 @@ public class ChunkEncoder implements HeaderConstants {
         }
     }
 
-    private static interface Delegate {
-        byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException;
+    /**
+     * The chunks of one message, filled by a {@link BinaryEncoder} through the {@link BinaryEncoderSink} interface.
+     * <p>
+     * Each chunk buffer starts out with room reserved for its headers and the encoder writes the body after it. Once
+     * the body spills past one chunk, the excess is moved into the next chunk buffer, and the full chunk gets its
+     * headers, padding, and signature in place, is encrypted, and is handed on. The last chunk is sent by
+     * {@link #finish()}.
+     */
+    public final class ChunkStream implements BinaryEncoderSink {
+
+        private final Delegate delegate;
+        private final SecureChannel channel;
+        private final MessageType messageType;
+        private final ChunkLayout layout;
+        private final long requestId;
+        private final Consumer<ByteBuf> chunkConsumer;
+
+        private final int headerSize;
+        private final int bodyLimit;
+
+        private ByteBuf buffer;
+        private int chunkCount;
+
+        private ChunkStream(Delegate delegate,
+                            SecureChannel channel,
+                            MessageType messageType,
+                            ChunkLayout layout,
+                            long requestId,
+                            Consumer<ByteBuf> chunkConsumer) {
+
+            this.delegate = delegate;
+            this.channel = channel;
+            this.messageType = messageType;
+            this.layout = layout;
+            this.requestId = requestId;
+            this.chunkConsumer = chunkConsumer;
+
+            headerSize = layout.getEncryptStart() + SequenceHeaderSize;
+            bodyLimit = headerSize + layout.getMaxBodySize();
+
+            buffer = newChunkBuffer();
+        }
 
-        void encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) throws UaException;
+        /**
+         * @return the buffer to start encoding the message into.
+         */
+        public ByteBuf buffer() {
+            return buffer;
+        }
 
-        Cipher getAndInitializeCipher(SecureChannel channel) throws UaException;
+        /**
+         * @return the number of chunks handed on so far.
+         */
+        public int getChunkCount() {
+            return chunkCount;
+        }
 
-        int getSecurityHeaderSize(SecureChannel channel) throws UaException;
+        @Override
+        public ByteBuf flush() throws UaSerializationException {
+            try {
+                sendFullChunks();
+            } catch (UaException e) {
+                throw new UaSerializationException(e.getStatusCode().getValue(), e);
+            }
 
-        int getCipherTextBlockSize(SecureChannel channel);
+            return buffer;
+        }
 
-        int getPlainTextBlockSize(SecureChannel channel);
+        /**
+         * @return the room left in the current chunk's body, or 1 if it is full, so that bytes written up to this
+         * limit stay in the chunk buffer they are sent in.
+         */
+        @Override
+        public int writableBytes() {
+            return Math.max(bodyLimit - buffer.writerIndex(), 1);
+        }
 
-        int getSignatureSize(SecureChannel channel);
+        /**
+         * Send what remains of the message as its final chunk.
+         */
+        public void finish() throws UaException {
+            sendFullChunks();
 
-        boolean isEncryptionEnabled(SecureChannel channel);
+            ByteBuf chunkBuffer = buffer;
+            buffer = null;
 
-        boolean isSigningEnabled(SecureChannel channel);
+            send(chunkBuffer, 'F');
+        }
 
-    }
+        /**
+         * Abandon the message. If any of its chunks have been handed on, an abort chunk carrying {@code statusCode}
+         * and {@code reason} follows them so the receiver discards the message.
+         */
+        public void abort(long statusCode, String reason) throws UaException {
+            if (buffer != null) {
+                buffer.release();
+                buffer = null;
+            }
 
-    private static class AsymmetricDelegate implements Delegate {
+            if (chunkCount == 0) return;
 
-        @Override
-        public byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException {
-            return SignatureUtil.sign(
-                    channel.getSecurityPolicy().getAsymmetricSignatureAlgorithm(),
-                    channel.getKeyPair().getPrivate(),
-                    chunkNioBuffer
-            );
-        }
+            ByteBuf chunkBuffer = newChunkBuffer();
 
-        @Override
-        public Cipher getAndInitializeCipher(SecureChannel channel) throws UaException {
-            Certificate remoteCertificate = channel.getRemoteCertificate();
+            chunkBuffer.writeInt((int) statusCode);
 
-            assert (remoteCertificate != null);
+            if (reason == null) {
+                chunkBuffer.writeInt(-1);
+            } else {
+                byte[] reasonBytes = reason.getBytes(StandardCharsets.UTF_8);
+                int length = Math.min(reasonBytes.length, layout.getMaxBodySize() - 8);
 
-            try {
-                String transformation = channel.getSecurityPolicy().getAsymmetricEncryptionAlgorithm().getTransformation();
-                Cipher cipher = Cipher.getInstance(transformation);
-                cipher.init(Cipher.ENCRYPT_MODE, remoteCertificate.getPublicKey());
-                return cipher;
-            } catch (GeneralSecurityException e) {
-                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+                chunkBuffer.writeInt(length);
+                chunkBuffer.writeBytes(reasonBytes, 0, length);
             }
+
+            send(chunkBuffer, 'A');
         }
 
-        @Override
-        public void encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) throws UaException {
-            AsymmetricSecurityHeader header = new AsymmetricSecurityHeader(
-                    channel.getSecurityPolicy().getSecurityPolicyUri(),
-                    channel.getLocalCertificateBytes(),
-                    channel.getRemoteCertificateThumbprint()
-            );
+        /**
+         * Send every full chunk in {@link #buffer}. A chunk is only sent once the body has spilled past it, so the
+         * final chunk is never empty.
+         */
+        private void sendFullChunks() throws UaException {
+            ByteBuf fullBuffer = buffer;
+            int writerIndex = fullBuffer.writerIndex();
+
+            if (writerIndex <= bodyLimit) return;
+
+            int maxBodySize = layout.getMaxBodySize();
+
+            // Move everything past the first chunk's body out before padding and signature overwrite it. Whole
+            // chunks go straight into their own buffers. ByteString and XmlElement values are written in pieces no
+            // larger than writableBytes(), so usually only a few bytes spill past the body and are copied again.
+            List<ByteBuf> chunkBuffers = Lists.newArrayList(fullBuffer);
+            int index = bodyLimit;
+
+            while (writerIndex - index > maxBodySize) {
+                ByteBuf chunkBuffer = newChunkBuffer();
+                chunkBuffer.writeBytes(fullBuffer, index, maxBodySize);
+                chunkBuffers.add(chunkBuffer);
+                index += maxBodySize;
+            }
 
-            AsymmetricSecurityHeader.encode(header, buffer);
-        }
+            buffer = newChunkBuffer();
+            buffer.writeBytes(fullBuffer, index, writerIndex - index);
 
-        @Override
-        public int getSecurityHeaderSize(SecureChannel channel) throws UaException {
-            String securityPolicyUri = channel.getSecurityPolicy().getSecurityPolicyUri();
-            byte[] localCertificateBytes = channel.getLocalCertificateBytes().bytes();
-            byte[] remoteCertificateThumbprint = channel.getRemoteCertificateThumbprint().bytes();
-
-            return 12 + securityPolicyUri.length() +
-                    (localCertificateBytes != null ? localCertificateBytes.length : 0) +
-                    (remoteCertificateThumbprint != null ? remoteCertificateThumbprint.length : 0);
-        }
+            fullBuffer.writerIndex(bodyLimit);
 
-        @Override
-        public int getCipherTextBlockSize(SecureChannel channel) {
-            return channel.getRemoteAsymmetricCipherTextBlockSize();
-        }
+            UaException failure = null;
 
-        @Override
-        public int getPlainTextBlockSize(SecureChannel channel) {
-            return channel.getRemoteAsymmetricPlainTextBlockSize();
-        }
+            for (ByteBuf chunkBuffer : chunkBuffers) {
+                if (failure == null) {
+                    try {
+                        send(chunkBuffer, 'C');
+                    } catch (UaException e) {
+                        failure = e;
+                    }
+                } else {
+                    chunkBuffer.release();
+                }
+            }
 
-        @Override
-        public int getSignatureSize(SecureChannel channel) {
-            return channel.getLocalAsymmetricSignatureSize();
+            if (failure != null) throw failure;
         }
 
-        @Override
-        public boolean isEncryptionEnabled(SecureChannel channel) {
-            return channel.isAsymmetricEncryptionEnabled();
+        /**
+         * Write the headers into the space reserved for them, pad, sign, and encrypt {@code chunkBuffer}, then hand
+         * it to the consumer. {@code chunkBuffer} is released if it cannot be secured.
+         */
+        private void send(ByteBuf chunkBuffer, char chunkType) throws UaException {
+            int bodyEnd = chunkBuffer.writerIndex();
+            int bodySize = bodyEnd - headerSize;
+
+            try {
+                chunkBuffer.writerIndex(0);
+                writeHeaders(layout, channel, messageType, chunkType, layout.getChunkSize(bodySize),
+                        requestId, chunkBuffer);
+                chunkBuffer.writerIndex(bodyEnd);
+
+                if (layout.isEncrypted()) {
+                    writePadding(layout.getCipherTextBlockSize(), layout.getPaddingSize(bodySize), chunkBuffer);
+                }
+
+                if (layout.isSecured()) {
+                    secureChunk(delegate, channel, layout, chunkBuffer, null);
+                }
+            } catch (UaException e) {
+                chunkBuffer.release();
+                throw e;
+            }
+
+            chunkCount++;
+            chunkConsumer.accept(chunkBuffer);
         }
 
-        @Override
-        public boolean isSigningEnabled(SecureChannel channel) {
-            return channel.isAsymmetricSigningEnabled();
+        private ByteBuf newChunkBuffer() {
+            ByteBuf chunkBuffer = BufferUtil.buffer(layout.getChunkSize(layout.getMaxBodySize()));
+
+            return chunkBuffer.writerIndex(headerSize);
         }
 
     }
 
-    private static class SymmetricDelegate implements Delegate {
+    private static interface Delegate {
+        /**
+         * @return the {@link ChunkLayout} for the next message on {@code channel}, computed only when the channel's
+         * security token or certificates have changed since the last message.
+         */
+        ChunkLayout getLayout(SecureChannel channel, int maxChunkSize) throws UaException;
 
-        private volatile ChannelSecurity.SecuritySecrets securitySecrets;
+        byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException;
+
+        Cipher getAndInitializeCipher(SecureChannel channel) throws UaException;
+
+    }
+
+    private static class AsymmetricDelegate implements Delegate {
+
+        private volatile CachedLayout<AsymmetricSecurityMaterial> cachedLayout;
 
         @Override
-        public void encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) {
-            ChannelSecurity channelSecurity = channel.getChannelSecurity();
-            long tokenId = channelSecurity != null ? channelSecurity.getCurrentToken().getTokenId().longValue() : 0L;
+        public ChunkLayout getLayout(SecureChannel channel, int maxChunkSize) throws UaException {
+            AsymmetricSecurityMaterial material = channel.getAsymmetricSecurityMaterial();
+            CachedLayout<AsymmetricSecurityMaterial> cached = cachedLayout;
 
-            SymmetricSecurityHeader.encode(new SymmetricSecurityHeader(tokenId), buffer);
+            if (cached == null || cached.key != material) {
+                cached = new CachedLayout<>(material, ChunkLayout.asymmetric(channel, maxChunkSize));
+                cachedLayout = cached;
+            }
 
-            securitySecrets = channelSecurity != null ? channelSecurity.getCurrentKeys() : null;
+            return cached.layout;
         }
 
         @Override
         public byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException {
-            SecurityAlgorithm signatureAlgorithm = channel.getSecurityPolicy().getSymmetricSignatureAlgorithm();
-            byte[] signatureKey = channel.getEncryptionKeys(securitySecrets).getSignatureKey();
-
-            return SignatureUtil.hmac(
-                    signatureAlgorithm,
-                    signatureKey,
+            return SignatureUtil.sign(
+                    channel.getSecurityPolicy(),
+                    channel.getSecurityPolicy().getAsymmetricSignatureAlgorithm(),
+                    channel.getKeyPair().getPrivate(),
                     chunkNioBuffer
             );
         }
 
         @Override
         public Cipher getAndInitializeCipher(SecureChannel channel) throws UaException {
-            try {
-                String transformation = channel.getSecurityPolicy().getSymmetricEncryptionAlgorithm().getTransformation();
-                ChannelSecurity.SecretKeys secretKeys = channel.getEncryptionKeys(securitySecrets);
-
-                SecretKeySpec keySpec = new SecretKeySpec(secretKeys.getEncryptionKey(), "AES");
-                IvParameterSpec ivSpec = new IvParameterSpec(secretKeys.getInitializationVector());
-
-                Cipher cipher = Cipher.getInstance(transformation);
-                cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivSpec);
+            Certificate remoteCertificate = channel.getRemoteCertificate();
 
-                assert (cipher.getBlockSize() == channel.getSymmetricCipherTextBlockSize());
+            assert (remoteCertificate != null);
 
+            try {
+                SecurityPolicy securityPolicy = channel.getSecurityPolicy();
+                Cipher cipher = CryptoProviders.getCipher(
+                        securityPolicy, securityPolicy.getAsymmetricEncryptionAlgorithm());
+                cipher.init(Cipher.ENCRYPT_MODE, remoteCertificate.getPublicKey());
                 return cipher;
             } catch (GeneralSecurityException e) {
                 throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
             }
         }
 
-        @Override
-        public int getSecurityHeaderSize(SecureChannel channel) {
-            return SymmetricSecurityHeaderSize;
-        }
+    }
 
-        @Override
-        public int getCipherTextBlockSize(SecureChannel channel) {
-            return channel.getSymmetricCipherTextBlockSize();
-        }
+    private static class SymmetricDelegate implements Delegate {
+
+        private volatile SymmetricCryptoContext cryptoContext;
+
+        private volatile CachedLayout<SymmetricCryptoContext> cachedLayout;
 
         @Override
-        public int getPlainTextBlockSize(SecureChannel channel) {
-            return channel.getSymmetricPlainTextBlockSize();
+        public ChunkLayout getLayout(SecureChannel channel, int maxChunkSize) throws UaException {
+            ChannelSecurity channelSecurity = channel.getChannelSecurity();
+            long tokenId = channelSecurity != null ? channelSecurity.getCurrentToken().getTokenId().longValue() : 0L;
+
+            SymmetricCryptoContext context = channelSecurity != null ? channel.getSymmetricCryptoContext(tokenId) : null;
+            cryptoContext = context;
+
+            if (context == null) {
+                return ChunkLayout.symmetric(channel, tokenId, maxChunkSize);
+            }
+
+            // A SymmetricCryptoContext exists once per token, so it identifies the token the layout belongs to.
+            CachedLayout<SymmetricCryptoContext> cached = cachedLayout;
+
+            if (cached == null || cached.key != context) {
+                cached = new CachedLayout<>(context, ChunkLayout.symmetric(channel, tokenId, maxChunkSize));
+                cachedLayout = cached;
+            }
+
+            return cached.layout;
         }
 
         @Override
-        public int getSignatureSize(SecureChannel channel) {
-            return channel.getSymmetricSignatureSize();
+        public byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException {
+            return SignatureUtil.hmac(cryptoContext.getSignatureMac(), chunkNioBuffer);
         }
 
         @Override
-        public boolean isEncryptionEnabled(SecureChannel channel) {
-            return channel.isSymmetricEncryptionEnabled();
+        public Cipher getAndInitializeCipher(SecureChannel channel) throws UaException {
+            Cipher cipher = cryptoContext.getEncryptionCipher();
+
+            assert (cipher.getBlockSize() == channel.getSymmetricCipherTextBlockSize());
+
+            return cipher;
         }
 
-        @Override
-        public boolean isSigningEnabled(SecureChannel channel) {
-            return channel.isSymmetricSigningEnabled();
+    }
+
+    private static final class CachedLayout<K> {
+
+        private final K key;
+        private final ChunkLayout layout;
+
+        private CachedLayout(K key, ChunkLayout layout) {
+            this.key = key;
+            this.layout = layout;
         }
 
     }
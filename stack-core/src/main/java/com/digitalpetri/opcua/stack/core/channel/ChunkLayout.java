@@ -0,0 +1,194 @@
+package com.digitalpetri.opcua.stack.core.channel;
+
+import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.channel.headers.HeaderConstants;
+import com.digitalpetri.opcua.stack.core.channel.headers.SymmetricSecurityHeader;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * How the messages sent under one set of security parameters are split into chunks: the encoded security header,
+ * the block and signature sizes, and the resulting maximum body size per chunk.
+ * <p>
+ * A symmetric layout depends only on the security token and an asymmetric layout only on the
+ * {@link AsymmetricSecurityMaterial}, so a {@link ChunkEncoder} computes each once and reuses it for every message
+ * until the token or the certificates change.
+ */
+public final class ChunkLayout implements HeaderConstants {
+
+    private final byte[] securityHeaderBytes;
+
+    private final boolean signed;
+    private final boolean encrypted;
+
+    private final int cipherTextBlockSize;
+    private final int plainTextBlockSize;
+    private final int signatureSize;
+    private final int paddingOverhead;
+    private final int maxBodySize;
+
+    /**
+     * @param securityHeaderBytes the encoded security header written to every chunk.
+     * @param signed              {@code true} if chunks are signed.
+     * @param encrypted           {@code true} if chunks are encrypted.
+     * @param cipherTextBlockSize the cipher text block size, or 1 if chunks are not encrypted.
+     * @param plainTextBlockSize  the plain text block size, or 1 if chunks are not encrypted.
+     * @param signatureSize       the signature size, or 0 if chunks are not signed.
+     * @param maxChunkSize        the maximum size of a chunk, including all headers.
+     */
+    public ChunkLayout(byte[] securityHeaderBytes,
+                       boolean signed,
+                       boolean encrypted,
+                       int cipherTextBlockSize,
+                       int plainTextBlockSize,
+                       int signatureSize,
+                       int maxChunkSize) {
+
+        this.securityHeaderBytes = securityHeaderBytes;
+        this.signed = signed;
+        this.encrypted = encrypted;
+        this.cipherTextBlockSize = cipherTextBlockSize;
+        this.plainTextBlockSize = plainTextBlockSize;
+        this.signatureSize = signatureSize;
+
+        int headerSizes = SecureMessageHeaderSize + securityHeaderBytes.length;
+
+        paddingOverhead = encrypted ? (cipherTextBlockSize > 256 ? 2 : 1) : 0;
+
+        int maxBlockCount = (maxChunkSize - headerSizes - signatureSize - paddingOverhead) / cipherTextBlockSize;
+
+        maxBodySize = (plainTextBlockSize * maxBlockCount - SequenceHeaderSize);
+    }
+
+    /**
+     * @return the {@link ChunkLayout} for symmetric chunks sent on {@code channel} under the token {@code tokenId}.
+     */
+    public static ChunkLayout symmetric(SecureChannel channel, long tokenId, int maxChunkSize) {
+        ByteBuf buffer = BufferUtil.buffer(SymmetricSecurityHeaderSize);
+
+        byte[] securityHeaderBytes = new byte[SymmetricSecurityHeaderSize];
+
+        try {
+            SymmetricSecurityHeader.encode(new SymmetricSecurityHeader(tokenId), buffer);
+            buffer.readBytes(securityHeaderBytes);
+        } finally {
+            buffer.release();
+        }
+
+        return new ChunkLayout(
+                securityHeaderBytes,
+                channel.isSymmetricSigningEnabled(),
+                channel.isSymmetricEncryptionEnabled(),
+                channel.getSymmetricCipherTextBlockSize(),
+                channel.getSymmetricPlainTextBlockSize(),
+                channel.getSymmetricSignatureSize(),
+                maxChunkSize
+        );
+    }
+
+    /**
+     * @return the {@link ChunkLayout} for asymmetric chunks sent on {@code channel} with its current
+     * {@link AsymmetricSecurityMaterial}.
+     * @throws UaException if the security header cannot be encoded.
+     */
+    public static ChunkLayout asymmetric(SecureChannel channel, int maxChunkSize) throws UaException {
+        return new ChunkLayout(
+                channel.getAsymmetricSecurityMaterial().getSecurityHeaderBytes(),
+                channel.isAsymmetricSigningEnabled(),
+                channel.isAsymmetricEncryptionEnabled(),
+                channel.getRemoteAsymmetricCipherTextBlockSize(),
+                channel.getRemoteAsymmetricPlainTextBlockSize(),
+                channel.getLocalAsymmetricSignatureSize(),
+                maxChunkSize
+        );
+    }
+
+    /**
+     * @return the encoded security header. Callers must not modify the returned array.
+     */
+    public byte[] getSecurityHeaderBytes() {
+        return securityHeaderBytes;
+    }
+
+    public int getSecurityHeaderSize() {
+        return securityHeaderBytes.length;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    public boolean isEncrypted() {
+        return encrypted;
+    }
+
+    /**
+     * @return {@code true} if chunks are signed, encrypted, or both.
+     */
+    public boolean isSecured() {
+        return signed || encrypted;
+    }
+
+    public int getCipherTextBlockSize() {
+        return cipherTextBlockSize;
+    }
+
+    public int getPlainTextBlockSize() {
+        return plainTextBlockSize;
+    }
+
+    public int getSignatureSize() {
+        return signatureSize;
+    }
+
+    /**
+     * @return the number of bytes used to encode the padding size: 2 for cipher text blocks larger than 256 bytes, 1
+     * for other encrypted chunks, and 0 if chunks are not encrypted.
+     */
+    public int getPaddingOverhead() {
+        return paddingOverhead;
+    }
+
+    /**
+     * @return the largest number of message body bytes that fit in one chunk.
+     */
+    public int getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    /**
+     * @return the offset in a chunk at which encryption starts: the end of the security header.
+     */
+    public int getEncryptStart() {
+        return SecureMessageHeaderSize + securityHeaderBytes.length;
+    }
+
+    /**
+     * @return the number of chunks a message body of {@code messageSize} bytes is split into.
+     */
+    public int getChunkCount(int messageSize) {
+        return (messageSize + maxBodySize - 1) / maxBodySize;
+    }
+
+    /**
+     * @return the number of padding bytes, not counting the padding size itself, in a chunk carrying
+     * {@code bodySize} bytes of message body.
+     */
+    public int getPaddingSize(int bodySize) {
+        return encrypted ?
+                plainTextBlockSize - (SequenceHeaderSize + bodySize + signatureSize + paddingOverhead) % plainTextBlockSize : 0;
+    }
+
+    /**
+     * @return the size on the wire of a chunk carrying {@code bodySize} bytes of message body.
+     */
+    public int getChunkSize(int bodySize) {
+        int plainTextContentSize = SequenceHeaderSize + bodySize + signatureSize + getPaddingSize(bodySize) + paddingOverhead;
+
+        assert (plainTextContentSize % plainTextBlockSize == 0);
+
+        return SecureMessageHeaderSize + securityHeaderBytes.length +
+                (plainTextContentSize / plainTextBlockSize) * cipherTextBlockSize;
+    }
+
+}
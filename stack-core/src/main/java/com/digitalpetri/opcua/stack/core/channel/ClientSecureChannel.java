@@ -4,6 +4,7 @@ import java.security.KeyPair;
 import java.security.cert.X509Certificate;
 import java.util.List;
 
+import com.digitalpetri.opcua.stack.core.UaException;
 import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
@@ -17,12 +18,15 @@ public class ClientSecureChannel extends DefaultAttributeMap implements SecureCh
     private volatile ByteString localNonce = ByteString.NULL_VALUE;
     private volatile ByteString remoteNonce = ByteString.NULL_VALUE;
 
+    private final SymmetricCryptoContexts cryptoContexts = new SymmetricCryptoContexts(this);
+
     private final KeyPair keyPair;
     private final X509Certificate localCertificate;
     private final X509Certificate remoteCertificate;
     private final List<X509Certificate> remoteCertificateChain;
     private final SecurityPolicy securityPolicy;
     private final MessageSecurityMode messageSecurityMode;
+    private final AsymmetricSecurityMaterial asymmetricSecurityMaterial;
 
     public ClientSecureChannel(SecurityPolicy securityPolicy, MessageSecurityMode messageSecurityMode) {
         this(null, null, null, null, securityPolicy, messageSecurityMode);
@@ -41,6 +45,9 @@ public class ClientSecureChannel extends DefaultAttributeMap implements SecureCh
         this.remoteCertificateChain = remoteCertificateChain;
         this.securityPolicy = securityPolicy;
         this.messageSecurityMode = messageSecurityMode;
+
+        asymmetricSecurityMaterial = new AsymmetricSecurityMaterial(
+                securityPolicy, localCertificate, remoteCertificate);
     }
 
     public void setChannelId(long channelId) {
@@ -104,6 +111,11 @@ public class ClientSecureChannel extends DefaultAttributeMap implements SecureCh
         return remoteCertificateChain;
     }
 
+    @Override
+    public AsymmetricSecurityMaterial getAsymmetricSecurityMaterial() {
+        return asymmetricSecurityMaterial;
+    }
+
     @Override
     public ChannelSecurity getChannelSecurity() {
         return channelSecurity;
@@ -119,6 +131,11 @@ public class ClientSecureChannel extends DefaultAttributeMap implements SecureCh
         return secretKeys.getServerKeys();
     }
 
+    @Override
+    public SymmetricCryptoContext getSymmetricCryptoContext(long tokenId) throws UaException {
+        return cryptoContexts.get(tokenId);
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
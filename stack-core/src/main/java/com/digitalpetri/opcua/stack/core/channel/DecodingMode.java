@@ -0,0 +1,30 @@
+package com.digitalpetri.opcua.stack.core.channel;
+
+/**
+ * How a channel decodes the messages it receives once their chunks have been verified and decrypted.
+ * <p>
+ * Chunks are always verified, decrypted, and checked for their sequence numbers one at a time in the order they were
+ * received. The modes differ in where the message bodies are decoded and in what order the decoded messages are
+ * dispatched.
+ */
+public enum DecodingMode {
+
+    /**
+     * Decode each message right after its last chunk, before the next chunk is processed, and dispatch in the order
+     * received.
+     */
+    SERIAL,
+
+    /**
+     * Decode messages in parallel on {@link com.digitalpetri.opcua.stack.core.Stack#sharedForkJoinPool()} while the
+     * following chunks are processed, and dispatch in the order received.
+     */
+    PARALLEL_ORDERED,
+
+    /**
+     * Decode messages in parallel on {@link com.digitalpetri.opcua.stack.core.Stack#sharedForkJoinPool()} while the
+     * following chunks are processed, and dispatch each as soon as it has been decoded.
+     */
+    PARALLEL_UNORDERED
+
+}
@@ -3,17 +3,14 @@ package com.digitalpetri.opcua.stack.core.channel;
 import java.security.KeyPair;
 import java.security.PublicKey;
 import java.security.cert.Certificate;
-import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.RSAPublicKey;
 import java.util.List;
 
-import com.digitalpetri.opcua.stack.core.StatusCodes;
 import com.digitalpetri.opcua.stack.core.UaException;
 import com.digitalpetri.opcua.stack.core.security.SecurityAlgorithm;
 import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
-import com.digitalpetri.opcua.stack.core.util.DigestUtil;
 import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
 
 public interface SecureChannel {
@@ -38,49 +35,55 @@ public interface SecureChannel {
 
     ChannelSecurity.SecretKeys getDecryptionKeys(ChannelSecurity.SecuritySecrets secretKeys);
 
+    /**
+     * Get the {@link SymmetricCryptoContext} for the current or previous token of this channel's
+     * {@link ChannelSecurity}.
+     *
+     * @param tokenId the security token id.
+     * @return the {@link SymmetricCryptoContext} for {@code tokenId}, or {@code null} if it is neither the current nor
+     * the previous token.
+     * @throws UaException if the Ciphers or Macs could not be initialized.
+     */
+    SymmetricCryptoContext getSymmetricCryptoContext(long tokenId) throws UaException;
+
     ByteString getLocalNonce();
 
     ByteString getRemoteNonce();
 
+    /**
+     * Get the {@link AsymmetricSecurityMaterial} derived from this channel's security policy and certificates.
+     * <p>
+     * Implementations should cache it for as long as the policy and certificates are unchanged; the default
+     * implementation computes it on every call.
+     *
+     * @return the {@link AsymmetricSecurityMaterial} for the current security policy and certificates.
+     */
+    default AsymmetricSecurityMaterial getAsymmetricSecurityMaterial() {
+        return new AsymmetricSecurityMaterial(getSecurityPolicy(), getLocalCertificate(), getRemoteCertificate());
+    }
+
     default ByteString getLocalCertificateBytes() throws UaException {
-        try {
-            return getLocalCertificate() != null ?
-                    ByteString.of(getLocalCertificate().getEncoded()) :
-                    ByteString.NULL_VALUE;
-        } catch (CertificateEncodingException e) {
-            throw new UaException(StatusCodes.Bad_CertificateInvalid, e);
-        }
+        return getAsymmetricSecurityMaterial().getLocalCertificateBytes();
     }
 
     default ByteString getLocalCertificateThumbprint() throws UaException {
-        try {
-            return getLocalCertificate() != null ?
-                    ByteString.of(DigestUtil.sha1(getLocalCertificate().getEncoded())) :
-                    ByteString.NULL_VALUE;
-        } catch (CertificateEncodingException e) {
-            throw new UaException(StatusCodes.Bad_CertificateInvalid, e);
-        }
+        return getAsymmetricSecurityMaterial().getLocalCertificateThumbprint();
     }
 
-
     default ByteString getRemoteCertificateBytes() throws UaException {
-        try {
-            return getRemoteCertificate() != null ?
-                    ByteString.of(getRemoteCertificate().getEncoded()) :
-                    ByteString.NULL_VALUE;
-        } catch (CertificateEncodingException e) {
-            throw new UaException(StatusCodes.Bad_CertificateInvalid, e);
-        }
+        return getAsymmetricSecurityMaterial().getRemoteCertificateBytes();
     }
 
     default ByteString getRemoteCertificateThumbprint() throws UaException {
-        try {
-            return getRemoteCertificate() != null ?
-                    ByteString.of(DigestUtil.sha1(getRemoteCertificate().getEncoded())) :
-                    ByteString.NULL_VALUE;
-        } catch (CertificateEncodingException e) {
-            throw new UaException(StatusCodes.Bad_CertificateInvalid, e);
-        }
+        return getAsymmetricSecurityMaterial().getRemoteCertificateThumbprint();
+    }
+
+    default int getLocalAsymmetricKeyLength() {
+        return getAsymmetricSecurityMaterial().getLocalKeyLength();
+    }
+
+    default int getRemoteAsymmetricKeyLength() {
+        return getAsymmetricSecurityMaterial().getRemoteKeyLength();
     }
 
     default int getLocalAsymmetricCipherTextBlockSize() {
@@ -90,7 +93,7 @@ public interface SecureChannel {
             switch(algorithm) {
                 case Rsa15:
                 case RsaOaep:
-                    return (getAsymmetricKeyLength(getLocalCertificate()) + 1) / 8;
+                    return (getLocalAsymmetricKeyLength() + 1) / 8;
             }
         }
 
@@ -104,7 +107,7 @@ public interface SecureChannel {
             switch(algorithm) {
                 case Rsa15:
                 case RsaOaep:
-                    return (getAsymmetricKeyLength(getRemoteCertificate()) + 1) / 8;
+                    return (getRemoteAsymmetricKeyLength() + 1) / 8;
             }
         }
 
@@ -117,9 +120,9 @@ public interface SecureChannel {
 
             switch(algorithm) {
                 case Rsa15:
-                    return (getAsymmetricKeyLength(getLocalCertificate()) + 1) / 8 - 11;
+                    return (getLocalAsymmetricKeyLength() + 1) / 8 - 11;
                 case RsaOaep:
-                    return (getAsymmetricKeyLength(getLocalCertificate()) + 1) / 8 - 42;
+                    return (getLocalAsymmetricKeyLength() + 1) / 8 - 42;
             }
         }
 
@@ -132,9 +135,9 @@ public interface SecureChannel {
 
             switch(algorithm) {
                 case Rsa15:
-                    return (getAsymmetricKeyLength(getRemoteCertificate()) + 1) / 8 - 11;
+                    return (getRemoteAsymmetricKeyLength() + 1) / 8 - 11;
                 case RsaOaep:
-                    return (getAsymmetricKeyLength(getRemoteCertificate()) + 1) / 8 - 42;
+                    return (getRemoteAsymmetricKeyLength() + 1) / 8 - 42;
             }
         }
 
@@ -147,7 +150,7 @@ public interface SecureChannel {
         switch(algorithm) {
             case RsaSha1:
             case RsaSha256:
-                return (getAsymmetricKeyLength(getLocalCertificate()) + 1) / 8;
+                return (getLocalAsymmetricKeyLength() + 1) / 8;
             default:
                 return 0;
         }
@@ -159,7 +162,7 @@ public interface SecureChannel {
         switch(algorithm) {
             case RsaSha1:
             case RsaSha256:
-                return (getAsymmetricKeyLength(getRemoteCertificate()) + 1) / 8;
+                return (getRemoteAsymmetricKeyLength() + 1) / 8;
             default:
                 return 0;
         }
@@ -1,20 +1,44 @@
 package com.digitalpetri.opcua.stack.core.channel;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
 
+import com.digitalpetri.opcua.stack.core.Stack;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.InterningCache;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.util.ExecutionQueue;
+import io.netty.buffer.ByteBuf;
 import org.slf4j.LoggerFactory;
 
 public class SerializationQueue {
 
     private static final ExecutorService SerializationExecutor;
 
+    /**
+     * Capacity of a message buffer whose size could not be computed; the buffer grows as the message is encoded.
+     */
+    private static final int DefaultMessageBufferCapacity = 256;
+
+    private static final Runnable NoDispose = () -> {
+    };
+
     static {
         ThreadFactory threadFactory = new ThreadFactoryBuilder()
                 .setDaemon(true)
@@ -37,15 +61,66 @@ public class SerializationQueue {
     private final ExecutionQueue decodingQueue;
 
     private final ChannelParameters parameters;
+    private final int parallelChunkThreshold;
+    private final int inlineSerializationThreshold;
+    private final DecodingMode decodingMode;
+    private final boolean primitiveArrays;
+    private final int byteStringSliceThreshold;
+
+    private final int maxArrayLength;
+    private final int maxStringLength;
+
+    /**
+     * Idle decoders for messages decoded in parallel; one is created whenever all of them are in use.
+     */
+    private final ConcurrentLinkedQueue<BinaryDecoder> parallelDecoders = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Completes when the last message passed to {@link #decodeMessage} has been dispatched. Only read and replaced
+     * from decode tasks, which never run concurrently.
+     */
+    private CompletableFuture<Void> dispatched = CompletableFuture.completedFuture(null);
 
     public SerializationQueue(ChannelParameters parameters, int maxArrayLength, int maxStringLength) {
+        this(parameters, ChannelConfig.builder()
+                .setMaxArrayLength(maxArrayLength)
+                .setMaxStringLength(maxStringLength)
+                .build());
+    }
+
+    /**
+     * @param parameters the {@link ChannelParameters} negotiated for the channel.
+     * @param config     the {@link ChannelConfig} the encoders, decoders, and serialization settings are taken from.
+     */
+    public SerializationQueue(ChannelParameters parameters, ChannelConfig config) {
+        this(parameters, config, config.getInterningCacheSize() > 0 ?
+                new InterningCache(config.getInterningCacheSize()) : null);
+    }
+
+    /**
+     * @param parameters     the {@link ChannelParameters} negotiated for the channel.
+     * @param config         the {@link ChannelConfig} the encoders, decoders, and serialization settings are taken
+     *                       from.
+     * @param interningCache the {@link InterningCache} the decoders share with other channels, or {@code null} to
+     *                       disable interning. Takes the place of {@link ChannelConfig#getInterningCacheSize()}.
+     */
+    public SerializationQueue(ChannelParameters parameters, ChannelConfig config, InterningCache interningCache) {
         this.parameters = parameters;
+        this.parallelChunkThreshold = config.getParallelChunkThreshold();
+        this.inlineSerializationThreshold = config.getInlineSerializationThreshold();
+        this.decodingMode = config.getDecodingMode();
+        this.primitiveArrays = config.isPrimitiveArrays();
+        this.byteStringSliceThreshold = config.getByteStringSliceThreshold();
+        this.maxArrayLength = config.getMaxArrayLength();
+        this.maxStringLength = config.getMaxStringLength();
 
         binaryEncoder = new BinaryEncoder(maxArrayLength, maxStringLength);
-        binaryDecoder = new BinaryDecoder(maxArrayLength, maxStringLength);
+        binaryDecoder = new BinaryDecoder(maxArrayLength, maxStringLength)
+                .setPrimitiveArrays(primitiveArrays)
+                .setInterningCache(interningCache);
 
-        chunkEncoder = new ChunkEncoder(parameters);
-        chunkDecoder = new ChunkDecoder(parameters);
+        chunkEncoder = new ChunkEncoder(parameters, parallelChunkThreshold);
+        chunkDecoder = new ChunkDecoder(parameters, parallelChunkThreshold);
 
         encodingQueue = new ExecutionQueue(SerializationExecutor);
         decodingQueue = new ExecutionQueue(SerializationExecutor);
@@ -59,13 +134,268 @@ public class SerializationQueue {
         decodingQueue.submit(() -> consumer.accept(binaryDecoder, chunkDecoder));
     }
 
+    /**
+     * Encode on the calling thread if the message can be serialized inline and no other encode is queued or running;
+     * otherwise queue it like {@link #encode(BiConsumer)}.
+     *
+     * @param securityPolicy the {@link SecurityPolicy} of the channel the message is sent on.
+     * @param messageSize    given a limit, returns the encoded size of the message, or any value greater than the limit
+     *                       if the message is larger. Only called if inline serialization is enabled.
+     * @param consumer       encodes the message.
+     */
+    public void encode(SecurityPolicy securityPolicy,
+                       IntUnaryOperator messageSize,
+                       SizedEncoder consumer) {
+
+        if (inlineSerializationThreshold > 0) {
+            int maxChunkSize = parameters.getRemoteReceiveBufferSize();
+            int limit = securityPolicy == SecurityPolicy.None ?
+                    Math.max(inlineSerializationThreshold, maxChunkSize) : inlineSerializationThreshold;
+
+            int size = encodedSize(messageSize, limit);
+
+            if (isInline(securityPolicy, size, maxChunkSize)) {
+                encodingQueue.executeOrSubmit(() -> consumer.encode(binaryEncoder, chunkEncoder, size));
+                return;
+            }
+        }
+
+        encode((binaryEncoder, chunkEncoder) -> consumer.encode(binaryEncoder, chunkEncoder, -1));
+    }
+
+    /**
+     * Decode on the calling thread if the message can be serialized inline and no other decode is queued or running;
+     * otherwise queue it like {@link #decode(BiConsumer)}.
+     *
+     * @param securityPolicy the {@link SecurityPolicy} of the channel the message was received on.
+     * @param messageSize    the size of the message's chunks, or {@link Integer#MAX_VALUE} if not yet known.
+     * @param consumer       decodes the message.
+     */
+    public void decode(SecurityPolicy securityPolicy,
+                       int messageSize,
+                       BiConsumer<BinaryDecoder, ChunkDecoder> consumer) {
+
+        if (isInline(securityPolicy, messageSize, parameters.getLocalReceiveBufferSize())) {
+            decodingQueue.executeOrSubmit(() -> consumer.accept(binaryDecoder, chunkDecoder));
+        } else {
+            decode(consumer);
+        }
+    }
+
+    /**
+     * Decode a message whose chunks have been verified and decrypted, then dispatch it. Must be called from a decode
+     * task, in the order the messages were received; {@code messageBuffer} is released once it has been decoded.
+     * <p>
+     * With {@link DecodingMode#SERIAL} the message is decoded by this queue's {@link BinaryDecoder} and dispatched
+     * before this returns, and any exception is thrown to the caller. Otherwise the message is decoded on
+     * {@link Stack#sharedForkJoinPool()} with a decoder of its own, so the decode task can go on to the next chunk;
+     * {@code dispatcher} then runs on the thread that finished decoding and {@code onError} is called if decoding
+     * fails.
+     * <p>
+     * {@code dispatcher} also receives a callback that disposes of the message, releasing any ByteStrings decoded as
+     * slices of {@code messageBuffer}; it must be run once the message is no longer used.
+     *
+     * @param messageBuffer the verified and decrypted message body.
+     * @param decoder       decodes the message from the {@link BinaryDecoder} it is given.
+     * @param dispatcher    receives the decoded message and the callback that disposes of it.
+     * @param onError       receives the cause if the message could not be decoded in parallel.
+     */
+    public <T> void decodeMessage(ByteBuf messageBuffer,
+                                  Function<BinaryDecoder, T> decoder,
+                                  BiConsumer<? super T, Runnable> dispatcher,
+                                  Consumer<Throwable> onError) {
+
+        List<ByteString> slices = byteStringSliceThreshold > 0 ? new ArrayList<>() : null;
+        Runnable dispose = slices != null ? () -> slices.forEach(ByteString::release) : NoDispose;
+
+        if (decodingMode == DecodingMode.SERIAL) {
+            T message;
+
+            try {
+                message = decode(binaryDecoder, messageBuffer, decoder, slices);
+            } finally {
+                messageBuffer.release();
+            }
+
+            dispatcher.accept(message, dispose);
+            return;
+        }
+
+        CompletableFuture<T> decoded;
+
+        try {
+            decoded = CompletableFuture.supplyAsync(() -> {
+                BinaryDecoder parallelDecoder = borrowDecoder();
+
+                try {
+                    return decode(parallelDecoder, messageBuffer, decoder, slices);
+                } finally {
+                    messageBuffer.release();
+                    parallelDecoders.offer(parallelDecoder);
+                }
+            }, Stack.sharedForkJoinPool());
+        } catch (RejectedExecutionException e) {
+            messageBuffer.release();
+            onError.accept(e);
+            return;
+        }
+
+        decoded.whenComplete((message, ex) -> {
+            if (ex != null) onError.accept(ex instanceof CompletionException ? ex.getCause() : ex);
+        });
+
+        if (decodingMode == DecodingMode.PARALLEL_ORDERED) {
+            // A message that fails to decode holds back every later one; the channel is closed by onError anyway,
+            // and the messages held back are disposed of without being dispatched.
+            dispatched.whenComplete((v, ex) -> {
+                if (ex != null) decoded.thenRun(dispose);
+            });
+
+            dispatched = dispatched.thenAcceptBoth(decoded, (v, message) -> dispatcher.accept(message, dispose));
+        } else {
+            decoded.thenAccept(message -> dispatcher.accept(message, dispose));
+        }
+    }
+
+    /**
+     * Decode a message, collecting the ByteStrings sliced from {@code messageBuffer} into {@code slices}. They are
+     * released if decoding fails.
+     */
+    private <T> T decode(BinaryDecoder binaryDecoder,
+                         ByteBuf messageBuffer,
+                         Function<BinaryDecoder, T> decoder,
+                         List<ByteString> slices) {
+
+        if (slices != null) {
+            binaryDecoder.setByteStringSliceThreshold(byteStringSliceThreshold).setByteStringSlices(slices);
+        }
+
+        try {
+            return decoder.apply(binaryDecoder.setBuffer(messageBuffer));
+        } catch (RuntimeException | Error e) {
+            if (slices != null) slices.forEach(ByteString::release);
+            throw e;
+        } finally {
+            if (slices != null) {
+                binaryDecoder.setByteStringSliceThreshold(Integer.MAX_VALUE).setByteStringSlices(null);
+            }
+        }
+    }
+
+    private BinaryDecoder borrowDecoder() {
+        BinaryDecoder decoder = parallelDecoders.poll();
+
+        if (decoder == null) {
+            decoder = new BinaryDecoder(maxArrayLength, maxStringLength)
+                    .setPrimitiveArrays(primitiveArrays)
+                    .setInterningCache(binaryDecoder.getInterningCache());
+        }
+
+        return decoder;
+    }
+
+    /**
+     * A message is serialized inline if it is no larger than the threshold, or if it fits in a single chunk on a
+     * channel that neither signs nor encrypts.
+     */
+    private boolean isInline(SecurityPolicy securityPolicy, int messageSize, int maxChunkSize) {
+        return inlineSerializationThreshold > 0 &&
+                (messageSize <= inlineSerializationThreshold ||
+                        (securityPolicy == SecurityPolicy.None && messageSize <= maxChunkSize));
+    }
+
+    /**
+     * @return the encoded size of the message, or {@link Integer#MAX_VALUE} if it is larger than {@code limit} or
+     * cannot be computed, leaving the error to be reported by the encode itself.
+     */
+    private static int encodedSize(IntUnaryOperator messageSize, int limit) {
+        try {
+            int size = messageSize.applyAsInt(limit);
+            return size <= limit ? size : Integer.MAX_VALUE;
+        } catch (UaSerializationException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * @param size           the encoded size of the message if it was already computed, otherwise -1.
+     * @param messageSize    given a limit, returns the encoded size of the message, or any value greater than the limit
+     *                       if the message is larger. Only called if {@code size} is -1.
+     * @return the capacity to allocate the message's buffer with, so it does not have to grow while encoding.
+     */
+    public int messageBufferCapacity(int size, IntUnaryOperator messageSize) {
+        if (size > 0) return size;
+
+        int maxMessageSize = parameters.getRemoteMaxMessageSize();
+        int capacity = encodedSize(messageSize, maxMessageSize > 0 ? maxMessageSize : Integer.MAX_VALUE - 1);
+
+        // Too large to send or not sizeable; either way the encode reports the error.
+        return capacity < Integer.MAX_VALUE ? capacity : DefaultMessageBufferCapacity;
+    }
+
     public void pause() {
         encodingQueue.pause();
         decodingQueue.pause();
     }
 
+    /**
+     * Hold back decodes submitted after the current one until {@link #resumeDecoding()} is called.
+     * <p>
+     * A decode task that calls this may hand its {@link BinaryDecoder} and {@link ChunkDecoder} to another thread,
+     * which must call {@link #resumeDecoding()} once it no longer uses them.
+     */
+    public void pauseDecoding() {
+        decodingQueue.pause();
+    }
+
+    public void resumeDecoding() {
+        decodingQueue.resume();
+    }
+
+    /**
+     * @return the decoder's {@link InterningCache}, if interning is enabled.
+     */
+    public Optional<InterningCache> getInterningCache() {
+        return Optional.ofNullable(binaryDecoder.getInterningCache());
+    }
+
     public ChannelParameters getParameters() {
         return parameters;
     }
 
+    /**
+     * @return the minimum chunk count of a secured message whose chunks are secured in parallel, or 0 if parallel
+     * chunk security is disabled.
+     */
+    public int getParallelChunkThreshold() {
+        return parallelChunkThreshold;
+    }
+
+    /**
+     * @return the size in bytes up to which a message may be serialized on the thread that submits it, or 0 if
+     * inline serialization is disabled.
+     */
+    public int getInlineSerializationThreshold() {
+        return inlineSerializationThreshold;
+    }
+
+    public DecodingMode getDecodingMode() {
+        return decodingMode;
+    }
+
+    /**
+     * Encodes a message whose size may have been computed before it was queued.
+     */
+    @FunctionalInterface
+    public interface SizedEncoder {
+
+        /**
+         * @param binaryEncoder the {@link BinaryEncoder} to encode the message with.
+         * @param chunkEncoder  the {@link ChunkEncoder} to split the encoded message into chunks with.
+         * @param messageSize   the encoded size of the message, or -1 if it was not computed.
+         */
+        void encode(BinaryEncoder binaryEncoder, ChunkEncoder chunkEncoder, int messageSize);
+
+    }
+
 }
@@ -20,6 +20,8 @@ public class ServerSecureChannel extends DefaultAttributeMap implements SecureCh
     private volatile ByteString localNonce = ByteString.NULL_VALUE;
     private volatile ByteString remoteNonce = ByteString.NULL_VALUE;
 
+    private final SymmetricCryptoContexts cryptoContexts = new SymmetricCryptoContexts(this);
+
     private volatile KeyPair keyPair;
     private volatile X509Certificate localCertificate;
 
@@ -30,6 +32,8 @@ public class ServerSecureChannel extends DefaultAttributeMap implements SecureCh
     private volatile MessageSecurityMode messageSecurityMode;
     private volatile EndpointDescription endpointDescription;
 
+    private volatile AsymmetricSecurityMaterial asymmetricSecurityMaterial;
+
     public void setChannelId(long channelId) {
         this.channelId = channelId;
     }
@@ -95,6 +99,26 @@ public class ServerSecureChannel extends DefaultAttributeMap implements SecureCh
         return remoteCertificateChain;
     }
 
+    /**
+     * Get the {@link AsymmetricSecurityMaterial} for the current security policy and certificates, computing it only
+     * the first time it is requested after one of them was set.
+     */
+    @Override
+    public AsymmetricSecurityMaterial getAsymmetricSecurityMaterial() {
+        SecurityPolicy securityPolicy = this.securityPolicy;
+        X509Certificate localCertificate = this.localCertificate;
+        X509Certificate remoteCertificate = this.remoteCertificate;
+
+        AsymmetricSecurityMaterial material = asymmetricSecurityMaterial;
+
+        if (material == null || !material.isFor(securityPolicy, localCertificate, remoteCertificate)) {
+            material = new AsymmetricSecurityMaterial(securityPolicy, localCertificate, remoteCertificate);
+            asymmetricSecurityMaterial = material;
+        }
+
+        return material;
+    }
+
     @Override
     public SecurityPolicy getSecurityPolicy() {
         return securityPolicy;
@@ -125,6 +149,11 @@ public class ServerSecureChannel extends DefaultAttributeMap implements SecureCh
         return secretKeys.getClientKeys();
     }
 
+    @Override
+    public SymmetricCryptoContext getSymmetricCryptoContext(long tokenId) throws UaException {
+        return cryptoContexts.get(tokenId);
+    }
+
     @Override
     public ByteString getLocalNonce() {
         return localNonce;
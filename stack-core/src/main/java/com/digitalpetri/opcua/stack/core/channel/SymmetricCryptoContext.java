@@ -0,0 +1,223 @@
+package com.digitalpetri.opcua.stack.core.channel;
+
+import java.security.GeneralSecurityException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.annotation.Nullable;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.security.CryptoProviders;
+import com.digitalpetri.opcua.stack.core.security.SecurityAlgorithm;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+
+/**
+ * The initialized {@link Cipher}s and {@link Mac}s that secure symmetric chunks under one security token.
+ * <p>
+ * A Cipher or Mac returns to its initialized state after {@code doFinal}, so one instance is reused for every chunk
+ * sent or received under the token. Instances are not thread-safe: the sending side of a channel uses only the
+ * encryption Cipher and signature Mac, the receiving side only the decryption Cipher and verification Mac, and each
+ * side secures one chunk at a time.
+ * <p>
+ * Chunks secured concurrently on other threads use {@link Crypto} instances obtained from {@link #acquireSender()}
+ * or {@link #acquireReceiver()} and handed back with {@link #release(Crypto)}.
+ */
+public class SymmetricCryptoContext {
+
+    private final Queue<Crypto> senders = new ConcurrentLinkedQueue<>();
+    private final Queue<Crypto> receivers = new ConcurrentLinkedQueue<>();
+
+    private final long tokenId;
+
+    private final SecurityPolicy securityPolicy;
+    private final SecurityAlgorithm encryptionAlgorithm;
+    private final SecurityAlgorithm signatureAlgorithm;
+
+    private final ChannelSecurity.SecretKeys encryptionKeys;
+    private final ChannelSecurity.SecretKeys decryptionKeys;
+
+    private final Cipher encryptionCipher;
+    private final Cipher decryptionCipher;
+    private final Mac signatureMac;
+    private final Mac verificationMac;
+
+    /**
+     * @param channel         the {@link SecureChannel} the token belongs to.
+     * @param tokenId         the security token id.
+     * @param securitySecrets the {@link ChannelSecurity.SecuritySecrets} derived for the token; {@code null} if the
+     *                        channel is not secured.
+     */
+    public SymmetricCryptoContext(SecureChannel channel,
+                                  long tokenId,
+                                  @Nullable ChannelSecurity.SecuritySecrets securitySecrets) throws UaException {
+
+        this.tokenId = tokenId;
+
+        securityPolicy = channel.getSecurityPolicy();
+
+        boolean encrypted = securitySecrets != null && channel.isSymmetricEncryptionEnabled();
+        boolean signed = securitySecrets != null && channel.isSymmetricSigningEnabled();
+
+        encryptionAlgorithm = encrypted ? securityPolicy.getSymmetricEncryptionAlgorithm() : null;
+        signatureAlgorithm = signed ? securityPolicy.getSymmetricSignatureAlgorithm() : null;
+
+        encryptionKeys = securitySecrets != null ? channel.getEncryptionKeys(securitySecrets) : null;
+        decryptionKeys = securitySecrets != null ? channel.getDecryptionKeys(securitySecrets) : null;
+
+        try {
+            encryptionCipher = cipher(Cipher.ENCRYPT_MODE, encryptionKeys);
+            decryptionCipher = cipher(Cipher.DECRYPT_MODE, decryptionKeys);
+            signatureMac = mac(encryptionKeys);
+            verificationMac = mac(decryptionKeys);
+        } catch (GeneralSecurityException e) {
+            throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+        }
+    }
+
+    public long getTokenId() {
+        return tokenId;
+    }
+
+    /**
+     * @return the {@link Cipher} that encrypts outgoing chunks, or {@code null} if encryption is not enabled.
+     */
+    @Nullable
+    public Cipher getEncryptionCipher() {
+        return encryptionCipher;
+    }
+
+    /**
+     * @return the {@link Cipher} that decrypts incoming chunks, or {@code null} if encryption is not enabled.
+     */
+    @Nullable
+    public Cipher getDecryptionCipher() {
+        return decryptionCipher;
+    }
+
+    /**
+     * @return the {@link Mac} that signs outgoing chunks, or {@code null} if signing is not enabled.
+     */
+    @Nullable
+    public Mac getSignatureMac() {
+        return signatureMac;
+    }
+
+    /**
+     * @return the {@link Mac} that verifies incoming chunks, or {@code null} if signing is not enabled.
+     */
+    @Nullable
+    public Mac getVerificationMac() {
+        return verificationMac;
+    }
+
+    /**
+     * Get a {@link Crypto} with an encryption Cipher and signature Mac, for securing an outgoing chunk on a thread other
+     * than the channel's encoding thread.
+     *
+     * @return a {@link Crypto} to hand back with {@link #release(Crypto)} once the chunk is secured.
+     * @throws UaException if a new Cipher or Mac could not be initialized.
+     */
+    public Crypto acquireSender() throws UaException {
+        Crypto crypto = senders.poll();
+
+        if (crypto == null) {
+            try {
+                crypto = new Crypto(true, cipher(Cipher.ENCRYPT_MODE, encryptionKeys), mac(encryptionKeys));
+            } catch (GeneralSecurityException e) {
+                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+            }
+        }
+
+        return crypto;
+    }
+
+    /**
+     * Get a {@link Crypto} with a decryption Cipher and verification Mac, for an incoming chunk on a thread other than
+     * the channel's decoding thread.
+     *
+     * @return a {@link Crypto} to hand back with {@link #release(Crypto)} once the chunk is verified and decrypted.
+     * @throws UaException if a new Cipher or Mac could not be initialized.
+     */
+    public Crypto acquireReceiver() throws UaException {
+        Crypto crypto = receivers.poll();
+
+        if (crypto == null) {
+            try {
+                crypto = new Crypto(false, cipher(Cipher.DECRYPT_MODE, decryptionKeys), mac(decryptionKeys));
+            } catch (GeneralSecurityException e) {
+                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+            }
+        }
+
+        return crypto;
+    }
+
+    public void release(Crypto crypto) {
+        if (crypto.sender) {
+            senders.offer(crypto);
+        } else {
+            receivers.offer(crypto);
+        }
+    }
+
+    @Nullable
+    private Cipher cipher(int mode, @Nullable ChannelSecurity.SecretKeys keys) throws GeneralSecurityException {
+        if (encryptionAlgorithm == null || keys == null) return null;
+
+        SecretKeySpec keySpec = new SecretKeySpec(keys.getEncryptionKey(), "AES");
+        IvParameterSpec ivSpec = new IvParameterSpec(keys.getInitializationVector());
+
+        Cipher cipher = CryptoProviders.getCipher(securityPolicy, encryptionAlgorithm);
+        cipher.init(mode, keySpec, ivSpec);
+
+        return cipher;
+    }
+
+    @Nullable
+    private Mac mac(@Nullable ChannelSecurity.SecretKeys keys) throws GeneralSecurityException {
+        if (signatureAlgorithm == null || keys == null) return null;
+
+        Mac mac = CryptoProviders.getMac(securityPolicy, signatureAlgorithm);
+        mac.init(new SecretKeySpec(keys.getSignatureKey(), signatureAlgorithm.getTransformation()));
+
+        return mac;
+    }
+
+    /**
+     * A {@link Cipher} and {@link Mac} for one side of the channel, used by one thread at a time.
+     */
+    public static final class Crypto {
+
+        private final boolean sender;
+        private final Cipher cipher;
+        private final Mac mac;
+
+        private Crypto(boolean sender, @Nullable Cipher cipher, @Nullable Mac mac) {
+            this.sender = sender;
+            this.cipher = cipher;
+            this.mac = mac;
+        }
+
+        /**
+         * @return the encryption or decryption {@link Cipher}, or {@code null} if encryption is not enabled.
+         */
+        @Nullable
+        public Cipher getCipher() {
+            return cipher;
+        }
+
+        /**
+         * @return the signature or verification {@link Mac}, or {@code null} if signing is not enabled.
+         */
+        @Nullable
+        public Mac getMac() {
+            return mac;
+        }
+
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.digitalpetri.opcua.stack.core.channel;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
+
+import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.types.structured.ChannelSecurityToken;
+
+/**
+ * Holds the {@link SymmetricCryptoContext}s for the current and previous token of a {@link SecureChannel}.
+ * <p>
+ * Both contexts are replaced together the first time they are requested after the channel's {@link ChannelSecurity}
+ * changes. The context of a token that was current before a renewal is kept as the previous context rather than
+ * rebuilt.
+ */
+final class SymmetricCryptoContexts {
+
+    private final AtomicReference<Contexts> contexts = new AtomicReference<>();
+
+    private final SecureChannel channel;
+
+    SymmetricCryptoContexts(SecureChannel channel) {
+        this.channel = channel;
+    }
+
+    @Nullable
+    SymmetricCryptoContext get(long tokenId) throws UaException {
+        ChannelSecurity channelSecurity = channel.getChannelSecurity();
+
+        if (channelSecurity == null) return null;
+
+        Contexts c = contexts.get();
+
+        while (c == null || c.channelSecurity != channelSecurity) {
+            Contexts updated = update(channelSecurity, c);
+
+            if (contexts.compareAndSet(c, updated)) {
+                c = updated;
+            } else {
+                c = contexts.get();
+            }
+        }
+
+        return c.get(tokenId);
+    }
+
+    private Contexts update(ChannelSecurity channelSecurity, @Nullable Contexts old) throws UaException {
+        long currentTokenId = channelSecurity.getCurrentToken().getTokenId().longValue();
+
+        SymmetricCryptoContext current = reuse(old, currentTokenId);
+        if (current == null) {
+            current = new SymmetricCryptoContext(channel, currentTokenId, channelSecurity.getCurrentKeys());
+        }
+
+        SymmetricCryptoContext previous = null;
+
+        Optional<ChannelSecurityToken> previousToken = channelSecurity.getPreviousToken();
+        Optional<ChannelSecurity.SecuritySecrets> previousKeys = channelSecurity.getPreviousKeys();
+
+        if (previousToken.isPresent()) {
+            long previousTokenId = previousToken.get().getTokenId().longValue();
+
+            previous = reuse(old, previousTokenId);
+            if (previous == null) {
+                previous = new SymmetricCryptoContext(channel, previousTokenId, previousKeys.orElse(null));
+            }
+        }
+
+        return new Contexts(channelSecurity, current, previous);
+    }
+
+    @Nullable
+    private static SymmetricCryptoContext reuse(@Nullable Contexts old, long tokenId) {
+        return old != null ? old.get(tokenId) : null;
+    }
+
+    private static final class Contexts {
+
+        private final ChannelSecurity channelSecurity;
+        private final SymmetricCryptoContext current;
+        private final SymmetricCryptoContext previous;
+
+        private Contexts(ChannelSecurity channelSecurity,
+                         SymmetricCryptoContext current,
+                         @Nullable SymmetricCryptoContext previous) {
+
+            this.channelSecurity = channelSecurity;
+            this.current = current;
+            this.previous = previous;
+        }
+
+        @Nullable
+        SymmetricCryptoContext get(long tokenId) {
+            if (current.getTokenId() == tokenId) {
+                return current;
+            } else if (previous != null && previous.getTokenId() == tokenId) {
+                return previous;
+            } else {
+                return null;
+            }
+        }
+
+    }
+
+}
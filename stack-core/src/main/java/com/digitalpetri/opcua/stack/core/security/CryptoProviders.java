@@ -0,0 +1,173 @@
+package com.digitalpetri.opcua.stack.core.security;
+
+import java.security.GeneralSecurityException;
+import java.security.Provider;
+import java.security.Signature;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Selects the JCE {@link Provider} that supplies the {@link Cipher}s, {@link Mac}s, and {@link Signature}s the stack
+ * uses for each {@link SecurityAlgorithm}.
+ * <p>
+ * A provider can be set for an algorithm under one {@link SecurityPolicy}, for every algorithm of a policy, or for an
+ * algorithm under every policy. The most specific setting wins; if there is none, the default JCE provider lookup is
+ * used. Key derivation is configured under {@link SecurityAlgorithm#PSha1} and {@link SecurityAlgorithm#PSha256} and
+ * uses the corresponding HMAC.
+ * <p>
+ * Channels keep the instances they create for a security token, so providers should be configured before channels
+ * are opened; a change takes effect at each channel's next token.
+ */
+public final class CryptoProviders {
+
+    private static final Map<PolicyAlgorithm, Provider> policyAlgorithmProviders = Maps.newConcurrentMap();
+    private static final Map<SecurityPolicy, Provider> policyProviders = Maps.newConcurrentMap();
+    private static final Map<SecurityAlgorithm, Provider> algorithmProviders = Maps.newConcurrentMap();
+
+    private CryptoProviders() {}
+
+    /**
+     * Use {@code provider} for {@code algorithm} under {@code securityPolicy}.
+     *
+     * @param provider the {@link Provider}, or {@code null} to remove the setting.
+     */
+    public static void setProvider(SecurityPolicy securityPolicy,
+                                   SecurityAlgorithm algorithm,
+                                   @Nullable Provider provider) {
+
+        put(policyAlgorithmProviders, new PolicyAlgorithm(securityPolicy, algorithm), provider);
+    }
+
+    /**
+     * Use {@code provider} for every algorithm under {@code securityPolicy} that has no more specific setting.
+     *
+     * @param provider the {@link Provider}, or {@code null} to remove the setting.
+     */
+    public static void setProvider(SecurityPolicy securityPolicy, @Nullable Provider provider) {
+        put(policyProviders, securityPolicy, provider);
+    }
+
+    /**
+     * Use {@code provider} for {@code algorithm} under every policy that has no more specific setting.
+     *
+     * @param provider the {@link Provider}, or {@code null} to remove the setting.
+     */
+    public static void setProvider(SecurityAlgorithm algorithm, @Nullable Provider provider) {
+        put(algorithmProviders, algorithm, provider);
+    }
+
+    /**
+     * Remove all settings, so every algorithm uses the default JCE provider lookup.
+     */
+    public static void clear() {
+        policyAlgorithmProviders.clear();
+        policyProviders.clear();
+        algorithmProviders.clear();
+    }
+
+    /**
+     * @param securityPolicy the {@link SecurityPolicy} the algorithm is used under, or {@code null} if unknown.
+     * @param algorithm      the {@link SecurityAlgorithm}.
+     * @return the configured {@link Provider}, or {@code null} to use the default JCE provider lookup.
+     */
+    @Nullable
+    public static Provider getProvider(@Nullable SecurityPolicy securityPolicy, SecurityAlgorithm algorithm) {
+        if (securityPolicy != null) {
+            Provider provider = policyAlgorithmProviders.get(new PolicyAlgorithm(securityPolicy, algorithm));
+            if (provider != null) return provider;
+
+            provider = policyProviders.get(securityPolicy);
+            if (provider != null) return provider;
+        }
+
+        return algorithmProviders.get(algorithm);
+    }
+
+    public static Cipher getCipher(@Nullable SecurityPolicy securityPolicy,
+                                   SecurityAlgorithm algorithm) throws GeneralSecurityException {
+
+        Provider provider = getProvider(securityPolicy, algorithm);
+        String transformation = algorithm.getTransformation();
+
+        return provider != null ?
+                Cipher.getInstance(transformation, provider) :
+                Cipher.getInstance(transformation);
+    }
+
+    public static Mac getMac(@Nullable SecurityPolicy securityPolicy,
+                             SecurityAlgorithm algorithm) throws GeneralSecurityException {
+
+        Provider provider = getProvider(securityPolicy, algorithm);
+        String transformation = getMacTransformation(algorithm);
+
+        return provider != null ?
+                Mac.getInstance(transformation, provider) :
+                Mac.getInstance(transformation);
+    }
+
+    public static Signature getSignature(@Nullable SecurityPolicy securityPolicy,
+                                         SecurityAlgorithm algorithm) throws GeneralSecurityException {
+
+        Provider provider = getProvider(securityPolicy, algorithm);
+        String transformation = algorithm.getTransformation();
+
+        return provider != null ?
+                Signature.getInstance(transformation, provider) :
+                Signature.getInstance(transformation);
+    }
+
+    /**
+     * @return the transformation of the {@link Mac} for {@code algorithm}, which is either an HMAC algorithm or a key
+     * derivation algorithm built on one.
+     */
+    public static String getMacTransformation(SecurityAlgorithm algorithm) {
+        switch (algorithm) {
+            case PSha1:
+                return SecurityAlgorithm.HmacSha1.getTransformation();
+            case PSha256:
+                return SecurityAlgorithm.HmacSha256.getTransformation();
+            default:
+                return algorithm.getTransformation();
+        }
+    }
+
+    private static <K> void put(Map<K, Provider> providers, K key, @Nullable Provider provider) {
+        if (provider != null) {
+            providers.put(key, provider);
+        } else {
+            providers.remove(key);
+        }
+    }
+
+    private static final class PolicyAlgorithm {
+
+        private final SecurityPolicy securityPolicy;
+        private final SecurityAlgorithm algorithm;
+
+        private PolicyAlgorithm(SecurityPolicy securityPolicy, SecurityAlgorithm algorithm) {
+            this.securityPolicy = securityPolicy;
+            this.algorithm = algorithm;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            PolicyAlgorithm that = (PolicyAlgorithm) o;
+
+            return securityPolicy == that.securityPolicy && algorithm == that.algorithm;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * securityPolicy.hashCode() + algorithm.hashCode();
+        }
+
+    }
+
+}
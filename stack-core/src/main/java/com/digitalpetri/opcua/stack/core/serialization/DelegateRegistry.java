@@ -1,98 +1,82 @@
 package com.digitalpetri.opcua.stack.core.serialization;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.Map;
 
 import com.digitalpetri.opcua.stack.core.StatusCodes;
 import com.digitalpetri.opcua.stack.core.UaSerializationException;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.reflect.ClassPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Resolves {@link EncoderDelegate}s and {@link DecoderDelegate}s by class or by encoding id. See {@link DelegateTable}
+ * for how lookups are resolved.
+ */
 public class DelegateRegistry {
 
-    private static final Map<Class<?>, EncoderDelegate<?>> encodersByClass = Maps.newConcurrentMap();
+    private static final DelegateTable<EncoderDelegate<?>> encoders = new DelegateTable<>();
 
-    private static final Map<NodeId, EncoderDelegate<?>> encodersById = Maps.newConcurrentMap();
-
-    private static final Map<Class<?>, DecoderDelegate<?>> decodersByClass = Maps.newConcurrentMap();
-
-    private static final Map<NodeId, DecoderDelegate<?>> decodersById = Maps.newConcurrentMap();
+    private static final DelegateTable<DecoderDelegate<?>> decoders = new DelegateTable<>();
 
     public static <T> void registerEncoder(EncoderDelegate<T> delegate, Class<T> clazz, NodeId... ids) {
-        encodersByClass.put(clazz, delegate);
-
-        if (ids != null) {
-            Arrays.stream(ids).forEach(id -> encodersById.put(id, delegate));
-        }
+        encoders.register(delegate, clazz, ids);
     }
 
     public static <T> void registerDecoder(DecoderDelegate<T> delegate, Class<T> clazz, NodeId... ids) {
-        decodersByClass.put(clazz, delegate);
-
-        if (ids != null) {
-            Arrays.stream(ids).forEach(id -> decodersById.put(id, delegate));
-        }
+        decoders.register(delegate, clazz, ids);
     }
 
-    @SuppressWarnings("unchecked")
     public static <T> EncoderDelegate<T> getEncoder(Object t) throws UaSerializationException {
-        try {
-            return (EncoderDelegate<T>) encodersByClass.get(t.getClass());
-        } catch (NullPointerException e) {
-            throw new UaSerializationException(StatusCodes.Bad_EncodingError,
-                    "no encoder registered for class=" + t);
-        }
+        return getEncoder(t.getClass());
     }
 
     @SuppressWarnings("unchecked")
     public static <T> EncoderDelegate<T> getEncoder(Class<?> clazz) throws UaSerializationException {
-        try {
-            return (EncoderDelegate<T>) encodersByClass.get(clazz);
-        } catch (NullPointerException e) {
+        EncoderDelegate<T> encoder = (EncoderDelegate<T>) encoders.get(clazz);
+
+        if (encoder == null) {
             throw new UaSerializationException(StatusCodes.Bad_EncodingError,
                     "no encoder registered for class=" + clazz);
         }
+
+        return encoder;
     }
 
     @SuppressWarnings("unchecked")
     public static <T> EncoderDelegate<T> getEncoder(NodeId encodingId) throws UaSerializationException {
-        try {
-            return (EncoderDelegate<T>) encodersById.get(encodingId);
-        } catch (NullPointerException e) {
+        EncoderDelegate<T> encoder = (EncoderDelegate<T>) encoders.get(encodingId);
+
+        if (encoder == null) {
             throw new UaSerializationException(StatusCodes.Bad_EncodingError,
                     "no encoder registered for encodingId=" + encodingId);
         }
+
+        return encoder;
     }
 
     @SuppressWarnings("unchecked")
     public static <T> DecoderDelegate<T> getDecoder(T t) throws UaSerializationException {
-        try {
-            return (DecoderDelegate<T>) decodersByClass.get(t.getClass());
-        } catch (NullPointerException e) {
-            throw new UaSerializationException(StatusCodes.Bad_DecodingError,
-                    "no decoder registered for class=" + t);
-        }
+        return getDecoder((Class<T>) t.getClass());
     }
 
     @SuppressWarnings("unchecked")
     public static <T> DecoderDelegate<T> getDecoder(Class<T> clazz) throws UaSerializationException {
-        try {
-            return (DecoderDelegate<T>) decodersByClass.get(clazz);
-        } catch (NullPointerException e) {
+        DecoderDelegate<T> decoder = (DecoderDelegate<T>) decoders.get(clazz);
+
+        if (decoder == null) {
             throw new UaSerializationException(StatusCodes.Bad_DecodingError,
                     "no decoder registered for class=" + clazz);
         }
+
+        return decoder;
     }
 
     @SuppressWarnings("unchecked")
-    public static <T> DecoderDelegate<T> getDecoder(NodeId encodingId) {
-        DecoderDelegate<T> decoder = (DecoderDelegate<T>) decodersById.get(encodingId);
+    public static <T> DecoderDelegate<T> getDecoder(NodeId encodingId) throws UaSerializationException {
+        DecoderDelegate<T> decoder = (DecoderDelegate<T>) decoders.get(encodingId);
 
         if (decoder == null) {
             throw new UaSerializationException(StatusCodes.Bad_DecodingError,
@@ -104,8 +88,8 @@ public class DelegateRegistry {
 
     static {
         /*
-         * Reflect-o-magically find all generated structured and enumerated types and force their static initialization
-         * blocks to run, registering their encode/decode methods with the delegate registry.
+         * Reflect-o-magically find all generated structured and enumerated types and binary codecs and force their static
+         * initialization blocks to run, registering their encode/decode methods with the delegate registries.
          */
         Logger logger = LoggerFactory.getLogger(DelegateRegistry.class);
 
@@ -119,7 +103,10 @@ public class DelegateRegistry {
             ImmutableSet<ClassPath.ClassInfo> enumerations =
                     classPath.getTopLevelClasses("com.digitalpetri.opcua.stack.core.types.enumerated");
 
-            Sets.union(structures, enumerations).forEach(classInfo -> {
+            ImmutableSet<ClassPath.ClassInfo> binaryCodecs =
+                    classPath.getTopLevelClasses("com.digitalpetri.opcua.stack.core.types.structured.binary");
+
+            Sets.union(Sets.union(structures, enumerations), binaryCodecs).forEach(classInfo -> {
                 Class<?> clazz = classInfo.load();
 
                 try {
@@ -0,0 +1,88 @@
+package com.digitalpetri.opcua.stack.core.serialization;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.google.common.collect.Maps;
+
+/**
+ * Delegates of one kind, resolvable by class or by encoding id. Backs {@link DelegateRegistry} and
+ * {@link com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry}.
+ * <p>
+ * Numeric encoding ids in namespace 0 resolve through a dense table indexed by the identifier; ids in any other
+ * namespace, or too large for the table, fall back to a map. Class-based lookups are cached per class in a
+ * {@link ClassValue}, which is invalidated whenever a delegate is (re-)registered for that class.
+ *
+ * @param <D> the delegate type.
+ */
+public final class DelegateTable<D> {
+
+    /**
+     * Size of the dense namespace 0 table. Every encoding id defined by the specification fits comfortably.
+     */
+    static final int NS0_TABLE_SIZE = 1 << 14;
+
+    private final Map<Class<?>, D> byClass = Maps.newConcurrentMap();
+
+    private final Map<NodeId, D> byId = Maps.newConcurrentMap();
+
+    private final AtomicReferenceArray<D> ns0 = new AtomicReferenceArray<>(NS0_TABLE_SIZE);
+
+    private final ClassValue<D> classCache = new ClassValue<D>() {
+        @Override
+        protected D computeValue(Class<?> type) {
+            return byClass.get(type);
+        }
+    };
+
+    public void register(D delegate, Class<?> clazz, NodeId... ids) {
+        byClass.put(clazz, delegate);
+        classCache.remove(clazz);
+
+        if (ids != null) {
+            for (NodeId id : ids) {
+                int index = ns0Index(id);
+
+                if (index >= 0) {
+                    ns0.set(index, delegate);
+                } else {
+                    byId.put(id, delegate);
+                }
+            }
+        }
+    }
+
+    @Nullable
+    public D get(Class<?> clazz) {
+        return classCache.get(clazz);
+    }
+
+    @Nullable
+    public D get(NodeId encodingId) {
+        int index = ns0Index(encodingId);
+
+        return index >= 0 ? ns0.get(index) : byId.get(encodingId);
+    }
+
+    /**
+     * @param id the encoding id.
+     * @return the index of {@code id} in the dense namespace 0 table, or -1 if it must be resolved by map instead.
+     */
+    private static int ns0Index(NodeId id) {
+        if (id.getNamespaceIndex().intValue() == 0) {
+            Object identifier = id.getIdentifier();
+
+            if (identifier instanceof UInteger) {
+                long value = ((UInteger) identifier).longValue();
+
+                if (value < NS0_TABLE_SIZE) return (int) value;
+            }
+        }
+
+        return -1;
+    }
+
+}
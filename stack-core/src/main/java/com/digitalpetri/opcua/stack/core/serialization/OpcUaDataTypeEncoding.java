@@ -28,28 +28,28 @@ public class OpcUaDataTypeEncoding implements DataTypeEncoding {
 
         ByteBuf buffer = allocator.buffer().order(ByteOrder.LITTLE_ENDIAN);
 
-        BinaryEncoder encoder = new BinaryEncoder();
-        encoder.setBuffer(buffer);
+        try {
+            BinaryEncoder encoder = new BinaryEncoder();
+            encoder.setBuffer(buffer);
 
-        delegate.encode(object, encoder);
+            delegate.encode(object, encoder);
 
-        byte[] bs = new byte[buffer.readableBytes()];
-        buffer.readBytes(bs);
-        buffer.release();
+            byte[] bs = new byte[buffer.readableBytes()];
+            buffer.readBytes(bs);
 
-        return ByteString.of(bs);
+            return ByteString.of(bs);
+        } finally {
+            buffer.release();
+        }
     }
 
     @Override
     public Object decodeFromByteString(ByteString encoded, NodeId encodingTypeId) {
         DecoderDelegate<Object> delegate = DelegateRegistry.getDecoder(encodingTypeId);
 
-        byte[] bs = encoded.bytes();
-        if (bs == null) bs = new byte[0];
-
-        ByteBuf buffer = Unpooled
-                .wrappedBuffer(bs)
-                .order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuf buffer = encoded.isNull() ?
+                Unpooled.EMPTY_BUFFER.order(ByteOrder.LITTLE_ENDIAN) :
+                encoded.buffer().order(ByteOrder.LITTLE_ENDIAN);
 
         BinaryDecoder decoder = new BinaryDecoder();
         decoder.setBuffer(buffer);
@@ -84,4 +84,32 @@ public interface UaDecoder {
 
     <T> T[] decodeArray(String field, BiFunction<String, Class<T>, T> decoder, Class<T> clazz) throws UaSerializationException;
 
+    /*
+     * Primitive variants of the scalar decode methods. These never box; unsigned values are returned in the next
+     * widest signed primitive (Byte and UInt16 as int, UInt32 as long) and UInt64 as the raw bits of a long.
+     */
+
+    boolean readBoolean(String field) throws UaSerializationException;
+
+    byte readSByte(String field) throws UaSerializationException;
+
+    short readInt16(String field) throws UaSerializationException;
+
+    int readInt32(String field) throws UaSerializationException;
+
+    long readInt64(String field) throws UaSerializationException;
+
+    int readByte(String field) throws UaSerializationException;
+
+    int readUInt16(String field) throws UaSerializationException;
+
+    long readUInt32(String field) throws UaSerializationException;
+
+    long readUInt64(String field) throws UaSerializationException;
+
+    float readFloat(String field) throws UaSerializationException;
+
+    double readDouble(String field) throws UaSerializationException;
+
+
 }
@@ -81,4 +81,32 @@ public interface UaEncoder {
 
     <T> void encodeArray(String field, T[] values, BiConsumer<String, T> encoder) throws UaSerializationException;
 
+    /*
+     * Primitive variants of the scalar encode methods. These never box; unsigned values are carried in the next
+     * widest signed primitive (Byte and UInt16 as int, UInt32 as long) and UInt64 as the raw bits of a long.
+     */
+
+    void writeBoolean(String field, boolean value) throws UaSerializationException;
+
+    void writeSByte(String field, byte value) throws UaSerializationException;
+
+    void writeInt16(String field, short value) throws UaSerializationException;
+
+    void writeInt32(String field, int value) throws UaSerializationException;
+
+    void writeInt64(String field, long value) throws UaSerializationException;
+
+    void writeByte(String field, int value) throws UaSerializationException;
+
+    void writeUInt16(String field, int value) throws UaSerializationException;
+
+    void writeUInt32(String field, long value) throws UaSerializationException;
+
+    void writeUInt64(String field, long value) throws UaSerializationException;
+
+    void writeFloat(String field, float value) throws UaSerializationException;
+
+    void writeDouble(String field, double value) throws UaSerializationException;
+
+
 }
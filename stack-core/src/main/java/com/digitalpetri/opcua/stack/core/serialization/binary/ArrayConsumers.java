@@ -0,0 +1,69 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * A registry of consumers for array fields that a {@link BinaryDecoder} should stream rather than materialize.
+ * <p>
+ * An array field is identified by its field name (e.g. "Results", "References", "DataValues") and element type. When
+ * a registered field is decoded each element is handed to the consumer as soon as it is decoded and is not retained;
+ * the field itself decodes as an empty array. Consumers are invoked on the thread doing the decoding.
+ * <p>
+ * Consumers may be added and removed concurrently with decoding.
+ */
+public class ArrayConsumers {
+
+    private final ConcurrentMap<String, Map<Class<?>, Consumer<Object>>> consumers = new ConcurrentHashMap<>();
+
+    /**
+     * Stream every element of array fields named {@code field} with element type {@code clazz} to {@code consumer}.
+     *
+     * @param field    the name of the array field.
+     * @param clazz    the element type of the array field.
+     * @param consumer the {@link Consumer} to hand each element to.
+     * @return this {@link ArrayConsumers}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ArrayConsumers put(String field, Class<T> clazz, Consumer<? super T> consumer) {
+        consumers.computeIfAbsent(field, f -> new ConcurrentHashMap<>())
+                .put(clazz, (Consumer<Object>) consumer);
+
+        return this;
+    }
+
+    /**
+     * Stop streaming array fields named {@code field} with element type {@code clazz}.
+     *
+     * @param field the name of the array field.
+     * @param clazz the element type of the array field.
+     * @return this {@link ArrayConsumers}.
+     */
+    public ArrayConsumers remove(String field, Class<?> clazz) {
+        Map<Class<?>, Consumer<Object>> m = consumers.get(field);
+        if (m != null) m.remove(clazz);
+
+        return this;
+    }
+
+    public void clear() {
+        consumers.clear();
+    }
+
+    public boolean isEmpty() {
+        return consumers.isEmpty();
+    }
+
+    @Nullable
+    Consumer<Object> get(@Nullable String field, Class<?> clazz) {
+        if (field == null) return null;
+
+        Map<Class<?>, Consumer<Object>> m = consumers.get(field);
+
+        return m != null ? m.get(clazz) : null;
+    }
+
+}
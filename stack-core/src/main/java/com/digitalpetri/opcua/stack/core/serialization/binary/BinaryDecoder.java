@@ -1,11 +1,12 @@
 package com.digitalpetri.opcua.stack.core.serialization.binary;
 
-import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.charset.Charset;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import com.digitalpetri.opcua.stack.core.StatusCodes;
@@ -36,6 +37,7 @@ import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UShort;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned;
 import com.digitalpetri.opcua.stack.core.util.ArrayUtil;
 import com.digitalpetri.opcua.stack.core.util.TypeUtil;
+import com.digitalpetri.opcua.stack.core.util.Utf8Util;
 import io.netty.buffer.ByteBuf;
 
 public class BinaryDecoder implements UaDecoder {
@@ -45,6 +47,26 @@ public class BinaryDecoder implements UaDecoder {
     private final int maxArrayLength;
     private final int maxStringLength;
 
+    /**
+     * The largest scratch space kept between strings; longer strings are decoded into a temporary array.
+     */
+    private static final int MAX_SCRATCH_CHARS = 16384;
+
+    /**
+     * Scratch space for decoding strings; grown as needed, up to {@link #MAX_SCRATCH_CHARS}.
+     */
+    private char[] chars = new char[256];
+
+    private boolean primitiveArrays = false;
+
+    private int byteStringSliceThreshold = Integer.MAX_VALUE;
+
+    private List<ByteString> byteStringSlices = null;
+
+    private ArrayConsumers arrayConsumers = null;
+
+    private InterningCache interningCache = null;
+
     public BinaryDecoder() {
         this(ChannelConfig.DEFAULT_MAX_ARRAY_LENGTH, ChannelConfig.DEFAULT_MAX_STRING_LENGTH);
     }
@@ -59,77 +81,189 @@ public class BinaryDecoder implements UaDecoder {
         return this;
     }
 
+    /**
+     * When enabled, Variant arrays of Boolean, SByte, Int16, Int32, Int64, Float and Double are decoded into
+     * boolean[], byte[], short[], int[], long[], float[] and double[] respectively, rather than their boxed equivalents.
+     *
+     * @param primitiveArrays {@code true} to decode primitive arrays.
+     * @return this {@link BinaryDecoder}.
+     */
+    public BinaryDecoder setPrimitiveArrays(boolean primitiveArrays) {
+        this.primitiveArrays = primitiveArrays;
+        return this;
+    }
+
+    /**
+     * ByteStrings at least {@code threshold} bytes long are decoded as retained slices of the buffer being decoded
+     * instead of being copied into a byte[].
+     * <p>
+     * Each such ByteString holds a reference to the buffer being decoded, which is therefore not freed until every one
+     * of them has been released with {@link ByteString#release()}. Disabled by default.
+     *
+     * @param threshold the minimum length of a ByteString to decode as a slice.
+     * @return this {@link BinaryDecoder}.
+     */
+    public BinaryDecoder setByteStringSliceThreshold(int threshold) {
+        this.byteStringSliceThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Add every ByteString decoded as a slice to {@code byteStringSlices}, so whoever disposes of the decoded message
+     * can release them all.
+     *
+     * @param byteStringSlices the list to add sliced ByteStrings to, or {@code null} to stop tracking them.
+     * @return this {@link BinaryDecoder}.
+     */
+    public BinaryDecoder setByteStringSlices(List<ByteString> byteStringSlices) {
+        this.byteStringSlices = byteStringSlices;
+        return this;
+    }
+
+    /**
+     * Array fields registered with {@code arrayConsumers} are streamed to their consumer element by element and decode
+     * as empty arrays, so their elements are never all held at once.
+     *
+     * @param arrayConsumers the {@link ArrayConsumers} to stream array fields to, or {@code null} to stream none.
+     * @return this {@link BinaryDecoder}.
+     */
+    public BinaryDecoder setArrayConsumers(ArrayConsumers arrayConsumers) {
+        this.arrayConsumers = arrayConsumers;
+        return this;
+    }
+
+    /**
+     * Decode NodeIds, QualifiedNames and short Strings through {@code interningCache}, returning previously decoded
+     * instances where possible instead of allocating new ones.
+     *
+     * @param interningCache the {@link InterningCache} to use, or {@code null} to disable interning.
+     * @return this {@link BinaryDecoder}.
+     */
+    public BinaryDecoder setInterningCache(InterningCache interningCache) {
+        this.interningCache = interningCache;
+        return this;
+    }
+
+    public InterningCache getInterningCache() {
+        return interningCache;
+    }
+
     @Override
     public Boolean decodeBoolean(String field) {
-        return buffer.readBoolean();
+        return readBoolean(field);
     }
 
     @Override
     public Byte decodeSByte(String field) {
-        return buffer.readByte();
+        return readSByte(field);
     }
 
     @Override
     public Short decodeInt16(String field) {
-        return buffer.readShort();
+        return readInt16(field);
     }
 
     @Override
     public Integer decodeInt32(String field) {
-        return buffer.readInt();
+        return readInt32(field);
     }
 
     @Override
     public Long decodeInt64(String field) {
-        return buffer.readLong();
+        return readInt64(field);
     }
 
     @Override
     public UByte decodeByte(String field) {
-        return Unsigned.ubyte(buffer.readUnsignedByte());
+        return Unsigned.ubyte(readByte(field));
     }
 
     @Override
     public UShort decodeUInt16(String field) {
-        return Unsigned.ushort(buffer.readUnsignedShort());
+        return Unsigned.ushort(readUInt16(field));
     }
 
     @Override
     public UInteger decodeUInt32(String field) {
-        return Unsigned.uint(buffer.readUnsignedInt());
+        return Unsigned.uint(readUInt32(field));
     }
 
     @Override
     public ULong decodeUInt64(String field) {
-        return Unsigned.ulong(buffer.readLong());
+        return Unsigned.ulong(readUInt64(field));
     }
 
     @Override
     public Float decodeFloat(String field) {
-        return buffer.readFloat();
+        return readFloat(field);
     }
 
     @Override
     public Double decodeDouble(String field) {
-        return buffer.readDouble();
+        return readDouble(field);
     }
 
     @Override
     public String decodeString(String field) throws UaSerializationException {
-        int length = decodeInt32(null);
+        int length = readInt32(null);
 
         if (length == -1) {
             return null;
         } else {
-            if (length > maxStringLength) {
-                throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
-                        String.format("max string length exceeded (length=%s, max=%s)", length, maxStringLength));
+            checkStringLength(length);
+
+            if (interningCache != null && length <= InterningCache.MAX_STRING_BYTES) {
+                int index = buffer.readerIndex();
+                buffer.skipBytes(length);
+
+                return interningCache.string(buffer, index, length);
             }
 
-            String s = buffer.toString(buffer.readerIndex(), length, Charset.forName("UTF-8"));
-            buffer.skipBytes(length);
-            return s;
+            return readUtf8(length);
+        }
+    }
+
+    /**
+     * @return the length of the String at the reader index if it can be looked up in the interning cache, otherwise -1.
+     */
+    private int peekInternableLength() {
+        if (interningCache == null || buffer.readableBytes() < 4) return -1;
+
+        int length = buffer.getInt(buffer.readerIndex());
+
+        return length <= InterningCache.MAX_STRING_BYTES && length <= buffer.readableBytes() - 4 ? length : -1;
+    }
+
+    /**
+     * Check the length prefix of a String or XmlElement before any space is allocated for it.
+     */
+    private void checkStringLength(int length) throws UaSerializationException {
+        if (length > maxStringLength) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                    String.format("max string length exceeded (length=%s, max=%s)", length, maxStringLength));
+        }
+
+        if (length < 0 || length > buffer.readableBytes()) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                    String.format("invalid string length (length=%s, readable=%s)", length, buffer.readableBytes()));
+        }
+    }
+
+    private String readUtf8(int length) {
+        char[] cs = chars;
+
+        if (length > cs.length) {
+            if (length <= MAX_SCRATCH_CHARS) {
+                cs = chars = new char[Math.min(Math.max(length, cs.length * 2), MAX_SCRATCH_CHARS)];
+            } else {
+                cs = new char[length];
+            }
         }
+
+        int index = buffer.readerIndex();
+        buffer.skipBytes(length);
+
+        return Utf8Util.read(buffer, index, length, cs);
     }
 
     @Override
@@ -151,10 +285,14 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public ByteString decodeByteString(String field) {
-        int length = decodeInt32(null);
+        int length = readInt32(null);
 
         if (length == -1) {
             return ByteString.NULL_VALUE;
+        } else if (length >= byteStringSliceThreshold) {
+            ByteString byteString = ByteString.wrap(buffer.readSlice(length).retain());
+            if (byteStringSlices != null) byteStringSlices.add(byteString);
+            return byteString;
         } else {
             byte[] bs = new byte[length];
             buffer.readBytes(bs);
@@ -164,18 +302,14 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public XmlElement decodeXmlElement(String field) throws UaSerializationException {
-        ByteString byteString = decodeByteString(null);
-        byte[] bs = byteString.bytes();
+        int length = readInt32(null);
 
-        if (bs == null) {
+        if (length == -1) {
             return new XmlElement(null);
         } else {
-            try {
-                String fragment = new String(bs, "UTF-8");
-                return new XmlElement(fragment);
-            } catch (UnsupportedEncodingException e) {
-                throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
-            }
+            checkStringLength(length);
+
+            return new XmlElement(readUtf8(length));
         }
     }
 
@@ -183,19 +317,33 @@ public class BinaryDecoder implements UaDecoder {
     public NodeId decodeNodeId(String field) throws UaSerializationException {
         int format = buffer.readByte() & 0x0F;
 
+        InterningCache cache = interningCache;
 
         if (format == 0x00) {
             /* Two-byte format */
+            if (cache != null) return cache.numericNodeId(0, buffer.readUnsignedByte());
             return new NodeId(Unsigned.ushort(0), Unsigned.uint(buffer.readUnsignedByte()));
         } else if (format == 0x01) {
             /* Four-byte format */
+            if (cache != null) return cache.numericNodeId(buffer.readUnsignedByte(), buffer.readUnsignedShort());
             return new NodeId(Unsigned.ushort(buffer.readUnsignedByte()), Unsigned.uint(buffer.readUnsignedShort()));
         } else if (format == 0x02) {
             /* Numeric format */
+            if (cache != null) return cache.numericNodeId(buffer.readUnsignedShort(), buffer.readUnsignedInt());
             return new NodeId(Unsigned.ushort(buffer.readUnsignedShort()), Unsigned.uint(buffer.readUnsignedInt()));
         } else if (format == 0x03) {
             /* String format */
-            return new NodeId(Unsigned.ushort(buffer.readUnsignedShort()), decodeString(null));
+            int namespaceIndex = buffer.readUnsignedShort();
+            int length = peekInternableLength();
+
+            if (length >= 0) {
+                int index = buffer.skipBytes(4).readerIndex();
+                buffer.skipBytes(length);
+
+                return cache.stringNodeId(namespaceIndex, buffer, index, length);
+            }
+
+            return new NodeId(Unsigned.ushort(namespaceIndex), decodeString(null));
         } else if (format == 0x04) {
             /* Guid format */
             return new NodeId(Unsigned.ushort(buffer.readUnsignedShort()), decodeGuid(null));
@@ -221,7 +369,7 @@ public class BinaryDecoder implements UaDecoder {
         }
 
         if ((flags & 0x40) == 0x40) {
-            serverIndex = decodeUInt32(null).longValue();
+            serverIndex = readUInt32(null);
         }
 
         return new ExpandedNodeId(nodeId, namespaceUri, serverIndex);
@@ -229,12 +377,21 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public StatusCode decodeStatusCode(String field) {
-        return new StatusCode(decodeUInt32(null));
+        return new StatusCode(readUInt32(null));
     }
 
     @Override
     public QualifiedName decodeQualifiedName(String field) throws UaSerializationException {
-        int namespaceIndex = decodeUInt16(null).intValue();
+        int namespaceIndex = readUInt16(null);
+        int length = peekInternableLength();
+
+        if (length >= 0) {
+            int index = buffer.skipBytes(4).readerIndex();
+            buffer.skipBytes(length);
+
+            return interningCache.qualifiedName(namespaceIndex, buffer, index, length);
+        }
+
         String name = decodeString(null);
 
         return new QualifiedName(Unsigned.ushort(namespaceIndex), name);
@@ -266,6 +423,11 @@ public class BinaryDecoder implements UaDecoder {
         if (encoding == 0) {
             return new ExtensionObject((ByteString) null, encodingTypeId);
         } else if (encoding == 1) {
+            if (arrayConsumers != null && !arrayConsumers.isEmpty()) {
+                ExtensionObject extensionObject = decodeExtensionObjectBody(encodingTypeId);
+                if (extensionObject != null) return extensionObject;
+            }
+
             ByteString byteString = decodeByteString(null);
 
             return new ExtensionObject(byteString, encodingTypeId);
@@ -278,6 +440,30 @@ public class BinaryDecoder implements UaDecoder {
         }
     }
 
+    /**
+     * Decode the body of a binary encoded ExtensionObject in place, so that array fields of the structure it holds are
+     * streamed to {@link #arrayConsumers} like those of the enclosing message.
+     *
+     * @return an ExtensionObject holding the decoded structure, or {@code null}, with nothing read, if the body is
+     * null or no structure is registered for {@code encodingTypeId}.
+     */
+    private ExtensionObject decodeExtensionObjectBody(NodeId encodingTypeId) throws UaSerializationException {
+        BinaryDecoderDelegate<?> codec = BinaryDelegateRegistry.getDecoder(encodingTypeId);
+        if (codec == null) return null;
+
+        int length = buffer.getInt(buffer.readerIndex());
+        if (length < 0) return null;
+
+        ByteBuf enclosing = buffer;
+        buffer = enclosing.skipBytes(4).readSlice(length);
+
+        try {
+            return ExtensionObject.encode((UaStructure) codec.decode(this));
+        } finally {
+            buffer = enclosing;
+        }
+    }
+
     @Override
     public DataValue decodeDataValue(String field) throws UaSerializationException {
         int mask = buffer.readByte() & 0x0F;
@@ -302,14 +488,26 @@ public class BinaryDecoder implements UaDecoder {
             boolean arrayEncoded = (encodingMask & 0x80) == 0x80;
 
             if (arrayEncoded) {
-                int length = decodeInt32(null);
-                Class<?> backingClass = TypeUtil.getBackingClass(typeId);
-                Object flatArray = Array.newInstance(backingClass, length);
+                int length = readInt32(null);
 
-                for (int i = 0; i < length; i++) {
-                    Object element = decodeBuiltinType(typeId);
+                if (length > maxArrayLength) {
+                    throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                            String.format("max array length exceeded (length=%s, max=%s)", length, maxArrayLength));
+                }
+
+                Object flatArray;
 
-                    Array.set(flatArray, i, element);
+                if (primitiveArrays && isPrimitiveType(typeId)) {
+                    flatArray = readPrimitiveArray(typeId, Math.max(length, 0));
+                } else {
+                    Class<?> backingClass = TypeUtil.getBackingClass(typeId);
+                    Object[] elements = (Object[]) Array.newInstance(backingClass, Math.max(length, 0));
+
+                    for (int i = 0; i < elements.length; i++) {
+                        elements[i] = decodeBuiltinType(typeId);
+                    }
+
+                    flatArray = elements;
                 }
 
                 int[] dimensions = dimensionsEncoded ? decodeDimensions() : new int[]{length};
@@ -331,10 +529,10 @@ public class BinaryDecoder implements UaDecoder {
         if (mask == 0) {
             return null;
         } else {
-            int symbolicId = ((mask & 0x01) == 0x01) ? decodeInt32(null) : -1;
-            int namespaceUri = ((mask & 0x02) == 0x02) ? decodeInt32(null) : -1;
-            int localizedText = ((mask & 0x04) == 0x04) ? decodeInt32(null) : -1;
-            int locale = ((mask & 0x08) == 0x08) ? decodeInt32(null) : -1;
+            int symbolicId = ((mask & 0x01) == 0x01) ? readInt32(null) : -1;
+            int namespaceUri = ((mask & 0x02) == 0x02) ? readInt32(null) : -1;
+            int localizedText = ((mask & 0x04) == 0x04) ? readInt32(null) : -1;
+            int locale = ((mask & 0x08) == 0x08) ? readInt32(null) : -1;
             String additionalInfo = ((mask & 0x10) == 0x10) ? decodeString(null) : null;
             StatusCode innerStatusCode = ((mask & 0x20) == 0x20) ? decodeStatusCode(null) : null;
             DiagnosticInfo innerDiagnosticInfo = ((mask & 0x40) == 0x40) ? decodeDiagnosticInfo(null) : null;
@@ -348,6 +546,9 @@ public class BinaryDecoder implements UaDecoder {
     public <T extends UaStructure> T decodeMessage(String field) throws UaSerializationException {
         NodeId encodingId = decodeNodeId(null);
 
+        BinaryDecoderDelegate<?> codec = BinaryDelegateRegistry.getDecoder(encodingId);
+        if (codec != null) return (T) codec.decode(this);
+
         DecoderDelegate<?> delegate = DelegateRegistry.getDecoder(encodingId);
 
         return (T) delegate.decode(this);
@@ -362,6 +563,9 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public <T extends UaSerializable> T decodeSerializable(String field, Class<T> clazz) throws UaSerializationException {
+        BinaryDecoderDelegate<T> codec = BinaryDelegateRegistry.getDecoder(clazz);
+        if (codec != null) return codec.decode(this);
+
         DecoderDelegate<T> delegate = DelegateRegistry.getDecoder(clazz);
 
         return delegate.decode(this);
@@ -370,7 +574,7 @@ public class BinaryDecoder implements UaDecoder {
     @Override
     @SuppressWarnings("unchecked")
     public <T> T[] decodeArray(String field, Function<String, T> decoder, Class<T> clazz) throws UaSerializationException {
-        int length = decodeInt32(null);
+        int length = readInt32(null);
 
         if (length == -1) {
             return (T[]) Array.newInstance(clazz, 0);
@@ -380,6 +584,16 @@ public class BinaryDecoder implements UaDecoder {
                         "max array length exceeded");
             }
 
+            Consumer<Object> consumer = getArrayConsumer(field, clazz);
+
+            if (consumer != null) {
+                for (int i = 0; i < length; i++) {
+                    consumer.accept(decoder.apply(null));
+                }
+
+                return (T[]) Array.newInstance(clazz, 0);
+            }
+
             Object array = Array.newInstance(clazz, length);
 
             for (int i = 0; i < length; i++) {
@@ -393,7 +607,7 @@ public class BinaryDecoder implements UaDecoder {
     @Override
     @SuppressWarnings("unchecked")
     public <T> T[] decodeArray(String field, BiFunction<String, Class<T>, T> decoder, Class<T> clazz) throws UaSerializationException {
-        int length = decodeInt32(null);
+        int length = readInt32(null);
 
         if (length == -1) {
             return (T[]) Array.newInstance(clazz, 0);
@@ -403,6 +617,16 @@ public class BinaryDecoder implements UaDecoder {
                         String.format("max array length exceeded (length=%s, max=%s", length, maxArrayLength));
             }
 
+            Consumer<Object> consumer = getArrayConsumer(field, clazz);
+
+            if (consumer != null) {
+                for (int i = 0; i < length; i++) {
+                    consumer.accept(decoder.apply(null, clazz));
+                }
+
+                return (T[]) Array.newInstance(clazz, 0);
+            }
+
             T[] array = (T[]) Array.newInstance(clazz, length);
             for (int i = 0; i < length; i++) {
                 array[i] = decoder.apply(null, clazz);
@@ -411,15 +635,174 @@ public class BinaryDecoder implements UaDecoder {
         }
     }
 
+    /**
+     * Read the length prefix of an array. The caller reads the elements.
+     *
+     * @return the length of the array; 0 if the array is null.
+     */
+    public int readArrayLength() throws UaSerializationException {
+        int length = readInt32(null);
+
+        if (length == -1) {
+            return 0;
+        } else if (length < -1) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, "invalid array length: " + length);
+        } else if (length > maxArrayLength) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                    String.format("max array length exceeded (length=%s, max=%s", length, maxArrayLength));
+        }
+
+        return length;
+    }
+
+    /**
+     * @return {@code true} if array fields named {@code field} with element type {@code clazz} are streamed to an
+     * {@link ArrayConsumers} consumer and must be decoded with {@code decodeArray}.
+     */
+    public boolean isArrayStreamed(String field, Class<?> clazz) {
+        return getArrayConsumer(field, clazz) != null;
+    }
+
+    private Consumer<Object> getArrayConsumer(String field, Class<?> clazz) {
+        ArrayConsumers consumers = arrayConsumers;
+
+        return consumers != null && !consumers.isEmpty() ? consumers.get(field, clazz) : null;
+    }
+
+    @Override
+    public boolean readBoolean(String field) {
+        return buffer.readBoolean();
+    }
+
+    @Override
+    public byte readSByte(String field) {
+        return buffer.readByte();
+    }
+
+    @Override
+    public short readInt16(String field) {
+        return buffer.readShort();
+    }
+
+    @Override
+    public int readInt32(String field) {
+        return buffer.readInt();
+    }
+
+    @Override
+    public long readInt64(String field) {
+        return buffer.readLong();
+    }
+
+    @Override
+    public int readByte(String field) {
+        return buffer.readUnsignedByte();
+    }
+
+    @Override
+    public int readUInt16(String field) {
+        return buffer.readUnsignedShort();
+    }
+
+    @Override
+    public long readUInt32(String field) {
+        return buffer.readUnsignedInt();
+    }
+
+    @Override
+    public long readUInt64(String field) {
+        return buffer.readLong();
+    }
+
+    @Override
+    public float readFloat(String field) {
+        return buffer.readFloat();
+    }
+
+    @Override
+    public double readDouble(String field) {
+        return buffer.readDouble();
+    }
+
+    private static boolean isPrimitiveType(int typeId) {
+        switch (typeId) {
+            case 1:
+            case 2:
+            case 4:
+            case 6:
+            case 8:
+            case 10:
+            case 11:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Read {@code length} elements of builtin type {@code typeId} into a primitive array using bulk reads.
+     */
+    private Object readPrimitiveArray(int typeId, int length) {
+        switch (typeId) {
+            case 1: {
+                boolean[] a = new boolean[length];
+                for (int i = 0; i < length; i++) a[i] = buffer.readBoolean();
+                return a;
+            }
+            case 2: {
+                byte[] a = new byte[length];
+                buffer.readBytes(a);
+                return a;
+            }
+            case 4: {
+                short[] a = new short[length];
+                slice(length * 2).asShortBuffer().get(a);
+                return a;
+            }
+            case 6: {
+                int[] a = new int[length];
+                slice(length * 4).asIntBuffer().get(a);
+                return a;
+            }
+            case 8: {
+                long[] a = new long[length];
+                slice(length * 8).asLongBuffer().get(a);
+                return a;
+            }
+            case 10: {
+                float[] a = new float[length];
+                slice(length * 4).asFloatBuffer().get(a);
+                return a;
+            }
+            case 11: {
+                double[] a = new double[length];
+                slice(length * 8).asDoubleBuffer().get(a);
+                return a;
+            }
+            default:
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError, "not a primitive type: " + typeId);
+        }
+    }
+
+    /**
+     * Skip {@code length} bytes and return a little-endian view of them.
+     */
+    private ByteBuffer slice(int length) {
+        int index = buffer.readerIndex();
+        buffer.skipBytes(length);
+
+        return buffer.nioBuffer(index, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
     private int[] decodeDimensions() {
-        int length = decodeInt32(null);
+        int length = readInt32(null);
 
         if (length == -1) {
             return new int[0];
         } else {
             int[] is = new int[length];
             for (int i = 0; i < length; i++) {
-                is[i] = decodeInt32(null);
+                is[i] = readInt32(null);
             }
             return is;
         }
@@ -0,0 +1,5 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+public interface BinaryDecoderDelegate<T> {
+    T decode(BinaryDecoder decoder);
+}
@@ -0,0 +1,75 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import javax.annotation.Nullable;
+
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateTable;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+
+/**
+ * Resolves {@link BinaryEncoderDelegate}s, {@link BinaryDecoderDelegate}s and {@link BinarySizeDelegate}s by class or
+ * by binary encoding id.
+ * <p>
+ * {@link BinaryEncoder}, {@link BinaryDecoder} and {@link BinarySizeEncoder} consult this registry before
+ * {@link DelegateRegistry}; a type registered here is encoded, decoded and sized by its binary-only codec, which calls
+ * the binary encoder, decoder and size encoder directly instead of going through the {@link com.digitalpetri.opcua.stack.core.serialization.UaEncoder} and
+ * {@link com.digitalpetri.opcua.stack.core.serialization.UaDecoder} interfaces. Unlike {@link DelegateRegistry},
+ * lookups return {@code null} when nothing is registered.
+ */
+public class BinaryDelegateRegistry {
+
+    private static final DelegateTable<BinaryEncoderDelegate<?>> encoders = new DelegateTable<>();
+
+    private static final DelegateTable<BinaryDecoderDelegate<?>> decoders = new DelegateTable<>();
+
+    private static final DelegateTable<BinarySizeDelegate<?>> sizers = new DelegateTable<>();
+
+    public static <T> void registerEncoder(BinaryEncoderDelegate<T> delegate, Class<T> clazz, NodeId... ids) {
+        encoders.register(delegate, clazz, ids);
+    }
+
+    public static <T> void registerDecoder(BinaryDecoderDelegate<T> delegate, Class<T> clazz, NodeId... ids) {
+        decoders.register(delegate, clazz, ids);
+    }
+
+    public static <T> void registerSizer(BinarySizeDelegate<T> delegate, Class<T> clazz, NodeId... ids) {
+        sizers.register(delegate, clazz, ids);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> BinaryEncoderDelegate<T> getEncoder(Class<?> clazz) {
+        return (BinaryEncoderDelegate<T>) encoders.get(clazz);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> BinaryEncoderDelegate<T> getEncoder(NodeId encodingId) {
+        return (BinaryEncoderDelegate<T>) encoders.get(encodingId);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> BinaryDecoderDelegate<T> getDecoder(Class<T> clazz) {
+        return (BinaryDecoderDelegate<T>) decoders.get(clazz);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> BinaryDecoderDelegate<T> getDecoder(NodeId encodingId) {
+        return (BinaryDecoderDelegate<T>) decoders.get(encodingId);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> BinarySizeDelegate<T> getSizer(Class<?> clazz) {
+        return (BinarySizeDelegate<T>) sizers.get(clazz);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> BinarySizeDelegate<T> getSizer(NodeId encodingId) {
+        return (BinarySizeDelegate<T>) sizers.get(encodingId);
+    }
+
+}
@@ -1,8 +1,8 @@
 package com.digitalpetri.opcua.stack.core.serialization.binary;
 
 import javax.annotation.Nonnull;
-import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -32,16 +32,24 @@ import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.ULong;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UShort;
-import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned;
 import com.digitalpetri.opcua.stack.core.types.enumerated.IdType;
 import com.digitalpetri.opcua.stack.core.util.ArrayUtil;
 import com.digitalpetri.opcua.stack.core.util.TypeUtil;
+import com.digitalpetri.opcua.stack.core.util.Utf8Util;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 public class BinaryEncoder implements UaEncoder {
 
     private volatile ByteBuf buffer;
 
+    private volatile BinaryEncoderSink sink;
+
+    /**
+     * The number of ExtensionObject bodies being encoded whose length has not been written yet.
+     */
+    private int structureDepth;
+
     private final int maxArrayLength;
     private final int maxStringLength;
 
@@ -63,103 +71,104 @@ public class BinaryEncoder implements UaEncoder {
         return buffer;
     }
 
+    /**
+     * Hand the output to {@code sink} at each safe point while encoding, instead of keeping it all in one buffer.
+     *
+     * @param sink the {@link BinaryEncoderSink}, or {@code null} to write only into the buffer.
+     */
+    public BinaryEncoder setSink(BinaryEncoderSink sink) {
+        this.sink = sink;
+        return this;
+    }
+
+    /**
+     * Let the sink, if any, take what has been written so far. Nothing before the writer index may be modified
+     * after this is called, so it is skipped while an ExtensionObject length is pending.
+     */
+    private void checkpoint() {
+        if (sink != null && structureDepth == 0) {
+            buffer = sink.flush();
+        }
+    }
+
+    /**
+     * Write {@code length} bytes of {@code bytes} starting at {@code index}. With a sink, they are written in pieces
+     * that fit what the sink will take, flushing between pieces, instead of growing the buffer to hold them all.
+     */
+    private void writeBytes(ByteBuf bytes, int index, int length) {
+        BinaryEncoderSink sink = this.sink;
+
+        if (sink == null || structureDepth > 0) {
+            buffer.writeBytes(bytes, index, length);
+            return;
+        }
+
+        while (true) {
+            int n = Math.min(length, sink.writableBytes());
+
+            buffer.writeBytes(bytes, index, n);
+            index += n;
+            length -= n;
+
+            if (length == 0) break;
+
+            buffer = sink.flush();
+        }
+    }
+
     @Override
     public void encodeBoolean(String field, Boolean value) {
-        if (value == null) {
-            buffer.writeBoolean(false);
-        } else {
-            buffer.writeBoolean(value);
-        }
+        writeBoolean(field, value != null && value);
     }
 
     @Override
     public void encodeSByte(String field, Byte value) {
-        if (value == null) {
-            buffer.writeByte(0);
-        } else {
-            buffer.writeByte(value);
-        }
+        writeSByte(field, value == null ? 0 : value);
     }
 
     @Override
     public void encodeInt16(String field, Short value) {
-        if (value == null) {
-            buffer.writeShort(0);
-        } else {
-            buffer.writeShort(value);
-        }
+        writeInt16(field, value == null ? 0 : value);
     }
 
     @Override
     public void encodeInt32(String field, Integer value) {
-        if (value == null) {
-            buffer.writeInt(0);
-        } else {
-            buffer.writeInt(value);
-        }
+        writeInt32(field, value == null ? 0 : value);
     }
 
     @Override
     public void encodeInt64(String field, Long value) {
-        if (value == null) {
-            buffer.writeLong(0);
-        } else {
-            buffer.writeLong(value);
-        }
+        writeInt64(field, value == null ? 0L : value);
     }
 
     @Override
     public void encodeByte(String field, UByte value) throws UaSerializationException {
-        if (value == null) {
-            buffer.writeByte(0);
-        } else {
-            buffer.writeByte(value.intValue());
-        }
+        writeByte(field, value == null ? 0 : value.intValue());
     }
 
     @Override
     public void encodeUInt16(String field, UShort value) throws UaSerializationException {
-        if (value == null) {
-            buffer.writeShort(0);
-        } else {
-            buffer.writeShort(value.intValue());
-        }
+        writeUInt16(field, value == null ? 0 : value.intValue());
     }
 
     @Override
     public void encodeUInt32(String field, UInteger value) throws UaSerializationException {
-        if (value == null) {
-            buffer.writeInt(0);
-        } else {
-            buffer.writeInt(value.intValue());
-        }
+        writeUInt32(field, value == null ? 0L : value.longValue());
     }
 
     @Override
     public void encodeUInt64(String field, ULong value) throws UaSerializationException {
-        if (value == null) {
-            buffer.writeLong(0);
-        } else {
-            buffer.writeLong(value.longValue());
-        }
+        writeUInt64(field, value == null ? 0L : value.longValue());
     }
 
     @Override
     public void encodeFloat(String field, Float value) {
-        if (value == null) {
-            buffer.writeFloat(0);
-        } else {
-            buffer.writeFloat(value);
-        }
+        writeFloat(field, value == null ? 0f : value);
     }
 
     @Override
     public void encodeDouble(String field, Double value) {
-        if (value == null) {
-            buffer.writeDouble(0);
-        } else {
-            buffer.writeDouble(value);
-        }
+        writeDouble(field, value == null ? 0.0 : value);
     }
 
     @Override
@@ -172,27 +181,13 @@ public class BinaryEncoder implements UaEncoder {
                         "max string length exceeded");
             }
 
-            try {
-                // Record the current index and write a placeholder for the length.
-                int lengthIndex = buffer.writerIndex();
-                buffer.writeInt(0x42424242);
-
-                // Write the string bytes.
-                int indexBefore = buffer.writerIndex();
-                buffer.writeBytes(value.getBytes("UTF-8"));
-                int indexAfter = buffer.writerIndex();
-                int bytesWritten = indexAfter - indexBefore;
-
-                // Go back and update the length.
-                buffer.writerIndex(lengthIndex);
-                buffer.writeInt(bytesWritten);
-
-                // Return to where we were after writing the string.
-                buffer.writerIndex(indexAfter);
-            } catch (UnsupportedEncodingException e) {
-                throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
-            }
+            int length = Utf8Util.encodedLength(value);
+
+            buffer.writeInt(length);
+            Utf8Util.write(buffer, value, length);
         }
+
+        checkpoint();
     }
 
     @Override
@@ -224,14 +219,27 @@ public class BinaryEncoder implements UaEncoder {
     public void encodeByteString(String field, ByteString value) {
         if (value == null || value.isNull()) {
             buffer.writeInt(-1);
+        } else if (value.isBuffered()) {
+            ByteBuf bytes = value.buffer();
+
+            assert (bytes != null);
+
+            buffer.writeInt(bytes.readableBytes());
+            writeBytes(bytes, bytes.readerIndex(), bytes.readableBytes());
         } else {
             byte[] bytes = value.bytes();
 
             assert (bytes != null);
 
             buffer.writeInt(bytes.length);
-            buffer.writeBytes(bytes);
+            if (sink == null || structureDepth > 0) {
+                buffer.writeBytes(bytes);
+            } else {
+                writeBytes(Unpooled.wrappedBuffer(bytes), 0, bytes.length);
+            }
         }
+
+        checkpoint();
     }
 
     @Override
@@ -239,12 +247,26 @@ public class BinaryEncoder implements UaEncoder {
         if (value == null || value.isNull()) {
             buffer.writeInt(-1);
         } else {
-            try {
-                encodeByteString(null, new ByteString(value.getFragment().getBytes("UTF-8")));
-            } catch (UnsupportedEncodingException e) {
-                throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+            String fragment = value.getFragment();
+            int length = Utf8Util.encodedLength(fragment);
+
+            buffer.writeInt(length);
+
+            BinaryEncoderSink sink = this.sink;
+
+            if (sink == null || structureDepth > 0 || length <= sink.writableBytes()) {
+                Utf8Util.write(buffer, fragment, length);
+            } else {
+                int index = Utf8Util.write(buffer, fragment, 0, sink.writableBytes());
+
+                while (index < fragment.length()) {
+                    buffer = sink.flush();
+                    index = Utf8Util.write(buffer, fragment, index, sink.writableBytes());
+                }
             }
         }
+
+        checkpoint();
     }
 
     @Override
@@ -359,7 +381,7 @@ public class BinaryEncoder implements UaEncoder {
         }
 
         if (serverIndex > 0) {
-            encodeUInt32(null, Unsigned.uint(serverIndex));
+            writeUInt32(null, serverIndex);
         }
     }
 
@@ -368,7 +390,7 @@ public class BinaryEncoder implements UaEncoder {
         if (value == null) {
             buffer.writeInt(0);
         } else {
-            encodeUInt32(null, Unsigned.uint(value.getValue()));
+            writeUInt32(null, value.getValue());
         }
     }
 
@@ -376,7 +398,7 @@ public class BinaryEncoder implements UaEncoder {
     public void encodeQualifiedName(String field, QualifiedName value) throws UaSerializationException {
         if (value == null) value = QualifiedName.NULL_VALUE;
 
-        encodeUInt16(null, value.getNamespaceIndex());
+        writeUInt16(null, value.getNamespaceIndex().intValue());
         encodeString(null, value.getName());
     }
 
@@ -407,7 +429,9 @@ public class BinaryEncoder implements UaEncoder {
 
     @Override
     public void encodeExtensionObject(String field, ExtensionObject value) throws UaSerializationException {
-        if (value == null || value.getEncoded() == null) {
+        if (value != null && value.isPendingEncoding()) {
+            encodeStructure(value.getEncodingTypeId(), value.decode());
+        } else if (value == null || value.getEncoded() == null) {
             encodeNodeId(null, NodeId.NULL_VALUE);
             buffer.writeByte(0); // No body is encoded
         } else {
@@ -432,47 +456,37 @@ public class BinaryEncoder implements UaEncoder {
                     encodeXmlElement(null, xmlElement);
                     break;
             }
+        }
+
+        checkpoint();
+    }
 
-//            if (object instanceof UaSerializable) {
-//                UaSerializable serializable = (UaSerializable) object;
-//
-//                encodeNodeId(null, value.getEncodingTypeId());
-//                buffer.writeByte(1); // Body is binary encoded
-//
-//                // Record the current index and write a placeholder for the length.
-//                int lengthIndex = buffer.writerIndex();
-//                buffer.writeInt(0);
-//
-//                // Write the body.
-//                int indexBefore = buffer.writerIndex();
-//                encodeSerializable(null, serializable);
-//                int indexAfter = buffer.writerIndex();
-//                int bytesWritten = indexAfter - indexBefore;
-//
-//                // Go back and update the length.
-//                buffer.writerIndex(lengthIndex);
-//                buffer.writeInt(bytesWritten);
-//
-//                // Return to where we were after writing the body.
-//                buffer.writerIndex(indexAfter);
-//            } else if (object instanceof ByteString) {
-//                ByteString byteString = (ByteString) object;
-//
-//                encodeNodeId(null, value.getEncodingTypeId());
-//                buffer.writeByte(1); // Body is binary encoded
-//
-//                encodeByteString(null, byteString);
-//            } else if (object instanceof XmlElement) {
-//                XmlElement xmlElement = (XmlElement) object;
-//
-//                encodeNodeId(null, value.getEncodingTypeId());
-//                buffer.writeByte(2);
-//
-//                encodeXmlElement(null, xmlElement);
-//            } else {
-//                throw new UaSerializationException(StatusCodes.Bad_EncodingError, "unexpected object in ExtensionObject: " + object);
-//            }
+    /**
+     * Encode {@code structure} as a binary ExtensionObject body directly into the buffer, back-patching the length.
+     */
+    private void encodeStructure(NodeId encodingId, Object structure) throws UaSerializationException {
+        BinaryEncoderDelegate<Object> codec = BinaryDelegateRegistry.getEncoder(encodingId);
+        EncoderDelegate<Object> delegate = codec == null ? DelegateRegistry.getEncoder(encodingId) : null;
+
+        encodeNodeId(null, encodingId);
+        buffer.writeByte(1); // Body is binary encoded
+
+        // Record the current index and write a placeholder for the length.
+        int lengthIndex = buffer.writerIndex();
+        buffer.writeInt(0);
+
+        // Write the body and go back to update the length.
+        structureDepth++;
+        try {
+            if (codec != null) {
+                codec.encode(structure, this);
+            } else {
+                delegate.encode(structure, this);
+            }
+        } finally {
+            structureDepth--;
         }
+        buffer.setInt(lengthIndex, buffer.writerIndex() - lengthIndex - 4);
     }
 
     @Override
@@ -494,6 +508,8 @@ public class BinaryEncoder implements UaEncoder {
             if ((mask & 0x04) == 0x04) encodeDateTime(null, value.getSourceTime());
             if ((mask & 0x08) == 0x08) encodeDateTime(null, value.getServerTime());
         }
+
+        checkpoint();
     }
 
     @Override
@@ -519,66 +535,120 @@ public class BinaryEncoder implements UaEncoder {
 
             if (value.getClass().isArray()) {
                 int[] dimensions = ArrayUtil.getDimensions(value);
+                Object flattened = dimensions.length == 1 ? value : ArrayUtil.flatten(value);
+                int length = Array.getLength(flattened);
 
-                if (dimensions.length == 1) {
-                    buffer.writeByte(typeId | 0x80);
-
-                    int length = Array.getLength(value);
-                    buffer.writeInt(length);
-
-                    for (int i = 0; i < length; i++) {
-                        Object o = Array.get(value, i);
-
-                        if (structure) {
-                            ExtensionObject extensionObject = ExtensionObject.encode((UaStructure) o);
+                buffer.writeByte(typeId | (dimensions.length == 1 ? 0x80 : 0xC0));
+                buffer.writeInt(length);
 
-                            encodeBuiltinType(typeId, extensionObject);
-                        } else if (enumeration) {
-                            encodeBuiltinType(typeId, ((UaEnumeration) o).getValue());
-                        } else {
-                            encodeBuiltinType(typeId, o);
-                        }
-                    }
+                if (flattened.getClass().getComponentType().isPrimitive()) {
+                    writePrimitiveArray(flattened);
                 } else {
-                    buffer.writeByte(typeId | 0xC0);
-
-                    Object flattened = ArrayUtil.flatten(value);
-                    int length = Array.getLength(flattened);
-                    buffer.writeInt(length);
-
-                    for (int i = 0; i < length; i++) {
-                        Object o = Array.get(flattened, i);
-
+                    for (Object o : (Object[]) flattened) {
                         if (structure) {
-                            ExtensionObject extensionObject = ExtensionObject.encode((UaStructure) o);
-
-                            encodeBuiltinType(typeId, extensionObject);
+                            encodeStructure(((UaStructure) o).getBinaryEncodingId(), o);
                         } else if (enumeration) {
-                            encodeBuiltinType(typeId, ((UaEnumeration) o).getValue());
+                            writeInt32(null, ((UaEnumeration) o).getValue());
                         } else {
                             encodeBuiltinType(typeId, o);
                         }
+
+                        checkpoint();
                     }
+                }
 
-                    encodeInt32(null, dimensions.length);
+                if (dimensions.length > 1) {
+                    writeInt32(null, dimensions.length);
                     for (int dimension : dimensions) {
-                        encodeInt32(null, dimension);
+                        writeInt32(null, dimension);
                     }
                 }
             } else {
                 buffer.writeByte(typeId);
 
                 if (structure) {
-                    ExtensionObject extensionObject = ExtensionObject.encode((UaStructure) value);
-
-                    encodeBuiltinType(typeId, extensionObject);
+                    encodeStructure(((UaStructure) value).getBinaryEncodingId(), value);
                 } else if (enumeration) {
-                    encodeBuiltinType(typeId, ((UaEnumeration) value).getValue());
+                    writeInt32(null, ((UaEnumeration) value).getValue());
                 } else {
                     encodeBuiltinType(typeId, value);
                 }
             }
         }
+
+        checkpoint();
+    }
+
+    /**
+     * Write the elements of a one-dimensional primitive array using bulk writes where the buffer allows it.
+     *
+     * @param array a boolean[], byte[], short[], int[], long[], float[] or double[].
+     */
+    private void writePrimitiveArray(Object array) {
+        if (array instanceof double[]) {
+            double[] a = (double[]) array;
+            ByteBuffer bb = reserve(a.length * 8);
+            if (bb != null) {
+                bb.asDoubleBuffer().put(a);
+            } else {
+                for (double v : a) buffer.writeDouble(v);
+            }
+        } else if (array instanceof float[]) {
+            float[] a = (float[]) array;
+            ByteBuffer bb = reserve(a.length * 4);
+            if (bb != null) {
+                bb.asFloatBuffer().put(a);
+            } else {
+                for (float v : a) buffer.writeFloat(v);
+            }
+        } else if (array instanceof long[]) {
+            long[] a = (long[]) array;
+            ByteBuffer bb = reserve(a.length * 8);
+            if (bb != null) {
+                bb.asLongBuffer().put(a);
+            } else {
+                for (long v : a) buffer.writeLong(v);
+            }
+        } else if (array instanceof int[]) {
+            int[] a = (int[]) array;
+            ByteBuffer bb = reserve(a.length * 4);
+            if (bb != null) {
+                bb.asIntBuffer().put(a);
+            } else {
+                for (int v : a) buffer.writeInt(v);
+            }
+        } else if (array instanceof short[]) {
+            short[] a = (short[]) array;
+            ByteBuffer bb = reserve(a.length * 2);
+            if (bb != null) {
+                bb.asShortBuffer().put(a);
+            } else {
+                for (short v : a) buffer.writeShort(v);
+            }
+        } else if (array instanceof byte[]) {
+            buffer.writeBytes((byte[]) array);
+        } else if (array instanceof boolean[]) {
+            for (boolean v : (boolean[]) array) buffer.writeBoolean(v);
+        } else {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError,
+                    "unsupported primitive array: " + array.getClass());
+        }
+    }
+
+    /**
+     * Reserve {@code length} bytes at the writer index and return a little-endian view of them, or {@code null} if the
+     * buffer is not backed by a single NIO buffer and must be written element by element.
+     */
+    private ByteBuffer reserve(int length) {
+        buffer.ensureWritable(length);
+
+        if (buffer.nioBufferCount() != 1) return null;
+
+        int index = buffer.writerIndex();
+        ByteBuffer bb = buffer.nioBuffer(index, length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.writerIndex(index + length);
+
+        return bb;
     }
 
     private Class<?> getClass(@Nonnull Object o) {
@@ -607,29 +677,38 @@ public class BinaryEncoder implements UaEncoder {
 
             buffer.writeByte(mask);
 
-            if ((mask & 0x01) == 0x01) encodeInt32(null, value.getSymbolicId());
-            if ((mask & 0x02) == 0x02) encodeInt32(null, value.getNamespaceUri());
-            if ((mask & 0x04) == 0x04) encodeInt32(null, value.getLocalizedText());
-            if ((mask & 0x08) == 0x08) encodeInt32(null, value.getLocale());
+            if ((mask & 0x01) == 0x01) writeInt32(null, value.getSymbolicId());
+            if ((mask & 0x02) == 0x02) writeInt32(null, value.getNamespaceUri());
+            if ((mask & 0x04) == 0x04) writeInt32(null, value.getLocalizedText());
+            if ((mask & 0x08) == 0x08) writeInt32(null, value.getLocale());
             if ((mask & 0x10) == 0x10) encodeString(null, value.getAdditionalInfo());
             if ((mask & 0x20) == 0x20) encodeStatusCode(null, value.getInnerStatusCode());
             if ((mask & 0x40) == 0x40) encodeDiagnosticInfo(null, value.getInnerDiagnosticInfo());
         }
+
+        checkpoint();
     }
 
     @Override
     public <T extends UaStructure> void encodeMessage(String field, T message) throws UaSerializationException {
-        EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(message.getBinaryEncodingId());
+        NodeId encodingId = message.getBinaryEncodingId();
+        BinaryEncoderDelegate<T> codec = BinaryDelegateRegistry.getEncoder(encodingId);
 
-        encodeNodeId(null, message.getBinaryEncodingId());
+        if (codec != null) {
+            encodeNodeId(null, encodingId);
+            codec.encode(message, this);
+        } else {
+            EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(encodingId);
 
-        delegate.encode(message, this);
+            encodeNodeId(null, encodingId);
+            delegate.encode(message, this);
+        }
     }
 
     @Override
     public <T extends UaEnumeration> void encodeEnumeration(String field, T value) throws UaSerializationException {
         if (value == null) {
-            encodeInt32(null, -1);
+            writeInt32(null, -1);
         } else {
             EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(value);
 
@@ -639,13 +718,35 @@ public class BinaryEncoder implements UaEncoder {
 
     @Override
     public <T extends UaSerializable> void encodeSerializable(String field, T value) throws UaSerializationException {
-        EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(value);
+        BinaryEncoderDelegate<T> codec = BinaryDelegateRegistry.getEncoder(value.getClass());
+
+        if (codec != null) {
+            codec.encode(value, this);
+        } else {
+            EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(value);
 
-        delegate.encode(value, this);
+            delegate.encode(value, this);
+        }
     }
 
     @Override
     public <T> void encodeArray(String field, T[] values, BiConsumer<String, T> consumer) throws UaSerializationException {
+        writeArrayLength(values);
+
+        if (values != null) {
+            for (T t : values) {
+                consumer.accept(null, t);
+                checkpoint();
+            }
+        }
+    }
+
+    /**
+     * Write the length prefix of an array, or -1 if {@code values} is null. The caller writes the elements.
+     *
+     * @param values the array whose length to write.
+     */
+    public void writeArrayLength(Object[] values) throws UaSerializationException {
         if (values == null) {
             buffer.writeInt(-1);
         } else {
@@ -654,13 +755,65 @@ public class BinaryEncoder implements UaEncoder {
                         "max array length exceeded");
             }
 
-            encodeInt32(null, values.length);
-            for (T t : values) {
-                consumer.accept(null, t);
-            }
+            writeInt32(null, values.length);
         }
     }
 
+    @Override
+    public void writeBoolean(String field, boolean value) {
+        buffer.writeBoolean(value);
+    }
+
+    @Override
+    public void writeSByte(String field, byte value) {
+        buffer.writeByte(value);
+    }
+
+    @Override
+    public void writeInt16(String field, short value) {
+        buffer.writeShort(value);
+    }
+
+    @Override
+    public void writeInt32(String field, int value) {
+        buffer.writeInt(value);
+    }
+
+    @Override
+    public void writeInt64(String field, long value) {
+        buffer.writeLong(value);
+    }
+
+    @Override
+    public void writeByte(String field, int value) {
+        buffer.writeByte(value);
+    }
+
+    @Override
+    public void writeUInt16(String field, int value) {
+        buffer.writeShort(value);
+    }
+
+    @Override
+    public void writeUInt32(String field, long value) {
+        buffer.writeInt((int) value);
+    }
+
+    @Override
+    public void writeUInt64(String field, long value) {
+        buffer.writeLong(value);
+    }
+
+    @Override
+    public void writeFloat(String field, float value) {
+        buffer.writeFloat(value);
+    }
+
+    @Override
+    public void writeDouble(String field, double value) {
+        buffer.writeDouble(value);
+    }
+
     private void encodeBuiltinType(int typeId, Object value) throws UaSerializationException {
         switch (typeId) {
             case 1:
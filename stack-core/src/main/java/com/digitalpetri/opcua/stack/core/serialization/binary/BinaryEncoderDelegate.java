@@ -0,0 +1,5 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+public interface BinaryEncoderDelegate<T> {
+    void encode(T encodable, BinaryEncoder encoder);
+}
@@ -0,0 +1,32 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Takes the output of a {@link BinaryEncoder} while a message is still being encoded.
+ * <p>
+ * The encoder calls {@link #flush()} at points where it will not go back and modify anything it has already written:
+ * after each String, ByteString, XmlElement, DataValue, Variant, ExtensionObject, DiagnosticInfo, and array element,
+ * but never inside an ExtensionObject body whose length is still to be written. The sink may take every byte written so
+ * far and returns the buffer the encoder continues writing into.
+ * <p>
+ * ByteString and XmlElement values longer than {@link #writableBytes()} are written in pieces, with a flush between
+ * each, so a large value never has to fit in the buffer all at once.
+ */
+public interface BinaryEncoderSink {
+
+    /**
+     * @return the buffer the encoder writes into next; the encoder's current buffer if the sink took nothing.
+     * @throws UaSerializationException if the sink cannot take the bytes written so far.
+     */
+    ByteBuf flush() throws UaSerializationException;
+
+    /**
+     * @return the number of bytes the encoder may write into its current buffer before it should flush; at least 1.
+     */
+    default int writableBytes() {
+        return Integer.MAX_VALUE;
+    }
+
+}
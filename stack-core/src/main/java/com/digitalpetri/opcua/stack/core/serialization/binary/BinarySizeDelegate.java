@@ -0,0 +1,5 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+public interface BinarySizeDelegate<T> {
+    void encodedSize(T encodable, BinarySizeEncoder sizer);
+}
@@ -0,0 +1,608 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.lang.reflect.Array;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.EncoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.UaEnumeration;
+import com.digitalpetri.opcua.stack.core.serialization.UaSerializable;
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.ULong;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UShort;
+import com.digitalpetri.opcua.stack.core.types.enumerated.IdType;
+import com.digitalpetri.opcua.stack.core.util.ArrayUtil;
+import com.digitalpetri.opcua.stack.core.util.TypeUtil;
+import com.digitalpetri.opcua.stack.core.util.Utf8Util;
+
+/**
+ * A {@link UaEncoder} that computes the exact size of the OPC UA Binary encoding {@link BinaryEncoder} would produce,
+ * without writing anything.
+ * <p>
+ * Structured types with a generated binary codec are sized by the codec's {@code encodedSize} method, registered as a
+ * {@link BinarySizeDelegate}, which adds up fixed-size fields at generation time and only visits variable-length
+ * ones. Other types are walked through their {@link EncoderDelegate}.
+ */
+public class BinarySizeEncoder implements UaEncoder {
+
+    private long size = 0L;
+
+    private final long limit;
+
+    public BinarySizeEncoder() {
+        this(Long.MAX_VALUE);
+    }
+
+    /**
+     * @param limit the size past which counting stops; arrays, structures and strings encoded after the size exceeds
+     *              it are not walked.
+     */
+    public BinarySizeEncoder(long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Compute the size of {@code message} as written by {@link BinaryEncoder#encodeMessage(String, UaStructure)}.
+     *
+     * @param message the message to compute the encoded size of.
+     * @return the encoded size of {@code message}, in bytes.
+     */
+    public static int encodedSize(UaStructure message) throws UaSerializationException {
+        return encodedSize(message, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Compute the size of {@code message}, giving up as soon as it is known to be larger than {@code limit}.
+     *
+     * @param message the message to compute the encoded size of.
+     * @param limit   the largest size of interest.
+     * @return the encoded size of {@code message} if it is no larger than {@code limit}, otherwise some value greater
+     * than {@code limit}.
+     */
+    public static int encodedSize(UaStructure message, int limit) throws UaSerializationException {
+        BinarySizeEncoder encoder = new BinarySizeEncoder(limit);
+
+        try {
+            encoder.encodeMessage(null, message);
+        } catch (LimitExceededException e) {
+            // size is already past the limit.
+        }
+
+        return (int) Math.min(encoder.getSize(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the number of bytes encoded since creation or the last call to {@link #reset()}.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public BinarySizeEncoder reset() {
+        size = 0L;
+        return this;
+    }
+
+    /**
+     * Count {@code n} more bytes. Used by generated codecs for fields whose size does not depend on their value.
+     */
+    public void addSize(long n) {
+        size += n;
+    }
+
+    /**
+     * Count an array of fixed-size elements: its length followed by {@code elementSize} bytes per element.
+     */
+    public void addArraySize(Object[] values, int elementSize) {
+        size += 4;
+        if (values != null) size += (long) values.length * elementSize;
+    }
+
+    /**
+     * Stop counting if the size has already passed the limit. Called before each element of an array is sized.
+     */
+    public void checkLimit() {
+        if (size > limit) throw LimitExceededException.INSTANCE;
+    }
+
+    @Override
+    public void encodeBoolean(String field, Boolean value) {
+        size += 1;
+    }
+
+    @Override
+    public void encodeSByte(String field, Byte value) {
+        size += 1;
+    }
+
+    @Override
+    public void encodeInt16(String field, Short value) {
+        size += 2;
+    }
+
+    @Override
+    public void encodeInt32(String field, Integer value) {
+        size += 4;
+    }
+
+    @Override
+    public void encodeInt64(String field, Long value) {
+        size += 8;
+    }
+
+    @Override
+    public void encodeByte(String field, UByte value) {
+        size += 1;
+    }
+
+    @Override
+    public void encodeUInt16(String field, UShort value) {
+        size += 2;
+    }
+
+    @Override
+    public void encodeUInt32(String field, UInteger value) {
+        size += 4;
+    }
+
+    @Override
+    public void encodeUInt64(String field, ULong value) {
+        size += 8;
+    }
+
+    @Override
+    public void encodeFloat(String field, Float value) {
+        size += 4;
+    }
+
+    @Override
+    public void encodeDouble(String field, Double value) {
+        size += 8;
+    }
+
+    @Override
+    public void encodeString(String field, String value) {
+        size += 4;
+
+        if (value != null) {
+            // Every char encodes to at least one byte, so a string that cannot fit is not measured.
+            size += value.length() > limit - size ? value.length() : Utf8Util.encodedLength(value);
+            checkLimit();
+        }
+    }
+
+    @Override
+    public void encodeDateTime(String field, DateTime value) {
+        size += 8;
+    }
+
+    @Override
+    public void encodeGuid(String field, UUID value) {
+        size += 16;
+    }
+
+    @Override
+    public void encodeByteString(String field, ByteString value) {
+        size += 4;
+        if (value != null && value.isNotNull()) size += value.length();
+    }
+
+    @Override
+    public void encodeXmlElement(String field, XmlElement value) {
+        size += 4;
+        if (value != null && value.isNotNull()) size += Utf8Util.encodedLength(value.getFragment());
+    }
+
+    @Override
+    public void encodeNodeId(String field, NodeId value) throws UaSerializationException {
+        if (value == null) value = NodeId.NULL_VALUE;
+
+        encodeNodeId(value.getNamespaceIndex().intValue(), value.getType(), value.getIdentifier());
+    }
+
+    @Override
+    public void encodeExpandedNodeId(String field, ExpandedNodeId value) throws UaSerializationException {
+        if (value == null) value = ExpandedNodeId.NULL_VALUE;
+
+        encodeNodeId(value.getNamespaceIndex().intValue(), value.getType(), value.getIdentifier());
+
+        String namespaceUri = value.getNamespaceUri();
+        if (namespaceUri != null && namespaceUri.length() > 0) {
+            encodeString(null, namespaceUri);
+        }
+
+        if (value.getServerIndex() > 0) {
+            size += 4;
+        }
+    }
+
+    private void encodeNodeId(int namespaceIndex, IdType type, Object identifier) throws UaSerializationException {
+        if (type == IdType.Numeric) {
+            long idv = ((UInteger) identifier).longValue();
+
+            if (namespaceIndex == 0 && idv >= 0 && idv <= 255) {
+                size += 2;
+            } else if (namespaceIndex >= 0 && namespaceIndex <= 255 && idv <= 65535) {
+                size += 4;
+            } else {
+                size += 7;
+            }
+        } else if (type == IdType.String) {
+            size += 3;
+            encodeString(null, (String) identifier);
+        } else if (type == IdType.Guid) {
+            size += 3 + 16;
+        } else if (type == IdType.Opaque) {
+            size += 3;
+            encodeByteString(null, (ByteString) identifier);
+        } else {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, "invalid identifier: " + identifier);
+        }
+    }
+
+    @Override
+    public void encodeStatusCode(String field, StatusCode value) {
+        size += 4;
+    }
+
+    @Override
+    public void encodeQualifiedName(String field, QualifiedName value) {
+        if (value == null) value = QualifiedName.NULL_VALUE;
+
+        size += 2;
+        encodeString(null, value.getName());
+    }
+
+    @Override
+    public void encodeLocalizedText(String field, LocalizedText value) {
+        if (value == null) value = LocalizedText.NULL_VALUE;
+
+        String locale = value.getLocale();
+        String text = value.getText();
+
+        size += 1;
+
+        if (locale != null && !locale.isEmpty()) {
+            encodeString(null, locale);
+        }
+        if (text != null && !text.isEmpty()) {
+            encodeString(null, text);
+        }
+    }
+
+    @Override
+    public void encodeExtensionObject(String field, ExtensionObject value) throws UaSerializationException {
+        if (value != null && value.isPendingEncoding()) {
+            encodeStructure(value.getEncodingTypeId(), value.decode());
+        } else if (value == null || value.getEncoded() == null) {
+            encodeNodeId(null, NodeId.NULL_VALUE);
+            size += 1;
+        } else {
+            encodeNodeId(null, value.getEncodingTypeId());
+            size += 1;
+
+            switch (value.getBodyType()) {
+                case BYTE_STRING:
+                    encodeByteString(null, (ByteString) value.getEncoded());
+                    break;
+
+                case XML_ELEMENT:
+                    encodeXmlElement(null, (XmlElement) value.getEncoded());
+                    break;
+            }
+        }
+    }
+
+    private void encodeStructure(NodeId encodingId, Object structure) throws UaSerializationException {
+        BinarySizeDelegate<Object> sizer = BinaryDelegateRegistry.getSizer(encodingId);
+        EncoderDelegate<Object> delegate = sizer == null ? DelegateRegistry.getEncoder(encodingId) : null;
+
+        encodeNodeId(null, encodingId);
+        size += 1 + 4;
+
+        checkLimit();
+
+        if (sizer != null) {
+            sizer.encodedSize(structure, this);
+        } else {
+            delegate.encode(structure, this);
+        }
+    }
+
+    @Override
+    public void encodeDataValue(String field, DataValue value) throws UaSerializationException {
+        size += 1;
+
+        if (value != null) {
+            if (value.getValue() != null && value.getValue().isNotNull()) encodeVariant(null, value.getValue());
+            if (!StatusCode.GOOD.equals(value.getStatusCode())) size += 4;
+            if (!DateTime.MIN_VALUE.equals(value.getSourceTime())) size += 8;
+            if (!DateTime.MIN_VALUE.equals(value.getServerTime())) size += 8;
+        }
+    }
+
+    @Override
+    public void encodeVariant(String field, Variant variant) throws UaSerializationException {
+        Object value = variant.getValue();
+
+        size += 1;
+
+        if (value == null) return;
+
+        boolean structure = false;
+        boolean enumeration = false;
+        Class<?> valueClass = value.getClass().isArray() ? ArrayUtil.getType(value) : value.getClass();
+
+        if (UaStructure.class.isAssignableFrom(valueClass)) {
+            valueClass = ExtensionObject.class;
+            structure = true;
+        } else if (UaEnumeration.class.isAssignableFrom(valueClass)) {
+            valueClass = Integer.class;
+            enumeration = true;
+        }
+
+        int typeId = TypeUtil.getBuiltinTypeId(valueClass);
+
+        if (value.getClass().isArray()) {
+            int[] dimensions = ArrayUtil.getDimensions(value);
+            Object flattened = dimensions.length == 1 ? value : ArrayUtil.flatten(value);
+            int length = Array.getLength(flattened);
+
+            size += 4;
+
+            if (flattened.getClass().getComponentType().isPrimitive() || enumeration) {
+                size += (long) length * fixedSize(typeId);
+            } else {
+                for (Object o : (Object[]) flattened) {
+                    checkLimit();
+
+                    if (structure) {
+                        encodeStructure(((UaStructure) o).getBinaryEncodingId(), o);
+                    } else {
+                        encodeBuiltinType(typeId, o);
+                    }
+                }
+            }
+
+            if (dimensions.length > 1) {
+                size += 4 + 4L * dimensions.length;
+            }
+        } else {
+            if (structure) {
+                encodeStructure(((UaStructure) value).getBinaryEncodingId(), value);
+            } else if (enumeration) {
+                size += 4;
+            } else {
+                encodeBuiltinType(typeId, value);
+            }
+        }
+    }
+
+    @Override
+    public void encodeDiagnosticInfo(String field, DiagnosticInfo value) {
+        size += 1;
+
+        if (value != null) {
+            if (value.getSymbolicId() != -1) size += 4;
+            if (value.getNamespaceUri() != -1) size += 4;
+            if (value.getLocalizedText() != -1) size += 4;
+            if (value.getLocale() != -1) size += 4;
+            if (value.getAdditionalInfo() != null && !value.getAdditionalInfo().isEmpty()) {
+                encodeString(null, value.getAdditionalInfo());
+            }
+            if (value.getInnerStatusCode() != null) size += 4;
+            if (value.getInnerDiagnosticInfo() != null) encodeDiagnosticInfo(null, value.getInnerDiagnosticInfo());
+        }
+    }
+
+    @Override
+    public <T extends UaStructure> void encodeMessage(String field, T message) throws UaSerializationException {
+        NodeId encodingId = message.getBinaryEncodingId();
+        BinarySizeDelegate<T> sizer = BinaryDelegateRegistry.getSizer(encodingId);
+
+        encodeNodeId(null, encodingId);
+
+        if (sizer != null) {
+            sizer.encodedSize(message, this);
+        } else {
+            EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(encodingId);
+
+            delegate.encode(message, this);
+        }
+    }
+
+    @Override
+    public <T extends UaEnumeration> void encodeEnumeration(String field, T value) {
+        size += 4;
+    }
+
+    @Override
+    public <T extends UaSerializable> void encodeSerializable(String field, T value) throws UaSerializationException {
+        BinarySizeDelegate<T> sizer = BinaryDelegateRegistry.getSizer(value.getClass());
+
+        checkLimit();
+
+        if (sizer != null) {
+            sizer.encodedSize(value, this);
+        } else {
+            EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(value);
+
+            delegate.encode(value, this);
+        }
+    }
+
+    @Override
+    public <T> void encodeArray(String field, T[] values, BiConsumer<String, T> consumer) throws UaSerializationException {
+        size += 4;
+
+        if (values != null) {
+            for (T t : values) {
+                checkLimit();
+                consumer.accept(null, t);
+            }
+        }
+    }
+
+    @Override
+    public void writeBoolean(String field, boolean value) {
+        size += 1;
+    }
+
+    @Override
+    public void writeSByte(String field, byte value) {
+        size += 1;
+    }
+
+    @Override
+    public void writeInt16(String field, short value) {
+        size += 2;
+    }
+
+    @Override
+    public void writeInt32(String field, int value) {
+        size += 4;
+    }
+
+    @Override
+    public void writeInt64(String field, long value) {
+        size += 8;
+    }
+
+    @Override
+    public void writeByte(String field, int value) {
+        size += 1;
+    }
+
+    @Override
+    public void writeUInt16(String field, int value) {
+        size += 2;
+    }
+
+    @Override
+    public void writeUInt32(String field, long value) {
+        size += 4;
+    }
+
+    @Override
+    public void writeUInt64(String field, long value) {
+        size += 8;
+    }
+
+    @Override
+    public void writeFloat(String field, float value) {
+        size += 4;
+    }
+
+    @Override
+    public void writeDouble(String field, double value) {
+        size += 8;
+    }
+
+    /**
+     * Thrown to stop counting once the size has passed the limit; carries no stack trace.
+     */
+    private static final class LimitExceededException extends RuntimeException {
+
+        static final LimitExceededException INSTANCE = new LimitExceededException();
+
+        private LimitExceededException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+    /**
+     * @return the encoded size of a fixed-size builtin type, or -1 if the type is variable length.
+     */
+    private static int fixedSize(int typeId) {
+        switch (typeId) {
+            case 1:
+            case 2:
+            case 3:
+                return 1;
+            case 4:
+            case 5:
+                return 2;
+            case 6:
+            case 7:
+            case 10:
+            case 19:
+                return 4;
+            case 8:
+            case 9:
+            case 11:
+            case 13:
+                return 8;
+            case 14:
+                return 16;
+            default:
+                return -1;
+        }
+    }
+
+    private void encodeBuiltinType(int typeId, Object value) throws UaSerializationException {
+        int fixedSize = fixedSize(typeId);
+
+        if (fixedSize > 0) {
+            size += fixedSize;
+            return;
+        }
+
+        switch (typeId) {
+            case 12:
+                encodeString(null, (String) value);
+                break;
+            case 15:
+                encodeByteString(null, (ByteString) value);
+                break;
+            case 16:
+                encodeXmlElement(null, (XmlElement) value);
+                break;
+            case 17:
+                encodeNodeId(null, (NodeId) value);
+                break;
+            case 18:
+                encodeExpandedNodeId(null, (ExpandedNodeId) value);
+                break;
+            case 20:
+                encodeQualifiedName(null, (QualifiedName) value);
+                break;
+            case 21:
+                encodeLocalizedText(null, (LocalizedText) value);
+                break;
+            case 22:
+                encodeExtensionObject(null, (ExtensionObject) value);
+                break;
+            case 23:
+                encodeDataValue(null, (DataValue) value);
+                break;
+            case 24:
+                encodeVariant(null, (Variant) value);
+                break;
+            case 25:
+                encodeDiagnosticInfo(null, (DiagnosticInfo) value);
+                break;
+            default:
+                throw new UaSerializationException(StatusCodes.Bad_EncodingError, "unknown builtin type: " + typeId);
+        }
+    }
+
+}
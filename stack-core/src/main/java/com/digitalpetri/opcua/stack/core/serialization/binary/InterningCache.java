@@ -0,0 +1,261 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.digitalpetri.opcua.stack.core.Identifiers;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned;
+import io.netty.buffer.ByteBuf;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded cache a {@link BinaryDecoder} uses to return the same instance for NodeIds, QualifiedNames and short
+ * Strings it has already decoded, instead of allocating new ones.
+ * <p>
+ * Each kind of value is kept in a direct-mapped table; a colliding value replaces the previous occupant of its slot.
+ * Lookups compare the encoded bytes against the cached value before decoding anything, so a hit allocates nothing.
+ * Cached values are immutable and tables are updated without locking, so an instance may be shared between decoders.
+ * <p>
+ * Numeric NodeIds in namespace 0 below the table size map to distinct slots; the table is pre-seeded with the NodeIds
+ * in {@link Identifiers}.
+ */
+public class InterningCache {
+
+    public static final int DEFAULT_SIZE = 16384;
+
+    /**
+     * Strings, string NodeId identifiers, and QualifiedName names longer than this many bytes are never cached.
+     */
+    public static final int MAX_STRING_BYTES = 64;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private final int mask;
+
+    private final NodeId[] numericNodeIds;
+    private final Entry<NodeId>[] stringNodeIds;
+    private final Entry<QualifiedName>[] qualifiedNames;
+    private final Entry<String>[] strings;
+
+    public InterningCache() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @param size the number of slots in each table; rounded up to a power of 2.
+     */
+    @SuppressWarnings("unchecked")
+    public InterningCache(int size) {
+        int capacity = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+
+        mask = capacity - 1;
+
+        numericNodeIds = new NodeId[capacity];
+        stringNodeIds = new Entry[capacity];
+        qualifiedNames = new Entry[capacity];
+        strings = new Entry[capacity];
+
+        // Seeds are sorted by identifier; when a table is too small for all of them the lowest identifiers win.
+        for (NodeId nodeId : IdentifiersHolder.NODE_IDS) {
+            int slot = slot(0, ((UInteger) nodeId.getIdentifier()).longValue());
+            if (numericNodeIds[slot] == null) numericNodeIds[slot] = nodeId;
+        }
+    }
+
+    /**
+     * @return the number of lookups answered from the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that had to decode and cache a new value.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the fraction of lookups answered from the cache, or 0 if there have been none.
+     */
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+
+        return total > 0 ? (double) h / total : 0.0;
+    }
+
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    NodeId numericNodeId(int namespaceIndex, long identifier) {
+        int slot = slot(namespaceIndex, identifier);
+
+        NodeId nodeId = numericNodeIds[slot];
+
+        if (nodeId != null &&
+                nodeId.getNamespaceIndex().intValue() == namespaceIndex &&
+                nodeId.getIdentifier() instanceof UInteger &&
+                ((UInteger) nodeId.getIdentifier()).longValue() == identifier) {
+
+            hits.increment();
+            return nodeId;
+        }
+
+        misses.increment();
+        nodeId = new NodeId(Unsigned.ushort(namespaceIndex), Unsigned.uint(identifier));
+        numericNodeIds[slot] = nodeId;
+
+        return nodeId;
+    }
+
+    /**
+     * Get the NodeId with namespace {@code namespaceIndex} and the string identifier encoded in the {@code length}
+     * bytes at {@code index} of {@code buffer}. The buffer indices are not modified.
+     */
+    NodeId stringNodeId(int namespaceIndex, ByteBuf buffer, int index, int length) {
+        int hash = hash(namespaceIndex, buffer, index, length);
+        int slot = hash & mask;
+
+        Entry<NodeId> entry = stringNodeIds[slot];
+
+        if (entry != null && entry.matches(hash, namespaceIndex, buffer, index, length)) {
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        String identifier = buffer.toString(index, length, StandardCharsets.UTF_8);
+        NodeId nodeId = new NodeId(Unsigned.ushort(namespaceIndex), identifier);
+        stringNodeIds[slot] = new Entry<>(hash, namespaceIndex, buffer, index, length, nodeId);
+
+        return nodeId;
+    }
+
+    /**
+     * Get the QualifiedName with namespace {@code namespaceIndex} and the name encoded in the {@code length} bytes at
+     * {@code index} of {@code buffer}. The buffer indices are not modified.
+     */
+    QualifiedName qualifiedName(int namespaceIndex, ByteBuf buffer, int index, int length) {
+        int hash = hash(namespaceIndex, buffer, index, length);
+        int slot = hash & mask;
+
+        Entry<QualifiedName> entry = qualifiedNames[slot];
+
+        if (entry != null && entry.matches(hash, namespaceIndex, buffer, index, length)) {
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        String name = buffer.toString(index, length, StandardCharsets.UTF_8);
+        QualifiedName qualifiedName = new QualifiedName(Unsigned.ushort(namespaceIndex), name);
+        qualifiedNames[slot] = new Entry<>(hash, namespaceIndex, buffer, index, length, qualifiedName);
+
+        return qualifiedName;
+    }
+
+    /**
+     * Get the String encoded in the {@code length} bytes at {@code index} of {@code buffer}. The buffer indices are
+     * not modified.
+     */
+    String string(ByteBuf buffer, int index, int length) {
+        int hash = hash(-1, buffer, index, length);
+        int slot = hash & mask;
+
+        Entry<String> entry = strings[slot];
+
+        if (entry != null && entry.matches(hash, -1, buffer, index, length)) {
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        String s = buffer.toString(index, length, StandardCharsets.UTF_8);
+        strings[slot] = new Entry<>(hash, -1, buffer, index, length, s);
+
+        return s;
+    }
+
+    private int slot(int namespaceIndex, long identifier) {
+        return (int) (identifier ^ (identifier >>> 32) ^ (namespaceIndex * 0x9E3779B1)) & mask;
+    }
+
+    private static int hash(int namespaceIndex, ByteBuf buffer, int index, int length) {
+        int h = namespaceIndex * 0x9E3779B1;
+
+        for (int i = index; i < index + length; i++) {
+            h = 31 * h + buffer.getByte(i);
+        }
+
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Entry<T> {
+
+        private final int hash;
+        private final int namespaceIndex;
+        private final byte[] bytes;
+        private final T value;
+
+        Entry(int hash, int namespaceIndex, ByteBuf buffer, int index, int length, T value) {
+            this.hash = hash;
+            this.namespaceIndex = namespaceIndex;
+            this.bytes = new byte[length];
+            this.value = value;
+
+            buffer.getBytes(index, bytes);
+        }
+
+        boolean matches(int hash, int namespaceIndex, ByteBuf buffer, int index, int length) {
+            if (this.hash != hash || this.namespaceIndex != namespaceIndex || bytes.length != length) return false;
+
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != buffer.getByte(index + i)) return false;
+            }
+
+            return true;
+        }
+
+    }
+
+    private static final class IdentifiersHolder {
+
+        private static final List<NodeId> NODE_IDS = new ArrayList<>();
+
+        static {
+            for (Field field : Identifiers.class.getFields()) {
+                if (Modifier.isStatic(field.getModifiers()) && field.getType() == NodeId.class) {
+                    try {
+                        NodeId nodeId = (NodeId) field.get(null);
+
+                        if (nodeId.getNamespaceIndex().intValue() == 0 &&
+                                nodeId.getIdentifier() instanceof UInteger) {
+
+                            NODE_IDS.add(nodeId);
+                        }
+                    } catch (IllegalAccessException e) {
+                        LoggerFactory.getLogger(InterningCache.class)
+                                .warn("Unable to read Identifiers field: {}", field.getName(), e);
+                    }
+                }
+            }
+
+            NODE_IDS.sort(Comparator.comparingLong(n -> ((UInteger) n.getIdentifier()).longValue()));
+        }
+
+    }
+
+}
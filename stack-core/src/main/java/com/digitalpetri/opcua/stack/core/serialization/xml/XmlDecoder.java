@@ -71,57 +71,57 @@ public class XmlDecoder implements UaDecoder {
 
     @Override
     public Boolean decodeBoolean(String field) throws UaSerializationException {
-        return parseElement(field, Boolean::valueOf);
+        return readBoolean(field);
     }
 
     @Override
     public Byte decodeSByte(String field) throws UaSerializationException {
-        return parseElement(field, Byte::parseByte);
+        return readSByte(field);
     }
 
     @Override
     public Short decodeInt16(String field) throws UaSerializationException {
-        return parseElement(field, Short::parseShort);
+        return readInt16(field);
     }
 
     @Override
     public Integer decodeInt32(String field) throws UaSerializationException {
-        return parseElement(field, Integer::parseInt);
+        return readInt32(field);
     }
 
     @Override
     public Long decodeInt64(String field) throws UaSerializationException {
-        return parseElement(field, Long::parseLong);
+        return readInt64(field);
     }
 
     @Override
     public UByte decodeByte(String field) throws UaSerializationException {
-        return parseElement(field, s -> Unsigned.ubyte(Short.parseShort(s)));
+        return Unsigned.ubyte(readByte(field));
     }
 
     @Override
     public UShort decodeUInt16(String field) throws UaSerializationException {
-        return parseElement(field, s -> Unsigned.ushort(Integer.parseInt(s)));
+        return Unsigned.ushort(readUInt16(field));
     }
 
     @Override
     public UInteger decodeUInt32(String field) throws UaSerializationException {
-        return parseElement(field, s -> Unsigned.uint(Long.parseLong(s)));
+        return Unsigned.uint(readUInt32(field));
     }
 
     @Override
     public ULong decodeUInt64(String field) throws UaSerializationException {
-        return parseElement(field, s -> Unsigned.ulong(Long.parseUnsignedLong(s)));
+        return Unsigned.ulong(readUInt64(field));
     }
 
     @Override
     public Float decodeFloat(String field) throws UaSerializationException {
-        return parseElement(field, Float::parseFloat);
+        return readFloat(field);
     }
 
     @Override
     public Double decodeDouble(String field) throws UaSerializationException {
-        return parseElement(field, Double::parseDouble);
+        return readDouble(field);
     }
 
     @Override
@@ -612,6 +612,61 @@ public class XmlDecoder implements UaDecoder {
     }
 
 
+    @Override
+    public boolean readBoolean(String field) throws UaSerializationException {
+        return Boolean.parseBoolean(decodeString(field));
+    }
+
+    @Override
+    public byte readSByte(String field) throws UaSerializationException {
+        return Byte.parseByte(decodeString(field));
+    }
+
+    @Override
+    public short readInt16(String field) throws UaSerializationException {
+        return Short.parseShort(decodeString(field));
+    }
+
+    @Override
+    public int readInt32(String field) throws UaSerializationException {
+        return Integer.parseInt(decodeString(field));
+    }
+
+    @Override
+    public long readInt64(String field) throws UaSerializationException {
+        return Long.parseLong(decodeString(field));
+    }
+
+    @Override
+    public int readByte(String field) throws UaSerializationException {
+        return Short.parseShort(decodeString(field));
+    }
+
+    @Override
+    public int readUInt16(String field) throws UaSerializationException {
+        return Integer.parseInt(decodeString(field));
+    }
+
+    @Override
+    public long readUInt32(String field) throws UaSerializationException {
+        return Long.parseLong(decodeString(field));
+    }
+
+    @Override
+    public long readUInt64(String field) throws UaSerializationException {
+        return Long.parseUnsignedLong(decodeString(field));
+    }
+
+    @Override
+    public float readFloat(String field) throws UaSerializationException {
+        return Float.parseFloat(decodeString(field));
+    }
+
+    @Override
+    public double readDouble(String field) throws UaSerializationException {
+        return Double.parseDouble(decodeString(field));
+    }
+
     private <T> T parseElement(String element, Function<String, T> parser) throws UaSerializationException {
         requireNextStartElement(element);
 
@@ -79,79 +79,57 @@ public class XmlEncoder implements UaEncoder {
 
     @Override
     public void encodeBoolean(String field, Boolean value) {
-        if (value == null) value = false;
-
-        writeValue(field, value.toString());
+        writeBoolean(field, value != null && value);
     }
 
     @Override
     public void encodeSByte(String field, Byte value) {
-        if (value == null) value = 0;
-
-        writeValue(field, value.toString());
+        writeSByte(field, value == null ? 0 : value);
     }
 
     @Override
     public void encodeInt16(String field, Short value) {
-        if (value == null) value = 0;
-
-        writeValue(field, value.toString());
+        writeInt16(field, value == null ? 0 : value);
     }
 
     @Override
     public void encodeInt32(String field, Integer value) {
-        if (value == null) value = 0;
-
-        writeValue(field, value.toString());
+        writeInt32(field, value == null ? 0 : value);
     }
 
     @Override
     public void encodeInt64(String field, Long value) {
-        if (value == null) value = 0L;
-
-        writeValue(field, value.toString());
+        writeInt64(field, value == null ? 0L : value);
     }
 
     @Override
     public void encodeByte(String field, UByte value) throws UaSerializationException {
-        if (value == null) value = Unsigned.ubyte(0);
-
-        writeValue(field, value.toString());
+        writeByte(field, value == null ? 0 : value.intValue());
     }
 
     @Override
     public void encodeUInt16(String field, UShort value) throws UaSerializationException {
-        if (value == null) value = Unsigned.ushort(0);
-
-        writeValue(field, value.toString());
+        writeUInt16(field, value == null ? 0 : value.intValue());
     }
 
     @Override
     public void encodeUInt32(String field, UInteger value) throws UaSerializationException {
-        if (value == null) value = Unsigned.uint(0);
-
-        writeValue(field, value.toString());
+        writeUInt32(field, value == null ? 0L : value.longValue());
     }
 
     @Override
     public void encodeUInt64(String field, ULong value) throws UaSerializationException {
-        if (value == null) value = Unsigned.ulong(0);
-
-        writeValue(field, value.toString());
+        writeUInt64(field, value == null ? 0L : value.longValue());
     }
 
     @Override
     public void encodeFloat(String field, Float value) {
-        if (value == null) value = 0f;
-
-        writeValue(field, value.toString());
+        writeFloat(field, value == null ? 0f : value);
     }
 
     @Override
     public void encodeDouble(String field, Double value) {
-        if (value == null) value = 0.0;
-
-        writeValue(field, value.toString());
+        writeDouble(field, value == null ? 0.0 : value);
     }
 
     @Override
@@ -360,6 +338,61 @@ public class XmlEncoder implements UaEncoder {
 
     }
 
+    @Override
+    public void writeBoolean(String field, boolean value) {
+        writeValue(field, Boolean.toString(value));
+    }
+
+    @Override
+    public void writeSByte(String field, byte value) {
+        writeValue(field, Byte.toString(value));
+    }
+
+    @Override
+    public void writeInt16(String field, short value) {
+        writeValue(field, Short.toString(value));
+    }
+
+    @Override
+    public void writeInt32(String field, int value) {
+        writeValue(field, Integer.toString(value));
+    }
+
+    @Override
+    public void writeInt64(String field, long value) {
+        writeValue(field, Long.toString(value));
+    }
+
+    @Override
+    public void writeByte(String field, int value) {
+        writeValue(field, Integer.toString(value & 0xFF));
+    }
+
+    @Override
+    public void writeUInt16(String field, int value) {
+        writeValue(field, Integer.toString(value & 0xFFFF));
+    }
+
+    @Override
+    public void writeUInt32(String field, long value) {
+        writeValue(field, Long.toString(value & 0xFFFFFFFFL));
+    }
+
+    @Override
+    public void writeUInt64(String field, long value) {
+        writeValue(field, Long.toUnsignedString(value));
+    }
+
+    @Override
+    public void writeFloat(String field, float value) {
+        writeValue(field, Float.toString(value));
+    }
+
+    @Override
+    public void writeDouble(String field, double value) {
+        writeValue(field, Double.toString(value));
+    }
+
     private void write(String field, Consumer<XMLStreamWriter> c) {
         try {
             if (field != null) {
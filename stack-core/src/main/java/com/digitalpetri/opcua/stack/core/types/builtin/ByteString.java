@@ -6,38 +6,116 @@ import javax.annotation.Nullable;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned;
 import com.google.common.base.MoreObjects;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
 
+/**
+ * A sequence of bytes, backed either by a byte[] or by a {@link ByteBuf}.
+ * <p>
+ * A ByteString created by {@link #wrap(ByteBuf)} owns one reference to its buffer and only copies into a byte[] the
+ * first time {@link #bytes()} is called. It must be released with {@link #release()} once it is no longer needed;
+ * when the buffer is a slice of a larger message buffer, the message buffer is not freed until every ByteString
+ * sliced from it has been released. Code that keeps a buffer-backed ByteString beyond the lifetime of whoever owns it
+ * must {@link #retain()} it, or take a copy with {@link #bytes()} while it is still valid.
+ */
 public final class ByteString {
 
-    public static final ByteString NULL_VALUE = new ByteString(null);
+    public static final ByteString NULL_VALUE = new ByteString((byte[]) null);
 
-    private final byte[] bytes;
+    private volatile byte[] bytes;
+
+    private final ByteBuf buffer;
 
     public ByteString(@Nullable byte[] bytes) {
         this.bytes = bytes;
+        this.buffer = null;
+    }
+
+    private ByteString(ByteBuf buffer) {
+        this.bytes = null;
+        this.buffer = buffer;
     }
 
     public int length() {
+        if (buffer != null) return buffer.readableBytes();
+
         return bytes != null ? bytes.length : 0;
     }
 
     public boolean isNull() {
-        return bytes == null;
+        return buffer == null && bytes == null;
     }
 
     public boolean isNotNull() {
-        return bytes != null;
+        return !isNull();
     }
 
+    /**
+     * @return the contents of this ByteString as a byte[]. A buffer-backed ByteString copies its contents the first
+     * time this is called.
+     */
     @Nullable
     public byte[] bytes() {
-        return bytes;
+        byte[] bs = bytes;
+
+        if (bs == null && buffer != null) {
+            bs = new byte[buffer.readableBytes()];
+            buffer.getBytes(buffer.readerIndex(), bs);
+            bytes = bs;
+        }
+
+        return bs;
+    }
+
+    /**
+     * @return {@code true} if this ByteString is backed by a {@link ByteBuf}.
+     */
+    public boolean isBuffered() {
+        return buffer != null;
+    }
+
+    /**
+     * Get the contents of this ByteString as a {@link ByteBuf} without copying.
+     * <p>
+     * The returned buffer has independent indices but shares content and reference count with this ByteString; the
+     * caller does not need to release it.
+     *
+     * @return a {@link ByteBuf} view of this ByteString, or {@code null} if this ByteString is null.
+     */
+    @Nullable
+    public ByteBuf buffer() {
+        if (buffer != null) {
+            return buffer.duplicate();
+        } else {
+            return bytes != null ? Unpooled.wrappedBuffer(bytes) : null;
+        }
+    }
+
+    /**
+     * Take another reference to the buffer backing this ByteString, if any, so that it stays valid after its current
+     * owner releases it. Each call must be matched by a {@link #release()}. Does nothing for byte[]-backed ByteStrings.
+     *
+     * @return this ByteString.
+     */
+    public ByteString retain() {
+        if (buffer != null) buffer.retain();
+        return this;
+    }
+
+    /**
+     * Release the buffer backing this ByteString, if any. Does nothing for byte[]-backed ByteStrings.
+     *
+     * @return {@code true} if the backing buffer was deallocated as a result.
+     */
+    public boolean release() {
+        return buffer != null && buffer.release();
     }
 
     @Nullable
     public UByte[] uBytes() {
+        byte[] bytes = bytes();
         if (bytes == null) return null;
 
         UByte[] bs = new UByte[bytes.length];
@@ -48,6 +126,12 @@ public final class ByteString {
     }
 
     public byte byteAt(int index) {
+        if (buffer != null) {
+            if (index < 0 || index >= buffer.readableBytes()) throw new IndexOutOfBoundsException("index=" + index);
+
+            return buffer.getByte(buffer.readerIndex() + index);
+        }
+
         if (bytes == null) throw new IndexOutOfBoundsException("index=" + index);
 
         return bytes[index];
@@ -64,22 +148,54 @@ public final class ByteString {
 
         ByteString that = (ByteString) o;
 
-        return Arrays.equals(bytes, that.bytes);
+        if (buffer == null && that.buffer == null) {
+            return Arrays.equals(bytes, that.bytes);
+        }
+
+        if (isNull() || that.isNull()) return isNull() == that.isNull();
+
+        int length = length();
+        if (length != that.length()) return false;
+
+        for (int i = 0; i < length; i++) {
+            if (byteAt(i) != that.byteAt(i)) return false;
+        }
+
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return bytes != null ? Arrays.hashCode(bytes) : 0;
+        if (buffer == null) {
+            return bytes != null ? Arrays.hashCode(bytes) : 0;
+        }
+
+        // Same as Arrays.hashCode(byte[]) so equal ByteStrings hash equally regardless of representation.
+        int result = 1;
+        for (int i = buffer.readerIndex(); i < buffer.writerIndex(); i++) {
+            result = 31 * result + buffer.getByte(i);
+        }
+        return result;
     }
 
     public static ByteString of(byte[] bs) {
         return new ByteString(bs);
     }
 
+    /**
+     * Create a ByteString backed by the readable bytes of {@code buffer}, taking ownership of one reference to it.
+     *
+     * @param buffer the {@link ByteBuf} to wrap.
+     * @return a buffer-backed {@link ByteString}.
+     */
+    public static ByteString wrap(ByteBuf buffer) {
+        return new ByteString(buffer);
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
-                .add("bytes", Arrays.toString(bytes))
+                .add("bytes", Arrays.toString(bytes()))
                 .toString();
     }
 
@@ -17,7 +17,7 @@ public final class ExtensionObject {
 
     private final BodyType bodyType;
 
-    private final Object encoded;
+    private volatile Object encoded;
     private final NodeId encodingTypeId;
 
     public ExtensionObject(ByteString encoded, NodeId encodingTypeId) {
@@ -34,8 +34,37 @@ public final class ExtensionObject {
         bodyType = BodyType.XML_ELEMENT;
     }
 
+    /**
+     * Create an ExtensionObject holding a structure that has not been encoded yet. The structure is binary encoded
+     * directly into the destination buffer when this ExtensionObject is encoded, or on the first call to
+     * {@link #getEncoded()}.
+     *
+     * @param structure      the structure.
+     * @param encodingTypeId the binary encoding id of the structure.
+     */
+    private ExtensionObject(UaStructure structure, NodeId encodingTypeId) {
+        this.decoded = structure;
+        this.encodingTypeId = encodingTypeId;
+
+        bodyType = BodyType.BYTE_STRING;
+    }
+
     public Object getEncoded() {
-        return encoded;
+        Object e = encoded;
+
+        if (e == null && decoded != null) {
+            e = encoded = DataTypeEncoding.OPC_UA.encodeToByteString(decoded, encodingTypeId);
+        }
+
+        return e;
+    }
+
+    /**
+     * @return {@code true} if this ExtensionObject holds a structure that has not been encoded yet. Encoders can
+     * write the structure returned by {@link #decode()} inline instead of calling {@link #getEncoded()}.
+     */
+    public boolean isPendingEncoding() {
+        return encoded == null && decoded != null;
     }
 
     public NodeId getEncodingTypeId() {
@@ -78,8 +107,15 @@ public final class ExtensionObject {
         throw new RuntimeException("encodingType=" + bodyType);
     }
 
+    /**
+     * Create an ExtensionObject for {@code structure}. Encoding is deferred until the ExtensionObject itself is
+     * encoded, at which point the structure is written inline.
+     *
+     * @param structure the structure to hold.
+     * @return an {@link ExtensionObject} holding {@code structure}.
+     */
     public static ExtensionObject encode(UaStructure structure) throws UaSerializationException {
-        return encodeAsByteString(structure, structure.getBinaryEncodingId());
+        return new ExtensionObject(structure, structure.getBinaryEncodingId());
     }
 
     public static ExtensionObject encodeAsByteString(Object object, NodeId encodingTypeId) throws UaSerializationException {
@@ -115,19 +151,19 @@ public final class ExtensionObject {
 
         ExtensionObject that = (ExtensionObject) o;
 
-        return Objects.equal(encoded, that.encoded) &&
+        return Objects.equal(getEncoded(), that.getEncoded()) &&
                 Objects.equal(encodingTypeId, that.encodingTypeId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(encoded, encodingTypeId);
+        return Objects.hashCode(getEncoded(), encodingTypeId);
     }
 
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
-                .add("encoded", encoded)
+                .add("encoded", getEncoded())
                 .add("encodingTypeId", encodingTypeId)
                 .toString();
     }
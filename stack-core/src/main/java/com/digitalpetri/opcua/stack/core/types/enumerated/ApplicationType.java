@@ -41,11 +41,11 @@ public enum ApplicationType implements UaEnumeration {
     }
 
     public static void encode(ApplicationType applicationType, UaEncoder encoder) {
-        encoder.encodeInt32(null, applicationType.getValue());
+        encoder.writeInt32(null, applicationType.getValue());
     }
 
     public static ApplicationType decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -60,11 +60,11 @@ public enum AttributeWriteMask implements UaEnumeration {
     }
 
     public static void encode(AttributeWriteMask attributeWriteMask, UaEncoder encoder) {
-        encoder.encodeInt32(null, attributeWriteMask.getValue());
+        encoder.writeInt32(null, attributeWriteMask.getValue());
     }
 
     public static AttributeWriteMask decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -40,11 +40,11 @@ public enum AxisScaleEnumeration implements UaEnumeration {
     }
 
     public static void encode(AxisScaleEnumeration axisScaleEnumeration, UaEncoder encoder) {
-        encoder.encodeInt32(null, axisScaleEnumeration.getValue());
+        encoder.writeInt32(null, axisScaleEnumeration.getValue());
     }
 
     public static AxisScaleEnumeration decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
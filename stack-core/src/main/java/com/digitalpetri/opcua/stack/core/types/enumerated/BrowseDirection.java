@@ -40,11 +40,11 @@ public enum BrowseDirection implements UaEnumeration {
     }
 
     public static void encode(BrowseDirection browseDirection, UaEncoder encoder) {
-        encoder.encodeInt32(null, browseDirection.getValue());
+        encoder.writeInt32(null, browseDirection.getValue());
     }
 
     public static BrowseDirection decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -47,11 +47,11 @@ public enum BrowseResultMask implements UaEnumeration {
     }
 
     public static void encode(BrowseResultMask browseResultMask, UaEncoder encoder) {
-        encoder.encodeInt32(null, browseResultMask.getValue());
+        encoder.writeInt32(null, browseResultMask.getValue());
     }
 
     public static BrowseResultMask decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -41,11 +41,11 @@ public enum ComplianceLevel implements UaEnumeration {
     }
 
     public static void encode(ComplianceLevel complianceLevel, UaEncoder encoder) {
-        encoder.encodeInt32(null, complianceLevel.getValue());
+        encoder.writeInt32(null, complianceLevel.getValue());
     }
 
     public static ComplianceLevel decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -40,11 +40,11 @@ public enum DataChangeTrigger implements UaEnumeration {
     }
 
     public static void encode(DataChangeTrigger dataChangeTrigger, UaEncoder encoder) {
-        encoder.encodeInt32(null, dataChangeTrigger.getValue());
+        encoder.writeInt32(null, dataChangeTrigger.getValue());
     }
 
     public static DataChangeTrigger decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -40,11 +40,11 @@ public enum DeadbandType implements UaEnumeration {
     }
 
     public static void encode(DeadbandType deadbandType, UaEncoder encoder) {
-        encoder.encodeInt32(null, deadbandType.getValue());
+        encoder.writeInt32(null, deadbandType.getValue());
     }
 
     public static DeadbandType decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
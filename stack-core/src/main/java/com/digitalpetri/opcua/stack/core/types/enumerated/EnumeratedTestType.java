@@ -40,11 +40,11 @@ public enum EnumeratedTestType implements UaEnumeration {
     }
 
     public static void encode(EnumeratedTestType enumeratedTestType, UaEncoder encoder) {
-        encoder.encodeInt32(null, enumeratedTestType.getValue());
+        encoder.writeInt32(null, enumeratedTestType.getValue());
     }
 
     public static EnumeratedTestType decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -42,11 +42,11 @@ public enum ExceptionDeviationFormat implements UaEnumeration {
     }
 
     public static void encode(ExceptionDeviationFormat exceptionDeviationFormat, UaEncoder encoder) {
-        encoder.encodeInt32(null, exceptionDeviationFormat.getValue());
+        encoder.writeInt32(null, exceptionDeviationFormat.getValue());
     }
 
     public static ExceptionDeviationFormat decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -55,11 +55,11 @@ public enum FilterOperator implements UaEnumeration {
     }
 
     public static void encode(FilterOperator filterOperator, UaEncoder encoder) {
-        encoder.encodeInt32(null, filterOperator.getValue());
+        encoder.writeInt32(null, filterOperator.getValue());
     }
 
     public static FilterOperator decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
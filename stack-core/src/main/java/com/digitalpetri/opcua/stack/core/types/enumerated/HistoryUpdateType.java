@@ -41,11 +41,11 @@ public enum HistoryUpdateType implements UaEnumeration {
     }
 
     public static void encode(HistoryUpdateType historyUpdateType, UaEncoder encoder) {
-        encoder.encodeInt32(null, historyUpdateType.getValue());
+        encoder.writeInt32(null, historyUpdateType.getValue());
     }
 
     public static HistoryUpdateType decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -41,11 +41,11 @@ public enum IdType implements UaEnumeration {
     }
 
     public static void encode(IdType idType, UaEncoder encoder) {
-        encoder.encodeInt32(null, idType.getValue());
+        encoder.writeInt32(null, idType.getValue());
     }
 
     public static IdType decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
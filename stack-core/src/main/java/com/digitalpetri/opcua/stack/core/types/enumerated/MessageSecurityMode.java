@@ -41,11 +41,11 @@ public enum MessageSecurityMode implements UaEnumeration {
     }
 
     public static void encode(MessageSecurityMode messageSecurityMode, UaEncoder encoder) {
-        encoder.encodeInt32(null, messageSecurityMode.getValue());
+        encoder.writeInt32(null, messageSecurityMode.getValue());
     }
 
     public static MessageSecurityMode decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -42,11 +42,11 @@ public enum ModelChangeStructureVerbMask implements UaEnumeration {
     }
 
     public static void encode(ModelChangeStructureVerbMask modelChangeStructureVerbMask, UaEncoder encoder) {
-        encoder.encodeInt32(null, modelChangeStructureVerbMask.getValue());
+        encoder.writeInt32(null, modelChangeStructureVerbMask.getValue());
     }
 
     public static ModelChangeStructureVerbMask decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -40,11 +40,11 @@ public enum MonitoringMode implements UaEnumeration {
     }
 
     public static void encode(MonitoringMode monitoringMode, UaEncoder encoder) {
-        encoder.encodeInt32(null, monitoringMode.getValue());
+        encoder.writeInt32(null, monitoringMode.getValue());
     }
 
     public static MonitoringMode decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -56,11 +56,11 @@ public enum NamingRuleType implements UaEnumeration {
     }
 
     public static void encode(NamingRuleType namingRuleType, UaEncoder encoder) {
-        encoder.encodeInt32(null, namingRuleType.getValue());
+        encoder.writeInt32(null, namingRuleType.getValue());
     }
 
     public static NamingRuleType decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -69,11 +69,11 @@ public enum NodeAttributesMask implements UaEnumeration {
     }
 
     public static void encode(NodeAttributesMask nodeAttributesMask, UaEncoder encoder) {
-        encoder.encodeInt32(null, nodeAttributesMask.getValue());
+        encoder.writeInt32(null, nodeAttributesMask.getValue());
     }
 
     public static NodeAttributesMask decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -46,11 +46,11 @@ public enum NodeClass implements UaEnumeration {
     }
 
     public static void encode(NodeClass nodeClass, UaEncoder encoder) {
-        encoder.encodeInt32(null, nodeClass.getValue());
+        encoder.writeInt32(null, nodeClass.getValue());
     }
 
     public static NodeClass decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
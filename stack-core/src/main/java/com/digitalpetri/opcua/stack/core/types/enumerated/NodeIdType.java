@@ -43,11 +43,11 @@ public enum NodeIdType implements UaEnumeration {
     }
 
     public static void encode(NodeIdType nodeIdType, UaEncoder encoder) {
-        encoder.encodeInt32(null, nodeIdType.getValue());
+        encoder.writeInt32(null, nodeIdType.getValue());
     }
 
     public static NodeIdType decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
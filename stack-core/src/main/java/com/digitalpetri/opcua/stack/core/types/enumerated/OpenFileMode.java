@@ -41,11 +41,11 @@ public enum OpenFileMode implements UaEnumeration {
     }
 
     public static void encode(OpenFileMode openFileMode, UaEncoder encoder) {
-        encoder.encodeInt32(null, openFileMode.getValue());
+        encoder.writeInt32(null, openFileMode.getValue());
     }
 
     public static OpenFileMode decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -41,11 +41,11 @@ public enum PerformUpdateType implements UaEnumeration {
     }
 
     public static void encode(PerformUpdateType performUpdateType, UaEncoder encoder) {
-        encoder.encodeInt32(null, performUpdateType.getValue());
+        encoder.writeInt32(null, performUpdateType.getValue());
     }
 
     public static PerformUpdateType decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -43,11 +43,11 @@ public enum RedundancySupport implements UaEnumeration {
     }
 
     public static void encode(RedundancySupport redundancySupport, UaEncoder encoder) {
-        encoder.encodeInt32(null, redundancySupport.getValue());
+        encoder.writeInt32(null, redundancySupport.getValue());
     }
 
     public static RedundancySupport decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -39,11 +39,11 @@ public enum SecurityTokenRequestType implements UaEnumeration {
     }
 
     public static void encode(SecurityTokenRequestType securityTokenRequestType, UaEncoder encoder) {
-        encoder.encodeInt32(null, securityTokenRequestType.getValue());
+        encoder.writeInt32(null, securityTokenRequestType.getValue());
     }
 
     public static SecurityTokenRequestType decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -45,11 +45,11 @@ public enum ServerState implements UaEnumeration {
     }
 
     public static void encode(ServerState serverState, UaEncoder encoder) {
-        encoder.encodeInt32(null, serverState.getValue());
+        encoder.writeInt32(null, serverState.getValue());
     }
 
     public static ServerState decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
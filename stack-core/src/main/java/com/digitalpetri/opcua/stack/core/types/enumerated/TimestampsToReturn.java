@@ -41,11 +41,11 @@ public enum TimestampsToReturn implements UaEnumeration {
     }
 
     public static void encode(TimestampsToReturn timestampsToReturn, UaEncoder encoder) {
-        encoder.encodeInt32(null, timestampsToReturn.getValue());
+        encoder.writeInt32(null, timestampsToReturn.getValue());
     }
 
     public static TimestampsToReturn decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
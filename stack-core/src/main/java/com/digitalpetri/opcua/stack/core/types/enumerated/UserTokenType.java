@@ -41,11 +41,11 @@ public enum UserTokenType implements UaEnumeration {
     }
 
     public static void encode(UserTokenType userTokenType, UaEncoder encoder) {
-        encoder.encodeInt32(null, userTokenType.getValue());
+        encoder.writeInt32(null, userTokenType.getValue());
     }
 
     public static UserTokenType decode(UaDecoder decoder) {
-        int value = decoder.decodeInt32(null);
+        int value = decoder.readInt32(null);
 
         return VALUES.getOrDefault(value, null);
     }
@@ -0,0 +1,142 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.structured.ActivateSessionRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.SignatureData;
+import com.digitalpetri.opcua.stack.core.types.structured.SignedSoftwareCertificate;
+
+public class ActivateSessionRequestBinaryCodec {
+
+    public static void encode(ActivateSessionRequest activateSessionRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = activateSessionRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        SignatureData _clientSignature = activateSessionRequest.getClientSignature();
+        if (_clientSignature == null) {
+            SignatureDataBinaryCodec.encode(new SignatureData(), encoder);
+        } else if (_clientSignature.getClass() == SignatureData.class) {
+            SignatureDataBinaryCodec.encode(_clientSignature, encoder);
+        } else {
+            encoder.encodeSerializable(null, _clientSignature);
+        }
+        SignedSoftwareCertificate[] _clientSoftwareCertificates = activateSessionRequest.getClientSoftwareCertificates();
+        encoder.writeArrayLength(_clientSoftwareCertificates);
+        if (_clientSoftwareCertificates != null) {
+            for (SignedSoftwareCertificate e : _clientSoftwareCertificates) {
+                if (e.getClass() == SignedSoftwareCertificate.class) {
+                    SignedSoftwareCertificateBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        String[] _localeIds = activateSessionRequest.getLocaleIds();
+        encoder.writeArrayLength(_localeIds);
+        if (_localeIds != null) {
+            for (String e : _localeIds) {
+                encoder.encodeString(null, e);
+            }
+        }
+        encoder.encodeExtensionObject(null, activateSessionRequest.getUserIdentityToken());
+        SignatureData _userTokenSignature = activateSessionRequest.getUserTokenSignature();
+        if (_userTokenSignature == null) {
+            SignatureDataBinaryCodec.encode(new SignatureData(), encoder);
+        } else if (_userTokenSignature.getClass() == SignatureData.class) {
+            SignatureDataBinaryCodec.encode(_userTokenSignature, encoder);
+        } else {
+            encoder.encodeSerializable(null, _userTokenSignature);
+        }
+    }
+
+    public static void encodedSize(ActivateSessionRequest activateSessionRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = activateSessionRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        SignatureData _clientSignature = activateSessionRequest.getClientSignature();
+        if (_clientSignature == null) {
+            SignatureDataBinaryCodec.encodedSize(new SignatureData(), sizer);
+        } else if (_clientSignature.getClass() == SignatureData.class) {
+            SignatureDataBinaryCodec.encodedSize(_clientSignature, sizer);
+        } else {
+            sizer.encodeSerializable(null, _clientSignature);
+        }
+        SignedSoftwareCertificate[] _clientSoftwareCertificates = activateSessionRequest.getClientSoftwareCertificates();
+        sizer.addSize(4);
+        if (_clientSoftwareCertificates != null) {
+            for (SignedSoftwareCertificate e : _clientSoftwareCertificates) {
+                sizer.checkLimit();
+                if (e.getClass() == SignedSoftwareCertificate.class) {
+                    SignedSoftwareCertificateBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        String[] _localeIds = activateSessionRequest.getLocaleIds();
+        sizer.addSize(4);
+        if (_localeIds != null) {
+            for (String e : _localeIds) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+        sizer.encodeExtensionObject(null, activateSessionRequest.getUserIdentityToken());
+        SignatureData _userTokenSignature = activateSessionRequest.getUserTokenSignature();
+        if (_userTokenSignature == null) {
+            SignatureDataBinaryCodec.encodedSize(new SignatureData(), sizer);
+        } else if (_userTokenSignature.getClass() == SignatureData.class) {
+            SignatureDataBinaryCodec.encodedSize(_userTokenSignature, sizer);
+        } else {
+            sizer.encodeSerializable(null, _userTokenSignature);
+        }
+    }
+
+    public static ActivateSessionRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        SignatureData _clientSignature = SignatureDataBinaryCodec.decode(decoder);
+        SignedSoftwareCertificate[] _clientSoftwareCertificates;
+        if (decoder.isArrayStreamed("ClientSoftwareCertificates", SignedSoftwareCertificate.class)) {
+            _clientSoftwareCertificates = decoder.decodeArray("ClientSoftwareCertificates", decoder::decodeSerializable, SignedSoftwareCertificate.class);
+        } else {
+            _clientSoftwareCertificates = new SignedSoftwareCertificate[decoder.readArrayLength()];
+            for (int i = 0; i < _clientSoftwareCertificates.length; i++) {
+                _clientSoftwareCertificates[i] = SignedSoftwareCertificateBinaryCodec.decode(decoder);
+            }
+        }
+        String[] _localeIds;
+        if (decoder.isArrayStreamed("LocaleIds", String.class)) {
+            _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String.class);
+        } else {
+            _localeIds = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _localeIds.length; i++) {
+                _localeIds[i] = decoder.decodeString(null);
+            }
+        }
+        ExtensionObject _userIdentityToken = decoder.decodeExtensionObject(null);
+        SignatureData _userTokenSignature = SignatureDataBinaryCodec.decode(decoder);
+
+        return new ActivateSessionRequest(_requestHeader, _clientSignature, _clientSoftwareCertificates, _localeIds, _userIdentityToken, _userTokenSignature);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ActivateSessionRequestBinaryCodec::encode, ActivateSessionRequest.class, ActivateSessionRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ActivateSessionRequestBinaryCodec::decode, ActivateSessionRequest.class, ActivateSessionRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ActivateSessionRequestBinaryCodec::encodedSize, ActivateSessionRequest.class, ActivateSessionRequest.BinaryEncodingId);
+    }
+
+}
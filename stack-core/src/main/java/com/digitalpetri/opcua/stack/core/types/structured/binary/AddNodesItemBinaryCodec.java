@@ -0,0 +1,55 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.AddNodesItem;
+
+public class AddNodesItemBinaryCodec {
+
+    public static void encode(AddNodesItem addNodesItem, BinaryEncoder encoder) {
+        encoder.encodeExpandedNodeId(null, addNodesItem.getParentNodeId());
+        encoder.encodeNodeId(null, addNodesItem.getReferenceTypeId());
+        encoder.encodeExpandedNodeId(null, addNodesItem.getRequestedNewNodeId());
+        encoder.encodeQualifiedName(null, addNodesItem.getBrowseName());
+        NodeClass _nodeClass = addNodesItem.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeExtensionObject(null, addNodesItem.getNodeAttributes());
+        encoder.encodeExpandedNodeId(null, addNodesItem.getTypeDefinition());
+    }
+
+    public static void encodedSize(AddNodesItem addNodesItem, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeExpandedNodeId(null, addNodesItem.getParentNodeId());
+        sizer.encodeNodeId(null, addNodesItem.getReferenceTypeId());
+        sizer.encodeExpandedNodeId(null, addNodesItem.getRequestedNewNodeId());
+        sizer.encodeQualifiedName(null, addNodesItem.getBrowseName());
+        sizer.encodeExtensionObject(null, addNodesItem.getNodeAttributes());
+        sizer.encodeExpandedNodeId(null, addNodesItem.getTypeDefinition());
+    }
+
+    public static AddNodesItem decode(BinaryDecoder decoder) {
+        ExpandedNodeId _parentNodeId = decoder.decodeExpandedNodeId(null);
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        ExpandedNodeId _requestedNewNodeId = decoder.decodeExpandedNodeId(null);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        ExtensionObject _nodeAttributes = decoder.decodeExtensionObject(null);
+        ExpandedNodeId _typeDefinition = decoder.decodeExpandedNodeId(null);
+
+        return new AddNodesItem(_parentNodeId, _referenceTypeId, _requestedNewNodeId, _browseName, _nodeClass, _nodeAttributes, _typeDefinition);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AddNodesItemBinaryCodec::encode, AddNodesItem.class, AddNodesItem.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AddNodesItemBinaryCodec::decode, AddNodesItem.class, AddNodesItem.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AddNodesItemBinaryCodec::encodedSize, AddNodesItem.class, AddNodesItem.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.AddNodesItem;
+import com.digitalpetri.opcua.stack.core.types.structured.AddNodesRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class AddNodesRequestBinaryCodec {
+
+    public static void encode(AddNodesRequest addNodesRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = addNodesRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        AddNodesItem[] _nodesToAdd = addNodesRequest.getNodesToAdd();
+        encoder.writeArrayLength(_nodesToAdd);
+        if (_nodesToAdd != null) {
+            for (AddNodesItem e : _nodesToAdd) {
+                if (e.getClass() == AddNodesItem.class) {
+                    AddNodesItemBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(AddNodesRequest addNodesRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = addNodesRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        AddNodesItem[] _nodesToAdd = addNodesRequest.getNodesToAdd();
+        sizer.addSize(4);
+        if (_nodesToAdd != null) {
+            for (AddNodesItem e : _nodesToAdd) {
+                sizer.checkLimit();
+                if (e.getClass() == AddNodesItem.class) {
+                    AddNodesItemBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static AddNodesRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        AddNodesItem[] _nodesToAdd;
+        if (decoder.isArrayStreamed("NodesToAdd", AddNodesItem.class)) {
+            _nodesToAdd = decoder.decodeArray("NodesToAdd", decoder::decodeSerializable, AddNodesItem.class);
+        } else {
+            _nodesToAdd = new AddNodesItem[decoder.readArrayLength()];
+            for (int i = 0; i < _nodesToAdd.length; i++) {
+                _nodesToAdd[i] = AddNodesItemBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new AddNodesRequest(_requestHeader, _nodesToAdd);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AddNodesRequestBinaryCodec::encode, AddNodesRequest.class, AddNodesRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AddNodesRequestBinaryCodec::decode, AddNodesRequest.class, AddNodesRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AddNodesRequestBinaryCodec::encodedSize, AddNodesRequest.class, AddNodesRequest.BinaryEncodingId);
+    }
+
+}
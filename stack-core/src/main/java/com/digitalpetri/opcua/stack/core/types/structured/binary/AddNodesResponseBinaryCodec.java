@@ -0,0 +1,104 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.AddNodesResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.AddNodesResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class AddNodesResponseBinaryCodec {
+
+    public static void encode(AddNodesResponse addNodesResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = addNodesResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        AddNodesResult[] _results = addNodesResponse.getResults();
+        encoder.writeArrayLength(_results);
+        if (_results != null) {
+            for (AddNodesResult e : _results) {
+                if (e.getClass() == AddNodesResult.class) {
+                    AddNodesResultBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = addNodesResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(AddNodesResponse addNodesResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = addNodesResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        AddNodesResult[] _results = addNodesResponse.getResults();
+        sizer.addSize(4);
+        if (_results != null) {
+            for (AddNodesResult e : _results) {
+                sizer.checkLimit();
+                if (e.getClass() == AddNodesResult.class) {
+                    AddNodesResultBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = addNodesResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static AddNodesResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        AddNodesResult[] _results;
+        if (decoder.isArrayStreamed("Results", AddNodesResult.class)) {
+            _results = decoder.decodeArray("Results", decoder::decodeSerializable, AddNodesResult.class);
+        } else {
+            _results = new AddNodesResult[decoder.readArrayLength()];
+            for (int i = 0; i < _results.length; i++) {
+                _results[i] = AddNodesResultBinaryCodec.decode(decoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new AddNodesResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AddNodesResponseBinaryCodec::encode, AddNodesResponse.class, AddNodesResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AddNodesResponseBinaryCodec::decode, AddNodesResponse.class, AddNodesResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AddNodesResponseBinaryCodec::encodedSize, AddNodesResponse.class, AddNodesResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.AddNodesResult;
+
+public class AddNodesResultBinaryCodec {
+
+    public static void encode(AddNodesResult addNodesResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, addNodesResult.getStatusCode());
+        encoder.encodeNodeId(null, addNodesResult.getAddedNodeId());
+    }
+
+    public static void encodedSize(AddNodesResult addNodesResult, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeNodeId(null, addNodesResult.getAddedNodeId());
+    }
+
+    public static AddNodesResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        NodeId _addedNodeId = decoder.decodeNodeId(null);
+
+        return new AddNodesResult(_statusCode, _addedNodeId);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AddNodesResultBinaryCodec::encode, AddNodesResult.class, AddNodesResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AddNodesResultBinaryCodec::decode, AddNodesResult.class, AddNodesResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AddNodesResultBinaryCodec::encodedSize, AddNodesResult.class, AddNodesResult.BinaryEncodingId);
+    }
+
+}
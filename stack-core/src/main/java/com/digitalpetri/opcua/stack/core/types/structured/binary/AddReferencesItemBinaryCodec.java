@@ -0,0 +1,49 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.AddReferencesItem;
+
+public class AddReferencesItemBinaryCodec {
+
+    public static void encode(AddReferencesItem addReferencesItem, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, addReferencesItem.getSourceNodeId());
+        encoder.encodeNodeId(null, addReferencesItem.getReferenceTypeId());
+        encoder.encodeBoolean(null, addReferencesItem.getIsForward());
+        encoder.encodeString(null, addReferencesItem.getTargetServerUri());
+        encoder.encodeExpandedNodeId(null, addReferencesItem.getTargetNodeId());
+        NodeClass _targetNodeClass = addReferencesItem.getTargetNodeClass();
+        encoder.writeInt32(null, _targetNodeClass != null ? _targetNodeClass.getValue() : -1);
+    }
+
+    public static void encodedSize(AddReferencesItem addReferencesItem, BinarySizeEncoder sizer) {
+        sizer.addSize(5);
+        sizer.encodeNodeId(null, addReferencesItem.getSourceNodeId());
+        sizer.encodeNodeId(null, addReferencesItem.getReferenceTypeId());
+        sizer.encodeString(null, addReferencesItem.getTargetServerUri());
+        sizer.encodeExpandedNodeId(null, addReferencesItem.getTargetNodeId());
+    }
+
+    public static AddReferencesItem decode(BinaryDecoder decoder) {
+        NodeId _sourceNodeId = decoder.decodeNodeId(null);
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _isForward = decoder.decodeBoolean(null);
+        String _targetServerUri = decoder.decodeString(null);
+        ExpandedNodeId _targetNodeId = decoder.decodeExpandedNodeId(null);
+        NodeClass _targetNodeClass = NodeClass.decode(decoder);
+
+        return new AddReferencesItem(_sourceNodeId, _referenceTypeId, _isForward, _targetServerUri, _targetNodeId, _targetNodeClass);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AddReferencesItemBinaryCodec::encode, AddReferencesItem.class, AddReferencesItem.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AddReferencesItemBinaryCodec::decode, AddReferencesItem.class, AddReferencesItem.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AddReferencesItemBinaryCodec::encodedSize, AddReferencesItem.class, AddReferencesItem.BinaryEncodingId);
+    }
+
+}
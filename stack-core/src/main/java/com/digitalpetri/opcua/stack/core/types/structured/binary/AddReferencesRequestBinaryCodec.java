@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.AddReferencesItem;
+import com.digitalpetri.opcua.stack.core.types.structured.AddReferencesRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class AddReferencesRequestBinaryCodec {
+
+    public static void encode(AddReferencesRequest addReferencesRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = addReferencesRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        AddReferencesItem[] _referencesToAdd = addReferencesRequest.getReferencesToAdd();
+        encoder.writeArrayLength(_referencesToAdd);
+        if (_referencesToAdd != null) {
+            for (AddReferencesItem e : _referencesToAdd) {
+                if (e.getClass() == AddReferencesItem.class) {
+                    AddReferencesItemBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(AddReferencesRequest addReferencesRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = addReferencesRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        AddReferencesItem[] _referencesToAdd = addReferencesRequest.getReferencesToAdd();
+        sizer.addSize(4);
+        if (_referencesToAdd != null) {
+            for (AddReferencesItem e : _referencesToAdd) {
+                sizer.checkLimit();
+                if (e.getClass() == AddReferencesItem.class) {
+                    AddReferencesItemBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static AddReferencesRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        AddReferencesItem[] _referencesToAdd;
+        if (decoder.isArrayStreamed("ReferencesToAdd", AddReferencesItem.class)) {
+            _referencesToAdd = decoder.decodeArray("ReferencesToAdd", decoder::decodeSerializable, AddReferencesItem.class);
+        } else {
+            _referencesToAdd = new AddReferencesItem[decoder.readArrayLength()];
+            for (int i = 0; i < _referencesToAdd.length; i++) {
+                _referencesToAdd[i] = AddReferencesItemBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new AddReferencesRequest(_requestHeader, _referencesToAdd);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AddReferencesRequestBinaryCodec::encode, AddReferencesRequest.class, AddReferencesRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AddReferencesRequestBinaryCodec::decode, AddReferencesRequest.class, AddReferencesRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AddReferencesRequestBinaryCodec::encodedSize, AddReferencesRequest.class, AddReferencesRequest.BinaryEncodingId);
+    }
+
+}
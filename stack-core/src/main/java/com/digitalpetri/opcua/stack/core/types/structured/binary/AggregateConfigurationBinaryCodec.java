@@ -0,0 +1,40 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.structured.AggregateConfiguration;
+
+public class AggregateConfigurationBinaryCodec {
+
+    public static void encode(AggregateConfiguration aggregateConfiguration, BinaryEncoder encoder) {
+        encoder.encodeBoolean(null, aggregateConfiguration.getUseServerCapabilitiesDefaults());
+        encoder.encodeBoolean(null, aggregateConfiguration.getTreatUncertainAsBad());
+        encoder.encodeByte(null, aggregateConfiguration.getPercentDataBad());
+        encoder.encodeByte(null, aggregateConfiguration.getPercentDataGood());
+        encoder.encodeBoolean(null, aggregateConfiguration.getUseSlopedExtrapolation());
+    }
+
+    public static void encodedSize(AggregateConfiguration aggregateConfiguration, BinarySizeEncoder sizer) {
+        sizer.addSize(5);
+    }
+
+    public static AggregateConfiguration decode(BinaryDecoder decoder) {
+        Boolean _useServerCapabilitiesDefaults = decoder.decodeBoolean(null);
+        Boolean _treatUncertainAsBad = decoder.decodeBoolean(null);
+        UByte _percentDataBad = decoder.decodeByte(null);
+        UByte _percentDataGood = decoder.decodeByte(null);
+        Boolean _useSlopedExtrapolation = decoder.decodeBoolean(null);
+
+        return new AggregateConfiguration(_useServerCapabilitiesDefaults, _treatUncertainAsBad, _percentDataBad, _percentDataGood, _useSlopedExtrapolation);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AggregateConfigurationBinaryCodec::encode, AggregateConfiguration.class, AggregateConfiguration.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AggregateConfigurationBinaryCodec::decode, AggregateConfiguration.class, AggregateConfiguration.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AggregateConfigurationBinaryCodec::encodedSize, AggregateConfiguration.class, AggregateConfiguration.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.AggregateConfiguration;
+import com.digitalpetri.opcua.stack.core.types.structured.AggregateFilter;
+
+public class AggregateFilterBinaryCodec {
+
+    public static void encode(AggregateFilter aggregateFilter, BinaryEncoder encoder) {
+        encoder.encodeDateTime(null, aggregateFilter.getStartTime());
+        encoder.encodeNodeId(null, aggregateFilter.getAggregateType());
+        encoder.encodeDouble(null, aggregateFilter.getProcessingInterval());
+        AggregateConfiguration _aggregateConfiguration = aggregateFilter.getAggregateConfiguration();
+        if (_aggregateConfiguration == null) {
+            AggregateConfigurationBinaryCodec.encode(new AggregateConfiguration(), encoder);
+        } else if (_aggregateConfiguration.getClass() == AggregateConfiguration.class) {
+            AggregateConfigurationBinaryCodec.encode(_aggregateConfiguration, encoder);
+        } else {
+            encoder.encodeSerializable(null, _aggregateConfiguration);
+        }
+    }
+
+    public static void encodedSize(AggregateFilter aggregateFilter, BinarySizeEncoder sizer) {
+        sizer.addSize(16);
+        sizer.encodeNodeId(null, aggregateFilter.getAggregateType());
+        AggregateConfiguration _aggregateConfiguration = aggregateFilter.getAggregateConfiguration();
+        if (_aggregateConfiguration == null) {
+            AggregateConfigurationBinaryCodec.encodedSize(new AggregateConfiguration(), sizer);
+        } else if (_aggregateConfiguration.getClass() == AggregateConfiguration.class) {
+            AggregateConfigurationBinaryCodec.encodedSize(_aggregateConfiguration, sizer);
+        } else {
+            sizer.encodeSerializable(null, _aggregateConfiguration);
+        }
+    }
+
+    public static AggregateFilter decode(BinaryDecoder decoder) {
+        DateTime _startTime = decoder.decodeDateTime(null);
+        NodeId _aggregateType = decoder.decodeNodeId(null);
+        Double _processingInterval = decoder.decodeDouble(null);
+        AggregateConfiguration _aggregateConfiguration = AggregateConfigurationBinaryCodec.decode(decoder);
+
+        return new AggregateFilter(_startTime, _aggregateType, _processingInterval, _aggregateConfiguration);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AggregateFilterBinaryCodec::encode, AggregateFilter.class, AggregateFilter.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AggregateFilterBinaryCodec::decode, AggregateFilter.class, AggregateFilter.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AggregateFilterBinaryCodec::encodedSize, AggregateFilter.class, AggregateFilter.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.structured.AggregateConfiguration;
+import com.digitalpetri.opcua.stack.core.types.structured.AggregateFilterResult;
+
+public class AggregateFilterResultBinaryCodec {
+
+    public static void encode(AggregateFilterResult aggregateFilterResult, BinaryEncoder encoder) {
+        encoder.encodeDateTime(null, aggregateFilterResult.getRevisedStartTime());
+        encoder.encodeDouble(null, aggregateFilterResult.getRevisedProcessingInterval());
+        AggregateConfiguration _revisedAggregateConfiguration = aggregateFilterResult.getRevisedAggregateConfiguration();
+        if (_revisedAggregateConfiguration == null) {
+            AggregateConfigurationBinaryCodec.encode(new AggregateConfiguration(), encoder);
+        } else if (_revisedAggregateConfiguration.getClass() == AggregateConfiguration.class) {
+            AggregateConfigurationBinaryCodec.encode(_revisedAggregateConfiguration, encoder);
+        } else {
+            encoder.encodeSerializable(null, _revisedAggregateConfiguration);
+        }
+    }
+
+    public static void encodedSize(AggregateFilterResult aggregateFilterResult, BinarySizeEncoder sizer) {
+        sizer.addSize(16);
+        AggregateConfiguration _revisedAggregateConfiguration = aggregateFilterResult.getRevisedAggregateConfiguration();
+        if (_revisedAggregateConfiguration == null) {
+            AggregateConfigurationBinaryCodec.encodedSize(new AggregateConfiguration(), sizer);
+        } else if (_revisedAggregateConfiguration.getClass() == AggregateConfiguration.class) {
+            AggregateConfigurationBinaryCodec.encodedSize(_revisedAggregateConfiguration, sizer);
+        } else {
+            sizer.encodeSerializable(null, _revisedAggregateConfiguration);
+        }
+    }
+
+    public static AggregateFilterResult decode(BinaryDecoder decoder) {
+        DateTime _revisedStartTime = decoder.decodeDateTime(null);
+        Double _revisedProcessingInterval = decoder.decodeDouble(null);
+        AggregateConfiguration _revisedAggregateConfiguration = AggregateConfigurationBinaryCodec.decode(decoder);
+
+        return new AggregateFilterResult(_revisedStartTime, _revisedProcessingInterval, _revisedAggregateConfiguration);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AggregateFilterResultBinaryCodec::encode, AggregateFilterResult.class, AggregateFilterResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AggregateFilterResultBinaryCodec::decode, AggregateFilterResult.class, AggregateFilterResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AggregateFilterResultBinaryCodec::encodedSize, AggregateFilterResult.class, AggregateFilterResult.BinaryEncodingId);
+    }
+
+}
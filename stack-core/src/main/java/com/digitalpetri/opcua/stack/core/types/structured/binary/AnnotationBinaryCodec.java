@@ -0,0 +1,38 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.structured.Annotation;
+
+public class AnnotationBinaryCodec {
+
+    public static void encode(Annotation annotation, BinaryEncoder encoder) {
+        encoder.encodeString(null, annotation.getMessage());
+        encoder.encodeString(null, annotation.getUserName());
+        encoder.encodeDateTime(null, annotation.getAnnotationTime());
+    }
+
+    public static void encodedSize(Annotation annotation, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+        sizer.encodeString(null, annotation.getMessage());
+        sizer.encodeString(null, annotation.getUserName());
+    }
+
+    public static Annotation decode(BinaryDecoder decoder) {
+        String _message = decoder.decodeString(null);
+        String _userName = decoder.decodeString(null);
+        DateTime _annotationTime = decoder.decodeDateTime(null);
+
+        return new Annotation(_message, _userName, _annotationTime);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AnnotationBinaryCodec::encode, Annotation.class, Annotation.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AnnotationBinaryCodec::decode, Annotation.class, Annotation.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AnnotationBinaryCodec::encodedSize, Annotation.class, Annotation.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.AnonymousIdentityToken;
+
+public class AnonymousIdentityTokenBinaryCodec {
+
+    public static void encode(AnonymousIdentityToken anonymousIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString(null, anonymousIdentityToken.getPolicyId());
+    }
+
+    public static void encodedSize(AnonymousIdentityToken anonymousIdentityToken, BinarySizeEncoder sizer) {
+        sizer.encodeString(null, anonymousIdentityToken.getPolicyId());
+    }
+
+    public static AnonymousIdentityToken decode(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString(null);
+
+        return new AnonymousIdentityToken(_policyId);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AnonymousIdentityTokenBinaryCodec::encode, AnonymousIdentityToken.class, AnonymousIdentityToken.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AnonymousIdentityTokenBinaryCodec::decode, AnonymousIdentityToken.class, AnonymousIdentityToken.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AnonymousIdentityTokenBinaryCodec::encodedSize, AnonymousIdentityToken.class, AnonymousIdentityToken.BinaryEncodingId);
+    }
+
+}
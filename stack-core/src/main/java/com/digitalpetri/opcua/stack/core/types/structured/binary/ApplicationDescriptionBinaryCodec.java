@@ -0,0 +1,73 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.enumerated.ApplicationType;
+import com.digitalpetri.opcua.stack.core.types.structured.ApplicationDescription;
+
+public class ApplicationDescriptionBinaryCodec {
+
+    public static void encode(ApplicationDescription applicationDescription, BinaryEncoder encoder) {
+        encoder.encodeString(null, applicationDescription.getApplicationUri());
+        encoder.encodeString(null, applicationDescription.getProductUri());
+        encoder.encodeLocalizedText(null, applicationDescription.getApplicationName());
+        ApplicationType _applicationType = applicationDescription.getApplicationType();
+        encoder.writeInt32(null, _applicationType != null ? _applicationType.getValue() : -1);
+        encoder.encodeString(null, applicationDescription.getGatewayServerUri());
+        encoder.encodeString(null, applicationDescription.getDiscoveryProfileUri());
+        String[] _discoveryUrls = applicationDescription.getDiscoveryUrls();
+        encoder.writeArrayLength(_discoveryUrls);
+        if (_discoveryUrls != null) {
+            for (String e : _discoveryUrls) {
+                encoder.encodeString(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(ApplicationDescription applicationDescription, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeString(null, applicationDescription.getApplicationUri());
+        sizer.encodeString(null, applicationDescription.getProductUri());
+        sizer.encodeLocalizedText(null, applicationDescription.getApplicationName());
+        sizer.encodeString(null, applicationDescription.getGatewayServerUri());
+        sizer.encodeString(null, applicationDescription.getDiscoveryProfileUri());
+        String[] _discoveryUrls = applicationDescription.getDiscoveryUrls();
+        sizer.addSize(4);
+        if (_discoveryUrls != null) {
+            for (String e : _discoveryUrls) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+    }
+
+    public static ApplicationDescription decode(BinaryDecoder decoder) {
+        String _applicationUri = decoder.decodeString(null);
+        String _productUri = decoder.decodeString(null);
+        LocalizedText _applicationName = decoder.decodeLocalizedText(null);
+        ApplicationType _applicationType = ApplicationType.decode(decoder);
+        String _gatewayServerUri = decoder.decodeString(null);
+        String _discoveryProfileUri = decoder.decodeString(null);
+        String[] _discoveryUrls;
+        if (decoder.isArrayStreamed("DiscoveryUrls", String.class)) {
+            _discoveryUrls = decoder.decodeArray("DiscoveryUrls", decoder::decodeString, String.class);
+        } else {
+            _discoveryUrls = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _discoveryUrls.length; i++) {
+                _discoveryUrls[i] = decoder.decodeString(null);
+            }
+        }
+
+        return new ApplicationDescription(_applicationUri, _productUri, _applicationName, _applicationType, _gatewayServerUri, _discoveryProfileUri, _discoveryUrls);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ApplicationDescriptionBinaryCodec::encode, ApplicationDescription.class, ApplicationDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ApplicationDescriptionBinaryCodec::decode, ApplicationDescription.class, ApplicationDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ApplicationDescriptionBinaryCodec::encodedSize, ApplicationDescription.class, ApplicationDescription.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.Argument;
+
+public class ArgumentBinaryCodec {
+
+    public static void encode(Argument argument, BinaryEncoder encoder) {
+        encoder.encodeString(null, argument.getName());
+        encoder.encodeNodeId(null, argument.getDataType());
+        encoder.encodeInt32(null, argument.getValueRank());
+        UInteger[] _arrayDimensions = argument.getArrayDimensions();
+        encoder.writeArrayLength(_arrayDimensions);
+        if (_arrayDimensions != null) {
+            for (UInteger e : _arrayDimensions) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+        encoder.encodeLocalizedText(null, argument.getDescription());
+    }
+
+    public static void encodedSize(Argument argument, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeString(null, argument.getName());
+        sizer.encodeNodeId(null, argument.getDataType());
+        sizer.addArraySize(argument.getArrayDimensions(), 4);
+        sizer.encodeLocalizedText(null, argument.getDescription());
+    }
+
+    public static Argument decode(BinaryDecoder decoder) {
+        String _name = decoder.decodeString(null);
+        NodeId _dataType = decoder.decodeNodeId(null);
+        Integer _valueRank = decoder.decodeInt32(null);
+        UInteger[] _arrayDimensions;
+        if (decoder.isArrayStreamed("ArrayDimensions", UInteger.class)) {
+            _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _arrayDimensions = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _arrayDimensions.length; i++) {
+                _arrayDimensions[i] = decoder.decodeUInt32(null);
+            }
+        }
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+
+        return new Argument(_name, _dataType, _valueRank, _arrayDimensions, _description);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ArgumentBinaryCodec::encode, Argument.class, Argument.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ArgumentBinaryCodec::decode, Argument.class, Argument.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ArgumentBinaryCodec::encodedSize, Argument.class, Argument.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,548 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import java.util.UUID;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.ULong;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UShort;
+import com.digitalpetri.opcua.stack.core.types.enumerated.EnumeratedTestType;
+import com.digitalpetri.opcua.stack.core.types.structured.ArrayTestType;
+
+public class ArrayTestTypeBinaryCodec {
+
+    public static void encode(ArrayTestType arrayTestType, BinaryEncoder encoder) {
+        Boolean[] _booleans = arrayTestType.getBooleans();
+        encoder.writeArrayLength(_booleans);
+        if (_booleans != null) {
+            for (Boolean e : _booleans) {
+                encoder.encodeBoolean(null, e);
+            }
+        }
+        Byte[] _sBytes = arrayTestType.getSBytes();
+        encoder.writeArrayLength(_sBytes);
+        if (_sBytes != null) {
+            for (Byte e : _sBytes) {
+                encoder.encodeSByte(null, e);
+            }
+        }
+        Short[] _int16s = arrayTestType.getInt16s();
+        encoder.writeArrayLength(_int16s);
+        if (_int16s != null) {
+            for (Short e : _int16s) {
+                encoder.encodeInt16(null, e);
+            }
+        }
+        UShort[] _uInt16s = arrayTestType.getUInt16s();
+        encoder.writeArrayLength(_uInt16s);
+        if (_uInt16s != null) {
+            for (UShort e : _uInt16s) {
+                encoder.encodeUInt16(null, e);
+            }
+        }
+        Integer[] _int32s = arrayTestType.getInt32s();
+        encoder.writeArrayLength(_int32s);
+        if (_int32s != null) {
+            for (Integer e : _int32s) {
+                encoder.encodeInt32(null, e);
+            }
+        }
+        UInteger[] _uInt32s = arrayTestType.getUInt32s();
+        encoder.writeArrayLength(_uInt32s);
+        if (_uInt32s != null) {
+            for (UInteger e : _uInt32s) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+        Long[] _int64s = arrayTestType.getInt64s();
+        encoder.writeArrayLength(_int64s);
+        if (_int64s != null) {
+            for (Long e : _int64s) {
+                encoder.encodeInt64(null, e);
+            }
+        }
+        ULong[] _uInt64s = arrayTestType.getUInt64s();
+        encoder.writeArrayLength(_uInt64s);
+        if (_uInt64s != null) {
+            for (ULong e : _uInt64s) {
+                encoder.encodeUInt64(null, e);
+            }
+        }
+        Float[] _floats = arrayTestType.getFloats();
+        encoder.writeArrayLength(_floats);
+        if (_floats != null) {
+            for (Float e : _floats) {
+                encoder.encodeFloat(null, e);
+            }
+        }
+        Double[] _doubles = arrayTestType.getDoubles();
+        encoder.writeArrayLength(_doubles);
+        if (_doubles != null) {
+            for (Double e : _doubles) {
+                encoder.encodeDouble(null, e);
+            }
+        }
+        String[] _strings = arrayTestType.getStrings();
+        encoder.writeArrayLength(_strings);
+        if (_strings != null) {
+            for (String e : _strings) {
+                encoder.encodeString(null, e);
+            }
+        }
+        DateTime[] _dateTimes = arrayTestType.getDateTimes();
+        encoder.writeArrayLength(_dateTimes);
+        if (_dateTimes != null) {
+            for (DateTime e : _dateTimes) {
+                encoder.encodeDateTime(null, e);
+            }
+        }
+        UUID[] _guids = arrayTestType.getGuids();
+        encoder.writeArrayLength(_guids);
+        if (_guids != null) {
+            for (UUID e : _guids) {
+                encoder.encodeGuid(null, e);
+            }
+        }
+        ByteString[] _byteStrings = arrayTestType.getByteStrings();
+        encoder.writeArrayLength(_byteStrings);
+        if (_byteStrings != null) {
+            for (ByteString e : _byteStrings) {
+                encoder.encodeByteString(null, e);
+            }
+        }
+        XmlElement[] _xmlElements = arrayTestType.getXmlElements();
+        encoder.writeArrayLength(_xmlElements);
+        if (_xmlElements != null) {
+            for (XmlElement e : _xmlElements) {
+                encoder.encodeXmlElement(null, e);
+            }
+        }
+        NodeId[] _nodeIds = arrayTestType.getNodeIds();
+        encoder.writeArrayLength(_nodeIds);
+        if (_nodeIds != null) {
+            for (NodeId e : _nodeIds) {
+                encoder.encodeNodeId(null, e);
+            }
+        }
+        ExpandedNodeId[] _expandedNodeIds = arrayTestType.getExpandedNodeIds();
+        encoder.writeArrayLength(_expandedNodeIds);
+        if (_expandedNodeIds != null) {
+            for (ExpandedNodeId e : _expandedNodeIds) {
+                encoder.encodeExpandedNodeId(null, e);
+            }
+        }
+        StatusCode[] _statusCodes = arrayTestType.getStatusCodes();
+        encoder.writeArrayLength(_statusCodes);
+        if (_statusCodes != null) {
+            for (StatusCode e : _statusCodes) {
+                encoder.encodeStatusCode(null, e);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = arrayTestType.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+        QualifiedName[] _qualifiedNames = arrayTestType.getQualifiedNames();
+        encoder.writeArrayLength(_qualifiedNames);
+        if (_qualifiedNames != null) {
+            for (QualifiedName e : _qualifiedNames) {
+                encoder.encodeQualifiedName(null, e);
+            }
+        }
+        LocalizedText[] _localizedTexts = arrayTestType.getLocalizedTexts();
+        encoder.writeArrayLength(_localizedTexts);
+        if (_localizedTexts != null) {
+            for (LocalizedText e : _localizedTexts) {
+                encoder.encodeLocalizedText(null, e);
+            }
+        }
+        ExtensionObject[] _extensionObjects = arrayTestType.getExtensionObjects();
+        encoder.writeArrayLength(_extensionObjects);
+        if (_extensionObjects != null) {
+            for (ExtensionObject e : _extensionObjects) {
+                encoder.encodeExtensionObject(null, e);
+            }
+        }
+        DataValue[] _dataValues = arrayTestType.getDataValues();
+        encoder.writeArrayLength(_dataValues);
+        if (_dataValues != null) {
+            for (DataValue e : _dataValues) {
+                encoder.encodeDataValue(null, e);
+            }
+        }
+        Variant[] _variants = arrayTestType.getVariants();
+        encoder.writeArrayLength(_variants);
+        if (_variants != null) {
+            for (Variant e : _variants) {
+                encoder.encodeVariant(null, e);
+            }
+        }
+        EnumeratedTestType[] _enumeratedValues = arrayTestType.getEnumeratedValues();
+        encoder.writeArrayLength(_enumeratedValues);
+        if (_enumeratedValues != null) {
+            for (EnumeratedTestType e : _enumeratedValues) {
+                encoder.writeInt32(null, e != null ? e.getValue() : -1);
+            }
+        }
+    }
+
+    public static void encodedSize(ArrayTestType arrayTestType, BinarySizeEncoder sizer) {
+        sizer.addArraySize(arrayTestType.getBooleans(), 1);
+        sizer.addArraySize(arrayTestType.getSBytes(), 1);
+        sizer.addArraySize(arrayTestType.getInt16s(), 2);
+        sizer.addArraySize(arrayTestType.getUInt16s(), 2);
+        sizer.addArraySize(arrayTestType.getInt32s(), 4);
+        sizer.addArraySize(arrayTestType.getUInt32s(), 4);
+        sizer.addArraySize(arrayTestType.getInt64s(), 8);
+        sizer.addArraySize(arrayTestType.getUInt64s(), 8);
+        sizer.addArraySize(arrayTestType.getFloats(), 4);
+        sizer.addArraySize(arrayTestType.getDoubles(), 8);
+        String[] _strings = arrayTestType.getStrings();
+        sizer.addSize(4);
+        if (_strings != null) {
+            for (String e : _strings) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+        sizer.addArraySize(arrayTestType.getDateTimes(), 8);
+        sizer.addArraySize(arrayTestType.getGuids(), 16);
+        ByteString[] _byteStrings = arrayTestType.getByteStrings();
+        sizer.addSize(4);
+        if (_byteStrings != null) {
+            for (ByteString e : _byteStrings) {
+                sizer.checkLimit();
+                sizer.encodeByteString(null, e);
+            }
+        }
+        XmlElement[] _xmlElements = arrayTestType.getXmlElements();
+        sizer.addSize(4);
+        if (_xmlElements != null) {
+            for (XmlElement e : _xmlElements) {
+                sizer.checkLimit();
+                sizer.encodeXmlElement(null, e);
+            }
+        }
+        NodeId[] _nodeIds = arrayTestType.getNodeIds();
+        sizer.addSize(4);
+        if (_nodeIds != null) {
+            for (NodeId e : _nodeIds) {
+                sizer.checkLimit();
+                sizer.encodeNodeId(null, e);
+            }
+        }
+        ExpandedNodeId[] _expandedNodeIds = arrayTestType.getExpandedNodeIds();
+        sizer.addSize(4);
+        if (_expandedNodeIds != null) {
+            for (ExpandedNodeId e : _expandedNodeIds) {
+                sizer.checkLimit();
+                sizer.encodeExpandedNodeId(null, e);
+            }
+        }
+        sizer.addArraySize(arrayTestType.getStatusCodes(), 4);
+        DiagnosticInfo[] _diagnosticInfos = arrayTestType.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+        QualifiedName[] _qualifiedNames = arrayTestType.getQualifiedNames();
+        sizer.addSize(4);
+        if (_qualifiedNames != null) {
+            for (QualifiedName e : _qualifiedNames) {
+                sizer.checkLimit();
+                sizer.encodeQualifiedName(null, e);
+            }
+        }
+        LocalizedText[] _localizedTexts = arrayTestType.getLocalizedTexts();
+        sizer.addSize(4);
+        if (_localizedTexts != null) {
+            for (LocalizedText e : _localizedTexts) {
+                sizer.checkLimit();
+                sizer.encodeLocalizedText(null, e);
+            }
+        }
+        ExtensionObject[] _extensionObjects = arrayTestType.getExtensionObjects();
+        sizer.addSize(4);
+        if (_extensionObjects != null) {
+            for (ExtensionObject e : _extensionObjects) {
+                sizer.checkLimit();
+                sizer.encodeExtensionObject(null, e);
+            }
+        }
+        DataValue[] _dataValues = arrayTestType.getDataValues();
+        sizer.addSize(4);
+        if (_dataValues != null) {
+            for (DataValue e : _dataValues) {
+                sizer.checkLimit();
+                sizer.encodeDataValue(null, e);
+            }
+        }
+        Variant[] _variants = arrayTestType.getVariants();
+        sizer.addSize(4);
+        if (_variants != null) {
+            for (Variant e : _variants) {
+                sizer.checkLimit();
+                sizer.encodeVariant(null, e);
+            }
+        }
+        sizer.addArraySize(arrayTestType.getEnumeratedValues(), 4);
+    }
+
+    public static ArrayTestType decode(BinaryDecoder decoder) {
+        Boolean[] _booleans;
+        if (decoder.isArrayStreamed("Booleans", Boolean.class)) {
+            _booleans = decoder.decodeArray("Booleans", decoder::decodeBoolean, Boolean.class);
+        } else {
+            _booleans = new Boolean[decoder.readArrayLength()];
+            for (int i = 0; i < _booleans.length; i++) {
+                _booleans[i] = decoder.decodeBoolean(null);
+            }
+        }
+        Byte[] _sBytes;
+        if (decoder.isArrayStreamed("SBytes", Byte.class)) {
+            _sBytes = decoder.decodeArray("SBytes", decoder::decodeSByte, Byte.class);
+        } else {
+            _sBytes = new Byte[decoder.readArrayLength()];
+            for (int i = 0; i < _sBytes.length; i++) {
+                _sBytes[i] = decoder.decodeSByte(null);
+            }
+        }
+        Short[] _int16s;
+        if (decoder.isArrayStreamed("Int16s", Short.class)) {
+            _int16s = decoder.decodeArray("Int16s", decoder::decodeInt16, Short.class);
+        } else {
+            _int16s = new Short[decoder.readArrayLength()];
+            for (int i = 0; i < _int16s.length; i++) {
+                _int16s[i] = decoder.decodeInt16(null);
+            }
+        }
+        UShort[] _uInt16s;
+        if (decoder.isArrayStreamed("UInt16s", UShort.class)) {
+            _uInt16s = decoder.decodeArray("UInt16s", decoder::decodeUInt16, UShort.class);
+        } else {
+            _uInt16s = new UShort[decoder.readArrayLength()];
+            for (int i = 0; i < _uInt16s.length; i++) {
+                _uInt16s[i] = decoder.decodeUInt16(null);
+            }
+        }
+        Integer[] _int32s;
+        if (decoder.isArrayStreamed("Int32s", Integer.class)) {
+            _int32s = decoder.decodeArray("Int32s", decoder::decodeInt32, Integer.class);
+        } else {
+            _int32s = new Integer[decoder.readArrayLength()];
+            for (int i = 0; i < _int32s.length; i++) {
+                _int32s[i] = decoder.decodeInt32(null);
+            }
+        }
+        UInteger[] _uInt32s;
+        if (decoder.isArrayStreamed("UInt32s", UInteger.class)) {
+            _uInt32s = decoder.decodeArray("UInt32s", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _uInt32s = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _uInt32s.length; i++) {
+                _uInt32s[i] = decoder.decodeUInt32(null);
+            }
+        }
+        Long[] _int64s;
+        if (decoder.isArrayStreamed("Int64s", Long.class)) {
+            _int64s = decoder.decodeArray("Int64s", decoder::decodeInt64, Long.class);
+        } else {
+            _int64s = new Long[decoder.readArrayLength()];
+            for (int i = 0; i < _int64s.length; i++) {
+                _int64s[i] = decoder.decodeInt64(null);
+            }
+        }
+        ULong[] _uInt64s;
+        if (decoder.isArrayStreamed("UInt64s", ULong.class)) {
+            _uInt64s = decoder.decodeArray("UInt64s", decoder::decodeUInt64, ULong.class);
+        } else {
+            _uInt64s = new ULong[decoder.readArrayLength()];
+            for (int i = 0; i < _uInt64s.length; i++) {
+                _uInt64s[i] = decoder.decodeUInt64(null);
+            }
+        }
+        Float[] _floats;
+        if (decoder.isArrayStreamed("Floats", Float.class)) {
+            _floats = decoder.decodeArray("Floats", decoder::decodeFloat, Float.class);
+        } else {
+            _floats = new Float[decoder.readArrayLength()];
+            for (int i = 0; i < _floats.length; i++) {
+                _floats[i] = decoder.decodeFloat(null);
+            }
+        }
+        Double[] _doubles;
+        if (decoder.isArrayStreamed("Doubles", Double.class)) {
+            _doubles = decoder.decodeArray("Doubles", decoder::decodeDouble, Double.class);
+        } else {
+            _doubles = new Double[decoder.readArrayLength()];
+            for (int i = 0; i < _doubles.length; i++) {
+                _doubles[i] = decoder.decodeDouble(null);
+            }
+        }
+        String[] _strings;
+        if (decoder.isArrayStreamed("Strings", String.class)) {
+            _strings = decoder.decodeArray("Strings", decoder::decodeString, String.class);
+        } else {
+            _strings = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _strings.length; i++) {
+                _strings[i] = decoder.decodeString(null);
+            }
+        }
+        DateTime[] _dateTimes;
+        if (decoder.isArrayStreamed("DateTimes", DateTime.class)) {
+            _dateTimes = decoder.decodeArray("DateTimes", decoder::decodeDateTime, DateTime.class);
+        } else {
+            _dateTimes = new DateTime[decoder.readArrayLength()];
+            for (int i = 0; i < _dateTimes.length; i++) {
+                _dateTimes[i] = decoder.decodeDateTime(null);
+            }
+        }
+        UUID[] _guids;
+        if (decoder.isArrayStreamed("Guids", UUID.class)) {
+            _guids = decoder.decodeArray("Guids", decoder::decodeGuid, UUID.class);
+        } else {
+            _guids = new UUID[decoder.readArrayLength()];
+            for (int i = 0; i < _guids.length; i++) {
+                _guids[i] = decoder.decodeGuid(null);
+            }
+        }
+        ByteString[] _byteStrings;
+        if (decoder.isArrayStreamed("ByteStrings", ByteString.class)) {
+            _byteStrings = decoder.decodeArray("ByteStrings", decoder::decodeByteString, ByteString.class);
+        } else {
+            _byteStrings = new ByteString[decoder.readArrayLength()];
+            for (int i = 0; i < _byteStrings.length; i++) {
+                _byteStrings[i] = decoder.decodeByteString(null);
+            }
+        }
+        XmlElement[] _xmlElements;
+        if (decoder.isArrayStreamed("XmlElements", XmlElement.class)) {
+            _xmlElements = decoder.decodeArray("XmlElements", decoder::decodeXmlElement, XmlElement.class);
+        } else {
+            _xmlElements = new XmlElement[decoder.readArrayLength()];
+            for (int i = 0; i < _xmlElements.length; i++) {
+                _xmlElements[i] = decoder.decodeXmlElement(null);
+            }
+        }
+        NodeId[] _nodeIds;
+        if (decoder.isArrayStreamed("NodeIds", NodeId.class)) {
+            _nodeIds = decoder.decodeArray("NodeIds", decoder::decodeNodeId, NodeId.class);
+        } else {
+            _nodeIds = new NodeId[decoder.readArrayLength()];
+            for (int i = 0; i < _nodeIds.length; i++) {
+                _nodeIds[i] = decoder.decodeNodeId(null);
+            }
+        }
+        ExpandedNodeId[] _expandedNodeIds;
+        if (decoder.isArrayStreamed("ExpandedNodeIds", ExpandedNodeId.class)) {
+            _expandedNodeIds = decoder.decodeArray("ExpandedNodeIds", decoder::decodeExpandedNodeId, ExpandedNodeId.class);
+        } else {
+            _expandedNodeIds = new ExpandedNodeId[decoder.readArrayLength()];
+            for (int i = 0; i < _expandedNodeIds.length; i++) {
+                _expandedNodeIds[i] = decoder.decodeExpandedNodeId(null);
+            }
+        }
+        StatusCode[] _statusCodes;
+        if (decoder.isArrayStreamed("StatusCodes", StatusCode.class)) {
+            _statusCodes = decoder.decodeArray("StatusCodes", decoder::decodeStatusCode, StatusCode.class);
+        } else {
+            _statusCodes = new StatusCode[decoder.readArrayLength()];
+            for (int i = 0; i < _statusCodes.length; i++) {
+                _statusCodes[i] = decoder.decodeStatusCode(null);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+        QualifiedName[] _qualifiedNames;
+        if (decoder.isArrayStreamed("QualifiedNames", QualifiedName.class)) {
+            _qualifiedNames = decoder.decodeArray("QualifiedNames", decoder::decodeQualifiedName, QualifiedName.class);
+        } else {
+            _qualifiedNames = new QualifiedName[decoder.readArrayLength()];
+            for (int i = 0; i < _qualifiedNames.length; i++) {
+                _qualifiedNames[i] = decoder.decodeQualifiedName(null);
+            }
+        }
+        LocalizedText[] _localizedTexts;
+        if (decoder.isArrayStreamed("LocalizedTexts", LocalizedText.class)) {
+            _localizedTexts = decoder.decodeArray("LocalizedTexts", decoder::decodeLocalizedText, LocalizedText.class);
+        } else {
+            _localizedTexts = new LocalizedText[decoder.readArrayLength()];
+            for (int i = 0; i < _localizedTexts.length; i++) {
+                _localizedTexts[i] = decoder.decodeLocalizedText(null);
+            }
+        }
+        ExtensionObject[] _extensionObjects;
+        if (decoder.isArrayStreamed("ExtensionObjects", ExtensionObject.class)) {
+            _extensionObjects = decoder.decodeArray("ExtensionObjects", decoder::decodeExtensionObject, ExtensionObject.class);
+        } else {
+            _extensionObjects = new ExtensionObject[decoder.readArrayLength()];
+            for (int i = 0; i < _extensionObjects.length; i++) {
+                _extensionObjects[i] = decoder.decodeExtensionObject(null);
+            }
+        }
+        DataValue[] _dataValues;
+        if (decoder.isArrayStreamed("DataValues", DataValue.class)) {
+            _dataValues = decoder.decodeArray("DataValues", decoder::decodeDataValue, DataValue.class);
+        } else {
+            _dataValues = new DataValue[decoder.readArrayLength()];
+            for (int i = 0; i < _dataValues.length; i++) {
+                _dataValues[i] = decoder.decodeDataValue(null);
+            }
+        }
+        Variant[] _variants;
+        if (decoder.isArrayStreamed("Variants", Variant.class)) {
+            _variants = decoder.decodeArray("Variants", decoder::decodeVariant, Variant.class);
+        } else {
+            _variants = new Variant[decoder.readArrayLength()];
+            for (int i = 0; i < _variants.length; i++) {
+                _variants[i] = decoder.decodeVariant(null);
+            }
+        }
+        EnumeratedTestType[] _enumeratedValues;
+        if (decoder.isArrayStreamed("EnumeratedValues", EnumeratedTestType.class)) {
+            _enumeratedValues = decoder.decodeArray("EnumeratedValues", decoder::decodeEnumeration, EnumeratedTestType.class);
+        } else {
+            _enumeratedValues = new EnumeratedTestType[decoder.readArrayLength()];
+            for (int i = 0; i < _enumeratedValues.length; i++) {
+                _enumeratedValues[i] = EnumeratedTestType.decode(decoder);
+            }
+        }
+
+        return new ArrayTestType(_booleans, _sBytes, _int16s, _uInt16s, _int32s, _uInt32s, _int64s, _uInt64s, _floats, _doubles, _strings, _dateTimes, _guids, _byteStrings, _xmlElements, _nodeIds, _expandedNodeIds, _statusCodes, _diagnosticInfos, _qualifiedNames, _localizedTexts, _extensionObjects, _dataValues, _variants, _enumeratedValues);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ArrayTestTypeBinaryCodec::encode, ArrayTestType.class, ArrayTestType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ArrayTestTypeBinaryCodec::decode, ArrayTestType.class, ArrayTestType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ArrayTestTypeBinaryCodec::encodedSize, ArrayTestType.class, ArrayTestType.BinaryEncodingId);
+    }
+
+}
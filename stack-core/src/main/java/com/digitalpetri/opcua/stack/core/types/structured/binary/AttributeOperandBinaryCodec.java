@@ -0,0 +1,60 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.AttributeOperand;
+import com.digitalpetri.opcua.stack.core.types.structured.RelativePath;
+
+public class AttributeOperandBinaryCodec {
+
+    public static void encode(AttributeOperand attributeOperand, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, attributeOperand.getNodeId());
+        encoder.encodeString(null, attributeOperand.getAlias());
+        RelativePath _browsePath = attributeOperand.getBrowsePath();
+        if (_browsePath == null) {
+            RelativePathBinaryCodec.encode(new RelativePath(), encoder);
+        } else if (_browsePath.getClass() == RelativePath.class) {
+            RelativePathBinaryCodec.encode(_browsePath, encoder);
+        } else {
+            encoder.encodeSerializable(null, _browsePath);
+        }
+        encoder.encodeUInt32(null, attributeOperand.getAttributeId());
+        encoder.encodeString(null, attributeOperand.getIndexRange());
+    }
+
+    public static void encodedSize(AttributeOperand attributeOperand, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeNodeId(null, attributeOperand.getNodeId());
+        sizer.encodeString(null, attributeOperand.getAlias());
+        RelativePath _browsePath = attributeOperand.getBrowsePath();
+        if (_browsePath == null) {
+            RelativePathBinaryCodec.encodedSize(new RelativePath(), sizer);
+        } else if (_browsePath.getClass() == RelativePath.class) {
+            RelativePathBinaryCodec.encodedSize(_browsePath, sizer);
+        } else {
+            sizer.encodeSerializable(null, _browsePath);
+        }
+        sizer.encodeString(null, attributeOperand.getIndexRange());
+    }
+
+    public static AttributeOperand decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        String _alias = decoder.decodeString(null);
+        RelativePath _browsePath = RelativePathBinaryCodec.decode(decoder);
+        UInteger _attributeId = decoder.decodeUInt32(null);
+        String _indexRange = decoder.decodeString(null);
+
+        return new AttributeOperand(_nodeId, _alias, _browsePath, _attributeId, _indexRange);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AttributeOperandBinaryCodec::encode, AttributeOperand.class, AttributeOperand.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AttributeOperandBinaryCodec::decode, AttributeOperand.class, AttributeOperand.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AttributeOperandBinaryCodec::encodedSize, AttributeOperand.class, AttributeOperand.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.enumerated.AxisScaleEnumeration;
+import com.digitalpetri.opcua.stack.core.types.structured.AxisInformation;
+import com.digitalpetri.opcua.stack.core.types.structured.EUInformation;
+import com.digitalpetri.opcua.stack.core.types.structured.Range;
+
+public class AxisInformationBinaryCodec {
+
+    public static void encode(AxisInformation axisInformation, BinaryEncoder encoder) {
+        EUInformation _engineeringUnits = axisInformation.getEngineeringUnits();
+        if (_engineeringUnits == null) {
+            EUInformationBinaryCodec.encode(new EUInformation(), encoder);
+        } else if (_engineeringUnits.getClass() == EUInformation.class) {
+            EUInformationBinaryCodec.encode(_engineeringUnits, encoder);
+        } else {
+            encoder.encodeSerializable(null, _engineeringUnits);
+        }
+        Range _eURange = axisInformation.getEURange();
+        if (_eURange == null) {
+            RangeBinaryCodec.encode(new Range(), encoder);
+        } else if (_eURange.getClass() == Range.class) {
+            RangeBinaryCodec.encode(_eURange, encoder);
+        } else {
+            encoder.encodeSerializable(null, _eURange);
+        }
+        encoder.encodeLocalizedText(null, axisInformation.getTitle());
+        AxisScaleEnumeration _axisScaleType = axisInformation.getAxisScaleType();
+        encoder.writeInt32(null, _axisScaleType != null ? _axisScaleType.getValue() : -1);
+        Double[] _axisSteps = axisInformation.getAxisSteps();
+        encoder.writeArrayLength(_axisSteps);
+        if (_axisSteps != null) {
+            for (Double e : _axisSteps) {
+                encoder.encodeDouble(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(AxisInformation axisInformation, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        EUInformation _engineeringUnits = axisInformation.getEngineeringUnits();
+        if (_engineeringUnits == null) {
+            EUInformationBinaryCodec.encodedSize(new EUInformation(), sizer);
+        } else if (_engineeringUnits.getClass() == EUInformation.class) {
+            EUInformationBinaryCodec.encodedSize(_engineeringUnits, sizer);
+        } else {
+            sizer.encodeSerializable(null, _engineeringUnits);
+        }
+        Range _eURange = axisInformation.getEURange();
+        if (_eURange == null) {
+            RangeBinaryCodec.encodedSize(new Range(), sizer);
+        } else if (_eURange.getClass() == Range.class) {
+            RangeBinaryCodec.encodedSize(_eURange, sizer);
+        } else {
+            sizer.encodeSerializable(null, _eURange);
+        }
+        sizer.encodeLocalizedText(null, axisInformation.getTitle());
+        sizer.addArraySize(axisInformation.getAxisSteps(), 8);
+    }
+
+    public static AxisInformation decode(BinaryDecoder decoder) {
+        EUInformation _engineeringUnits = EUInformationBinaryCodec.decode(decoder);
+        Range _eURange = RangeBinaryCodec.decode(decoder);
+        LocalizedText _title = decoder.decodeLocalizedText(null);
+        AxisScaleEnumeration _axisScaleType = AxisScaleEnumeration.decode(decoder);
+        Double[] _axisSteps;
+        if (decoder.isArrayStreamed("AxisSteps", Double.class)) {
+            _axisSteps = decoder.decodeArray("AxisSteps", decoder::decodeDouble, Double.class);
+        } else {
+            _axisSteps = new Double[decoder.readArrayLength()];
+            for (int i = 0; i < _axisSteps.length; i++) {
+                _axisSteps[i] = decoder.decodeDouble(null);
+            }
+        }
+
+        return new AxisInformation(_engineeringUnits, _eURange, _title, _axisScaleType, _axisSteps);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(AxisInformationBinaryCodec::encode, AxisInformation.class, AxisInformation.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(AxisInformationBinaryCodec::decode, AxisInformation.class, AxisInformation.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(AxisInformationBinaryCodec::encodedSize, AxisInformation.class, AxisInformation.BinaryEncodingId);
+    }
+
+}
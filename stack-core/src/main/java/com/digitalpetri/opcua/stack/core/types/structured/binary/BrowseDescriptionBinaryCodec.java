@@ -0,0 +1,47 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.BrowseDirection;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseDescription;
+
+public class BrowseDescriptionBinaryCodec {
+
+    public static void encode(BrowseDescription browseDescription, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, browseDescription.getNodeId());
+        BrowseDirection _browseDirection = browseDescription.getBrowseDirection();
+        encoder.writeInt32(null, _browseDirection != null ? _browseDirection.getValue() : -1);
+        encoder.encodeNodeId(null, browseDescription.getReferenceTypeId());
+        encoder.encodeBoolean(null, browseDescription.getIncludeSubtypes());
+        encoder.encodeUInt32(null, browseDescription.getNodeClassMask());
+        encoder.encodeUInt32(null, browseDescription.getResultMask());
+    }
+
+    public static void encodedSize(BrowseDescription browseDescription, BinarySizeEncoder sizer) {
+        sizer.addSize(13);
+        sizer.encodeNodeId(null, browseDescription.getNodeId());
+        sizer.encodeNodeId(null, browseDescription.getReferenceTypeId());
+    }
+
+    public static BrowseDescription decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        BrowseDirection _browseDirection = BrowseDirection.decode(decoder);
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _includeSubtypes = decoder.decodeBoolean(null);
+        UInteger _nodeClassMask = decoder.decodeUInt32(null);
+        UInteger _resultMask = decoder.decodeUInt32(null);
+
+        return new BrowseDescription(_nodeId, _browseDirection, _referenceTypeId, _includeSubtypes, _nodeClassMask, _resultMask);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(BrowseDescriptionBinaryCodec::encode, BrowseDescription.class, BrowseDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(BrowseDescriptionBinaryCodec::decode, BrowseDescription.class, BrowseDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(BrowseDescriptionBinaryCodec::encodedSize, BrowseDescription.class, BrowseDescription.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseNextRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class BrowseNextRequestBinaryCodec {
+
+    public static void encode(BrowseNextRequest browseNextRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = browseNextRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeBoolean(null, browseNextRequest.getReleaseContinuationPoints());
+        ByteString[] _continuationPoints = browseNextRequest.getContinuationPoints();
+        encoder.writeArrayLength(_continuationPoints);
+        if (_continuationPoints != null) {
+            for (ByteString e : _continuationPoints) {
+                encoder.encodeByteString(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(BrowseNextRequest browseNextRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(1);
+        RequestHeader _requestHeader = browseNextRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        ByteString[] _continuationPoints = browseNextRequest.getContinuationPoints();
+        sizer.addSize(4);
+        if (_continuationPoints != null) {
+            for (ByteString e : _continuationPoints) {
+                sizer.checkLimit();
+                sizer.encodeByteString(null, e);
+            }
+        }
+    }
+
+    public static BrowseNextRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        Boolean _releaseContinuationPoints = decoder.decodeBoolean(null);
+        ByteString[] _continuationPoints;
+        if (decoder.isArrayStreamed("ContinuationPoints", ByteString.class)) {
+            _continuationPoints = decoder.decodeArray("ContinuationPoints", decoder::decodeByteString, ByteString.class);
+        } else {
+            _continuationPoints = new ByteString[decoder.readArrayLength()];
+            for (int i = 0; i < _continuationPoints.length; i++) {
+                _continuationPoints[i] = decoder.decodeByteString(null);
+            }
+        }
+
+        return new BrowseNextRequest(_requestHeader, _releaseContinuationPoints, _continuationPoints);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(BrowseNextRequestBinaryCodec::encode, BrowseNextRequest.class, BrowseNextRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(BrowseNextRequestBinaryCodec::decode, BrowseNextRequest.class, BrowseNextRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(BrowseNextRequestBinaryCodec::encodedSize, BrowseNextRequest.class, BrowseNextRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseNextResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class BrowseNextResponseBinaryCodec {
+
+    public static void encode(BrowseNextResponse browseNextResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = browseNextResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        BrowseResult[] _results = browseNextResponse.getResults();
+        encoder.writeArrayLength(_results);
+        if (_results != null) {
+            for (BrowseResult e : _results) {
+                if (e.getClass() == BrowseResult.class) {
+                    BrowseResultBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = browseNextResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(BrowseNextResponse browseNextResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = browseNextResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        BrowseResult[] _results = browseNextResponse.getResults();
+        sizer.addSize(4);
+        if (_results != null) {
+            for (BrowseResult e : _results) {
+                sizer.checkLimit();
+                if (e.getClass() == BrowseResult.class) {
+                    BrowseResultBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = browseNextResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static BrowseNextResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        BrowseResult[] _results;
+        if (decoder.isArrayStreamed("Results", BrowseResult.class)) {
+            _results = decoder.decodeArray("Results", decoder::decodeSerializable, BrowseResult.class);
+        } else {
+            _results = new BrowseResult[decoder.readArrayLength()];
+            for (int i = 0; i < _results.length; i++) {
+                _results[i] = BrowseResultBinaryCodec.decode(decoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new BrowseNextResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(BrowseNextResponseBinaryCodec::encode, BrowseNextResponse.class, BrowseNextResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(BrowseNextResponseBinaryCodec::decode, BrowseNextResponse.class, BrowseNextResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(BrowseNextResponseBinaryCodec::encodedSize, BrowseNextResponse.class, BrowseNextResponse.BinaryEncodingId);
+    }
+
+}
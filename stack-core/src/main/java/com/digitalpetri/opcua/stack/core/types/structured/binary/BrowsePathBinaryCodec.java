@@ -0,0 +1,50 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowsePath;
+import com.digitalpetri.opcua.stack.core.types.structured.RelativePath;
+
+public class BrowsePathBinaryCodec {
+
+    public static void encode(BrowsePath browsePath, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, browsePath.getStartingNode());
+        RelativePath _relativePath = browsePath.getRelativePath();
+        if (_relativePath == null) {
+            RelativePathBinaryCodec.encode(new RelativePath(), encoder);
+        } else if (_relativePath.getClass() == RelativePath.class) {
+            RelativePathBinaryCodec.encode(_relativePath, encoder);
+        } else {
+            encoder.encodeSerializable(null, _relativePath);
+        }
+    }
+
+    public static void encodedSize(BrowsePath browsePath, BinarySizeEncoder sizer) {
+        sizer.encodeNodeId(null, browsePath.getStartingNode());
+        RelativePath _relativePath = browsePath.getRelativePath();
+        if (_relativePath == null) {
+            RelativePathBinaryCodec.encodedSize(new RelativePath(), sizer);
+        } else if (_relativePath.getClass() == RelativePath.class) {
+            RelativePathBinaryCodec.encodedSize(_relativePath, sizer);
+        } else {
+            sizer.encodeSerializable(null, _relativePath);
+        }
+    }
+
+    public static BrowsePath decode(BinaryDecoder decoder) {
+        NodeId _startingNode = decoder.decodeNodeId(null);
+        RelativePath _relativePath = RelativePathBinaryCodec.decode(decoder);
+
+        return new BrowsePath(_startingNode, _relativePath);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(BrowsePathBinaryCodec::encode, BrowsePath.class, BrowsePath.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(BrowsePathBinaryCodec::decode, BrowsePath.class, BrowsePath.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(BrowsePathBinaryCodec::encodedSize, BrowsePath.class, BrowsePath.BinaryEncodingId);
+    }
+
+}
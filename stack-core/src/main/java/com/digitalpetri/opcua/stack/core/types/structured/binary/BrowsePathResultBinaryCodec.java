@@ -0,0 +1,65 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowsePathResult;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowsePathTarget;
+
+public class BrowsePathResultBinaryCodec {
+
+    public static void encode(BrowsePathResult browsePathResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, browsePathResult.getStatusCode());
+        BrowsePathTarget[] _targets = browsePathResult.getTargets();
+        encoder.writeArrayLength(_targets);
+        if (_targets != null) {
+            for (BrowsePathTarget e : _targets) {
+                if (e.getClass() == BrowsePathTarget.class) {
+                    BrowsePathTargetBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(BrowsePathResult browsePathResult, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        BrowsePathTarget[] _targets = browsePathResult.getTargets();
+        sizer.addSize(4);
+        if (_targets != null) {
+            for (BrowsePathTarget e : _targets) {
+                sizer.checkLimit();
+                if (e.getClass() == BrowsePathTarget.class) {
+                    BrowsePathTargetBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static BrowsePathResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        BrowsePathTarget[] _targets;
+        if (decoder.isArrayStreamed("Targets", BrowsePathTarget.class)) {
+            _targets = decoder.decodeArray("Targets", decoder::decodeSerializable, BrowsePathTarget.class);
+        } else {
+            _targets = new BrowsePathTarget[decoder.readArrayLength()];
+            for (int i = 0; i < _targets.length; i++) {
+                _targets[i] = BrowsePathTargetBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new BrowsePathResult(_statusCode, _targets);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(BrowsePathResultBinaryCodec::encode, BrowsePathResult.class, BrowsePathResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(BrowsePathResultBinaryCodec::decode, BrowsePathResult.class, BrowsePathResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(BrowsePathResultBinaryCodec::encodedSize, BrowsePathResult.class, BrowsePathResult.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowsePathTarget;
+
+public class BrowsePathTargetBinaryCodec {
+
+    public static void encode(BrowsePathTarget browsePathTarget, BinaryEncoder encoder) {
+        encoder.encodeExpandedNodeId(null, browsePathTarget.getTargetId());
+        encoder.encodeUInt32(null, browsePathTarget.getRemainingPathIndex());
+    }
+
+    public static void encodedSize(BrowsePathTarget browsePathTarget, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeExpandedNodeId(null, browsePathTarget.getTargetId());
+    }
+
+    public static BrowsePathTarget decode(BinaryDecoder decoder) {
+        ExpandedNodeId _targetId = decoder.decodeExpandedNodeId(null);
+        UInteger _remainingPathIndex = decoder.decodeUInt32(null);
+
+        return new BrowsePathTarget(_targetId, _remainingPathIndex);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(BrowsePathTargetBinaryCodec::encode, BrowsePathTarget.class, BrowsePathTarget.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(BrowsePathTargetBinaryCodec::decode, BrowsePathTarget.class, BrowsePathTarget.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(BrowsePathTargetBinaryCodec::encodedSize, BrowsePathTarget.class, BrowsePathTarget.BinaryEncodingId);
+    }
+
+}
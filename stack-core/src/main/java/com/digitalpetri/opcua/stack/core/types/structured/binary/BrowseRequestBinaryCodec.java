@@ -0,0 +1,101 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ViewDescription;
+
+public class BrowseRequestBinaryCodec {
+
+    public static void encode(BrowseRequest browseRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = browseRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        ViewDescription _view = browseRequest.getView();
+        if (_view == null) {
+            ViewDescriptionBinaryCodec.encode(new ViewDescription(), encoder);
+        } else if (_view.getClass() == ViewDescription.class) {
+            ViewDescriptionBinaryCodec.encode(_view, encoder);
+        } else {
+            encoder.encodeSerializable(null, _view);
+        }
+        encoder.encodeUInt32(null, browseRequest.getRequestedMaxReferencesPerNode());
+        BrowseDescription[] _nodesToBrowse = browseRequest.getNodesToBrowse();
+        encoder.writeArrayLength(_nodesToBrowse);
+        if (_nodesToBrowse != null) {
+            for (BrowseDescription e : _nodesToBrowse) {
+                if (e.getClass() == BrowseDescription.class) {
+                    BrowseDescriptionBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(BrowseRequest browseRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        RequestHeader _requestHeader = browseRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        ViewDescription _view = browseRequest.getView();
+        if (_view == null) {
+            ViewDescriptionBinaryCodec.encodedSize(new ViewDescription(), sizer);
+        } else if (_view.getClass() == ViewDescription.class) {
+            ViewDescriptionBinaryCodec.encodedSize(_view, sizer);
+        } else {
+            sizer.encodeSerializable(null, _view);
+        }
+        BrowseDescription[] _nodesToBrowse = browseRequest.getNodesToBrowse();
+        sizer.addSize(4);
+        if (_nodesToBrowse != null) {
+            for (BrowseDescription e : _nodesToBrowse) {
+                sizer.checkLimit();
+                if (e.getClass() == BrowseDescription.class) {
+                    BrowseDescriptionBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static BrowseRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        ViewDescription _view = ViewDescriptionBinaryCodec.decode(decoder);
+        UInteger _requestedMaxReferencesPerNode = decoder.decodeUInt32(null);
+        BrowseDescription[] _nodesToBrowse;
+        if (decoder.isArrayStreamed("NodesToBrowse", BrowseDescription.class)) {
+            _nodesToBrowse = decoder.decodeArray("NodesToBrowse", decoder::decodeSerializable, BrowseDescription.class);
+        } else {
+            _nodesToBrowse = new BrowseDescription[decoder.readArrayLength()];
+            for (int i = 0; i < _nodesToBrowse.length; i++) {
+                _nodesToBrowse[i] = BrowseDescriptionBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new BrowseRequest(_requestHeader, _view, _requestedMaxReferencesPerNode, _nodesToBrowse);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(BrowseRequestBinaryCodec::encode, BrowseRequest.class, BrowseRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(BrowseRequestBinaryCodec::decode, BrowseRequest.class, BrowseRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(BrowseRequestBinaryCodec::encodedSize, BrowseRequest.class, BrowseRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceDescription;
+
+public class BrowseResultBinaryCodec {
+
+    public static void encode(BrowseResult browseResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, browseResult.getStatusCode());
+        encoder.encodeByteString(null, browseResult.getContinuationPoint());
+        ReferenceDescription[] _references = browseResult.getReferences();
+        encoder.writeArrayLength(_references);
+        if (_references != null) {
+            for (ReferenceDescription e : _references) {
+                if (e.getClass() == ReferenceDescription.class) {
+                    ReferenceDescriptionBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(BrowseResult browseResult, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeByteString(null, browseResult.getContinuationPoint());
+        ReferenceDescription[] _references = browseResult.getReferences();
+        sizer.addSize(4);
+        if (_references != null) {
+            for (ReferenceDescription e : _references) {
+                sizer.checkLimit();
+                if (e.getClass() == ReferenceDescription.class) {
+                    ReferenceDescriptionBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static BrowseResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        ByteString _continuationPoint = decoder.decodeByteString(null);
+        ReferenceDescription[] _references;
+        if (decoder.isArrayStreamed("References", ReferenceDescription.class)) {
+            _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceDescription.class);
+        } else {
+            _references = new ReferenceDescription[decoder.readArrayLength()];
+            for (int i = 0; i < _references.length; i++) {
+                _references[i] = ReferenceDescriptionBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new BrowseResult(_statusCode, _continuationPoint, _references);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(BrowseResultBinaryCodec::encode, BrowseResult.class, BrowseResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(BrowseResultBinaryCodec::decode, BrowseResult.class, BrowseResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(BrowseResultBinaryCodec::encodedSize, BrowseResult.class, BrowseResult.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.structured.BuildInfo;
+
+public class BuildInfoBinaryCodec {
+
+    public static void encode(BuildInfo buildInfo, BinaryEncoder encoder) {
+        encoder.encodeString(null, buildInfo.getProductUri());
+        encoder.encodeString(null, buildInfo.getManufacturerName());
+        encoder.encodeString(null, buildInfo.getProductName());
+        encoder.encodeString(null, buildInfo.getSoftwareVersion());
+        encoder.encodeString(null, buildInfo.getBuildNumber());
+        encoder.encodeDateTime(null, buildInfo.getBuildDate());
+    }
+
+    public static void encodedSize(BuildInfo buildInfo, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+        sizer.encodeString(null, buildInfo.getProductUri());
+        sizer.encodeString(null, buildInfo.getManufacturerName());
+        sizer.encodeString(null, buildInfo.getProductName());
+        sizer.encodeString(null, buildInfo.getSoftwareVersion());
+        sizer.encodeString(null, buildInfo.getBuildNumber());
+    }
+
+    public static BuildInfo decode(BinaryDecoder decoder) {
+        String _productUri = decoder.decodeString(null);
+        String _manufacturerName = decoder.decodeString(null);
+        String _productName = decoder.decodeString(null);
+        String _softwareVersion = decoder.decodeString(null);
+        String _buildNumber = decoder.decodeString(null);
+        DateTime _buildDate = decoder.decodeDateTime(null);
+
+        return new BuildInfo(_productUri, _manufacturerName, _productName, _softwareVersion, _buildNumber, _buildDate);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(BuildInfoBinaryCodec::encode, BuildInfo.class, BuildInfo.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(BuildInfoBinaryCodec::decode, BuildInfo.class, BuildInfo.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(BuildInfoBinaryCodec::encodedSize, BuildInfo.class, BuildInfo.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.structured.CallMethodRequest;
+
+public class CallMethodRequestBinaryCodec {
+
+    public static void encode(CallMethodRequest callMethodRequest, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, callMethodRequest.getObjectId());
+        encoder.encodeNodeId(null, callMethodRequest.getMethodId());
+        Variant[] _inputArguments = callMethodRequest.getInputArguments();
+        encoder.writeArrayLength(_inputArguments);
+        if (_inputArguments != null) {
+            for (Variant e : _inputArguments) {
+                encoder.encodeVariant(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(CallMethodRequest callMethodRequest, BinarySizeEncoder sizer) {
+        sizer.encodeNodeId(null, callMethodRequest.getObjectId());
+        sizer.encodeNodeId(null, callMethodRequest.getMethodId());
+        Variant[] _inputArguments = callMethodRequest.getInputArguments();
+        sizer.addSize(4);
+        if (_inputArguments != null) {
+            for (Variant e : _inputArguments) {
+                sizer.checkLimit();
+                sizer.encodeVariant(null, e);
+            }
+        }
+    }
+
+    public static CallMethodRequest decode(BinaryDecoder decoder) {
+        NodeId _objectId = decoder.decodeNodeId(null);
+        NodeId _methodId = decoder.decodeNodeId(null);
+        Variant[] _inputArguments;
+        if (decoder.isArrayStreamed("InputArguments", Variant.class)) {
+            _inputArguments = decoder.decodeArray("InputArguments", decoder::decodeVariant, Variant.class);
+        } else {
+            _inputArguments = new Variant[decoder.readArrayLength()];
+            for (int i = 0; i < _inputArguments.length; i++) {
+                _inputArguments[i] = decoder.decodeVariant(null);
+            }
+        }
+
+        return new CallMethodRequest(_objectId, _methodId, _inputArguments);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CallMethodRequestBinaryCodec::encode, CallMethodRequest.class, CallMethodRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CallMethodRequestBinaryCodec::decode, CallMethodRequest.class, CallMethodRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CallMethodRequestBinaryCodec::encodedSize, CallMethodRequest.class, CallMethodRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.structured.CallMethodResult;
+
+public class CallMethodResultBinaryCodec {
+
+    public static void encode(CallMethodResult callMethodResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, callMethodResult.getStatusCode());
+        StatusCode[] _inputArgumentResults = callMethodResult.getInputArgumentResults();
+        encoder.writeArrayLength(_inputArgumentResults);
+        if (_inputArgumentResults != null) {
+            for (StatusCode e : _inputArgumentResults) {
+                encoder.encodeStatusCode(null, e);
+            }
+        }
+        DiagnosticInfo[] _inputArgumentDiagnosticInfos = callMethodResult.getInputArgumentDiagnosticInfos();
+        encoder.writeArrayLength(_inputArgumentDiagnosticInfos);
+        if (_inputArgumentDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _inputArgumentDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+        Variant[] _outputArguments = callMethodResult.getOutputArguments();
+        encoder.writeArrayLength(_outputArguments);
+        if (_outputArguments != null) {
+            for (Variant e : _outputArguments) {
+                encoder.encodeVariant(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(CallMethodResult callMethodResult, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.addArraySize(callMethodResult.getInputArgumentResults(), 4);
+        DiagnosticInfo[] _inputArgumentDiagnosticInfos = callMethodResult.getInputArgumentDiagnosticInfos();
+        sizer.addSize(4);
+        if (_inputArgumentDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _inputArgumentDiagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+        Variant[] _outputArguments = callMethodResult.getOutputArguments();
+        sizer.addSize(4);
+        if (_outputArguments != null) {
+            for (Variant e : _outputArguments) {
+                sizer.checkLimit();
+                sizer.encodeVariant(null, e);
+            }
+        }
+    }
+
+    public static CallMethodResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        StatusCode[] _inputArgumentResults;
+        if (decoder.isArrayStreamed("InputArgumentResults", StatusCode.class)) {
+            _inputArgumentResults = decoder.decodeArray("InputArgumentResults", decoder::decodeStatusCode, StatusCode.class);
+        } else {
+            _inputArgumentResults = new StatusCode[decoder.readArrayLength()];
+            for (int i = 0; i < _inputArgumentResults.length; i++) {
+                _inputArgumentResults[i] = decoder.decodeStatusCode(null);
+            }
+        }
+        DiagnosticInfo[] _inputArgumentDiagnosticInfos;
+        if (decoder.isArrayStreamed("InputArgumentDiagnosticInfos", DiagnosticInfo.class)) {
+            _inputArgumentDiagnosticInfos = decoder.decodeArray("InputArgumentDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _inputArgumentDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _inputArgumentDiagnosticInfos.length; i++) {
+                _inputArgumentDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+        Variant[] _outputArguments;
+        if (decoder.isArrayStreamed("OutputArguments", Variant.class)) {
+            _outputArguments = decoder.decodeArray("OutputArguments", decoder::decodeVariant, Variant.class);
+        } else {
+            _outputArguments = new Variant[decoder.readArrayLength()];
+            for (int i = 0; i < _outputArguments.length; i++) {
+                _outputArguments[i] = decoder.decodeVariant(null);
+            }
+        }
+
+        return new CallMethodResult(_statusCode, _inputArgumentResults, _inputArgumentDiagnosticInfos, _outputArguments);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CallMethodResultBinaryCodec::encode, CallMethodResult.class, CallMethodResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CallMethodResultBinaryCodec::decode, CallMethodResult.class, CallMethodResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CallMethodResultBinaryCodec::encodedSize, CallMethodResult.class, CallMethodResult.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.CallMethodRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.CallRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class CallRequestBinaryCodec {
+
+    public static void encode(CallRequest callRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = callRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        CallMethodRequest[] _methodsToCall = callRequest.getMethodsToCall();
+        encoder.writeArrayLength(_methodsToCall);
+        if (_methodsToCall != null) {
+            for (CallMethodRequest e : _methodsToCall) {
+                if (e.getClass() == CallMethodRequest.class) {
+                    CallMethodRequestBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(CallRequest callRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = callRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        CallMethodRequest[] _methodsToCall = callRequest.getMethodsToCall();
+        sizer.addSize(4);
+        if (_methodsToCall != null) {
+            for (CallMethodRequest e : _methodsToCall) {
+                sizer.checkLimit();
+                if (e.getClass() == CallMethodRequest.class) {
+                    CallMethodRequestBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static CallRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        CallMethodRequest[] _methodsToCall;
+        if (decoder.isArrayStreamed("MethodsToCall", CallMethodRequest.class)) {
+            _methodsToCall = decoder.decodeArray("MethodsToCall", decoder::decodeSerializable, CallMethodRequest.class);
+        } else {
+            _methodsToCall = new CallMethodRequest[decoder.readArrayLength()];
+            for (int i = 0; i < _methodsToCall.length; i++) {
+                _methodsToCall[i] = CallMethodRequestBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new CallRequest(_requestHeader, _methodsToCall);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CallRequestBinaryCodec::encode, CallRequest.class, CallRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CallRequestBinaryCodec::decode, CallRequest.class, CallRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CallRequestBinaryCodec::encodedSize, CallRequest.class, CallRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.CallMethodResult;
+import com.digitalpetri.opcua.stack.core.types.structured.CallResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class CallResponseBinaryCodec {
+
+    public static void encode(CallResponse callResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = callResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        CallMethodResult[] _results = callResponse.getResults();
+        encoder.writeArrayLength(_results);
+        if (_results != null) {
+            for (CallMethodResult e : _results) {
+                if (e.getClass() == CallMethodResult.class) {
+                    CallMethodResultBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = callResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(CallResponse callResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = callResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        CallMethodResult[] _results = callResponse.getResults();
+        sizer.addSize(4);
+        if (_results != null) {
+            for (CallMethodResult e : _results) {
+                sizer.checkLimit();
+                if (e.getClass() == CallMethodResult.class) {
+                    CallMethodResultBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = callResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static CallResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        CallMethodResult[] _results;
+        if (decoder.isArrayStreamed("Results", CallMethodResult.class)) {
+            _results = decoder.decodeArray("Results", decoder::decodeSerializable, CallMethodResult.class);
+        } else {
+            _results = new CallMethodResult[decoder.readArrayLength()];
+            for (int i = 0; i < _results.length; i++) {
+                _results[i] = CallMethodResultBinaryCodec.decode(decoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new CallResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CallResponseBinaryCodec::encode, CallResponse.class, CallResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CallResponseBinaryCodec::decode, CallResponse.class, CallResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CallResponseBinaryCodec::encodedSize, CallResponse.class, CallResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.CancelRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class CancelRequestBinaryCodec {
+
+    public static void encode(CancelRequest cancelRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = cancelRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeUInt32(null, cancelRequest.getRequestHandle());
+    }
+
+    public static void encodedSize(CancelRequest cancelRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        RequestHeader _requestHeader = cancelRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+    }
+
+    public static CancelRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _requestHandle = decoder.decodeUInt32(null);
+
+        return new CancelRequest(_requestHeader, _requestHandle);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CancelRequestBinaryCodec::encode, CancelRequest.class, CancelRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CancelRequestBinaryCodec::decode, CancelRequest.class, CancelRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CancelRequestBinaryCodec::encodedSize, CancelRequest.class, CancelRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.CancelResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class CancelResponseBinaryCodec {
+
+    public static void encode(CancelResponse cancelResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = cancelResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        encoder.encodeUInt32(null, cancelResponse.getCancelCount());
+    }
+
+    public static void encodedSize(CancelResponse cancelResponse, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        ResponseHeader _responseHeader = cancelResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static CancelResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        UInteger _cancelCount = decoder.decodeUInt32(null);
+
+        return new CancelResponse(_responseHeader, _cancelCount);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CancelResponseBinaryCodec::encode, CancelResponse.class, CancelResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CancelResponseBinaryCodec::decode, CancelResponse.class, CancelResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CancelResponseBinaryCodec::encodedSize, CancelResponse.class, CancelResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ChannelSecurityToken;
+
+public class ChannelSecurityTokenBinaryCodec {
+
+    public static void encode(ChannelSecurityToken channelSecurityToken, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, channelSecurityToken.getChannelId());
+        encoder.encodeUInt32(null, channelSecurityToken.getTokenId());
+        encoder.encodeDateTime(null, channelSecurityToken.getCreatedAt());
+        encoder.encodeUInt32(null, channelSecurityToken.getRevisedLifetime());
+    }
+
+    public static void encodedSize(ChannelSecurityToken channelSecurityToken, BinarySizeEncoder sizer) {
+        sizer.addSize(20);
+    }
+
+    public static ChannelSecurityToken decode(BinaryDecoder decoder) {
+        UInteger _channelId = decoder.decodeUInt32(null);
+        UInteger _tokenId = decoder.decodeUInt32(null);
+        DateTime _createdAt = decoder.decodeDateTime(null);
+        UInteger _revisedLifetime = decoder.decodeUInt32(null);
+
+        return new ChannelSecurityToken(_channelId, _tokenId, _createdAt, _revisedLifetime);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ChannelSecurityTokenBinaryCodec::encode, ChannelSecurityToken.class, ChannelSecurityToken.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ChannelSecurityTokenBinaryCodec::decode, ChannelSecurityToken.class, ChannelSecurityToken.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ChannelSecurityTokenBinaryCodec::encodedSize, ChannelSecurityToken.class, ChannelSecurityToken.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.CloseSecureChannelRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class CloseSecureChannelRequestBinaryCodec {
+
+    public static void encode(CloseSecureChannelRequest closeSecureChannelRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = closeSecureChannelRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+    }
+
+    public static void encodedSize(CloseSecureChannelRequest closeSecureChannelRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = closeSecureChannelRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+    }
+
+    public static CloseSecureChannelRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+
+        return new CloseSecureChannelRequest(_requestHeader);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CloseSecureChannelRequestBinaryCodec::encode, CloseSecureChannelRequest.class, CloseSecureChannelRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CloseSecureChannelRequestBinaryCodec::decode, CloseSecureChannelRequest.class, CloseSecureChannelRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CloseSecureChannelRequestBinaryCodec::encodedSize, CloseSecureChannelRequest.class, CloseSecureChannelRequest.BinaryEncodingId);
+    }
+
+}
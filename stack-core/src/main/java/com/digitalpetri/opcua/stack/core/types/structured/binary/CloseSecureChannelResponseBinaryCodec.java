@@ -0,0 +1,46 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.CloseSecureChannelResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class CloseSecureChannelResponseBinaryCodec {
+
+    public static void encode(CloseSecureChannelResponse closeSecureChannelResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = closeSecureChannelResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static void encodedSize(CloseSecureChannelResponse closeSecureChannelResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = closeSecureChannelResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static CloseSecureChannelResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+
+        return new CloseSecureChannelResponse(_responseHeader);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CloseSecureChannelResponseBinaryCodec::encode, CloseSecureChannelResponse.class, CloseSecureChannelResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CloseSecureChannelResponseBinaryCodec::decode, CloseSecureChannelResponse.class, CloseSecureChannelResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CloseSecureChannelResponseBinaryCodec::encodedSize, CloseSecureChannelResponse.class, CloseSecureChannelResponse.BinaryEncodingId);
+    }
+
+}
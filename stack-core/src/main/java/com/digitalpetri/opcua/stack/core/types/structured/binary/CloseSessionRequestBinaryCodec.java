@@ -0,0 +1,49 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.CloseSessionRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class CloseSessionRequestBinaryCodec {
+
+    public static void encode(CloseSessionRequest closeSessionRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = closeSessionRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeBoolean(null, closeSessionRequest.getDeleteSubscriptions());
+    }
+
+    public static void encodedSize(CloseSessionRequest closeSessionRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(1);
+        RequestHeader _requestHeader = closeSessionRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+    }
+
+    public static CloseSessionRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        Boolean _deleteSubscriptions = decoder.decodeBoolean(null);
+
+        return new CloseSessionRequest(_requestHeader, _deleteSubscriptions);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CloseSessionRequestBinaryCodec::encode, CloseSessionRequest.class, CloseSessionRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CloseSessionRequestBinaryCodec::decode, CloseSessionRequest.class, CloseSessionRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CloseSessionRequestBinaryCodec::encodedSize, CloseSessionRequest.class, CloseSessionRequest.BinaryEncodingId);
+    }
+
+}
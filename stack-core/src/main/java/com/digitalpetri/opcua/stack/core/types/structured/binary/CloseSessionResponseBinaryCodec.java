@@ -0,0 +1,46 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.CloseSessionResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class CloseSessionResponseBinaryCodec {
+
+    public static void encode(CloseSessionResponse closeSessionResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = closeSessionResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static void encodedSize(CloseSessionResponse closeSessionResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = closeSessionResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static CloseSessionResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+
+        return new CloseSessionResponse(_responseHeader);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CloseSessionResponseBinaryCodec::encode, CloseSessionResponse.class, CloseSessionResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CloseSessionResponseBinaryCodec::decode, CloseSessionResponse.class, CloseSessionResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CloseSessionResponseBinaryCodec::encodedSize, CloseSessionResponse.class, CloseSessionResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.ComplexNumberType;
+
+public class ComplexNumberTypeBinaryCodec {
+
+    public static void encode(ComplexNumberType complexNumberType, BinaryEncoder encoder) {
+        encoder.encodeFloat(null, complexNumberType.getReal());
+        encoder.encodeFloat(null, complexNumberType.getImaginary());
+    }
+
+    public static void encodedSize(ComplexNumberType complexNumberType, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+    }
+
+    public static ComplexNumberType decode(BinaryDecoder decoder) {
+        Float _real = decoder.decodeFloat(null);
+        Float _imaginary = decoder.decodeFloat(null);
+
+        return new ComplexNumberType(_real, _imaginary);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ComplexNumberTypeBinaryCodec::encode, ComplexNumberType.class, ComplexNumberType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ComplexNumberTypeBinaryCodec::decode, ComplexNumberType.class, ComplexNumberType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ComplexNumberTypeBinaryCodec::encodedSize, ComplexNumberType.class, ComplexNumberType.BinaryEncodingId);
+    }
+
+}
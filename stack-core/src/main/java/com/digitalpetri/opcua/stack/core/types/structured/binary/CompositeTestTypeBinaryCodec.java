@@ -0,0 +1,64 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.ArrayTestType;
+import com.digitalpetri.opcua.stack.core.types.structured.CompositeTestType;
+import com.digitalpetri.opcua.stack.core.types.structured.ScalarTestType;
+
+public class CompositeTestTypeBinaryCodec {
+
+    public static void encode(CompositeTestType compositeTestType, BinaryEncoder encoder) {
+        ScalarTestType _field1 = compositeTestType.getField1();
+        if (_field1 == null) {
+            ScalarTestTypeBinaryCodec.encode(new ScalarTestType(), encoder);
+        } else if (_field1.getClass() == ScalarTestType.class) {
+            ScalarTestTypeBinaryCodec.encode(_field1, encoder);
+        } else {
+            encoder.encodeSerializable(null, _field1);
+        }
+        ArrayTestType _field2 = compositeTestType.getField2();
+        if (_field2 == null) {
+            ArrayTestTypeBinaryCodec.encode(new ArrayTestType(), encoder);
+        } else if (_field2.getClass() == ArrayTestType.class) {
+            ArrayTestTypeBinaryCodec.encode(_field2, encoder);
+        } else {
+            encoder.encodeSerializable(null, _field2);
+        }
+    }
+
+    public static void encodedSize(CompositeTestType compositeTestType, BinarySizeEncoder sizer) {
+        ScalarTestType _field1 = compositeTestType.getField1();
+        if (_field1 == null) {
+            ScalarTestTypeBinaryCodec.encodedSize(new ScalarTestType(), sizer);
+        } else if (_field1.getClass() == ScalarTestType.class) {
+            ScalarTestTypeBinaryCodec.encodedSize(_field1, sizer);
+        } else {
+            sizer.encodeSerializable(null, _field1);
+        }
+        ArrayTestType _field2 = compositeTestType.getField2();
+        if (_field2 == null) {
+            ArrayTestTypeBinaryCodec.encodedSize(new ArrayTestType(), sizer);
+        } else if (_field2.getClass() == ArrayTestType.class) {
+            ArrayTestTypeBinaryCodec.encodedSize(_field2, sizer);
+        } else {
+            sizer.encodeSerializable(null, _field2);
+        }
+    }
+
+    public static CompositeTestType decode(BinaryDecoder decoder) {
+        ScalarTestType _field1 = ScalarTestTypeBinaryCodec.decode(decoder);
+        ArrayTestType _field2 = ArrayTestTypeBinaryCodec.decode(decoder);
+
+        return new CompositeTestType(_field1, _field2);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CompositeTestTypeBinaryCodec::encode, CompositeTestType.class, CompositeTestType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CompositeTestTypeBinaryCodec::decode, CompositeTestType.class, CompositeTestType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CompositeTestTypeBinaryCodec::encodedSize, CompositeTestType.class, CompositeTestType.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilterElement;
+
+public class ContentFilterBinaryCodec {
+
+    public static void encode(ContentFilter contentFilter, BinaryEncoder encoder) {
+        ContentFilterElement[] _elements = contentFilter.getElements();
+        encoder.writeArrayLength(_elements);
+        if (_elements != null) {
+            for (ContentFilterElement e : _elements) {
+                if (e.getClass() == ContentFilterElement.class) {
+                    ContentFilterElementBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(ContentFilter contentFilter, BinarySizeEncoder sizer) {
+        ContentFilterElement[] _elements = contentFilter.getElements();
+        sizer.addSize(4);
+        if (_elements != null) {
+            for (ContentFilterElement e : _elements) {
+                sizer.checkLimit();
+                if (e.getClass() == ContentFilterElement.class) {
+                    ContentFilterElementBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static ContentFilter decode(BinaryDecoder decoder) {
+        ContentFilterElement[] _elements;
+        if (decoder.isArrayStreamed("Elements", ContentFilterElement.class)) {
+            _elements = decoder.decodeArray("Elements", decoder::decodeSerializable, ContentFilterElement.class);
+        } else {
+            _elements = new ContentFilterElement[decoder.readArrayLength()];
+            for (int i = 0; i < _elements.length; i++) {
+                _elements[i] = ContentFilterElementBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new ContentFilter(_elements);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ContentFilterBinaryCodec::encode, ContentFilter.class, ContentFilter.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ContentFilterBinaryCodec::decode, ContentFilter.class, ContentFilter.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ContentFilterBinaryCodec::encodedSize, ContentFilter.class, ContentFilter.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.enumerated.FilterOperator;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilterElement;
+
+public class ContentFilterElementBinaryCodec {
+
+    public static void encode(ContentFilterElement contentFilterElement, BinaryEncoder encoder) {
+        FilterOperator _filterOperator = contentFilterElement.getFilterOperator();
+        encoder.writeInt32(null, _filterOperator != null ? _filterOperator.getValue() : -1);
+        ExtensionObject[] _filterOperands = contentFilterElement.getFilterOperands();
+        encoder.writeArrayLength(_filterOperands);
+        if (_filterOperands != null) {
+            for (ExtensionObject e : _filterOperands) {
+                encoder.encodeExtensionObject(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(ContentFilterElement contentFilterElement, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        ExtensionObject[] _filterOperands = contentFilterElement.getFilterOperands();
+        sizer.addSize(4);
+        if (_filterOperands != null) {
+            for (ExtensionObject e : _filterOperands) {
+                sizer.checkLimit();
+                sizer.encodeExtensionObject(null, e);
+            }
+        }
+    }
+
+    public static ContentFilterElement decode(BinaryDecoder decoder) {
+        FilterOperator _filterOperator = FilterOperator.decode(decoder);
+        ExtensionObject[] _filterOperands;
+        if (decoder.isArrayStreamed("FilterOperands", ExtensionObject.class)) {
+            _filterOperands = decoder.decodeArray("FilterOperands", decoder::decodeExtensionObject, ExtensionObject.class);
+        } else {
+            _filterOperands = new ExtensionObject[decoder.readArrayLength()];
+            for (int i = 0; i < _filterOperands.length; i++) {
+                _filterOperands[i] = decoder.decodeExtensionObject(null);
+            }
+        }
+
+        return new ContentFilterElement(_filterOperator, _filterOperands);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ContentFilterElementBinaryCodec::encode, ContentFilterElement.class, ContentFilterElement.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ContentFilterElementBinaryCodec::decode, ContentFilterElement.class, ContentFilterElement.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ContentFilterElementBinaryCodec::encodedSize, ContentFilterElement.class, ContentFilterElement.BinaryEncodingId);
+    }
+
+}
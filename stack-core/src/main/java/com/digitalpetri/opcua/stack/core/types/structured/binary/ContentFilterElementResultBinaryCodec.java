@@ -0,0 +1,74 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilterElementResult;
+
+public class ContentFilterElementResultBinaryCodec {
+
+    public static void encode(ContentFilterElementResult contentFilterElementResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, contentFilterElementResult.getStatusCode());
+        StatusCode[] _operandStatusCodes = contentFilterElementResult.getOperandStatusCodes();
+        encoder.writeArrayLength(_operandStatusCodes);
+        if (_operandStatusCodes != null) {
+            for (StatusCode e : _operandStatusCodes) {
+                encoder.encodeStatusCode(null, e);
+            }
+        }
+        DiagnosticInfo[] _operandDiagnosticInfos = contentFilterElementResult.getOperandDiagnosticInfos();
+        encoder.writeArrayLength(_operandDiagnosticInfos);
+        if (_operandDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _operandDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(ContentFilterElementResult contentFilterElementResult, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.addArraySize(contentFilterElementResult.getOperandStatusCodes(), 4);
+        DiagnosticInfo[] _operandDiagnosticInfos = contentFilterElementResult.getOperandDiagnosticInfos();
+        sizer.addSize(4);
+        if (_operandDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _operandDiagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static ContentFilterElementResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        StatusCode[] _operandStatusCodes;
+        if (decoder.isArrayStreamed("OperandStatusCodes", StatusCode.class)) {
+            _operandStatusCodes = decoder.decodeArray("OperandStatusCodes", decoder::decodeStatusCode, StatusCode.class);
+        } else {
+            _operandStatusCodes = new StatusCode[decoder.readArrayLength()];
+            for (int i = 0; i < _operandStatusCodes.length; i++) {
+                _operandStatusCodes[i] = decoder.decodeStatusCode(null);
+            }
+        }
+        DiagnosticInfo[] _operandDiagnosticInfos;
+        if (decoder.isArrayStreamed("OperandDiagnosticInfos", DiagnosticInfo.class)) {
+            _operandDiagnosticInfos = decoder.decodeArray("OperandDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _operandDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _operandDiagnosticInfos.length; i++) {
+                _operandDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new ContentFilterElementResult(_statusCode, _operandStatusCodes, _operandDiagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ContentFilterElementResultBinaryCodec::encode, ContentFilterElementResult.class, ContentFilterElementResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ContentFilterElementResultBinaryCodec::decode, ContentFilterElementResult.class, ContentFilterElementResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ContentFilterElementResultBinaryCodec::encodedSize, ContentFilterElementResult.class, ContentFilterElementResult.BinaryEncodingId);
+    }
+
+}
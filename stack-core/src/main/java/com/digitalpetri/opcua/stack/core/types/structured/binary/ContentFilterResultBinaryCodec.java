@@ -0,0 +1,86 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilterElementResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilterResult;
+
+public class ContentFilterResultBinaryCodec {
+
+    public static void encode(ContentFilterResult contentFilterResult, BinaryEncoder encoder) {
+        ContentFilterElementResult[] _elementResults = contentFilterResult.getElementResults();
+        encoder.writeArrayLength(_elementResults);
+        if (_elementResults != null) {
+            for (ContentFilterElementResult e : _elementResults) {
+                if (e.getClass() == ContentFilterElementResult.class) {
+                    ContentFilterElementResultBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _elementDiagnosticInfos = contentFilterResult.getElementDiagnosticInfos();
+        encoder.writeArrayLength(_elementDiagnosticInfos);
+        if (_elementDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _elementDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(ContentFilterResult contentFilterResult, BinarySizeEncoder sizer) {
+        ContentFilterElementResult[] _elementResults = contentFilterResult.getElementResults();
+        sizer.addSize(4);
+        if (_elementResults != null) {
+            for (ContentFilterElementResult e : _elementResults) {
+                sizer.checkLimit();
+                if (e.getClass() == ContentFilterElementResult.class) {
+                    ContentFilterElementResultBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _elementDiagnosticInfos = contentFilterResult.getElementDiagnosticInfos();
+        sizer.addSize(4);
+        if (_elementDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _elementDiagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static ContentFilterResult decode(BinaryDecoder decoder) {
+        ContentFilterElementResult[] _elementResults;
+        if (decoder.isArrayStreamed("ElementResults", ContentFilterElementResult.class)) {
+            _elementResults = decoder.decodeArray("ElementResults", decoder::decodeSerializable, ContentFilterElementResult.class);
+        } else {
+            _elementResults = new ContentFilterElementResult[decoder.readArrayLength()];
+            for (int i = 0; i < _elementResults.length; i++) {
+                _elementResults[i] = ContentFilterElementResultBinaryCodec.decode(decoder);
+            }
+        }
+        DiagnosticInfo[] _elementDiagnosticInfos;
+        if (decoder.isArrayStreamed("ElementDiagnosticInfos", DiagnosticInfo.class)) {
+            _elementDiagnosticInfos = decoder.decodeArray("ElementDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _elementDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _elementDiagnosticInfos.length; i++) {
+                _elementDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new ContentFilterResult(_elementResults, _elementDiagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ContentFilterResultBinaryCodec::encode, ContentFilterResult.class, ContentFilterResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ContentFilterResultBinaryCodec::decode, ContentFilterResult.class, ContentFilterResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ContentFilterResultBinaryCodec::encodedSize, ContentFilterResult.class, ContentFilterResult.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.digitalpetri.opcua.stack.core.types.structured.CreateMonitoredItemsRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemCreateRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class CreateMonitoredItemsRequestBinaryCodec {
+
+    public static void encode(CreateMonitoredItemsRequest createMonitoredItemsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = createMonitoredItemsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeUInt32(null, createMonitoredItemsRequest.getSubscriptionId());
+        TimestampsToReturn _timestampsToReturn = createMonitoredItemsRequest.getTimestampsToReturn();
+        encoder.writeInt32(null, _timestampsToReturn != null ? _timestampsToReturn.getValue() : -1);
+        MonitoredItemCreateRequest[] _itemsToCreate = createMonitoredItemsRequest.getItemsToCreate();
+        encoder.writeArrayLength(_itemsToCreate);
+        if (_itemsToCreate != null) {
+            for (MonitoredItemCreateRequest e : _itemsToCreate) {
+                if (e.getClass() == MonitoredItemCreateRequest.class) {
+                    MonitoredItemCreateRequestBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(CreateMonitoredItemsRequest createMonitoredItemsRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+        RequestHeader _requestHeader = createMonitoredItemsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        MonitoredItemCreateRequest[] _itemsToCreate = createMonitoredItemsRequest.getItemsToCreate();
+        sizer.addSize(4);
+        if (_itemsToCreate != null) {
+            for (MonitoredItemCreateRequest e : _itemsToCreate) {
+                sizer.checkLimit();
+                if (e.getClass() == MonitoredItemCreateRequest.class) {
+                    MonitoredItemCreateRequestBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static CreateMonitoredItemsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        TimestampsToReturn _timestampsToReturn = TimestampsToReturn.decode(decoder);
+        MonitoredItemCreateRequest[] _itemsToCreate;
+        if (decoder.isArrayStreamed("ItemsToCreate", MonitoredItemCreateRequest.class)) {
+            _itemsToCreate = decoder.decodeArray("ItemsToCreate", decoder::decodeSerializable, MonitoredItemCreateRequest.class);
+        } else {
+            _itemsToCreate = new MonitoredItemCreateRequest[decoder.readArrayLength()];
+            for (int i = 0; i < _itemsToCreate.length; i++) {
+                _itemsToCreate[i] = MonitoredItemCreateRequestBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new CreateMonitoredItemsRequest(_requestHeader, _subscriptionId, _timestampsToReturn, _itemsToCreate);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CreateMonitoredItemsRequestBinaryCodec::encode, CreateMonitoredItemsRequest.class, CreateMonitoredItemsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CreateMonitoredItemsRequestBinaryCodec::decode, CreateMonitoredItemsRequest.class, CreateMonitoredItemsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CreateMonitoredItemsRequestBinaryCodec::encodedSize, CreateMonitoredItemsRequest.class, CreateMonitoredItemsRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.CreateMonitoredItemsResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemCreateResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class CreateMonitoredItemsResponseBinaryCodec {
+
+    public static void encode(CreateMonitoredItemsResponse createMonitoredItemsResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = createMonitoredItemsResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        MonitoredItemCreateResult[] _results = createMonitoredItemsResponse.getResults();
+        encoder.writeArrayLength(_results);
+        if (_results != null) {
+            for (MonitoredItemCreateResult e : _results) {
+                if (e.getClass() == MonitoredItemCreateResult.class) {
+                    MonitoredItemCreateResultBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = createMonitoredItemsResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(CreateMonitoredItemsResponse createMonitoredItemsResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = createMonitoredItemsResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        MonitoredItemCreateResult[] _results = createMonitoredItemsResponse.getResults();
+        sizer.addSize(4);
+        if (_results != null) {
+            for (MonitoredItemCreateResult e : _results) {
+                sizer.checkLimit();
+                if (e.getClass() == MonitoredItemCreateResult.class) {
+                    MonitoredItemCreateResultBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = createMonitoredItemsResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static CreateMonitoredItemsResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        MonitoredItemCreateResult[] _results;
+        if (decoder.isArrayStreamed("Results", MonitoredItemCreateResult.class)) {
+            _results = decoder.decodeArray("Results", decoder::decodeSerializable, MonitoredItemCreateResult.class);
+        } else {
+            _results = new MonitoredItemCreateResult[decoder.readArrayLength()];
+            for (int i = 0; i < _results.length; i++) {
+                _results[i] = MonitoredItemCreateResultBinaryCodec.decode(decoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new CreateMonitoredItemsResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CreateMonitoredItemsResponseBinaryCodec::encode, CreateMonitoredItemsResponse.class, CreateMonitoredItemsResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CreateMonitoredItemsResponseBinaryCodec::decode, CreateMonitoredItemsResponse.class, CreateMonitoredItemsResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CreateMonitoredItemsResponseBinaryCodec::encodedSize, CreateMonitoredItemsResponse.class, CreateMonitoredItemsResponse.BinaryEncodingId);
+    }
+
+}
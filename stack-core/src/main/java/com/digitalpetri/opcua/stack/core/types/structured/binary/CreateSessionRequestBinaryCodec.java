@@ -0,0 +1,86 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ApplicationDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.CreateSessionRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class CreateSessionRequestBinaryCodec {
+
+    public static void encode(CreateSessionRequest createSessionRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = createSessionRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        ApplicationDescription _clientDescription = createSessionRequest.getClientDescription();
+        if (_clientDescription == null) {
+            ApplicationDescriptionBinaryCodec.encode(new ApplicationDescription(), encoder);
+        } else if (_clientDescription.getClass() == ApplicationDescription.class) {
+            ApplicationDescriptionBinaryCodec.encode(_clientDescription, encoder);
+        } else {
+            encoder.encodeSerializable(null, _clientDescription);
+        }
+        encoder.encodeString(null, createSessionRequest.getServerUri());
+        encoder.encodeString(null, createSessionRequest.getEndpointUrl());
+        encoder.encodeString(null, createSessionRequest.getSessionName());
+        encoder.encodeByteString(null, createSessionRequest.getClientNonce());
+        encoder.encodeByteString(null, createSessionRequest.getClientCertificate());
+        encoder.encodeDouble(null, createSessionRequest.getRequestedSessionTimeout());
+        encoder.encodeUInt32(null, createSessionRequest.getMaxResponseMessageSize());
+    }
+
+    public static void encodedSize(CreateSessionRequest createSessionRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(12);
+        RequestHeader _requestHeader = createSessionRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        ApplicationDescription _clientDescription = createSessionRequest.getClientDescription();
+        if (_clientDescription == null) {
+            ApplicationDescriptionBinaryCodec.encodedSize(new ApplicationDescription(), sizer);
+        } else if (_clientDescription.getClass() == ApplicationDescription.class) {
+            ApplicationDescriptionBinaryCodec.encodedSize(_clientDescription, sizer);
+        } else {
+            sizer.encodeSerializable(null, _clientDescription);
+        }
+        sizer.encodeString(null, createSessionRequest.getServerUri());
+        sizer.encodeString(null, createSessionRequest.getEndpointUrl());
+        sizer.encodeString(null, createSessionRequest.getSessionName());
+        sizer.encodeByteString(null, createSessionRequest.getClientNonce());
+        sizer.encodeByteString(null, createSessionRequest.getClientCertificate());
+    }
+
+    public static CreateSessionRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        ApplicationDescription _clientDescription = ApplicationDescriptionBinaryCodec.decode(decoder);
+        String _serverUri = decoder.decodeString(null);
+        String _endpointUrl = decoder.decodeString(null);
+        String _sessionName = decoder.decodeString(null);
+        ByteString _clientNonce = decoder.decodeByteString(null);
+        ByteString _clientCertificate = decoder.decodeByteString(null);
+        Double _requestedSessionTimeout = decoder.decodeDouble(null);
+        UInteger _maxResponseMessageSize = decoder.decodeUInt32(null);
+
+        return new CreateSessionRequest(_requestHeader, _clientDescription, _serverUri, _endpointUrl, _sessionName, _clientNonce, _clientCertificate, _requestedSessionTimeout, _maxResponseMessageSize);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CreateSessionRequestBinaryCodec::encode, CreateSessionRequest.class, CreateSessionRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CreateSessionRequestBinaryCodec::decode, CreateSessionRequest.class, CreateSessionRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CreateSessionRequestBinaryCodec::encodedSize, CreateSessionRequest.class, CreateSessionRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.CreateSessionResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.EndpointDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.SignatureData;
+import com.digitalpetri.opcua.stack.core.types.structured.SignedSoftwareCertificate;
+
+public class CreateSessionResponseBinaryCodec {
+
+    public static void encode(CreateSessionResponse createSessionResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = createSessionResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        encoder.encodeNodeId(null, createSessionResponse.getSessionId());
+        encoder.encodeNodeId(null, createSessionResponse.getAuthenticationToken());
+        encoder.encodeDouble(null, createSessionResponse.getRevisedSessionTimeout());
+        encoder.encodeByteString(null, createSessionResponse.getServerNonce());
+        encoder.encodeByteString(null, createSessionResponse.getServerCertificate());
+        EndpointDescription[] _serverEndpoints = createSessionResponse.getServerEndpoints();
+        encoder.writeArrayLength(_serverEndpoints);
+        if (_serverEndpoints != null) {
+            for (EndpointDescription e : _serverEndpoints) {
+                if (e.getClass() == EndpointDescription.class) {
+                    EndpointDescriptionBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        SignedSoftwareCertificate[] _serverSoftwareCertificates = createSessionResponse.getServerSoftwareCertificates();
+        encoder.writeArrayLength(_serverSoftwareCertificates);
+        if (_serverSoftwareCertificates != null) {
+            for (SignedSoftwareCertificate e : _serverSoftwareCertificates) {
+                if (e.getClass() == SignedSoftwareCertificate.class) {
+                    SignedSoftwareCertificateBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        SignatureData _serverSignature = createSessionResponse.getServerSignature();
+        if (_serverSignature == null) {
+            SignatureDataBinaryCodec.encode(new SignatureData(), encoder);
+        } else if (_serverSignature.getClass() == SignatureData.class) {
+            SignatureDataBinaryCodec.encode(_serverSignature, encoder);
+        } else {
+            encoder.encodeSerializable(null, _serverSignature);
+        }
+        encoder.encodeUInt32(null, createSessionResponse.getMaxRequestMessageSize());
+    }
+
+    public static void encodedSize(CreateSessionResponse createSessionResponse, BinarySizeEncoder sizer) {
+        sizer.addSize(12);
+        ResponseHeader _responseHeader = createSessionResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        sizer.encodeNodeId(null, createSessionResponse.getSessionId());
+        sizer.encodeNodeId(null, createSessionResponse.getAuthenticationToken());
+        sizer.encodeByteString(null, createSessionResponse.getServerNonce());
+        sizer.encodeByteString(null, createSessionResponse.getServerCertificate());
+        EndpointDescription[] _serverEndpoints = createSessionResponse.getServerEndpoints();
+        sizer.addSize(4);
+        if (_serverEndpoints != null) {
+            for (EndpointDescription e : _serverEndpoints) {
+                sizer.checkLimit();
+                if (e.getClass() == EndpointDescription.class) {
+                    EndpointDescriptionBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        SignedSoftwareCertificate[] _serverSoftwareCertificates = createSessionResponse.getServerSoftwareCertificates();
+        sizer.addSize(4);
+        if (_serverSoftwareCertificates != null) {
+            for (SignedSoftwareCertificate e : _serverSoftwareCertificates) {
+                sizer.checkLimit();
+                if (e.getClass() == SignedSoftwareCertificate.class) {
+                    SignedSoftwareCertificateBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        SignatureData _serverSignature = createSessionResponse.getServerSignature();
+        if (_serverSignature == null) {
+            SignatureDataBinaryCodec.encodedSize(new SignatureData(), sizer);
+        } else if (_serverSignature.getClass() == SignatureData.class) {
+            SignatureDataBinaryCodec.encodedSize(_serverSignature, sizer);
+        } else {
+            sizer.encodeSerializable(null, _serverSignature);
+        }
+    }
+
+    public static CreateSessionResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        NodeId _sessionId = decoder.decodeNodeId(null);
+        NodeId _authenticationToken = decoder.decodeNodeId(null);
+        Double _revisedSessionTimeout = decoder.decodeDouble(null);
+        ByteString _serverNonce = decoder.decodeByteString(null);
+        ByteString _serverCertificate = decoder.decodeByteString(null);
+        EndpointDescription[] _serverEndpoints;
+        if (decoder.isArrayStreamed("ServerEndpoints", EndpointDescription.class)) {
+            _serverEndpoints = decoder.decodeArray("ServerEndpoints", decoder::decodeSerializable, EndpointDescription.class);
+        } else {
+            _serverEndpoints = new EndpointDescription[decoder.readArrayLength()];
+            for (int i = 0; i < _serverEndpoints.length; i++) {
+                _serverEndpoints[i] = EndpointDescriptionBinaryCodec.decode(decoder);
+            }
+        }
+        SignedSoftwareCertificate[] _serverSoftwareCertificates;
+        if (decoder.isArrayStreamed("ServerSoftwareCertificates", SignedSoftwareCertificate.class)) {
+            _serverSoftwareCertificates = decoder.decodeArray("ServerSoftwareCertificates", decoder::decodeSerializable, SignedSoftwareCertificate.class);
+        } else {
+            _serverSoftwareCertificates = new SignedSoftwareCertificate[decoder.readArrayLength()];
+            for (int i = 0; i < _serverSoftwareCertificates.length; i++) {
+                _serverSoftwareCertificates[i] = SignedSoftwareCertificateBinaryCodec.decode(decoder);
+            }
+        }
+        SignatureData _serverSignature = SignatureDataBinaryCodec.decode(decoder);
+        UInteger _maxRequestMessageSize = decoder.decodeUInt32(null);
+
+        return new CreateSessionResponse(_responseHeader, _sessionId, _authenticationToken, _revisedSessionTimeout, _serverNonce, _serverCertificate, _serverEndpoints, _serverSoftwareCertificates, _serverSignature, _maxRequestMessageSize);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CreateSessionResponseBinaryCodec::encode, CreateSessionResponse.class, CreateSessionResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CreateSessionResponseBinaryCodec::decode, CreateSessionResponse.class, CreateSessionResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CreateSessionResponseBinaryCodec::encodedSize, CreateSessionResponse.class, CreateSessionResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.CreateSubscriptionRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class CreateSubscriptionRequestBinaryCodec {
+
+    public static void encode(CreateSubscriptionRequest createSubscriptionRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = createSubscriptionRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeDouble(null, createSubscriptionRequest.getRequestedPublishingInterval());
+        encoder.encodeUInt32(null, createSubscriptionRequest.getRequestedLifetimeCount());
+        encoder.encodeUInt32(null, createSubscriptionRequest.getRequestedMaxKeepAliveCount());
+        encoder.encodeUInt32(null, createSubscriptionRequest.getMaxNotificationsPerPublish());
+        encoder.encodeBoolean(null, createSubscriptionRequest.getPublishingEnabled());
+        encoder.encodeByte(null, createSubscriptionRequest.getPriority());
+    }
+
+    public static void encodedSize(CreateSubscriptionRequest createSubscriptionRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(22);
+        RequestHeader _requestHeader = createSubscriptionRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+    }
+
+    public static CreateSubscriptionRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        Double _requestedPublishingInterval = decoder.decodeDouble(null);
+        UInteger _requestedLifetimeCount = decoder.decodeUInt32(null);
+        UInteger _requestedMaxKeepAliveCount = decoder.decodeUInt32(null);
+        UInteger _maxNotificationsPerPublish = decoder.decodeUInt32(null);
+        Boolean _publishingEnabled = decoder.decodeBoolean(null);
+        UByte _priority = decoder.decodeByte(null);
+
+        return new CreateSubscriptionRequest(_requestHeader, _requestedPublishingInterval, _requestedLifetimeCount, _requestedMaxKeepAliveCount, _maxNotificationsPerPublish, _publishingEnabled, _priority);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CreateSubscriptionRequestBinaryCodec::encode, CreateSubscriptionRequest.class, CreateSubscriptionRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CreateSubscriptionRequestBinaryCodec::decode, CreateSubscriptionRequest.class, CreateSubscriptionRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CreateSubscriptionRequestBinaryCodec::encodedSize, CreateSubscriptionRequest.class, CreateSubscriptionRequest.BinaryEncodingId);
+    }
+
+}
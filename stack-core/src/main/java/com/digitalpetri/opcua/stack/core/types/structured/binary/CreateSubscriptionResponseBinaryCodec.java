@@ -0,0 +1,56 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.CreateSubscriptionResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class CreateSubscriptionResponseBinaryCodec {
+
+    public static void encode(CreateSubscriptionResponse createSubscriptionResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = createSubscriptionResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        encoder.encodeUInt32(null, createSubscriptionResponse.getSubscriptionId());
+        encoder.encodeDouble(null, createSubscriptionResponse.getRevisedPublishingInterval());
+        encoder.encodeUInt32(null, createSubscriptionResponse.getRevisedLifetimeCount());
+        encoder.encodeUInt32(null, createSubscriptionResponse.getRevisedMaxKeepAliveCount());
+    }
+
+    public static void encodedSize(CreateSubscriptionResponse createSubscriptionResponse, BinarySizeEncoder sizer) {
+        sizer.addSize(20);
+        ResponseHeader _responseHeader = createSubscriptionResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static CreateSubscriptionResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        Double _revisedPublishingInterval = decoder.decodeDouble(null);
+        UInteger _revisedLifetimeCount = decoder.decodeUInt32(null);
+        UInteger _revisedMaxKeepAliveCount = decoder.decodeUInt32(null);
+
+        return new CreateSubscriptionResponse(_responseHeader, _subscriptionId, _revisedPublishingInterval, _revisedLifetimeCount, _revisedMaxKeepAliveCount);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(CreateSubscriptionResponseBinaryCodec::encode, CreateSubscriptionResponse.class, CreateSubscriptionResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(CreateSubscriptionResponseBinaryCodec::decode, CreateSubscriptionResponse.class, CreateSubscriptionResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(CreateSubscriptionResponseBinaryCodec::encodedSize, CreateSubscriptionResponse.class, CreateSubscriptionResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.DataChangeTrigger;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeFilter;
+
+public class DataChangeFilterBinaryCodec {
+
+    public static void encode(DataChangeFilter dataChangeFilter, BinaryEncoder encoder) {
+        DataChangeTrigger _trigger = dataChangeFilter.getTrigger();
+        encoder.writeInt32(null, _trigger != null ? _trigger.getValue() : -1);
+        encoder.encodeUInt32(null, dataChangeFilter.getDeadbandType());
+        encoder.encodeDouble(null, dataChangeFilter.getDeadbandValue());
+    }
+
+    public static void encodedSize(DataChangeFilter dataChangeFilter, BinarySizeEncoder sizer) {
+        sizer.addSize(16);
+    }
+
+    public static DataChangeFilter decode(BinaryDecoder decoder) {
+        DataChangeTrigger _trigger = DataChangeTrigger.decode(decoder);
+        UInteger _deadbandType = decoder.decodeUInt32(null);
+        Double _deadbandValue = decoder.decodeDouble(null);
+
+        return new DataChangeFilter(_trigger, _deadbandType, _deadbandValue);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DataChangeFilterBinaryCodec::encode, DataChangeFilter.class, DataChangeFilter.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DataChangeFilterBinaryCodec::decode, DataChangeFilter.class, DataChangeFilter.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DataChangeFilterBinaryCodec::encodedSize, DataChangeFilter.class, DataChangeFilter.BinaryEncodingId);
+    }
+
+}
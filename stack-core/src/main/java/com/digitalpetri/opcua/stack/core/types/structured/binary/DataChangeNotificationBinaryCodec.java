@@ -0,0 +1,86 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemNotification;
+
+public class DataChangeNotificationBinaryCodec {
+
+    public static void encode(DataChangeNotification dataChangeNotification, BinaryEncoder encoder) {
+        MonitoredItemNotification[] _monitoredItems = dataChangeNotification.getMonitoredItems();
+        encoder.writeArrayLength(_monitoredItems);
+        if (_monitoredItems != null) {
+            for (MonitoredItemNotification e : _monitoredItems) {
+                if (e.getClass() == MonitoredItemNotification.class) {
+                    MonitoredItemNotificationBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = dataChangeNotification.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(DataChangeNotification dataChangeNotification, BinarySizeEncoder sizer) {
+        MonitoredItemNotification[] _monitoredItems = dataChangeNotification.getMonitoredItems();
+        sizer.addSize(4);
+        if (_monitoredItems != null) {
+            for (MonitoredItemNotification e : _monitoredItems) {
+                sizer.checkLimit();
+                if (e.getClass() == MonitoredItemNotification.class) {
+                    MonitoredItemNotificationBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = dataChangeNotification.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static DataChangeNotification decode(BinaryDecoder decoder) {
+        MonitoredItemNotification[] _monitoredItems;
+        if (decoder.isArrayStreamed("MonitoredItems", MonitoredItemNotification.class)) {
+            _monitoredItems = decoder.decodeArray("MonitoredItems", decoder::decodeSerializable, MonitoredItemNotification.class);
+        } else {
+            _monitoredItems = new MonitoredItemNotification[decoder.readArrayLength()];
+            for (int i = 0; i < _monitoredItems.length; i++) {
+                _monitoredItems[i] = MonitoredItemNotificationBinaryCodec.decode(decoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new DataChangeNotification(_monitoredItems, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DataChangeNotificationBinaryCodec::encode, DataChangeNotification.class, DataChangeNotification.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DataChangeNotificationBinaryCodec::decode, DataChangeNotification.class, DataChangeNotification.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DataChangeNotificationBinaryCodec::encodedSize, DataChangeNotification.class, DataChangeNotification.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.DataTypeAttributes;
+
+public class DataTypeAttributesBinaryCodec {
+
+    public static void encode(DataTypeAttributes dataTypeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, dataTypeAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, dataTypeAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, dataTypeAttributes.getDescription());
+        encoder.encodeUInt32(null, dataTypeAttributes.getWriteMask());
+        encoder.encodeUInt32(null, dataTypeAttributes.getUserWriteMask());
+        encoder.encodeBoolean(null, dataTypeAttributes.getIsAbstract());
+    }
+
+    public static void encodedSize(DataTypeAttributes dataTypeAttributes, BinarySizeEncoder sizer) {
+        sizer.addSize(13);
+        sizer.encodeLocalizedText(null, dataTypeAttributes.getDisplayName());
+        sizer.encodeLocalizedText(null, dataTypeAttributes.getDescription());
+    }
+
+    public static DataTypeAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+
+        return new DataTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _isAbstract);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DataTypeAttributesBinaryCodec::encode, DataTypeAttributes.class, DataTypeAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DataTypeAttributesBinaryCodec::decode, DataTypeAttributes.class, DataTypeAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DataTypeAttributesBinaryCodec::encodedSize, DataTypeAttributes.class, DataTypeAttributes.BinaryEncodingId);
+    }
+
+}
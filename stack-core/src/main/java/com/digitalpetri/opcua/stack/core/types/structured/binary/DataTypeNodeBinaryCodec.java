@@ -0,0 +1,88 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.DataTypeNode;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+
+public class DataTypeNodeBinaryCodec {
+
+    public static void encode(DataTypeNode dataTypeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, dataTypeNode.getNodeId());
+        NodeClass _nodeClass = dataTypeNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, dataTypeNode.getBrowseName());
+        encoder.encodeLocalizedText(null, dataTypeNode.getDisplayName());
+        encoder.encodeLocalizedText(null, dataTypeNode.getDescription());
+        encoder.encodeUInt32(null, dataTypeNode.getWriteMask());
+        encoder.encodeUInt32(null, dataTypeNode.getUserWriteMask());
+        ReferenceNode[] _references = dataTypeNode.getReferences();
+        encoder.writeArrayLength(_references);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        encoder.encodeBoolean(null, dataTypeNode.getIsAbstract());
+    }
+
+    public static void encodedSize(DataTypeNode dataTypeNode, BinarySizeEncoder sizer) {
+        sizer.addSize(13);
+        sizer.encodeNodeId(null, dataTypeNode.getNodeId());
+        sizer.encodeQualifiedName(null, dataTypeNode.getBrowseName());
+        sizer.encodeLocalizedText(null, dataTypeNode.getDisplayName());
+        sizer.encodeLocalizedText(null, dataTypeNode.getDescription());
+        ReferenceNode[] _references = dataTypeNode.getReferences();
+        sizer.addSize(4);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                sizer.checkLimit();
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static DataTypeNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references;
+        if (decoder.isArrayStreamed("References", ReferenceNode.class)) {
+            _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        } else {
+            _references = new ReferenceNode[decoder.readArrayLength()];
+            for (int i = 0; i < _references.length; i++) {
+                _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+            }
+        }
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+
+        return new DataTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _isAbstract);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DataTypeNodeBinaryCodec::encode, DataTypeNode.class, DataTypeNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DataTypeNodeBinaryCodec::decode, DataTypeNode.class, DataTypeNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DataTypeNodeBinaryCodec::encodedSize, DataTypeNode.class, DataTypeNode.BinaryEncodingId);
+    }
+
+}
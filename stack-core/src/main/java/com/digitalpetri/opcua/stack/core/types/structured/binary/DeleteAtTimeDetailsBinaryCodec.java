@@ -0,0 +1,50 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteAtTimeDetails;
+
+public class DeleteAtTimeDetailsBinaryCodec {
+
+    public static void encode(DeleteAtTimeDetails deleteAtTimeDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, deleteAtTimeDetails.getNodeId());
+        DateTime[] _reqTimes = deleteAtTimeDetails.getReqTimes();
+        encoder.writeArrayLength(_reqTimes);
+        if (_reqTimes != null) {
+            for (DateTime e : _reqTimes) {
+                encoder.encodeDateTime(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(DeleteAtTimeDetails deleteAtTimeDetails, BinarySizeEncoder sizer) {
+        sizer.encodeNodeId(null, deleteAtTimeDetails.getNodeId());
+        sizer.addArraySize(deleteAtTimeDetails.getReqTimes(), 8);
+    }
+
+    public static DeleteAtTimeDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        DateTime[] _reqTimes;
+        if (decoder.isArrayStreamed("ReqTimes", DateTime.class)) {
+            _reqTimes = decoder.decodeArray("ReqTimes", decoder::decodeDateTime, DateTime.class);
+        } else {
+            _reqTimes = new DateTime[decoder.readArrayLength()];
+            for (int i = 0; i < _reqTimes.length; i++) {
+                _reqTimes[i] = decoder.decodeDateTime(null);
+            }
+        }
+
+        return new DeleteAtTimeDetails(_nodeId, _reqTimes);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DeleteAtTimeDetailsBinaryCodec::encode, DeleteAtTimeDetails.class, DeleteAtTimeDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DeleteAtTimeDetailsBinaryCodec::decode, DeleteAtTimeDetails.class, DeleteAtTimeDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DeleteAtTimeDetailsBinaryCodec::encodedSize, DeleteAtTimeDetails.class, DeleteAtTimeDetails.BinaryEncodingId);
+    }
+
+}
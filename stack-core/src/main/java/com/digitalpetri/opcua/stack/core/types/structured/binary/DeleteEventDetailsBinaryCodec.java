@@ -0,0 +1,57 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteEventDetails;
+
+public class DeleteEventDetailsBinaryCodec {
+
+    public static void encode(DeleteEventDetails deleteEventDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, deleteEventDetails.getNodeId());
+        ByteString[] _eventIds = deleteEventDetails.getEventIds();
+        encoder.writeArrayLength(_eventIds);
+        if (_eventIds != null) {
+            for (ByteString e : _eventIds) {
+                encoder.encodeByteString(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(DeleteEventDetails deleteEventDetails, BinarySizeEncoder sizer) {
+        sizer.encodeNodeId(null, deleteEventDetails.getNodeId());
+        ByteString[] _eventIds = deleteEventDetails.getEventIds();
+        sizer.addSize(4);
+        if (_eventIds != null) {
+            for (ByteString e : _eventIds) {
+                sizer.checkLimit();
+                sizer.encodeByteString(null, e);
+            }
+        }
+    }
+
+    public static DeleteEventDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        ByteString[] _eventIds;
+        if (decoder.isArrayStreamed("EventIds", ByteString.class)) {
+            _eventIds = decoder.decodeArray("EventIds", decoder::decodeByteString, ByteString.class);
+        } else {
+            _eventIds = new ByteString[decoder.readArrayLength()];
+            for (int i = 0; i < _eventIds.length; i++) {
+                _eventIds[i] = decoder.decodeByteString(null);
+            }
+        }
+
+        return new DeleteEventDetails(_nodeId, _eventIds);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DeleteEventDetailsBinaryCodec::encode, DeleteEventDetails.class, DeleteEventDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DeleteEventDetailsBinaryCodec::decode, DeleteEventDetails.class, DeleteEventDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DeleteEventDetailsBinaryCodec::encodedSize, DeleteEventDetails.class, DeleteEventDetails.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteMonitoredItemsRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class DeleteMonitoredItemsRequestBinaryCodec {
+
+    public static void encode(DeleteMonitoredItemsRequest deleteMonitoredItemsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = deleteMonitoredItemsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeUInt32(null, deleteMonitoredItemsRequest.getSubscriptionId());
+        UInteger[] _monitoredItemIds = deleteMonitoredItemsRequest.getMonitoredItemIds();
+        encoder.writeArrayLength(_monitoredItemIds);
+        if (_monitoredItemIds != null) {
+            for (UInteger e : _monitoredItemIds) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(DeleteMonitoredItemsRequest deleteMonitoredItemsRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        RequestHeader _requestHeader = deleteMonitoredItemsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        sizer.addArraySize(deleteMonitoredItemsRequest.getMonitoredItemIds(), 4);
+    }
+
+    public static DeleteMonitoredItemsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        UInteger[] _monitoredItemIds;
+        if (decoder.isArrayStreamed("MonitoredItemIds", UInteger.class)) {
+            _monitoredItemIds = decoder.decodeArray("MonitoredItemIds", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _monitoredItemIds = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _monitoredItemIds.length; i++) {
+                _monitoredItemIds[i] = decoder.decodeUInt32(null);
+            }
+        }
+
+        return new DeleteMonitoredItemsRequest(_requestHeader, _subscriptionId, _monitoredItemIds);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DeleteMonitoredItemsRequestBinaryCodec::encode, DeleteMonitoredItemsRequest.class, DeleteMonitoredItemsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DeleteMonitoredItemsRequestBinaryCodec::decode, DeleteMonitoredItemsRequest.class, DeleteMonitoredItemsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DeleteMonitoredItemsRequestBinaryCodec::encodedSize, DeleteMonitoredItemsRequest.class, DeleteMonitoredItemsRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteNodesItem;
+
+public class DeleteNodesItemBinaryCodec {
+
+    public static void encode(DeleteNodesItem deleteNodesItem, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, deleteNodesItem.getNodeId());
+        encoder.encodeBoolean(null, deleteNodesItem.getDeleteTargetReferences());
+    }
+
+    public static void encodedSize(DeleteNodesItem deleteNodesItem, BinarySizeEncoder sizer) {
+        sizer.addSize(1);
+        sizer.encodeNodeId(null, deleteNodesItem.getNodeId());
+    }
+
+    public static DeleteNodesItem decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        Boolean _deleteTargetReferences = decoder.decodeBoolean(null);
+
+        return new DeleteNodesItem(_nodeId, _deleteTargetReferences);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DeleteNodesItemBinaryCodec::encode, DeleteNodesItem.class, DeleteNodesItem.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DeleteNodesItemBinaryCodec::decode, DeleteNodesItem.class, DeleteNodesItem.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DeleteNodesItemBinaryCodec::encodedSize, DeleteNodesItem.class, DeleteNodesItem.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteNodesItem;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteNodesRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class DeleteNodesRequestBinaryCodec {
+
+    public static void encode(DeleteNodesRequest deleteNodesRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = deleteNodesRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        DeleteNodesItem[] _nodesToDelete = deleteNodesRequest.getNodesToDelete();
+        encoder.writeArrayLength(_nodesToDelete);
+        if (_nodesToDelete != null) {
+            for (DeleteNodesItem e : _nodesToDelete) {
+                if (e.getClass() == DeleteNodesItem.class) {
+                    DeleteNodesItemBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(DeleteNodesRequest deleteNodesRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = deleteNodesRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        DeleteNodesItem[] _nodesToDelete = deleteNodesRequest.getNodesToDelete();
+        sizer.addSize(4);
+        if (_nodesToDelete != null) {
+            for (DeleteNodesItem e : _nodesToDelete) {
+                sizer.checkLimit();
+                if (e.getClass() == DeleteNodesItem.class) {
+                    DeleteNodesItemBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static DeleteNodesRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        DeleteNodesItem[] _nodesToDelete;
+        if (decoder.isArrayStreamed("NodesToDelete", DeleteNodesItem.class)) {
+            _nodesToDelete = decoder.decodeArray("NodesToDelete", decoder::decodeSerializable, DeleteNodesItem.class);
+        } else {
+            _nodesToDelete = new DeleteNodesItem[decoder.readArrayLength()];
+            for (int i = 0; i < _nodesToDelete.length; i++) {
+                _nodesToDelete[i] = DeleteNodesItemBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new DeleteNodesRequest(_requestHeader, _nodesToDelete);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DeleteNodesRequestBinaryCodec::encode, DeleteNodesRequest.class, DeleteNodesRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DeleteNodesRequestBinaryCodec::decode, DeleteNodesRequest.class, DeleteNodesRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DeleteNodesRequestBinaryCodec::encodedSize, DeleteNodesRequest.class, DeleteNodesRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteNodesResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class DeleteNodesResponseBinaryCodec {
+
+    public static void encode(DeleteNodesResponse deleteNodesResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = deleteNodesResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        StatusCode[] _results = deleteNodesResponse.getResults();
+        encoder.writeArrayLength(_results);
+        if (_results != null) {
+            for (StatusCode e : _results) {
+                encoder.encodeStatusCode(null, e);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = deleteNodesResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(DeleteNodesResponse deleteNodesResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = deleteNodesResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        sizer.addArraySize(deleteNodesResponse.getResults(), 4);
+        DiagnosticInfo[] _diagnosticInfos = deleteNodesResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static DeleteNodesResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        StatusCode[] _results;
+        if (decoder.isArrayStreamed("Results", StatusCode.class)) {
+            _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode.class);
+        } else {
+            _results = new StatusCode[decoder.readArrayLength()];
+            for (int i = 0; i < _results.length; i++) {
+                _results[i] = decoder.decodeStatusCode(null);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new DeleteNodesResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DeleteNodesResponseBinaryCodec::encode, DeleteNodesResponse.class, DeleteNodesResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DeleteNodesResponseBinaryCodec::decode, DeleteNodesResponse.class, DeleteNodesResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DeleteNodesResponseBinaryCodec::encodedSize, DeleteNodesResponse.class, DeleteNodesResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteRawModifiedDetails;
+
+public class DeleteRawModifiedDetailsBinaryCodec {
+
+    public static void encode(DeleteRawModifiedDetails deleteRawModifiedDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, deleteRawModifiedDetails.getNodeId());
+        encoder.encodeBoolean(null, deleteRawModifiedDetails.getIsDeleteModified());
+        encoder.encodeDateTime(null, deleteRawModifiedDetails.getStartTime());
+        encoder.encodeDateTime(null, deleteRawModifiedDetails.getEndTime());
+    }
+
+    public static void encodedSize(DeleteRawModifiedDetails deleteRawModifiedDetails, BinarySizeEncoder sizer) {
+        sizer.addSize(17);
+        sizer.encodeNodeId(null, deleteRawModifiedDetails.getNodeId());
+    }
+
+    public static DeleteRawModifiedDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        Boolean _isDeleteModified = decoder.decodeBoolean(null);
+        DateTime _startTime = decoder.decodeDateTime(null);
+        DateTime _endTime = decoder.decodeDateTime(null);
+
+        return new DeleteRawModifiedDetails(_nodeId, _isDeleteModified, _startTime, _endTime);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DeleteRawModifiedDetailsBinaryCodec::encode, DeleteRawModifiedDetails.class, DeleteRawModifiedDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DeleteRawModifiedDetailsBinaryCodec::decode, DeleteRawModifiedDetails.class, DeleteRawModifiedDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DeleteRawModifiedDetailsBinaryCodec::encodedSize, DeleteRawModifiedDetails.class, DeleteRawModifiedDetails.BinaryEncodingId);
+    }
+
+}
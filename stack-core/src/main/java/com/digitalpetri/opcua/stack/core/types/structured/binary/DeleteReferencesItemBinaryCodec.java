@@ -0,0 +1,44 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteReferencesItem;
+
+public class DeleteReferencesItemBinaryCodec {
+
+    public static void encode(DeleteReferencesItem deleteReferencesItem, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, deleteReferencesItem.getSourceNodeId());
+        encoder.encodeNodeId(null, deleteReferencesItem.getReferenceTypeId());
+        encoder.encodeBoolean(null, deleteReferencesItem.getIsForward());
+        encoder.encodeExpandedNodeId(null, deleteReferencesItem.getTargetNodeId());
+        encoder.encodeBoolean(null, deleteReferencesItem.getDeleteBidirectional());
+    }
+
+    public static void encodedSize(DeleteReferencesItem deleteReferencesItem, BinarySizeEncoder sizer) {
+        sizer.addSize(2);
+        sizer.encodeNodeId(null, deleteReferencesItem.getSourceNodeId());
+        sizer.encodeNodeId(null, deleteReferencesItem.getReferenceTypeId());
+        sizer.encodeExpandedNodeId(null, deleteReferencesItem.getTargetNodeId());
+    }
+
+    public static DeleteReferencesItem decode(BinaryDecoder decoder) {
+        NodeId _sourceNodeId = decoder.decodeNodeId(null);
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _isForward = decoder.decodeBoolean(null);
+        ExpandedNodeId _targetNodeId = decoder.decodeExpandedNodeId(null);
+        Boolean _deleteBidirectional = decoder.decodeBoolean(null);
+
+        return new DeleteReferencesItem(_sourceNodeId, _referenceTypeId, _isForward, _targetNodeId, _deleteBidirectional);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DeleteReferencesItemBinaryCodec::encode, DeleteReferencesItem.class, DeleteReferencesItem.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DeleteReferencesItemBinaryCodec::decode, DeleteReferencesItem.class, DeleteReferencesItem.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DeleteReferencesItemBinaryCodec::encodedSize, DeleteReferencesItem.class, DeleteReferencesItem.BinaryEncodingId);
+    }
+
+}
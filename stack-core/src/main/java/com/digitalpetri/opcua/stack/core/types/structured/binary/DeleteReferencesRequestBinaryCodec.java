@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteReferencesItem;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteReferencesRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class DeleteReferencesRequestBinaryCodec {
+
+    public static void encode(DeleteReferencesRequest deleteReferencesRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = deleteReferencesRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        DeleteReferencesItem[] _referencesToDelete = deleteReferencesRequest.getReferencesToDelete();
+        encoder.writeArrayLength(_referencesToDelete);
+        if (_referencesToDelete != null) {
+            for (DeleteReferencesItem e : _referencesToDelete) {
+                if (e.getClass() == DeleteReferencesItem.class) {
+                    DeleteReferencesItemBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(DeleteReferencesRequest deleteReferencesRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = deleteReferencesRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        DeleteReferencesItem[] _referencesToDelete = deleteReferencesRequest.getReferencesToDelete();
+        sizer.addSize(4);
+        if (_referencesToDelete != null) {
+            for (DeleteReferencesItem e : _referencesToDelete) {
+                sizer.checkLimit();
+                if (e.getClass() == DeleteReferencesItem.class) {
+                    DeleteReferencesItemBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static DeleteReferencesRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        DeleteReferencesItem[] _referencesToDelete;
+        if (decoder.isArrayStreamed("ReferencesToDelete", DeleteReferencesItem.class)) {
+            _referencesToDelete = decoder.decodeArray("ReferencesToDelete", decoder::decodeSerializable, DeleteReferencesItem.class);
+        } else {
+            _referencesToDelete = new DeleteReferencesItem[decoder.readArrayLength()];
+            for (int i = 0; i < _referencesToDelete.length; i++) {
+                _referencesToDelete[i] = DeleteReferencesItemBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new DeleteReferencesRequest(_requestHeader, _referencesToDelete);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DeleteReferencesRequestBinaryCodec::encode, DeleteReferencesRequest.class, DeleteReferencesRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DeleteReferencesRequestBinaryCodec::decode, DeleteReferencesRequest.class, DeleteReferencesRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DeleteReferencesRequestBinaryCodec::encodedSize, DeleteReferencesRequest.class, DeleteReferencesRequest.BinaryEncodingId);
+    }
+
+}
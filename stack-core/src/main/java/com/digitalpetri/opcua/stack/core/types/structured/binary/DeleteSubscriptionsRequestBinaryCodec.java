@@ -0,0 +1,64 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteSubscriptionsRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class DeleteSubscriptionsRequestBinaryCodec {
+
+    public static void encode(DeleteSubscriptionsRequest deleteSubscriptionsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = deleteSubscriptionsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        UInteger[] _subscriptionIds = deleteSubscriptionsRequest.getSubscriptionIds();
+        encoder.writeArrayLength(_subscriptionIds);
+        if (_subscriptionIds != null) {
+            for (UInteger e : _subscriptionIds) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(DeleteSubscriptionsRequest deleteSubscriptionsRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = deleteSubscriptionsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        sizer.addArraySize(deleteSubscriptionsRequest.getSubscriptionIds(), 4);
+    }
+
+    public static DeleteSubscriptionsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger[] _subscriptionIds;
+        if (decoder.isArrayStreamed("SubscriptionIds", UInteger.class)) {
+            _subscriptionIds = decoder.decodeArray("SubscriptionIds", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _subscriptionIds = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _subscriptionIds.length; i++) {
+                _subscriptionIds[i] = decoder.decodeUInt32(null);
+            }
+        }
+
+        return new DeleteSubscriptionsRequest(_requestHeader, _subscriptionIds);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DeleteSubscriptionsRequestBinaryCodec::encode, DeleteSubscriptionsRequest.class, DeleteSubscriptionsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DeleteSubscriptionsRequestBinaryCodec::decode, DeleteSubscriptionsRequest.class, DeleteSubscriptionsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DeleteSubscriptionsRequestBinaryCodec::encodedSize, DeleteSubscriptionsRequest.class, DeleteSubscriptionsRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.DoubleComplexNumberType;
+
+public class DoubleComplexNumberTypeBinaryCodec {
+
+    public static void encode(DoubleComplexNumberType doubleComplexNumberType, BinaryEncoder encoder) {
+        encoder.encodeDouble(null, doubleComplexNumberType.getReal());
+        encoder.encodeDouble(null, doubleComplexNumberType.getImaginary());
+    }
+
+    public static void encodedSize(DoubleComplexNumberType doubleComplexNumberType, BinarySizeEncoder sizer) {
+        sizer.addSize(16);
+    }
+
+    public static DoubleComplexNumberType decode(BinaryDecoder decoder) {
+        Double _real = decoder.decodeDouble(null);
+        Double _imaginary = decoder.decodeDouble(null);
+
+        return new DoubleComplexNumberType(_real, _imaginary);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(DoubleComplexNumberTypeBinaryCodec::encode, DoubleComplexNumberType.class, DoubleComplexNumberType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(DoubleComplexNumberTypeBinaryCodec::decode, DoubleComplexNumberType.class, DoubleComplexNumberType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(DoubleComplexNumberTypeBinaryCodec::encodedSize, DoubleComplexNumberType.class, DoubleComplexNumberType.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.structured.EUInformation;
+
+public class EUInformationBinaryCodec {
+
+    public static void encode(EUInformation eUInformation, BinaryEncoder encoder) {
+        encoder.encodeString(null, eUInformation.getNamespaceUri());
+        encoder.encodeInt32(null, eUInformation.getUnitId());
+        encoder.encodeLocalizedText(null, eUInformation.getDisplayName());
+        encoder.encodeLocalizedText(null, eUInformation.getDescription());
+    }
+
+    public static void encodedSize(EUInformation eUInformation, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeString(null, eUInformation.getNamespaceUri());
+        sizer.encodeLocalizedText(null, eUInformation.getDisplayName());
+        sizer.encodeLocalizedText(null, eUInformation.getDescription());
+    }
+
+    public static EUInformation decode(BinaryDecoder decoder) {
+        String _namespaceUri = decoder.decodeString(null);
+        Integer _unitId = decoder.decodeInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+
+        return new EUInformation(_namespaceUri, _unitId, _displayName, _description);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(EUInformationBinaryCodec::encode, EUInformation.class, EUInformation.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(EUInformationBinaryCodec::decode, EUInformation.class, EUInformation.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(EUInformationBinaryCodec::encodedSize, EUInformation.class, EUInformation.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ElementOperand;
+
+public class ElementOperandBinaryCodec {
+
+    public static void encode(ElementOperand elementOperand, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, elementOperand.getIndex());
+    }
+
+    public static void encodedSize(ElementOperand elementOperand, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+    }
+
+    public static ElementOperand decode(BinaryDecoder decoder) {
+        UInteger _index = decoder.decodeUInt32(null);
+
+        return new ElementOperand(_index);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ElementOperandBinaryCodec::encode, ElementOperand.class, ElementOperand.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ElementOperandBinaryCodec::decode, ElementOperand.class, ElementOperand.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ElementOperandBinaryCodec::encodedSize, ElementOperand.class, ElementOperand.BinaryEncodingId);
+    }
+
+}
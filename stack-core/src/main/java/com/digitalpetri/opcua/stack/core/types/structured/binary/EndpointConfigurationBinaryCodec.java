@@ -0,0 +1,47 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.EndpointConfiguration;
+
+public class EndpointConfigurationBinaryCodec {
+
+    public static void encode(EndpointConfiguration endpointConfiguration, BinaryEncoder encoder) {
+        encoder.encodeInt32(null, endpointConfiguration.getOperationTimeout());
+        encoder.encodeBoolean(null, endpointConfiguration.getUseBinaryEncoding());
+        encoder.encodeInt32(null, endpointConfiguration.getMaxStringLength());
+        encoder.encodeInt32(null, endpointConfiguration.getMaxByteStringLength());
+        encoder.encodeInt32(null, endpointConfiguration.getMaxArrayLength());
+        encoder.encodeInt32(null, endpointConfiguration.getMaxMessageSize());
+        encoder.encodeInt32(null, endpointConfiguration.getMaxBufferSize());
+        encoder.encodeInt32(null, endpointConfiguration.getChannelLifetime());
+        encoder.encodeInt32(null, endpointConfiguration.getSecurityTokenLifetime());
+    }
+
+    public static void encodedSize(EndpointConfiguration endpointConfiguration, BinarySizeEncoder sizer) {
+        sizer.addSize(33);
+    }
+
+    public static EndpointConfiguration decode(BinaryDecoder decoder) {
+        Integer _operationTimeout = decoder.decodeInt32(null);
+        Boolean _useBinaryEncoding = decoder.decodeBoolean(null);
+        Integer _maxStringLength = decoder.decodeInt32(null);
+        Integer _maxByteStringLength = decoder.decodeInt32(null);
+        Integer _maxArrayLength = decoder.decodeInt32(null);
+        Integer _maxMessageSize = decoder.decodeInt32(null);
+        Integer _maxBufferSize = decoder.decodeInt32(null);
+        Integer _channelLifetime = decoder.decodeInt32(null);
+        Integer _securityTokenLifetime = decoder.decodeInt32(null);
+
+        return new EndpointConfiguration(_operationTimeout, _useBinaryEncoding, _maxStringLength, _maxByteStringLength, _maxArrayLength, _maxMessageSize, _maxBufferSize, _channelLifetime, _securityTokenLifetime);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(EndpointConfigurationBinaryCodec::encode, EndpointConfiguration.class, EndpointConfiguration.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(EndpointConfigurationBinaryCodec::decode, EndpointConfiguration.class, EndpointConfiguration.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(EndpointConfigurationBinaryCodec::encodedSize, EndpointConfiguration.class, EndpointConfiguration.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.types.structured.ApplicationDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.EndpointDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.UserTokenPolicy;
+
+public class EndpointDescriptionBinaryCodec {
+
+    public static void encode(EndpointDescription endpointDescription, BinaryEncoder encoder) {
+        encoder.encodeString(null, endpointDescription.getEndpointUrl());
+        ApplicationDescription _server = endpointDescription.getServer();
+        if (_server == null) {
+            ApplicationDescriptionBinaryCodec.encode(new ApplicationDescription(), encoder);
+        } else if (_server.getClass() == ApplicationDescription.class) {
+            ApplicationDescriptionBinaryCodec.encode(_server, encoder);
+        } else {
+            encoder.encodeSerializable(null, _server);
+        }
+        encoder.encodeByteString(null, endpointDescription.getServerCertificate());
+        MessageSecurityMode _securityMode = endpointDescription.getSecurityMode();
+        encoder.writeInt32(null, _securityMode != null ? _securityMode.getValue() : -1);
+        encoder.encodeString(null, endpointDescription.getSecurityPolicyUri());
+        UserTokenPolicy[] _userIdentityTokens = endpointDescription.getUserIdentityTokens();
+        encoder.writeArrayLength(_userIdentityTokens);
+        if (_userIdentityTokens != null) {
+            for (UserTokenPolicy e : _userIdentityTokens) {
+                if (e.getClass() == UserTokenPolicy.class) {
+                    UserTokenPolicyBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        encoder.encodeString(null, endpointDescription.getTransportProfileUri());
+        encoder.encodeByte(null, endpointDescription.getSecurityLevel());
+    }
+
+    public static void encodedSize(EndpointDescription endpointDescription, BinarySizeEncoder sizer) {
+        sizer.addSize(5);
+        sizer.encodeString(null, endpointDescription.getEndpointUrl());
+        ApplicationDescription _server = endpointDescription.getServer();
+        if (_server == null) {
+            ApplicationDescriptionBinaryCodec.encodedSize(new ApplicationDescription(), sizer);
+        } else if (_server.getClass() == ApplicationDescription.class) {
+            ApplicationDescriptionBinaryCodec.encodedSize(_server, sizer);
+        } else {
+            sizer.encodeSerializable(null, _server);
+        }
+        sizer.encodeByteString(null, endpointDescription.getServerCertificate());
+        sizer.encodeString(null, endpointDescription.getSecurityPolicyUri());
+        UserTokenPolicy[] _userIdentityTokens = endpointDescription.getUserIdentityTokens();
+        sizer.addSize(4);
+        if (_userIdentityTokens != null) {
+            for (UserTokenPolicy e : _userIdentityTokens) {
+                sizer.checkLimit();
+                if (e.getClass() == UserTokenPolicy.class) {
+                    UserTokenPolicyBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        sizer.encodeString(null, endpointDescription.getTransportProfileUri());
+    }
+
+    public static EndpointDescription decode(BinaryDecoder decoder) {
+        String _endpointUrl = decoder.decodeString(null);
+        ApplicationDescription _server = ApplicationDescriptionBinaryCodec.decode(decoder);
+        ByteString _serverCertificate = decoder.decodeByteString(null);
+        MessageSecurityMode _securityMode = MessageSecurityMode.decode(decoder);
+        String _securityPolicyUri = decoder.decodeString(null);
+        UserTokenPolicy[] _userIdentityTokens;
+        if (decoder.isArrayStreamed("UserIdentityTokens", UserTokenPolicy.class)) {
+            _userIdentityTokens = decoder.decodeArray("UserIdentityTokens", decoder::decodeSerializable, UserTokenPolicy.class);
+        } else {
+            _userIdentityTokens = new UserTokenPolicy[decoder.readArrayLength()];
+            for (int i = 0; i < _userIdentityTokens.length; i++) {
+                _userIdentityTokens[i] = UserTokenPolicyBinaryCodec.decode(decoder);
+            }
+        }
+        String _transportProfileUri = decoder.decodeString(null);
+        UByte _securityLevel = decoder.decodeByte(null);
+
+        return new EndpointDescription(_endpointUrl, _server, _serverCertificate, _securityMode, _securityPolicyUri, _userIdentityTokens, _transportProfileUri, _securityLevel);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(EndpointDescriptionBinaryCodec::encode, EndpointDescription.class, EndpointDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(EndpointDescriptionBinaryCodec::decode, EndpointDescription.class, EndpointDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(EndpointDescriptionBinaryCodec::encodedSize, EndpointDescription.class, EndpointDescription.BinaryEncodingId);
+    }
+
+}
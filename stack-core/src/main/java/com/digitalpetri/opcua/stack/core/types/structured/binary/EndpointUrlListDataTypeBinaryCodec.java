@@ -0,0 +1,52 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.EndpointUrlListDataType;
+
+public class EndpointUrlListDataTypeBinaryCodec {
+
+    public static void encode(EndpointUrlListDataType endpointUrlListDataType, BinaryEncoder encoder) {
+        String[] _endpointUrlList = endpointUrlListDataType.getEndpointUrlList();
+        encoder.writeArrayLength(_endpointUrlList);
+        if (_endpointUrlList != null) {
+            for (String e : _endpointUrlList) {
+                encoder.encodeString(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(EndpointUrlListDataType endpointUrlListDataType, BinarySizeEncoder sizer) {
+        String[] _endpointUrlList = endpointUrlListDataType.getEndpointUrlList();
+        sizer.addSize(4);
+        if (_endpointUrlList != null) {
+            for (String e : _endpointUrlList) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+    }
+
+    public static EndpointUrlListDataType decode(BinaryDecoder decoder) {
+        String[] _endpointUrlList;
+        if (decoder.isArrayStreamed("EndpointUrlList", String.class)) {
+            _endpointUrlList = decoder.decodeArray("EndpointUrlList", decoder::decodeString, String.class);
+        } else {
+            _endpointUrlList = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _endpointUrlList.length; i++) {
+                _endpointUrlList[i] = decoder.decodeString(null);
+            }
+        }
+
+        return new EndpointUrlListDataType(_endpointUrlList);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(EndpointUrlListDataTypeBinaryCodec::encode, EndpointUrlListDataType.class, EndpointUrlListDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(EndpointUrlListDataTypeBinaryCodec::decode, EndpointUrlListDataType.class, EndpointUrlListDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(EndpointUrlListDataTypeBinaryCodec::encodedSize, EndpointUrlListDataType.class, EndpointUrlListDataType.BinaryEncodingId);
+    }
+
+}
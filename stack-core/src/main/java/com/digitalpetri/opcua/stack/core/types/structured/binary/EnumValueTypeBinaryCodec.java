@@ -0,0 +1,38 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.structured.EnumValueType;
+
+public class EnumValueTypeBinaryCodec {
+
+    public static void encode(EnumValueType enumValueType, BinaryEncoder encoder) {
+        encoder.encodeInt64(null, enumValueType.getValue());
+        encoder.encodeLocalizedText(null, enumValueType.getDisplayName());
+        encoder.encodeLocalizedText(null, enumValueType.getDescription());
+    }
+
+    public static void encodedSize(EnumValueType enumValueType, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+        sizer.encodeLocalizedText(null, enumValueType.getDisplayName());
+        sizer.encodeLocalizedText(null, enumValueType.getDescription());
+    }
+
+    public static EnumValueType decode(BinaryDecoder decoder) {
+        Long _value = decoder.decodeInt64(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+
+        return new EnumValueType(_value, _displayName, _description);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(EnumValueTypeBinaryCodec::encode, EnumValueType.class, EnumValueType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(EnumValueTypeBinaryCodec::decode, EnumValueType.class, EnumValueType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(EnumValueTypeBinaryCodec::encodedSize, EnumValueType.class, EnumValueType.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.EventFieldList;
+
+public class EventFieldListBinaryCodec {
+
+    public static void encode(EventFieldList eventFieldList, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, eventFieldList.getClientHandle());
+        Variant[] _eventFields = eventFieldList.getEventFields();
+        encoder.writeArrayLength(_eventFields);
+        if (_eventFields != null) {
+            for (Variant e : _eventFields) {
+                encoder.encodeVariant(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(EventFieldList eventFieldList, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        Variant[] _eventFields = eventFieldList.getEventFields();
+        sizer.addSize(4);
+        if (_eventFields != null) {
+            for (Variant e : _eventFields) {
+                sizer.checkLimit();
+                sizer.encodeVariant(null, e);
+            }
+        }
+    }
+
+    public static EventFieldList decode(BinaryDecoder decoder) {
+        UInteger _clientHandle = decoder.decodeUInt32(null);
+        Variant[] _eventFields;
+        if (decoder.isArrayStreamed("EventFields", Variant.class)) {
+            _eventFields = decoder.decodeArray("EventFields", decoder::decodeVariant, Variant.class);
+        } else {
+            _eventFields = new Variant[decoder.readArrayLength()];
+            for (int i = 0; i < _eventFields.length; i++) {
+                _eventFields[i] = decoder.decodeVariant(null);
+            }
+        }
+
+        return new EventFieldList(_clientHandle, _eventFields);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(EventFieldListBinaryCodec::encode, EventFieldList.class, EventFieldList.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(EventFieldListBinaryCodec::decode, EventFieldList.class, EventFieldList.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(EventFieldListBinaryCodec::encodedSize, EventFieldList.class, EventFieldList.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.EventFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.SimpleAttributeOperand;
+
+public class EventFilterBinaryCodec {
+
+    public static void encode(EventFilter eventFilter, BinaryEncoder encoder) {
+        SimpleAttributeOperand[] _selectClauses = eventFilter.getSelectClauses();
+        encoder.writeArrayLength(_selectClauses);
+        if (_selectClauses != null) {
+            for (SimpleAttributeOperand e : _selectClauses) {
+                if (e.getClass() == SimpleAttributeOperand.class) {
+                    SimpleAttributeOperandBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        ContentFilter _whereClause = eventFilter.getWhereClause();
+        if (_whereClause == null) {
+            ContentFilterBinaryCodec.encode(new ContentFilter(), encoder);
+        } else if (_whereClause.getClass() == ContentFilter.class) {
+            ContentFilterBinaryCodec.encode(_whereClause, encoder);
+        } else {
+            encoder.encodeSerializable(null, _whereClause);
+        }
+    }
+
+    public static void encodedSize(EventFilter eventFilter, BinarySizeEncoder sizer) {
+        SimpleAttributeOperand[] _selectClauses = eventFilter.getSelectClauses();
+        sizer.addSize(4);
+        if (_selectClauses != null) {
+            for (SimpleAttributeOperand e : _selectClauses) {
+                sizer.checkLimit();
+                if (e.getClass() == SimpleAttributeOperand.class) {
+                    SimpleAttributeOperandBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        ContentFilter _whereClause = eventFilter.getWhereClause();
+        if (_whereClause == null) {
+            ContentFilterBinaryCodec.encodedSize(new ContentFilter(), sizer);
+        } else if (_whereClause.getClass() == ContentFilter.class) {
+            ContentFilterBinaryCodec.encodedSize(_whereClause, sizer);
+        } else {
+            sizer.encodeSerializable(null, _whereClause);
+        }
+    }
+
+    public static EventFilter decode(BinaryDecoder decoder) {
+        SimpleAttributeOperand[] _selectClauses;
+        if (decoder.isArrayStreamed("SelectClauses", SimpleAttributeOperand.class)) {
+            _selectClauses = decoder.decodeArray("SelectClauses", decoder::decodeSerializable, SimpleAttributeOperand.class);
+        } else {
+            _selectClauses = new SimpleAttributeOperand[decoder.readArrayLength()];
+            for (int i = 0; i < _selectClauses.length; i++) {
+                _selectClauses[i] = SimpleAttributeOperandBinaryCodec.decode(decoder);
+            }
+        }
+        ContentFilter _whereClause = ContentFilterBinaryCodec.decode(decoder);
+
+        return new EventFilter(_selectClauses, _whereClause);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(EventFilterBinaryCodec::encode, EventFilter.class, EventFilter.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(EventFilterBinaryCodec::decode, EventFilter.class, EventFilter.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(EventFilterBinaryCodec::encodedSize, EventFilter.class, EventFilter.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilterResult;
+import com.digitalpetri.opcua.stack.core.types.structured.EventFilterResult;
+
+public class EventFilterResultBinaryCodec {
+
+    public static void encode(EventFilterResult eventFilterResult, BinaryEncoder encoder) {
+        StatusCode[] _selectClauseResults = eventFilterResult.getSelectClauseResults();
+        encoder.writeArrayLength(_selectClauseResults);
+        if (_selectClauseResults != null) {
+            for (StatusCode e : _selectClauseResults) {
+                encoder.encodeStatusCode(null, e);
+            }
+        }
+        DiagnosticInfo[] _selectClauseDiagnosticInfos = eventFilterResult.getSelectClauseDiagnosticInfos();
+        encoder.writeArrayLength(_selectClauseDiagnosticInfos);
+        if (_selectClauseDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _selectClauseDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+        ContentFilterResult _whereClauseResult = eventFilterResult.getWhereClauseResult();
+        if (_whereClauseResult == null) {
+            ContentFilterResultBinaryCodec.encode(new ContentFilterResult(), encoder);
+        } else if (_whereClauseResult.getClass() == ContentFilterResult.class) {
+            ContentFilterResultBinaryCodec.encode(_whereClauseResult, encoder);
+        } else {
+            encoder.encodeSerializable(null, _whereClauseResult);
+        }
+    }
+
+    public static void encodedSize(EventFilterResult eventFilterResult, BinarySizeEncoder sizer) {
+        sizer.addArraySize(eventFilterResult.getSelectClauseResults(), 4);
+        DiagnosticInfo[] _selectClauseDiagnosticInfos = eventFilterResult.getSelectClauseDiagnosticInfos();
+        sizer.addSize(4);
+        if (_selectClauseDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _selectClauseDiagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+        ContentFilterResult _whereClauseResult = eventFilterResult.getWhereClauseResult();
+        if (_whereClauseResult == null) {
+            ContentFilterResultBinaryCodec.encodedSize(new ContentFilterResult(), sizer);
+        } else if (_whereClauseResult.getClass() == ContentFilterResult.class) {
+            ContentFilterResultBinaryCodec.encodedSize(_whereClauseResult, sizer);
+        } else {
+            sizer.encodeSerializable(null, _whereClauseResult);
+        }
+    }
+
+    public static EventFilterResult decode(BinaryDecoder decoder) {
+        StatusCode[] _selectClauseResults;
+        if (decoder.isArrayStreamed("SelectClauseResults", StatusCode.class)) {
+            _selectClauseResults = decoder.decodeArray("SelectClauseResults", decoder::decodeStatusCode, StatusCode.class);
+        } else {
+            _selectClauseResults = new StatusCode[decoder.readArrayLength()];
+            for (int i = 0; i < _selectClauseResults.length; i++) {
+                _selectClauseResults[i] = decoder.decodeStatusCode(null);
+            }
+        }
+        DiagnosticInfo[] _selectClauseDiagnosticInfos;
+        if (decoder.isArrayStreamed("SelectClauseDiagnosticInfos", DiagnosticInfo.class)) {
+            _selectClauseDiagnosticInfos = decoder.decodeArray("SelectClauseDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _selectClauseDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _selectClauseDiagnosticInfos.length; i++) {
+                _selectClauseDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+        ContentFilterResult _whereClauseResult = ContentFilterResultBinaryCodec.decode(decoder);
+
+        return new EventFilterResult(_selectClauseResults, _selectClauseDiagnosticInfos, _whereClauseResult);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(EventFilterResultBinaryCodec::encode, EventFilterResult.class, EventFilterResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(EventFilterResultBinaryCodec::decode, EventFilterResult.class, EventFilterResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(EventFilterResultBinaryCodec::encodedSize, EventFilterResult.class, EventFilterResult.BinaryEncodingId);
+    }
+
+}
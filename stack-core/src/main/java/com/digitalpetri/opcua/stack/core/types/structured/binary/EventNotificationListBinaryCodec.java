@@ -0,0 +1,61 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.EventFieldList;
+import com.digitalpetri.opcua.stack.core.types.structured.EventNotificationList;
+
+public class EventNotificationListBinaryCodec {
+
+    public static void encode(EventNotificationList eventNotificationList, BinaryEncoder encoder) {
+        EventFieldList[] _events = eventNotificationList.getEvents();
+        encoder.writeArrayLength(_events);
+        if (_events != null) {
+            for (EventFieldList e : _events) {
+                if (e.getClass() == EventFieldList.class) {
+                    EventFieldListBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(EventNotificationList eventNotificationList, BinarySizeEncoder sizer) {
+        EventFieldList[] _events = eventNotificationList.getEvents();
+        sizer.addSize(4);
+        if (_events != null) {
+            for (EventFieldList e : _events) {
+                sizer.checkLimit();
+                if (e.getClass() == EventFieldList.class) {
+                    EventFieldListBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static EventNotificationList decode(BinaryDecoder decoder) {
+        EventFieldList[] _events;
+        if (decoder.isArrayStreamed("Events", EventFieldList.class)) {
+            _events = decoder.decodeArray("Events", decoder::decodeSerializable, EventFieldList.class);
+        } else {
+            _events = new EventFieldList[decoder.readArrayLength()];
+            for (int i = 0; i < _events.length; i++) {
+                _events[i] = EventFieldListBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new EventNotificationList(_events);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(EventNotificationListBinaryCodec::encode, EventNotificationList.class, EventNotificationList.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(EventNotificationListBinaryCodec::decode, EventNotificationList.class, EventNotificationList.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(EventNotificationListBinaryCodec::encodedSize, EventNotificationList.class, EventNotificationList.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.FilterOperand;
+
+public class FilterOperandBinaryCodec {
+
+    public static void encode(FilterOperand filterOperand, BinaryEncoder encoder) {
+    }
+
+    public static void encodedSize(FilterOperand filterOperand, BinarySizeEncoder sizer) {
+    }
+
+    public static FilterOperand decode(BinaryDecoder decoder) {
+
+        return new FilterOperand();
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(FilterOperandBinaryCodec::encode, FilterOperand.class, FilterOperand.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(FilterOperandBinaryCodec::decode, FilterOperand.class, FilterOperand.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(FilterOperandBinaryCodec::encodedSize, FilterOperand.class, FilterOperand.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.FindServersRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class FindServersRequestBinaryCodec {
+
+    public static void encode(FindServersRequest findServersRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = findServersRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeString(null, findServersRequest.getEndpointUrl());
+        String[] _localeIds = findServersRequest.getLocaleIds();
+        encoder.writeArrayLength(_localeIds);
+        if (_localeIds != null) {
+            for (String e : _localeIds) {
+                encoder.encodeString(null, e);
+            }
+        }
+        String[] _serverUris = findServersRequest.getServerUris();
+        encoder.writeArrayLength(_serverUris);
+        if (_serverUris != null) {
+            for (String e : _serverUris) {
+                encoder.encodeString(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(FindServersRequest findServersRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = findServersRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        sizer.encodeString(null, findServersRequest.getEndpointUrl());
+        String[] _localeIds = findServersRequest.getLocaleIds();
+        sizer.addSize(4);
+        if (_localeIds != null) {
+            for (String e : _localeIds) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+        String[] _serverUris = findServersRequest.getServerUris();
+        sizer.addSize(4);
+        if (_serverUris != null) {
+            for (String e : _serverUris) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+    }
+
+    public static FindServersRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        String _endpointUrl = decoder.decodeString(null);
+        String[] _localeIds;
+        if (decoder.isArrayStreamed("LocaleIds", String.class)) {
+            _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String.class);
+        } else {
+            _localeIds = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _localeIds.length; i++) {
+                _localeIds[i] = decoder.decodeString(null);
+            }
+        }
+        String[] _serverUris;
+        if (decoder.isArrayStreamed("ServerUris", String.class)) {
+            _serverUris = decoder.decodeArray("ServerUris", decoder::decodeString, String.class);
+        } else {
+            _serverUris = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _serverUris.length; i++) {
+                _serverUris[i] = decoder.decodeString(null);
+            }
+        }
+
+        return new FindServersRequest(_requestHeader, _endpointUrl, _localeIds, _serverUris);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(FindServersRequestBinaryCodec::encode, FindServersRequest.class, FindServersRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(FindServersRequestBinaryCodec::decode, FindServersRequest.class, FindServersRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(FindServersRequestBinaryCodec::encodedSize, FindServersRequest.class, FindServersRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.ApplicationDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.FindServersResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class FindServersResponseBinaryCodec {
+
+    public static void encode(FindServersResponse findServersResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = findServersResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        ApplicationDescription[] _servers = findServersResponse.getServers();
+        encoder.writeArrayLength(_servers);
+        if (_servers != null) {
+            for (ApplicationDescription e : _servers) {
+                if (e.getClass() == ApplicationDescription.class) {
+                    ApplicationDescriptionBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(FindServersResponse findServersResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = findServersResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        ApplicationDescription[] _servers = findServersResponse.getServers();
+        sizer.addSize(4);
+        if (_servers != null) {
+            for (ApplicationDescription e : _servers) {
+                sizer.checkLimit();
+                if (e.getClass() == ApplicationDescription.class) {
+                    ApplicationDescriptionBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static FindServersResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        ApplicationDescription[] _servers;
+        if (decoder.isArrayStreamed("Servers", ApplicationDescription.class)) {
+            _servers = decoder.decodeArray("Servers", decoder::decodeSerializable, ApplicationDescription.class);
+        } else {
+            _servers = new ApplicationDescription[decoder.readArrayLength()];
+            for (int i = 0; i < _servers.length; i++) {
+                _servers[i] = ApplicationDescriptionBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new FindServersResponse(_responseHeader, _servers);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(FindServersResponseBinaryCodec::encode, FindServersResponse.class, FindServersResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(FindServersResponseBinaryCodec::decode, FindServersResponse.class, FindServersResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(FindServersResponseBinaryCodec::encodedSize, FindServersResponse.class, FindServersResponse.BinaryEncodingId);
+    }
+
+}
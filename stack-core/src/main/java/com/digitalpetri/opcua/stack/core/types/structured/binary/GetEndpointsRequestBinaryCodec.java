@@ -0,0 +1,97 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.GetEndpointsRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class GetEndpointsRequestBinaryCodec {
+
+    public static void encode(GetEndpointsRequest getEndpointsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = getEndpointsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeString(null, getEndpointsRequest.getEndpointUrl());
+        String[] _localeIds = getEndpointsRequest.getLocaleIds();
+        encoder.writeArrayLength(_localeIds);
+        if (_localeIds != null) {
+            for (String e : _localeIds) {
+                encoder.encodeString(null, e);
+            }
+        }
+        String[] _profileUris = getEndpointsRequest.getProfileUris();
+        encoder.writeArrayLength(_profileUris);
+        if (_profileUris != null) {
+            for (String e : _profileUris) {
+                encoder.encodeString(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(GetEndpointsRequest getEndpointsRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = getEndpointsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        sizer.encodeString(null, getEndpointsRequest.getEndpointUrl());
+        String[] _localeIds = getEndpointsRequest.getLocaleIds();
+        sizer.addSize(4);
+        if (_localeIds != null) {
+            for (String e : _localeIds) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+        String[] _profileUris = getEndpointsRequest.getProfileUris();
+        sizer.addSize(4);
+        if (_profileUris != null) {
+            for (String e : _profileUris) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+    }
+
+    public static GetEndpointsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        String _endpointUrl = decoder.decodeString(null);
+        String[] _localeIds;
+        if (decoder.isArrayStreamed("LocaleIds", String.class)) {
+            _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String.class);
+        } else {
+            _localeIds = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _localeIds.length; i++) {
+                _localeIds[i] = decoder.decodeString(null);
+            }
+        }
+        String[] _profileUris;
+        if (decoder.isArrayStreamed("ProfileUris", String.class)) {
+            _profileUris = decoder.decodeArray("ProfileUris", decoder::decodeString, String.class);
+        } else {
+            _profileUris = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _profileUris.length; i++) {
+                _profileUris[i] = decoder.decodeString(null);
+            }
+        }
+
+        return new GetEndpointsRequest(_requestHeader, _endpointUrl, _localeIds, _profileUris);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(GetEndpointsRequestBinaryCodec::encode, GetEndpointsRequest.class, GetEndpointsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(GetEndpointsRequestBinaryCodec::decode, GetEndpointsRequest.class, GetEndpointsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(GetEndpointsRequestBinaryCodec::encodedSize, GetEndpointsRequest.class, GetEndpointsRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.EndpointDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.GetEndpointsResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class GetEndpointsResponseBinaryCodec {
+
+    public static void encode(GetEndpointsResponse getEndpointsResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = getEndpointsResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        EndpointDescription[] _endpoints = getEndpointsResponse.getEndpoints();
+        encoder.writeArrayLength(_endpoints);
+        if (_endpoints != null) {
+            for (EndpointDescription e : _endpoints) {
+                if (e.getClass() == EndpointDescription.class) {
+                    EndpointDescriptionBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(GetEndpointsResponse getEndpointsResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = getEndpointsResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        EndpointDescription[] _endpoints = getEndpointsResponse.getEndpoints();
+        sizer.addSize(4);
+        if (_endpoints != null) {
+            for (EndpointDescription e : _endpoints) {
+                sizer.checkLimit();
+                if (e.getClass() == EndpointDescription.class) {
+                    EndpointDescriptionBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static GetEndpointsResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        EndpointDescription[] _endpoints;
+        if (decoder.isArrayStreamed("Endpoints", EndpointDescription.class)) {
+            _endpoints = decoder.decodeArray("Endpoints", decoder::decodeSerializable, EndpointDescription.class);
+        } else {
+            _endpoints = new EndpointDescription[decoder.readArrayLength()];
+            for (int i = 0; i < _endpoints.length; i++) {
+                _endpoints[i] = EndpointDescriptionBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new GetEndpointsResponse(_responseHeader, _endpoints);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(GetEndpointsResponseBinaryCodec::encode, GetEndpointsResponse.class, GetEndpointsResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(GetEndpointsResponseBinaryCodec::decode, GetEndpointsResponse.class, GetEndpointsResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(GetEndpointsResponseBinaryCodec::encodedSize, GetEndpointsResponse.class, GetEndpointsResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryData;
+
+public class HistoryDataBinaryCodec {
+
+    public static void encode(HistoryData historyData, BinaryEncoder encoder) {
+        DataValue[] _dataValues = historyData.getDataValues();
+        encoder.writeArrayLength(_dataValues);
+        if (_dataValues != null) {
+            for (DataValue e : _dataValues) {
+                encoder.encodeDataValue(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(HistoryData historyData, BinarySizeEncoder sizer) {
+        DataValue[] _dataValues = historyData.getDataValues();
+        sizer.addSize(4);
+        if (_dataValues != null) {
+            for (DataValue e : _dataValues) {
+                sizer.checkLimit();
+                sizer.encodeDataValue(null, e);
+            }
+        }
+    }
+
+    public static HistoryData decode(BinaryDecoder decoder) {
+        DataValue[] _dataValues;
+        if (decoder.isArrayStreamed("DataValues", DataValue.class)) {
+            _dataValues = decoder.decodeArray("DataValues", decoder::decodeDataValue, DataValue.class);
+        } else {
+            _dataValues = new DataValue[decoder.readArrayLength()];
+            for (int i = 0; i < _dataValues.length; i++) {
+                _dataValues[i] = decoder.decodeDataValue(null);
+            }
+        }
+
+        return new HistoryData(_dataValues);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryDataBinaryCodec::encode, HistoryData.class, HistoryData.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryDataBinaryCodec::decode, HistoryData.class, HistoryData.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryDataBinaryCodec::encodedSize, HistoryData.class, HistoryData.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryEvent;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryEventFieldList;
+
+public class HistoryEventBinaryCodec {
+
+    public static void encode(HistoryEvent historyEvent, BinaryEncoder encoder) {
+        HistoryEventFieldList[] _events = historyEvent.getEvents();
+        encoder.writeArrayLength(_events);
+        if (_events != null) {
+            for (HistoryEventFieldList e : _events) {
+                if (e.getClass() == HistoryEventFieldList.class) {
+                    HistoryEventFieldListBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(HistoryEvent historyEvent, BinarySizeEncoder sizer) {
+        HistoryEventFieldList[] _events = historyEvent.getEvents();
+        sizer.addSize(4);
+        if (_events != null) {
+            for (HistoryEventFieldList e : _events) {
+                sizer.checkLimit();
+                if (e.getClass() == HistoryEventFieldList.class) {
+                    HistoryEventFieldListBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static HistoryEvent decode(BinaryDecoder decoder) {
+        HistoryEventFieldList[] _events;
+        if (decoder.isArrayStreamed("Events", HistoryEventFieldList.class)) {
+            _events = decoder.decodeArray("Events", decoder::decodeSerializable, HistoryEventFieldList.class);
+        } else {
+            _events = new HistoryEventFieldList[decoder.readArrayLength()];
+            for (int i = 0; i < _events.length; i++) {
+                _events[i] = HistoryEventFieldListBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new HistoryEvent(_events);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryEventBinaryCodec::encode, HistoryEvent.class, HistoryEvent.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryEventBinaryCodec::decode, HistoryEvent.class, HistoryEvent.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryEventBinaryCodec::encodedSize, HistoryEvent.class, HistoryEvent.BinaryEncodingId);
+    }
+
+}
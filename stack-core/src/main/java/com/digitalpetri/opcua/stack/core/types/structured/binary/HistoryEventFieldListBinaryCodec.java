@@ -0,0 +1,53 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryEventFieldList;
+
+public class HistoryEventFieldListBinaryCodec {
+
+    public static void encode(HistoryEventFieldList historyEventFieldList, BinaryEncoder encoder) {
+        Variant[] _eventFields = historyEventFieldList.getEventFields();
+        encoder.writeArrayLength(_eventFields);
+        if (_eventFields != null) {
+            for (Variant e : _eventFields) {
+                encoder.encodeVariant(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(HistoryEventFieldList historyEventFieldList, BinarySizeEncoder sizer) {
+        Variant[] _eventFields = historyEventFieldList.getEventFields();
+        sizer.addSize(4);
+        if (_eventFields != null) {
+            for (Variant e : _eventFields) {
+                sizer.checkLimit();
+                sizer.encodeVariant(null, e);
+            }
+        }
+    }
+
+    public static HistoryEventFieldList decode(BinaryDecoder decoder) {
+        Variant[] _eventFields;
+        if (decoder.isArrayStreamed("EventFields", Variant.class)) {
+            _eventFields = decoder.decodeArray("EventFields", decoder::decodeVariant, Variant.class);
+        } else {
+            _eventFields = new Variant[decoder.readArrayLength()];
+            for (int i = 0; i < _eventFields.length; i++) {
+                _eventFields[i] = decoder.decodeVariant(null);
+            }
+        }
+
+        return new HistoryEventFieldList(_eventFields);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryEventFieldListBinaryCodec::encode, HistoryEventFieldList.class, HistoryEventFieldList.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryEventFieldListBinaryCodec::decode, HistoryEventFieldList.class, HistoryEventFieldList.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryEventFieldListBinaryCodec::encodedSize, HistoryEventFieldList.class, HistoryEventFieldList.BinaryEncodingId);
+    }
+
+}
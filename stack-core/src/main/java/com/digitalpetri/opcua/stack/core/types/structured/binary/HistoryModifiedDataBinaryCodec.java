@@ -0,0 +1,86 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryModifiedData;
+import com.digitalpetri.opcua.stack.core.types.structured.ModificationInfo;
+
+public class HistoryModifiedDataBinaryCodec {
+
+    public static void encode(HistoryModifiedData historyModifiedData, BinaryEncoder encoder) {
+        DataValue[] _dataValues = historyModifiedData.getDataValues();
+        encoder.writeArrayLength(_dataValues);
+        if (_dataValues != null) {
+            for (DataValue e : _dataValues) {
+                encoder.encodeDataValue(null, e);
+            }
+        }
+        ModificationInfo[] _modificationInfos = historyModifiedData.getModificationInfos();
+        encoder.writeArrayLength(_modificationInfos);
+        if (_modificationInfos != null) {
+            for (ModificationInfo e : _modificationInfos) {
+                if (e.getClass() == ModificationInfo.class) {
+                    ModificationInfoBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(HistoryModifiedData historyModifiedData, BinarySizeEncoder sizer) {
+        DataValue[] _dataValues = historyModifiedData.getDataValues();
+        sizer.addSize(4);
+        if (_dataValues != null) {
+            for (DataValue e : _dataValues) {
+                sizer.checkLimit();
+                sizer.encodeDataValue(null, e);
+            }
+        }
+        ModificationInfo[] _modificationInfos = historyModifiedData.getModificationInfos();
+        sizer.addSize(4);
+        if (_modificationInfos != null) {
+            for (ModificationInfo e : _modificationInfos) {
+                sizer.checkLimit();
+                if (e.getClass() == ModificationInfo.class) {
+                    ModificationInfoBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static HistoryModifiedData decode(BinaryDecoder decoder) {
+        DataValue[] _dataValues;
+        if (decoder.isArrayStreamed("DataValues", DataValue.class)) {
+            _dataValues = decoder.decodeArray("DataValues", decoder::decodeDataValue, DataValue.class);
+        } else {
+            _dataValues = new DataValue[decoder.readArrayLength()];
+            for (int i = 0; i < _dataValues.length; i++) {
+                _dataValues[i] = decoder.decodeDataValue(null);
+            }
+        }
+        ModificationInfo[] _modificationInfos;
+        if (decoder.isArrayStreamed("ModificationInfos", ModificationInfo.class)) {
+            _modificationInfos = decoder.decodeArray("ModificationInfos", decoder::decodeSerializable, ModificationInfo.class);
+        } else {
+            _modificationInfos = new ModificationInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _modificationInfos.length; i++) {
+                _modificationInfos[i] = ModificationInfoBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new HistoryModifiedData(_dataValues, _modificationInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryModifiedDataBinaryCodec::encode, HistoryModifiedData.class, HistoryModifiedData.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryModifiedDataBinaryCodec::decode, HistoryModifiedData.class, HistoryModifiedData.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryModifiedDataBinaryCodec::encodedSize, HistoryModifiedData.class, HistoryModifiedData.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadDetails;
+
+public class HistoryReadDetailsBinaryCodec {
+
+    public static void encode(HistoryReadDetails historyReadDetails, BinaryEncoder encoder) {
+    }
+
+    public static void encodedSize(HistoryReadDetails historyReadDetails, BinarySizeEncoder sizer) {
+    }
+
+    public static HistoryReadDetails decode(BinaryDecoder decoder) {
+
+        return new HistoryReadDetails();
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryReadDetailsBinaryCodec::encode, HistoryReadDetails.class, HistoryReadDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryReadDetailsBinaryCodec::decode, HistoryReadDetails.class, HistoryReadDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryReadDetailsBinaryCodec::encodedSize, HistoryReadDetails.class, HistoryReadDetails.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class HistoryReadRequestBinaryCodec {
+
+    public static void encode(HistoryReadRequest historyReadRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = historyReadRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeExtensionObject(null, historyReadRequest.getHistoryReadDetails());
+        TimestampsToReturn _timestampsToReturn = historyReadRequest.getTimestampsToReturn();
+        encoder.writeInt32(null, _timestampsToReturn != null ? _timestampsToReturn.getValue() : -1);
+        encoder.encodeBoolean(null, historyReadRequest.getReleaseContinuationPoints());
+        HistoryReadValueId[] _nodesToRead = historyReadRequest.getNodesToRead();
+        encoder.writeArrayLength(_nodesToRead);
+        if (_nodesToRead != null) {
+            for (HistoryReadValueId e : _nodesToRead) {
+                if (e.getClass() == HistoryReadValueId.class) {
+                    HistoryReadValueIdBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(HistoryReadRequest historyReadRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(5);
+        RequestHeader _requestHeader = historyReadRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        sizer.encodeExtensionObject(null, historyReadRequest.getHistoryReadDetails());
+        HistoryReadValueId[] _nodesToRead = historyReadRequest.getNodesToRead();
+        sizer.addSize(4);
+        if (_nodesToRead != null) {
+            for (HistoryReadValueId e : _nodesToRead) {
+                sizer.checkLimit();
+                if (e.getClass() == HistoryReadValueId.class) {
+                    HistoryReadValueIdBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static HistoryReadRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        ExtensionObject _historyReadDetails = decoder.decodeExtensionObject(null);
+        TimestampsToReturn _timestampsToReturn = TimestampsToReturn.decode(decoder);
+        Boolean _releaseContinuationPoints = decoder.decodeBoolean(null);
+        HistoryReadValueId[] _nodesToRead;
+        if (decoder.isArrayStreamed("NodesToRead", HistoryReadValueId.class)) {
+            _nodesToRead = decoder.decodeArray("NodesToRead", decoder::decodeSerializable, HistoryReadValueId.class);
+        } else {
+            _nodesToRead = new HistoryReadValueId[decoder.readArrayLength()];
+            for (int i = 0; i < _nodesToRead.length; i++) {
+                _nodesToRead[i] = HistoryReadValueIdBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new HistoryReadRequest(_requestHeader, _historyReadDetails, _timestampsToReturn, _releaseContinuationPoints, _nodesToRead);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryReadRequestBinaryCodec::encode, HistoryReadRequest.class, HistoryReadRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryReadRequestBinaryCodec::decode, HistoryReadRequest.class, HistoryReadRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryReadRequestBinaryCodec::encodedSize, HistoryReadRequest.class, HistoryReadRequest.BinaryEncodingId);
+    }
+
+}
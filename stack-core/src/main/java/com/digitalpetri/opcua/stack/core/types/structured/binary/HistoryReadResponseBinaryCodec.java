@@ -0,0 +1,104 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class HistoryReadResponseBinaryCodec {
+
+    public static void encode(HistoryReadResponse historyReadResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = historyReadResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        HistoryReadResult[] _results = historyReadResponse.getResults();
+        encoder.writeArrayLength(_results);
+        if (_results != null) {
+            for (HistoryReadResult e : _results) {
+                if (e.getClass() == HistoryReadResult.class) {
+                    HistoryReadResultBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = historyReadResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(HistoryReadResponse historyReadResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = historyReadResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        HistoryReadResult[] _results = historyReadResponse.getResults();
+        sizer.addSize(4);
+        if (_results != null) {
+            for (HistoryReadResult e : _results) {
+                sizer.checkLimit();
+                if (e.getClass() == HistoryReadResult.class) {
+                    HistoryReadResultBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = historyReadResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static HistoryReadResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        HistoryReadResult[] _results;
+        if (decoder.isArrayStreamed("Results", HistoryReadResult.class)) {
+            _results = decoder.decodeArray("Results", decoder::decodeSerializable, HistoryReadResult.class);
+        } else {
+            _results = new HistoryReadResult[decoder.readArrayLength()];
+            for (int i = 0; i < _results.length; i++) {
+                _results[i] = HistoryReadResultBinaryCodec.decode(decoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new HistoryReadResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryReadResponseBinaryCodec::encode, HistoryReadResponse.class, HistoryReadResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryReadResponseBinaryCodec::decode, HistoryReadResponse.class, HistoryReadResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryReadResponseBinaryCodec::encodedSize, HistoryReadResponse.class, HistoryReadResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResult;
+
+public class HistoryReadResultBinaryCodec {
+
+    public static void encode(HistoryReadResult historyReadResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, historyReadResult.getStatusCode());
+        encoder.encodeByteString(null, historyReadResult.getContinuationPoint());
+        encoder.encodeExtensionObject(null, historyReadResult.getHistoryData());
+    }
+
+    public static void encodedSize(HistoryReadResult historyReadResult, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeByteString(null, historyReadResult.getContinuationPoint());
+        sizer.encodeExtensionObject(null, historyReadResult.getHistoryData());
+    }
+
+    public static HistoryReadResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        ByteString _continuationPoint = decoder.decodeByteString(null);
+        ExtensionObject _historyData = decoder.decodeExtensionObject(null);
+
+        return new HistoryReadResult(_statusCode, _continuationPoint, _historyData);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryReadResultBinaryCodec::encode, HistoryReadResult.class, HistoryReadResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryReadResultBinaryCodec::decode, HistoryReadResult.class, HistoryReadResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryReadResultBinaryCodec::encodedSize, HistoryReadResult.class, HistoryReadResult.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadValueId;
+
+public class HistoryReadValueIdBinaryCodec {
+
+    public static void encode(HistoryReadValueId historyReadValueId, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, historyReadValueId.getNodeId());
+        encoder.encodeString(null, historyReadValueId.getIndexRange());
+        encoder.encodeQualifiedName(null, historyReadValueId.getDataEncoding());
+        encoder.encodeByteString(null, historyReadValueId.getContinuationPoint());
+    }
+
+    public static void encodedSize(HistoryReadValueId historyReadValueId, BinarySizeEncoder sizer) {
+        sizer.encodeNodeId(null, historyReadValueId.getNodeId());
+        sizer.encodeString(null, historyReadValueId.getIndexRange());
+        sizer.encodeQualifiedName(null, historyReadValueId.getDataEncoding());
+        sizer.encodeByteString(null, historyReadValueId.getContinuationPoint());
+    }
+
+    public static HistoryReadValueId decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        String _indexRange = decoder.decodeString(null);
+        QualifiedName _dataEncoding = decoder.decodeQualifiedName(null);
+        ByteString _continuationPoint = decoder.decodeByteString(null);
+
+        return new HistoryReadValueId(_nodeId, _indexRange, _dataEncoding, _continuationPoint);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryReadValueIdBinaryCodec::encode, HistoryReadValueId.class, HistoryReadValueId.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryReadValueIdBinaryCodec::decode, HistoryReadValueId.class, HistoryReadValueId.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryReadValueIdBinaryCodec::encodedSize, HistoryReadValueId.class, HistoryReadValueId.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryUpdateDetails;
+
+public class HistoryUpdateDetailsBinaryCodec {
+
+    public static void encode(HistoryUpdateDetails historyUpdateDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, historyUpdateDetails.getNodeId());
+    }
+
+    public static void encodedSize(HistoryUpdateDetails historyUpdateDetails, BinarySizeEncoder sizer) {
+        sizer.encodeNodeId(null, historyUpdateDetails.getNodeId());
+    }
+
+    public static HistoryUpdateDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+
+        return new HistoryUpdateDetails(_nodeId);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryUpdateDetailsBinaryCodec::encode, HistoryUpdateDetails.class, HistoryUpdateDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryUpdateDetailsBinaryCodec::decode, HistoryUpdateDetails.class, HistoryUpdateDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryUpdateDetailsBinaryCodec::encodedSize, HistoryUpdateDetails.class, HistoryUpdateDetails.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.EventFilterResult;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryUpdateEventResult;
+
+public class HistoryUpdateEventResultBinaryCodec {
+
+    public static void encode(HistoryUpdateEventResult historyUpdateEventResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, historyUpdateEventResult.getStatusCode());
+        EventFilterResult _eventFilterResult = historyUpdateEventResult.getEventFilterResult();
+        if (_eventFilterResult == null) {
+            EventFilterResultBinaryCodec.encode(new EventFilterResult(), encoder);
+        } else if (_eventFilterResult.getClass() == EventFilterResult.class) {
+            EventFilterResultBinaryCodec.encode(_eventFilterResult, encoder);
+        } else {
+            encoder.encodeSerializable(null, _eventFilterResult);
+        }
+    }
+
+    public static void encodedSize(HistoryUpdateEventResult historyUpdateEventResult, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        EventFilterResult _eventFilterResult = historyUpdateEventResult.getEventFilterResult();
+        if (_eventFilterResult == null) {
+            EventFilterResultBinaryCodec.encodedSize(new EventFilterResult(), sizer);
+        } else if (_eventFilterResult.getClass() == EventFilterResult.class) {
+            EventFilterResultBinaryCodec.encodedSize(_eventFilterResult, sizer);
+        } else {
+            sizer.encodeSerializable(null, _eventFilterResult);
+        }
+    }
+
+    public static HistoryUpdateEventResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        EventFilterResult _eventFilterResult = EventFilterResultBinaryCodec.decode(decoder);
+
+        return new HistoryUpdateEventResult(_statusCode, _eventFilterResult);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryUpdateEventResultBinaryCodec::encode, HistoryUpdateEventResult.class, HistoryUpdateEventResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryUpdateEventResultBinaryCodec::decode, HistoryUpdateEventResult.class, HistoryUpdateEventResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryUpdateEventResultBinaryCodec::encodedSize, HistoryUpdateEventResult.class, HistoryUpdateEventResult.BinaryEncodingId);
+    }
+
+}
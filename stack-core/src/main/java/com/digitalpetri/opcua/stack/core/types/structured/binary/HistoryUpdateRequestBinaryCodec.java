@@ -0,0 +1,71 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryUpdateRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class HistoryUpdateRequestBinaryCodec {
+
+    public static void encode(HistoryUpdateRequest historyUpdateRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = historyUpdateRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        ExtensionObject[] _historyUpdateDetails = historyUpdateRequest.getHistoryUpdateDetails();
+        encoder.writeArrayLength(_historyUpdateDetails);
+        if (_historyUpdateDetails != null) {
+            for (ExtensionObject e : _historyUpdateDetails) {
+                encoder.encodeExtensionObject(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(HistoryUpdateRequest historyUpdateRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = historyUpdateRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        ExtensionObject[] _historyUpdateDetails = historyUpdateRequest.getHistoryUpdateDetails();
+        sizer.addSize(4);
+        if (_historyUpdateDetails != null) {
+            for (ExtensionObject e : _historyUpdateDetails) {
+                sizer.checkLimit();
+                sizer.encodeExtensionObject(null, e);
+            }
+        }
+    }
+
+    public static HistoryUpdateRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        ExtensionObject[] _historyUpdateDetails;
+        if (decoder.isArrayStreamed("HistoryUpdateDetails", ExtensionObject.class)) {
+            _historyUpdateDetails = decoder.decodeArray("HistoryUpdateDetails", decoder::decodeExtensionObject, ExtensionObject.class);
+        } else {
+            _historyUpdateDetails = new ExtensionObject[decoder.readArrayLength()];
+            for (int i = 0; i < _historyUpdateDetails.length; i++) {
+                _historyUpdateDetails[i] = decoder.decodeExtensionObject(null);
+            }
+        }
+
+        return new HistoryUpdateRequest(_requestHeader, _historyUpdateDetails);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryUpdateRequestBinaryCodec::encode, HistoryUpdateRequest.class, HistoryUpdateRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryUpdateRequestBinaryCodec::decode, HistoryUpdateRequest.class, HistoryUpdateRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryUpdateRequestBinaryCodec::encodedSize, HistoryUpdateRequest.class, HistoryUpdateRequest.BinaryEncodingId);
+    }
+
+}
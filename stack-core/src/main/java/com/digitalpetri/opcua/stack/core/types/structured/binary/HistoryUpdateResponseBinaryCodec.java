@@ -0,0 +1,104 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryUpdateResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryUpdateResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class HistoryUpdateResponseBinaryCodec {
+
+    public static void encode(HistoryUpdateResponse historyUpdateResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = historyUpdateResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        HistoryUpdateResult[] _results = historyUpdateResponse.getResults();
+        encoder.writeArrayLength(_results);
+        if (_results != null) {
+            for (HistoryUpdateResult e : _results) {
+                if (e.getClass() == HistoryUpdateResult.class) {
+                    HistoryUpdateResultBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = historyUpdateResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(HistoryUpdateResponse historyUpdateResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = historyUpdateResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        HistoryUpdateResult[] _results = historyUpdateResponse.getResults();
+        sizer.addSize(4);
+        if (_results != null) {
+            for (HistoryUpdateResult e : _results) {
+                sizer.checkLimit();
+                if (e.getClass() == HistoryUpdateResult.class) {
+                    HistoryUpdateResultBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = historyUpdateResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static HistoryUpdateResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        HistoryUpdateResult[] _results;
+        if (decoder.isArrayStreamed("Results", HistoryUpdateResult.class)) {
+            _results = decoder.decodeArray("Results", decoder::decodeSerializable, HistoryUpdateResult.class);
+        } else {
+            _results = new HistoryUpdateResult[decoder.readArrayLength()];
+            for (int i = 0; i < _results.length; i++) {
+                _results[i] = HistoryUpdateResultBinaryCodec.decode(decoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new HistoryUpdateResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryUpdateResponseBinaryCodec::encode, HistoryUpdateResponse.class, HistoryUpdateResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryUpdateResponseBinaryCodec::decode, HistoryUpdateResponse.class, HistoryUpdateResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryUpdateResponseBinaryCodec::encodedSize, HistoryUpdateResponse.class, HistoryUpdateResponse.BinaryEncodingId);
+    }
+
+}
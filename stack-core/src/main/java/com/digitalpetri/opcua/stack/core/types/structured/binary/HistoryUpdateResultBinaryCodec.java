@@ -0,0 +1,74 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryUpdateResult;
+
+public class HistoryUpdateResultBinaryCodec {
+
+    public static void encode(HistoryUpdateResult historyUpdateResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, historyUpdateResult.getStatusCode());
+        StatusCode[] _operationResults = historyUpdateResult.getOperationResults();
+        encoder.writeArrayLength(_operationResults);
+        if (_operationResults != null) {
+            for (StatusCode e : _operationResults) {
+                encoder.encodeStatusCode(null, e);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = historyUpdateResult.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(HistoryUpdateResult historyUpdateResult, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.addArraySize(historyUpdateResult.getOperationResults(), 4);
+        DiagnosticInfo[] _diagnosticInfos = historyUpdateResult.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static HistoryUpdateResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        StatusCode[] _operationResults;
+        if (decoder.isArrayStreamed("OperationResults", StatusCode.class)) {
+            _operationResults = decoder.decodeArray("OperationResults", decoder::decodeStatusCode, StatusCode.class);
+        } else {
+            _operationResults = new StatusCode[decoder.readArrayLength()];
+            for (int i = 0; i < _operationResults.length; i++) {
+                _operationResults[i] = decoder.decodeStatusCode(null);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new HistoryUpdateResult(_statusCode, _operationResults, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(HistoryUpdateResultBinaryCodec::encode, HistoryUpdateResult.class, HistoryUpdateResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(HistoryUpdateResultBinaryCodec::decode, HistoryUpdateResult.class, HistoryUpdateResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(HistoryUpdateResultBinaryCodec::encodedSize, HistoryUpdateResult.class, HistoryUpdateResult.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.InstanceNode;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+
+public class InstanceNodeBinaryCodec {
+
+    public static void encode(InstanceNode instanceNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, instanceNode.getNodeId());
+        NodeClass _nodeClass = instanceNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, instanceNode.getBrowseName());
+        encoder.encodeLocalizedText(null, instanceNode.getDisplayName());
+        encoder.encodeLocalizedText(null, instanceNode.getDescription());
+        encoder.encodeUInt32(null, instanceNode.getWriteMask());
+        encoder.encodeUInt32(null, instanceNode.getUserWriteMask());
+        ReferenceNode[] _references = instanceNode.getReferences();
+        encoder.writeArrayLength(_references);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(InstanceNode instanceNode, BinarySizeEncoder sizer) {
+        sizer.addSize(12);
+        sizer.encodeNodeId(null, instanceNode.getNodeId());
+        sizer.encodeQualifiedName(null, instanceNode.getBrowseName());
+        sizer.encodeLocalizedText(null, instanceNode.getDisplayName());
+        sizer.encodeLocalizedText(null, instanceNode.getDescription());
+        ReferenceNode[] _references = instanceNode.getReferences();
+        sizer.addSize(4);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                sizer.checkLimit();
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static InstanceNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references;
+        if (decoder.isArrayStreamed("References", ReferenceNode.class)) {
+            _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        } else {
+            _references = new ReferenceNode[decoder.readArrayLength()];
+            for (int i = 0; i < _references.length; i++) {
+                _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new InstanceNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(InstanceNodeBinaryCodec::encode, InstanceNode.class, InstanceNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(InstanceNodeBinaryCodec::decode, InstanceNode.class, InstanceNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(InstanceNodeBinaryCodec::encodedSize, InstanceNode.class, InstanceNode.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.structured.IssuedIdentityToken;
+
+public class IssuedIdentityTokenBinaryCodec {
+
+    public static void encode(IssuedIdentityToken issuedIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString(null, issuedIdentityToken.getPolicyId());
+        encoder.encodeByteString(null, issuedIdentityToken.getTokenData());
+        encoder.encodeString(null, issuedIdentityToken.getEncryptionAlgorithm());
+    }
+
+    public static void encodedSize(IssuedIdentityToken issuedIdentityToken, BinarySizeEncoder sizer) {
+        sizer.encodeString(null, issuedIdentityToken.getPolicyId());
+        sizer.encodeByteString(null, issuedIdentityToken.getTokenData());
+        sizer.encodeString(null, issuedIdentityToken.getEncryptionAlgorithm());
+    }
+
+    public static IssuedIdentityToken decode(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString(null);
+        ByteString _tokenData = decoder.decodeByteString(null);
+        String _encryptionAlgorithm = decoder.decodeString(null);
+
+        return new IssuedIdentityToken(_policyId, _tokenData, _encryptionAlgorithm);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(IssuedIdentityTokenBinaryCodec::encode, IssuedIdentityToken.class, IssuedIdentityToken.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(IssuedIdentityTokenBinaryCodec::decode, IssuedIdentityToken.class, IssuedIdentityToken.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(IssuedIdentityTokenBinaryCodec::encodedSize, IssuedIdentityToken.class, IssuedIdentityToken.BinaryEncodingId);
+    }
+
+}
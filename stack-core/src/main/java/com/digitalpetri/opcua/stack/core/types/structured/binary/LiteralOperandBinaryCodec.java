@@ -0,0 +1,32 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.structured.LiteralOperand;
+
+public class LiteralOperandBinaryCodec {
+
+    public static void encode(LiteralOperand literalOperand, BinaryEncoder encoder) {
+        encoder.encodeVariant(null, literalOperand.getValue());
+    }
+
+    public static void encodedSize(LiteralOperand literalOperand, BinarySizeEncoder sizer) {
+        sizer.encodeVariant(null, literalOperand.getValue());
+    }
+
+    public static LiteralOperand decode(BinaryDecoder decoder) {
+        Variant _value = decoder.decodeVariant(null);
+
+        return new LiteralOperand(_value);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(LiteralOperandBinaryCodec::encode, LiteralOperand.class, LiteralOperand.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(LiteralOperandBinaryCodec::decode, LiteralOperand.class, LiteralOperand.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(LiteralOperandBinaryCodec::encodedSize, LiteralOperand.class, LiteralOperand.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.MethodAttributes;
+
+public class MethodAttributesBinaryCodec {
+
+    public static void encode(MethodAttributes methodAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, methodAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, methodAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, methodAttributes.getDescription());
+        encoder.encodeUInt32(null, methodAttributes.getWriteMask());
+        encoder.encodeUInt32(null, methodAttributes.getUserWriteMask());
+        encoder.encodeBoolean(null, methodAttributes.getExecutable());
+        encoder.encodeBoolean(null, methodAttributes.getUserExecutable());
+    }
+
+    public static void encodedSize(MethodAttributes methodAttributes, BinarySizeEncoder sizer) {
+        sizer.addSize(14);
+        sizer.encodeLocalizedText(null, methodAttributes.getDisplayName());
+        sizer.encodeLocalizedText(null, methodAttributes.getDescription());
+    }
+
+    public static MethodAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Boolean _executable = decoder.decodeBoolean(null);
+        Boolean _userExecutable = decoder.decodeBoolean(null);
+
+        return new MethodAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _executable, _userExecutable);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(MethodAttributesBinaryCodec::encode, MethodAttributes.class, MethodAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(MethodAttributesBinaryCodec::decode, MethodAttributes.class, MethodAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(MethodAttributesBinaryCodec::encodedSize, MethodAttributes.class, MethodAttributes.BinaryEncodingId);
+    }
+
+}
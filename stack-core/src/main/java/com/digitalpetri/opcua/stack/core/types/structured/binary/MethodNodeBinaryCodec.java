@@ -0,0 +1,90 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.MethodNode;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+
+public class MethodNodeBinaryCodec {
+
+    public static void encode(MethodNode methodNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, methodNode.getNodeId());
+        NodeClass _nodeClass = methodNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, methodNode.getBrowseName());
+        encoder.encodeLocalizedText(null, methodNode.getDisplayName());
+        encoder.encodeLocalizedText(null, methodNode.getDescription());
+        encoder.encodeUInt32(null, methodNode.getWriteMask());
+        encoder.encodeUInt32(null, methodNode.getUserWriteMask());
+        ReferenceNode[] _references = methodNode.getReferences();
+        encoder.writeArrayLength(_references);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        encoder.encodeBoolean(null, methodNode.getExecutable());
+        encoder.encodeBoolean(null, methodNode.getUserExecutable());
+    }
+
+    public static void encodedSize(MethodNode methodNode, BinarySizeEncoder sizer) {
+        sizer.addSize(14);
+        sizer.encodeNodeId(null, methodNode.getNodeId());
+        sizer.encodeQualifiedName(null, methodNode.getBrowseName());
+        sizer.encodeLocalizedText(null, methodNode.getDisplayName());
+        sizer.encodeLocalizedText(null, methodNode.getDescription());
+        ReferenceNode[] _references = methodNode.getReferences();
+        sizer.addSize(4);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                sizer.checkLimit();
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static MethodNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references;
+        if (decoder.isArrayStreamed("References", ReferenceNode.class)) {
+            _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        } else {
+            _references = new ReferenceNode[decoder.readArrayLength()];
+            for (int i = 0; i < _references.length; i++) {
+                _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+            }
+        }
+        Boolean _executable = decoder.decodeBoolean(null);
+        Boolean _userExecutable = decoder.decodeBoolean(null);
+
+        return new MethodNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _executable, _userExecutable);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(MethodNodeBinaryCodec::encode, MethodNode.class, MethodNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(MethodNodeBinaryCodec::decode, MethodNode.class, MethodNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(MethodNodeBinaryCodec::encodedSize, MethodNode.class, MethodNode.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.structured.ModelChangeStructureDataType;
+
+public class ModelChangeStructureDataTypeBinaryCodec {
+
+    public static void encode(ModelChangeStructureDataType modelChangeStructureDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, modelChangeStructureDataType.getAffected());
+        encoder.encodeNodeId(null, modelChangeStructureDataType.getAffectedType());
+        encoder.encodeByte(null, modelChangeStructureDataType.getVerb());
+    }
+
+    public static void encodedSize(ModelChangeStructureDataType modelChangeStructureDataType, BinarySizeEncoder sizer) {
+        sizer.addSize(1);
+        sizer.encodeNodeId(null, modelChangeStructureDataType.getAffected());
+        sizer.encodeNodeId(null, modelChangeStructureDataType.getAffectedType());
+    }
+
+    public static ModelChangeStructureDataType decode(BinaryDecoder decoder) {
+        NodeId _affected = decoder.decodeNodeId(null);
+        NodeId _affectedType = decoder.decodeNodeId(null);
+        UByte _verb = decoder.decodeByte(null);
+
+        return new ModelChangeStructureDataType(_affected, _affectedType, _verb);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ModelChangeStructureDataTypeBinaryCodec::encode, ModelChangeStructureDataType.class, ModelChangeStructureDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ModelChangeStructureDataTypeBinaryCodec::decode, ModelChangeStructureDataType.class, ModelChangeStructureDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ModelChangeStructureDataTypeBinaryCodec::encodedSize, ModelChangeStructureDataType.class, ModelChangeStructureDataType.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.enumerated.HistoryUpdateType;
+import com.digitalpetri.opcua.stack.core.types.structured.ModificationInfo;
+
+public class ModificationInfoBinaryCodec {
+
+    public static void encode(ModificationInfo modificationInfo, BinaryEncoder encoder) {
+        encoder.encodeDateTime(null, modificationInfo.getModificationTime());
+        HistoryUpdateType _updateType = modificationInfo.getUpdateType();
+        encoder.writeInt32(null, _updateType != null ? _updateType.getValue() : -1);
+        encoder.encodeString(null, modificationInfo.getUserName());
+    }
+
+    public static void encodedSize(ModificationInfo modificationInfo, BinarySizeEncoder sizer) {
+        sizer.addSize(12);
+        sizer.encodeString(null, modificationInfo.getUserName());
+    }
+
+    public static ModificationInfo decode(BinaryDecoder decoder) {
+        DateTime _modificationTime = decoder.decodeDateTime(null);
+        HistoryUpdateType _updateType = HistoryUpdateType.decode(decoder);
+        String _userName = decoder.decodeString(null);
+
+        return new ModificationInfo(_modificationTime, _updateType, _userName);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ModificationInfoBinaryCodec::encode, ModificationInfo.class, ModificationInfo.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ModificationInfoBinaryCodec::decode, ModificationInfo.class, ModificationInfo.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ModificationInfoBinaryCodec::encodedSize, ModificationInfo.class, ModificationInfo.BinaryEncodingId);
+    }
+
+}
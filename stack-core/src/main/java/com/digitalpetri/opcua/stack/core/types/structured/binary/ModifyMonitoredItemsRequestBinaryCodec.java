@@ -0,0 +1,87 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.digitalpetri.opcua.stack.core.types.structured.ModifyMonitoredItemsRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemModifyRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class ModifyMonitoredItemsRequestBinaryCodec {
+
+    public static void encode(ModifyMonitoredItemsRequest modifyMonitoredItemsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = modifyMonitoredItemsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeUInt32(null, modifyMonitoredItemsRequest.getSubscriptionId());
+        TimestampsToReturn _timestampsToReturn = modifyMonitoredItemsRequest.getTimestampsToReturn();
+        encoder.writeInt32(null, _timestampsToReturn != null ? _timestampsToReturn.getValue() : -1);
+        MonitoredItemModifyRequest[] _itemsToModify = modifyMonitoredItemsRequest.getItemsToModify();
+        encoder.writeArrayLength(_itemsToModify);
+        if (_itemsToModify != null) {
+            for (MonitoredItemModifyRequest e : _itemsToModify) {
+                if (e.getClass() == MonitoredItemModifyRequest.class) {
+                    MonitoredItemModifyRequestBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(ModifyMonitoredItemsRequest modifyMonitoredItemsRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+        RequestHeader _requestHeader = modifyMonitoredItemsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        MonitoredItemModifyRequest[] _itemsToModify = modifyMonitoredItemsRequest.getItemsToModify();
+        sizer.addSize(4);
+        if (_itemsToModify != null) {
+            for (MonitoredItemModifyRequest e : _itemsToModify) {
+                sizer.checkLimit();
+                if (e.getClass() == MonitoredItemModifyRequest.class) {
+                    MonitoredItemModifyRequestBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static ModifyMonitoredItemsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        TimestampsToReturn _timestampsToReturn = TimestampsToReturn.decode(decoder);
+        MonitoredItemModifyRequest[] _itemsToModify;
+        if (decoder.isArrayStreamed("ItemsToModify", MonitoredItemModifyRequest.class)) {
+            _itemsToModify = decoder.decodeArray("ItemsToModify", decoder::decodeSerializable, MonitoredItemModifyRequest.class);
+        } else {
+            _itemsToModify = new MonitoredItemModifyRequest[decoder.readArrayLength()];
+            for (int i = 0; i < _itemsToModify.length; i++) {
+                _itemsToModify[i] = MonitoredItemModifyRequestBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new ModifyMonitoredItemsRequest(_requestHeader, _subscriptionId, _timestampsToReturn, _itemsToModify);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ModifyMonitoredItemsRequestBinaryCodec::encode, ModifyMonitoredItemsRequest.class, ModifyMonitoredItemsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ModifyMonitoredItemsRequestBinaryCodec::decode, ModifyMonitoredItemsRequest.class, ModifyMonitoredItemsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ModifyMonitoredItemsRequestBinaryCodec::encodedSize, ModifyMonitoredItemsRequest.class, ModifyMonitoredItemsRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.ModifyMonitoredItemsResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemModifyResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class ModifyMonitoredItemsResponseBinaryCodec {
+
+    public static void encode(ModifyMonitoredItemsResponse modifyMonitoredItemsResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = modifyMonitoredItemsResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        MonitoredItemModifyResult[] _results = modifyMonitoredItemsResponse.getResults();
+        encoder.writeArrayLength(_results);
+        if (_results != null) {
+            for (MonitoredItemModifyResult e : _results) {
+                if (e.getClass() == MonitoredItemModifyResult.class) {
+                    MonitoredItemModifyResultBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = modifyMonitoredItemsResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(ModifyMonitoredItemsResponse modifyMonitoredItemsResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = modifyMonitoredItemsResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        MonitoredItemModifyResult[] _results = modifyMonitoredItemsResponse.getResults();
+        sizer.addSize(4);
+        if (_results != null) {
+            for (MonitoredItemModifyResult e : _results) {
+                sizer.checkLimit();
+                if (e.getClass() == MonitoredItemModifyResult.class) {
+                    MonitoredItemModifyResultBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = modifyMonitoredItemsResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static ModifyMonitoredItemsResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        MonitoredItemModifyResult[] _results;
+        if (decoder.isArrayStreamed("Results", MonitoredItemModifyResult.class)) {
+            _results = decoder.decodeArray("Results", decoder::decodeSerializable, MonitoredItemModifyResult.class);
+        } else {
+            _results = new MonitoredItemModifyResult[decoder.readArrayLength()];
+            for (int i = 0; i < _results.length; i++) {
+                _results[i] = MonitoredItemModifyResultBinaryCodec.decode(decoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new ModifyMonitoredItemsResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ModifyMonitoredItemsResponseBinaryCodec::encode, ModifyMonitoredItemsResponse.class, ModifyMonitoredItemsResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ModifyMonitoredItemsResponseBinaryCodec::decode, ModifyMonitoredItemsResponse.class, ModifyMonitoredItemsResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ModifyMonitoredItemsResponseBinaryCodec::encodedSize, ModifyMonitoredItemsResponse.class, ModifyMonitoredItemsResponse.BinaryEncodingId);
+    }
+
+}
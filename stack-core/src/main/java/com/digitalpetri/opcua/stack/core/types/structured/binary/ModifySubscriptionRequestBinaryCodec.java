@@ -0,0 +1,61 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ModifySubscriptionRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class ModifySubscriptionRequestBinaryCodec {
+
+    public static void encode(ModifySubscriptionRequest modifySubscriptionRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = modifySubscriptionRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeUInt32(null, modifySubscriptionRequest.getSubscriptionId());
+        encoder.encodeDouble(null, modifySubscriptionRequest.getRequestedPublishingInterval());
+        encoder.encodeUInt32(null, modifySubscriptionRequest.getRequestedLifetimeCount());
+        encoder.encodeUInt32(null, modifySubscriptionRequest.getRequestedMaxKeepAliveCount());
+        encoder.encodeUInt32(null, modifySubscriptionRequest.getMaxNotificationsPerPublish());
+        encoder.encodeByte(null, modifySubscriptionRequest.getPriority());
+    }
+
+    public static void encodedSize(ModifySubscriptionRequest modifySubscriptionRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(25);
+        RequestHeader _requestHeader = modifySubscriptionRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+    }
+
+    public static ModifySubscriptionRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        Double _requestedPublishingInterval = decoder.decodeDouble(null);
+        UInteger _requestedLifetimeCount = decoder.decodeUInt32(null);
+        UInteger _requestedMaxKeepAliveCount = decoder.decodeUInt32(null);
+        UInteger _maxNotificationsPerPublish = decoder.decodeUInt32(null);
+        UByte _priority = decoder.decodeByte(null);
+
+        return new ModifySubscriptionRequest(_requestHeader, _subscriptionId, _requestedPublishingInterval, _requestedLifetimeCount, _requestedMaxKeepAliveCount, _maxNotificationsPerPublish, _priority);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ModifySubscriptionRequestBinaryCodec::encode, ModifySubscriptionRequest.class, ModifySubscriptionRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ModifySubscriptionRequestBinaryCodec::decode, ModifySubscriptionRequest.class, ModifySubscriptionRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ModifySubscriptionRequestBinaryCodec::encodedSize, ModifySubscriptionRequest.class, ModifySubscriptionRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ModifySubscriptionResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class ModifySubscriptionResponseBinaryCodec {
+
+    public static void encode(ModifySubscriptionResponse modifySubscriptionResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = modifySubscriptionResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        encoder.encodeDouble(null, modifySubscriptionResponse.getRevisedPublishingInterval());
+        encoder.encodeUInt32(null, modifySubscriptionResponse.getRevisedLifetimeCount());
+        encoder.encodeUInt32(null, modifySubscriptionResponse.getRevisedMaxKeepAliveCount());
+    }
+
+    public static void encodedSize(ModifySubscriptionResponse modifySubscriptionResponse, BinarySizeEncoder sizer) {
+        sizer.addSize(16);
+        ResponseHeader _responseHeader = modifySubscriptionResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static ModifySubscriptionResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        Double _revisedPublishingInterval = decoder.decodeDouble(null);
+        UInteger _revisedLifetimeCount = decoder.decodeUInt32(null);
+        UInteger _revisedMaxKeepAliveCount = decoder.decodeUInt32(null);
+
+        return new ModifySubscriptionResponse(_responseHeader, _revisedPublishingInterval, _revisedLifetimeCount, _revisedMaxKeepAliveCount);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ModifySubscriptionResponseBinaryCodec::encode, ModifySubscriptionResponse.class, ModifySubscriptionResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ModifySubscriptionResponseBinaryCodec::decode, ModifySubscriptionResponse.class, ModifySubscriptionResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ModifySubscriptionResponseBinaryCodec::encodedSize, ModifySubscriptionResponse.class, ModifySubscriptionResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.enumerated.MonitoringMode;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemCreateRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoringParameters;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+
+public class MonitoredItemCreateRequestBinaryCodec {
+
+    public static void encode(MonitoredItemCreateRequest monitoredItemCreateRequest, BinaryEncoder encoder) {
+        ReadValueId _itemToMonitor = monitoredItemCreateRequest.getItemToMonitor();
+        if (_itemToMonitor == null) {
+            ReadValueIdBinaryCodec.encode(new ReadValueId(), encoder);
+        } else if (_itemToMonitor.getClass() == ReadValueId.class) {
+            ReadValueIdBinaryCodec.encode(_itemToMonitor, encoder);
+        } else {
+            encoder.encodeSerializable(null, _itemToMonitor);
+        }
+        MonitoringMode _monitoringMode = monitoredItemCreateRequest.getMonitoringMode();
+        encoder.writeInt32(null, _monitoringMode != null ? _monitoringMode.getValue() : -1);
+        MonitoringParameters _requestedParameters = monitoredItemCreateRequest.getRequestedParameters();
+        if (_requestedParameters == null) {
+            MonitoringParametersBinaryCodec.encode(new MonitoringParameters(), encoder);
+        } else if (_requestedParameters.getClass() == MonitoringParameters.class) {
+            MonitoringParametersBinaryCodec.encode(_requestedParameters, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestedParameters);
+        }
+    }
+
+    public static void encodedSize(MonitoredItemCreateRequest monitoredItemCreateRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        ReadValueId _itemToMonitor = monitoredItemCreateRequest.getItemToMonitor();
+        if (_itemToMonitor == null) {
+            ReadValueIdBinaryCodec.encodedSize(new ReadValueId(), sizer);
+        } else if (_itemToMonitor.getClass() == ReadValueId.class) {
+            ReadValueIdBinaryCodec.encodedSize(_itemToMonitor, sizer);
+        } else {
+            sizer.encodeSerializable(null, _itemToMonitor);
+        }
+        MonitoringParameters _requestedParameters = monitoredItemCreateRequest.getRequestedParameters();
+        if (_requestedParameters == null) {
+            MonitoringParametersBinaryCodec.encodedSize(new MonitoringParameters(), sizer);
+        } else if (_requestedParameters.getClass() == MonitoringParameters.class) {
+            MonitoringParametersBinaryCodec.encodedSize(_requestedParameters, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestedParameters);
+        }
+    }
+
+    public static MonitoredItemCreateRequest decode(BinaryDecoder decoder) {
+        ReadValueId _itemToMonitor = ReadValueIdBinaryCodec.decode(decoder);
+        MonitoringMode _monitoringMode = MonitoringMode.decode(decoder);
+        MonitoringParameters _requestedParameters = MonitoringParametersBinaryCodec.decode(decoder);
+
+        return new MonitoredItemCreateRequest(_itemToMonitor, _monitoringMode, _requestedParameters);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(MonitoredItemCreateRequestBinaryCodec::encode, MonitoredItemCreateRequest.class, MonitoredItemCreateRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(MonitoredItemCreateRequestBinaryCodec::decode, MonitoredItemCreateRequest.class, MonitoredItemCreateRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(MonitoredItemCreateRequestBinaryCodec::encodedSize, MonitoredItemCreateRequest.class, MonitoredItemCreateRequest.BinaryEncodingId);
+    }
+
+}
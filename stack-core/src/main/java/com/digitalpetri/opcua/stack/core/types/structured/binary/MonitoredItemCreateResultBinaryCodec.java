@@ -0,0 +1,43 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemCreateResult;
+
+public class MonitoredItemCreateResultBinaryCodec {
+
+    public static void encode(MonitoredItemCreateResult monitoredItemCreateResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, monitoredItemCreateResult.getStatusCode());
+        encoder.encodeUInt32(null, monitoredItemCreateResult.getMonitoredItemId());
+        encoder.encodeDouble(null, monitoredItemCreateResult.getRevisedSamplingInterval());
+        encoder.encodeUInt32(null, monitoredItemCreateResult.getRevisedQueueSize());
+        encoder.encodeExtensionObject(null, monitoredItemCreateResult.getFilterResult());
+    }
+
+    public static void encodedSize(MonitoredItemCreateResult monitoredItemCreateResult, BinarySizeEncoder sizer) {
+        sizer.addSize(20);
+        sizer.encodeExtensionObject(null, monitoredItemCreateResult.getFilterResult());
+    }
+
+    public static MonitoredItemCreateResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        UInteger _monitoredItemId = decoder.decodeUInt32(null);
+        Double _revisedSamplingInterval = decoder.decodeDouble(null);
+        UInteger _revisedQueueSize = decoder.decodeUInt32(null);
+        ExtensionObject _filterResult = decoder.decodeExtensionObject(null);
+
+        return new MonitoredItemCreateResult(_statusCode, _monitoredItemId, _revisedSamplingInterval, _revisedQueueSize, _filterResult);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(MonitoredItemCreateResultBinaryCodec::encode, MonitoredItemCreateResult.class, MonitoredItemCreateResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(MonitoredItemCreateResultBinaryCodec::decode, MonitoredItemCreateResult.class, MonitoredItemCreateResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(MonitoredItemCreateResultBinaryCodec::encodedSize, MonitoredItemCreateResult.class, MonitoredItemCreateResult.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemModifyRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoringParameters;
+
+public class MonitoredItemModifyRequestBinaryCodec {
+
+    public static void encode(MonitoredItemModifyRequest monitoredItemModifyRequest, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, monitoredItemModifyRequest.getMonitoredItemId());
+        MonitoringParameters _requestedParameters = monitoredItemModifyRequest.getRequestedParameters();
+        if (_requestedParameters == null) {
+            MonitoringParametersBinaryCodec.encode(new MonitoringParameters(), encoder);
+        } else if (_requestedParameters.getClass() == MonitoringParameters.class) {
+            MonitoringParametersBinaryCodec.encode(_requestedParameters, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestedParameters);
+        }
+    }
+
+    public static void encodedSize(MonitoredItemModifyRequest monitoredItemModifyRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        MonitoringParameters _requestedParameters = monitoredItemModifyRequest.getRequestedParameters();
+        if (_requestedParameters == null) {
+            MonitoringParametersBinaryCodec.encodedSize(new MonitoringParameters(), sizer);
+        } else if (_requestedParameters.getClass() == MonitoringParameters.class) {
+            MonitoringParametersBinaryCodec.encodedSize(_requestedParameters, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestedParameters);
+        }
+    }
+
+    public static MonitoredItemModifyRequest decode(BinaryDecoder decoder) {
+        UInteger _monitoredItemId = decoder.decodeUInt32(null);
+        MonitoringParameters _requestedParameters = MonitoringParametersBinaryCodec.decode(decoder);
+
+        return new MonitoredItemModifyRequest(_monitoredItemId, _requestedParameters);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(MonitoredItemModifyRequestBinaryCodec::encode, MonitoredItemModifyRequest.class, MonitoredItemModifyRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(MonitoredItemModifyRequestBinaryCodec::decode, MonitoredItemModifyRequest.class, MonitoredItemModifyRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(MonitoredItemModifyRequestBinaryCodec::encodedSize, MonitoredItemModifyRequest.class, MonitoredItemModifyRequest.BinaryEncodingId);
+    }
+
+}
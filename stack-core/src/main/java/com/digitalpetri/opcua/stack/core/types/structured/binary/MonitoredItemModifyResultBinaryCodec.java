@@ -0,0 +1,41 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemModifyResult;
+
+public class MonitoredItemModifyResultBinaryCodec {
+
+    public static void encode(MonitoredItemModifyResult monitoredItemModifyResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, monitoredItemModifyResult.getStatusCode());
+        encoder.encodeDouble(null, monitoredItemModifyResult.getRevisedSamplingInterval());
+        encoder.encodeUInt32(null, monitoredItemModifyResult.getRevisedQueueSize());
+        encoder.encodeExtensionObject(null, monitoredItemModifyResult.getFilterResult());
+    }
+
+    public static void encodedSize(MonitoredItemModifyResult monitoredItemModifyResult, BinarySizeEncoder sizer) {
+        sizer.addSize(16);
+        sizer.encodeExtensionObject(null, monitoredItemModifyResult.getFilterResult());
+    }
+
+    public static MonitoredItemModifyResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        Double _revisedSamplingInterval = decoder.decodeDouble(null);
+        UInteger _revisedQueueSize = decoder.decodeUInt32(null);
+        ExtensionObject _filterResult = decoder.decodeExtensionObject(null);
+
+        return new MonitoredItemModifyResult(_statusCode, _revisedSamplingInterval, _revisedQueueSize, _filterResult);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(MonitoredItemModifyResultBinaryCodec::encode, MonitoredItemModifyResult.class, MonitoredItemModifyResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(MonitoredItemModifyResultBinaryCodec::decode, MonitoredItemModifyResult.class, MonitoredItemModifyResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(MonitoredItemModifyResultBinaryCodec::encodedSize, MonitoredItemModifyResult.class, MonitoredItemModifyResult.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemNotification;
+
+public class MonitoredItemNotificationBinaryCodec {
+
+    public static void encode(MonitoredItemNotification monitoredItemNotification, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, monitoredItemNotification.getClientHandle());
+        encoder.encodeDataValue(null, monitoredItemNotification.getValue());
+    }
+
+    public static void encodedSize(MonitoredItemNotification monitoredItemNotification, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeDataValue(null, monitoredItemNotification.getValue());
+    }
+
+    public static MonitoredItemNotification decode(BinaryDecoder decoder) {
+        UInteger _clientHandle = decoder.decodeUInt32(null);
+        DataValue _value = decoder.decodeDataValue(null);
+
+        return new MonitoredItemNotification(_clientHandle, _value);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(MonitoredItemNotificationBinaryCodec::encode, MonitoredItemNotification.class, MonitoredItemNotification.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(MonitoredItemNotificationBinaryCodec::decode, MonitoredItemNotification.class, MonitoredItemNotification.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(MonitoredItemNotificationBinaryCodec::encodedSize, MonitoredItemNotification.class, MonitoredItemNotification.BinaryEncodingId);
+    }
+
+}
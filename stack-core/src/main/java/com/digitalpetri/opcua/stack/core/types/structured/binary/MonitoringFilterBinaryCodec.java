@@ -0,0 +1,28 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoringFilter;
+
+public class MonitoringFilterBinaryCodec {
+
+    public static void encode(MonitoringFilter monitoringFilter, BinaryEncoder encoder) {
+    }
+
+    public static void encodedSize(MonitoringFilter monitoringFilter, BinarySizeEncoder sizer) {
+    }
+
+    public static MonitoringFilter decode(BinaryDecoder decoder) {
+
+        return new MonitoringFilter();
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(MonitoringFilterBinaryCodec::encode, MonitoringFilter.class, MonitoringFilter.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(MonitoringFilterBinaryCodec::decode, MonitoringFilter.class, MonitoringFilter.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(MonitoringFilterBinaryCodec::encodedSize, MonitoringFilter.class, MonitoringFilter.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoringFilterResult;
+
+public class MonitoringFilterResultBinaryCodec {
+
+    public static void encode(MonitoringFilterResult monitoringFilterResult, BinaryEncoder encoder) {
+    }
+
+    public static void encodedSize(MonitoringFilterResult monitoringFilterResult, BinarySizeEncoder sizer) {
+    }
+
+    public static MonitoringFilterResult decode(BinaryDecoder decoder) {
+
+        return new MonitoringFilterResult();
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(MonitoringFilterResultBinaryCodec::encode, MonitoringFilterResult.class, MonitoringFilterResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(MonitoringFilterResultBinaryCodec::decode, MonitoringFilterResult.class, MonitoringFilterResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(MonitoringFilterResultBinaryCodec::encodedSize, MonitoringFilterResult.class, MonitoringFilterResult.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoringParameters;
+
+public class MonitoringParametersBinaryCodec {
+
+    public static void encode(MonitoringParameters monitoringParameters, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, monitoringParameters.getClientHandle());
+        encoder.encodeDouble(null, monitoringParameters.getSamplingInterval());
+        encoder.encodeExtensionObject(null, monitoringParameters.getFilter());
+        encoder.encodeUInt32(null, monitoringParameters.getQueueSize());
+        encoder.encodeBoolean(null, monitoringParameters.getDiscardOldest());
+    }
+
+    public static void encodedSize(MonitoringParameters monitoringParameters, BinarySizeEncoder sizer) {
+        sizer.addSize(17);
+        sizer.encodeExtensionObject(null, monitoringParameters.getFilter());
+    }
+
+    public static MonitoringParameters decode(BinaryDecoder decoder) {
+        UInteger _clientHandle = decoder.decodeUInt32(null);
+        Double _samplingInterval = decoder.decodeDouble(null);
+        ExtensionObject _filter = decoder.decodeExtensionObject(null);
+        UInteger _queueSize = decoder.decodeUInt32(null);
+        Boolean _discardOldest = decoder.decodeBoolean(null);
+
+        return new MonitoringParameters(_clientHandle, _samplingInterval, _filter, _queueSize, _discardOldest);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(MonitoringParametersBinaryCodec::encode, MonitoringParameters.class, MonitoringParameters.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(MonitoringParametersBinaryCodec::decode, MonitoringParameters.class, MonitoringParameters.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(MonitoringParametersBinaryCodec::encodedSize, MonitoringParameters.class, MonitoringParameters.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.EndpointUrlListDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.NetworkGroupDataType;
+
+public class NetworkGroupDataTypeBinaryCodec {
+
+    public static void encode(NetworkGroupDataType networkGroupDataType, BinaryEncoder encoder) {
+        encoder.encodeString(null, networkGroupDataType.getServerUri());
+        EndpointUrlListDataType[] _networkPaths = networkGroupDataType.getNetworkPaths();
+        encoder.writeArrayLength(_networkPaths);
+        if (_networkPaths != null) {
+            for (EndpointUrlListDataType e : _networkPaths) {
+                if (e.getClass() == EndpointUrlListDataType.class) {
+                    EndpointUrlListDataTypeBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(NetworkGroupDataType networkGroupDataType, BinarySizeEncoder sizer) {
+        sizer.encodeString(null, networkGroupDataType.getServerUri());
+        EndpointUrlListDataType[] _networkPaths = networkGroupDataType.getNetworkPaths();
+        sizer.addSize(4);
+        if (_networkPaths != null) {
+            for (EndpointUrlListDataType e : _networkPaths) {
+                sizer.checkLimit();
+                if (e.getClass() == EndpointUrlListDataType.class) {
+                    EndpointUrlListDataTypeBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static NetworkGroupDataType decode(BinaryDecoder decoder) {
+        String _serverUri = decoder.decodeString(null);
+        EndpointUrlListDataType[] _networkPaths;
+        if (decoder.isArrayStreamed("NetworkPaths", EndpointUrlListDataType.class)) {
+            _networkPaths = decoder.decodeArray("NetworkPaths", decoder::decodeSerializable, EndpointUrlListDataType.class);
+        } else {
+            _networkPaths = new EndpointUrlListDataType[decoder.readArrayLength()];
+            for (int i = 0; i < _networkPaths.length; i++) {
+                _networkPaths[i] = EndpointUrlListDataTypeBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new NetworkGroupDataType(_serverUri, _networkPaths);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(NetworkGroupDataTypeBinaryCodec::encode, NetworkGroupDataType.class, NetworkGroupDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(NetworkGroupDataTypeBinaryCodec::decode, NetworkGroupDataType.class, NetworkGroupDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(NetworkGroupDataTypeBinaryCodec::encodedSize, NetworkGroupDataType.class, NetworkGroupDataType.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.NodeAttributes;
+
+public class NodeAttributesBinaryCodec {
+
+    public static void encode(NodeAttributes nodeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, nodeAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, nodeAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, nodeAttributes.getDescription());
+        encoder.encodeUInt32(null, nodeAttributes.getWriteMask());
+        encoder.encodeUInt32(null, nodeAttributes.getUserWriteMask());
+    }
+
+    public static void encodedSize(NodeAttributes nodeAttributes, BinarySizeEncoder sizer) {
+        sizer.addSize(12);
+        sizer.encodeLocalizedText(null, nodeAttributes.getDisplayName());
+        sizer.encodeLocalizedText(null, nodeAttributes.getDescription());
+    }
+
+    public static NodeAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+
+        return new NodeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(NodeAttributesBinaryCodec::encode, NodeAttributes.class, NodeAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(NodeAttributesBinaryCodec::decode, NodeAttributes.class, NodeAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(NodeAttributesBinaryCodec::encodedSize, NodeAttributes.class, NodeAttributes.BinaryEncodingId);
+    }
+
+}
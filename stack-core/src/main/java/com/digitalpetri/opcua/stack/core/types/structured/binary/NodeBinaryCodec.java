@@ -0,0 +1,86 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.Node;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+
+public class NodeBinaryCodec {
+
+    public static void encode(Node node, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, node.getNodeId());
+        NodeClass _nodeClass = node.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, node.getBrowseName());
+        encoder.encodeLocalizedText(null, node.getDisplayName());
+        encoder.encodeLocalizedText(null, node.getDescription());
+        encoder.encodeUInt32(null, node.getWriteMask());
+        encoder.encodeUInt32(null, node.getUserWriteMask());
+        ReferenceNode[] _references = node.getReferences();
+        encoder.writeArrayLength(_references);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(Node node, BinarySizeEncoder sizer) {
+        sizer.addSize(12);
+        sizer.encodeNodeId(null, node.getNodeId());
+        sizer.encodeQualifiedName(null, node.getBrowseName());
+        sizer.encodeLocalizedText(null, node.getDisplayName());
+        sizer.encodeLocalizedText(null, node.getDescription());
+        ReferenceNode[] _references = node.getReferences();
+        sizer.addSize(4);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                sizer.checkLimit();
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static Node decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references;
+        if (decoder.isArrayStreamed("References", ReferenceNode.class)) {
+            _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        } else {
+            _references = new ReferenceNode[decoder.readArrayLength()];
+            for (int i = 0; i < _references.length; i++) {
+                _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new Node(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(NodeBinaryCodec::encode, Node.class, Node.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(NodeBinaryCodec::decode, Node.class, Node.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(NodeBinaryCodec::encodedSize, Node.class, Node.BinaryEncodingId);
+    }
+
+}
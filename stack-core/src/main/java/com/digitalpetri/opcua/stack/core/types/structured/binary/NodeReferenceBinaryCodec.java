@@ -0,0 +1,62 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.NodeReference;
+
+public class NodeReferenceBinaryCodec {
+
+    public static void encode(NodeReference nodeReference, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, nodeReference.getNodeId());
+        encoder.encodeNodeId(null, nodeReference.getReferenceTypeId());
+        encoder.encodeBoolean(null, nodeReference.getIsForward());
+        NodeId[] _referencedNodeIds = nodeReference.getReferencedNodeIds();
+        encoder.writeArrayLength(_referencedNodeIds);
+        if (_referencedNodeIds != null) {
+            for (NodeId e : _referencedNodeIds) {
+                encoder.encodeNodeId(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(NodeReference nodeReference, BinarySizeEncoder sizer) {
+        sizer.addSize(1);
+        sizer.encodeNodeId(null, nodeReference.getNodeId());
+        sizer.encodeNodeId(null, nodeReference.getReferenceTypeId());
+        NodeId[] _referencedNodeIds = nodeReference.getReferencedNodeIds();
+        sizer.addSize(4);
+        if (_referencedNodeIds != null) {
+            for (NodeId e : _referencedNodeIds) {
+                sizer.checkLimit();
+                sizer.encodeNodeId(null, e);
+            }
+        }
+    }
+
+    public static NodeReference decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _isForward = decoder.decodeBoolean(null);
+        NodeId[] _referencedNodeIds;
+        if (decoder.isArrayStreamed("ReferencedNodeIds", NodeId.class)) {
+            _referencedNodeIds = decoder.decodeArray("ReferencedNodeIds", decoder::decodeNodeId, NodeId.class);
+        } else {
+            _referencedNodeIds = new NodeId[decoder.readArrayLength()];
+            for (int i = 0; i < _referencedNodeIds.length; i++) {
+                _referencedNodeIds[i] = decoder.decodeNodeId(null);
+            }
+        }
+
+        return new NodeReference(_nodeId, _referenceTypeId, _isForward, _referencedNodeIds);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(NodeReferenceBinaryCodec::encode, NodeReference.class, NodeReference.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(NodeReferenceBinaryCodec::decode, NodeReference.class, NodeReference.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(NodeReferenceBinaryCodec::encodedSize, NodeReference.class, NodeReference.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.NodeTypeDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryDataDescription;
+
+public class NodeTypeDescriptionBinaryCodec {
+
+    public static void encode(NodeTypeDescription nodeTypeDescription, BinaryEncoder encoder) {
+        encoder.encodeExpandedNodeId(null, nodeTypeDescription.getTypeDefinitionNode());
+        encoder.encodeBoolean(null, nodeTypeDescription.getIncludeSubTypes());
+        QueryDataDescription[] _dataToReturn = nodeTypeDescription.getDataToReturn();
+        encoder.writeArrayLength(_dataToReturn);
+        if (_dataToReturn != null) {
+            for (QueryDataDescription e : _dataToReturn) {
+                if (e.getClass() == QueryDataDescription.class) {
+                    QueryDataDescriptionBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(NodeTypeDescription nodeTypeDescription, BinarySizeEncoder sizer) {
+        sizer.addSize(1);
+        sizer.encodeExpandedNodeId(null, nodeTypeDescription.getTypeDefinitionNode());
+        QueryDataDescription[] _dataToReturn = nodeTypeDescription.getDataToReturn();
+        sizer.addSize(4);
+        if (_dataToReturn != null) {
+            for (QueryDataDescription e : _dataToReturn) {
+                sizer.checkLimit();
+                if (e.getClass() == QueryDataDescription.class) {
+                    QueryDataDescriptionBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static NodeTypeDescription decode(BinaryDecoder decoder) {
+        ExpandedNodeId _typeDefinitionNode = decoder.decodeExpandedNodeId(null);
+        Boolean _includeSubTypes = decoder.decodeBoolean(null);
+        QueryDataDescription[] _dataToReturn;
+        if (decoder.isArrayStreamed("DataToReturn", QueryDataDescription.class)) {
+            _dataToReturn = decoder.decodeArray("DataToReturn", decoder::decodeSerializable, QueryDataDescription.class);
+        } else {
+            _dataToReturn = new QueryDataDescription[decoder.readArrayLength()];
+            for (int i = 0; i < _dataToReturn.length; i++) {
+                _dataToReturn[i] = QueryDataDescriptionBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new NodeTypeDescription(_typeDefinitionNode, _includeSubTypes, _dataToReturn);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(NodeTypeDescriptionBinaryCodec::encode, NodeTypeDescription.class, NodeTypeDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(NodeTypeDescriptionBinaryCodec::decode, NodeTypeDescription.class, NodeTypeDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(NodeTypeDescriptionBinaryCodec::encodedSize, NodeTypeDescription.class, NodeTypeDescription.BinaryEncodingId);
+    }
+
+}
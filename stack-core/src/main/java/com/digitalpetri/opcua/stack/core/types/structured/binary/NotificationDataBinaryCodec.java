@@ -0,0 +1,28 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.NotificationData;
+
+public class NotificationDataBinaryCodec {
+
+    public static void encode(NotificationData notificationData, BinaryEncoder encoder) {
+    }
+
+    public static void encodedSize(NotificationData notificationData, BinarySizeEncoder sizer) {
+    }
+
+    public static NotificationData decode(BinaryDecoder decoder) {
+
+        return new NotificationData();
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(NotificationDataBinaryCodec::encode, NotificationData.class, NotificationData.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(NotificationDataBinaryCodec::decode, NotificationData.class, NotificationData.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(NotificationDataBinaryCodec::encodedSize, NotificationData.class, NotificationData.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.NotificationMessage;
+
+public class NotificationMessageBinaryCodec {
+
+    public static void encode(NotificationMessage notificationMessage, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, notificationMessage.getSequenceNumber());
+        encoder.encodeDateTime(null, notificationMessage.getPublishTime());
+        ExtensionObject[] _notificationData = notificationMessage.getNotificationData();
+        encoder.writeArrayLength(_notificationData);
+        if (_notificationData != null) {
+            for (ExtensionObject e : _notificationData) {
+                encoder.encodeExtensionObject(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(NotificationMessage notificationMessage, BinarySizeEncoder sizer) {
+        sizer.addSize(12);
+        ExtensionObject[] _notificationData = notificationMessage.getNotificationData();
+        sizer.addSize(4);
+        if (_notificationData != null) {
+            for (ExtensionObject e : _notificationData) {
+                sizer.checkLimit();
+                sizer.encodeExtensionObject(null, e);
+            }
+        }
+    }
+
+    public static NotificationMessage decode(BinaryDecoder decoder) {
+        UInteger _sequenceNumber = decoder.decodeUInt32(null);
+        DateTime _publishTime = decoder.decodeDateTime(null);
+        ExtensionObject[] _notificationData;
+        if (decoder.isArrayStreamed("NotificationData", ExtensionObject.class)) {
+            _notificationData = decoder.decodeArray("NotificationData", decoder::decodeExtensionObject, ExtensionObject.class);
+        } else {
+            _notificationData = new ExtensionObject[decoder.readArrayLength()];
+            for (int i = 0; i < _notificationData.length; i++) {
+                _notificationData[i] = decoder.decodeExtensionObject(null);
+            }
+        }
+
+        return new NotificationMessage(_sequenceNumber, _publishTime, _notificationData);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(NotificationMessageBinaryCodec::encode, NotificationMessage.class, NotificationMessage.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(NotificationMessageBinaryCodec::decode, NotificationMessage.class, NotificationMessage.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(NotificationMessageBinaryCodec::encodedSize, NotificationMessage.class, NotificationMessage.BinaryEncodingId);
+    }
+
+}
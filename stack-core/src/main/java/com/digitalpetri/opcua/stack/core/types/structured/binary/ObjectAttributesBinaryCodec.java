@@ -0,0 +1,46 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ObjectAttributes;
+
+public class ObjectAttributesBinaryCodec {
+
+    public static void encode(ObjectAttributes objectAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, objectAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, objectAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, objectAttributes.getDescription());
+        encoder.encodeUInt32(null, objectAttributes.getWriteMask());
+        encoder.encodeUInt32(null, objectAttributes.getUserWriteMask());
+        encoder.encodeByte(null, objectAttributes.getEventNotifier());
+    }
+
+    public static void encodedSize(ObjectAttributes objectAttributes, BinarySizeEncoder sizer) {
+        sizer.addSize(13);
+        sizer.encodeLocalizedText(null, objectAttributes.getDisplayName());
+        sizer.encodeLocalizedText(null, objectAttributes.getDescription());
+    }
+
+    public static ObjectAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        UByte _eventNotifier = decoder.decodeByte(null);
+
+        return new ObjectAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _eventNotifier);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ObjectAttributesBinaryCodec::encode, ObjectAttributes.class, ObjectAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ObjectAttributesBinaryCodec::decode, ObjectAttributes.class, ObjectAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ObjectAttributesBinaryCodec::encodedSize, ObjectAttributes.class, ObjectAttributes.BinaryEncodingId);
+    }
+
+}
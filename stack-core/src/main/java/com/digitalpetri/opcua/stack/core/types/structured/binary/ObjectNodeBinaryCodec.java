@@ -0,0 +1,89 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.ObjectNode;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+
+public class ObjectNodeBinaryCodec {
+
+    public static void encode(ObjectNode objectNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, objectNode.getNodeId());
+        NodeClass _nodeClass = objectNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, objectNode.getBrowseName());
+        encoder.encodeLocalizedText(null, objectNode.getDisplayName());
+        encoder.encodeLocalizedText(null, objectNode.getDescription());
+        encoder.encodeUInt32(null, objectNode.getWriteMask());
+        encoder.encodeUInt32(null, objectNode.getUserWriteMask());
+        ReferenceNode[] _references = objectNode.getReferences();
+        encoder.writeArrayLength(_references);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        encoder.encodeByte(null, objectNode.getEventNotifier());
+    }
+
+    public static void encodedSize(ObjectNode objectNode, BinarySizeEncoder sizer) {
+        sizer.addSize(13);
+        sizer.encodeNodeId(null, objectNode.getNodeId());
+        sizer.encodeQualifiedName(null, objectNode.getBrowseName());
+        sizer.encodeLocalizedText(null, objectNode.getDisplayName());
+        sizer.encodeLocalizedText(null, objectNode.getDescription());
+        ReferenceNode[] _references = objectNode.getReferences();
+        sizer.addSize(4);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                sizer.checkLimit();
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static ObjectNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references;
+        if (decoder.isArrayStreamed("References", ReferenceNode.class)) {
+            _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        } else {
+            _references = new ReferenceNode[decoder.readArrayLength()];
+            for (int i = 0; i < _references.length; i++) {
+                _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+            }
+        }
+        UByte _eventNotifier = decoder.decodeByte(null);
+
+        return new ObjectNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _eventNotifier);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ObjectNodeBinaryCodec::encode, ObjectNode.class, ObjectNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ObjectNodeBinaryCodec::decode, ObjectNode.class, ObjectNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ObjectNodeBinaryCodec::encodedSize, ObjectNode.class, ObjectNode.BinaryEncodingId);
+    }
+
+}
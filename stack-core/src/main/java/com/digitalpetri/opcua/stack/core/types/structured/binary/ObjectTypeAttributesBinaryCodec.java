@@ -0,0 +1,45 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ObjectTypeAttributes;
+
+public class ObjectTypeAttributesBinaryCodec {
+
+    public static void encode(ObjectTypeAttributes objectTypeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, objectTypeAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, objectTypeAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, objectTypeAttributes.getDescription());
+        encoder.encodeUInt32(null, objectTypeAttributes.getWriteMask());
+        encoder.encodeUInt32(null, objectTypeAttributes.getUserWriteMask());
+        encoder.encodeBoolean(null, objectTypeAttributes.getIsAbstract());
+    }
+
+    public static void encodedSize(ObjectTypeAttributes objectTypeAttributes, BinarySizeEncoder sizer) {
+        sizer.addSize(13);
+        sizer.encodeLocalizedText(null, objectTypeAttributes.getDisplayName());
+        sizer.encodeLocalizedText(null, objectTypeAttributes.getDescription());
+    }
+
+    public static ObjectTypeAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+
+        return new ObjectTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _isAbstract);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ObjectTypeAttributesBinaryCodec::encode, ObjectTypeAttributes.class, ObjectTypeAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ObjectTypeAttributesBinaryCodec::decode, ObjectTypeAttributes.class, ObjectTypeAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ObjectTypeAttributesBinaryCodec::encodedSize, ObjectTypeAttributes.class, ObjectTypeAttributes.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.ObjectTypeNode;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+
+public class ObjectTypeNodeBinaryCodec {
+
+    public static void encode(ObjectTypeNode objectTypeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, objectTypeNode.getNodeId());
+        NodeClass _nodeClass = objectTypeNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, objectTypeNode.getBrowseName());
+        encoder.encodeLocalizedText(null, objectTypeNode.getDisplayName());
+        encoder.encodeLocalizedText(null, objectTypeNode.getDescription());
+        encoder.encodeUInt32(null, objectTypeNode.getWriteMask());
+        encoder.encodeUInt32(null, objectTypeNode.getUserWriteMask());
+        ReferenceNode[] _references = objectTypeNode.getReferences();
+        encoder.writeArrayLength(_references);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        encoder.encodeBoolean(null, objectTypeNode.getIsAbstract());
+    }
+
+    public static void encodedSize(ObjectTypeNode objectTypeNode, BinarySizeEncoder sizer) {
+        sizer.addSize(13);
+        sizer.encodeNodeId(null, objectTypeNode.getNodeId());
+        sizer.encodeQualifiedName(null, objectTypeNode.getBrowseName());
+        sizer.encodeLocalizedText(null, objectTypeNode.getDisplayName());
+        sizer.encodeLocalizedText(null, objectTypeNode.getDescription());
+        ReferenceNode[] _references = objectTypeNode.getReferences();
+        sizer.addSize(4);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                sizer.checkLimit();
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static ObjectTypeNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references;
+        if (decoder.isArrayStreamed("References", ReferenceNode.class)) {
+            _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        } else {
+            _references = new ReferenceNode[decoder.readArrayLength()];
+            for (int i = 0; i < _references.length; i++) {
+                _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+            }
+        }
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+
+        return new ObjectTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _isAbstract);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ObjectTypeNodeBinaryCodec::encode, ObjectTypeNode.class, ObjectTypeNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ObjectTypeNodeBinaryCodec::decode, ObjectTypeNode.class, ObjectTypeNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ObjectTypeNodeBinaryCodec::encodedSize, ObjectTypeNode.class, ObjectTypeNode.BinaryEncodingId);
+    }
+
+}
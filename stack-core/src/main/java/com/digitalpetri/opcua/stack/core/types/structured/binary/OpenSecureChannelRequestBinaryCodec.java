@@ -0,0 +1,64 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.types.enumerated.SecurityTokenRequestType;
+import com.digitalpetri.opcua.stack.core.types.structured.OpenSecureChannelRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class OpenSecureChannelRequestBinaryCodec {
+
+    public static void encode(OpenSecureChannelRequest openSecureChannelRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = openSecureChannelRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeUInt32(null, openSecureChannelRequest.getClientProtocolVersion());
+        SecurityTokenRequestType _requestType = openSecureChannelRequest.getRequestType();
+        encoder.writeInt32(null, _requestType != null ? _requestType.getValue() : -1);
+        MessageSecurityMode _securityMode = openSecureChannelRequest.getSecurityMode();
+        encoder.writeInt32(null, _securityMode != null ? _securityMode.getValue() : -1);
+        encoder.encodeByteString(null, openSecureChannelRequest.getClientNonce());
+        encoder.encodeUInt32(null, openSecureChannelRequest.getRequestedLifetime());
+    }
+
+    public static void encodedSize(OpenSecureChannelRequest openSecureChannelRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(16);
+        RequestHeader _requestHeader = openSecureChannelRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        sizer.encodeByteString(null, openSecureChannelRequest.getClientNonce());
+    }
+
+    public static OpenSecureChannelRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _clientProtocolVersion = decoder.decodeUInt32(null);
+        SecurityTokenRequestType _requestType = SecurityTokenRequestType.decode(decoder);
+        MessageSecurityMode _securityMode = MessageSecurityMode.decode(decoder);
+        ByteString _clientNonce = decoder.decodeByteString(null);
+        UInteger _requestedLifetime = decoder.decodeUInt32(null);
+
+        return new OpenSecureChannelRequest(_requestHeader, _clientProtocolVersion, _requestType, _securityMode, _clientNonce, _requestedLifetime);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(OpenSecureChannelRequestBinaryCodec::encode, OpenSecureChannelRequest.class, OpenSecureChannelRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(OpenSecureChannelRequestBinaryCodec::decode, OpenSecureChannelRequest.class, OpenSecureChannelRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(OpenSecureChannelRequestBinaryCodec::encodedSize, OpenSecureChannelRequest.class, OpenSecureChannelRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ChannelSecurityToken;
+import com.digitalpetri.opcua.stack.core.types.structured.OpenSecureChannelResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class OpenSecureChannelResponseBinaryCodec {
+
+    public static void encode(OpenSecureChannelResponse openSecureChannelResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = openSecureChannelResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        encoder.encodeUInt32(null, openSecureChannelResponse.getServerProtocolVersion());
+        ChannelSecurityToken _securityToken = openSecureChannelResponse.getSecurityToken();
+        if (_securityToken == null) {
+            ChannelSecurityTokenBinaryCodec.encode(new ChannelSecurityToken(), encoder);
+        } else if (_securityToken.getClass() == ChannelSecurityToken.class) {
+            ChannelSecurityTokenBinaryCodec.encode(_securityToken, encoder);
+        } else {
+            encoder.encodeSerializable(null, _securityToken);
+        }
+        encoder.encodeByteString(null, openSecureChannelResponse.getServerNonce());
+    }
+
+    public static void encodedSize(OpenSecureChannelResponse openSecureChannelResponse, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        ResponseHeader _responseHeader = openSecureChannelResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        ChannelSecurityToken _securityToken = openSecureChannelResponse.getSecurityToken();
+        if (_securityToken == null) {
+            ChannelSecurityTokenBinaryCodec.encodedSize(new ChannelSecurityToken(), sizer);
+        } else if (_securityToken.getClass() == ChannelSecurityToken.class) {
+            ChannelSecurityTokenBinaryCodec.encodedSize(_securityToken, sizer);
+        } else {
+            sizer.encodeSerializable(null, _securityToken);
+        }
+        sizer.encodeByteString(null, openSecureChannelResponse.getServerNonce());
+    }
+
+    public static OpenSecureChannelResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        UInteger _serverProtocolVersion = decoder.decodeUInt32(null);
+        ChannelSecurityToken _securityToken = ChannelSecurityTokenBinaryCodec.decode(decoder);
+        ByteString _serverNonce = decoder.decodeByteString(null);
+
+        return new OpenSecureChannelResponse(_responseHeader, _serverProtocolVersion, _securityToken, _serverNonce);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(OpenSecureChannelResponseBinaryCodec::encode, OpenSecureChannelResponse.class, OpenSecureChannelResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(OpenSecureChannelResponseBinaryCodec::decode, OpenSecureChannelResponse.class, OpenSecureChannelResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(OpenSecureChannelResponseBinaryCodec::encodedSize, OpenSecureChannelResponse.class, OpenSecureChannelResponse.BinaryEncodingId);
+    }
+
+}
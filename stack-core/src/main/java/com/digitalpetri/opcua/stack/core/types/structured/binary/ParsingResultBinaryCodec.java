@@ -0,0 +1,74 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.ParsingResult;
+
+public class ParsingResultBinaryCodec {
+
+    public static void encode(ParsingResult parsingResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, parsingResult.getStatusCode());
+        StatusCode[] _dataStatusCodes = parsingResult.getDataStatusCodes();
+        encoder.writeArrayLength(_dataStatusCodes);
+        if (_dataStatusCodes != null) {
+            for (StatusCode e : _dataStatusCodes) {
+                encoder.encodeStatusCode(null, e);
+            }
+        }
+        DiagnosticInfo[] _dataDiagnosticInfos = parsingResult.getDataDiagnosticInfos();
+        encoder.writeArrayLength(_dataDiagnosticInfos);
+        if (_dataDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _dataDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(ParsingResult parsingResult, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.addArraySize(parsingResult.getDataStatusCodes(), 4);
+        DiagnosticInfo[] _dataDiagnosticInfos = parsingResult.getDataDiagnosticInfos();
+        sizer.addSize(4);
+        if (_dataDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _dataDiagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static ParsingResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        StatusCode[] _dataStatusCodes;
+        if (decoder.isArrayStreamed("DataStatusCodes", StatusCode.class)) {
+            _dataStatusCodes = decoder.decodeArray("DataStatusCodes", decoder::decodeStatusCode, StatusCode.class);
+        } else {
+            _dataStatusCodes = new StatusCode[decoder.readArrayLength()];
+            for (int i = 0; i < _dataStatusCodes.length; i++) {
+                _dataStatusCodes[i] = decoder.decodeStatusCode(null);
+            }
+        }
+        DiagnosticInfo[] _dataDiagnosticInfos;
+        if (decoder.isArrayStreamed("DataDiagnosticInfos", DiagnosticInfo.class)) {
+            _dataDiagnosticInfos = decoder.decodeArray("DataDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _dataDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _dataDiagnosticInfos.length; i++) {
+                _dataDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new ParsingResult(_statusCode, _dataStatusCodes, _dataDiagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ParsingResultBinaryCodec::encode, ParsingResult.class, ParsingResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ParsingResultBinaryCodec::decode, ParsingResult.class, ParsingResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ParsingResultBinaryCodec::encodedSize, ParsingResult.class, ParsingResult.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.Argument;
+import com.digitalpetri.opcua.stack.core.types.structured.ProgramDiagnosticDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.StatusResult;
+
+public class ProgramDiagnosticDataTypeBinaryCodec {
+
+    public static void encode(ProgramDiagnosticDataType programDiagnosticDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, programDiagnosticDataType.getCreateSessionId());
+        encoder.encodeString(null, programDiagnosticDataType.getCreateClientName());
+        encoder.encodeDateTime(null, programDiagnosticDataType.getInvocationCreationTime());
+        encoder.encodeDateTime(null, programDiagnosticDataType.getLastTransitionTime());
+        encoder.encodeString(null, programDiagnosticDataType.getLastMethodCall());
+        encoder.encodeNodeId(null, programDiagnosticDataType.getLastMethodSessionId());
+        Argument[] _lastMethodInputArguments = programDiagnosticDataType.getLastMethodInputArguments();
+        encoder.writeArrayLength(_lastMethodInputArguments);
+        if (_lastMethodInputArguments != null) {
+            for (Argument e : _lastMethodInputArguments) {
+                if (e.getClass() == Argument.class) {
+                    ArgumentBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        Argument[] _lastMethodOutputArguments = programDiagnosticDataType.getLastMethodOutputArguments();
+        encoder.writeArrayLength(_lastMethodOutputArguments);
+        if (_lastMethodOutputArguments != null) {
+            for (Argument e : _lastMethodOutputArguments) {
+                if (e.getClass() == Argument.class) {
+                    ArgumentBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        encoder.encodeDateTime(null, programDiagnosticDataType.getLastMethodCallTime());
+        StatusResult _lastMethodReturnStatus = programDiagnosticDataType.getLastMethodReturnStatus();
+        if (_lastMethodReturnStatus == null) {
+            StatusResultBinaryCodec.encode(new StatusResult(), encoder);
+        } else if (_lastMethodReturnStatus.getClass() == StatusResult.class) {
+            StatusResultBinaryCodec.encode(_lastMethodReturnStatus, encoder);
+        } else {
+            encoder.encodeSerializable(null, _lastMethodReturnStatus);
+        }
+    }
+
+    public static void encodedSize(ProgramDiagnosticDataType programDiagnosticDataType, BinarySizeEncoder sizer) {
+        sizer.addSize(24);
+        sizer.encodeNodeId(null, programDiagnosticDataType.getCreateSessionId());
+        sizer.encodeString(null, programDiagnosticDataType.getCreateClientName());
+        sizer.encodeString(null, programDiagnosticDataType.getLastMethodCall());
+        sizer.encodeNodeId(null, programDiagnosticDataType.getLastMethodSessionId());
+        Argument[] _lastMethodInputArguments = programDiagnosticDataType.getLastMethodInputArguments();
+        sizer.addSize(4);
+        if (_lastMethodInputArguments != null) {
+            for (Argument e : _lastMethodInputArguments) {
+                sizer.checkLimit();
+                if (e.getClass() == Argument.class) {
+                    ArgumentBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        Argument[] _lastMethodOutputArguments = programDiagnosticDataType.getLastMethodOutputArguments();
+        sizer.addSize(4);
+        if (_lastMethodOutputArguments != null) {
+            for (Argument e : _lastMethodOutputArguments) {
+                sizer.checkLimit();
+                if (e.getClass() == Argument.class) {
+                    ArgumentBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        StatusResult _lastMethodReturnStatus = programDiagnosticDataType.getLastMethodReturnStatus();
+        if (_lastMethodReturnStatus == null) {
+            StatusResultBinaryCodec.encodedSize(new StatusResult(), sizer);
+        } else if (_lastMethodReturnStatus.getClass() == StatusResult.class) {
+            StatusResultBinaryCodec.encodedSize(_lastMethodReturnStatus, sizer);
+        } else {
+            sizer.encodeSerializable(null, _lastMethodReturnStatus);
+        }
+    }
+
+    public static ProgramDiagnosticDataType decode(BinaryDecoder decoder) {
+        NodeId _createSessionId = decoder.decodeNodeId(null);
+        String _createClientName = decoder.decodeString(null);
+        DateTime _invocationCreationTime = decoder.decodeDateTime(null);
+        DateTime _lastTransitionTime = decoder.decodeDateTime(null);
+        String _lastMethodCall = decoder.decodeString(null);
+        NodeId _lastMethodSessionId = decoder.decodeNodeId(null);
+        Argument[] _lastMethodInputArguments;
+        if (decoder.isArrayStreamed("LastMethodInputArguments", Argument.class)) {
+            _lastMethodInputArguments = decoder.decodeArray("LastMethodInputArguments", decoder::decodeSerializable, Argument.class);
+        } else {
+            _lastMethodInputArguments = new Argument[decoder.readArrayLength()];
+            for (int i = 0; i < _lastMethodInputArguments.length; i++) {
+                _lastMethodInputArguments[i] = ArgumentBinaryCodec.decode(decoder);
+            }
+        }
+        Argument[] _lastMethodOutputArguments;
+        if (decoder.isArrayStreamed("LastMethodOutputArguments", Argument.class)) {
+            _lastMethodOutputArguments = decoder.decodeArray("LastMethodOutputArguments", decoder::decodeSerializable, Argument.class);
+        } else {
+            _lastMethodOutputArguments = new Argument[decoder.readArrayLength()];
+            for (int i = 0; i < _lastMethodOutputArguments.length; i++) {
+                _lastMethodOutputArguments[i] = ArgumentBinaryCodec.decode(decoder);
+            }
+        }
+        DateTime _lastMethodCallTime = decoder.decodeDateTime(null);
+        StatusResult _lastMethodReturnStatus = StatusResultBinaryCodec.decode(decoder);
+
+        return new ProgramDiagnosticDataType(_createSessionId, _createClientName, _invocationCreationTime, _lastTransitionTime, _lastMethodCall, _lastMethodSessionId, _lastMethodInputArguments, _lastMethodOutputArguments, _lastMethodCallTime, _lastMethodReturnStatus);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ProgramDiagnosticDataTypeBinaryCodec::encode, ProgramDiagnosticDataType.class, ProgramDiagnosticDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ProgramDiagnosticDataTypeBinaryCodec::decode, ProgramDiagnosticDataType.class, ProgramDiagnosticDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ProgramDiagnosticDataTypeBinaryCodec::encodedSize, ProgramDiagnosticDataType.class, ProgramDiagnosticDataType.BinaryEncodingId);
+    }
+
+}
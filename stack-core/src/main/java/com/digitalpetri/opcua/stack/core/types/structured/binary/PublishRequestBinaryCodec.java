@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.SubscriptionAcknowledgement;
+
+public class PublishRequestBinaryCodec {
+
+    public static void encode(PublishRequest publishRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = publishRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        SubscriptionAcknowledgement[] _subscriptionAcknowledgements = publishRequest.getSubscriptionAcknowledgements();
+        encoder.writeArrayLength(_subscriptionAcknowledgements);
+        if (_subscriptionAcknowledgements != null) {
+            for (SubscriptionAcknowledgement e : _subscriptionAcknowledgements) {
+                if (e.getClass() == SubscriptionAcknowledgement.class) {
+                    SubscriptionAcknowledgementBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(PublishRequest publishRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = publishRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        SubscriptionAcknowledgement[] _subscriptionAcknowledgements = publishRequest.getSubscriptionAcknowledgements();
+        sizer.addSize(4);
+        if (_subscriptionAcknowledgements != null) {
+            for (SubscriptionAcknowledgement e : _subscriptionAcknowledgements) {
+                sizer.checkLimit();
+                if (e.getClass() == SubscriptionAcknowledgement.class) {
+                    SubscriptionAcknowledgementBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static PublishRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        SubscriptionAcknowledgement[] _subscriptionAcknowledgements;
+        if (decoder.isArrayStreamed("SubscriptionAcknowledgements", SubscriptionAcknowledgement.class)) {
+            _subscriptionAcknowledgements = decoder.decodeArray("SubscriptionAcknowledgements", decoder::decodeSerializable, SubscriptionAcknowledgement.class);
+        } else {
+            _subscriptionAcknowledgements = new SubscriptionAcknowledgement[decoder.readArrayLength()];
+            for (int i = 0; i < _subscriptionAcknowledgements.length; i++) {
+                _subscriptionAcknowledgements[i] = SubscriptionAcknowledgementBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new PublishRequest(_requestHeader, _subscriptionAcknowledgements);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(PublishRequestBinaryCodec::encode, PublishRequest.class, PublishRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(PublishRequestBinaryCodec::decode, PublishRequest.class, PublishRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(PublishRequestBinaryCodec::encodedSize, PublishRequest.class, PublishRequest.BinaryEncodingId);
+    }
+
+}
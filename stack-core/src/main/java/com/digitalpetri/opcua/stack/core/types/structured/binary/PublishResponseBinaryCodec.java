@@ -0,0 +1,130 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.NotificationMessage;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class PublishResponseBinaryCodec {
+
+    public static void encode(PublishResponse publishResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = publishResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        encoder.encodeUInt32(null, publishResponse.getSubscriptionId());
+        UInteger[] _availableSequenceNumbers = publishResponse.getAvailableSequenceNumbers();
+        encoder.writeArrayLength(_availableSequenceNumbers);
+        if (_availableSequenceNumbers != null) {
+            for (UInteger e : _availableSequenceNumbers) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+        encoder.encodeBoolean(null, publishResponse.getMoreNotifications());
+        NotificationMessage _notificationMessage = publishResponse.getNotificationMessage();
+        if (_notificationMessage == null) {
+            NotificationMessageBinaryCodec.encode(new NotificationMessage(), encoder);
+        } else if (_notificationMessage.getClass() == NotificationMessage.class) {
+            NotificationMessageBinaryCodec.encode(_notificationMessage, encoder);
+        } else {
+            encoder.encodeSerializable(null, _notificationMessage);
+        }
+        StatusCode[] _results = publishResponse.getResults();
+        encoder.writeArrayLength(_results);
+        if (_results != null) {
+            for (StatusCode e : _results) {
+                encoder.encodeStatusCode(null, e);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = publishResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(PublishResponse publishResponse, BinarySizeEncoder sizer) {
+        sizer.addSize(5);
+        ResponseHeader _responseHeader = publishResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        sizer.addArraySize(publishResponse.getAvailableSequenceNumbers(), 4);
+        NotificationMessage _notificationMessage = publishResponse.getNotificationMessage();
+        if (_notificationMessage == null) {
+            NotificationMessageBinaryCodec.encodedSize(new NotificationMessage(), sizer);
+        } else if (_notificationMessage.getClass() == NotificationMessage.class) {
+            NotificationMessageBinaryCodec.encodedSize(_notificationMessage, sizer);
+        } else {
+            sizer.encodeSerializable(null, _notificationMessage);
+        }
+        sizer.addArraySize(publishResponse.getResults(), 4);
+        DiagnosticInfo[] _diagnosticInfos = publishResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static PublishResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        UInteger[] _availableSequenceNumbers;
+        if (decoder.isArrayStreamed("AvailableSequenceNumbers", UInteger.class)) {
+            _availableSequenceNumbers = decoder.decodeArray("AvailableSequenceNumbers", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _availableSequenceNumbers = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _availableSequenceNumbers.length; i++) {
+                _availableSequenceNumbers[i] = decoder.decodeUInt32(null);
+            }
+        }
+        Boolean _moreNotifications = decoder.decodeBoolean(null);
+        NotificationMessage _notificationMessage = NotificationMessageBinaryCodec.decode(decoder);
+        StatusCode[] _results;
+        if (decoder.isArrayStreamed("Results", StatusCode.class)) {
+            _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode.class);
+        } else {
+            _results = new StatusCode[decoder.readArrayLength()];
+            for (int i = 0; i < _results.length; i++) {
+                _results[i] = decoder.decodeStatusCode(null);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new PublishResponse(_responseHeader, _subscriptionId, _availableSequenceNumbers, _moreNotifications, _notificationMessage, _results, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(PublishResponseBinaryCodec::encode, PublishResponse.class, PublishResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(PublishResponseBinaryCodec::decode, PublishResponse.class, PublishResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(PublishResponseBinaryCodec::encodedSize, PublishResponse.class, PublishResponse.BinaryEncodingId);
+    }
+
+}
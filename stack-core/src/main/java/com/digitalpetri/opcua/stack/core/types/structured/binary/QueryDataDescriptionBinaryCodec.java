@@ -0,0 +1,53 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryDataDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.RelativePath;
+
+public class QueryDataDescriptionBinaryCodec {
+
+    public static void encode(QueryDataDescription queryDataDescription, BinaryEncoder encoder) {
+        RelativePath _relativePath = queryDataDescription.getRelativePath();
+        if (_relativePath == null) {
+            RelativePathBinaryCodec.encode(new RelativePath(), encoder);
+        } else if (_relativePath.getClass() == RelativePath.class) {
+            RelativePathBinaryCodec.encode(_relativePath, encoder);
+        } else {
+            encoder.encodeSerializable(null, _relativePath);
+        }
+        encoder.encodeUInt32(null, queryDataDescription.getAttributeId());
+        encoder.encodeString(null, queryDataDescription.getIndexRange());
+    }
+
+    public static void encodedSize(QueryDataDescription queryDataDescription, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        RelativePath _relativePath = queryDataDescription.getRelativePath();
+        if (_relativePath == null) {
+            RelativePathBinaryCodec.encodedSize(new RelativePath(), sizer);
+        } else if (_relativePath.getClass() == RelativePath.class) {
+            RelativePathBinaryCodec.encodedSize(_relativePath, sizer);
+        } else {
+            sizer.encodeSerializable(null, _relativePath);
+        }
+        sizer.encodeString(null, queryDataDescription.getIndexRange());
+    }
+
+    public static QueryDataDescription decode(BinaryDecoder decoder) {
+        RelativePath _relativePath = RelativePathBinaryCodec.decode(decoder);
+        UInteger _attributeId = decoder.decodeUInt32(null);
+        String _indexRange = decoder.decodeString(null);
+
+        return new QueryDataDescription(_relativePath, _attributeId, _indexRange);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(QueryDataDescriptionBinaryCodec::encode, QueryDataDescription.class, QueryDataDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(QueryDataDescriptionBinaryCodec::decode, QueryDataDescription.class, QueryDataDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(QueryDataDescriptionBinaryCodec::encodedSize, QueryDataDescription.class, QueryDataDescription.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryDataSet;
+
+public class QueryDataSetBinaryCodec {
+
+    public static void encode(QueryDataSet queryDataSet, BinaryEncoder encoder) {
+        encoder.encodeExpandedNodeId(null, queryDataSet.getNodeId());
+        encoder.encodeExpandedNodeId(null, queryDataSet.getTypeDefinitionNode());
+        Variant[] _values = queryDataSet.getValues();
+        encoder.writeArrayLength(_values);
+        if (_values != null) {
+            for (Variant e : _values) {
+                encoder.encodeVariant(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(QueryDataSet queryDataSet, BinarySizeEncoder sizer) {
+        sizer.encodeExpandedNodeId(null, queryDataSet.getNodeId());
+        sizer.encodeExpandedNodeId(null, queryDataSet.getTypeDefinitionNode());
+        Variant[] _values = queryDataSet.getValues();
+        sizer.addSize(4);
+        if (_values != null) {
+            for (Variant e : _values) {
+                sizer.checkLimit();
+                sizer.encodeVariant(null, e);
+            }
+        }
+    }
+
+    public static QueryDataSet decode(BinaryDecoder decoder) {
+        ExpandedNodeId _nodeId = decoder.decodeExpandedNodeId(null);
+        ExpandedNodeId _typeDefinitionNode = decoder.decodeExpandedNodeId(null);
+        Variant[] _values;
+        if (decoder.isArrayStreamed("Values", Variant.class)) {
+            _values = decoder.decodeArray("Values", decoder::decodeVariant, Variant.class);
+        } else {
+            _values = new Variant[decoder.readArrayLength()];
+            for (int i = 0; i < _values.length; i++) {
+                _values[i] = decoder.decodeVariant(null);
+            }
+        }
+
+        return new QueryDataSet(_nodeId, _typeDefinitionNode, _values);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(QueryDataSetBinaryCodec::encode, QueryDataSet.class, QueryDataSet.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(QueryDataSetBinaryCodec::decode, QueryDataSet.class, QueryDataSet.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(QueryDataSetBinaryCodec::encodedSize, QueryDataSet.class, QueryDataSet.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.NodeTypeDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryFirstRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ViewDescription;
+
+public class QueryFirstRequestBinaryCodec {
+
+    public static void encode(QueryFirstRequest queryFirstRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = queryFirstRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        ViewDescription _view = queryFirstRequest.getView();
+        if (_view == null) {
+            ViewDescriptionBinaryCodec.encode(new ViewDescription(), encoder);
+        } else if (_view.getClass() == ViewDescription.class) {
+            ViewDescriptionBinaryCodec.encode(_view, encoder);
+        } else {
+            encoder.encodeSerializable(null, _view);
+        }
+        NodeTypeDescription[] _nodeTypes = queryFirstRequest.getNodeTypes();
+        encoder.writeArrayLength(_nodeTypes);
+        if (_nodeTypes != null) {
+            for (NodeTypeDescription e : _nodeTypes) {
+                if (e.getClass() == NodeTypeDescription.class) {
+                    NodeTypeDescriptionBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        ContentFilter _filter = queryFirstRequest.getFilter();
+        if (_filter == null) {
+            ContentFilterBinaryCodec.encode(new ContentFilter(), encoder);
+        } else if (_filter.getClass() == ContentFilter.class) {
+            ContentFilterBinaryCodec.encode(_filter, encoder);
+        } else {
+            encoder.encodeSerializable(null, _filter);
+        }
+        encoder.encodeUInt32(null, queryFirstRequest.getMaxDataSetsToReturn());
+        encoder.encodeUInt32(null, queryFirstRequest.getMaxReferencesToReturn());
+    }
+
+    public static void encodedSize(QueryFirstRequest queryFirstRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+        RequestHeader _requestHeader = queryFirstRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        ViewDescription _view = queryFirstRequest.getView();
+        if (_view == null) {
+            ViewDescriptionBinaryCodec.encodedSize(new ViewDescription(), sizer);
+        } else if (_view.getClass() == ViewDescription.class) {
+            ViewDescriptionBinaryCodec.encodedSize(_view, sizer);
+        } else {
+            sizer.encodeSerializable(null, _view);
+        }
+        NodeTypeDescription[] _nodeTypes = queryFirstRequest.getNodeTypes();
+        sizer.addSize(4);
+        if (_nodeTypes != null) {
+            for (NodeTypeDescription e : _nodeTypes) {
+                sizer.checkLimit();
+                if (e.getClass() == NodeTypeDescription.class) {
+                    NodeTypeDescriptionBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        ContentFilter _filter = queryFirstRequest.getFilter();
+        if (_filter == null) {
+            ContentFilterBinaryCodec.encodedSize(new ContentFilter(), sizer);
+        } else if (_filter.getClass() == ContentFilter.class) {
+            ContentFilterBinaryCodec.encodedSize(_filter, sizer);
+        } else {
+            sizer.encodeSerializable(null, _filter);
+        }
+    }
+
+    public static QueryFirstRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        ViewDescription _view = ViewDescriptionBinaryCodec.decode(decoder);
+        NodeTypeDescription[] _nodeTypes;
+        if (decoder.isArrayStreamed("NodeTypes", NodeTypeDescription.class)) {
+            _nodeTypes = decoder.decodeArray("NodeTypes", decoder::decodeSerializable, NodeTypeDescription.class);
+        } else {
+            _nodeTypes = new NodeTypeDescription[decoder.readArrayLength()];
+            for (int i = 0; i < _nodeTypes.length; i++) {
+                _nodeTypes[i] = NodeTypeDescriptionBinaryCodec.decode(decoder);
+            }
+        }
+        ContentFilter _filter = ContentFilterBinaryCodec.decode(decoder);
+        UInteger _maxDataSetsToReturn = decoder.decodeUInt32(null);
+        UInteger _maxReferencesToReturn = decoder.decodeUInt32(null);
+
+        return new QueryFirstRequest(_requestHeader, _view, _nodeTypes, _filter, _maxDataSetsToReturn, _maxReferencesToReturn);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(QueryFirstRequestBinaryCodec::encode, QueryFirstRequest.class, QueryFirstRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(QueryFirstRequestBinaryCodec::decode, QueryFirstRequest.class, QueryFirstRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(QueryFirstRequestBinaryCodec::encodedSize, QueryFirstRequest.class, QueryFirstRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilterResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ParsingResult;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryDataSet;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryFirstResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class QueryFirstResponseBinaryCodec {
+
+    public static void encode(QueryFirstResponse queryFirstResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = queryFirstResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        QueryDataSet[] _queryDataSets = queryFirstResponse.getQueryDataSets();
+        encoder.writeArrayLength(_queryDataSets);
+        if (_queryDataSets != null) {
+            for (QueryDataSet e : _queryDataSets) {
+                if (e.getClass() == QueryDataSet.class) {
+                    QueryDataSetBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        encoder.encodeByteString(null, queryFirstResponse.getContinuationPoint());
+        ParsingResult[] _parsingResults = queryFirstResponse.getParsingResults();
+        encoder.writeArrayLength(_parsingResults);
+        if (_parsingResults != null) {
+            for (ParsingResult e : _parsingResults) {
+                if (e.getClass() == ParsingResult.class) {
+                    ParsingResultBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = queryFirstResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+        ContentFilterResult _filterResult = queryFirstResponse.getFilterResult();
+        if (_filterResult == null) {
+            ContentFilterResultBinaryCodec.encode(new ContentFilterResult(), encoder);
+        } else if (_filterResult.getClass() == ContentFilterResult.class) {
+            ContentFilterResultBinaryCodec.encode(_filterResult, encoder);
+        } else {
+            encoder.encodeSerializable(null, _filterResult);
+        }
+    }
+
+    public static void encodedSize(QueryFirstResponse queryFirstResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = queryFirstResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        QueryDataSet[] _queryDataSets = queryFirstResponse.getQueryDataSets();
+        sizer.addSize(4);
+        if (_queryDataSets != null) {
+            for (QueryDataSet e : _queryDataSets) {
+                sizer.checkLimit();
+                if (e.getClass() == QueryDataSet.class) {
+                    QueryDataSetBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        sizer.encodeByteString(null, queryFirstResponse.getContinuationPoint());
+        ParsingResult[] _parsingResults = queryFirstResponse.getParsingResults();
+        sizer.addSize(4);
+        if (_parsingResults != null) {
+            for (ParsingResult e : _parsingResults) {
+                sizer.checkLimit();
+                if (e.getClass() == ParsingResult.class) {
+                    ParsingResultBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = queryFirstResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+        ContentFilterResult _filterResult = queryFirstResponse.getFilterResult();
+        if (_filterResult == null) {
+            ContentFilterResultBinaryCodec.encodedSize(new ContentFilterResult(), sizer);
+        } else if (_filterResult.getClass() == ContentFilterResult.class) {
+            ContentFilterResultBinaryCodec.encodedSize(_filterResult, sizer);
+        } else {
+            sizer.encodeSerializable(null, _filterResult);
+        }
+    }
+
+    public static QueryFirstResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        QueryDataSet[] _queryDataSets;
+        if (decoder.isArrayStreamed("QueryDataSets", QueryDataSet.class)) {
+            _queryDataSets = decoder.decodeArray("QueryDataSets", decoder::decodeSerializable, QueryDataSet.class);
+        } else {
+            _queryDataSets = new QueryDataSet[decoder.readArrayLength()];
+            for (int i = 0; i < _queryDataSets.length; i++) {
+                _queryDataSets[i] = QueryDataSetBinaryCodec.decode(decoder);
+            }
+        }
+        ByteString _continuationPoint = decoder.decodeByteString(null);
+        ParsingResult[] _parsingResults;
+        if (decoder.isArrayStreamed("ParsingResults", ParsingResult.class)) {
+            _parsingResults = decoder.decodeArray("ParsingResults", decoder::decodeSerializable, ParsingResult.class);
+        } else {
+            _parsingResults = new ParsingResult[decoder.readArrayLength()];
+            for (int i = 0; i < _parsingResults.length; i++) {
+                _parsingResults[i] = ParsingResultBinaryCodec.decode(decoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+        ContentFilterResult _filterResult = ContentFilterResultBinaryCodec.decode(decoder);
+
+        return new QueryFirstResponse(_responseHeader, _queryDataSets, _continuationPoint, _parsingResults, _diagnosticInfos, _filterResult);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(QueryFirstResponseBinaryCodec::encode, QueryFirstResponse.class, QueryFirstResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(QueryFirstResponseBinaryCodec::decode, QueryFirstResponse.class, QueryFirstResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(QueryFirstResponseBinaryCodec::encodedSize, QueryFirstResponse.class, QueryFirstResponse.BinaryEncodingId);
+    }
+
+}
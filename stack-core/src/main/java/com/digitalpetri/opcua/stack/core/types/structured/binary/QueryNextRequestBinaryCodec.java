@@ -0,0 +1,53 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryNextRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class QueryNextRequestBinaryCodec {
+
+    public static void encode(QueryNextRequest queryNextRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = queryNextRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeBoolean(null, queryNextRequest.getReleaseContinuationPoint());
+        encoder.encodeByteString(null, queryNextRequest.getContinuationPoint());
+    }
+
+    public static void encodedSize(QueryNextRequest queryNextRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(1);
+        RequestHeader _requestHeader = queryNextRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        sizer.encodeByteString(null, queryNextRequest.getContinuationPoint());
+    }
+
+    public static QueryNextRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        Boolean _releaseContinuationPoint = decoder.decodeBoolean(null);
+        ByteString _continuationPoint = decoder.decodeByteString(null);
+
+        return new QueryNextRequest(_requestHeader, _releaseContinuationPoint, _continuationPoint);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(QueryNextRequestBinaryCodec::encode, QueryNextRequest.class, QueryNextRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(QueryNextRequestBinaryCodec::decode, QueryNextRequest.class, QueryNextRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(QueryNextRequestBinaryCodec::encodedSize, QueryNextRequest.class, QueryNextRequest.BinaryEncodingId);
+    }
+
+}
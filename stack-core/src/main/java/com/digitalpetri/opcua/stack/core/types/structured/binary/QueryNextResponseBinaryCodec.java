@@ -0,0 +1,83 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryDataSet;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryNextResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class QueryNextResponseBinaryCodec {
+
+    public static void encode(QueryNextResponse queryNextResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = queryNextResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        QueryDataSet[] _queryDataSets = queryNextResponse.getQueryDataSets();
+        encoder.writeArrayLength(_queryDataSets);
+        if (_queryDataSets != null) {
+            for (QueryDataSet e : _queryDataSets) {
+                if (e.getClass() == QueryDataSet.class) {
+                    QueryDataSetBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        encoder.encodeByteString(null, queryNextResponse.getRevisedContinuationPoint());
+    }
+
+    public static void encodedSize(QueryNextResponse queryNextResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = queryNextResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        QueryDataSet[] _queryDataSets = queryNextResponse.getQueryDataSets();
+        sizer.addSize(4);
+        if (_queryDataSets != null) {
+            for (QueryDataSet e : _queryDataSets) {
+                sizer.checkLimit();
+                if (e.getClass() == QueryDataSet.class) {
+                    QueryDataSetBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        sizer.encodeByteString(null, queryNextResponse.getRevisedContinuationPoint());
+    }
+
+    public static QueryNextResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        QueryDataSet[] _queryDataSets;
+        if (decoder.isArrayStreamed("QueryDataSets", QueryDataSet.class)) {
+            _queryDataSets = decoder.decodeArray("QueryDataSets", decoder::decodeSerializable, QueryDataSet.class);
+        } else {
+            _queryDataSets = new QueryDataSet[decoder.readArrayLength()];
+            for (int i = 0; i < _queryDataSets.length; i++) {
+                _queryDataSets[i] = QueryDataSetBinaryCodec.decode(decoder);
+            }
+        }
+        ByteString _revisedContinuationPoint = decoder.decodeByteString(null);
+
+        return new QueryNextResponse(_responseHeader, _queryDataSets, _revisedContinuationPoint);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(QueryNextResponseBinaryCodec::encode, QueryNextResponse.class, QueryNextResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(QueryNextResponseBinaryCodec::decode, QueryNextResponse.class, QueryNextResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(QueryNextResponseBinaryCodec::encodedSize, QueryNextResponse.class, QueryNextResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.Range;
+
+public class RangeBinaryCodec {
+
+    public static void encode(Range range, BinaryEncoder encoder) {
+        encoder.encodeDouble(null, range.getLow());
+        encoder.encodeDouble(null, range.getHigh());
+    }
+
+    public static void encodedSize(Range range, BinarySizeEncoder sizer) {
+        sizer.addSize(16);
+    }
+
+    public static Range decode(BinaryDecoder decoder) {
+        Double _low = decoder.decodeDouble(null);
+        Double _high = decoder.decodeDouble(null);
+
+        return new Range(_low, _high);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(RangeBinaryCodec::encode, Range.class, Range.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(RangeBinaryCodec::decode, Range.class, Range.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(RangeBinaryCodec::encodedSize, Range.class, Range.BinaryEncodingId);
+    }
+
+}
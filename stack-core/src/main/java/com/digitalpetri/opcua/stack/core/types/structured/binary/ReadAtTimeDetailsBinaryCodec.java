@@ -0,0 +1,49 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadAtTimeDetails;
+
+public class ReadAtTimeDetailsBinaryCodec {
+
+    public static void encode(ReadAtTimeDetails readAtTimeDetails, BinaryEncoder encoder) {
+        DateTime[] _reqTimes = readAtTimeDetails.getReqTimes();
+        encoder.writeArrayLength(_reqTimes);
+        if (_reqTimes != null) {
+            for (DateTime e : _reqTimes) {
+                encoder.encodeDateTime(null, e);
+            }
+        }
+        encoder.encodeBoolean(null, readAtTimeDetails.getUseSimpleBounds());
+    }
+
+    public static void encodedSize(ReadAtTimeDetails readAtTimeDetails, BinarySizeEncoder sizer) {
+        sizer.addSize(1);
+        sizer.addArraySize(readAtTimeDetails.getReqTimes(), 8);
+    }
+
+    public static ReadAtTimeDetails decode(BinaryDecoder decoder) {
+        DateTime[] _reqTimes;
+        if (decoder.isArrayStreamed("ReqTimes", DateTime.class)) {
+            _reqTimes = decoder.decodeArray("ReqTimes", decoder::decodeDateTime, DateTime.class);
+        } else {
+            _reqTimes = new DateTime[decoder.readArrayLength()];
+            for (int i = 0; i < _reqTimes.length; i++) {
+                _reqTimes[i] = decoder.decodeDateTime(null);
+            }
+        }
+        Boolean _useSimpleBounds = decoder.decodeBoolean(null);
+
+        return new ReadAtTimeDetails(_reqTimes, _useSimpleBounds);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ReadAtTimeDetailsBinaryCodec::encode, ReadAtTimeDetails.class, ReadAtTimeDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ReadAtTimeDetailsBinaryCodec::decode, ReadAtTimeDetails.class, ReadAtTimeDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ReadAtTimeDetailsBinaryCodec::encodedSize, ReadAtTimeDetails.class, ReadAtTimeDetails.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.EventFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadEventDetails;
+
+public class ReadEventDetailsBinaryCodec {
+
+    public static void encode(ReadEventDetails readEventDetails, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, readEventDetails.getNumValuesPerNode());
+        encoder.encodeDateTime(null, readEventDetails.getStartTime());
+        encoder.encodeDateTime(null, readEventDetails.getEndTime());
+        EventFilter _filter = readEventDetails.getFilter();
+        if (_filter == null) {
+            EventFilterBinaryCodec.encode(new EventFilter(), encoder);
+        } else if (_filter.getClass() == EventFilter.class) {
+            EventFilterBinaryCodec.encode(_filter, encoder);
+        } else {
+            encoder.encodeSerializable(null, _filter);
+        }
+    }
+
+    public static void encodedSize(ReadEventDetails readEventDetails, BinarySizeEncoder sizer) {
+        sizer.addSize(20);
+        EventFilter _filter = readEventDetails.getFilter();
+        if (_filter == null) {
+            EventFilterBinaryCodec.encodedSize(new EventFilter(), sizer);
+        } else if (_filter.getClass() == EventFilter.class) {
+            EventFilterBinaryCodec.encodedSize(_filter, sizer);
+        } else {
+            sizer.encodeSerializable(null, _filter);
+        }
+    }
+
+    public static ReadEventDetails decode(BinaryDecoder decoder) {
+        UInteger _numValuesPerNode = decoder.decodeUInt32(null);
+        DateTime _startTime = decoder.decodeDateTime(null);
+        DateTime _endTime = decoder.decodeDateTime(null);
+        EventFilter _filter = EventFilterBinaryCodec.decode(decoder);
+
+        return new ReadEventDetails(_numValuesPerNode, _startTime, _endTime, _filter);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ReadEventDetailsBinaryCodec::encode, ReadEventDetails.class, ReadEventDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ReadEventDetailsBinaryCodec::decode, ReadEventDetails.class, ReadEventDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ReadEventDetailsBinaryCodec::encodedSize, ReadEventDetails.class, ReadEventDetails.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.AggregateConfiguration;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadProcessedDetails;
+
+public class ReadProcessedDetailsBinaryCodec {
+
+    public static void encode(ReadProcessedDetails readProcessedDetails, BinaryEncoder encoder) {
+        encoder.encodeDateTime(null, readProcessedDetails.getStartTime());
+        encoder.encodeDateTime(null, readProcessedDetails.getEndTime());
+        encoder.encodeDouble(null, readProcessedDetails.getProcessingInterval());
+        NodeId[] _aggregateType = readProcessedDetails.getAggregateType();
+        encoder.writeArrayLength(_aggregateType);
+        if (_aggregateType != null) {
+            for (NodeId e : _aggregateType) {
+                encoder.encodeNodeId(null, e);
+            }
+        }
+        AggregateConfiguration _aggregateConfiguration = readProcessedDetails.getAggregateConfiguration();
+        if (_aggregateConfiguration == null) {
+            AggregateConfigurationBinaryCodec.encode(new AggregateConfiguration(), encoder);
+        } else if (_aggregateConfiguration.getClass() == AggregateConfiguration.class) {
+            AggregateConfigurationBinaryCodec.encode(_aggregateConfiguration, encoder);
+        } else {
+            encoder.encodeSerializable(null, _aggregateConfiguration);
+        }
+    }
+
+    public static void encodedSize(ReadProcessedDetails readProcessedDetails, BinarySizeEncoder sizer) {
+        sizer.addSize(24);
+        NodeId[] _aggregateType = readProcessedDetails.getAggregateType();
+        sizer.addSize(4);
+        if (_aggregateType != null) {
+            for (NodeId e : _aggregateType) {
+                sizer.checkLimit();
+                sizer.encodeNodeId(null, e);
+            }
+        }
+        AggregateConfiguration _aggregateConfiguration = readProcessedDetails.getAggregateConfiguration();
+        if (_aggregateConfiguration == null) {
+            AggregateConfigurationBinaryCodec.encodedSize(new AggregateConfiguration(), sizer);
+        } else if (_aggregateConfiguration.getClass() == AggregateConfiguration.class) {
+            AggregateConfigurationBinaryCodec.encodedSize(_aggregateConfiguration, sizer);
+        } else {
+            sizer.encodeSerializable(null, _aggregateConfiguration);
+        }
+    }
+
+    public static ReadProcessedDetails decode(BinaryDecoder decoder) {
+        DateTime _startTime = decoder.decodeDateTime(null);
+        DateTime _endTime = decoder.decodeDateTime(null);
+        Double _processingInterval = decoder.decodeDouble(null);
+        NodeId[] _aggregateType;
+        if (decoder.isArrayStreamed("AggregateType", NodeId.class)) {
+            _aggregateType = decoder.decodeArray("AggregateType", decoder::decodeNodeId, NodeId.class);
+        } else {
+            _aggregateType = new NodeId[decoder.readArrayLength()];
+            for (int i = 0; i < _aggregateType.length; i++) {
+                _aggregateType[i] = decoder.decodeNodeId(null);
+            }
+        }
+        AggregateConfiguration _aggregateConfiguration = AggregateConfigurationBinaryCodec.decode(decoder);
+
+        return new ReadProcessedDetails(_startTime, _endTime, _processingInterval, _aggregateType, _aggregateConfiguration);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ReadProcessedDetailsBinaryCodec::encode, ReadProcessedDetails.class, ReadProcessedDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ReadProcessedDetailsBinaryCodec::decode, ReadProcessedDetails.class, ReadProcessedDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ReadProcessedDetailsBinaryCodec::encodedSize, ReadProcessedDetails.class, ReadProcessedDetails.BinaryEncodingId);
+    }
+
+}
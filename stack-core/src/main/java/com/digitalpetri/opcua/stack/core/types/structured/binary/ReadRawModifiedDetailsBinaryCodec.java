@@ -0,0 +1,41 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRawModifiedDetails;
+
+public class ReadRawModifiedDetailsBinaryCodec {
+
+    public static void encode(ReadRawModifiedDetails readRawModifiedDetails, BinaryEncoder encoder) {
+        encoder.encodeBoolean(null, readRawModifiedDetails.getIsReadModified());
+        encoder.encodeDateTime(null, readRawModifiedDetails.getStartTime());
+        encoder.encodeDateTime(null, readRawModifiedDetails.getEndTime());
+        encoder.encodeUInt32(null, readRawModifiedDetails.getNumValuesPerNode());
+        encoder.encodeBoolean(null, readRawModifiedDetails.getReturnBounds());
+    }
+
+    public static void encodedSize(ReadRawModifiedDetails readRawModifiedDetails, BinarySizeEncoder sizer) {
+        sizer.addSize(22);
+    }
+
+    public static ReadRawModifiedDetails decode(BinaryDecoder decoder) {
+        Boolean _isReadModified = decoder.decodeBoolean(null);
+        DateTime _startTime = decoder.decodeDateTime(null);
+        DateTime _endTime = decoder.decodeDateTime(null);
+        UInteger _numValuesPerNode = decoder.decodeUInt32(null);
+        Boolean _returnBounds = decoder.decodeBoolean(null);
+
+        return new ReadRawModifiedDetails(_isReadModified, _startTime, _endTime, _numValuesPerNode, _returnBounds);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ReadRawModifiedDetailsBinaryCodec::encode, ReadRawModifiedDetails.class, ReadRawModifiedDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ReadRawModifiedDetailsBinaryCodec::decode, ReadRawModifiedDetails.class, ReadRawModifiedDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ReadRawModifiedDetailsBinaryCodec::encodedSize, ReadRawModifiedDetails.class, ReadRawModifiedDetails.BinaryEncodingId);
+    }
+
+}
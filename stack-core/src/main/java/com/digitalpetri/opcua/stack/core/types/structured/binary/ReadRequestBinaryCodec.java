@@ -0,0 +1,86 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class ReadRequestBinaryCodec {
+
+    public static void encode(ReadRequest readRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = readRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeDouble(null, readRequest.getMaxAge());
+        TimestampsToReturn _timestampsToReturn = readRequest.getTimestampsToReturn();
+        encoder.writeInt32(null, _timestampsToReturn != null ? _timestampsToReturn.getValue() : -1);
+        ReadValueId[] _nodesToRead = readRequest.getNodesToRead();
+        encoder.writeArrayLength(_nodesToRead);
+        if (_nodesToRead != null) {
+            for (ReadValueId e : _nodesToRead) {
+                if (e.getClass() == ReadValueId.class) {
+                    ReadValueIdBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(ReadRequest readRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(12);
+        RequestHeader _requestHeader = readRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        ReadValueId[] _nodesToRead = readRequest.getNodesToRead();
+        sizer.addSize(4);
+        if (_nodesToRead != null) {
+            for (ReadValueId e : _nodesToRead) {
+                sizer.checkLimit();
+                if (e.getClass() == ReadValueId.class) {
+                    ReadValueIdBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static ReadRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        Double _maxAge = decoder.decodeDouble(null);
+        TimestampsToReturn _timestampsToReturn = TimestampsToReturn.decode(decoder);
+        ReadValueId[] _nodesToRead;
+        if (decoder.isArrayStreamed("NodesToRead", ReadValueId.class)) {
+            _nodesToRead = decoder.decodeArray("NodesToRead", decoder::decodeSerializable, ReadValueId.class);
+        } else {
+            _nodesToRead = new ReadValueId[decoder.readArrayLength()];
+            for (int i = 0; i < _nodesToRead.length; i++) {
+                _nodesToRead[i] = ReadValueIdBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new ReadRequest(_requestHeader, _maxAge, _timestampsToReturn, _nodesToRead);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ReadRequestBinaryCodec::encode, ReadRequest.class, ReadRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ReadRequestBinaryCodec::decode, ReadRequest.class, ReadRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ReadRequestBinaryCodec::encodedSize, ReadRequest.class, ReadRequest.BinaryEncodingId);
+    }
+
+}
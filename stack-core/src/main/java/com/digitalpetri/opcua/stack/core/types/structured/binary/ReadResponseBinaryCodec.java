@@ -0,0 +1,96 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class ReadResponseBinaryCodec {
+
+    public static void encode(ReadResponse readResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = readResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        DataValue[] _results = readResponse.getResults();
+        encoder.writeArrayLength(_results);
+        if (_results != null) {
+            for (DataValue e : _results) {
+                encoder.encodeDataValue(null, e);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = readResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(ReadResponse readResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = readResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        DataValue[] _results = readResponse.getResults();
+        sizer.addSize(4);
+        if (_results != null) {
+            for (DataValue e : _results) {
+                sizer.checkLimit();
+                sizer.encodeDataValue(null, e);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = readResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static ReadResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        DataValue[] _results;
+        if (decoder.isArrayStreamed("Results", DataValue.class)) {
+            _results = decoder.decodeArray("Results", decoder::decodeDataValue, DataValue.class);
+        } else {
+            _results = new DataValue[decoder.readArrayLength()];
+            for (int i = 0; i < _results.length; i++) {
+                _results[i] = decoder.decodeDataValue(null);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new ReadResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ReadResponseBinaryCodec::encode, ReadResponse.class, ReadResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ReadResponseBinaryCodec::decode, ReadResponse.class, ReadResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ReadResponseBinaryCodec::encodedSize, ReadResponse.class, ReadResponse.BinaryEncodingId);
+    }
+
+}
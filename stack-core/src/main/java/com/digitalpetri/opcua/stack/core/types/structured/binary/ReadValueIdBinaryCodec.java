@@ -0,0 +1,43 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+
+public class ReadValueIdBinaryCodec {
+
+    public static void encode(ReadValueId readValueId, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, readValueId.getNodeId());
+        encoder.encodeUInt32(null, readValueId.getAttributeId());
+        encoder.encodeString(null, readValueId.getIndexRange());
+        encoder.encodeQualifiedName(null, readValueId.getDataEncoding());
+    }
+
+    public static void encodedSize(ReadValueId readValueId, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeNodeId(null, readValueId.getNodeId());
+        sizer.encodeString(null, readValueId.getIndexRange());
+        sizer.encodeQualifiedName(null, readValueId.getDataEncoding());
+    }
+
+    public static ReadValueId decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        UInteger _attributeId = decoder.decodeUInt32(null);
+        String _indexRange = decoder.decodeString(null);
+        QualifiedName _dataEncoding = decoder.decodeQualifiedName(null);
+
+        return new ReadValueId(_nodeId, _attributeId, _indexRange, _dataEncoding);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ReadValueIdBinaryCodec::encode, ReadValueId.class, ReadValueId.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ReadValueIdBinaryCodec::decode, ReadValueId.class, ReadValueId.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ReadValueIdBinaryCodec::encodedSize, ReadValueId.class, ReadValueId.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.enumerated.ServerState;
+import com.digitalpetri.opcua.stack.core.types.structured.RedundantServerDataType;
+
+public class RedundantServerDataTypeBinaryCodec {
+
+    public static void encode(RedundantServerDataType redundantServerDataType, BinaryEncoder encoder) {
+        encoder.encodeString(null, redundantServerDataType.getServerId());
+        encoder.encodeByte(null, redundantServerDataType.getServiceLevel());
+        ServerState _serverState = redundantServerDataType.getServerState();
+        encoder.writeInt32(null, _serverState != null ? _serverState.getValue() : -1);
+    }
+
+    public static void encodedSize(RedundantServerDataType redundantServerDataType, BinarySizeEncoder sizer) {
+        sizer.addSize(5);
+        sizer.encodeString(null, redundantServerDataType.getServerId());
+    }
+
+    public static RedundantServerDataType decode(BinaryDecoder decoder) {
+        String _serverId = decoder.decodeString(null);
+        UByte _serviceLevel = decoder.decodeByte(null);
+        ServerState _serverState = ServerState.decode(decoder);
+
+        return new RedundantServerDataType(_serverId, _serviceLevel, _serverState);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(RedundantServerDataTypeBinaryCodec::encode, RedundantServerDataType.class, RedundantServerDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(RedundantServerDataTypeBinaryCodec::decode, RedundantServerDataType.class, RedundantServerDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(RedundantServerDataTypeBinaryCodec::encodedSize, RedundantServerDataType.class, RedundantServerDataType.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceDescription;
+
+public class ReferenceDescriptionBinaryCodec {
+
+    public static void encode(ReferenceDescription referenceDescription, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, referenceDescription.getReferenceTypeId());
+        encoder.encodeBoolean(null, referenceDescription.getIsForward());
+        encoder.encodeExpandedNodeId(null, referenceDescription.getNodeId());
+        encoder.encodeQualifiedName(null, referenceDescription.getBrowseName());
+        encoder.encodeLocalizedText(null, referenceDescription.getDisplayName());
+        NodeClass _nodeClass = referenceDescription.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeExpandedNodeId(null, referenceDescription.getTypeDefinition());
+    }
+
+    public static void encodedSize(ReferenceDescription referenceDescription, BinarySizeEncoder sizer) {
+        sizer.addSize(5);
+        sizer.encodeNodeId(null, referenceDescription.getReferenceTypeId());
+        sizer.encodeExpandedNodeId(null, referenceDescription.getNodeId());
+        sizer.encodeQualifiedName(null, referenceDescription.getBrowseName());
+        sizer.encodeLocalizedText(null, referenceDescription.getDisplayName());
+        sizer.encodeExpandedNodeId(null, referenceDescription.getTypeDefinition());
+    }
+
+    public static ReferenceDescription decode(BinaryDecoder decoder) {
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _isForward = decoder.decodeBoolean(null);
+        ExpandedNodeId _nodeId = decoder.decodeExpandedNodeId(null);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        ExpandedNodeId _typeDefinition = decoder.decodeExpandedNodeId(null);
+
+        return new ReferenceDescription(_referenceTypeId, _isForward, _nodeId, _browseName, _displayName, _nodeClass, _typeDefinition);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ReferenceDescriptionBinaryCodec::encode, ReferenceDescription.class, ReferenceDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ReferenceDescriptionBinaryCodec::decode, ReferenceDescription.class, ReferenceDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ReferenceDescriptionBinaryCodec::encodedSize, ReferenceDescription.class, ReferenceDescription.BinaryEncodingId);
+    }
+
+}
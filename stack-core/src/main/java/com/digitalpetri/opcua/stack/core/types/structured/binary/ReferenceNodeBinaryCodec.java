@@ -0,0 +1,39 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+
+public class ReferenceNodeBinaryCodec {
+
+    public static void encode(ReferenceNode referenceNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, referenceNode.getReferenceTypeId());
+        encoder.encodeBoolean(null, referenceNode.getIsInverse());
+        encoder.encodeExpandedNodeId(null, referenceNode.getTargetId());
+    }
+
+    public static void encodedSize(ReferenceNode referenceNode, BinarySizeEncoder sizer) {
+        sizer.addSize(1);
+        sizer.encodeNodeId(null, referenceNode.getReferenceTypeId());
+        sizer.encodeExpandedNodeId(null, referenceNode.getTargetId());
+    }
+
+    public static ReferenceNode decode(BinaryDecoder decoder) {
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _isInverse = decoder.decodeBoolean(null);
+        ExpandedNodeId _targetId = decoder.decodeExpandedNodeId(null);
+
+        return new ReferenceNode(_referenceTypeId, _isInverse, _targetId);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ReferenceNodeBinaryCodec::encode, ReferenceNode.class, ReferenceNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ReferenceNodeBinaryCodec::decode, ReferenceNode.class, ReferenceNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ReferenceNodeBinaryCodec::encodedSize, ReferenceNode.class, ReferenceNode.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceTypeAttributes;
+
+public class ReferenceTypeAttributesBinaryCodec {
+
+    public static void encode(ReferenceTypeAttributes referenceTypeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, referenceTypeAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, referenceTypeAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, referenceTypeAttributes.getDescription());
+        encoder.encodeUInt32(null, referenceTypeAttributes.getWriteMask());
+        encoder.encodeUInt32(null, referenceTypeAttributes.getUserWriteMask());
+        encoder.encodeBoolean(null, referenceTypeAttributes.getIsAbstract());
+        encoder.encodeBoolean(null, referenceTypeAttributes.getSymmetric());
+        encoder.encodeLocalizedText(null, referenceTypeAttributes.getInverseName());
+    }
+
+    public static void encodedSize(ReferenceTypeAttributes referenceTypeAttributes, BinarySizeEncoder sizer) {
+        sizer.addSize(14);
+        sizer.encodeLocalizedText(null, referenceTypeAttributes.getDisplayName());
+        sizer.encodeLocalizedText(null, referenceTypeAttributes.getDescription());
+        sizer.encodeLocalizedText(null, referenceTypeAttributes.getInverseName());
+    }
+
+    public static ReferenceTypeAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+        Boolean _symmetric = decoder.decodeBoolean(null);
+        LocalizedText _inverseName = decoder.decodeLocalizedText(null);
+
+        return new ReferenceTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _isAbstract, _symmetric, _inverseName);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ReferenceTypeAttributesBinaryCodec::encode, ReferenceTypeAttributes.class, ReferenceTypeAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ReferenceTypeAttributesBinaryCodec::decode, ReferenceTypeAttributes.class, ReferenceTypeAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ReferenceTypeAttributesBinaryCodec::encodedSize, ReferenceTypeAttributes.class, ReferenceTypeAttributes.BinaryEncodingId);
+    }
+
+}
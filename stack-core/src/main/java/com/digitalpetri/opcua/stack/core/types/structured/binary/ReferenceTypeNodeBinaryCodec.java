@@ -0,0 +1,93 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceTypeNode;
+
+public class ReferenceTypeNodeBinaryCodec {
+
+    public static void encode(ReferenceTypeNode referenceTypeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, referenceTypeNode.getNodeId());
+        NodeClass _nodeClass = referenceTypeNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, referenceTypeNode.getBrowseName());
+        encoder.encodeLocalizedText(null, referenceTypeNode.getDisplayName());
+        encoder.encodeLocalizedText(null, referenceTypeNode.getDescription());
+        encoder.encodeUInt32(null, referenceTypeNode.getWriteMask());
+        encoder.encodeUInt32(null, referenceTypeNode.getUserWriteMask());
+        ReferenceNode[] _references = referenceTypeNode.getReferences();
+        encoder.writeArrayLength(_references);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        encoder.encodeBoolean(null, referenceTypeNode.getIsAbstract());
+        encoder.encodeBoolean(null, referenceTypeNode.getSymmetric());
+        encoder.encodeLocalizedText(null, referenceTypeNode.getInverseName());
+    }
+
+    public static void encodedSize(ReferenceTypeNode referenceTypeNode, BinarySizeEncoder sizer) {
+        sizer.addSize(14);
+        sizer.encodeNodeId(null, referenceTypeNode.getNodeId());
+        sizer.encodeQualifiedName(null, referenceTypeNode.getBrowseName());
+        sizer.encodeLocalizedText(null, referenceTypeNode.getDisplayName());
+        sizer.encodeLocalizedText(null, referenceTypeNode.getDescription());
+        ReferenceNode[] _references = referenceTypeNode.getReferences();
+        sizer.addSize(4);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                sizer.checkLimit();
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        sizer.encodeLocalizedText(null, referenceTypeNode.getInverseName());
+    }
+
+    public static ReferenceTypeNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references;
+        if (decoder.isArrayStreamed("References", ReferenceNode.class)) {
+            _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        } else {
+            _references = new ReferenceNode[decoder.readArrayLength()];
+            for (int i = 0; i < _references.length; i++) {
+                _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+            }
+        }
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+        Boolean _symmetric = decoder.decodeBoolean(null);
+        LocalizedText _inverseName = decoder.decodeLocalizedText(null);
+
+        return new ReferenceTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _isAbstract, _symmetric, _inverseName);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ReferenceTypeNodeBinaryCodec::encode, ReferenceTypeNode.class, ReferenceTypeNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ReferenceTypeNodeBinaryCodec::decode, ReferenceTypeNode.class, ReferenceTypeNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ReferenceTypeNodeBinaryCodec::encodedSize, ReferenceTypeNode.class, ReferenceTypeNode.BinaryEncodingId);
+    }
+
+}
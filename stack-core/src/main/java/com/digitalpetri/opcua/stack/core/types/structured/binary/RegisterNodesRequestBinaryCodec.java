@@ -0,0 +1,71 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisterNodesRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class RegisterNodesRequestBinaryCodec {
+
+    public static void encode(RegisterNodesRequest registerNodesRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = registerNodesRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        NodeId[] _nodesToRegister = registerNodesRequest.getNodesToRegister();
+        encoder.writeArrayLength(_nodesToRegister);
+        if (_nodesToRegister != null) {
+            for (NodeId e : _nodesToRegister) {
+                encoder.encodeNodeId(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(RegisterNodesRequest registerNodesRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = registerNodesRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        NodeId[] _nodesToRegister = registerNodesRequest.getNodesToRegister();
+        sizer.addSize(4);
+        if (_nodesToRegister != null) {
+            for (NodeId e : _nodesToRegister) {
+                sizer.checkLimit();
+                sizer.encodeNodeId(null, e);
+            }
+        }
+    }
+
+    public static RegisterNodesRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        NodeId[] _nodesToRegister;
+        if (decoder.isArrayStreamed("NodesToRegister", NodeId.class)) {
+            _nodesToRegister = decoder.decodeArray("NodesToRegister", decoder::decodeNodeId, NodeId.class);
+        } else {
+            _nodesToRegister = new NodeId[decoder.readArrayLength()];
+            for (int i = 0; i < _nodesToRegister.length; i++) {
+                _nodesToRegister[i] = decoder.decodeNodeId(null);
+            }
+        }
+
+        return new RegisterNodesRequest(_requestHeader, _nodesToRegister);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(RegisterNodesRequestBinaryCodec::encode, RegisterNodesRequest.class, RegisterNodesRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(RegisterNodesRequestBinaryCodec::decode, RegisterNodesRequest.class, RegisterNodesRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(RegisterNodesRequestBinaryCodec::encodedSize, RegisterNodesRequest.class, RegisterNodesRequest.BinaryEncodingId);
+    }
+
+}
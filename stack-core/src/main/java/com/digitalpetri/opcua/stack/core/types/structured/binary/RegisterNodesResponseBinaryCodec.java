@@ -0,0 +1,71 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisterNodesResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class RegisterNodesResponseBinaryCodec {
+
+    public static void encode(RegisterNodesResponse registerNodesResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = registerNodesResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        NodeId[] _registeredNodeIds = registerNodesResponse.getRegisteredNodeIds();
+        encoder.writeArrayLength(_registeredNodeIds);
+        if (_registeredNodeIds != null) {
+            for (NodeId e : _registeredNodeIds) {
+                encoder.encodeNodeId(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(RegisterNodesResponse registerNodesResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = registerNodesResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        NodeId[] _registeredNodeIds = registerNodesResponse.getRegisteredNodeIds();
+        sizer.addSize(4);
+        if (_registeredNodeIds != null) {
+            for (NodeId e : _registeredNodeIds) {
+                sizer.checkLimit();
+                sizer.encodeNodeId(null, e);
+            }
+        }
+    }
+
+    public static RegisterNodesResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        NodeId[] _registeredNodeIds;
+        if (decoder.isArrayStreamed("RegisteredNodeIds", NodeId.class)) {
+            _registeredNodeIds = decoder.decodeArray("RegisteredNodeIds", decoder::decodeNodeId, NodeId.class);
+        } else {
+            _registeredNodeIds = new NodeId[decoder.readArrayLength()];
+            for (int i = 0; i < _registeredNodeIds.length; i++) {
+                _registeredNodeIds[i] = decoder.decodeNodeId(null);
+            }
+        }
+
+        return new RegisterNodesResponse(_responseHeader, _registeredNodeIds);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(RegisterNodesResponseBinaryCodec::encode, RegisterNodesResponse.class, RegisterNodesResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(RegisterNodesResponseBinaryCodec::decode, RegisterNodesResponse.class, RegisterNodesResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(RegisterNodesResponseBinaryCodec::encodedSize, RegisterNodesResponse.class, RegisterNodesResponse.BinaryEncodingId);
+    }
+
+}
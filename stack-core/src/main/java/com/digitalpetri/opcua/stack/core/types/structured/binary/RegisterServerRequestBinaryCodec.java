@@ -0,0 +1,64 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisterServerRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisteredServer;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class RegisterServerRequestBinaryCodec {
+
+    public static void encode(RegisterServerRequest registerServerRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = registerServerRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        RegisteredServer _server = registerServerRequest.getServer();
+        if (_server == null) {
+            RegisteredServerBinaryCodec.encode(new RegisteredServer(), encoder);
+        } else if (_server.getClass() == RegisteredServer.class) {
+            RegisteredServerBinaryCodec.encode(_server, encoder);
+        } else {
+            encoder.encodeSerializable(null, _server);
+        }
+    }
+
+    public static void encodedSize(RegisterServerRequest registerServerRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = registerServerRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        RegisteredServer _server = registerServerRequest.getServer();
+        if (_server == null) {
+            RegisteredServerBinaryCodec.encodedSize(new RegisteredServer(), sizer);
+        } else if (_server.getClass() == RegisteredServer.class) {
+            RegisteredServerBinaryCodec.encodedSize(_server, sizer);
+        } else {
+            sizer.encodeSerializable(null, _server);
+        }
+    }
+
+    public static RegisterServerRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        RegisteredServer _server = RegisteredServerBinaryCodec.decode(decoder);
+
+        return new RegisterServerRequest(_requestHeader, _server);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(RegisterServerRequestBinaryCodec::encode, RegisterServerRequest.class, RegisterServerRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(RegisterServerRequestBinaryCodec::decode, RegisterServerRequest.class, RegisterServerRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(RegisterServerRequestBinaryCodec::encodedSize, RegisterServerRequest.class, RegisterServerRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisterServerResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class RegisterServerResponseBinaryCodec {
+
+    public static void encode(RegisterServerResponse registerServerResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = registerServerResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static void encodedSize(RegisterServerResponse registerServerResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = registerServerResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static RegisterServerResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+
+        return new RegisterServerResponse(_responseHeader);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(RegisterServerResponseBinaryCodec::encode, RegisterServerResponse.class, RegisterServerResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(RegisterServerResponseBinaryCodec::decode, RegisterServerResponse.class, RegisterServerResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(RegisterServerResponseBinaryCodec::encodedSize, RegisterServerResponse.class, RegisterServerResponse.BinaryEncodingId);
+    }
+
+}
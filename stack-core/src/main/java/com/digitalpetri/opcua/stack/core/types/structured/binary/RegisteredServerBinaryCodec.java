@@ -0,0 +1,96 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.enumerated.ApplicationType;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisteredServer;
+
+public class RegisteredServerBinaryCodec {
+
+    public static void encode(RegisteredServer registeredServer, BinaryEncoder encoder) {
+        encoder.encodeString(null, registeredServer.getServerUri());
+        encoder.encodeString(null, registeredServer.getProductUri());
+        LocalizedText[] _serverNames = registeredServer.getServerNames();
+        encoder.writeArrayLength(_serverNames);
+        if (_serverNames != null) {
+            for (LocalizedText e : _serverNames) {
+                encoder.encodeLocalizedText(null, e);
+            }
+        }
+        ApplicationType _serverType = registeredServer.getServerType();
+        encoder.writeInt32(null, _serverType != null ? _serverType.getValue() : -1);
+        encoder.encodeString(null, registeredServer.getGatewayServerUri());
+        String[] _discoveryUrls = registeredServer.getDiscoveryUrls();
+        encoder.writeArrayLength(_discoveryUrls);
+        if (_discoveryUrls != null) {
+            for (String e : _discoveryUrls) {
+                encoder.encodeString(null, e);
+            }
+        }
+        encoder.encodeString(null, registeredServer.getSemaphoreFilePath());
+        encoder.encodeBoolean(null, registeredServer.getIsOnline());
+    }
+
+    public static void encodedSize(RegisteredServer registeredServer, BinarySizeEncoder sizer) {
+        sizer.addSize(5);
+        sizer.encodeString(null, registeredServer.getServerUri());
+        sizer.encodeString(null, registeredServer.getProductUri());
+        LocalizedText[] _serverNames = registeredServer.getServerNames();
+        sizer.addSize(4);
+        if (_serverNames != null) {
+            for (LocalizedText e : _serverNames) {
+                sizer.checkLimit();
+                sizer.encodeLocalizedText(null, e);
+            }
+        }
+        sizer.encodeString(null, registeredServer.getGatewayServerUri());
+        String[] _discoveryUrls = registeredServer.getDiscoveryUrls();
+        sizer.addSize(4);
+        if (_discoveryUrls != null) {
+            for (String e : _discoveryUrls) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+        sizer.encodeString(null, registeredServer.getSemaphoreFilePath());
+    }
+
+    public static RegisteredServer decode(BinaryDecoder decoder) {
+        String _serverUri = decoder.decodeString(null);
+        String _productUri = decoder.decodeString(null);
+        LocalizedText[] _serverNames;
+        if (decoder.isArrayStreamed("ServerNames", LocalizedText.class)) {
+            _serverNames = decoder.decodeArray("ServerNames", decoder::decodeLocalizedText, LocalizedText.class);
+        } else {
+            _serverNames = new LocalizedText[decoder.readArrayLength()];
+            for (int i = 0; i < _serverNames.length; i++) {
+                _serverNames[i] = decoder.decodeLocalizedText(null);
+            }
+        }
+        ApplicationType _serverType = ApplicationType.decode(decoder);
+        String _gatewayServerUri = decoder.decodeString(null);
+        String[] _discoveryUrls;
+        if (decoder.isArrayStreamed("DiscoveryUrls", String.class)) {
+            _discoveryUrls = decoder.decodeArray("DiscoveryUrls", decoder::decodeString, String.class);
+        } else {
+            _discoveryUrls = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _discoveryUrls.length; i++) {
+                _discoveryUrls[i] = decoder.decodeString(null);
+            }
+        }
+        String _semaphoreFilePath = decoder.decodeString(null);
+        Boolean _isOnline = decoder.decodeBoolean(null);
+
+        return new RegisteredServer(_serverUri, _productUri, _serverNames, _serverType, _gatewayServerUri, _discoveryUrls, _semaphoreFilePath, _isOnline);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(RegisteredServerBinaryCodec::encode, RegisteredServer.class, RegisteredServer.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(RegisteredServerBinaryCodec::decode, RegisteredServer.class, RegisteredServer.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(RegisteredServerBinaryCodec::encodedSize, RegisteredServer.class, RegisteredServer.BinaryEncodingId);
+    }
+
+}
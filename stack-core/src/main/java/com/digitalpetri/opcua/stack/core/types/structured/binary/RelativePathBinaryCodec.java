@@ -0,0 +1,61 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.RelativePath;
+import com.digitalpetri.opcua.stack.core.types.structured.RelativePathElement;
+
+public class RelativePathBinaryCodec {
+
+    public static void encode(RelativePath relativePath, BinaryEncoder encoder) {
+        RelativePathElement[] _elements = relativePath.getElements();
+        encoder.writeArrayLength(_elements);
+        if (_elements != null) {
+            for (RelativePathElement e : _elements) {
+                if (e.getClass() == RelativePathElement.class) {
+                    RelativePathElementBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(RelativePath relativePath, BinarySizeEncoder sizer) {
+        RelativePathElement[] _elements = relativePath.getElements();
+        sizer.addSize(4);
+        if (_elements != null) {
+            for (RelativePathElement e : _elements) {
+                sizer.checkLimit();
+                if (e.getClass() == RelativePathElement.class) {
+                    RelativePathElementBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static RelativePath decode(BinaryDecoder decoder) {
+        RelativePathElement[] _elements;
+        if (decoder.isArrayStreamed("Elements", RelativePathElement.class)) {
+            _elements = decoder.decodeArray("Elements", decoder::decodeSerializable, RelativePathElement.class);
+        } else {
+            _elements = new RelativePathElement[decoder.readArrayLength()];
+            for (int i = 0; i < _elements.length; i++) {
+                _elements[i] = RelativePathElementBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new RelativePath(_elements);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(RelativePathBinaryCodec::encode, RelativePath.class, RelativePath.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(RelativePathBinaryCodec::decode, RelativePath.class, RelativePath.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(RelativePathBinaryCodec::encodedSize, RelativePath.class, RelativePath.BinaryEncodingId);
+    }
+
+}
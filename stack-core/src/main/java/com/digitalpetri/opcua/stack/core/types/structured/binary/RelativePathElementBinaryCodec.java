@@ -0,0 +1,41 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.structured.RelativePathElement;
+
+public class RelativePathElementBinaryCodec {
+
+    public static void encode(RelativePathElement relativePathElement, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, relativePathElement.getReferenceTypeId());
+        encoder.encodeBoolean(null, relativePathElement.getIsInverse());
+        encoder.encodeBoolean(null, relativePathElement.getIncludeSubtypes());
+        encoder.encodeQualifiedName(null, relativePathElement.getTargetName());
+    }
+
+    public static void encodedSize(RelativePathElement relativePathElement, BinarySizeEncoder sizer) {
+        sizer.addSize(2);
+        sizer.encodeNodeId(null, relativePathElement.getReferenceTypeId());
+        sizer.encodeQualifiedName(null, relativePathElement.getTargetName());
+    }
+
+    public static RelativePathElement decode(BinaryDecoder decoder) {
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _isInverse = decoder.decodeBoolean(null);
+        Boolean _includeSubtypes = decoder.decodeBoolean(null);
+        QualifiedName _targetName = decoder.decodeQualifiedName(null);
+
+        return new RelativePathElement(_referenceTypeId, _isInverse, _includeSubtypes, _targetName);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(RelativePathElementBinaryCodec::encode, RelativePathElement.class, RelativePathElement.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(RelativePathElementBinaryCodec::decode, RelativePathElement.class, RelativePathElement.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(RelativePathElementBinaryCodec::encodedSize, RelativePathElement.class, RelativePathElement.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.RepublishRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class RepublishRequestBinaryCodec {
+
+    public static void encode(RepublishRequest republishRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = republishRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeUInt32(null, republishRequest.getSubscriptionId());
+        encoder.encodeUInt32(null, republishRequest.getRetransmitSequenceNumber());
+    }
+
+    public static void encodedSize(RepublishRequest republishRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+        RequestHeader _requestHeader = republishRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+    }
+
+    public static RepublishRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        UInteger _retransmitSequenceNumber = decoder.decodeUInt32(null);
+
+        return new RepublishRequest(_requestHeader, _subscriptionId, _retransmitSequenceNumber);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(RepublishRequestBinaryCodec::encode, RepublishRequest.class, RepublishRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(RepublishRequestBinaryCodec::decode, RepublishRequest.class, RepublishRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(RepublishRequestBinaryCodec::encodedSize, RepublishRequest.class, RepublishRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.NotificationMessage;
+import com.digitalpetri.opcua.stack.core.types.structured.RepublishResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class RepublishResponseBinaryCodec {
+
+    public static void encode(RepublishResponse republishResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = republishResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        NotificationMessage _notificationMessage = republishResponse.getNotificationMessage();
+        if (_notificationMessage == null) {
+            NotificationMessageBinaryCodec.encode(new NotificationMessage(), encoder);
+        } else if (_notificationMessage.getClass() == NotificationMessage.class) {
+            NotificationMessageBinaryCodec.encode(_notificationMessage, encoder);
+        } else {
+            encoder.encodeSerializable(null, _notificationMessage);
+        }
+    }
+
+    public static void encodedSize(RepublishResponse republishResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = republishResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        NotificationMessage _notificationMessage = republishResponse.getNotificationMessage();
+        if (_notificationMessage == null) {
+            NotificationMessageBinaryCodec.encodedSize(new NotificationMessage(), sizer);
+        } else if (_notificationMessage.getClass() == NotificationMessage.class) {
+            NotificationMessageBinaryCodec.encodedSize(_notificationMessage, sizer);
+        } else {
+            sizer.encodeSerializable(null, _notificationMessage);
+        }
+    }
+
+    public static RepublishResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        NotificationMessage _notificationMessage = NotificationMessageBinaryCodec.decode(decoder);
+
+        return new RepublishResponse(_responseHeader, _notificationMessage);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(RepublishResponseBinaryCodec::encode, RepublishResponse.class, RepublishResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(RepublishResponseBinaryCodec::decode, RepublishResponse.class, RepublishResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(RepublishResponseBinaryCodec::encodedSize, RepublishResponse.class, RepublishResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+
+public class RequestHeaderBinaryCodec {
+
+    public static void encode(RequestHeader requestHeader, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, requestHeader.getAuthenticationToken());
+        encoder.encodeDateTime(null, requestHeader.getTimestamp());
+        encoder.encodeUInt32(null, requestHeader.getRequestHandle());
+        encoder.encodeUInt32(null, requestHeader.getReturnDiagnostics());
+        encoder.encodeString(null, requestHeader.getAuditEntryId());
+        encoder.encodeUInt32(null, requestHeader.getTimeoutHint());
+        encoder.encodeExtensionObject(null, requestHeader.getAdditionalHeader());
+    }
+
+    public static void encodedSize(RequestHeader requestHeader, BinarySizeEncoder sizer) {
+        sizer.addSize(20);
+        sizer.encodeNodeId(null, requestHeader.getAuthenticationToken());
+        sizer.encodeString(null, requestHeader.getAuditEntryId());
+        sizer.encodeExtensionObject(null, requestHeader.getAdditionalHeader());
+    }
+
+    public static RequestHeader decode(BinaryDecoder decoder) {
+        NodeId _authenticationToken = decoder.decodeNodeId(null);
+        DateTime _timestamp = decoder.decodeDateTime(null);
+        UInteger _requestHandle = decoder.decodeUInt32(null);
+        UInteger _returnDiagnostics = decoder.decodeUInt32(null);
+        String _auditEntryId = decoder.decodeString(null);
+        UInteger _timeoutHint = decoder.decodeUInt32(null);
+        ExtensionObject _additionalHeader = decoder.decodeExtensionObject(null);
+
+        return new RequestHeader(_authenticationToken, _timestamp, _requestHandle, _returnDiagnostics, _auditEntryId, _timeoutHint, _additionalHeader);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(RequestHeaderBinaryCodec::encode, RequestHeader.class, RequestHeader.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(RequestHeaderBinaryCodec::decode, RequestHeader.class, RequestHeader.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(RequestHeaderBinaryCodec::encodedSize, RequestHeader.class, RequestHeader.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+public class ResponseHeaderBinaryCodec {
+
+    public static void encode(ResponseHeader responseHeader, BinaryEncoder encoder) {
+        encoder.encodeDateTime(null, responseHeader.getTimestamp());
+        encoder.encodeUInt32(null, responseHeader.getRequestHandle());
+        encoder.encodeStatusCode(null, responseHeader.getServiceResult());
+        encoder.encodeDiagnosticInfo(null, responseHeader.getServiceDiagnostics());
+        String[] _stringTable = responseHeader.getStringTable();
+        encoder.writeArrayLength(_stringTable);
+        if (_stringTable != null) {
+            for (String e : _stringTable) {
+                encoder.encodeString(null, e);
+            }
+        }
+        encoder.encodeExtensionObject(null, responseHeader.getAdditionalHeader());
+    }
+
+    public static void encodedSize(ResponseHeader responseHeader, BinarySizeEncoder sizer) {
+        sizer.addSize(16);
+        sizer.encodeDiagnosticInfo(null, responseHeader.getServiceDiagnostics());
+        String[] _stringTable = responseHeader.getStringTable();
+        sizer.addSize(4);
+        if (_stringTable != null) {
+            for (String e : _stringTable) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+        sizer.encodeExtensionObject(null, responseHeader.getAdditionalHeader());
+    }
+
+    public static ResponseHeader decode(BinaryDecoder decoder) {
+        DateTime _timestamp = decoder.decodeDateTime(null);
+        UInteger _requestHandle = decoder.decodeUInt32(null);
+        StatusCode _serviceResult = decoder.decodeStatusCode(null);
+        DiagnosticInfo _serviceDiagnostics = decoder.decodeDiagnosticInfo(null);
+        String[] _stringTable;
+        if (decoder.isArrayStreamed("StringTable", String.class)) {
+            _stringTable = decoder.decodeArray("StringTable", decoder::decodeString, String.class);
+        } else {
+            _stringTable = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _stringTable.length; i++) {
+                _stringTable[i] = decoder.decodeString(null);
+            }
+        }
+        ExtensionObject _additionalHeader = decoder.decodeExtensionObject(null);
+
+        return new ResponseHeader(_timestamp, _requestHandle, _serviceResult, _serviceDiagnostics, _stringTable, _additionalHeader);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ResponseHeaderBinaryCodec::encode, ResponseHeader.class, ResponseHeader.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ResponseHeaderBinaryCodec::decode, ResponseHeader.class, ResponseHeader.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ResponseHeaderBinaryCodec::encodedSize, ResponseHeader.class, ResponseHeader.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.SamplingIntervalDiagnosticsDataType;
+
+public class SamplingIntervalDiagnosticsDataTypeBinaryCodec {
+
+    public static void encode(SamplingIntervalDiagnosticsDataType samplingIntervalDiagnosticsDataType, BinaryEncoder encoder) {
+        encoder.encodeDouble(null, samplingIntervalDiagnosticsDataType.getSamplingInterval());
+        encoder.encodeUInt32(null, samplingIntervalDiagnosticsDataType.getMonitoredItemCount());
+        encoder.encodeUInt32(null, samplingIntervalDiagnosticsDataType.getMaxMonitoredItemCount());
+        encoder.encodeUInt32(null, samplingIntervalDiagnosticsDataType.getDisabledMonitoredItemCount());
+    }
+
+    public static void encodedSize(SamplingIntervalDiagnosticsDataType samplingIntervalDiagnosticsDataType, BinarySizeEncoder sizer) {
+        sizer.addSize(20);
+    }
+
+    public static SamplingIntervalDiagnosticsDataType decode(BinaryDecoder decoder) {
+        Double _samplingInterval = decoder.decodeDouble(null);
+        UInteger _monitoredItemCount = decoder.decodeUInt32(null);
+        UInteger _maxMonitoredItemCount = decoder.decodeUInt32(null);
+        UInteger _disabledMonitoredItemCount = decoder.decodeUInt32(null);
+
+        return new SamplingIntervalDiagnosticsDataType(_samplingInterval, _monitoredItemCount, _maxMonitoredItemCount, _disabledMonitoredItemCount);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SamplingIntervalDiagnosticsDataTypeBinaryCodec::encode, SamplingIntervalDiagnosticsDataType.class, SamplingIntervalDiagnosticsDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SamplingIntervalDiagnosticsDataTypeBinaryCodec::decode, SamplingIntervalDiagnosticsDataType.class, SamplingIntervalDiagnosticsDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SamplingIntervalDiagnosticsDataTypeBinaryCodec::encodedSize, SamplingIntervalDiagnosticsDataType.class, SamplingIntervalDiagnosticsDataType.BinaryEncodingId);
+    }
+
+}
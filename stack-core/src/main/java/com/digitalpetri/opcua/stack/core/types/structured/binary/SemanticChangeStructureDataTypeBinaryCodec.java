@@ -0,0 +1,35 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.SemanticChangeStructureDataType;
+
+public class SemanticChangeStructureDataTypeBinaryCodec {
+
+    public static void encode(SemanticChangeStructureDataType semanticChangeStructureDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, semanticChangeStructureDataType.getAffected());
+        encoder.encodeNodeId(null, semanticChangeStructureDataType.getAffectedType());
+    }
+
+    public static void encodedSize(SemanticChangeStructureDataType semanticChangeStructureDataType, BinarySizeEncoder sizer) {
+        sizer.encodeNodeId(null, semanticChangeStructureDataType.getAffected());
+        sizer.encodeNodeId(null, semanticChangeStructureDataType.getAffectedType());
+    }
+
+    public static SemanticChangeStructureDataType decode(BinaryDecoder decoder) {
+        NodeId _affected = decoder.decodeNodeId(null);
+        NodeId _affectedType = decoder.decodeNodeId(null);
+
+        return new SemanticChangeStructureDataType(_affected, _affectedType);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SemanticChangeStructureDataTypeBinaryCodec::encode, SemanticChangeStructureDataType.class, SemanticChangeStructureDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SemanticChangeStructureDataTypeBinaryCodec::decode, SemanticChangeStructureDataType.class, SemanticChangeStructureDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SemanticChangeStructureDataTypeBinaryCodec::encodedSize, SemanticChangeStructureDataType.class, SemanticChangeStructureDataType.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ServerDiagnosticsSummaryDataType;
+
+public class ServerDiagnosticsSummaryDataTypeBinaryCodec {
+
+    public static void encode(ServerDiagnosticsSummaryDataType serverDiagnosticsSummaryDataType, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getServerViewCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getCurrentSessionCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getCumulatedSessionCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getSecurityRejectedSessionCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getRejectedSessionCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getSessionTimeoutCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getSessionAbortCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getCurrentSubscriptionCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getCumulatedSubscriptionCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getPublishingIntervalCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getSecurityRejectedRequestsCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getRejectedRequestsCount());
+    }
+
+    public static void encodedSize(ServerDiagnosticsSummaryDataType serverDiagnosticsSummaryDataType, BinarySizeEncoder sizer) {
+        sizer.addSize(48);
+    }
+
+    public static ServerDiagnosticsSummaryDataType decode(BinaryDecoder decoder) {
+        UInteger _serverViewCount = decoder.decodeUInt32(null);
+        UInteger _currentSessionCount = decoder.decodeUInt32(null);
+        UInteger _cumulatedSessionCount = decoder.decodeUInt32(null);
+        UInteger _securityRejectedSessionCount = decoder.decodeUInt32(null);
+        UInteger _rejectedSessionCount = decoder.decodeUInt32(null);
+        UInteger _sessionTimeoutCount = decoder.decodeUInt32(null);
+        UInteger _sessionAbortCount = decoder.decodeUInt32(null);
+        UInteger _currentSubscriptionCount = decoder.decodeUInt32(null);
+        UInteger _cumulatedSubscriptionCount = decoder.decodeUInt32(null);
+        UInteger _publishingIntervalCount = decoder.decodeUInt32(null);
+        UInteger _securityRejectedRequestsCount = decoder.decodeUInt32(null);
+        UInteger _rejectedRequestsCount = decoder.decodeUInt32(null);
+
+        return new ServerDiagnosticsSummaryDataType(_serverViewCount, _currentSessionCount, _cumulatedSessionCount, _securityRejectedSessionCount, _rejectedSessionCount, _sessionTimeoutCount, _sessionAbortCount, _currentSubscriptionCount, _cumulatedSubscriptionCount, _publishingIntervalCount, _securityRejectedRequestsCount, _rejectedRequestsCount);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ServerDiagnosticsSummaryDataTypeBinaryCodec::encode, ServerDiagnosticsSummaryDataType.class, ServerDiagnosticsSummaryDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ServerDiagnosticsSummaryDataTypeBinaryCodec::decode, ServerDiagnosticsSummaryDataType.class, ServerDiagnosticsSummaryDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ServerDiagnosticsSummaryDataTypeBinaryCodec::encodedSize, ServerDiagnosticsSummaryDataType.class, ServerDiagnosticsSummaryDataType.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.ServerState;
+import com.digitalpetri.opcua.stack.core.types.structured.BuildInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.ServerStatusDataType;
+
+public class ServerStatusDataTypeBinaryCodec {
+
+    public static void encode(ServerStatusDataType serverStatusDataType, BinaryEncoder encoder) {
+        encoder.encodeDateTime(null, serverStatusDataType.getStartTime());
+        encoder.encodeDateTime(null, serverStatusDataType.getCurrentTime());
+        ServerState _state = serverStatusDataType.getState();
+        encoder.writeInt32(null, _state != null ? _state.getValue() : -1);
+        BuildInfo _buildInfo = serverStatusDataType.getBuildInfo();
+        if (_buildInfo == null) {
+            BuildInfoBinaryCodec.encode(new BuildInfo(), encoder);
+        } else if (_buildInfo.getClass() == BuildInfo.class) {
+            BuildInfoBinaryCodec.encode(_buildInfo, encoder);
+        } else {
+            encoder.encodeSerializable(null, _buildInfo);
+        }
+        encoder.encodeUInt32(null, serverStatusDataType.getSecondsTillShutdown());
+        encoder.encodeLocalizedText(null, serverStatusDataType.getShutdownReason());
+    }
+
+    public static void encodedSize(ServerStatusDataType serverStatusDataType, BinarySizeEncoder sizer) {
+        sizer.addSize(24);
+        BuildInfo _buildInfo = serverStatusDataType.getBuildInfo();
+        if (_buildInfo == null) {
+            BuildInfoBinaryCodec.encodedSize(new BuildInfo(), sizer);
+        } else if (_buildInfo.getClass() == BuildInfo.class) {
+            BuildInfoBinaryCodec.encodedSize(_buildInfo, sizer);
+        } else {
+            sizer.encodeSerializable(null, _buildInfo);
+        }
+        sizer.encodeLocalizedText(null, serverStatusDataType.getShutdownReason());
+    }
+
+    public static ServerStatusDataType decode(BinaryDecoder decoder) {
+        DateTime _startTime = decoder.decodeDateTime(null);
+        DateTime _currentTime = decoder.decodeDateTime(null);
+        ServerState _state = ServerState.decode(decoder);
+        BuildInfo _buildInfo = BuildInfoBinaryCodec.decode(decoder);
+        UInteger _secondsTillShutdown = decoder.decodeUInt32(null);
+        LocalizedText _shutdownReason = decoder.decodeLocalizedText(null);
+
+        return new ServerStatusDataType(_startTime, _currentTime, _state, _buildInfo, _secondsTillShutdown, _shutdownReason);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ServerStatusDataTypeBinaryCodec::encode, ServerStatusDataType.class, ServerStatusDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ServerStatusDataTypeBinaryCodec::decode, ServerStatusDataType.class, ServerStatusDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ServerStatusDataTypeBinaryCodec::encodedSize, ServerStatusDataType.class, ServerStatusDataType.BinaryEncodingId);
+    }
+
+}
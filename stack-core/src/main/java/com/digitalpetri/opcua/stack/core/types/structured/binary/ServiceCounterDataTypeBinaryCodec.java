@@ -0,0 +1,34 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceCounterDataType;
+
+public class ServiceCounterDataTypeBinaryCodec {
+
+    public static void encode(ServiceCounterDataType serviceCounterDataType, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, serviceCounterDataType.getTotalCount());
+        encoder.encodeUInt32(null, serviceCounterDataType.getErrorCount());
+    }
+
+    public static void encodedSize(ServiceCounterDataType serviceCounterDataType, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+    }
+
+    public static ServiceCounterDataType decode(BinaryDecoder decoder) {
+        UInteger _totalCount = decoder.decodeUInt32(null);
+        UInteger _errorCount = decoder.decodeUInt32(null);
+
+        return new ServiceCounterDataType(_totalCount, _errorCount);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ServiceCounterDataTypeBinaryCodec::encode, ServiceCounterDataType.class, ServiceCounterDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ServiceCounterDataTypeBinaryCodec::decode, ServiceCounterDataType.class, ServiceCounterDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ServiceCounterDataTypeBinaryCodec::encodedSize, ServiceCounterDataType.class, ServiceCounterDataType.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceFault;
+
+public class ServiceFaultBinaryCodec {
+
+    public static void encode(ServiceFault serviceFault, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = serviceFault.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static void encodedSize(ServiceFault serviceFault, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = serviceFault.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static ServiceFault decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+
+        return new ServiceFault(_responseHeader);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ServiceFaultBinaryCodec::encode, ServiceFault.class, ServiceFault.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ServiceFaultBinaryCodec::decode, ServiceFault.class, ServiceFault.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ServiceFaultBinaryCodec::encodedSize, ServiceFault.class, ServiceFault.BinaryEncodingId);
+    }
+
+}
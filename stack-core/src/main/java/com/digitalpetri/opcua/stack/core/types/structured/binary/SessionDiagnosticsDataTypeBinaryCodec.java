@@ -0,0 +1,596 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ApplicationDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceCounterDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.SessionDiagnosticsDataType;
+
+public class SessionDiagnosticsDataTypeBinaryCodec {
+
+    public static void encode(SessionDiagnosticsDataType sessionDiagnosticsDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, sessionDiagnosticsDataType.getSessionId());
+        encoder.encodeString(null, sessionDiagnosticsDataType.getSessionName());
+        ApplicationDescription _clientDescription = sessionDiagnosticsDataType.getClientDescription();
+        if (_clientDescription == null) {
+            ApplicationDescriptionBinaryCodec.encode(new ApplicationDescription(), encoder);
+        } else if (_clientDescription.getClass() == ApplicationDescription.class) {
+            ApplicationDescriptionBinaryCodec.encode(_clientDescription, encoder);
+        } else {
+            encoder.encodeSerializable(null, _clientDescription);
+        }
+        encoder.encodeString(null, sessionDiagnosticsDataType.getServerUri());
+        encoder.encodeString(null, sessionDiagnosticsDataType.getEndpointUrl());
+        String[] _localeIds = sessionDiagnosticsDataType.getLocaleIds();
+        encoder.writeArrayLength(_localeIds);
+        if (_localeIds != null) {
+            for (String e : _localeIds) {
+                encoder.encodeString(null, e);
+            }
+        }
+        encoder.encodeDouble(null, sessionDiagnosticsDataType.getActualSessionTimeout());
+        encoder.encodeUInt32(null, sessionDiagnosticsDataType.getMaxResponseMessageSize());
+        encoder.encodeDateTime(null, sessionDiagnosticsDataType.getClientConnectionTime());
+        encoder.encodeDateTime(null, sessionDiagnosticsDataType.getClientLastContactTime());
+        encoder.encodeUInt32(null, sessionDiagnosticsDataType.getCurrentSubscriptionsCount());
+        encoder.encodeUInt32(null, sessionDiagnosticsDataType.getCurrentMonitoredItemsCount());
+        encoder.encodeUInt32(null, sessionDiagnosticsDataType.getCurrentPublishRequestsInQueue());
+        ServiceCounterDataType _totalRequestCount = sessionDiagnosticsDataType.getTotalRequestCount();
+        if (_totalRequestCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_totalRequestCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_totalRequestCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _totalRequestCount);
+        }
+        encoder.encodeUInt32(null, sessionDiagnosticsDataType.getUnauthorizedRequestCount());
+        ServiceCounterDataType _readCount = sessionDiagnosticsDataType.getReadCount();
+        if (_readCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_readCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_readCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _readCount);
+        }
+        ServiceCounterDataType _historyReadCount = sessionDiagnosticsDataType.getHistoryReadCount();
+        if (_historyReadCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_historyReadCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_historyReadCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _historyReadCount);
+        }
+        ServiceCounterDataType _writeCount = sessionDiagnosticsDataType.getWriteCount();
+        if (_writeCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_writeCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_writeCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _writeCount);
+        }
+        ServiceCounterDataType _historyUpdateCount = sessionDiagnosticsDataType.getHistoryUpdateCount();
+        if (_historyUpdateCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_historyUpdateCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_historyUpdateCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _historyUpdateCount);
+        }
+        ServiceCounterDataType _callCount = sessionDiagnosticsDataType.getCallCount();
+        if (_callCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_callCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_callCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _callCount);
+        }
+        ServiceCounterDataType _createMonitoredItemsCount = sessionDiagnosticsDataType.getCreateMonitoredItemsCount();
+        if (_createMonitoredItemsCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_createMonitoredItemsCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_createMonitoredItemsCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _createMonitoredItemsCount);
+        }
+        ServiceCounterDataType _modifyMonitoredItemsCount = sessionDiagnosticsDataType.getModifyMonitoredItemsCount();
+        if (_modifyMonitoredItemsCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_modifyMonitoredItemsCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_modifyMonitoredItemsCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _modifyMonitoredItemsCount);
+        }
+        ServiceCounterDataType _setMonitoringModeCount = sessionDiagnosticsDataType.getSetMonitoringModeCount();
+        if (_setMonitoringModeCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_setMonitoringModeCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_setMonitoringModeCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _setMonitoringModeCount);
+        }
+        ServiceCounterDataType _setTriggeringCount = sessionDiagnosticsDataType.getSetTriggeringCount();
+        if (_setTriggeringCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_setTriggeringCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_setTriggeringCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _setTriggeringCount);
+        }
+        ServiceCounterDataType _deleteMonitoredItemsCount = sessionDiagnosticsDataType.getDeleteMonitoredItemsCount();
+        if (_deleteMonitoredItemsCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_deleteMonitoredItemsCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_deleteMonitoredItemsCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _deleteMonitoredItemsCount);
+        }
+        ServiceCounterDataType _createSubscriptionCount = sessionDiagnosticsDataType.getCreateSubscriptionCount();
+        if (_createSubscriptionCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_createSubscriptionCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_createSubscriptionCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _createSubscriptionCount);
+        }
+        ServiceCounterDataType _modifySubscriptionCount = sessionDiagnosticsDataType.getModifySubscriptionCount();
+        if (_modifySubscriptionCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_modifySubscriptionCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_modifySubscriptionCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _modifySubscriptionCount);
+        }
+        ServiceCounterDataType _setPublishingModeCount = sessionDiagnosticsDataType.getSetPublishingModeCount();
+        if (_setPublishingModeCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_setPublishingModeCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_setPublishingModeCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _setPublishingModeCount);
+        }
+        ServiceCounterDataType _publishCount = sessionDiagnosticsDataType.getPublishCount();
+        if (_publishCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_publishCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_publishCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _publishCount);
+        }
+        ServiceCounterDataType _republishCount = sessionDiagnosticsDataType.getRepublishCount();
+        if (_republishCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_republishCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_republishCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _republishCount);
+        }
+        ServiceCounterDataType _transferSubscriptionsCount = sessionDiagnosticsDataType.getTransferSubscriptionsCount();
+        if (_transferSubscriptionsCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_transferSubscriptionsCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_transferSubscriptionsCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _transferSubscriptionsCount);
+        }
+        ServiceCounterDataType _deleteSubscriptionsCount = sessionDiagnosticsDataType.getDeleteSubscriptionsCount();
+        if (_deleteSubscriptionsCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_deleteSubscriptionsCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_deleteSubscriptionsCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _deleteSubscriptionsCount);
+        }
+        ServiceCounterDataType _addNodesCount = sessionDiagnosticsDataType.getAddNodesCount();
+        if (_addNodesCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_addNodesCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_addNodesCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _addNodesCount);
+        }
+        ServiceCounterDataType _addReferencesCount = sessionDiagnosticsDataType.getAddReferencesCount();
+        if (_addReferencesCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_addReferencesCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_addReferencesCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _addReferencesCount);
+        }
+        ServiceCounterDataType _deleteNodesCount = sessionDiagnosticsDataType.getDeleteNodesCount();
+        if (_deleteNodesCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_deleteNodesCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_deleteNodesCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _deleteNodesCount);
+        }
+        ServiceCounterDataType _deleteReferencesCount = sessionDiagnosticsDataType.getDeleteReferencesCount();
+        if (_deleteReferencesCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_deleteReferencesCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_deleteReferencesCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _deleteReferencesCount);
+        }
+        ServiceCounterDataType _browseCount = sessionDiagnosticsDataType.getBrowseCount();
+        if (_browseCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_browseCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_browseCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _browseCount);
+        }
+        ServiceCounterDataType _browseNextCount = sessionDiagnosticsDataType.getBrowseNextCount();
+        if (_browseNextCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_browseNextCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_browseNextCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _browseNextCount);
+        }
+        ServiceCounterDataType _translateBrowsePathsToNodeIdsCount = sessionDiagnosticsDataType.getTranslateBrowsePathsToNodeIdsCount();
+        if (_translateBrowsePathsToNodeIdsCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_translateBrowsePathsToNodeIdsCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_translateBrowsePathsToNodeIdsCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _translateBrowsePathsToNodeIdsCount);
+        }
+        ServiceCounterDataType _queryFirstCount = sessionDiagnosticsDataType.getQueryFirstCount();
+        if (_queryFirstCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_queryFirstCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_queryFirstCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _queryFirstCount);
+        }
+        ServiceCounterDataType _queryNextCount = sessionDiagnosticsDataType.getQueryNextCount();
+        if (_queryNextCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_queryNextCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_queryNextCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _queryNextCount);
+        }
+        ServiceCounterDataType _registerNodesCount = sessionDiagnosticsDataType.getRegisterNodesCount();
+        if (_registerNodesCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_registerNodesCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_registerNodesCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _registerNodesCount);
+        }
+        ServiceCounterDataType _unregisterNodesCount = sessionDiagnosticsDataType.getUnregisterNodesCount();
+        if (_unregisterNodesCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encode(new ServiceCounterDataType(), encoder);
+        } else if (_unregisterNodesCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encode(_unregisterNodesCount, encoder);
+        } else {
+            encoder.encodeSerializable(null, _unregisterNodesCount);
+        }
+    }
+
+    public static void encodedSize(SessionDiagnosticsDataType sessionDiagnosticsDataType, BinarySizeEncoder sizer) {
+        sizer.addSize(44);
+        sizer.encodeNodeId(null, sessionDiagnosticsDataType.getSessionId());
+        sizer.encodeString(null, sessionDiagnosticsDataType.getSessionName());
+        ApplicationDescription _clientDescription = sessionDiagnosticsDataType.getClientDescription();
+        if (_clientDescription == null) {
+            ApplicationDescriptionBinaryCodec.encodedSize(new ApplicationDescription(), sizer);
+        } else if (_clientDescription.getClass() == ApplicationDescription.class) {
+            ApplicationDescriptionBinaryCodec.encodedSize(_clientDescription, sizer);
+        } else {
+            sizer.encodeSerializable(null, _clientDescription);
+        }
+        sizer.encodeString(null, sessionDiagnosticsDataType.getServerUri());
+        sizer.encodeString(null, sessionDiagnosticsDataType.getEndpointUrl());
+        String[] _localeIds = sessionDiagnosticsDataType.getLocaleIds();
+        sizer.addSize(4);
+        if (_localeIds != null) {
+            for (String e : _localeIds) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+        ServiceCounterDataType _totalRequestCount = sessionDiagnosticsDataType.getTotalRequestCount();
+        if (_totalRequestCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_totalRequestCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_totalRequestCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _totalRequestCount);
+        }
+        ServiceCounterDataType _readCount = sessionDiagnosticsDataType.getReadCount();
+        if (_readCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_readCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_readCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _readCount);
+        }
+        ServiceCounterDataType _historyReadCount = sessionDiagnosticsDataType.getHistoryReadCount();
+        if (_historyReadCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_historyReadCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_historyReadCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _historyReadCount);
+        }
+        ServiceCounterDataType _writeCount = sessionDiagnosticsDataType.getWriteCount();
+        if (_writeCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_writeCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_writeCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _writeCount);
+        }
+        ServiceCounterDataType _historyUpdateCount = sessionDiagnosticsDataType.getHistoryUpdateCount();
+        if (_historyUpdateCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_historyUpdateCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_historyUpdateCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _historyUpdateCount);
+        }
+        ServiceCounterDataType _callCount = sessionDiagnosticsDataType.getCallCount();
+        if (_callCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_callCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_callCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _callCount);
+        }
+        ServiceCounterDataType _createMonitoredItemsCount = sessionDiagnosticsDataType.getCreateMonitoredItemsCount();
+        if (_createMonitoredItemsCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_createMonitoredItemsCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_createMonitoredItemsCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _createMonitoredItemsCount);
+        }
+        ServiceCounterDataType _modifyMonitoredItemsCount = sessionDiagnosticsDataType.getModifyMonitoredItemsCount();
+        if (_modifyMonitoredItemsCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_modifyMonitoredItemsCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_modifyMonitoredItemsCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _modifyMonitoredItemsCount);
+        }
+        ServiceCounterDataType _setMonitoringModeCount = sessionDiagnosticsDataType.getSetMonitoringModeCount();
+        if (_setMonitoringModeCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_setMonitoringModeCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_setMonitoringModeCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _setMonitoringModeCount);
+        }
+        ServiceCounterDataType _setTriggeringCount = sessionDiagnosticsDataType.getSetTriggeringCount();
+        if (_setTriggeringCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_setTriggeringCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_setTriggeringCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _setTriggeringCount);
+        }
+        ServiceCounterDataType _deleteMonitoredItemsCount = sessionDiagnosticsDataType.getDeleteMonitoredItemsCount();
+        if (_deleteMonitoredItemsCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_deleteMonitoredItemsCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_deleteMonitoredItemsCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _deleteMonitoredItemsCount);
+        }
+        ServiceCounterDataType _createSubscriptionCount = sessionDiagnosticsDataType.getCreateSubscriptionCount();
+        if (_createSubscriptionCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_createSubscriptionCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_createSubscriptionCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _createSubscriptionCount);
+        }
+        ServiceCounterDataType _modifySubscriptionCount = sessionDiagnosticsDataType.getModifySubscriptionCount();
+        if (_modifySubscriptionCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_modifySubscriptionCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_modifySubscriptionCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _modifySubscriptionCount);
+        }
+        ServiceCounterDataType _setPublishingModeCount = sessionDiagnosticsDataType.getSetPublishingModeCount();
+        if (_setPublishingModeCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_setPublishingModeCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_setPublishingModeCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _setPublishingModeCount);
+        }
+        ServiceCounterDataType _publishCount = sessionDiagnosticsDataType.getPublishCount();
+        if (_publishCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_publishCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_publishCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _publishCount);
+        }
+        ServiceCounterDataType _republishCount = sessionDiagnosticsDataType.getRepublishCount();
+        if (_republishCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_republishCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_republishCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _republishCount);
+        }
+        ServiceCounterDataType _transferSubscriptionsCount = sessionDiagnosticsDataType.getTransferSubscriptionsCount();
+        if (_transferSubscriptionsCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_transferSubscriptionsCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_transferSubscriptionsCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _transferSubscriptionsCount);
+        }
+        ServiceCounterDataType _deleteSubscriptionsCount = sessionDiagnosticsDataType.getDeleteSubscriptionsCount();
+        if (_deleteSubscriptionsCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_deleteSubscriptionsCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_deleteSubscriptionsCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _deleteSubscriptionsCount);
+        }
+        ServiceCounterDataType _addNodesCount = sessionDiagnosticsDataType.getAddNodesCount();
+        if (_addNodesCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_addNodesCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_addNodesCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _addNodesCount);
+        }
+        ServiceCounterDataType _addReferencesCount = sessionDiagnosticsDataType.getAddReferencesCount();
+        if (_addReferencesCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_addReferencesCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_addReferencesCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _addReferencesCount);
+        }
+        ServiceCounterDataType _deleteNodesCount = sessionDiagnosticsDataType.getDeleteNodesCount();
+        if (_deleteNodesCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_deleteNodesCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_deleteNodesCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _deleteNodesCount);
+        }
+        ServiceCounterDataType _deleteReferencesCount = sessionDiagnosticsDataType.getDeleteReferencesCount();
+        if (_deleteReferencesCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_deleteReferencesCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_deleteReferencesCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _deleteReferencesCount);
+        }
+        ServiceCounterDataType _browseCount = sessionDiagnosticsDataType.getBrowseCount();
+        if (_browseCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_browseCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_browseCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _browseCount);
+        }
+        ServiceCounterDataType _browseNextCount = sessionDiagnosticsDataType.getBrowseNextCount();
+        if (_browseNextCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_browseNextCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_browseNextCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _browseNextCount);
+        }
+        ServiceCounterDataType _translateBrowsePathsToNodeIdsCount = sessionDiagnosticsDataType.getTranslateBrowsePathsToNodeIdsCount();
+        if (_translateBrowsePathsToNodeIdsCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_translateBrowsePathsToNodeIdsCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_translateBrowsePathsToNodeIdsCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _translateBrowsePathsToNodeIdsCount);
+        }
+        ServiceCounterDataType _queryFirstCount = sessionDiagnosticsDataType.getQueryFirstCount();
+        if (_queryFirstCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_queryFirstCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_queryFirstCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _queryFirstCount);
+        }
+        ServiceCounterDataType _queryNextCount = sessionDiagnosticsDataType.getQueryNextCount();
+        if (_queryNextCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_queryNextCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_queryNextCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _queryNextCount);
+        }
+        ServiceCounterDataType _registerNodesCount = sessionDiagnosticsDataType.getRegisterNodesCount();
+        if (_registerNodesCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_registerNodesCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_registerNodesCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _registerNodesCount);
+        }
+        ServiceCounterDataType _unregisterNodesCount = sessionDiagnosticsDataType.getUnregisterNodesCount();
+        if (_unregisterNodesCount == null) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(new ServiceCounterDataType(), sizer);
+        } else if (_unregisterNodesCount.getClass() == ServiceCounterDataType.class) {
+            ServiceCounterDataTypeBinaryCodec.encodedSize(_unregisterNodesCount, sizer);
+        } else {
+            sizer.encodeSerializable(null, _unregisterNodesCount);
+        }
+    }
+
+    public static SessionDiagnosticsDataType decode(BinaryDecoder decoder) {
+        NodeId _sessionId = decoder.decodeNodeId(null);
+        String _sessionName = decoder.decodeString(null);
+        ApplicationDescription _clientDescription = ApplicationDescriptionBinaryCodec.decode(decoder);
+        String _serverUri = decoder.decodeString(null);
+        String _endpointUrl = decoder.decodeString(null);
+        String[] _localeIds;
+        if (decoder.isArrayStreamed("LocaleIds", String.class)) {
+            _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String.class);
+        } else {
+            _localeIds = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _localeIds.length; i++) {
+                _localeIds[i] = decoder.decodeString(null);
+            }
+        }
+        Double _actualSessionTimeout = decoder.decodeDouble(null);
+        UInteger _maxResponseMessageSize = decoder.decodeUInt32(null);
+        DateTime _clientConnectionTime = decoder.decodeDateTime(null);
+        DateTime _clientLastContactTime = decoder.decodeDateTime(null);
+        UInteger _currentSubscriptionsCount = decoder.decodeUInt32(null);
+        UInteger _currentMonitoredItemsCount = decoder.decodeUInt32(null);
+        UInteger _currentPublishRequestsInQueue = decoder.decodeUInt32(null);
+        ServiceCounterDataType _totalRequestCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        UInteger _unauthorizedRequestCount = decoder.decodeUInt32(null);
+        ServiceCounterDataType _readCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _historyReadCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _writeCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _historyUpdateCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _callCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _createMonitoredItemsCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _modifyMonitoredItemsCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _setMonitoringModeCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _setTriggeringCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _deleteMonitoredItemsCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _createSubscriptionCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _modifySubscriptionCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _setPublishingModeCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _publishCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _republishCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _transferSubscriptionsCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _deleteSubscriptionsCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _addNodesCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _addReferencesCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _deleteNodesCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _deleteReferencesCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _browseCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _browseNextCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _translateBrowsePathsToNodeIdsCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _queryFirstCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _queryNextCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _registerNodesCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _unregisterNodesCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+
+        return new SessionDiagnosticsDataType(_sessionId, _sessionName, _clientDescription, _serverUri, _endpointUrl, _localeIds, _actualSessionTimeout, _maxResponseMessageSize, _clientConnectionTime, _clientLastContactTime, _currentSubscriptionsCount, _currentMonitoredItemsCount, _currentPublishRequestsInQueue, _totalRequestCount, _unauthorizedRequestCount, _readCount, _historyReadCount, _writeCount, _historyUpdateCount, _callCount, _createMonitoredItemsCount, _modifyMonitoredItemsCount, _setMonitoringModeCount, _setTriggeringCount, _deleteMonitoredItemsCount, _createSubscriptionCount, _modifySubscriptionCount, _setPublishingModeCount, _publishCount, _republishCount, _transferSubscriptionsCount, _deleteSubscriptionsCount, _addNodesCount, _addReferencesCount, _deleteNodesCount, _deleteReferencesCount, _browseCount, _browseNextCount, _translateBrowsePathsToNodeIdsCount, _queryFirstCount, _queryNextCount, _registerNodesCount, _unregisterNodesCount);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SessionDiagnosticsDataTypeBinaryCodec::encode, SessionDiagnosticsDataType.class, SessionDiagnosticsDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SessionDiagnosticsDataTypeBinaryCodec::decode, SessionDiagnosticsDataType.class, SessionDiagnosticsDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SessionDiagnosticsDataTypeBinaryCodec::encodedSize, SessionDiagnosticsDataType.class, SessionDiagnosticsDataType.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.types.structured.SessionSecurityDiagnosticsDataType;
+
+public class SessionSecurityDiagnosticsDataTypeBinaryCodec {
+
+    public static void encode(SessionSecurityDiagnosticsDataType sessionSecurityDiagnosticsDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, sessionSecurityDiagnosticsDataType.getSessionId());
+        encoder.encodeString(null, sessionSecurityDiagnosticsDataType.getClientUserIdOfSession());
+        String[] _clientUserIdHistory = sessionSecurityDiagnosticsDataType.getClientUserIdHistory();
+        encoder.writeArrayLength(_clientUserIdHistory);
+        if (_clientUserIdHistory != null) {
+            for (String e : _clientUserIdHistory) {
+                encoder.encodeString(null, e);
+            }
+        }
+        encoder.encodeString(null, sessionSecurityDiagnosticsDataType.getAuthenticationMechanism());
+        encoder.encodeString(null, sessionSecurityDiagnosticsDataType.getEncoding());
+        encoder.encodeString(null, sessionSecurityDiagnosticsDataType.getTransportProtocol());
+        MessageSecurityMode _securityMode = sessionSecurityDiagnosticsDataType.getSecurityMode();
+        encoder.writeInt32(null, _securityMode != null ? _securityMode.getValue() : -1);
+        encoder.encodeString(null, sessionSecurityDiagnosticsDataType.getSecurityPolicyUri());
+        encoder.encodeByteString(null, sessionSecurityDiagnosticsDataType.getClientCertificate());
+    }
+
+    public static void encodedSize(SessionSecurityDiagnosticsDataType sessionSecurityDiagnosticsDataType, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeNodeId(null, sessionSecurityDiagnosticsDataType.getSessionId());
+        sizer.encodeString(null, sessionSecurityDiagnosticsDataType.getClientUserIdOfSession());
+        String[] _clientUserIdHistory = sessionSecurityDiagnosticsDataType.getClientUserIdHistory();
+        sizer.addSize(4);
+        if (_clientUserIdHistory != null) {
+            for (String e : _clientUserIdHistory) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+        sizer.encodeString(null, sessionSecurityDiagnosticsDataType.getAuthenticationMechanism());
+        sizer.encodeString(null, sessionSecurityDiagnosticsDataType.getEncoding());
+        sizer.encodeString(null, sessionSecurityDiagnosticsDataType.getTransportProtocol());
+        sizer.encodeString(null, sessionSecurityDiagnosticsDataType.getSecurityPolicyUri());
+        sizer.encodeByteString(null, sessionSecurityDiagnosticsDataType.getClientCertificate());
+    }
+
+    public static SessionSecurityDiagnosticsDataType decode(BinaryDecoder decoder) {
+        NodeId _sessionId = decoder.decodeNodeId(null);
+        String _clientUserIdOfSession = decoder.decodeString(null);
+        String[] _clientUserIdHistory;
+        if (decoder.isArrayStreamed("ClientUserIdHistory", String.class)) {
+            _clientUserIdHistory = decoder.decodeArray("ClientUserIdHistory", decoder::decodeString, String.class);
+        } else {
+            _clientUserIdHistory = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _clientUserIdHistory.length; i++) {
+                _clientUserIdHistory[i] = decoder.decodeString(null);
+            }
+        }
+        String _authenticationMechanism = decoder.decodeString(null);
+        String _encoding = decoder.decodeString(null);
+        String _transportProtocol = decoder.decodeString(null);
+        MessageSecurityMode _securityMode = MessageSecurityMode.decode(decoder);
+        String _securityPolicyUri = decoder.decodeString(null);
+        ByteString _clientCertificate = decoder.decodeByteString(null);
+
+        return new SessionSecurityDiagnosticsDataType(_sessionId, _clientUserIdOfSession, _clientUserIdHistory, _authenticationMechanism, _encoding, _transportProtocol, _securityMode, _securityPolicyUri, _clientCertificate);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SessionSecurityDiagnosticsDataTypeBinaryCodec::encode, SessionSecurityDiagnosticsDataType.class, SessionSecurityDiagnosticsDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SessionSecurityDiagnosticsDataTypeBinaryCodec::decode, SessionSecurityDiagnosticsDataType.class, SessionSecurityDiagnosticsDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SessionSecurityDiagnosticsDataTypeBinaryCodec::encodedSize, SessionSecurityDiagnosticsDataType.class, SessionSecurityDiagnosticsDataType.BinaryEncodingId);
+    }
+
+}
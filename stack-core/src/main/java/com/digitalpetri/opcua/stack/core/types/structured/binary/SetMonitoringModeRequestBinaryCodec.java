@@ -0,0 +1,71 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.MonitoringMode;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.SetMonitoringModeRequest;
+
+public class SetMonitoringModeRequestBinaryCodec {
+
+    public static void encode(SetMonitoringModeRequest setMonitoringModeRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = setMonitoringModeRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeUInt32(null, setMonitoringModeRequest.getSubscriptionId());
+        MonitoringMode _monitoringMode = setMonitoringModeRequest.getMonitoringMode();
+        encoder.writeInt32(null, _monitoringMode != null ? _monitoringMode.getValue() : -1);
+        UInteger[] _monitoredItemIds = setMonitoringModeRequest.getMonitoredItemIds();
+        encoder.writeArrayLength(_monitoredItemIds);
+        if (_monitoredItemIds != null) {
+            for (UInteger e : _monitoredItemIds) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(SetMonitoringModeRequest setMonitoringModeRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+        RequestHeader _requestHeader = setMonitoringModeRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        sizer.addArraySize(setMonitoringModeRequest.getMonitoredItemIds(), 4);
+    }
+
+    public static SetMonitoringModeRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        MonitoringMode _monitoringMode = MonitoringMode.decode(decoder);
+        UInteger[] _monitoredItemIds;
+        if (decoder.isArrayStreamed("MonitoredItemIds", UInteger.class)) {
+            _monitoredItemIds = decoder.decodeArray("MonitoredItemIds", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _monitoredItemIds = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _monitoredItemIds.length; i++) {
+                _monitoredItemIds[i] = decoder.decodeUInt32(null);
+            }
+        }
+
+        return new SetMonitoringModeRequest(_requestHeader, _subscriptionId, _monitoringMode, _monitoredItemIds);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SetMonitoringModeRequestBinaryCodec::encode, SetMonitoringModeRequest.class, SetMonitoringModeRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SetMonitoringModeRequestBinaryCodec::decode, SetMonitoringModeRequest.class, SetMonitoringModeRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SetMonitoringModeRequestBinaryCodec::encodedSize, SetMonitoringModeRequest.class, SetMonitoringModeRequest.BinaryEncodingId);
+    }
+
+}
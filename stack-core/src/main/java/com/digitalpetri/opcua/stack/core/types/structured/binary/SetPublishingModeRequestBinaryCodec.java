@@ -0,0 +1,67 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.SetPublishingModeRequest;
+
+public class SetPublishingModeRequestBinaryCodec {
+
+    public static void encode(SetPublishingModeRequest setPublishingModeRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = setPublishingModeRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeBoolean(null, setPublishingModeRequest.getPublishingEnabled());
+        UInteger[] _subscriptionIds = setPublishingModeRequest.getSubscriptionIds();
+        encoder.writeArrayLength(_subscriptionIds);
+        if (_subscriptionIds != null) {
+            for (UInteger e : _subscriptionIds) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(SetPublishingModeRequest setPublishingModeRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(1);
+        RequestHeader _requestHeader = setPublishingModeRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        sizer.addArraySize(setPublishingModeRequest.getSubscriptionIds(), 4);
+    }
+
+    public static SetPublishingModeRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        Boolean _publishingEnabled = decoder.decodeBoolean(null);
+        UInteger[] _subscriptionIds;
+        if (decoder.isArrayStreamed("SubscriptionIds", UInteger.class)) {
+            _subscriptionIds = decoder.decodeArray("SubscriptionIds", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _subscriptionIds = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _subscriptionIds.length; i++) {
+                _subscriptionIds[i] = decoder.decodeUInt32(null);
+            }
+        }
+
+        return new SetPublishingModeRequest(_requestHeader, _publishingEnabled, _subscriptionIds);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SetPublishingModeRequestBinaryCodec::encode, SetPublishingModeRequest.class, SetPublishingModeRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SetPublishingModeRequestBinaryCodec::decode, SetPublishingModeRequest.class, SetPublishingModeRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SetPublishingModeRequestBinaryCodec::encodedSize, SetPublishingModeRequest.class, SetPublishingModeRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.SetTriggeringRequest;
+
+public class SetTriggeringRequestBinaryCodec {
+
+    public static void encode(SetTriggeringRequest setTriggeringRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = setTriggeringRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeUInt32(null, setTriggeringRequest.getSubscriptionId());
+        encoder.encodeUInt32(null, setTriggeringRequest.getTriggeringItemId());
+        UInteger[] _linksToAdd = setTriggeringRequest.getLinksToAdd();
+        encoder.writeArrayLength(_linksToAdd);
+        if (_linksToAdd != null) {
+            for (UInteger e : _linksToAdd) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+        UInteger[] _linksToRemove = setTriggeringRequest.getLinksToRemove();
+        encoder.writeArrayLength(_linksToRemove);
+        if (_linksToRemove != null) {
+            for (UInteger e : _linksToRemove) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(SetTriggeringRequest setTriggeringRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+        RequestHeader _requestHeader = setTriggeringRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        sizer.addArraySize(setTriggeringRequest.getLinksToAdd(), 4);
+        sizer.addArraySize(setTriggeringRequest.getLinksToRemove(), 4);
+    }
+
+    public static SetTriggeringRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        UInteger _triggeringItemId = decoder.decodeUInt32(null);
+        UInteger[] _linksToAdd;
+        if (decoder.isArrayStreamed("LinksToAdd", UInteger.class)) {
+            _linksToAdd = decoder.decodeArray("LinksToAdd", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _linksToAdd = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _linksToAdd.length; i++) {
+                _linksToAdd[i] = decoder.decodeUInt32(null);
+            }
+        }
+        UInteger[] _linksToRemove;
+        if (decoder.isArrayStreamed("LinksToRemove", UInteger.class)) {
+            _linksToRemove = decoder.decodeArray("LinksToRemove", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _linksToRemove = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _linksToRemove.length; i++) {
+                _linksToRemove[i] = decoder.decodeUInt32(null);
+            }
+        }
+
+        return new SetTriggeringRequest(_requestHeader, _subscriptionId, _triggeringItemId, _linksToAdd, _linksToRemove);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SetTriggeringRequestBinaryCodec::encode, SetTriggeringRequest.class, SetTriggeringRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SetTriggeringRequestBinaryCodec::decode, SetTriggeringRequest.class, SetTriggeringRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SetTriggeringRequestBinaryCodec::encodedSize, SetTriggeringRequest.class, SetTriggeringRequest.BinaryEncodingId);
+    }
+
+}
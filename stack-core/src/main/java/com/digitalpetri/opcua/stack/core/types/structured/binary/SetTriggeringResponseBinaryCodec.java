@@ -0,0 +1,130 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.SetTriggeringResponse;
+
+public class SetTriggeringResponseBinaryCodec {
+
+    public static void encode(SetTriggeringResponse setTriggeringResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = setTriggeringResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        StatusCode[] _addResults = setTriggeringResponse.getAddResults();
+        encoder.writeArrayLength(_addResults);
+        if (_addResults != null) {
+            for (StatusCode e : _addResults) {
+                encoder.encodeStatusCode(null, e);
+            }
+        }
+        DiagnosticInfo[] _addDiagnosticInfos = setTriggeringResponse.getAddDiagnosticInfos();
+        encoder.writeArrayLength(_addDiagnosticInfos);
+        if (_addDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _addDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+        StatusCode[] _removeResults = setTriggeringResponse.getRemoveResults();
+        encoder.writeArrayLength(_removeResults);
+        if (_removeResults != null) {
+            for (StatusCode e : _removeResults) {
+                encoder.encodeStatusCode(null, e);
+            }
+        }
+        DiagnosticInfo[] _removeDiagnosticInfos = setTriggeringResponse.getRemoveDiagnosticInfos();
+        encoder.writeArrayLength(_removeDiagnosticInfos);
+        if (_removeDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _removeDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(SetTriggeringResponse setTriggeringResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = setTriggeringResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        sizer.addArraySize(setTriggeringResponse.getAddResults(), 4);
+        DiagnosticInfo[] _addDiagnosticInfos = setTriggeringResponse.getAddDiagnosticInfos();
+        sizer.addSize(4);
+        if (_addDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _addDiagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+        sizer.addArraySize(setTriggeringResponse.getRemoveResults(), 4);
+        DiagnosticInfo[] _removeDiagnosticInfos = setTriggeringResponse.getRemoveDiagnosticInfos();
+        sizer.addSize(4);
+        if (_removeDiagnosticInfos != null) {
+            for (DiagnosticInfo e : _removeDiagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static SetTriggeringResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        StatusCode[] _addResults;
+        if (decoder.isArrayStreamed("AddResults", StatusCode.class)) {
+            _addResults = decoder.decodeArray("AddResults", decoder::decodeStatusCode, StatusCode.class);
+        } else {
+            _addResults = new StatusCode[decoder.readArrayLength()];
+            for (int i = 0; i < _addResults.length; i++) {
+                _addResults[i] = decoder.decodeStatusCode(null);
+            }
+        }
+        DiagnosticInfo[] _addDiagnosticInfos;
+        if (decoder.isArrayStreamed("AddDiagnosticInfos", DiagnosticInfo.class)) {
+            _addDiagnosticInfos = decoder.decodeArray("AddDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _addDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _addDiagnosticInfos.length; i++) {
+                _addDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+        StatusCode[] _removeResults;
+        if (decoder.isArrayStreamed("RemoveResults", StatusCode.class)) {
+            _removeResults = decoder.decodeArray("RemoveResults", decoder::decodeStatusCode, StatusCode.class);
+        } else {
+            _removeResults = new StatusCode[decoder.readArrayLength()];
+            for (int i = 0; i < _removeResults.length; i++) {
+                _removeResults[i] = decoder.decodeStatusCode(null);
+            }
+        }
+        DiagnosticInfo[] _removeDiagnosticInfos;
+        if (decoder.isArrayStreamed("RemoveDiagnosticInfos", DiagnosticInfo.class)) {
+            _removeDiagnosticInfos = decoder.decodeArray("RemoveDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _removeDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _removeDiagnosticInfos.length; i++) {
+                _removeDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new SetTriggeringResponse(_responseHeader, _addResults, _addDiagnosticInfos, _removeResults, _removeDiagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SetTriggeringResponseBinaryCodec::encode, SetTriggeringResponse.class, SetTriggeringResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SetTriggeringResponseBinaryCodec::decode, SetTriggeringResponse.class, SetTriggeringResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SetTriggeringResponseBinaryCodec::encodedSize, SetTriggeringResponse.class, SetTriggeringResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.structured.SignatureData;
+
+public class SignatureDataBinaryCodec {
+
+    public static void encode(SignatureData signatureData, BinaryEncoder encoder) {
+        encoder.encodeString(null, signatureData.getAlgorithm());
+        encoder.encodeByteString(null, signatureData.getSignature());
+    }
+
+    public static void encodedSize(SignatureData signatureData, BinarySizeEncoder sizer) {
+        sizer.encodeString(null, signatureData.getAlgorithm());
+        sizer.encodeByteString(null, signatureData.getSignature());
+    }
+
+    public static SignatureData decode(BinaryDecoder decoder) {
+        String _algorithm = decoder.decodeString(null);
+        ByteString _signature = decoder.decodeByteString(null);
+
+        return new SignatureData(_algorithm, _signature);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SignatureDataBinaryCodec::encode, SignatureData.class, SignatureData.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SignatureDataBinaryCodec::decode, SignatureData.class, SignatureData.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SignatureDataBinaryCodec::encodedSize, SignatureData.class, SignatureData.BinaryEncodingId);
+    }
+
+}
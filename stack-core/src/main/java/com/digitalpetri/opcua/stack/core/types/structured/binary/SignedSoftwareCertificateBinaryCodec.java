@@ -0,0 +1,35 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.structured.SignedSoftwareCertificate;
+
+public class SignedSoftwareCertificateBinaryCodec {
+
+    public static void encode(SignedSoftwareCertificate signedSoftwareCertificate, BinaryEncoder encoder) {
+        encoder.encodeByteString(null, signedSoftwareCertificate.getCertificateData());
+        encoder.encodeByteString(null, signedSoftwareCertificate.getSignature());
+    }
+
+    public static void encodedSize(SignedSoftwareCertificate signedSoftwareCertificate, BinarySizeEncoder sizer) {
+        sizer.encodeByteString(null, signedSoftwareCertificate.getCertificateData());
+        sizer.encodeByteString(null, signedSoftwareCertificate.getSignature());
+    }
+
+    public static SignedSoftwareCertificate decode(BinaryDecoder decoder) {
+        ByteString _certificateData = decoder.decodeByteString(null);
+        ByteString _signature = decoder.decodeByteString(null);
+
+        return new SignedSoftwareCertificate(_certificateData, _signature);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SignedSoftwareCertificateBinaryCodec::encode, SignedSoftwareCertificate.class, SignedSoftwareCertificate.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SignedSoftwareCertificateBinaryCodec::decode, SignedSoftwareCertificate.class, SignedSoftwareCertificate.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SignedSoftwareCertificateBinaryCodec::encodedSize, SignedSoftwareCertificate.class, SignedSoftwareCertificate.BinaryEncodingId);
+    }
+
+}
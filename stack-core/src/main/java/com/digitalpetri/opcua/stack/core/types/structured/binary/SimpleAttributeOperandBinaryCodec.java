@@ -0,0 +1,64 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.SimpleAttributeOperand;
+
+public class SimpleAttributeOperandBinaryCodec {
+
+    public static void encode(SimpleAttributeOperand simpleAttributeOperand, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, simpleAttributeOperand.getTypeDefinitionId());
+        QualifiedName[] _browsePath = simpleAttributeOperand.getBrowsePath();
+        encoder.writeArrayLength(_browsePath);
+        if (_browsePath != null) {
+            for (QualifiedName e : _browsePath) {
+                encoder.encodeQualifiedName(null, e);
+            }
+        }
+        encoder.encodeUInt32(null, simpleAttributeOperand.getAttributeId());
+        encoder.encodeString(null, simpleAttributeOperand.getIndexRange());
+    }
+
+    public static void encodedSize(SimpleAttributeOperand simpleAttributeOperand, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeNodeId(null, simpleAttributeOperand.getTypeDefinitionId());
+        QualifiedName[] _browsePath = simpleAttributeOperand.getBrowsePath();
+        sizer.addSize(4);
+        if (_browsePath != null) {
+            for (QualifiedName e : _browsePath) {
+                sizer.checkLimit();
+                sizer.encodeQualifiedName(null, e);
+            }
+        }
+        sizer.encodeString(null, simpleAttributeOperand.getIndexRange());
+    }
+
+    public static SimpleAttributeOperand decode(BinaryDecoder decoder) {
+        NodeId _typeDefinitionId = decoder.decodeNodeId(null);
+        QualifiedName[] _browsePath;
+        if (decoder.isArrayStreamed("BrowsePath", QualifiedName.class)) {
+            _browsePath = decoder.decodeArray("BrowsePath", decoder::decodeQualifiedName, QualifiedName.class);
+        } else {
+            _browsePath = new QualifiedName[decoder.readArrayLength()];
+            for (int i = 0; i < _browsePath.length; i++) {
+                _browsePath[i] = decoder.decodeQualifiedName(null);
+            }
+        }
+        UInteger _attributeId = decoder.decodeUInt32(null);
+        String _indexRange = decoder.decodeString(null);
+
+        return new SimpleAttributeOperand(_typeDefinitionId, _browsePath, _attributeId, _indexRange);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SimpleAttributeOperandBinaryCodec::encode, SimpleAttributeOperand.class, SimpleAttributeOperand.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SimpleAttributeOperandBinaryCodec::decode, SimpleAttributeOperand.class, SimpleAttributeOperand.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SimpleAttributeOperandBinaryCodec::encodedSize, SimpleAttributeOperand.class, SimpleAttributeOperand.BinaryEncodingId);
+    }
+
+}
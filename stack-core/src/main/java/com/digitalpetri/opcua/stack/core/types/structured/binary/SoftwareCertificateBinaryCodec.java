@@ -0,0 +1,89 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.structured.SoftwareCertificate;
+import com.digitalpetri.opcua.stack.core.types.structured.SupportedProfile;
+
+public class SoftwareCertificateBinaryCodec {
+
+    public static void encode(SoftwareCertificate softwareCertificate, BinaryEncoder encoder) {
+        encoder.encodeString(null, softwareCertificate.getProductName());
+        encoder.encodeString(null, softwareCertificate.getProductUri());
+        encoder.encodeString(null, softwareCertificate.getVendorName());
+        encoder.encodeByteString(null, softwareCertificate.getVendorProductCertificate());
+        encoder.encodeString(null, softwareCertificate.getSoftwareVersion());
+        encoder.encodeString(null, softwareCertificate.getBuildNumber());
+        encoder.encodeDateTime(null, softwareCertificate.getBuildDate());
+        encoder.encodeString(null, softwareCertificate.getIssuedBy());
+        encoder.encodeDateTime(null, softwareCertificate.getIssueDate());
+        SupportedProfile[] _supportedProfiles = softwareCertificate.getSupportedProfiles();
+        encoder.writeArrayLength(_supportedProfiles);
+        if (_supportedProfiles != null) {
+            for (SupportedProfile e : _supportedProfiles) {
+                if (e.getClass() == SupportedProfile.class) {
+                    SupportedProfileBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(SoftwareCertificate softwareCertificate, BinarySizeEncoder sizer) {
+        sizer.addSize(16);
+        sizer.encodeString(null, softwareCertificate.getProductName());
+        sizer.encodeString(null, softwareCertificate.getProductUri());
+        sizer.encodeString(null, softwareCertificate.getVendorName());
+        sizer.encodeByteString(null, softwareCertificate.getVendorProductCertificate());
+        sizer.encodeString(null, softwareCertificate.getSoftwareVersion());
+        sizer.encodeString(null, softwareCertificate.getBuildNumber());
+        sizer.encodeString(null, softwareCertificate.getIssuedBy());
+        SupportedProfile[] _supportedProfiles = softwareCertificate.getSupportedProfiles();
+        sizer.addSize(4);
+        if (_supportedProfiles != null) {
+            for (SupportedProfile e : _supportedProfiles) {
+                sizer.checkLimit();
+                if (e.getClass() == SupportedProfile.class) {
+                    SupportedProfileBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static SoftwareCertificate decode(BinaryDecoder decoder) {
+        String _productName = decoder.decodeString(null);
+        String _productUri = decoder.decodeString(null);
+        String _vendorName = decoder.decodeString(null);
+        ByteString _vendorProductCertificate = decoder.decodeByteString(null);
+        String _softwareVersion = decoder.decodeString(null);
+        String _buildNumber = decoder.decodeString(null);
+        DateTime _buildDate = decoder.decodeDateTime(null);
+        String _issuedBy = decoder.decodeString(null);
+        DateTime _issueDate = decoder.decodeDateTime(null);
+        SupportedProfile[] _supportedProfiles;
+        if (decoder.isArrayStreamed("SupportedProfiles", SupportedProfile.class)) {
+            _supportedProfiles = decoder.decodeArray("SupportedProfiles", decoder::decodeSerializable, SupportedProfile.class);
+        } else {
+            _supportedProfiles = new SupportedProfile[decoder.readArrayLength()];
+            for (int i = 0; i < _supportedProfiles.length; i++) {
+                _supportedProfiles[i] = SupportedProfileBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new SoftwareCertificate(_productName, _productUri, _vendorName, _vendorProductCertificate, _softwareVersion, _buildNumber, _buildDate, _issuedBy, _issueDate, _supportedProfiles);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SoftwareCertificateBinaryCodec::encode, SoftwareCertificate.class, SoftwareCertificate.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SoftwareCertificateBinaryCodec::decode, SoftwareCertificate.class, SoftwareCertificate.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SoftwareCertificateBinaryCodec::encodedSize, SoftwareCertificate.class, SoftwareCertificate.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.StatusChangeNotification;
+
+public class StatusChangeNotificationBinaryCodec {
+
+    public static void encode(StatusChangeNotification statusChangeNotification, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, statusChangeNotification.getStatus());
+        encoder.encodeDiagnosticInfo(null, statusChangeNotification.getDiagnosticInfo());
+    }
+
+    public static void encodedSize(StatusChangeNotification statusChangeNotification, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeDiagnosticInfo(null, statusChangeNotification.getDiagnosticInfo());
+    }
+
+    public static StatusChangeNotification decode(BinaryDecoder decoder) {
+        StatusCode _status = decoder.decodeStatusCode(null);
+        DiagnosticInfo _diagnosticInfo = decoder.decodeDiagnosticInfo(null);
+
+        return new StatusChangeNotification(_status, _diagnosticInfo);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(StatusChangeNotificationBinaryCodec::encode, StatusChangeNotification.class, StatusChangeNotification.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(StatusChangeNotificationBinaryCodec::decode, StatusChangeNotification.class, StatusChangeNotification.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(StatusChangeNotificationBinaryCodec::encodedSize, StatusChangeNotification.class, StatusChangeNotification.BinaryEncodingId);
+    }
+
+}
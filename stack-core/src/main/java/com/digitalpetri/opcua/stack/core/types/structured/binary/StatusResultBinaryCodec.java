@@ -0,0 +1,36 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.structured.StatusResult;
+
+public class StatusResultBinaryCodec {
+
+    public static void encode(StatusResult statusResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, statusResult.getStatusCode());
+        encoder.encodeDiagnosticInfo(null, statusResult.getDiagnosticInfo());
+    }
+
+    public static void encodedSize(StatusResult statusResult, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeDiagnosticInfo(null, statusResult.getDiagnosticInfo());
+    }
+
+    public static StatusResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        DiagnosticInfo _diagnosticInfo = decoder.decodeDiagnosticInfo(null);
+
+        return new StatusResult(_statusCode, _diagnosticInfo);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(StatusResultBinaryCodec::encode, StatusResult.class, StatusResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(StatusResultBinaryCodec::decode, StatusResult.class, StatusResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(StatusResultBinaryCodec::encodedSize, StatusResult.class, StatusResult.BinaryEncodingId);
+    }
+
+}
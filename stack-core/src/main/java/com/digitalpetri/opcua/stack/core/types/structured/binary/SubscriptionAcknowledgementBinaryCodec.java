@@ -0,0 +1,34 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.SubscriptionAcknowledgement;
+
+public class SubscriptionAcknowledgementBinaryCodec {
+
+    public static void encode(SubscriptionAcknowledgement subscriptionAcknowledgement, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, subscriptionAcknowledgement.getSubscriptionId());
+        encoder.encodeUInt32(null, subscriptionAcknowledgement.getSequenceNumber());
+    }
+
+    public static void encodedSize(SubscriptionAcknowledgement subscriptionAcknowledgement, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+    }
+
+    public static SubscriptionAcknowledgement decode(BinaryDecoder decoder) {
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        UInteger _sequenceNumber = decoder.decodeUInt32(null);
+
+        return new SubscriptionAcknowledgement(_subscriptionId, _sequenceNumber);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SubscriptionAcknowledgementBinaryCodec::encode, SubscriptionAcknowledgement.class, SubscriptionAcknowledgement.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SubscriptionAcknowledgementBinaryCodec::decode, SubscriptionAcknowledgement.class, SubscriptionAcknowledgement.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SubscriptionAcknowledgementBinaryCodec::encodedSize, SubscriptionAcknowledgement.class, SubscriptionAcknowledgement.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.SubscriptionDiagnosticsDataType;
+
+public class SubscriptionDiagnosticsDataTypeBinaryCodec {
+
+    public static void encode(SubscriptionDiagnosticsDataType subscriptionDiagnosticsDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, subscriptionDiagnosticsDataType.getSessionId());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getSubscriptionId());
+        encoder.encodeByte(null, subscriptionDiagnosticsDataType.getPriority());
+        encoder.encodeDouble(null, subscriptionDiagnosticsDataType.getPublishingInterval());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getMaxKeepAliveCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getMaxLifetimeCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getMaxNotificationsPerPublish());
+        encoder.encodeBoolean(null, subscriptionDiagnosticsDataType.getPublishingEnabled());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getModifyCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getEnableCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getDisableCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getRepublishRequestCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getRepublishMessageRequestCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getRepublishMessageCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getTransferRequestCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getTransferredToAltClientCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getTransferredToSameClientCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getPublishRequestCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getDataChangeNotificationsCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getEventNotificationsCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getNotificationsCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getLatePublishRequestCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getCurrentKeepAliveCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getCurrentLifetimeCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getUnacknowledgedMessageCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getDiscardedMessageCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getMonitoredItemCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getDisabledMonitoredItemCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getMonitoringQueueOverflowCount());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getNextSequenceNumber());
+        encoder.encodeUInt32(null, subscriptionDiagnosticsDataType.getEventQueueOverFlowCount());
+    }
+
+    public static void encodedSize(SubscriptionDiagnosticsDataType subscriptionDiagnosticsDataType, BinarySizeEncoder sizer) {
+        sizer.addSize(118);
+        sizer.encodeNodeId(null, subscriptionDiagnosticsDataType.getSessionId());
+    }
+
+    public static SubscriptionDiagnosticsDataType decode(BinaryDecoder decoder) {
+        NodeId _sessionId = decoder.decodeNodeId(null);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        UByte _priority = decoder.decodeByte(null);
+        Double _publishingInterval = decoder.decodeDouble(null);
+        UInteger _maxKeepAliveCount = decoder.decodeUInt32(null);
+        UInteger _maxLifetimeCount = decoder.decodeUInt32(null);
+        UInteger _maxNotificationsPerPublish = decoder.decodeUInt32(null);
+        Boolean _publishingEnabled = decoder.decodeBoolean(null);
+        UInteger _modifyCount = decoder.decodeUInt32(null);
+        UInteger _enableCount = decoder.decodeUInt32(null);
+        UInteger _disableCount = decoder.decodeUInt32(null);
+        UInteger _republishRequestCount = decoder.decodeUInt32(null);
+        UInteger _republishMessageRequestCount = decoder.decodeUInt32(null);
+        UInteger _republishMessageCount = decoder.decodeUInt32(null);
+        UInteger _transferRequestCount = decoder.decodeUInt32(null);
+        UInteger _transferredToAltClientCount = decoder.decodeUInt32(null);
+        UInteger _transferredToSameClientCount = decoder.decodeUInt32(null);
+        UInteger _publishRequestCount = decoder.decodeUInt32(null);
+        UInteger _dataChangeNotificationsCount = decoder.decodeUInt32(null);
+        UInteger _eventNotificationsCount = decoder.decodeUInt32(null);
+        UInteger _notificationsCount = decoder.decodeUInt32(null);
+        UInteger _latePublishRequestCount = decoder.decodeUInt32(null);
+        UInteger _currentKeepAliveCount = decoder.decodeUInt32(null);
+        UInteger _currentLifetimeCount = decoder.decodeUInt32(null);
+        UInteger _unacknowledgedMessageCount = decoder.decodeUInt32(null);
+        UInteger _discardedMessageCount = decoder.decodeUInt32(null);
+        UInteger _monitoredItemCount = decoder.decodeUInt32(null);
+        UInteger _disabledMonitoredItemCount = decoder.decodeUInt32(null);
+        UInteger _monitoringQueueOverflowCount = decoder.decodeUInt32(null);
+        UInteger _nextSequenceNumber = decoder.decodeUInt32(null);
+        UInteger _eventQueueOverFlowCount = decoder.decodeUInt32(null);
+
+        return new SubscriptionDiagnosticsDataType(_sessionId, _subscriptionId, _priority, _publishingInterval, _maxKeepAliveCount, _maxLifetimeCount, _maxNotificationsPerPublish, _publishingEnabled, _modifyCount, _enableCount, _disableCount, _republishRequestCount, _republishMessageRequestCount, _republishMessageCount, _transferRequestCount, _transferredToAltClientCount, _transferredToSameClientCount, _publishRequestCount, _dataChangeNotificationsCount, _eventNotificationsCount, _notificationsCount, _latePublishRequestCount, _currentKeepAliveCount, _currentLifetimeCount, _unacknowledgedMessageCount, _discardedMessageCount, _monitoredItemCount, _disabledMonitoredItemCount, _monitoringQueueOverflowCount, _nextSequenceNumber, _eventQueueOverFlowCount);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SubscriptionDiagnosticsDataTypeBinaryCodec::encode, SubscriptionDiagnosticsDataType.class, SubscriptionDiagnosticsDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SubscriptionDiagnosticsDataTypeBinaryCodec::decode, SubscriptionDiagnosticsDataType.class, SubscriptionDiagnosticsDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SubscriptionDiagnosticsDataTypeBinaryCodec::encodedSize, SubscriptionDiagnosticsDataType.class, SubscriptionDiagnosticsDataType.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.enumerated.ComplianceLevel;
+import com.digitalpetri.opcua.stack.core.types.structured.SupportedProfile;
+
+public class SupportedProfileBinaryCodec {
+
+    public static void encode(SupportedProfile supportedProfile, BinaryEncoder encoder) {
+        encoder.encodeString(null, supportedProfile.getOrganizationUri());
+        encoder.encodeString(null, supportedProfile.getProfileId());
+        encoder.encodeString(null, supportedProfile.getComplianceTool());
+        encoder.encodeDateTime(null, supportedProfile.getComplianceDate());
+        ComplianceLevel _complianceLevel = supportedProfile.getComplianceLevel();
+        encoder.writeInt32(null, _complianceLevel != null ? _complianceLevel.getValue() : -1);
+        String[] _unsupportedUnitIds = supportedProfile.getUnsupportedUnitIds();
+        encoder.writeArrayLength(_unsupportedUnitIds);
+        if (_unsupportedUnitIds != null) {
+            for (String e : _unsupportedUnitIds) {
+                encoder.encodeString(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(SupportedProfile supportedProfile, BinarySizeEncoder sizer) {
+        sizer.addSize(12);
+        sizer.encodeString(null, supportedProfile.getOrganizationUri());
+        sizer.encodeString(null, supportedProfile.getProfileId());
+        sizer.encodeString(null, supportedProfile.getComplianceTool());
+        String[] _unsupportedUnitIds = supportedProfile.getUnsupportedUnitIds();
+        sizer.addSize(4);
+        if (_unsupportedUnitIds != null) {
+            for (String e : _unsupportedUnitIds) {
+                sizer.checkLimit();
+                sizer.encodeString(null, e);
+            }
+        }
+    }
+
+    public static SupportedProfile decode(BinaryDecoder decoder) {
+        String _organizationUri = decoder.decodeString(null);
+        String _profileId = decoder.decodeString(null);
+        String _complianceTool = decoder.decodeString(null);
+        DateTime _complianceDate = decoder.decodeDateTime(null);
+        ComplianceLevel _complianceLevel = ComplianceLevel.decode(decoder);
+        String[] _unsupportedUnitIds;
+        if (decoder.isArrayStreamed("UnsupportedUnitIds", String.class)) {
+            _unsupportedUnitIds = decoder.decodeArray("UnsupportedUnitIds", decoder::decodeString, String.class);
+        } else {
+            _unsupportedUnitIds = new String[decoder.readArrayLength()];
+            for (int i = 0; i < _unsupportedUnitIds.length; i++) {
+                _unsupportedUnitIds[i] = decoder.decodeString(null);
+            }
+        }
+
+        return new SupportedProfile(_organizationUri, _profileId, _complianceTool, _complianceDate, _complianceLevel, _unsupportedUnitIds);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(SupportedProfileBinaryCodec::encode, SupportedProfile.class, SupportedProfile.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(SupportedProfileBinaryCodec::decode, SupportedProfile.class, SupportedProfile.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(SupportedProfileBinaryCodec::encodedSize, SupportedProfile.class, SupportedProfile.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.CompositeTestType;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.TestStackExRequest;
+
+public class TestStackExRequestBinaryCodec {
+
+    public static void encode(TestStackExRequest testStackExRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = testStackExRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeUInt32(null, testStackExRequest.getTestId());
+        encoder.encodeInt32(null, testStackExRequest.getIteration());
+        CompositeTestType _input = testStackExRequest.getInput();
+        if (_input == null) {
+            CompositeTestTypeBinaryCodec.encode(new CompositeTestType(), encoder);
+        } else if (_input.getClass() == CompositeTestType.class) {
+            CompositeTestTypeBinaryCodec.encode(_input, encoder);
+        } else {
+            encoder.encodeSerializable(null, _input);
+        }
+    }
+
+    public static void encodedSize(TestStackExRequest testStackExRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+        RequestHeader _requestHeader = testStackExRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        CompositeTestType _input = testStackExRequest.getInput();
+        if (_input == null) {
+            CompositeTestTypeBinaryCodec.encodedSize(new CompositeTestType(), sizer);
+        } else if (_input.getClass() == CompositeTestType.class) {
+            CompositeTestTypeBinaryCodec.encodedSize(_input, sizer);
+        } else {
+            sizer.encodeSerializable(null, _input);
+        }
+    }
+
+    public static TestStackExRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _testId = decoder.decodeUInt32(null);
+        Integer _iteration = decoder.decodeInt32(null);
+        CompositeTestType _input = CompositeTestTypeBinaryCodec.decode(decoder);
+
+        return new TestStackExRequest(_requestHeader, _testId, _iteration, _input);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(TestStackExRequestBinaryCodec::encode, TestStackExRequest.class, TestStackExRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(TestStackExRequestBinaryCodec::decode, TestStackExRequest.class, TestStackExRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(TestStackExRequestBinaryCodec::encodedSize, TestStackExRequest.class, TestStackExRequest.BinaryEncodingId);
+    }
+
+}
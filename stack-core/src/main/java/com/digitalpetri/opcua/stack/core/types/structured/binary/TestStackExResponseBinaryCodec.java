@@ -0,0 +1,64 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.CompositeTestType;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.TestStackExResponse;
+
+public class TestStackExResponseBinaryCodec {
+
+    public static void encode(TestStackExResponse testStackExResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = testStackExResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        CompositeTestType _output = testStackExResponse.getOutput();
+        if (_output == null) {
+            CompositeTestTypeBinaryCodec.encode(new CompositeTestType(), encoder);
+        } else if (_output.getClass() == CompositeTestType.class) {
+            CompositeTestTypeBinaryCodec.encode(_output, encoder);
+        } else {
+            encoder.encodeSerializable(null, _output);
+        }
+    }
+
+    public static void encodedSize(TestStackExResponse testStackExResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = testStackExResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        CompositeTestType _output = testStackExResponse.getOutput();
+        if (_output == null) {
+            CompositeTestTypeBinaryCodec.encodedSize(new CompositeTestType(), sizer);
+        } else if (_output.getClass() == CompositeTestType.class) {
+            CompositeTestTypeBinaryCodec.encodedSize(_output, sizer);
+        } else {
+            sizer.encodeSerializable(null, _output);
+        }
+    }
+
+    public static TestStackExResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        CompositeTestType _output = CompositeTestTypeBinaryCodec.decode(decoder);
+
+        return new TestStackExResponse(_responseHeader, _output);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(TestStackExResponseBinaryCodec::encode, TestStackExResponse.class, TestStackExResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(TestStackExResponseBinaryCodec::decode, TestStackExResponse.class, TestStackExResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(TestStackExResponseBinaryCodec::encodedSize, TestStackExResponse.class, TestStackExResponse.BinaryEncodingId);
+    }
+
+}
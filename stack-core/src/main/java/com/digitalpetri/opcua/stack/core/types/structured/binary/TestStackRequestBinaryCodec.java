@@ -0,0 +1,56 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.TestStackRequest;
+
+public class TestStackRequestBinaryCodec {
+
+    public static void encode(TestStackRequest testStackRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = testStackRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        encoder.encodeUInt32(null, testStackRequest.getTestId());
+        encoder.encodeInt32(null, testStackRequest.getIteration());
+        encoder.encodeVariant(null, testStackRequest.getInput());
+    }
+
+    public static void encodedSize(TestStackRequest testStackRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(8);
+        RequestHeader _requestHeader = testStackRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        sizer.encodeVariant(null, testStackRequest.getInput());
+    }
+
+    public static TestStackRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _testId = decoder.decodeUInt32(null);
+        Integer _iteration = decoder.decodeInt32(null);
+        Variant _input = decoder.decodeVariant(null);
+
+        return new TestStackRequest(_requestHeader, _testId, _iteration, _input);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(TestStackRequestBinaryCodec::encode, TestStackRequest.class, TestStackRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(TestStackRequestBinaryCodec::decode, TestStackRequest.class, TestStackRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(TestStackRequestBinaryCodec::encodedSize, TestStackRequest.class, TestStackRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.TestStackResponse;
+
+public class TestStackResponseBinaryCodec {
+
+    public static void encode(TestStackResponse testStackResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = testStackResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        encoder.encodeVariant(null, testStackResponse.getOutput());
+    }
+
+    public static void encodedSize(TestStackResponse testStackResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = testStackResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        sizer.encodeVariant(null, testStackResponse.getOutput());
+    }
+
+    public static TestStackResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        Variant _output = decoder.decodeVariant(null);
+
+        return new TestStackResponse(_responseHeader, _output);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(TestStackResponseBinaryCodec::encode, TestStackResponse.class, TestStackResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(TestStackResponseBinaryCodec::decode, TestStackResponse.class, TestStackResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(TestStackResponseBinaryCodec::encodedSize, TestStackResponse.class, TestStackResponse.BinaryEncodingId);
+    }
+
+}
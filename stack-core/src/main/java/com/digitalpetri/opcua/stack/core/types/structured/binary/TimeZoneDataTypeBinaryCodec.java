@@ -0,0 +1,33 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.TimeZoneDataType;
+
+public class TimeZoneDataTypeBinaryCodec {
+
+    public static void encode(TimeZoneDataType timeZoneDataType, BinaryEncoder encoder) {
+        encoder.encodeInt16(null, timeZoneDataType.getOffset());
+        encoder.encodeBoolean(null, timeZoneDataType.getDaylightSavingInOffset());
+    }
+
+    public static void encodedSize(TimeZoneDataType timeZoneDataType, BinarySizeEncoder sizer) {
+        sizer.addSize(3);
+    }
+
+    public static TimeZoneDataType decode(BinaryDecoder decoder) {
+        Short _offset = decoder.decodeInt16(null);
+        Boolean _daylightSavingInOffset = decoder.decodeBoolean(null);
+
+        return new TimeZoneDataType(_offset, _daylightSavingInOffset);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(TimeZoneDataTypeBinaryCodec::encode, TimeZoneDataType.class, TimeZoneDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(TimeZoneDataTypeBinaryCodec::decode, TimeZoneDataType.class, TimeZoneDataType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(TimeZoneDataTypeBinaryCodec::encodedSize, TimeZoneDataType.class, TimeZoneDataType.BinaryEncodingId);
+    }
+
+}
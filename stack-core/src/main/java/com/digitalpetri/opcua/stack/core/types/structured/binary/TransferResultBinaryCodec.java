@@ -0,0 +1,50 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.TransferResult;
+
+public class TransferResultBinaryCodec {
+
+    public static void encode(TransferResult transferResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, transferResult.getStatusCode());
+        UInteger[] _availableSequenceNumbers = transferResult.getAvailableSequenceNumbers();
+        encoder.writeArrayLength(_availableSequenceNumbers);
+        if (_availableSequenceNumbers != null) {
+            for (UInteger e : _availableSequenceNumbers) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(TransferResult transferResult, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.addArraySize(transferResult.getAvailableSequenceNumbers(), 4);
+    }
+
+    public static TransferResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        UInteger[] _availableSequenceNumbers;
+        if (decoder.isArrayStreamed("AvailableSequenceNumbers", UInteger.class)) {
+            _availableSequenceNumbers = decoder.decodeArray("AvailableSequenceNumbers", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _availableSequenceNumbers = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _availableSequenceNumbers.length; i++) {
+                _availableSequenceNumbers[i] = decoder.decodeUInt32(null);
+            }
+        }
+
+        return new TransferResult(_statusCode, _availableSequenceNumbers);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(TransferResultBinaryCodec::encode, TransferResult.class, TransferResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(TransferResultBinaryCodec::decode, TransferResult.class, TransferResult.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(TransferResultBinaryCodec::encodedSize, TransferResult.class, TransferResult.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.TransferSubscriptionsRequest;
+
+public class TransferSubscriptionsRequestBinaryCodec {
+
+    public static void encode(TransferSubscriptionsRequest transferSubscriptionsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = transferSubscriptionsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        UInteger[] _subscriptionIds = transferSubscriptionsRequest.getSubscriptionIds();
+        encoder.writeArrayLength(_subscriptionIds);
+        if (_subscriptionIds != null) {
+            for (UInteger e : _subscriptionIds) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+        encoder.encodeBoolean(null, transferSubscriptionsRequest.getSendInitialValues());
+    }
+
+    public static void encodedSize(TransferSubscriptionsRequest transferSubscriptionsRequest, BinarySizeEncoder sizer) {
+        sizer.addSize(1);
+        RequestHeader _requestHeader = transferSubscriptionsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        sizer.addArraySize(transferSubscriptionsRequest.getSubscriptionIds(), 4);
+    }
+
+    public static TransferSubscriptionsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger[] _subscriptionIds;
+        if (decoder.isArrayStreamed("SubscriptionIds", UInteger.class)) {
+            _subscriptionIds = decoder.decodeArray("SubscriptionIds", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _subscriptionIds = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _subscriptionIds.length; i++) {
+                _subscriptionIds[i] = decoder.decodeUInt32(null);
+            }
+        }
+        Boolean _sendInitialValues = decoder.decodeBoolean(null);
+
+        return new TransferSubscriptionsRequest(_requestHeader, _subscriptionIds, _sendInitialValues);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(TransferSubscriptionsRequestBinaryCodec::encode, TransferSubscriptionsRequest.class, TransferSubscriptionsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(TransferSubscriptionsRequestBinaryCodec::decode, TransferSubscriptionsRequest.class, TransferSubscriptionsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(TransferSubscriptionsRequestBinaryCodec::encodedSize, TransferSubscriptionsRequest.class, TransferSubscriptionsRequest.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.TransferResult;
+import com.digitalpetri.opcua.stack.core.types.structured.TransferSubscriptionsResponse;
+
+public class TransferSubscriptionsResponseBinaryCodec {
+
+    public static void encode(TransferSubscriptionsResponse transferSubscriptionsResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = transferSubscriptionsResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        TransferResult[] _results = transferSubscriptionsResponse.getResults();
+        encoder.writeArrayLength(_results);
+        if (_results != null) {
+            for (TransferResult e : _results) {
+                if (e.getClass() == TransferResult.class) {
+                    TransferResultBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = transferSubscriptionsResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(TransferSubscriptionsResponse transferSubscriptionsResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = transferSubscriptionsResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        TransferResult[] _results = transferSubscriptionsResponse.getResults();
+        sizer.addSize(4);
+        if (_results != null) {
+            for (TransferResult e : _results) {
+                sizer.checkLimit();
+                if (e.getClass() == TransferResult.class) {
+                    TransferResultBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = transferSubscriptionsResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static TransferSubscriptionsResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        TransferResult[] _results;
+        if (decoder.isArrayStreamed("Results", TransferResult.class)) {
+            _results = decoder.decodeArray("Results", decoder::decodeSerializable, TransferResult.class);
+        } else {
+            _results = new TransferResult[decoder.readArrayLength()];
+            for (int i = 0; i < _results.length; i++) {
+                _results[i] = TransferResultBinaryCodec.decode(decoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new TransferSubscriptionsResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(TransferSubscriptionsResponseBinaryCodec::encode, TransferSubscriptionsResponse.class, TransferSubscriptionsResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(TransferSubscriptionsResponseBinaryCodec::decode, TransferSubscriptionsResponse.class, TransferSubscriptionsResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(TransferSubscriptionsResponseBinaryCodec::encodedSize, TransferSubscriptionsResponse.class, TransferSubscriptionsResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowsePath;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.TranslateBrowsePathsToNodeIdsRequest;
+
+public class TranslateBrowsePathsToNodeIdsRequestBinaryCodec {
+
+    public static void encode(TranslateBrowsePathsToNodeIdsRequest translateBrowsePathsToNodeIdsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = translateBrowsePathsToNodeIdsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        BrowsePath[] _browsePaths = translateBrowsePathsToNodeIdsRequest.getBrowsePaths();
+        encoder.writeArrayLength(_browsePaths);
+        if (_browsePaths != null) {
+            for (BrowsePath e : _browsePaths) {
+                if (e.getClass() == BrowsePath.class) {
+                    BrowsePathBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(TranslateBrowsePathsToNodeIdsRequest translateBrowsePathsToNodeIdsRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = translateBrowsePathsToNodeIdsRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        BrowsePath[] _browsePaths = translateBrowsePathsToNodeIdsRequest.getBrowsePaths();
+        sizer.addSize(4);
+        if (_browsePaths != null) {
+            for (BrowsePath e : _browsePaths) {
+                sizer.checkLimit();
+                if (e.getClass() == BrowsePath.class) {
+                    BrowsePathBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static TranslateBrowsePathsToNodeIdsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        BrowsePath[] _browsePaths;
+        if (decoder.isArrayStreamed("BrowsePaths", BrowsePath.class)) {
+            _browsePaths = decoder.decodeArray("BrowsePaths", decoder::decodeSerializable, BrowsePath.class);
+        } else {
+            _browsePaths = new BrowsePath[decoder.readArrayLength()];
+            for (int i = 0; i < _browsePaths.length; i++) {
+                _browsePaths[i] = BrowsePathBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new TranslateBrowsePathsToNodeIdsRequest(_requestHeader, _browsePaths);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(TranslateBrowsePathsToNodeIdsRequestBinaryCodec::encode, TranslateBrowsePathsToNodeIdsRequest.class, TranslateBrowsePathsToNodeIdsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(TranslateBrowsePathsToNodeIdsRequestBinaryCodec::decode, TranslateBrowsePathsToNodeIdsRequest.class, TranslateBrowsePathsToNodeIdsRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(TranslateBrowsePathsToNodeIdsRequestBinaryCodec::encodedSize, TranslateBrowsePathsToNodeIdsRequest.class, TranslateBrowsePathsToNodeIdsRequest.BinaryEncodingId);
+    }
+
+}
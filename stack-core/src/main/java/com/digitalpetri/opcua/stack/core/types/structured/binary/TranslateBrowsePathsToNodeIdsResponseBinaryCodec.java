@@ -0,0 +1,104 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowsePathResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.TranslateBrowsePathsToNodeIdsResponse;
+
+public class TranslateBrowsePathsToNodeIdsResponseBinaryCodec {
+
+    public static void encode(TranslateBrowsePathsToNodeIdsResponse translateBrowsePathsToNodeIdsResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = translateBrowsePathsToNodeIdsResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+        BrowsePathResult[] _results = translateBrowsePathsToNodeIdsResponse.getResults();
+        encoder.writeArrayLength(_results);
+        if (_results != null) {
+            for (BrowsePathResult e : _results) {
+                if (e.getClass() == BrowsePathResult.class) {
+                    BrowsePathResultBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = translateBrowsePathsToNodeIdsResponse.getDiagnosticInfos();
+        encoder.writeArrayLength(_diagnosticInfos);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(TranslateBrowsePathsToNodeIdsResponse translateBrowsePathsToNodeIdsResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = translateBrowsePathsToNodeIdsResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+        BrowsePathResult[] _results = translateBrowsePathsToNodeIdsResponse.getResults();
+        sizer.addSize(4);
+        if (_results != null) {
+            for (BrowsePathResult e : _results) {
+                sizer.checkLimit();
+                if (e.getClass() == BrowsePathResult.class) {
+                    BrowsePathResultBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = translateBrowsePathsToNodeIdsResponse.getDiagnosticInfos();
+        sizer.addSize(4);
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo e : _diagnosticInfos) {
+                sizer.checkLimit();
+                sizer.encodeDiagnosticInfo(null, e);
+            }
+        }
+    }
+
+    public static TranslateBrowsePathsToNodeIdsResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        BrowsePathResult[] _results;
+        if (decoder.isArrayStreamed("Results", BrowsePathResult.class)) {
+            _results = decoder.decodeArray("Results", decoder::decodeSerializable, BrowsePathResult.class);
+        } else {
+            _results = new BrowsePathResult[decoder.readArrayLength()];
+            for (int i = 0; i < _results.length; i++) {
+                _results[i] = BrowsePathResultBinaryCodec.decode(decoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos;
+        if (decoder.isArrayStreamed("DiagnosticInfos", DiagnosticInfo.class)) {
+            _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        } else {
+            _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+            for (int i = 0; i < _diagnosticInfos.length; i++) {
+                _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+            }
+        }
+
+        return new TranslateBrowsePathsToNodeIdsResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(TranslateBrowsePathsToNodeIdsResponseBinaryCodec::encode, TranslateBrowsePathsToNodeIdsResponse.class, TranslateBrowsePathsToNodeIdsResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(TranslateBrowsePathsToNodeIdsResponseBinaryCodec::decode, TranslateBrowsePathsToNodeIdsResponse.class, TranslateBrowsePathsToNodeIdsResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(TranslateBrowsePathsToNodeIdsResponseBinaryCodec::encodedSize, TranslateBrowsePathsToNodeIdsResponse.class, TranslateBrowsePathsToNodeIdsResponse.BinaryEncodingId);
+    }
+
+}
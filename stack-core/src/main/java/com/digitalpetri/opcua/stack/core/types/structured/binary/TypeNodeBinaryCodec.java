@@ -0,0 +1,86 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+import com.digitalpetri.opcua.stack.core.types.structured.TypeNode;
+
+public class TypeNodeBinaryCodec {
+
+    public static void encode(TypeNode typeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, typeNode.getNodeId());
+        NodeClass _nodeClass = typeNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, typeNode.getBrowseName());
+        encoder.encodeLocalizedText(null, typeNode.getDisplayName());
+        encoder.encodeLocalizedText(null, typeNode.getDescription());
+        encoder.encodeUInt32(null, typeNode.getWriteMask());
+        encoder.encodeUInt32(null, typeNode.getUserWriteMask());
+        ReferenceNode[] _references = typeNode.getReferences();
+        encoder.writeArrayLength(_references);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(TypeNode typeNode, BinarySizeEncoder sizer) {
+        sizer.addSize(12);
+        sizer.encodeNodeId(null, typeNode.getNodeId());
+        sizer.encodeQualifiedName(null, typeNode.getBrowseName());
+        sizer.encodeLocalizedText(null, typeNode.getDisplayName());
+        sizer.encodeLocalizedText(null, typeNode.getDescription());
+        ReferenceNode[] _references = typeNode.getReferences();
+        sizer.addSize(4);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                sizer.checkLimit();
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static TypeNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references;
+        if (decoder.isArrayStreamed("References", ReferenceNode.class)) {
+            _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        } else {
+            _references = new ReferenceNode[decoder.readArrayLength()];
+            for (int i = 0; i < _references.length; i++) {
+                _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new TypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(TypeNodeBinaryCodec::encode, TypeNode.class, TypeNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(TypeNodeBinaryCodec::decode, TypeNode.class, TypeNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(TypeNodeBinaryCodec::encodedSize, TypeNode.class, TypeNode.BinaryEncodingId);
+    }
+
+}
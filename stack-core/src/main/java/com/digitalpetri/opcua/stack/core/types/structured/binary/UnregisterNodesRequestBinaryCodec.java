@@ -0,0 +1,71 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.UnregisterNodesRequest;
+
+public class UnregisterNodesRequestBinaryCodec {
+
+    public static void encode(UnregisterNodesRequest unregisterNodesRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = unregisterNodesRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        NodeId[] _nodesToUnregister = unregisterNodesRequest.getNodesToUnregister();
+        encoder.writeArrayLength(_nodesToUnregister);
+        if (_nodesToUnregister != null) {
+            for (NodeId e : _nodesToUnregister) {
+                encoder.encodeNodeId(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(UnregisterNodesRequest unregisterNodesRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = unregisterNodesRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        NodeId[] _nodesToUnregister = unregisterNodesRequest.getNodesToUnregister();
+        sizer.addSize(4);
+        if (_nodesToUnregister != null) {
+            for (NodeId e : _nodesToUnregister) {
+                sizer.checkLimit();
+                sizer.encodeNodeId(null, e);
+            }
+        }
+    }
+
+    public static UnregisterNodesRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        NodeId[] _nodesToUnregister;
+        if (decoder.isArrayStreamed("NodesToUnregister", NodeId.class)) {
+            _nodesToUnregister = decoder.decodeArray("NodesToUnregister", decoder::decodeNodeId, NodeId.class);
+        } else {
+            _nodesToUnregister = new NodeId[decoder.readArrayLength()];
+            for (int i = 0; i < _nodesToUnregister.length; i++) {
+                _nodesToUnregister[i] = decoder.decodeNodeId(null);
+            }
+        }
+
+        return new UnregisterNodesRequest(_requestHeader, _nodesToUnregister);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(UnregisterNodesRequestBinaryCodec::encode, UnregisterNodesRequest.class, UnregisterNodesRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(UnregisterNodesRequestBinaryCodec::decode, UnregisterNodesRequest.class, UnregisterNodesRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(UnregisterNodesRequestBinaryCodec::encodedSize, UnregisterNodesRequest.class, UnregisterNodesRequest.BinaryEncodingId);
+    }
+
+}
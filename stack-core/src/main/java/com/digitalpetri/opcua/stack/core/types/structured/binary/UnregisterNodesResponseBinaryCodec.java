@@ -0,0 +1,46 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.UnregisterNodesResponse;
+
+public class UnregisterNodesResponseBinaryCodec {
+
+    public static void encode(UnregisterNodesResponse unregisterNodesResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = unregisterNodesResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encode(new ResponseHeader(), encoder);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encode(_responseHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static void encodedSize(UnregisterNodesResponse unregisterNodesResponse, BinarySizeEncoder sizer) {
+        ResponseHeader _responseHeader = unregisterNodesResponse.getResponseHeader();
+        if (_responseHeader == null) {
+            ResponseHeaderBinaryCodec.encodedSize(new ResponseHeader(), sizer);
+        } else if (_responseHeader.getClass() == ResponseHeader.class) {
+            ResponseHeaderBinaryCodec.encodedSize(_responseHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _responseHeader);
+        }
+    }
+
+    public static UnregisterNodesResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+
+        return new UnregisterNodesResponse(_responseHeader);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(UnregisterNodesResponseBinaryCodec::encode, UnregisterNodesResponse.class, UnregisterNodesResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(UnregisterNodesResponseBinaryCodec::decode, UnregisterNodesResponse.class, UnregisterNodesResponse.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(UnregisterNodesResponseBinaryCodec::encodedSize, UnregisterNodesResponse.class, UnregisterNodesResponse.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.enumerated.PerformUpdateType;
+import com.digitalpetri.opcua.stack.core.types.structured.EventFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryEventFieldList;
+import com.digitalpetri.opcua.stack.core.types.structured.UpdateEventDetails;
+
+public class UpdateEventDetailsBinaryCodec {
+
+    public static void encode(UpdateEventDetails updateEventDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, updateEventDetails.getNodeId());
+        PerformUpdateType _performInsertReplace = updateEventDetails.getPerformInsertReplace();
+        encoder.writeInt32(null, _performInsertReplace != null ? _performInsertReplace.getValue() : -1);
+        EventFilter _filter = updateEventDetails.getFilter();
+        if (_filter == null) {
+            EventFilterBinaryCodec.encode(new EventFilter(), encoder);
+        } else if (_filter.getClass() == EventFilter.class) {
+            EventFilterBinaryCodec.encode(_filter, encoder);
+        } else {
+            encoder.encodeSerializable(null, _filter);
+        }
+        HistoryEventFieldList[] _eventData = updateEventDetails.getEventData();
+        encoder.writeArrayLength(_eventData);
+        if (_eventData != null) {
+            for (HistoryEventFieldList e : _eventData) {
+                if (e.getClass() == HistoryEventFieldList.class) {
+                    HistoryEventFieldListBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(UpdateEventDetails updateEventDetails, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeNodeId(null, updateEventDetails.getNodeId());
+        EventFilter _filter = updateEventDetails.getFilter();
+        if (_filter == null) {
+            EventFilterBinaryCodec.encodedSize(new EventFilter(), sizer);
+        } else if (_filter.getClass() == EventFilter.class) {
+            EventFilterBinaryCodec.encodedSize(_filter, sizer);
+        } else {
+            sizer.encodeSerializable(null, _filter);
+        }
+        HistoryEventFieldList[] _eventData = updateEventDetails.getEventData();
+        sizer.addSize(4);
+        if (_eventData != null) {
+            for (HistoryEventFieldList e : _eventData) {
+                sizer.checkLimit();
+                if (e.getClass() == HistoryEventFieldList.class) {
+                    HistoryEventFieldListBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static UpdateEventDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        PerformUpdateType _performInsertReplace = PerformUpdateType.decode(decoder);
+        EventFilter _filter = EventFilterBinaryCodec.decode(decoder);
+        HistoryEventFieldList[] _eventData;
+        if (decoder.isArrayStreamed("EventData", HistoryEventFieldList.class)) {
+            _eventData = decoder.decodeArray("EventData", decoder::decodeSerializable, HistoryEventFieldList.class);
+        } else {
+            _eventData = new HistoryEventFieldList[decoder.readArrayLength()];
+            for (int i = 0; i < _eventData.length; i++) {
+                _eventData[i] = HistoryEventFieldListBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new UpdateEventDetails(_nodeId, _performInsertReplace, _filter, _eventData);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(UpdateEventDetailsBinaryCodec::encode, UpdateEventDetails.class, UpdateEventDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(UpdateEventDetailsBinaryCodec::decode, UpdateEventDetails.class, UpdateEventDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(UpdateEventDetailsBinaryCodec::encodedSize, UpdateEventDetails.class, UpdateEventDetails.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.enumerated.PerformUpdateType;
+import com.digitalpetri.opcua.stack.core.types.structured.UpdateStructureDataDetails;
+
+public class UpdateStructureDataDetailsBinaryCodec {
+
+    public static void encode(UpdateStructureDataDetails updateStructureDataDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, updateStructureDataDetails.getNodeId());
+        PerformUpdateType _performInsertReplace = updateStructureDataDetails.getPerformInsertReplace();
+        encoder.writeInt32(null, _performInsertReplace != null ? _performInsertReplace.getValue() : -1);
+        DataValue[] _updateValues = updateStructureDataDetails.getUpdateValues();
+        encoder.writeArrayLength(_updateValues);
+        if (_updateValues != null) {
+            for (DataValue e : _updateValues) {
+                encoder.encodeDataValue(null, e);
+            }
+        }
+    }
+
+    public static void encodedSize(UpdateStructureDataDetails updateStructureDataDetails, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeNodeId(null, updateStructureDataDetails.getNodeId());
+        DataValue[] _updateValues = updateStructureDataDetails.getUpdateValues();
+        sizer.addSize(4);
+        if (_updateValues != null) {
+            for (DataValue e : _updateValues) {
+                sizer.checkLimit();
+                sizer.encodeDataValue(null, e);
+            }
+        }
+    }
+
+    public static UpdateStructureDataDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        PerformUpdateType _performInsertReplace = PerformUpdateType.decode(decoder);
+        DataValue[] _updateValues;
+        if (decoder.isArrayStreamed("UpdateValues", DataValue.class)) {
+            _updateValues = decoder.decodeArray("UpdateValues", decoder::decodeDataValue, DataValue.class);
+        } else {
+            _updateValues = new DataValue[decoder.readArrayLength()];
+            for (int i = 0; i < _updateValues.length; i++) {
+                _updateValues[i] = decoder.decodeDataValue(null);
+            }
+        }
+
+        return new UpdateStructureDataDetails(_nodeId, _performInsertReplace, _updateValues);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(UpdateStructureDataDetailsBinaryCodec::encode, UpdateStructureDataDetails.class, UpdateStructureDataDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(UpdateStructureDataDetailsBinaryCodec::decode, UpdateStructureDataDetails.class, UpdateStructureDataDetails.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(UpdateStructureDataDetailsBinaryCodec::encodedSize, UpdateStructureDataDetails.class, UpdateStructureDataDetails.BinaryEncodingId);
+    }
+
+}
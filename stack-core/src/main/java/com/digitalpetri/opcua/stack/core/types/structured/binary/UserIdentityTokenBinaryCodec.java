@@ -0,0 +1,31 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.UserIdentityToken;
+
+public class UserIdentityTokenBinaryCodec {
+
+    public static void encode(UserIdentityToken userIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString(null, userIdentityToken.getPolicyId());
+    }
+
+    public static void encodedSize(UserIdentityToken userIdentityToken, BinarySizeEncoder sizer) {
+        sizer.encodeString(null, userIdentityToken.getPolicyId());
+    }
+
+    public static UserIdentityToken decode(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString(null);
+
+        return new UserIdentityToken(_policyId);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(UserIdentityTokenBinaryCodec::encode, UserIdentityToken.class, UserIdentityToken.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(UserIdentityTokenBinaryCodec::decode, UserIdentityToken.class, UserIdentityToken.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(UserIdentityTokenBinaryCodec::encodedSize, UserIdentityToken.class, UserIdentityToken.BinaryEncodingId);
+    }
+
+}
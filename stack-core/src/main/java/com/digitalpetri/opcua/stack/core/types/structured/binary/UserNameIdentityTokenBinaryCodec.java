@@ -0,0 +1,41 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.structured.UserNameIdentityToken;
+
+public class UserNameIdentityTokenBinaryCodec {
+
+    public static void encode(UserNameIdentityToken userNameIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString(null, userNameIdentityToken.getPolicyId());
+        encoder.encodeString(null, userNameIdentityToken.getUserName());
+        encoder.encodeByteString(null, userNameIdentityToken.getPassword());
+        encoder.encodeString(null, userNameIdentityToken.getEncryptionAlgorithm());
+    }
+
+    public static void encodedSize(UserNameIdentityToken userNameIdentityToken, BinarySizeEncoder sizer) {
+        sizer.encodeString(null, userNameIdentityToken.getPolicyId());
+        sizer.encodeString(null, userNameIdentityToken.getUserName());
+        sizer.encodeByteString(null, userNameIdentityToken.getPassword());
+        sizer.encodeString(null, userNameIdentityToken.getEncryptionAlgorithm());
+    }
+
+    public static UserNameIdentityToken decode(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString(null);
+        String _userName = decoder.decodeString(null);
+        ByteString _password = decoder.decodeByteString(null);
+        String _encryptionAlgorithm = decoder.decodeString(null);
+
+        return new UserNameIdentityToken(_policyId, _userName, _password, _encryptionAlgorithm);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(UserNameIdentityTokenBinaryCodec::encode, UserNameIdentityToken.class, UserNameIdentityToken.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(UserNameIdentityTokenBinaryCodec::decode, UserNameIdentityToken.class, UserNameIdentityToken.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(UserNameIdentityTokenBinaryCodec::encodedSize, UserNameIdentityToken.class, UserNameIdentityToken.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.enumerated.UserTokenType;
+import com.digitalpetri.opcua.stack.core.types.structured.UserTokenPolicy;
+
+public class UserTokenPolicyBinaryCodec {
+
+    public static void encode(UserTokenPolicy userTokenPolicy, BinaryEncoder encoder) {
+        encoder.encodeString(null, userTokenPolicy.getPolicyId());
+        UserTokenType _tokenType = userTokenPolicy.getTokenType();
+        encoder.writeInt32(null, _tokenType != null ? _tokenType.getValue() : -1);
+        encoder.encodeString(null, userTokenPolicy.getIssuedTokenType());
+        encoder.encodeString(null, userTokenPolicy.getIssuerEndpointUrl());
+        encoder.encodeString(null, userTokenPolicy.getSecurityPolicyUri());
+    }
+
+    public static void encodedSize(UserTokenPolicy userTokenPolicy, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeString(null, userTokenPolicy.getPolicyId());
+        sizer.encodeString(null, userTokenPolicy.getIssuedTokenType());
+        sizer.encodeString(null, userTokenPolicy.getIssuerEndpointUrl());
+        sizer.encodeString(null, userTokenPolicy.getSecurityPolicyUri());
+    }
+
+    public static UserTokenPolicy decode(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString(null);
+        UserTokenType _tokenType = UserTokenType.decode(decoder);
+        String _issuedTokenType = decoder.decodeString(null);
+        String _issuerEndpointUrl = decoder.decodeString(null);
+        String _securityPolicyUri = decoder.decodeString(null);
+
+        return new UserTokenPolicy(_policyId, _tokenType, _issuedTokenType, _issuerEndpointUrl, _securityPolicyUri);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(UserTokenPolicyBinaryCodec::encode, UserTokenPolicy.class, UserTokenPolicy.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(UserTokenPolicyBinaryCodec::decode, UserTokenPolicy.class, UserTokenPolicy.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(UserTokenPolicyBinaryCodec::encodedSize, UserTokenPolicy.class, UserTokenPolicy.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.VariableAttributes;
+
+public class VariableAttributesBinaryCodec {
+
+    public static void encode(VariableAttributes variableAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, variableAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, variableAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, variableAttributes.getDescription());
+        encoder.encodeUInt32(null, variableAttributes.getWriteMask());
+        encoder.encodeUInt32(null, variableAttributes.getUserWriteMask());
+        encoder.encodeVariant(null, variableAttributes.getValue());
+        encoder.encodeNodeId(null, variableAttributes.getDataType());
+        encoder.encodeInt32(null, variableAttributes.getValueRank());
+        UInteger[] _arrayDimensions = variableAttributes.getArrayDimensions();
+        encoder.writeArrayLength(_arrayDimensions);
+        if (_arrayDimensions != null) {
+            for (UInteger e : _arrayDimensions) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+        encoder.encodeByte(null, variableAttributes.getAccessLevel());
+        encoder.encodeByte(null, variableAttributes.getUserAccessLevel());
+        encoder.encodeDouble(null, variableAttributes.getMinimumSamplingInterval());
+        encoder.encodeBoolean(null, variableAttributes.getHistorizing());
+    }
+
+    public static void encodedSize(VariableAttributes variableAttributes, BinarySizeEncoder sizer) {
+        sizer.addSize(27);
+        sizer.encodeLocalizedText(null, variableAttributes.getDisplayName());
+        sizer.encodeLocalizedText(null, variableAttributes.getDescription());
+        sizer.encodeVariant(null, variableAttributes.getValue());
+        sizer.encodeNodeId(null, variableAttributes.getDataType());
+        sizer.addArraySize(variableAttributes.getArrayDimensions(), 4);
+    }
+
+    public static VariableAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Variant _value = decoder.decodeVariant(null);
+        NodeId _dataType = decoder.decodeNodeId(null);
+        Integer _valueRank = decoder.decodeInt32(null);
+        UInteger[] _arrayDimensions;
+        if (decoder.isArrayStreamed("ArrayDimensions", UInteger.class)) {
+            _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _arrayDimensions = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _arrayDimensions.length; i++) {
+                _arrayDimensions[i] = decoder.decodeUInt32(null);
+            }
+        }
+        UByte _accessLevel = decoder.decodeByte(null);
+        UByte _userAccessLevel = decoder.decodeByte(null);
+        Double _minimumSamplingInterval = decoder.decodeDouble(null);
+        Boolean _historizing = decoder.decodeBoolean(null);
+
+        return new VariableAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _value, _dataType, _valueRank, _arrayDimensions, _accessLevel, _userAccessLevel, _minimumSamplingInterval, _historizing);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(VariableAttributesBinaryCodec::encode, VariableAttributes.class, VariableAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(VariableAttributesBinaryCodec::decode, VariableAttributes.class, VariableAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(VariableAttributesBinaryCodec::encodedSize, VariableAttributes.class, VariableAttributes.BinaryEncodingId);
+    }
+
+}
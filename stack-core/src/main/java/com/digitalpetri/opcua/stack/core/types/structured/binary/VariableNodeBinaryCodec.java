@@ -0,0 +1,121 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+import com.digitalpetri.opcua.stack.core.types.structured.VariableNode;
+
+public class VariableNodeBinaryCodec {
+
+    public static void encode(VariableNode variableNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, variableNode.getNodeId());
+        NodeClass _nodeClass = variableNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, variableNode.getBrowseName());
+        encoder.encodeLocalizedText(null, variableNode.getDisplayName());
+        encoder.encodeLocalizedText(null, variableNode.getDescription());
+        encoder.encodeUInt32(null, variableNode.getWriteMask());
+        encoder.encodeUInt32(null, variableNode.getUserWriteMask());
+        ReferenceNode[] _references = variableNode.getReferences();
+        encoder.writeArrayLength(_references);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        encoder.encodeVariant(null, variableNode.getValue());
+        encoder.encodeNodeId(null, variableNode.getDataType());
+        encoder.encodeInt32(null, variableNode.getValueRank());
+        UInteger[] _arrayDimensions = variableNode.getArrayDimensions();
+        encoder.writeArrayLength(_arrayDimensions);
+        if (_arrayDimensions != null) {
+            for (UInteger e : _arrayDimensions) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+        encoder.encodeByte(null, variableNode.getAccessLevel());
+        encoder.encodeByte(null, variableNode.getUserAccessLevel());
+        encoder.encodeDouble(null, variableNode.getMinimumSamplingInterval());
+        encoder.encodeBoolean(null, variableNode.getHistorizing());
+    }
+
+    public static void encodedSize(VariableNode variableNode, BinarySizeEncoder sizer) {
+        sizer.addSize(27);
+        sizer.encodeNodeId(null, variableNode.getNodeId());
+        sizer.encodeQualifiedName(null, variableNode.getBrowseName());
+        sizer.encodeLocalizedText(null, variableNode.getDisplayName());
+        sizer.encodeLocalizedText(null, variableNode.getDescription());
+        ReferenceNode[] _references = variableNode.getReferences();
+        sizer.addSize(4);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                sizer.checkLimit();
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        sizer.encodeVariant(null, variableNode.getValue());
+        sizer.encodeNodeId(null, variableNode.getDataType());
+        sizer.addArraySize(variableNode.getArrayDimensions(), 4);
+    }
+
+    public static VariableNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references;
+        if (decoder.isArrayStreamed("References", ReferenceNode.class)) {
+            _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        } else {
+            _references = new ReferenceNode[decoder.readArrayLength()];
+            for (int i = 0; i < _references.length; i++) {
+                _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+            }
+        }
+        Variant _value = decoder.decodeVariant(null);
+        NodeId _dataType = decoder.decodeNodeId(null);
+        Integer _valueRank = decoder.decodeInt32(null);
+        UInteger[] _arrayDimensions;
+        if (decoder.isArrayStreamed("ArrayDimensions", UInteger.class)) {
+            _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _arrayDimensions = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _arrayDimensions.length; i++) {
+                _arrayDimensions[i] = decoder.decodeUInt32(null);
+            }
+        }
+        UByte _accessLevel = decoder.decodeByte(null);
+        UByte _userAccessLevel = decoder.decodeByte(null);
+        Double _minimumSamplingInterval = decoder.decodeDouble(null);
+        Boolean _historizing = decoder.decodeBoolean(null);
+
+        return new VariableNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _value, _dataType, _valueRank, _arrayDimensions, _accessLevel, _userAccessLevel, _minimumSamplingInterval, _historizing);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(VariableNodeBinaryCodec::encode, VariableNode.class, VariableNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(VariableNodeBinaryCodec::decode, VariableNode.class, VariableNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(VariableNodeBinaryCodec::encodedSize, VariableNode.class, VariableNode.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.VariableTypeAttributes;
+
+public class VariableTypeAttributesBinaryCodec {
+
+    public static void encode(VariableTypeAttributes variableTypeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, variableTypeAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, variableTypeAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, variableTypeAttributes.getDescription());
+        encoder.encodeUInt32(null, variableTypeAttributes.getWriteMask());
+        encoder.encodeUInt32(null, variableTypeAttributes.getUserWriteMask());
+        encoder.encodeVariant(null, variableTypeAttributes.getValue());
+        encoder.encodeNodeId(null, variableTypeAttributes.getDataType());
+        encoder.encodeInt32(null, variableTypeAttributes.getValueRank());
+        UInteger[] _arrayDimensions = variableTypeAttributes.getArrayDimensions();
+        encoder.writeArrayLength(_arrayDimensions);
+        if (_arrayDimensions != null) {
+            for (UInteger e : _arrayDimensions) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+        encoder.encodeBoolean(null, variableTypeAttributes.getIsAbstract());
+    }
+
+    public static void encodedSize(VariableTypeAttributes variableTypeAttributes, BinarySizeEncoder sizer) {
+        sizer.addSize(17);
+        sizer.encodeLocalizedText(null, variableTypeAttributes.getDisplayName());
+        sizer.encodeLocalizedText(null, variableTypeAttributes.getDescription());
+        sizer.encodeVariant(null, variableTypeAttributes.getValue());
+        sizer.encodeNodeId(null, variableTypeAttributes.getDataType());
+        sizer.addArraySize(variableTypeAttributes.getArrayDimensions(), 4);
+    }
+
+    public static VariableTypeAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Variant _value = decoder.decodeVariant(null);
+        NodeId _dataType = decoder.decodeNodeId(null);
+        Integer _valueRank = decoder.decodeInt32(null);
+        UInteger[] _arrayDimensions;
+        if (decoder.isArrayStreamed("ArrayDimensions", UInteger.class)) {
+            _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _arrayDimensions = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _arrayDimensions.length; i++) {
+                _arrayDimensions[i] = decoder.decodeUInt32(null);
+            }
+        }
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+
+        return new VariableTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _value, _dataType, _valueRank, _arrayDimensions, _isAbstract);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(VariableTypeAttributesBinaryCodec::encode, VariableTypeAttributes.class, VariableTypeAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(VariableTypeAttributesBinaryCodec::decode, VariableTypeAttributes.class, VariableTypeAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(VariableTypeAttributesBinaryCodec::encodedSize, VariableTypeAttributes.class, VariableTypeAttributes.BinaryEncodingId);
+    }
+
+}
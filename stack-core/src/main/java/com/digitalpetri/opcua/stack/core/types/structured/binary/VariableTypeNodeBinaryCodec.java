@@ -0,0 +1,114 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+import com.digitalpetri.opcua.stack.core.types.structured.VariableTypeNode;
+
+public class VariableTypeNodeBinaryCodec {
+
+    public static void encode(VariableTypeNode variableTypeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, variableTypeNode.getNodeId());
+        NodeClass _nodeClass = variableTypeNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, variableTypeNode.getBrowseName());
+        encoder.encodeLocalizedText(null, variableTypeNode.getDisplayName());
+        encoder.encodeLocalizedText(null, variableTypeNode.getDescription());
+        encoder.encodeUInt32(null, variableTypeNode.getWriteMask());
+        encoder.encodeUInt32(null, variableTypeNode.getUserWriteMask());
+        ReferenceNode[] _references = variableTypeNode.getReferences();
+        encoder.writeArrayLength(_references);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        encoder.encodeVariant(null, variableTypeNode.getValue());
+        encoder.encodeNodeId(null, variableTypeNode.getDataType());
+        encoder.encodeInt32(null, variableTypeNode.getValueRank());
+        UInteger[] _arrayDimensions = variableTypeNode.getArrayDimensions();
+        encoder.writeArrayLength(_arrayDimensions);
+        if (_arrayDimensions != null) {
+            for (UInteger e : _arrayDimensions) {
+                encoder.encodeUInt32(null, e);
+            }
+        }
+        encoder.encodeBoolean(null, variableTypeNode.getIsAbstract());
+    }
+
+    public static void encodedSize(VariableTypeNode variableTypeNode, BinarySizeEncoder sizer) {
+        sizer.addSize(17);
+        sizer.encodeNodeId(null, variableTypeNode.getNodeId());
+        sizer.encodeQualifiedName(null, variableTypeNode.getBrowseName());
+        sizer.encodeLocalizedText(null, variableTypeNode.getDisplayName());
+        sizer.encodeLocalizedText(null, variableTypeNode.getDescription());
+        ReferenceNode[] _references = variableTypeNode.getReferences();
+        sizer.addSize(4);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                sizer.checkLimit();
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+        sizer.encodeVariant(null, variableTypeNode.getValue());
+        sizer.encodeNodeId(null, variableTypeNode.getDataType());
+        sizer.addArraySize(variableTypeNode.getArrayDimensions(), 4);
+    }
+
+    public static VariableTypeNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references;
+        if (decoder.isArrayStreamed("References", ReferenceNode.class)) {
+            _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        } else {
+            _references = new ReferenceNode[decoder.readArrayLength()];
+            for (int i = 0; i < _references.length; i++) {
+                _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+            }
+        }
+        Variant _value = decoder.decodeVariant(null);
+        NodeId _dataType = decoder.decodeNodeId(null);
+        Integer _valueRank = decoder.decodeInt32(null);
+        UInteger[] _arrayDimensions;
+        if (decoder.isArrayStreamed("ArrayDimensions", UInteger.class)) {
+            _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger.class);
+        } else {
+            _arrayDimensions = new UInteger[decoder.readArrayLength()];
+            for (int i = 0; i < _arrayDimensions.length; i++) {
+                _arrayDimensions[i] = decoder.decodeUInt32(null);
+            }
+        }
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+
+        return new VariableTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _value, _dataType, _valueRank, _arrayDimensions, _isAbstract);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(VariableTypeNodeBinaryCodec::encode, VariableTypeNode.class, VariableTypeNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(VariableTypeNodeBinaryCodec::decode, VariableTypeNode.class, VariableTypeNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(VariableTypeNodeBinaryCodec::encodedSize, VariableTypeNode.class, VariableTypeNode.BinaryEncodingId);
+    }
+
+}
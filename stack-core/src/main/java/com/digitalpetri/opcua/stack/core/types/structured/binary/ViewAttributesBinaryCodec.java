@@ -0,0 +1,48 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ViewAttributes;
+
+public class ViewAttributesBinaryCodec {
+
+    public static void encode(ViewAttributes viewAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, viewAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, viewAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, viewAttributes.getDescription());
+        encoder.encodeUInt32(null, viewAttributes.getWriteMask());
+        encoder.encodeUInt32(null, viewAttributes.getUserWriteMask());
+        encoder.encodeBoolean(null, viewAttributes.getContainsNoLoops());
+        encoder.encodeByte(null, viewAttributes.getEventNotifier());
+    }
+
+    public static void encodedSize(ViewAttributes viewAttributes, BinarySizeEncoder sizer) {
+        sizer.addSize(14);
+        sizer.encodeLocalizedText(null, viewAttributes.getDisplayName());
+        sizer.encodeLocalizedText(null, viewAttributes.getDescription());
+    }
+
+    public static ViewAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Boolean _containsNoLoops = decoder.decodeBoolean(null);
+        UByte _eventNotifier = decoder.decodeByte(null);
+
+        return new ViewAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _containsNoLoops, _eventNotifier);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ViewAttributesBinaryCodec::encode, ViewAttributes.class, ViewAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ViewAttributesBinaryCodec::decode, ViewAttributes.class, ViewAttributes.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ViewAttributesBinaryCodec::encodedSize, ViewAttributes.class, ViewAttributes.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ViewDescription;
+
+public class ViewDescriptionBinaryCodec {
+
+    public static void encode(ViewDescription viewDescription, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, viewDescription.getViewId());
+        encoder.encodeDateTime(null, viewDescription.getTimestamp());
+        encoder.encodeUInt32(null, viewDescription.getViewVersion());
+    }
+
+    public static void encodedSize(ViewDescription viewDescription, BinarySizeEncoder sizer) {
+        sizer.addSize(12);
+        sizer.encodeNodeId(null, viewDescription.getViewId());
+    }
+
+    public static ViewDescription decode(BinaryDecoder decoder) {
+        NodeId _viewId = decoder.decodeNodeId(null);
+        DateTime _timestamp = decoder.decodeDateTime(null);
+        UInteger _viewVersion = decoder.decodeUInt32(null);
+
+        return new ViewDescription(_viewId, _timestamp, _viewVersion);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ViewDescriptionBinaryCodec::encode, ViewDescription.class, ViewDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ViewDescriptionBinaryCodec::decode, ViewDescription.class, ViewDescription.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ViewDescriptionBinaryCodec::encodedSize, ViewDescription.class, ViewDescription.BinaryEncodingId);
+    }
+
+}
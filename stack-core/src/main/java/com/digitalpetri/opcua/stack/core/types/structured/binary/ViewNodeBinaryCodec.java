@@ -0,0 +1,91 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+import com.digitalpetri.opcua.stack.core.types.structured.ViewNode;
+
+public class ViewNodeBinaryCodec {
+
+    public static void encode(ViewNode viewNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, viewNode.getNodeId());
+        NodeClass _nodeClass = viewNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, viewNode.getBrowseName());
+        encoder.encodeLocalizedText(null, viewNode.getDisplayName());
+        encoder.encodeLocalizedText(null, viewNode.getDescription());
+        encoder.encodeUInt32(null, viewNode.getWriteMask());
+        encoder.encodeUInt32(null, viewNode.getUserWriteMask());
+        ReferenceNode[] _references = viewNode.getReferences();
+        encoder.writeArrayLength(_references);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+        encoder.encodeBoolean(null, viewNode.getContainsNoLoops());
+        encoder.encodeByte(null, viewNode.getEventNotifier());
+    }
+
+    public static void encodedSize(ViewNode viewNode, BinarySizeEncoder sizer) {
+        sizer.addSize(14);
+        sizer.encodeNodeId(null, viewNode.getNodeId());
+        sizer.encodeQualifiedName(null, viewNode.getBrowseName());
+        sizer.encodeLocalizedText(null, viewNode.getDisplayName());
+        sizer.encodeLocalizedText(null, viewNode.getDescription());
+        ReferenceNode[] _references = viewNode.getReferences();
+        sizer.addSize(4);
+        if (_references != null) {
+            for (ReferenceNode e : _references) {
+                sizer.checkLimit();
+                if (e.getClass() == ReferenceNode.class) {
+                    ReferenceNodeBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static ViewNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references;
+        if (decoder.isArrayStreamed("References", ReferenceNode.class)) {
+            _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        } else {
+            _references = new ReferenceNode[decoder.readArrayLength()];
+            for (int i = 0; i < _references.length; i++) {
+                _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+            }
+        }
+        Boolean _containsNoLoops = decoder.decodeBoolean(null);
+        UByte _eventNotifier = decoder.decodeByte(null);
+
+        return new ViewNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _containsNoLoops, _eventNotifier);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(ViewNodeBinaryCodec::encode, ViewNode.class, ViewNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(ViewNodeBinaryCodec::decode, ViewNode.class, ViewNode.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(ViewNodeBinaryCodec::encodedSize, ViewNode.class, ViewNode.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.WriteRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.WriteValue;
+
+public class WriteRequestBinaryCodec {
+
+    public static void encode(WriteRequest writeRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = writeRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encode(new RequestHeader(), encoder);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encode(_requestHeader, encoder);
+        } else {
+            encoder.encodeSerializable(null, _requestHeader);
+        }
+        WriteValue[] _nodesToWrite = writeRequest.getNodesToWrite();
+        encoder.writeArrayLength(_nodesToWrite);
+        if (_nodesToWrite != null) {
+            for (WriteValue e : _nodesToWrite) {
+                if (e.getClass() == WriteValue.class) {
+                    WriteValueBinaryCodec.encode(e, encoder);
+                } else {
+                    encoder.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static void encodedSize(WriteRequest writeRequest, BinarySizeEncoder sizer) {
+        RequestHeader _requestHeader = writeRequest.getRequestHeader();
+        if (_requestHeader == null) {
+            RequestHeaderBinaryCodec.encodedSize(new RequestHeader(), sizer);
+        } else if (_requestHeader.getClass() == RequestHeader.class) {
+            RequestHeaderBinaryCodec.encodedSize(_requestHeader, sizer);
+        } else {
+            sizer.encodeSerializable(null, _requestHeader);
+        }
+        WriteValue[] _nodesToWrite = writeRequest.getNodesToWrite();
+        sizer.addSize(4);
+        if (_nodesToWrite != null) {
+            for (WriteValue e : _nodesToWrite) {
+                sizer.checkLimit();
+                if (e.getClass() == WriteValue.class) {
+                    WriteValueBinaryCodec.encodedSize(e, sizer);
+                } else {
+                    sizer.encodeSerializable(null, e);
+                }
+            }
+        }
+    }
+
+    public static WriteRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        WriteValue[] _nodesToWrite;
+        if (decoder.isArrayStreamed("NodesToWrite", WriteValue.class)) {
+            _nodesToWrite = decoder.decodeArray("NodesToWrite", decoder::decodeSerializable, WriteValue.class);
+        } else {
+            _nodesToWrite = new WriteValue[decoder.readArrayLength()];
+            for (int i = 0; i < _nodesToWrite.length; i++) {
+                _nodesToWrite[i] = WriteValueBinaryCodec.decode(decoder);
+            }
+        }
+
+        return new WriteRequest(_requestHeader, _nodesToWrite);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(WriteRequestBinaryCodec::encode, WriteRequest.class, WriteRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(WriteRequestBinaryCodec::decode, WriteRequest.class, WriteRequest.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(WriteRequestBinaryCodec::encodedSize, WriteRequest.class, WriteRequest.BinaryEncodingId);
+    }
+
+}
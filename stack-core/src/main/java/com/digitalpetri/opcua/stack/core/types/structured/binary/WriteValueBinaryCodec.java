@@ -0,0 +1,43 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.WriteValue;
+
+public class WriteValueBinaryCodec {
+
+    public static void encode(WriteValue writeValue, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, writeValue.getNodeId());
+        encoder.encodeUInt32(null, writeValue.getAttributeId());
+        encoder.encodeString(null, writeValue.getIndexRange());
+        encoder.encodeDataValue(null, writeValue.getValue());
+    }
+
+    public static void encodedSize(WriteValue writeValue, BinarySizeEncoder sizer) {
+        sizer.addSize(4);
+        sizer.encodeNodeId(null, writeValue.getNodeId());
+        sizer.encodeString(null, writeValue.getIndexRange());
+        sizer.encodeDataValue(null, writeValue.getValue());
+    }
+
+    public static WriteValue decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        UInteger _attributeId = decoder.decodeUInt32(null);
+        String _indexRange = decoder.decodeString(null);
+        DataValue _value = decoder.decodeDataValue(null);
+
+        return new WriteValue(_nodeId, _attributeId, _indexRange, _value);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(WriteValueBinaryCodec::encode, WriteValue.class, WriteValue.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(WriteValueBinaryCodec::decode, WriteValue.class, WriteValue.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(WriteValueBinaryCodec::encodedSize, WriteValue.class, WriteValue.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.structured.X509IdentityToken;
+
+public class X509IdentityTokenBinaryCodec {
+
+    public static void encode(X509IdentityToken x509IdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString(null, x509IdentityToken.getPolicyId());
+        encoder.encodeByteString(null, x509IdentityToken.getCertificateData());
+    }
+
+    public static void encodedSize(X509IdentityToken x509IdentityToken, BinarySizeEncoder sizer) {
+        sizer.encodeString(null, x509IdentityToken.getPolicyId());
+        sizer.encodeByteString(null, x509IdentityToken.getCertificateData());
+    }
+
+    public static X509IdentityToken decode(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString(null);
+        ByteString _certificateData = decoder.decodeByteString(null);
+
+        return new X509IdentityToken(_policyId, _certificateData);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(X509IdentityTokenBinaryCodec::encode, X509IdentityToken.class, X509IdentityToken.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(X509IdentityTokenBinaryCodec::decode, X509IdentityToken.class, X509IdentityToken.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(X509IdentityTokenBinaryCodec::encodedSize, X509IdentityToken.class, X509IdentityToken.BinaryEncodingId);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.digitalpetri.opcua.stack.core.types.structured.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
+import com.digitalpetri.opcua.stack.core.types.structured.XVType;
+
+public class XVTypeBinaryCodec {
+
+    public static void encode(XVType xVType, BinaryEncoder encoder) {
+        encoder.encodeDouble(null, xVType.getX());
+        encoder.encodeFloat(null, xVType.getValue());
+    }
+
+    public static void encodedSize(XVType xVType, BinarySizeEncoder sizer) {
+        sizer.addSize(12);
+    }
+
+    public static XVType decode(BinaryDecoder decoder) {
+        Double _x = decoder.decodeDouble(null);
+        Float _value = decoder.decodeFloat(null);
+
+        return new XVType(_x, _value);
+    }
+
+    static {
+        BinaryDelegateRegistry.registerEncoder(XVTypeBinaryCodec::encode, XVType.class, XVType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerDecoder(XVTypeBinaryCodec::decode, XVType.class, XVType.BinaryEncodingId);
+        BinaryDelegateRegistry.registerSizer(XVTypeBinaryCodec::encodedSize, XVType.class, XVType.BinaryEncodingId);
+    }
+
+}
@@ -18,6 +18,7 @@ package com.digitalpetri.opcua.stack.core.util;
 
 import java.security.cert.CertPathBuilder;
 import java.security.cert.CertStore;
+import java.security.cert.CertificateEncodingException;
 import java.security.cert.CertificateExpiredException;
 import java.security.cert.CertificateNotYetValidException;
 import java.security.cert.CertificateParsingException;
@@ -33,10 +34,15 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import com.digitalpetri.opcua.stack.core.StatusCodes;
 import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,14 +56,55 @@ public class CertificateValidator {
     private static final int SUBJECT_ALT_NAME_DNS_NAME = 2;
     private static final int SUBJECT_ALT_NAME_IP_ADDRESS = 7;
 
+    /**
+     * The maximum number of certificates whose trust chain result is remembered.
+     */
+    public static final int CACHE_MAXIMUM_SIZE = 1024;
+
+    private final AtomicLong generation = new AtomicLong(0L);
+
+    private volatile TrustIndex trustIndex;
+
     private final Set<X509Certificate> trustList;
     private final Set<X509Certificate> authorityList;
+    private final long cacheTtlNanos;
+
+    /**
+     * Certificate thumbprint -> the certificate's notAfter time, for certificates whose trust chain was validated.
+     */
+    private final Cache<ByteString, Long> validationCache;
 
     public CertificateValidator(Set<X509Certificate> trustList,
                                 Set<X509Certificate> authorityList) {
 
+        this(trustList, authorityList, 0L, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Create a validator that remembers each certificate {@link #validateTrustChain(X509Certificate, List)} accepts,
+     * by thumbprint, for up to {@code cacheTtl}, and never past the certificate's notAfter time. At most
+     * {@link #CACHE_MAXIMUM_SIZE} certificates are remembered. Rejections are not remembered, because a certificate
+     * rejected with one chain may be accepted with another. Its owner must call {@link #invalidate()} whenever the
+     * contents of {@code trustList} or {@code authorityList} change.
+     *
+     * @param trustList     the trusted certificates.
+     * @param authorityList the trusted certificate authorities.
+     * @param cacheTtl      how long a result is remembered, or 0 to disable caching.
+     * @param unit          the unit of {@code cacheTtl}.
+     */
+    public CertificateValidator(Set<X509Certificate> trustList,
+                                Set<X509Certificate> authorityList,
+                                long cacheTtl,
+                                TimeUnit unit) {
+
         this.trustList = trustList;
         this.authorityList = authorityList;
+        this.cacheTtlNanos = unit.toNanos(cacheTtl);
+
+        validationCache = CacheBuilder.newBuilder()
+                .maximumSize(CACHE_MAXIMUM_SIZE)
+                .expireAfterWrite(Math.max(cacheTtlNanos, 0L), TimeUnit.NANOSECONDS)
+                .build();
     }
 
     public void validate(X509Certificate certificate,
@@ -76,11 +123,59 @@ public class CertificateValidator {
     public void validateTrustChain(X509Certificate certificate,
                                    List<X509Certificate> chain) throws UaException {
 
-        boolean certificateTrusted = trustList.stream()
-                .anyMatch(c -> Arrays.equals(certificate.getSignature(), c.getSignature()));
+        if (cacheTtlNanos <= 0) {
+            boolean certificateTrusted = trustList.stream()
+                    .anyMatch(c -> Arrays.equals(certificate.getSignature(), c.getSignature()));
+
+            if (!certificateTrusted) buildCertPath(certificate, chain);
+
+            return;
+        }
+
+        ByteString thumbprint = thumbprint(certificate);
+
+        Long cachedNotAfter = validationCache.getIfPresent(thumbprint);
+
+        if (cachedNotAfter != null && System.currentTimeMillis() < cachedNotAfter) return;
+
+        long generationAtStart = generation.get();
+
+        if (!trustedThumbprints(generationAtStart).contains(thumbprint)) {
+            buildCertPath(certificate, chain);
+        }
+
+        // A result computed while the lists were changing is not remembered.
+        if (generation.get() == generationAtStart) {
+            validationCache.put(thumbprint, certificate.getNotAfter().getTime());
+        }
+    }
+
+    /**
+     * Forget all remembered trust chain results and re-index the trust list.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        validationCache.invalidateAll();
+    }
 
-        if (certificateTrusted) return;
+    private Set<ByteString> trustedThumbprints(long currentGeneration) throws UaException {
+        TrustIndex index = trustIndex;
 
+        if (index == null || index.generation != currentGeneration) {
+            Set<ByteString> thumbprints = new HashSet<>();
+
+            for (X509Certificate c : trustList) {
+                thumbprints.add(thumbprint(c));
+            }
+
+            index = new TrustIndex(currentGeneration, thumbprints);
+            trustIndex = index;
+        }
+
+        return index.thumbprints;
+    }
+
+    private void buildCertPath(X509Certificate certificate, List<X509Certificate> chain) throws UaException {
         try {
             Set<TrustAnchor> trustAnchors = new HashSet<>();
             authorityList.forEach(ca -> trustAnchors.add(new TrustAnchor(ca, null)));
@@ -107,6 +202,14 @@ public class CertificateValidator {
         }
     }
 
+    private static ByteString thumbprint(X509Certificate certificate) throws UaException {
+        try {
+            return ByteString.of(DigestUtil.sha1(certificate.getEncoded()));
+        } catch (CertificateEncodingException e) {
+            throw new UaException(StatusCodes.Bad_CertificateInvalid, e);
+        }
+    }
+
     public void validateCertificateValidity(X509Certificate certificate) throws UaException {
         try {
             certificate.checkValidity();
@@ -210,4 +313,16 @@ public class CertificateValidator {
         }
     }
 
+    private static final class TrustIndex {
+
+        private final long generation;
+        private final Set<ByteString> thumbprints;
+
+        private TrustIndex(long generation, Set<ByteString> thumbprints) {
+            this.generation = generation;
+            this.thumbprints = thumbprints;
+        }
+
+    }
+
 }
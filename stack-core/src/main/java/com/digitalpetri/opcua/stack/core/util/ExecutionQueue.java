@@ -19,8 +19,11 @@
 
 package com.digitalpetri.opcua.stack.core.util;
 
-import java.util.LinkedList;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,21 +31,49 @@ import org.slf4j.LoggerFactory;
 /**
  * Queues up submitted {@link java.lang.Runnable}s and executes them in serial on an
  * {@link java.util.concurrent.ExecutorService}.
+ * <p>
+ * Each time it is scheduled on the executor the queue runs up to a maximum number of {@link Runnable}s, or until a
+ * time budget is used up, before handing the thread back. Submitting never blocks: {@link Runnable}s go into a
+ * lock-free deque and the queue is scheduled with a compare-and-set, so at most one drain is scheduled or running at
+ * a time.
+ * <p>
+ * {@link #executeOrSubmit(Runnable)} skips the hand-off to the executor when the queue is idle, running the
+ * {@link Runnable} on the calling thread without breaking the serial order.
  */
 public class ExecutionQueue {
 
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    public static final long DEFAULT_MAX_BATCH_TIME_MICROS = 1000;
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
-    private final Object queueLock = new Object();
-    private final LinkedList<Runnable> queue = new LinkedList<>();
+    private final ConcurrentLinkedDeque<Runnable> queue = new ConcurrentLinkedDeque<>();
 
-    private volatile boolean pollSubmitted = false;
+    private final AtomicBoolean pollSubmitted = new AtomicBoolean(false);
     private volatile boolean paused = false;
 
+    private final Runnable pollAndExecute = new PollAndExecute();
+
     private final ExecutorService service;
+    private final int maxBatchSize;
+    private final long maxBatchNanos;
 
     public ExecutionQueue(ExecutorService service) {
+        this(service, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_TIME_MICROS, TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * @param service      the {@link ExecutorService} to execute on.
+     * @param maxBatchSize the maximum number of {@link Runnable}s executed each time the queue is scheduled.
+     * @param maxBatchTime the time after which no further {@link Runnable}s are started until the queue has been
+     *                     scheduled again.
+     * @param unit         the unit of {@code maxBatchTime}.
+     */
+    public ExecutionQueue(ExecutorService service, int maxBatchSize, long maxBatchTime, TimeUnit unit) {
         this.service = service;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchNanos = unit.toNanos(maxBatchTime);
     }
 
     /**
@@ -51,11 +82,9 @@ public class ExecutionQueue {
      * @param runnable the {@link Runnable} to be executed.
      */
     public void submit(Runnable runnable) {
-        synchronized (queueLock) {
-            queue.add(runnable);
+        queue.addLast(runnable);
 
-            maybeSubmitPoll();
-        }
+        maybeSubmitPoll();
     }
 
     /**
@@ -64,38 +93,64 @@ public class ExecutionQueue {
      * @param runnable the {@link Runnable} to be executed.
      */
     public void submitToHead(Runnable runnable) {
-        synchronized (queueLock) {
-            queue.addFirst(runnable);
+        queue.addFirst(runnable);
+
+        maybeSubmitPoll();
+    }
+
+    /**
+     * Execute a {@link Runnable} on the calling thread if the queue is idle: not paused, nothing queued, and nothing
+     * executing. Otherwise submit it, so it still runs after everything submitted before it.
+     *
+     * @param runnable the {@link Runnable} to be executed.
+     */
+    public void executeOrSubmit(Runnable runnable) {
+        if (!paused && queue.isEmpty() && pollSubmitted.compareAndSet(false, true)) {
+            // Holding pollSubmitted keeps a poll from being scheduled until this is done.
+            if (paused || !queue.isEmpty()) {
+                queue.addLast(runnable);
+                pollSubmitted.set(false);
+            } else {
+                try {
+                    runnable.run();
+                } catch (Throwable throwable) {
+                    log.warn("Uncaught Throwable during execution.", throwable);
+                }
+
+                pollSubmitted.set(false);
+            }
 
             maybeSubmitPoll();
+        } else {
+            submit(runnable);
         }
     }
 
     /**
      * Pause execution of queued {@link java.lang.Runnable}s.
+     * <p>
+     * A {@link Runnable} that is already executing runs to completion; no further {@link Runnable}s are started.
      */
     public void pause() {
-        synchronized (queueLock) {
-            paused = true;
-        }
+        paused = true;
     }
 
     /**
      * Resume execution of queued {@link java.lang.Runnable}s.
      */
     public void resume() {
-        synchronized (queueLock) {
-            paused = false;
+        paused = false;
 
-            maybeSubmitPoll();
-        }
+        maybeSubmitPoll();
     }
 
     private void maybeSubmitPoll() {
-        synchronized (queueLock) {
-            if (!pollSubmitted && !paused && !queue.isEmpty()) {
-                service.submit(new PollAndExecute());
-                pollSubmitted = true;
+        if (!paused && !queue.isEmpty() && pollSubmitted.compareAndSet(false, true)) {
+            try {
+                service.execute(pollAndExecute);
+            } catch (RejectedExecutionException e) {
+                pollSubmitted.set(false);
+                throw e;
             }
         }
     }
@@ -103,26 +158,26 @@ public class ExecutionQueue {
     private class PollAndExecute implements Runnable {
         @Override
         public void run() {
-            Runnable runnable;
+            long deadline = System.nanoTime() + maxBatchNanos;
+            int executed = 0;
 
-            synchronized (queueLock) {
-                runnable = queue.poll();
-            }
+            while (!paused) {
+                Runnable runnable = queue.pollFirst();
 
-            try {
-                runnable.run();
-            } catch (Throwable throwable) {
-                log.warn("Uncaught Throwable during execution.", throwable);
-            }
+                if (runnable == null) break;
 
-            synchronized (queueLock) {
-                if (queue.isEmpty() || paused) {
-                    pollSubmitted = false;
-                } else {
-                    // polling remains true
-                    service.submit(new PollAndExecute());
+                try {
+                    runnable.run();
+                } catch (Throwable throwable) {
+                    log.warn("Uncaught Throwable during execution.", throwable);
                 }
+
+                if (++executed >= maxBatchSize || System.nanoTime() - deadline >= 0) break;
             }
+
+            // Anything submitted or resumed while this poll was finishing saw it as still submitted.
+            pollSubmitted.set(false);
+            maybeSubmitPoll();
         }
     }
 
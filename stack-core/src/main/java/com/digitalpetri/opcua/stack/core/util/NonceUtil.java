@@ -3,16 +3,52 @@ package com.digitalpetri.opcua.stack.core.util;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.digitalpetri.opcua.stack.core.security.SecurityAlgorithm;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 public class NonceUtil {
 
+    /**
+     * The number of nonces of each length kept ready in the pool.
+     */
+    private static final int NONCE_POOL_CAPACITY = 64;
+
+    /**
+     * A refill of the pool is started once fewer than this many nonces of a length remain.
+     */
+    private static final int NONCE_POOL_LOW_WATER_MARK = 16;
+
+    /**
+     * Nonces longer than this are always generated on demand.
+     */
+    private static final int MAX_POOLED_NONCE_LENGTH = 64;
+
     private static final Random random = new Random();
 
+    private static final ConcurrentMap<Integer, NoncePool> noncePools = Maps.newConcurrentMap();
+
+    /**
+     * Refills may block waiting for entropy, so they get a thread of their own rather than one from a shared pool.
+     */
+    private static final ExecutorService refillExecutor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("ua-nonce-pool-refill-%d")
+                    .build());
+
     private static volatile boolean secureRandomEnabled = true;
 
+    private static volatile boolean noncePoolEnabled = true;
+
     private static volatile SecureRandom secureRandom;
 
     static {
@@ -29,6 +65,10 @@ public class NonceUtil {
             }
             sr.nextBytes(new byte[32]);
             secureRandom = sr;
+
+            // Have nonces ready for the symmetric algorithms in use before the first channel is opened.
+            getNoncePool(getNonceLength(SecurityAlgorithm.Aes128)).refill();
+            getNoncePool(getNonceLength(SecurityAlgorithm.Aes256)).refill();
         }).start();
     }
 
@@ -44,6 +84,25 @@ public class NonceUtil {
         return secureRandomEnabled;
     }
 
+    /**
+     * Take secure nonces from a pool that is refilled in the background, so a caller such as a channel renewal never
+     * waits on the {@link SecureRandom} for entropy. This is the default.
+     */
+    public static void enableNoncePool() {
+        noncePoolEnabled = true;
+    }
+
+    /**
+     * Generate every secure nonce on demand, on the calling thread.
+     */
+    public static void disableNoncePool() {
+        noncePoolEnabled = false;
+    }
+
+    public static boolean isNoncePoolEnabled() {
+        return noncePoolEnabled;
+    }
+
     /**
      * @param length the length of the nonce to generate.
      * @return a nonce of the given length.
@@ -51,15 +110,23 @@ public class NonceUtil {
     public static ByteString generateNonce(int length) {
         if (length == 0) return ByteString.NULL_VALUE;
 
-        byte[] bs = new byte[length];
+        SecureRandom sr = secureRandom;
 
-        if (secureRandom != null && secureRandomEnabled) {
-            secureRandom.nextBytes(bs);
+        if (sr != null && secureRandomEnabled) {
+            if (noncePoolEnabled && length <= MAX_POOLED_NONCE_LENGTH) {
+                byte[] bs = getNoncePool(length).poll();
+
+                if (bs != null) return new ByteString(bs);
+            }
+
+            byte[] bs = new byte[length];
+            sr.nextBytes(bs);
+            return new ByteString(bs);
         } else {
+            byte[] bs = new byte[length];
             random.nextBytes(bs);
+            return new ByteString(bs);
         }
-
-        return new ByteString(bs);
     }
 
     /**
@@ -88,4 +155,59 @@ public class NonceUtil {
         }
     }
 
+    private static NoncePool getNoncePool(int length) {
+        return noncePools.computeIfAbsent(length, NoncePool::new);
+    }
+
+    /**
+     * Secure nonces of one length, generated ahead of time. Each nonce is handed out at most once.
+     */
+    private static final class NoncePool {
+
+        private final ConcurrentLinkedQueue<byte[]> nonces = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger(0);
+        private final AtomicBoolean refillScheduled = new AtomicBoolean(false);
+
+        private final int length;
+
+        private NoncePool(int length) {
+            this.length = length;
+        }
+
+        /**
+         * @return a nonce, or {@code null} if the pool is empty.
+         */
+        byte[] poll() {
+            byte[] nonce = nonces.poll();
+
+            if (nonce != null) size.decrementAndGet();
+
+            if (size.get() < NONCE_POOL_LOW_WATER_MARK && refillScheduled.compareAndSet(false, true)) {
+                refillExecutor.execute(() -> {
+                    try {
+                        refill();
+                    } finally {
+                        refillScheduled.set(false);
+                    }
+                });
+            }
+
+            return nonce;
+        }
+
+        void refill() {
+            SecureRandom sr = secureRandom;
+            if (sr == null) return;
+
+            while (size.get() < NONCE_POOL_CAPACITY) {
+                byte[] nonce = new byte[length];
+                sr.nextBytes(nonce);
+
+                nonces.offer(nonce);
+                size.incrementAndGet();
+            }
+        }
+
+    }
+
 }
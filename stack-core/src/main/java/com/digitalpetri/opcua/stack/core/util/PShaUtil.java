@@ -1,11 +1,16 @@
 package com.digitalpetri.opcua.stack.core.util;
 
 
+import java.security.GeneralSecurityException;
+import javax.annotation.Nullable;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
 import com.digitalpetri.opcua.stack.core.StatusCodes;
 import com.digitalpetri.opcua.stack.core.UaRuntimeException;
+import com.digitalpetri.opcua.stack.core.security.CryptoProviders;
+import com.digitalpetri.opcua.stack.core.security.SecurityAlgorithm;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
 
 
 /**
@@ -24,18 +29,56 @@ import com.digitalpetri.opcua.stack.core.UaRuntimeException;
 public class PShaUtil {
 
     public static byte[] createPSha1Key(byte[] secret, byte[] seed, int offset, int length) {
-        return createKey("HmacSHA1", secret, seed, offset, length);
+        return createKey(SecurityAlgorithm.PSha1, secret, seed, offset, length);
     }
 
     public static byte[] createPSha256Key(byte[] secret, byte[] seed, int offset, int length) {
-        return createKey("HmacSHA256", secret, seed, offset, length);
+        return createKey(SecurityAlgorithm.PSha256, secret, seed, offset, length);
     }
 
-    private static byte[] createKey(String transformation, byte[] secret, byte[] seed, int offset, int length) {
+    /**
+     * Derive consecutive keys from one P_SHA-1 output stream in a single pass.
+     *
+     * @param secret  the secret.
+     * @param seed    the seed.
+     * @param lengths the length of each key, in the order they are taken from the stream.
+     * @return one key per entry in {@code lengths}.
+     */
+    public static byte[][] createPSha1Keys(byte[] secret, byte[] seed, int... lengths) {
+        return createKeys(null, SecurityAlgorithm.PSha1, secret, seed, lengths);
+    }
+
+    /**
+     * Derive consecutive keys from one P_SHA-256 output stream in a single pass.
+     *
+     * @param secret  the secret.
+     * @param seed    the seed.
+     * @param lengths the length of each key, in the order they are taken from the stream.
+     * @return one key per entry in {@code lengths}.
+     */
+    public static byte[][] createPSha256Keys(byte[] secret, byte[] seed, int... lengths) {
+        return createKeys(null, SecurityAlgorithm.PSha256, secret, seed, lengths);
+    }
+
+    /**
+     * Derive consecutive keys in a single pass using the key derivation algorithm of {@code securityPolicy}, with the
+     * {@link java.security.Provider} configured for it in {@link CryptoProviders}.
+     *
+     * @param securityPolicy the {@link SecurityPolicy} whose key derivation algorithm to use.
+     * @param secret         the secret.
+     * @param seed           the seed.
+     * @param lengths        the length of each key, in the order they are taken from the stream.
+     * @return one key per entry in {@code lengths}.
+     */
+    public static byte[][] createKeys(SecurityPolicy securityPolicy, byte[] secret, byte[] seed, int... lengths) {
+        return createKeys(securityPolicy, securityPolicy.getKeyDerivationAlgorithm(), secret, seed, lengths);
+    }
+
+    private static byte[] createKey(SecurityAlgorithm keyDerivation, byte[] secret, byte[] seed, int offset, int length) {
         try {
-            Mac mac = Mac.getInstance(transformation);
+            Mac mac = initializedMac(null, keyDerivation, secret);
 
-            byte[] tempBytes = P_hash(transformation, secret, seed, mac, offset + length);
+            byte[] tempBytes = P_hash(seed, mac, offset + length);
             byte[] key = new byte[length];
 
             System.arraycopy(tempBytes, offset, key, 0, key.length);
@@ -46,7 +89,49 @@ public class PShaUtil {
         }
     }
 
-    private static byte[] P_hash(String transformation, byte[] secret, byte[] seed, Mac mac, int required) throws Exception {
+    private static byte[][] createKeys(@Nullable SecurityPolicy securityPolicy,
+                                       SecurityAlgorithm keyDerivation,
+                                       byte[] secret,
+                                       byte[] seed,
+                                       int[] lengths) {
+        try {
+            Mac mac = initializedMac(securityPolicy, keyDerivation, secret);
+
+            int required = 0;
+            for (int length : lengths) {
+                required += length;
+            }
+
+            byte[] tempBytes = P_hash(seed, mac, required);
+            byte[][] keys = new byte[lengths.length][];
+
+            int offset = 0;
+            for (int i = 0; i < lengths.length; i++) {
+                keys[i] = new byte[lengths[i]];
+                System.arraycopy(tempBytes, offset, keys[i], 0, lengths[i]);
+                offset += lengths[i];
+            }
+
+            return keys;
+        } catch (Exception e) {
+            throw new UaRuntimeException(StatusCodes.Bad_InternalError, e);
+        }
+    }
+
+    private static Mac initializedMac(@Nullable SecurityPolicy securityPolicy,
+                                      SecurityAlgorithm keyDerivation,
+                                      byte[] secret) throws GeneralSecurityException {
+
+        Mac mac = CryptoProviders.getMac(securityPolicy, keyDerivation);
+        mac.init(new SecretKeySpec(secret, CryptoProviders.getMacTransformation(keyDerivation)));
+
+        return mac;
+    }
+
+    /**
+     * @param mac a {@link Mac} already initialized with the secret; {@link Mac#doFinal()} leaves it ready for reuse.
+     */
+    private static byte[] P_hash(byte[] seed, Mac mac, int required) {
         byte[] out = new byte[required];
         int offset = 0;
         int toCopy;
@@ -54,12 +139,8 @@ public class PShaUtil {
         byte[] tmp;
 
         while (required > 0) {
-            SecretKeySpec key = new SecretKeySpec(secret, transformation);
-            mac.init(key);
             mac.update(A);
             A = mac.doFinal();
-            mac.reset();
-            mac.init(key);
             mac.update(A);
             mac.update(seed);
             tmp = mac.doFinal();
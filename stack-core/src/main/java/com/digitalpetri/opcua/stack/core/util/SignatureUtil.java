@@ -1,5 +1,6 @@
 package com.digitalpetri.opcua.stack.core.util;
 
+import javax.annotation.Nullable;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.ByteBuffer;
@@ -7,7 +8,9 @@ import java.security.GeneralSecurityException;
 import java.security.PrivateKey;
 import java.security.Signature;
 
+import com.digitalpetri.opcua.stack.core.security.CryptoProviders;
 import com.digitalpetri.opcua.stack.core.security.SecurityAlgorithm;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
 import com.digitalpetri.opcua.stack.core.StatusCodes;
 import com.digitalpetri.opcua.stack.core.UaException;
 
@@ -27,10 +30,28 @@ public class SignatureUtil {
                               PrivateKey privateKey,
                               ByteBuffer... buffers) throws UaException {
 
-        String transformation = securityAlgorithm.getTransformation();
+        return sign(null, securityAlgorithm, privateKey, buffers);
+    }
+
+    /**
+     * Sign the contents of the provided buffers using the provided {@link SecurityAlgorithm}, with the
+     * {@link java.security.Provider} configured in {@link CryptoProviders} for it under {@code securityPolicy}.
+     * Note that only the bytes between position and limit of each buffer are considered.
+     *
+     * @param securityPolicy    the {@link SecurityPolicy} the signature is made under, or {@code null} if unknown.
+     * @param securityAlgorithm the {@link SecurityAlgorithm}.
+     * @param privateKey        the {@link PrivateKey} to sign with.
+     * @param buffers           the data to sign.
+     * @return the signature bytes.
+     * @throws UaException
+     */
+    public static byte[] sign(@Nullable SecurityPolicy securityPolicy,
+                              SecurityAlgorithm securityAlgorithm,
+                              PrivateKey privateKey,
+                              ByteBuffer... buffers) throws UaException {
 
         try {
-            Signature signature = Signature.getInstance(transformation);
+            Signature signature = CryptoProviders.getSignature(securityPolicy, securityAlgorithm);
             signature.initSign(privateKey);
 
             for (ByteBuffer buffer : buffers) {
@@ -47,7 +68,8 @@ public class SignatureUtil {
      * Compute the HMAC of the provided buffers.
      *
      * @param securityAlgorithm the {@link SecurityAlgorithm} that provides the transformation for
-     *                          {@link Mac#getInstance(String)}}.
+     *                          {@link Mac#getInstance(String)}}; the Mac comes from the
+     *                          {@link java.security.Provider} configured for it in {@link CryptoProviders}.
      * @param secretKey         the secret key.
      * @param buffers           the buffers to use.
      * @return the computed HMAC.
@@ -60,7 +82,7 @@ public class SignatureUtil {
         String transformation = securityAlgorithm.getTransformation();
 
         try {
-            Mac mac = Mac.getInstance(transformation);
+            Mac mac = CryptoProviders.getMac(null, securityAlgorithm);
             mac.init(new SecretKeySpec(secretKey, transformation));
 
             for (ByteBuffer buffer : buffers) {
@@ -73,4 +95,21 @@ public class SignatureUtil {
         }
     }
 
+    /**
+     * Compute the HMAC of the provided buffers using an already initialized {@link Mac}.
+     * <p>
+     * The Mac is reset by {@link Mac#doFinal()} and may be reused.
+     *
+     * @param mac     the initialized {@link Mac}.
+     * @param buffers the buffers to use.
+     * @return the computed HMAC.
+     */
+    public static byte[] hmac(Mac mac, ByteBuffer... buffers) {
+        for (ByteBuffer buffer : buffers) {
+            mac.update(buffer);
+        }
+
+        return mac.doFinal();
+    }
+
 }
@@ -0,0 +1,222 @@
+package com.digitalpetri.opcua.stack.core.util;
+
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Encodes and decodes UTF-8 directly to and from a {@link ByteBuf} without going through an intermediate byte[].
+ * <p>
+ * Unpaired surrogates are encoded as '?' and malformed input is decoded by the JDK decoder, so the results are
+ * identical to {@link String#getBytes(java.nio.charset.Charset)} and {@link ByteBuf#toString(java.nio.charset.Charset)}.
+ */
+public class Utf8Util {
+
+    /**
+     * Compute the number of bytes {@code s} occupies when encoded as UTF-8.
+     *
+     * @param s the {@link CharSequence} to measure.
+     * @return the UTF-8 encoded length of {@code s}.
+     */
+    public static int encodedLength(CharSequence s) {
+        int length = s.length();
+        int encodedLength = length;
+
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+
+            if (c < 0x80) continue;
+
+            if (c < 0x800) {
+                encodedLength += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                encodedLength += 2;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, encoded as '?'
+            } else {
+                encodedLength += 2;
+            }
+        }
+
+        return encodedLength;
+    }
+
+    /**
+     * Write {@code s} as UTF-8 at the current writer index of {@code buffer}.
+     *
+     * @param buffer        the {@link ByteBuf} to write to.
+     * @param s             the {@link CharSequence} to write.
+     * @param encodedLength the UTF-8 encoded length of {@code s}, as computed by {@link #encodedLength(CharSequence)}.
+     */
+    public static void write(ByteBuf buffer, CharSequence s, int encodedLength) {
+        buffer.ensureWritable(encodedLength);
+
+        int length = s.length();
+        int index = buffer.writerIndex();
+
+        int i = 0;
+
+        // ASCII fast path; most strings never leave this loop.
+        while (i < length) {
+            char c = s.charAt(i);
+            if (c >= 0x80) break;
+            buffer.setByte(index++, c);
+            i++;
+        }
+
+        for (; i < length; i++) {
+            char c = s.charAt(i);
+
+            if (c < 0x80) {
+                buffer.setByte(index++, c);
+            } else if (c < 0x800) {
+                buffer.setByte(index++, 0xC0 | (c >> 6));
+                buffer.setByte(index++, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+
+                buffer.setByte(index++, 0xF0 | (cp >> 18));
+                buffer.setByte(index++, 0x80 | ((cp >> 12) & 0x3F));
+                buffer.setByte(index++, 0x80 | ((cp >> 6) & 0x3F));
+                buffer.setByte(index++, 0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer.setByte(index++, '?');
+            } else {
+                buffer.setByte(index++, 0xE0 | (c >> 12));
+                buffer.setByte(index++, 0x80 | ((c >> 6) & 0x3F));
+                buffer.setByte(index++, 0x80 | (c & 0x3F));
+            }
+        }
+
+        buffer.writerIndex(index);
+    }
+
+    /**
+     * Write the chars of {@code s} from {@code start} as UTF-8 at the current writer index of {@code buffer}, stopping
+     * before the first code point that would take the number of bytes written past {@code maxBytes}. At least one code
+     * point is written if any remain, so repeated calls always make progress.
+     *
+     * @param buffer   the {@link ByteBuf} to write to.
+     * @param s        the {@link CharSequence} to write.
+     * @param start    the index of the first char to write.
+     * @param maxBytes the maximum number of bytes to write.
+     * @return the index of the first char not written.
+     */
+    public static int write(ByteBuf buffer, CharSequence s, int start, int maxBytes) {
+        int length = s.length();
+
+        buffer.ensureWritable((int) Math.min((long) maxBytes + 3, (length - start) * 3L));
+
+        int index = buffer.writerIndex();
+        int limit = index + maxBytes;
+        int i = start;
+
+        for (; i < length; i++) {
+            char c = s.charAt(i);
+            boolean pair = Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1));
+            int size = c < 0x80 ? 1 : c < 0x800 ? 2 : pair ? 4 : Character.isSurrogate(c) ? 1 : 3;
+
+            if (index + size > limit && i > start) break;
+
+            if (c < 0x80) {
+                buffer.setByte(index++, c);
+            } else if (c < 0x800) {
+                buffer.setByte(index++, 0xC0 | (c >> 6));
+                buffer.setByte(index++, 0x80 | (c & 0x3F));
+            } else if (pair) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+
+                buffer.setByte(index++, 0xF0 | (cp >> 18));
+                buffer.setByte(index++, 0x80 | ((cp >> 12) & 0x3F));
+                buffer.setByte(index++, 0x80 | ((cp >> 6) & 0x3F));
+                buffer.setByte(index++, 0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer.setByte(index++, '?');
+            } else {
+                buffer.setByte(index++, 0xE0 | (c >> 12));
+                buffer.setByte(index++, 0x80 | ((c >> 6) & 0x3F));
+                buffer.setByte(index++, 0x80 | (c & 0x3F));
+            }
+        }
+
+        buffer.writerIndex(index);
+
+        return i;
+    }
+
+    /**
+     * Decode {@code length} bytes of UTF-8 starting at {@code index} in {@code buffer}. The buffer indices are not
+     * modified.
+     *
+     * @param buffer  the {@link ByteBuf} to read from.
+     * @param index   the index of the first byte.
+     * @param length  the number of bytes to decode.
+     * @param scratch a scratch array of at least {@code length} chars.
+     * @return the decoded {@link String}.
+     */
+    public static String read(ByteBuf buffer, int index, int length, char[] scratch) {
+        int end = index + length;
+        int count = 0;
+        int i = index;
+
+        // ASCII fast path; most strings never leave this loop.
+        while (i < end) {
+            byte b = buffer.getByte(i);
+            if (b < 0) break;
+            scratch[count++] = (char) b;
+            i++;
+        }
+
+        while (i < end) {
+            int b0 = buffer.getByte(i++);
+
+            if (b0 >= 0) {
+                scratch[count++] = (char) b0;
+            } else if ((b0 & 0xE0) == 0xC0 && i < end) {
+                int b1 = buffer.getByte(i++);
+                if (!isContinuation(b1)) return slowRead(buffer, index, length);
+
+                int c = ((b0 & 0x1F) << 6) | (b1 & 0x3F);
+                if (c < 0x80) return slowRead(buffer, index, length);
+
+                scratch[count++] = (char) c;
+            } else if ((b0 & 0xF0) == 0xE0 && i + 1 < end) {
+                int b1 = buffer.getByte(i++);
+                int b2 = buffer.getByte(i++);
+                if (!isContinuation(b1) || !isContinuation(b2)) return slowRead(buffer, index, length);
+
+                int c = ((b0 & 0x0F) << 12) | ((b1 & 0x3F) << 6) | (b2 & 0x3F);
+                if (c < 0x800 || Character.isSurrogate((char) c)) return slowRead(buffer, index, length);
+
+                scratch[count++] = (char) c;
+            } else if ((b0 & 0xF8) == 0xF0 && i + 2 < end) {
+                int b1 = buffer.getByte(i++);
+                int b2 = buffer.getByte(i++);
+                int b3 = buffer.getByte(i++);
+                if (!isContinuation(b1) || !isContinuation(b2) || !isContinuation(b3)) {
+                    return slowRead(buffer, index, length);
+                }
+
+                int cp = ((b0 & 0x07) << 18) | ((b1 & 0x3F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F);
+                if (cp < 0x10000 || cp > Character.MAX_CODE_POINT) return slowRead(buffer, index, length);
+
+                scratch[count++] = Character.highSurrogate(cp);
+                scratch[count++] = Character.lowSurrogate(cp);
+            } else {
+                return slowRead(buffer, index, length);
+            }
+        }
+
+        return new String(scratch, 0, count);
+    }
+
+    private static boolean isContinuation(int b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private static String slowRead(ByteBuf buffer, int index, int length) {
+        return buffer.toString(index, length, StandardCharsets.UTF_8);
+    }
+
+}
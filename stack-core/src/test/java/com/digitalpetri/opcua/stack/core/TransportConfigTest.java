@@ -0,0 +1,61 @@
+package com.digitalpetri.opcua.stack.core;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.socket.SocketChannelConfig;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TransportConfigTest {
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testMultipleAcceptorsRequireEpoll() {
+        new TransportConfig(Transport.NIO, 2);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testReusePortRequiresEpoll() {
+        Transport.NIO.enableReusePort(new ServerBootstrap());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testLowWaterMarkAboveHighWaterMark() {
+        new TransportConfig(Transport.NIO, 1, 0, 0, 64 * 1024, 32 * 1024);
+    }
+
+    @Test
+    public void testConfigureRaisesWaterMarks() {
+        SocketChannelConfig config = new NioSocketChannel().config();
+
+        new TransportConfig(Transport.NIO, 1, 0, 0, 256 * 1024, 512 * 1024).configure(config);
+
+        assertEquals(config.getWriteBufferLowWaterMark(), 256 * 1024);
+        assertEquals(config.getWriteBufferHighWaterMark(), 512 * 1024);
+    }
+
+    @Test
+    public void testConfigureLowersWaterMarks() {
+        SocketChannelConfig config = new NioSocketChannel().config();
+
+        new TransportConfig(Transport.NIO, 1, 0, 0, 4 * 1024, 8 * 1024).configure(config);
+
+        assertEquals(config.getWriteBufferLowWaterMark(), 4 * 1024);
+        assertEquals(config.getWriteBufferHighWaterMark(), 8 * 1024);
+    }
+
+    @Test
+    public void testConfigureSocketBufferSizes() {
+        SocketChannelConfig config = new NioSocketChannel().config();
+
+        new TransportConfig(Transport.NIO, 1, 128 * 1024, 128 * 1024,
+                TransportConfig.DEFAULT_WRITE_BUFFER_LOW_WATER_MARK,
+                TransportConfig.DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK).configure(config);
+
+        // The kernel may round or double the requested sizes, but never grants less than asked for here.
+        assertTrue(config.getSendBufferSize() >= 128 * 1024);
+        assertTrue(config.getReceiveBufferSize() >= 128 * 1024);
+    }
+
+}
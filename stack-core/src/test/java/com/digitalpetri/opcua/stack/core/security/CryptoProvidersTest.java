@@ -0,0 +1,63 @@
+package com.digitalpetri.opcua.stack.core.security;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Security;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class CryptoProvidersTest {
+
+    private final Provider sunJce = Security.getProvider("SunJCE");
+    private final Provider sunRsaSign = Security.getProvider("SunRsaSign");
+
+    @AfterMethod
+    public void tearDown() {
+        CryptoProviders.clear();
+    }
+
+    @Test
+    public void testMostSpecificSettingWins() {
+        assertNull(CryptoProviders.getProvider(SecurityPolicy.Basic256, SecurityAlgorithm.Aes256));
+
+        CryptoProviders.setProvider(SecurityAlgorithm.Aes256, sunRsaSign);
+        assertSame(CryptoProviders.getProvider(SecurityPolicy.Basic256, SecurityAlgorithm.Aes256), sunRsaSign);
+        assertSame(CryptoProviders.getProvider(null, SecurityAlgorithm.Aes256), sunRsaSign);
+
+        CryptoProviders.setProvider(SecurityPolicy.Basic256, sunJce);
+        assertSame(CryptoProviders.getProvider(SecurityPolicy.Basic256, SecurityAlgorithm.Aes256), sunJce);
+        assertSame(CryptoProviders.getProvider(SecurityPolicy.Basic256Sha256, SecurityAlgorithm.Aes256), sunRsaSign);
+
+        CryptoProviders.setProvider(SecurityPolicy.Basic256, SecurityAlgorithm.Aes256, sunRsaSign);
+        assertSame(CryptoProviders.getProvider(SecurityPolicy.Basic256, SecurityAlgorithm.Aes256), sunRsaSign);
+        assertSame(CryptoProviders.getProvider(SecurityPolicy.Basic256, SecurityAlgorithm.HmacSha1), sunJce);
+
+        CryptoProviders.setProvider(SecurityPolicy.Basic256, SecurityAlgorithm.Aes256, null);
+        assertSame(CryptoProviders.getProvider(SecurityPolicy.Basic256, SecurityAlgorithm.Aes256), sunJce);
+    }
+
+    @Test
+    public void testInstancesComeFromConfiguredProvider() throws Exception {
+        CryptoProviders.setProvider(SecurityPolicy.Basic128Rsa15, sunJce);
+        CryptoProviders.setProvider(SecurityAlgorithm.RsaSha1, sunRsaSign);
+
+        SecurityPolicy policy = SecurityPolicy.Basic128Rsa15;
+
+        assertEquals(CryptoProviders.getCipher(policy, policy.getSymmetricEncryptionAlgorithm()).getProvider(), sunJce);
+        assertEquals(CryptoProviders.getMac(policy, policy.getKeyDerivationAlgorithm()).getAlgorithm(), "HmacSHA1");
+        assertEquals(CryptoProviders.getSignature(null, policy.getAsymmetricSignatureAlgorithm()).getProvider(), sunRsaSign);
+    }
+
+    @Test(expectedExceptions = NoSuchAlgorithmException.class)
+    public void testUnsupportedAlgorithmIsNotSilentlyReplaced() throws Exception {
+        CryptoProviders.setProvider(SecurityAlgorithm.Aes128, sunRsaSign);
+
+        CryptoProviders.getCipher(SecurityPolicy.Basic128Rsa15, SecurityAlgorithm.Aes128);
+    }
+
+}
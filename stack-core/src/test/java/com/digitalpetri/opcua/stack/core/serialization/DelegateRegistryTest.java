@@ -0,0 +1,72 @@
+package com.digitalpetri.opcua.stack.core.serialization;
+
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+
+public class DelegateRegistryTest {
+
+    @Test(description = "Generated namespace 0 types resolve by class and by encoding id to the same delegate.")
+    public void testNamespaceZeroLookup() {
+        DecoderDelegate<ReadRequest> byClass = DelegateRegistry.getDecoder(ReadRequest.class);
+        DecoderDelegate<ReadRequest> byId = DelegateRegistry.getDecoder(ReadRequest.BinaryEncodingId);
+
+        assertNotNull(byClass);
+        assertSame(byId, byClass);
+        assertSame(DelegateRegistry.getEncoder(ReadRequest.BinaryEncodingId), DelegateRegistry.getEncoder(ReadRequest.class));
+    }
+
+    @Test(description = "Delegates for custom namespaces and large identifiers can be registered at runtime.")
+    public void testRuntimeRegistration() {
+        NodeId customId = new NodeId(2, 1000);
+        NodeId largeId = new NodeId(0, Integer.MAX_VALUE);
+        NodeId stringId = new NodeId(0, "Custom");
+
+        EncoderDelegate<Custom> encoder = (custom, e) -> {};
+        DecoderDelegate<Custom> decoder = d -> new Custom();
+
+        DelegateRegistry.registerEncoder(encoder, Custom.class, customId, largeId, stringId);
+        DelegateRegistry.registerDecoder(decoder, Custom.class, customId, largeId, stringId);
+
+        assertSame(DelegateRegistry.getEncoder(new Custom()), encoder);
+        assertSame(DelegateRegistry.getDecoder(Custom.class), decoder);
+
+        for (NodeId id : new NodeId[]{customId, largeId, stringId}) {
+            assertSame(DelegateRegistry.getEncoder(id), encoder);
+            assertSame(DelegateRegistry.getDecoder(id), decoder);
+        }
+    }
+
+    @Test(description = "Re-registering a class replaces the previously cached delegate.")
+    public void testReRegistrationInvalidatesCache() {
+        DecoderDelegate<Replaced> first = d -> new Replaced();
+        DecoderDelegate<Replaced> second = d -> new Replaced();
+
+        DelegateRegistry.registerDecoder(first, Replaced.class);
+        assertSame(DelegateRegistry.getDecoder(Replaced.class), first);
+
+        DelegateRegistry.registerDecoder(second, Replaced.class);
+        assertSame(DelegateRegistry.getDecoder(Replaced.class), second);
+    }
+
+    @Test(expectedExceptions = UaSerializationException.class)
+    public void testUnregisteredClassThrows() {
+        DelegateRegistry.getEncoder(Unregistered.class);
+    }
+
+    @Test(expectedExceptions = UaSerializationException.class)
+    public void testUnregisteredIdThrows() {
+        DelegateRegistry.getDecoder(new NodeId(0, DelegateTable.NS0_TABLE_SIZE - 1));
+    }
+
+    private static class Custom {}
+
+    private static class Replaced {}
+
+    private static class Unregistered {}
+
+}
@@ -0,0 +1,90 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryData;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.WriteResponse;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+
+public class ArrayConsumersTest extends BinarySerializationFixture {
+
+    private final ResponseHeader header = new ResponseHeader(
+            DateTime.now(), uint(1), StatusCode.GOOD, null, new String[0], null);
+
+    @Test(description = "Registered array fields are streamed to their consumer and decode as empty arrays.")
+    public void testStreamedArray() {
+        DataValue[] results = new DataValue[100];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = new DataValue(new Variant(i));
+        }
+
+        encoder.encodeMessage(null, new ReadResponse(header, results, new DiagnosticInfo[0]));
+
+        List<DataValue> streamed = new ArrayList<>();
+        decoder.setArrayConsumers(new ArrayConsumers().put("Results", DataValue.class, streamed::add));
+
+        ReadResponse response = decoder.decodeMessage(null);
+
+        assertEquals(response.getResults().length, 0);
+        assertEquals(streamed.size(), results.length);
+        for (int i = 0; i < results.length; i++) {
+            assertEquals(streamed.get(i).getValue(), results[i].getValue());
+        }
+    }
+
+    @Test(description = "Array fields with the same name but a different element type are not streamed.")
+    public void testElementTypeMustMatch() {
+        StatusCode[] results = {StatusCode.GOOD, StatusCode.BAD};
+
+        encoder.encodeMessage(null, new WriteResponse(header, results, new DiagnosticInfo[0]));
+
+        List<DataValue> streamed = new ArrayList<>();
+        decoder.setArrayConsumers(new ArrayConsumers().put("Results", DataValue.class, streamed::add));
+
+        WriteResponse response = decoder.decodeMessage(null);
+
+        assertEquals(response.getResults(), results);
+        assertEquals(streamed.size(), 0);
+    }
+
+    @Test(description = "Array fields of structures carried in an ExtensionObject are streamed as well.")
+    public void testStreamedExtensionObjectArray() {
+        DataValue[] dataValues = new DataValue[100];
+        for (int i = 0; i < dataValues.length; i++) {
+            dataValues[i] = new DataValue(new Variant(i));
+        }
+
+        HistoryReadResult result = new HistoryReadResult(
+                StatusCode.GOOD, null, ExtensionObject.encode(new HistoryData(dataValues)));
+
+        encoder.encodeMessage(null, new HistoryReadResponse(
+                header, new HistoryReadResult[]{result}, new DiagnosticInfo[0]));
+
+        List<DataValue> streamed = new ArrayList<>();
+        decoder.setArrayConsumers(new ArrayConsumers().put("DataValues", DataValue.class, streamed::add));
+
+        HistoryReadResponse response = decoder.decodeMessage(null);
+        HistoryData historyData = response.getResults()[0].getHistoryData().decode();
+
+        assertEquals(historyData.getDataValues().length, 0);
+        assertEquals(streamed.size(), dataValues.length);
+        for (int i = 0; i < dataValues.length; i++) {
+            assertEquals(streamed.get(i).getValue(), dataValues[i].getValue());
+        }
+    }
+
+}
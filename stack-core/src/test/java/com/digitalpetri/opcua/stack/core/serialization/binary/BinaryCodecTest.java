@@ -0,0 +1,179 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.NotificationMessage;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+public class BinaryCodecTest extends BinarySerializationFixture {
+
+    private static final ResponseHeader RESPONSE_HEADER = new ResponseHeader(
+            DateTime.now(), uint(1), StatusCode.GOOD, null, new String[0], null);
+
+    @DataProvider
+    public Object[][] getMessages() {
+        ReadValueId[] nodesToRead = new ReadValueId[10];
+        for (int i = 0; i < nodesToRead.length; i++) {
+            nodesToRead[i] = new ReadValueId(new NodeId(2, "Tag" + i), uint(13), null, QualifiedName.NULL_VALUE);
+        }
+
+        ReadRequest readRequest = new ReadRequest(
+                new RequestHeader(NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(0), null),
+                0.0, TimestampsToReturn.Both, nodesToRead);
+
+        DataValue[] values = new DataValue[10];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new DataValue(new Variant(i));
+        }
+
+        ReadResponse readResponse = new ReadResponse(RESPONSE_HEADER, values, new DiagnosticInfo[0]);
+
+        MonitoredItemNotification[] items = new MonitoredItemNotification[10];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new MonitoredItemNotification(uint(i), values[i]);
+        }
+
+        NotificationMessage notificationMessage = new NotificationMessage(
+                uint(42), DateTime.now(),
+                new ExtensionObject[]{ExtensionObject.encode(new DataChangeNotification(items, null))});
+
+        PublishResponse publishResponse = new PublishResponse(
+                RESPONSE_HEADER, uint(1), new UInteger[]{uint(40), uint(41)}, false,
+                notificationMessage, new StatusCode[]{StatusCode.GOOD}, null);
+
+        ReferenceDescription[] references = new ReferenceDescription[10];
+        for (int i = 0; i < references.length; i++) {
+            references[i] = new ReferenceDescription(
+                    new NodeId(0, 35), true, new ExpandedNodeId(new NodeId(2, "Tag" + i)),
+                    new QualifiedName(2, "Tag" + i), LocalizedText.english("Tag" + i),
+                    NodeClass.Variable, new ExpandedNodeId(new NodeId(0, 63)));
+        }
+
+        BrowseResponse browseResponse = new BrowseResponse(
+                RESPONSE_HEADER,
+                new BrowseResult[]{new BrowseResult(StatusCode.GOOD, ByteString.NULL_VALUE, references)},
+                null);
+
+        return new Object[][]{
+                {readRequest},
+                {new ReadRequest()},
+                {readResponse},
+                {publishResponse},
+                {browseResponse}
+        };
+    }
+
+    @Test(dataProvider = "getMessages", description = "Binary codecs produce the same bytes as the generic encoding.")
+    public void testCodecMatchesGenericEncoding(UaStructure message) throws Exception {
+        assertEquals(codecEncoding(message), genericEncoding(message));
+
+        encoder.encodeSerializable(null, message);
+        UaStructure decoded = (UaStructure) decoder.decodeSerializable(null, message.getClass());
+        assertEquals(buffer.readableBytes(), 0);
+
+        assertEquals(codecEncoding(decoded), genericEncoding(decoded));
+    }
+
+    @Test(dataProvider = "getMessages", description = "Generated sizers compute the size the codecs encode.")
+    public void testSizerMatchesCodec(UaStructure message) {
+        assertNotNull(BinaryDelegateRegistry.getSizer(message.getClass()));
+
+        encoder.encodeSerializable(null, message);
+
+        BinarySizeEncoder sizeEncoder = new BinarySizeEncoder();
+        sizeEncoder.encodeSerializable(null, message);
+
+        assertEquals(sizeEncoder.getSize(), buffer.readableBytes());
+    }
+
+    @Test(description = "Codecs are used for top-level messages and stream registered array fields.")
+    public void testStreamedArrayThroughCodec() {
+        MonitoredItemNotification[] items = new MonitoredItemNotification[50];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new MonitoredItemNotification(uint(i), new DataValue(new Variant(i)));
+        }
+
+        encoder.encodeMessage(null, new DataChangeNotification(items, new DiagnosticInfo[0]));
+
+        List<MonitoredItemNotification> streamed = new ArrayList<>();
+        decoder.setArrayConsumers(
+                new ArrayConsumers().put("MonitoredItems", MonitoredItemNotification.class, streamed::add));
+
+        DataChangeNotification notification = decoder.decodeMessage(null);
+
+        assertEquals(notification.getMonitoredItems().length, 0);
+        assertEquals(streamed.size(), items.length);
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(streamed.get(i).getClientHandle(), items[i].getClientHandle());
+            assertEquals(streamed.get(i).getValue().getValue(), items[i].getValue().getValue());
+        }
+    }
+
+    @Test(description = "Each message type resolves to its generated codec.")
+    public void testCodecsRegistered() {
+        assertNotNull(BinaryDelegateRegistry.getEncoder(ReadRequest.class));
+        assertNotNull(BinaryDelegateRegistry.getDecoder(ReadRequest.BinaryEncodingId));
+        assertNotNull(BinaryDelegateRegistry.getEncoder(ReadResponse.class));
+        assertNotNull(BinaryDelegateRegistry.getDecoder(ReadResponse.BinaryEncodingId));
+        assertNotNull(BinaryDelegateRegistry.getEncoder(PublishResponse.class));
+        assertNotNull(BinaryDelegateRegistry.getDecoder(PublishResponse.BinaryEncodingId));
+        assertNotNull(BinaryDelegateRegistry.getEncoder(BrowseResponse.class));
+        assertNotNull(BinaryDelegateRegistry.getDecoder(BrowseResponse.BinaryEncodingId));
+    }
+
+    private static String codecEncoding(UaStructure message) {
+        ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+
+        new BinaryEncoder().setBuffer(buffer).encodeSerializable(null, message);
+
+        return ByteBufUtil.hexDump(buffer);
+    }
+
+    private static String genericEncoding(UaStructure message) throws Exception {
+        ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+
+        message.getClass()
+                .getMethod("encode", message.getClass(), UaEncoder.class)
+                .invoke(null, message, new BinaryEncoder().setBuffer(buffer));
+
+        return ByteBufUtil.hexDump(buffer);
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteOrder;
+import java.util.UUID;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.enumerated.ServerState;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceCounterDataType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class BinarySizeEncoderTest extends BinarySerializationFixture {
+
+    @DataProvider
+    public Object[][] getVariants() {
+        return new Object[][]{
+                {Variant.NULL_VALUE},
+                {new Variant(42)},
+                {new Variant("Grüße, €uro 😀")},
+                {new Variant(new NodeId(0, 1))},
+                {new Variant(new NodeId(2, 1000))},
+                {new Variant(new NodeId(300, 100000))},
+                {new Variant(new NodeId(1, "foo"))},
+                {new Variant(new NodeId(1, UUID.randomUUID()))},
+                {new Variant(new NodeId(1, ByteString.of(new byte[]{1, 2, 3})))},
+                {new Variant(new ExpandedNodeId(1, "foo", "urn:bar", 2))},
+                {new Variant(new QualifiedName(1, "name"))},
+                {new Variant(new LocalizedText("en", "text"))},
+                {new Variant(LocalizedText.NULL_VALUE)},
+                {new Variant(ByteString.of(new byte[16]))},
+                {new Variant(XmlElement.of("<a>hello</a>"))},
+                {new Variant(new double[]{1.0, 2.0, 3.0})},
+                {new Variant(new String[]{"a", null, "ccc"})},
+                {new Variant(new Integer[][]{{1, 2}, {3, 4}})},
+                {new Variant(ServerState.Running)},
+                {new Variant(new ServerState[]{ServerState.Running, ServerState.Failed})},
+                {new Variant(new ServiceCounterDataType(uint(1), uint(2)))},
+                {new Variant(new ServiceCounterDataType[]{new ServiceCounterDataType(uint(1), uint(2))})},
+                {new Variant(ExtensionObject.encode(new ServiceCounterDataType(uint(1), uint(2))))},
+                {new Variant(new ExtensionObject(XmlElement.of("<a/>"), new NodeId(1, 2)))},
+                {new Variant(new StatusCode(StatusCodes.Bad_UnexpectedError))}
+        };
+    }
+
+    @Test(dataProvider = "getVariants", description = "Computed size of a Variant equals its encoded size.")
+    public void testVariantSize(Variant variant) {
+        encoder.encodeVariant(null, variant);
+
+        BinarySizeEncoder sizeEncoder = new BinarySizeEncoder();
+        sizeEncoder.encodeVariant(null, variant);
+
+        assertEquals(sizeEncoder.getSize(), buffer.readableBytes());
+    }
+
+    @Test(description = "Computed size of a message equals its encoded size.")
+    public void testMessageSize() {
+        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(1, 2, -1, 3, "additional",
+                StatusCode.BAD, new DiagnosticInfo(-1, -1, -1, -1, null, null, null));
+
+        ResponseHeader header = new ResponseHeader(
+                DateTime.now(), uint(1), StatusCode.GOOD, diagnosticInfo, new String[]{"a", "b"}, null);
+
+        DataValue[] results = {
+                new DataValue(new Variant("hello")),
+                new DataValue(StatusCode.BAD),
+                new DataValue(Variant.NULL_VALUE, StatusCode.GOOD, null, null),
+                new DataValue(new Variant(new float[1024]))
+        };
+
+        ReadResponse response = new ReadResponse(header, results, new DiagnosticInfo[]{diagnosticInfo, null});
+
+        encoder.encodeMessage(null, response);
+
+        assertEquals(BinarySizeEncoder.encodedSize(response), buffer.readableBytes());
+    }
+
+    @Test(description = "Bounded size is exact up to the limit and past the limit beyond it.")
+    public void testMessageSizeLimit() {
+        DataValue[] results = new DataValue[1024];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = new DataValue(new Variant("value " + i));
+        }
+
+        ResponseHeader header = new ResponseHeader(DateTime.now(), uint(1), StatusCode.GOOD, null, null, null);
+        ReadResponse response = new ReadResponse(header, results, null);
+
+        int size = BinarySizeEncoder.encodedSize(response);
+
+        assertEquals(BinarySizeEncoder.encodedSize(response, size), size);
+        assertTrue(BinarySizeEncoder.encodedSize(response, size - 1) > size - 1);
+        assertTrue(BinarySizeEncoder.encodedSize(response, 64) > 64);
+    }
+
+    @Test(description = "A buffer allocated at the computed size holds the whole message without growing.")
+    public void testPresizedBuffer() {
+        DataValue[] results = new DataValue[16384];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = new DataValue(
+                    new Variant(ByteString.of(new byte[48])), StatusCode.GOOD, DateTime.now(), DateTime.now());
+        }
+
+        ResponseHeader header = new ResponseHeader(DateTime.now(), uint(1), StatusCode.GOOD, null, null, null);
+        ReadResponse response = new ReadResponse(header, results, null);
+
+        int size = BinarySizeEncoder.encodedSize(response);
+        assertTrue(size > 1024 * 1024);
+
+        ByteBuf messageBuffer = Unpooled.buffer(size).order(ByteOrder.LITTLE_ENDIAN);
+        new BinaryEncoder().setBuffer(messageBuffer).encodeMessage(null, response);
+
+        assertEquals(messageBuffer.capacity(), size);
+        assertEquals(messageBuffer.writerIndex(), size);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteOrder;
+
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ByteStringSerializationTest extends BinarySerializationFixture {
+
+    @Test
+    public void testByteStringRoundTrip() {
+        ByteString bs = ByteString.of(new byte[]{1, 2, 3, 4});
+
+        encoder.encodeByteString(null, bs);
+        encoder.encodeByteString(null, ByteString.NULL_VALUE);
+
+        assertEquals(decoder.decodeByteString(null), bs);
+        assertTrue(decoder.decodeByteString(null).isNull());
+    }
+
+    @Test(description = "ByteStrings above the threshold are slices of the message buffer and keep it alive until released.")
+    public void testSlicedByteString() {
+        ByteBuf message = PooledByteBufAllocator.DEFAULT.buffer().order(ByteOrder.LITTLE_ENDIAN);
+
+        new BinaryEncoder().setBuffer(message)
+                .encodeByteString(null, ByteString.of(new byte[]{1, 2}));
+        new BinaryEncoder().setBuffer(message)
+                .encodeByteString(null, ByteString.of(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+
+        BinaryDecoder decoder = new BinaryDecoder().setBuffer(message).setByteStringSliceThreshold(4);
+
+        ByteString small = decoder.decodeByteString(null);
+        ByteString large = decoder.decodeByteString(null);
+
+        assertFalse(small.isBuffered());
+        assertTrue(large.isBuffered());
+        assertEquals(large, ByteString.of(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+        assertEquals(large.hashCode(), ByteString.of(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}).hashCode());
+
+        // the owner releases its reference; the sliced ByteString still holds one
+        assertFalse(message.release());
+        assertEquals(large.byteAt(7), 8);
+
+        // re-encoding copies straight from the slice
+        encoder.encodeByteString(null, large);
+        assertEquals(this.decoder.decodeByteString(null), large);
+
+        assertTrue(large.release());
+        assertEquals(message.refCnt(), 0);
+    }
+
+}
@@ -3,11 +3,16 @@ package com.digitalpetri.opcua.stack.core.serialization.binary;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
 import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceCounterDataType;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 public class ExtensionObjectSerializationTest extends BinarySerializationFixture {
 
@@ -27,4 +32,48 @@ public class ExtensionObjectSerializationTest extends BinarySerializationFixture
         assertEquals(decoded, xo);
     }
 
+    @Test(description = "A structure held by an ExtensionObject is encoded inline, identically to an eagerly encoded body.")
+    public void testPendingStructureEncodedInline() throws Exception {
+        ServiceCounterDataType structure = new ServiceCounterDataType(uint(1), uint(2));
+
+        ExtensionObject pending = ExtensionObject.encode(structure);
+        assertTrue(pending.isPendingEncoding());
+
+        ExtensionObject eager = ExtensionObject.encodeAsByteString(structure, structure.getBinaryEncodingId());
+        assertFalse(eager.isPendingEncoding());
+
+        encoder.encodeExtensionObject(null, pending);
+        byte[] inline = new byte[buffer.readableBytes()];
+        buffer.getBytes(buffer.readerIndex(), inline);
+
+        ExtensionObject decoded = decoder.decodeExtensionObject(null);
+        assertEquals(decoded, eager);
+        assertTrue(pending.isPendingEncoding());
+
+        buffer.clear();
+        encoder.encodeExtensionObject(null, eager);
+        byte[] copied = new byte[buffer.readableBytes()];
+        buffer.readBytes(copied);
+        assertEquals(inline, copied);
+
+        ServiceCounterDataType sc = decoded.decode();
+        assertEquals(sc.getTotalCount(), structure.getTotalCount());
+        assertEquals(sc.getErrorCount(), structure.getErrorCount());
+    }
+
+    @Test(description = "Variant arrays of structures round-trip.")
+    public void testStructureArrayVariant() {
+        ServiceCounterDataType[] structures = {
+                new ServiceCounterDataType(uint(1), uint(2)),
+                new ServiceCounterDataType(uint(3), uint(4))
+        };
+
+        encoder.encodeVariant(null, new Variant(structures));
+        Variant decoded = decoder.decodeVariant(null);
+
+        ExtensionObject[] xos = (ExtensionObject[]) decoded.getValue();
+        assertEquals(xos.length, 2);
+        assertEquals(xos[1], ExtensionObject.encode(structures[1]));
+    }
+
 }
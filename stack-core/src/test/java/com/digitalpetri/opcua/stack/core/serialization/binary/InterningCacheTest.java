@@ -0,0 +1,87 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import com.digitalpetri.opcua.stack.core.Identifiers;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+public class InterningCacheTest extends BinarySerializationFixture {
+
+    private InterningCache cache;
+
+    @BeforeMethod
+    public void setUpCache() {
+        cache = new InterningCache(1024);
+        decoder.setInterningCache(cache);
+    }
+
+    @Test(description = "Decoding a repeated ReadRequest returns the same NodeId and QualifiedName instances.")
+    public void testRepeatedReadRequest() {
+        ReadValueId[] nodesToRead = new ReadValueId[100];
+        for (int i = 0; i < nodesToRead.length; i++) {
+            NodeId nodeId = i % 2 == 0 ? new NodeId(2, "Tag" + i) : new NodeId(3, 100000 + i);
+
+            nodesToRead[i] = new ReadValueId(nodeId, uint(13), null, new QualifiedName(0, "Default Binary"));
+        }
+
+        RequestHeader header = new RequestHeader(
+                new NodeId(0, 12345), DateTime.now(), uint(1), uint(0), null, uint(0), null);
+
+        ReadRequest request = new ReadRequest(header, 0.0, TimestampsToReturn.Both, nodesToRead);
+
+        encoder.encodeMessage(null, request);
+        buffer.markReaderIndex();
+        ReadRequest first = decoder.decodeMessage(null);
+
+        cache.resetStatistics();
+        buffer.resetReaderIndex();
+        ReadRequest second = decoder.decodeMessage(null);
+
+        assertEquals(cache.getMisses(), 0L);
+        assertEquals(cache.getHitRate(), 1.0);
+
+        for (int i = 0; i < nodesToRead.length; i++) {
+            ReadValueId a = first.getNodesToRead()[i];
+            ReadValueId b = second.getNodesToRead()[i];
+
+            assertEquals(b.getNodeId(), nodesToRead[i].getNodeId());
+            assertEquals(b.getDataEncoding(), nodesToRead[i].getDataEncoding());
+            assertSame(b.getNodeId(), a.getNodeId());
+            assertSame(b.getDataEncoding(), a.getDataEncoding());
+        }
+    }
+
+    @Test(description = "Namespace 0 Identifiers are pre-seeded.")
+    public void testIdentifiersPreSeeded() {
+        encoder.encodeNodeId(null, Identifiers.Int32);
+        encoder.encodeNodeId(null, Identifiers.ReadRequest_Encoding_DefaultBinary);
+
+        assertSame(decoder.decodeNodeId(null), Identifiers.Int32);
+        assertSame(decoder.decodeNodeId(null), Identifiers.ReadRequest_Encoding_DefaultBinary);
+        assertEquals(cache.getMisses(), 0L);
+    }
+
+    @Test(description = "Colliding and non-ASCII values decode correctly.")
+    public void testCollisions() {
+        for (int i = 0; i < 4096; i++) {
+            encoder.encodeNodeId(null, new NodeId(i % 7, i));
+            encoder.encodeString(null, "s€" + i);
+        }
+
+        for (int i = 0; i < 4096; i++) {
+            assertEquals(decoder.decodeNodeId(null), new NodeId(i % 7, i));
+            assertEquals(decoder.decodeString(null), "s€" + i);
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+
+public class PrimitiveSerializationTest extends BinarySerializationFixture {
+
+    @Test
+    public void testSignedRoundTrip() {
+        encoder.writeBoolean(null, true);
+        encoder.writeSByte(null, Byte.MIN_VALUE);
+        encoder.writeInt16(null, Short.MIN_VALUE);
+        encoder.writeInt32(null, Integer.MIN_VALUE);
+        encoder.writeInt64(null, Long.MIN_VALUE);
+        encoder.writeFloat(null, Float.MAX_VALUE);
+        encoder.writeDouble(null, Double.MAX_VALUE);
+
+        assertEquals(decoder.readBoolean(null), true);
+        assertEquals(decoder.readSByte(null), Byte.MIN_VALUE);
+        assertEquals(decoder.readInt16(null), Short.MIN_VALUE);
+        assertEquals(decoder.readInt32(null), Integer.MIN_VALUE);
+        assertEquals(decoder.readInt64(null), Long.MIN_VALUE);
+        assertEquals(decoder.readFloat(null), Float.MAX_VALUE);
+        assertEquals(decoder.readDouble(null), Double.MAX_VALUE);
+    }
+
+    @Test
+    public void testUnsignedRoundTrip() {
+        encoder.writeByte(null, 0xFF);
+        encoder.writeUInt16(null, 0xFFFF);
+        encoder.writeUInt32(null, 0xFFFFFFFFL);
+        encoder.writeUInt64(null, 0xFFFFFFFFFFFFFFFFL);
+
+        assertEquals(decoder.readByte(null), 0xFF);
+        assertEquals(decoder.readUInt16(null), 0xFFFF);
+        assertEquals(decoder.readUInt32(null), 0xFFFFFFFFL);
+        assertEquals(decoder.readUInt64(null), 0xFFFFFFFFFFFFFFFFL);
+    }
+
+    @Test(description = "Values written through the primitive API decode identically through the boxed API.")
+    public void testPrimitiveAndBoxedAreWireCompatible() {
+        encoder.writeByte(null, 0xFF);
+        encoder.writeUInt16(null, 0xFFFF);
+        encoder.writeUInt32(null, 0xFFFFFFFFL);
+        encoder.writeUInt64(null, -1L);
+
+        assertEquals(decoder.decodeByte(null), ubyte(0xFF));
+        assertEquals(decoder.decodeUInt16(null), ushort(0xFFFF));
+        assertEquals(decoder.decodeUInt32(null), uint(0xFFFFFFFFL));
+        assertEquals(decoder.decodeUInt64(null), ulong(-1L));
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.digitalpetri.opcua.stack.core.serialization.binary;
 
+import java.nio.charset.StandardCharsets;
+
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -13,7 +15,10 @@ public class StringSerializationTest extends BinarySerializationFixture {
                 {null},
                 {""},
                 {"Hello, world!"},
-                {"水Boy"}
+                {"水Boy"},
+                {"Grüße, €uro"},
+                {"😀 smile"},
+                {new String(new char[1000]).replace('\0', 'x')}
         };
     }
 
@@ -25,4 +30,29 @@ public class StringSerializationTest extends BinarySerializationFixture {
         assertEquals(decoded, value);
     }
 
+    @Test(dataProvider = "StringProvider", description = "Encoded bytes are identical to String.getBytes(UTF_8).")
+    public void testStringEncodingMatchesJdk(String value) {
+        if (value == null) return;
+
+        encoder.encodeString(null, value);
+
+        byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+        assertEquals(buffer.readInt(), expected.length);
+
+        byte[] actual = new byte[buffer.readableBytes()];
+        buffer.readBytes(actual);
+        assertEquals(actual, expected);
+    }
+
+    @Test(description = "Unpaired surrogates encode as '?' and malformed input decodes like the JDK decoder.")
+    public void testMalformedInput() {
+        encoder.encodeString(null, "a\uD800b");
+        assertEquals(decoder.decodeString(null), "a?b");
+
+        byte[] malformed = {'a', (byte) 0xC3, 'b', (byte) 0xFF};
+        buffer.writeInt(malformed.length);
+        buffer.writeBytes(malformed);
+        assertEquals(decoder.decodeString(null), new String(malformed, StandardCharsets.UTF_8));
+    }
+
 }
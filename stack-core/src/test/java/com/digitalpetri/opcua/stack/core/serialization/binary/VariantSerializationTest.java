@@ -1,10 +1,15 @@
 package com.digitalpetri.opcua.stack.core.serialization.binary;
 
+import java.nio.ByteOrder;
+
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned;
 import com.digitalpetri.opcua.stack.core.types.structured.ServiceCounterDataType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -78,4 +83,59 @@ public class VariantSerializationTest extends BinarySerializationFixture {
         assertEquals(decoded, expected);
     }
 
+    @DataProvider(name = "PrimitiveArrayProvider")
+    public Object[][] getPrimitiveArrays() {
+        return new Object[][]{
+                {new boolean[]{true, false, true}, new Boolean[]{true, false, true}},
+                {new byte[]{-1, 0, 1}, new Byte[]{-1, 0, 1}},
+                {new short[]{-1, 0, 1}, new Short[]{-1, 0, 1}},
+                {new int[]{-1, 0, 1}, new Integer[]{-1, 0, 1}},
+                {new long[]{-1L, 0L, 1L}, new Long[]{-1L, 0L, 1L}},
+                {new float[]{-1.5f, 0f, 1.5f}, new Float[]{-1.5f, 0f, 1.5f}},
+                {new double[]{-1.5d, 0d, 1.5d}, new Double[]{-1.5d, 0d, 1.5d}},
+                {new double[][]{{0d, 1d}, {2d, 3d}}, new Double[][]{{0d, 1d}, {2d, 3d}}}
+        };
+    }
+
+    @Test(dataProvider = "PrimitiveArrayProvider",
+            description = "Primitive arrays encode identically to their boxed equivalents.")
+    public void testPrimitiveArrayWireCompatible(Object primitive, Object boxed) {
+        encoder.encodeVariant(null, new Variant(primitive));
+        byte[] primitiveBytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(primitiveBytes);
+
+        buffer.clear();
+        encoder.encodeVariant(null, new Variant(boxed));
+        byte[] boxedBytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(boxedBytes);
+
+        assertEquals(primitiveBytes, boxedBytes);
+    }
+
+    @Test(dataProvider = "PrimitiveArrayProvider",
+            description = "With primitive arrays enabled the decoder produces primitive arrays.")
+    public void testPrimitiveArrayDecoding(Object primitive, Object boxed) {
+        decoder.setPrimitiveArrays(true);
+
+        encoder.encodeVariant(null, new Variant(boxed));
+        Variant decoded = decoder.decodeVariant(null);
+
+        assertEquals(decoded, new Variant(primitive));
+    }
+
+    @Test(description = "Primitive arrays encode correctly into buffers without a single backing NIO buffer.")
+    public void testPrimitiveArrayCompositeBuffer() {
+        CompositeByteBuf composite = Unpooled.compositeBuffer();
+        composite.addComponent(Unpooled.wrappedBuffer(new byte[8]));
+        composite.addComponent(Unpooled.wrappedBuffer(new byte[64]));
+        ByteBuf buffer = composite.order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(buffer.nioBufferCount(), 2);
+
+        double[] values = {1d, 2d, 3d, 4d};
+        new BinaryEncoder().setBuffer(buffer).encodeVariant(null, new Variant(values));
+        Variant decoded = new BinaryDecoder().setBuffer(buffer).setPrimitiveArrays(true).decodeVariant(null);
+
+        assertEquals(decoded, new Variant(values));
+    }
+
 }
@@ -1,7 +1,10 @@
 package com.digitalpetri.opcua.stack.core.serialization.binary;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
 
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
 import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -24,4 +27,39 @@ public class XmlElementSerializationTest extends BinarySerializationFixture {
         assertEquals(decoded, element);
     }
 
+    @Test(description = "A length prefix larger than the readable bytes is rejected before anything is allocated for it.")
+    public void testLengthExceedsReadableBytes() {
+        buffer.writeInt(Integer.MAX_VALUE - 1);
+        buffer.writeBytes("<tag/>".getBytes());
+
+        assertDecodeFails(new BinaryDecoder(Integer.MAX_VALUE, Integer.MAX_VALUE), StatusCodes.Bad_DecodingError);
+    }
+
+    @Test(description = "XmlElement is subject to the same maximum length as String.")
+    public void testMaxStringLength() {
+        encoder.encodeXmlElement(null, new XmlElement("<tag>hello, world</tag>"));
+
+        assertDecodeFails(new BinaryDecoder(Integer.MAX_VALUE, 8), StatusCodes.Bad_EncodingLimitsExceeded);
+    }
+
+    @Test(description = "Values larger than the retained scratch space still decode.")
+    public void testLargeXmlElement() {
+        XmlElement element = new XmlElement("<tag>" + new String(new char[30000]).replace('\0', 'x') + "</tag>");
+
+        encoder.encodeXmlElement(null, element);
+        encoder.encodeXmlElement(null, element);
+
+        assertEquals(decoder.decodeXmlElement(null), element);
+        assertEquals(decoder.decodeXmlElement(null), element);
+    }
+
+    private void assertDecodeFails(BinaryDecoder decoder, long statusCode) {
+        try {
+            decoder.setBuffer(buffer).decodeXmlElement(null);
+            fail("expected UaSerializationException");
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), statusCode);
+        }
+    }
+
 }
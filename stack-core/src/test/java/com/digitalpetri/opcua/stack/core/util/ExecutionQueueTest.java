@@ -0,0 +1,175 @@
+package com.digitalpetri.opcua.stack.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ExecutionQueueTest {
+
+    @Test
+    public void testBatchesInSubmissionOrder() throws Exception {
+        AtomicInteger scheduled = new AtomicInteger();
+        ExecutorService executor = countingExecutor(scheduled);
+
+        try {
+            ExecutionQueue queue = new ExecutionQueue(executor, 64, 1, TimeUnit.MINUTES);
+
+            List<Integer> executed = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(200);
+
+            queue.pause();
+
+            for (int i = 0; i < 200; i++) {
+                int n = i;
+                queue.submit(() -> {
+                    executed.add(n);
+                    done.countDown();
+                });
+            }
+
+            assertEquals(scheduled.get(), 0);
+
+            queue.resume();
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 200; i++) expected.add(i);
+
+            assertEquals(executed, expected);
+
+            // 64 + 64 + 64 + 8
+            assertEquals(scheduled.get(), 4);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSubmitToHead() throws Exception {
+        ExecutorService executor = countingExecutor(new AtomicInteger());
+
+        try {
+            ExecutionQueue queue = new ExecutionQueue(executor);
+
+            List<String> executed = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(3);
+
+            queue.pause();
+            queue.submit(record(executed, "a", done));
+            queue.submit(record(executed, "b", done));
+            queue.submitToHead(record(executed, "c", done));
+            queue.resume();
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(executed.toArray(), new String[]{"c", "a", "b"});
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPauseFromRunningTask() throws Exception {
+        ExecutorService executor = countingExecutor(new AtomicInteger());
+
+        try {
+            ExecutionQueue queue = new ExecutionQueue(executor);
+
+            List<String> executed = new CopyOnWriteArrayList<>();
+            CountDownLatch paused = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(1);
+
+            queue.submit(() -> {
+                queue.pause();
+                executed.add("pause");
+                paused.countDown();
+            });
+            queue.submit(record(executed, "after", done));
+
+            assertTrue(paused.await(5, TimeUnit.SECONDS));
+            assertFalse(done.await(100, TimeUnit.MILLISECONDS));
+
+            queue.resume();
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(executed.toArray(), new String[]{"pause", "after"});
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExecuteOrSubmitWhenIdle() throws Exception {
+        AtomicInteger scheduled = new AtomicInteger();
+        ExecutorService executor = countingExecutor(scheduled);
+
+        try {
+            ExecutionQueue queue = new ExecutionQueue(executor);
+
+            List<Thread> threads = new ArrayList<>();
+            queue.executeOrSubmit(() -> threads.add(Thread.currentThread()));
+
+            assertEquals(threads.size(), 1);
+            assertEquals(threads.get(0), Thread.currentThread());
+            assertEquals(scheduled.get(), 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExecuteOrSubmitKeepsOrder() throws Exception {
+        ExecutorService executor = countingExecutor(new AtomicInteger());
+
+        try {
+            ExecutionQueue queue = new ExecutionQueue(executor);
+
+            List<String> executed = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(3);
+
+            queue.pause();
+            queue.submit(record(executed, "a", done));
+            queue.executeOrSubmit(record(executed, "b", done));
+
+            assertTrue(executed.isEmpty());
+
+            queue.resume();
+            queue.executeOrSubmit(record(executed, "c", done));
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(executed.toArray(), new String[]{"a", "b", "c"});
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ExecutorService countingExecutor(AtomicInteger scheduled) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable command) {
+                scheduled.incrementAndGet();
+                super.execute(command);
+            }
+        };
+    }
+
+    private static Runnable record(List<String> executed, String name, CountDownLatch done) {
+        return () -> {
+            executed.add(name);
+            done.countDown();
+        };
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.digitalpetri.opcua.stack.core.util;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class NonceUtilTest {
+
+    @Test
+    public void testPooledNoncesAreNotReused() {
+        Set<ByteString> nonces = new HashSet<>();
+
+        // More than the pool holds, so some come from a refill or are generated on demand.
+        for (int i = 0; i < 1000; i++) {
+            ByteString nonce = NonceUtil.generateNonce(32);
+
+            assertEquals(nonce.length(), 32);
+            assertTrue(nonces.add(nonce));
+        }
+    }
+
+    @Test
+    public void testZeroLength() {
+        assertEquals(NonceUtil.generateNonce(0), ByteString.NULL_VALUE);
+    }
+
+}
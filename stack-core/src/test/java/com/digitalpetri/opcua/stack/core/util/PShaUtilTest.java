@@ -0,0 +1,84 @@
+package com.digitalpetri.opcua.stack.core.util;
+
+import java.util.Arrays;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class PShaUtilTest {
+
+    private static final byte[] SECRET = "client-nonce-bytes-0123456789ab".getBytes();
+    private static final byte[] SEED = "server-nonce-bytes-0123456789ab".getBytes();
+
+    @DataProvider(name = "lengths")
+    public Object[][] getLengths() {
+        return new Object[][]{
+                {new int[]{16, 16, 16}},
+                {new int[]{24, 32, 16}},
+                {new int[]{32, 32, 16}}
+        };
+    }
+
+    @Test(dataProvider = "lengths")
+    public void testPSha1KeysMatchReference(int[] lengths) throws Exception {
+        byte[][] keys = PShaUtil.createPSha1Keys(SECRET, SEED, lengths);
+        byte[] expected = referencePHash("HmacSHA1", SECRET, SEED, sum(lengths));
+
+        int offset = 0;
+        for (int i = 0; i < lengths.length; i++) {
+            assertEquals(keys[i], Arrays.copyOfRange(expected, offset, offset + lengths[i]));
+            assertEquals(PShaUtil.createPSha1Key(SECRET, SEED, offset, lengths[i]), keys[i]);
+            offset += lengths[i];
+        }
+    }
+
+    @Test(dataProvider = "lengths")
+    public void testPSha256KeysMatchReference(int[] lengths) throws Exception {
+        byte[][] keys = PShaUtil.createPSha256Keys(SECRET, SEED, lengths);
+        byte[] expected = referencePHash("HmacSHA256", SECRET, SEED, sum(lengths));
+
+        int offset = 0;
+        for (int i = 0; i < lengths.length; i++) {
+            assertEquals(keys[i], Arrays.copyOfRange(expected, offset, offset + lengths[i]));
+            assertEquals(PShaUtil.createPSha256Key(SECRET, SEED, offset, lengths[i]), keys[i]);
+            offset += lengths[i];
+        }
+    }
+
+    /**
+     * P_hash as written in RFC 2246, with a fresh {@link Mac} for every HMAC.
+     */
+    private static byte[] referencePHash(String algorithm, byte[] secret, byte[] seed, int length) throws Exception {
+        byte[] out = new byte[0];
+        byte[] a = seed;
+
+        while (out.length < length) {
+            a = hmac(algorithm, secret, a);
+            byte[] block = hmac(algorithm, secret, concat(a, seed));
+            out = concat(out, block);
+        }
+
+        return Arrays.copyOf(out, length);
+    }
+
+    private static byte[] hmac(String algorithm, byte[] secret, byte[] data) throws Exception {
+        Mac mac = Mac.getInstance(algorithm);
+        mac.init(new SecretKeySpec(secret, algorithm));
+        return mac.doFinal(data);
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] c = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, c, a.length, b.length);
+        return c;
+    }
+
+    private static int sum(int[] lengths) {
+        return Arrays.stream(lengths).sum();
+    }
+
+}
@@ -14,6 +14,7 @@ import com.digitalpetri.opcua.stack.core.StatusCodes;
 import com.digitalpetri.opcua.stack.core.UaException;
 import com.digitalpetri.opcua.stack.core.application.CertificateManager;
 import com.digitalpetri.opcua.stack.core.channel.ChannelSecurity;
+import com.digitalpetri.opcua.stack.core.channel.ChunkDecoder;
 import com.digitalpetri.opcua.stack.core.channel.ExceptionHandler;
 import com.digitalpetri.opcua.stack.core.channel.SerializationQueue;
 import com.digitalpetri.opcua.stack.core.channel.ServerSecureChannel;
@@ -23,6 +24,7 @@ import com.digitalpetri.opcua.stack.core.channel.messages.ErrorMessage;
 import com.digitalpetri.opcua.stack.core.channel.messages.MessageType;
 import com.digitalpetri.opcua.stack.core.security.SecurityAlgorithm;
 import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
@@ -34,6 +36,7 @@ import com.digitalpetri.opcua.stack.core.types.structured.OpenSecureChannelRespo
 import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
 import com.digitalpetri.opcua.stack.core.util.BufferUtil;
 import com.digitalpetri.opcua.stack.core.util.CertificateValidator;
+import com.digitalpetri.opcua.stack.server.tcp.HandshakeExecutor;
 import com.digitalpetri.opcua.stack.server.tcp.UaTcpStackServer;
 import com.google.common.collect.Lists;
 import io.netty.buffer.ByteBuf;
@@ -172,27 +175,6 @@ public class UaTcpServerAsymmetricHandler extends ByteToMessageDecoder implement
 
             if (!securityHeader.getSenderCertificate().isNull() && securityPolicy != SecurityPolicy.None) {
                 secureChannel.setRemoteCertificate(securityHeader.getSenderCertificate().bytes());
-
-                CertificateValidator validator = new CertificateValidator(
-                        server.getCertificateManager().getTrustList(),
-                        server.getCertificateManager().getAuthorityList());
-
-                try {
-                    validator.validateTrustChain(
-                            secureChannel.getRemoteCertificate(),
-                            secureChannel.getRemoteCertificateChain());
-                } catch (UaException e) {
-                    try {
-                        server.getCertificateManager().certificateRejected(secureChannel.getRemoteCertificate());
-
-                        UaException cause = new UaException(e.getStatusCode(), "security checks failed");
-                        ErrorMessage errorMessage = ExceptionHandler.sendErrorMessage(ctx, cause);
-
-                        logger.debug("[remote={}] {}.",
-                                ctx.channel().remoteAddress(), errorMessage.getReason(), cause);
-                    } catch (Exception ignored) {
-                    }
-                }
             }
 
             if (!securityHeader.getReceiverThumbprint().isNull()) {
@@ -233,39 +215,126 @@ public class UaTcpServerAsymmetricHandler extends ByteToMessageDecoder implement
                 chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
                 headerRef.set(null);
 
+                boolean renewal = secureChannelId != 0;
+
                 serializationQueue.decode((binaryDecoder, chunkDecoder) -> {
-                    ByteBuf messageBuffer = null;
-
-                    try {
-                        messageBuffer = chunkDecoder.decodeAsymmetric(
-                                secureChannel,
-                                MessageType.OpenSecureChannel,
-                                buffersToDecode
-                        );
-
-                        OpenSecureChannelRequest request = binaryDecoder
-                                .setBuffer(messageBuffer)
-                                .decodeMessage(null);
-
-                        logger.debug("Received OpenSecureChannelRequest ({}, id={}).",
-                                request.getRequestType(), secureChannelId);
-
-                        long requestId = chunkDecoder.getRequestId();
-                        installSecurityToken(ctx, request, requestId);
-                    } catch (UaException e) {
-                        logger.error("Error decoding asymmetric message: {}", e.getMessage(), e);
-                        ctx.close();
-                    } finally {
-                        if (messageBuffer != null) {
-                            messageBuffer.release();
+                    // Later decodes wait until the handshake, which uses this channel's decoders, is done.
+                    serializationQueue.pauseDecoding();
+
+                    boolean admitted = server.getHandshakeExecutor().execute(renewal, () -> {
+                        try {
+                            handshake(ctx, binaryDecoder, chunkDecoder, buffersToDecode, secureChannelId);
+                        } finally {
+                            serializationQueue.resumeDecoding();
                         }
+                    });
+
+                    if (!admitted) {
+                        serializationQueue.resumeDecoding();
+
+                        if (!renewal) {
+                            server.closeSecureChannel(secureChannel);
+                        }
+
+                        buffersToDecode.forEach(ByteBuf::release);
                         buffersToDecode.clear();
+
+                        UaException cause = new UaException(StatusCodes.Bad_TooManyOperations,
+                                "too many secure channel handshakes in progress");
+
+                        try {
+                            ErrorMessage errorMessage = ExceptionHandler.sendErrorMessage(ctx, cause);
+
+                            logger.debug("[remote={}] Rejected OpenSecureChannelRequest; sent {}.",
+                                    ctx.channel().remoteAddress(), errorMessage);
+                        } catch (Exception ignored) {
+                        }
                     }
                 });
             }
         }
     }
 
+    /**
+     * Validate the remote certificate, decode the OpenSecureChannelRequest in {@code buffersToDecode}, and install a
+     * new security token. Runs on the server's {@link HandshakeExecutor}.
+     */
+    private void handshake(ChannelHandlerContext ctx,
+                           BinaryDecoder binaryDecoder,
+                           ChunkDecoder chunkDecoder,
+                           List<ByteBuf> buffersToDecode,
+                           long secureChannelId) {
+
+        if (!validateRemoteCertificate(ctx)) {
+            buffersToDecode.forEach(ByteBuf::release);
+            buffersToDecode.clear();
+            return;
+        }
+
+        ByteBuf messageBuffer = null;
+
+        try {
+            messageBuffer = chunkDecoder.decodeAsymmetric(
+                    secureChannel,
+                    MessageType.OpenSecureChannel,
+                    buffersToDecode
+            );
+
+            OpenSecureChannelRequest request = binaryDecoder
+                    .setBuffer(messageBuffer)
+                    .decodeMessage(null);
+
+            logger.debug("Received OpenSecureChannelRequest ({}, id={}).",
+                    request.getRequestType(), secureChannelId);
+
+            long requestId = chunkDecoder.getRequestId();
+            installSecurityToken(ctx, request, requestId);
+        } catch (UaException e) {
+            logger.error("Error decoding asymmetric message: {}", e.getMessage(), e);
+            ctx.close();
+        } finally {
+            if (messageBuffer != null) {
+                messageBuffer.release();
+            }
+            buffersToDecode.clear();
+        }
+    }
+
+    /**
+     * @return {@code false} if the remote certificate is not trusted, in which case an ErrorMessage has been sent and
+     * the channel is closing.
+     */
+    private boolean validateRemoteCertificate(ChannelHandlerContext ctx) {
+        X509Certificate remoteCertificate = secureChannel.getRemoteCertificate();
+
+        if (remoteCertificate == null || secureChannel.getSecurityPolicy() == SecurityPolicy.None) {
+            return true;
+        }
+
+        CertificateValidator validator = server.getCertificateManager().getCertificateValidator();
+
+        try {
+            validator.validateTrustChain(
+                    remoteCertificate,
+                    secureChannel.getRemoteCertificateChain());
+
+            return true;
+        } catch (UaException e) {
+            try {
+                server.getCertificateManager().certificateRejected(remoteCertificate);
+
+                UaException cause = new UaException(e.getStatusCode(), "security checks failed");
+                ErrorMessage errorMessage = ExceptionHandler.sendErrorMessage(ctx, cause);
+
+                logger.debug("[remote={}] {}.",
+                        ctx.channel().remoteAddress(), errorMessage.getReason(), cause);
+            } catch (Exception ignored) {
+            }
+
+            return false;
+        }
+    }
+
     private String pathOrUrl(String endpointUrl) {
         try {
             URI uri = URI.create(endpointUrl);
@@ -111,10 +111,8 @@ public class UaTcpServerHelloHandler extends ByteToMessageDecoder implements Hea
                 Ints.saturatedCast(remoteMaxChunkCount)
         );
 
-        int maxArrayLength = config.getMaxArrayLength();
-        int maxStringLength = config.getMaxStringLength();
-
-        SerializationQueue serializationQueue = new SerializationQueue(parameters, maxArrayLength, maxStringLength);
+        SerializationQueue serializationQueue = new SerializationQueue(
+                parameters, config, server.getInterningCache().orElse(null));
         ctx.pipeline().addLast(new UaTcpServerAsymmetricHandler(server, serializationQueue));
         ctx.pipeline().remove(this);
 
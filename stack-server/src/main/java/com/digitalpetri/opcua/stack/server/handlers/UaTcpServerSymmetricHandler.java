@@ -3,14 +3,17 @@ package com.digitalpetri.opcua.stack.server.handlers;
 import java.io.IOException;
 import java.nio.ByteOrder;
 import java.util.List;
+import java.util.function.IntUnaryOperator;
 
 import com.digitalpetri.opcua.stack.server.tcp.UaTcpStackServer;
 import com.google.common.collect.Lists;
 import com.digitalpetri.opcua.stack.core.StatusCodes;
 import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
 import com.digitalpetri.opcua.stack.core.application.services.ServiceRequest;
 import com.digitalpetri.opcua.stack.core.application.services.ServiceResponse;
 import com.digitalpetri.opcua.stack.core.channel.ChannelSecurity;
+import com.digitalpetri.opcua.stack.core.channel.ChunkEncoder;
 import com.digitalpetri.opcua.stack.core.channel.ExceptionHandler;
 import com.digitalpetri.opcua.stack.core.channel.SerializationQueue;
 import com.digitalpetri.opcua.stack.core.channel.ServerSecureChannel;
@@ -18,8 +21,11 @@ import com.digitalpetri.opcua.stack.core.channel.headers.HeaderDecoder;
 import com.digitalpetri.opcua.stack.core.channel.headers.SymmetricSecurityHeader;
 import com.digitalpetri.opcua.stack.core.channel.messages.ErrorMessage;
 import com.digitalpetri.opcua.stack.core.channel.messages.MessageType;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinarySizeEncoder;
 import com.digitalpetri.opcua.stack.core.util.BufferUtil;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -32,9 +38,11 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private List<ByteBuf> chunkBuffers;
+    private int chunkCount;
 
     private final int maxChunkCount;
     private final int maxChunkSize;
+    private final boolean decodeIncrementally;
 
     private final UaTcpStackServer server;
     private final SerializationQueue serializationQueue;
@@ -51,6 +59,9 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
         maxChunkCount = serializationQueue.getParameters().getLocalMaxChunkCount();
         maxChunkSize = serializationQueue.getParameters().getLocalReceiveBufferSize();
 
+        // Parallel chunk security needs every chunk of a message at once.
+        decodeIncrementally = serializationQueue.getParallelChunkThreshold() == 0;
+
         chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
     }
 
@@ -74,32 +85,108 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
 
     @Override
     protected void encode(ChannelHandlerContext ctx, ServiceResponse message, ByteBuf out) throws Exception {
-        serializationQueue.encode((binaryEncoder, chunkEncoder) -> {
-            ByteBuf messageBuffer = BufferUtil.buffer();
+        SecurityPolicy securityPolicy = secureChannel.getSecurityPolicy();
+        IntUnaryOperator messageSize = limit -> BinarySizeEncoder.encodedSize(message.getResponse(), limit);
 
-            try {
-                binaryEncoder.setBuffer(messageBuffer);
-                binaryEncoder.encodeMessage(null, message.getResponse());
+        // Released by the encoder when this returns; hold it until the response has actually been encoded.
+        message.retain();
 
-                final List<ByteBuf> chunks = chunkEncoder.encodeSymmetric(
-                        secureChannel,
-                        MessageType.SecureMessage,
-                        messageBuffer
-                );
-
-                ctx.executor().execute(() -> {
-                    chunks.forEach(c -> ctx.write(c, ctx.voidPromise()));
-                    ctx.flush();
-                });
-            } catch (UaException e) {
-                logger.error("Error encoding {}: {}", message.getResponse().getClass(), e.getMessage(), e);
-                ctx.close();
+        serializationQueue.encode(securityPolicy, messageSize, (binaryEncoder, chunkEncoder, size) -> {
+            try {
+                if (chunkEncoder.getParallelChunkThreshold() > 0) {
+                    int capacity = serializationQueue.messageBufferCapacity(size, messageSize);
+                    encodeBuffered(ctx, message, capacity, binaryEncoder, chunkEncoder);
+                } else {
+                    encodeStreaming(ctx, message, binaryEncoder, chunkEncoder);
+                }
             } finally {
-                messageBuffer.release();
+                message.release();
             }
         });
     }
 
+    /**
+     * Encode the whole response before splitting it into chunks, so large responses can have their chunks secured
+     * in parallel. {@code capacity} is the encoded size of the response, so its buffer is allocated only once.
+     */
+    private void encodeBuffered(ChannelHandlerContext ctx,
+                                ServiceResponse message,
+                                int capacity,
+                                BinaryEncoder binaryEncoder,
+                                ChunkEncoder chunkEncoder) {
+
+        ByteBuf messageBuffer = BufferUtil.buffer(capacity);
+
+        try {
+            binaryEncoder.setBuffer(messageBuffer);
+            binaryEncoder.encodeMessage(null, message.getResponse());
+
+            final List<ByteBuf> chunks = chunkEncoder.encodeSymmetric(
+                    secureChannel,
+                    MessageType.SecureMessage,
+                    messageBuffer
+            );
+
+            ctx.executor().execute(() -> {
+                chunks.forEach(c -> ctx.write(c, ctx.voidPromise()));
+                ctx.flush();
+            });
+        } catch (UaException e) {
+            logger.error("Error encoding {}: {}", message.getResponse().getClass(), e.getMessage(), e);
+            ctx.close();
+        } finally {
+            messageBuffer.release();
+        }
+    }
+
+    /**
+     * Encode the response straight into chunk buffers, writing each chunk to the channel as soon as it is full.
+     */
+    private void encodeStreaming(ChannelHandlerContext ctx,
+                                 ServiceResponse message,
+                                 BinaryEncoder binaryEncoder,
+                                 ChunkEncoder chunkEncoder) {
+
+        ChunkEncoder.ChunkStream stream = null;
+
+        try {
+            stream = chunkEncoder.openSymmetric(
+                    secureChannel,
+                    MessageType.SecureMessage,
+                    chunk -> ctx.executor().execute(() -> ctx.writeAndFlush(chunk, ctx.voidPromise()))
+            );
+
+            binaryEncoder.setBuffer(stream.buffer()).setSink(stream);
+            binaryEncoder.encodeMessage(null, message.getResponse());
+
+            stream.finish();
+        } catch (UaException e) {
+            logger.error("Error encoding {}: {}", message.getResponse().getClass(), e.getMessage(), e);
+            abort(stream, e.getStatusCode().getValue(), e.getMessage());
+            ctx.close();
+        } catch (UaSerializationException e) {
+            logger.error("Error encoding {}: {}", message.getResponse().getClass(), e.getMessage(), e);
+            if (!abort(stream, e.getStatusCode(), e.getMessage())) ctx.close();
+        } finally {
+            binaryEncoder.setSink(null);
+        }
+    }
+
+    /**
+     * @return {@code false} if chunks of the message may have been sent without an abort chunk following them.
+     */
+    private boolean abort(ChunkEncoder.ChunkStream stream, long statusCode, String reason) {
+        if (stream == null) return true;
+
+        try {
+            stream.abort(statusCode, reason);
+            return true;
+        } catch (UaException e) {
+            logger.error("Error aborting message: {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf buffer, List<Object> out) throws Exception {
         buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
@@ -126,91 +213,145 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
 
         char chunkType = (char) buffer.readByte();
 
-        if (chunkType == 'A') {
-            chunkBuffers.forEach(ByteBuf::release);
-            chunkBuffers.clear();
-        } else {
-            buffer.skipBytes(4); // Skip messageSize
+        // Abort chunks go through the same header and size checks as the chunks they abort.
+        buffer.skipBytes(4); // Skip messageSize
+
+        long secureChannelId = buffer.readUnsignedInt();
+        if (secureChannelId != secureChannel.getChannelId()) {
+            throw new UaException(StatusCodes.Bad_SecureChannelIdInvalid,
+                    "invalid secure channel id: " + secureChannelId);
+        }
+
+        SymmetricSecurityHeader securityHeader = SymmetricSecurityHeader.decode(buffer);
+
+        ChannelSecurity channelSecurity = secureChannel.getChannelSecurity();
+        long currentTokenId = channelSecurity.getCurrentToken().getTokenId().longValue();
+        long receivedTokenId = securityHeader.getTokenId();
+
+        if (receivedTokenId != currentTokenId) {
+            long previousTokenId = channelSecurity.getPreviousToken()
+                    .map(t -> t.getTokenId().longValue())
+                    .orElse(-1L);
 
-            long secureChannelId = buffer.readUnsignedInt();
-            if (secureChannelId != secureChannel.getChannelId()) {
-                throw new UaException(StatusCodes.Bad_SecureChannelIdInvalid,
-                        "invalid secure channel id: " + secureChannelId);
+            logger.debug("receivedTokenId={} did not match currentTokenId={}",
+                    receivedTokenId, currentTokenId);
+
+            if (receivedTokenId != previousTokenId) {
+                logger.warn("receivedTokenId={} did not match previousTokenId={}",
+                        receivedTokenId, previousTokenId);
+
+                throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown,
+                        "unknown secure channel token: " + receivedTokenId);
             }
 
-            SymmetricSecurityHeader securityHeader = SymmetricSecurityHeader.decode(buffer);
+            logger.debug("receivedTokenId={} matched previousTokenId={}",
+                    receivedTokenId, previousTokenId);
+        }
 
-            ChannelSecurity channelSecurity = secureChannel.getChannelSecurity();
-            long currentTokenId = channelSecurity.getCurrentToken().getTokenId().longValue();
-            long receivedTokenId = securityHeader.getTokenId();
+        int chunkSize = buffer.readerIndex(0).readableBytes();
 
-            if (receivedTokenId != currentTokenId) {
-                long previousTokenId = channelSecurity.getPreviousToken()
-                        .map(t -> t.getTokenId().longValue())
-                        .orElse(-1L);
+        if (chunkSize > maxChunkSize) {
+            throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                    String.format("max chunk size exceeded (%s)", maxChunkSize));
+        }
 
-                logger.debug("receivedTokenId={} did not match currentTokenId={}",
-                        receivedTokenId, currentTokenId);
+        if (++chunkCount > maxChunkCount) {
+            throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                    String.format("max chunk count exceeded (%s)", maxChunkCount));
+        }
 
-                if (receivedTokenId != previousTokenId) {
-                    logger.warn("receivedTokenId={} did not match previousTokenId={}",
-                            receivedTokenId, previousTokenId);
+        if (chunkType == 'A') {
+            List<ByteBuf> abortedBuffers = chunkBuffers;
+            chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
+            chunkCount = 0;
 
-                    throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown,
-                            "unknown secure channel token: " + receivedTokenId);
-                }
+            abortedBuffers.add(buffer.readerIndex(0).retain());
 
-                logger.debug("receivedTokenId={} matched previousTokenId={}",
-                        receivedTokenId, previousTokenId);
-            }
+            // The aborted chunks are still decoded so the sequence numbers they used are accounted for.
+            abortedBuffers.forEach(chunkBuffer -> decodeChunk(ctx, chunkBuffer, Integer.MAX_VALUE));
+        } else {
+            // Only a message that fits in one chunk is known to be small enough to decode inline.
+            int messageSize = (chunkType == 'F' && chunkCount == 1) ? chunkSize : Integer.MAX_VALUE;
 
-            int chunkSize = buffer.readerIndex(0).readableBytes();
+            if (chunkType == 'F') chunkCount = 0;
 
-            if (chunkSize > maxChunkSize) {
-                throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
-                        String.format("max chunk size exceeded (%s)", maxChunkSize));
+            if (decodeIncrementally) {
+                decodeChunk(ctx, buffer.retain(), messageSize);
+            } else {
+                chunkBuffers.add(buffer.retain());
+
+                if (chunkType == 'F') {
+                    final List<ByteBuf> buffersToDecode = chunkBuffers;
+                    chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
+
+                    SecurityPolicy securityPolicy = secureChannel.getSecurityPolicy();
+
+                    serializationQueue.decode(securityPolicy, messageSize, (binaryDecoder, chunkDecoder) -> {
+                        try {
+                            ByteBuf messageBuffer = chunkDecoder.decodeSymmetric(
+                                    secureChannel,
+                                    MessageType.SecureMessage,
+                                    buffersToDecode
+                            );
+
+                            decodeRequest(ctx, chunkDecoder.getRequestId(), messageBuffer);
+
+                            buffersToDecode.clear();
+                        } catch (UaException e) {
+                            logger.error("Error decoding symmetric message: {}", e.getMessage(), e);
+                            ctx.close();
+                        }
+                    });
+                }
             }
+        }
+    }
 
-            chunkBuffers.add(buffer.retain());
+    /**
+     * Verify and decrypt a chunk as soon as it arrives, while later chunks of its message are still being received.
+     * The request is decoded once its final chunk has been.
+     */
+    private void decodeChunk(ChannelHandlerContext ctx, ByteBuf chunkBuffer, int messageSize) {
+        SecurityPolicy securityPolicy = secureChannel.getSecurityPolicy();
 
-            if (chunkBuffers.size() > maxChunkCount) {
-                throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
-                        String.format("max chunk count exceeded (%s)", maxChunkCount));
-            }
+        serializationQueue.decode(securityPolicy, messageSize, (binaryDecoder, chunkDecoder) -> {
+            try {
+                ByteBuf messageBuffer = chunkDecoder.decodeSymmetricChunk(
+                        secureChannel,
+                        MessageType.SecureMessage,
+                        chunkBuffer
+                );
 
-            if (chunkType == 'F') {
-                final List<ByteBuf> buffersToDecode = chunkBuffers;
-                chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
-
-                serializationQueue.decode((binaryDecoder, chunkDecoder) -> {
-                    try {
-                        ByteBuf messageBuffer = chunkDecoder.decodeSymmetric(
-                                secureChannel,
-                                MessageType.SecureMessage,
-                                buffersToDecode
-                        );
-
-                        binaryDecoder.setBuffer(messageBuffer);
-                        UaRequestMessage request = binaryDecoder.decodeMessage(null);
-
-                        ServiceRequest<UaRequestMessage, UaResponseMessage> serviceRequest = new ServiceRequest<>(
-                                request,
-                                chunkDecoder.getRequestId(),
-                                server,
-                                secureChannel
-                        );
-
-                        server.getExecutorService().execute(() -> server.receiveRequest(serviceRequest));
-
-                        messageBuffer.release();
-                        buffersToDecode.clear();
-                    } catch (UaException e) {
-                        logger.error("Error decoding symmetric message: {}", e.getMessage(), e);
-                        ctx.close();
-                    }
-                });
+                if (messageBuffer != null) {
+                    decodeRequest(ctx, chunkDecoder.getRequestId(), messageBuffer);
+                }
+            } catch (UaException e) {
+                logger.error("Error decoding symmetric message: {}", e.getMessage(), e);
+                ctx.close();
             }
-        }
+        });
+    }
+
+    private void decodeRequest(ChannelHandlerContext ctx, long requestId, ByteBuf messageBuffer) {
+        serializationQueue.decodeMessage(
+                messageBuffer,
+                binaryDecoder -> binaryDecoder.<UaRequestMessage>decodeMessage(null),
+                (request, dispose) -> {
+                    ServiceRequest<UaRequestMessage, UaResponseMessage> serviceRequest = new ServiceRequest<>(
+                            request,
+                            requestId,
+                            server,
+                            secureChannel,
+                            dispose
+                    );
+
+                    server.getExecutorService().execute(() -> server.receiveRequest(serviceRequest));
+                },
+                t -> {
+                    logger.error("Error decoding symmetric message: {}", t.getMessage(), t);
+                    ctx.close();
+                }
+        );
     }
 
     @Override
@@ -0,0 +1,188 @@
+package com.digitalpetri.opcua.stack.server.tcp;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the asymmetric work of OpenSecureChannel requests on a fixed number of threads. This includes certificate
+ * validation, RSA decryption, signature verification, and key derivation.
+ * <p>
+ * Queued renewals of existing secure channels run before queued issues of new ones. Once {@code maxQueuedIssues}
+ * issue requests are waiting, further issues are rejected. A reconnect storm therefore cannot delay the renewals of
+ * healthy channels until they expire. Renewals are never rejected; they are bounded by the number of open channels.
+ */
+public class HandshakeExecutor {
+
+    public static final int DEFAULT_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+
+    public static final int DEFAULT_MAX_QUEUED_ISSUES = 256;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final AtomicLong sequence = new AtomicLong(0L);
+    private final AtomicInteger queuedIssues = new AtomicInteger(0);
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong(0L);
+
+    private final ThreadPoolExecutor executor;
+    private final int maxQueuedIssues;
+
+    public HandshakeExecutor() {
+        this(DEFAULT_THREAD_COUNT, DEFAULT_MAX_QUEUED_ISSUES);
+    }
+
+    /**
+     * @param threadCount     the number of threads handshakes run on.
+     * @param maxQueuedIssues the number of waiting issue requests above which new issue requests are rejected.
+     */
+    public HandshakeExecutor(int threadCount, int maxQueuedIssues) {
+        this.maxQueuedIssues = maxQueuedIssues;
+
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("ua-handshake-%d")
+                .build();
+
+        executor = new ThreadPoolExecutor(
+                threadCount, threadCount,
+                60L, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(),
+                threadFactory
+        );
+
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queue a handshake for execution.
+     *
+     * @param renewal   {@code true} if the handshake renews an existing secure channel.
+     * @param handshake the handshake to run.
+     * @return {@code false} if the handshake was rejected because too many issue requests are already waiting.
+     */
+    public boolean execute(boolean renewal, Runnable handshake) {
+        if (!renewal && queuedIssues.incrementAndGet() > maxQueuedIssues) {
+            queuedIssues.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+
+        executor.execute(new Handshake(renewal, sequence.getAndIncrement(), handshake));
+
+        return true;
+    }
+
+    /**
+     * @return the number of handshakes waiting for a thread.
+     */
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return the number of issue requests waiting for a thread.
+     */
+    public int getQueuedIssueCount() {
+        return queuedIssues.get();
+    }
+
+    /**
+     * @return the number of handshakes that have run.
+     */
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    /**
+     * @return the number of issue requests rejected because too many were already waiting.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return the mean time from admission to completion of the handshakes that have run, or 0 if none have.
+     */
+    public long getAverageLatency(TimeUnit unit) {
+        long count = completed.sum();
+
+        return count > 0 ? unit.convert(totalLatencyNanos.sum() / count, TimeUnit.NANOSECONDS) : 0L;
+    }
+
+    /**
+     * @return the longest time from admission to completion of any handshake that has run.
+     */
+    public long getMaxLatency(TimeUnit unit) {
+        return unit.convert(maxLatencyNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public void resetStatistics() {
+        completed.reset();
+        rejected.reset();
+        totalLatencyNanos.reset();
+        maxLatencyNanos.set(0L);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    private class Handshake implements Runnable, Comparable<Handshake> {
+
+        private final long admitted = System.nanoTime();
+
+        private final boolean renewal;
+        private final long sequenceNumber;
+        private final Runnable handshake;
+
+        private Handshake(boolean renewal, long sequenceNumber, Runnable handshake) {
+            this.renewal = renewal;
+            this.sequenceNumber = sequenceNumber;
+            this.handshake = handshake;
+        }
+
+        @Override
+        public void run() {
+            if (!renewal) queuedIssues.decrementAndGet();
+
+            try {
+                handshake.run();
+            } catch (Throwable t) {
+                logger.error("Uncaught Throwable running handshake.", t);
+            } finally {
+                long latency = System.nanoTime() - admitted;
+
+                completed.increment();
+                totalLatencyNanos.add(latency);
+                maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            }
+        }
+
+        @Override
+        public int compareTo(Handshake that) {
+            if (this.renewal != that.renewal) {
+                return this.renewal ? -1 : 1;
+            }
+
+            return Long.compare(this.sequenceNumber, that.sequenceNumber);
+        }
+
+    }
+
+}
@@ -4,12 +4,16 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import com.digitalpetri.opcua.stack.core.Stack;
+import com.digitalpetri.opcua.stack.core.TransportConfig;
 import com.digitalpetri.opcua.stack.server.handlers.UaTcpServerHelloHandler;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
@@ -19,7 +23,6 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LoggingHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,46 +33,87 @@ public class SocketServer {
 
     private final Map<String, UaTcpStackServer> servers = Maps.newConcurrentMap();
 
-    private volatile Channel channel;
+    /**
+     * One channel per acceptor; more than one only with SO_REUSEPORT.
+     */
+    private volatile List<Channel> channels = ImmutableList.of();
 
     private final ServerBootstrap bootstrap = new ServerBootstrap();
 
     private final InetSocketAddress address;
+    private final TransportConfig transportConfig;
 
     private SocketServer(InetSocketAddress address) {
         this.address = address;
 
+        transportConfig = Stack.getTransportConfig();
+
         bootstrap.group(Stack.sharedEventLoop())
                 .handler(new LoggingHandler(SocketServer.class))
-                .channel(NioServerSocketChannel.class)
+                .channel(transportConfig.getTransport().getServerSocketChannelClass())
                 .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .childOption(ChannelOption.TCP_NODELAY, true)
                 .childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel channel) throws Exception {
+                        transportConfig.configure(channel.config());
+
                         channel.pipeline().addLast(new UaTcpServerHelloHandler(SocketServer.this));
                     }
                 });
+
+        if (transportConfig.getReceiveBufferSize() > 0) {
+            // Accepted sockets inherit the listening socket's SO_RCVBUF, which sets their TCP window scale.
+            bootstrap.option(ChannelOption.SO_RCVBUF, transportConfig.getReceiveBufferSize());
+        }
+
+        if (transportConfig.getAcceptorCount() > 1) {
+            transportConfig.getTransport().enableReusePort(bootstrap);
+        }
     }
 
+    /**
+     * Bind {@link TransportConfig#getAcceptorCount()} acceptors to this server's address. Each is registered with the
+     * next event loop of the shared group, so the kernel spreads incoming connections across event loops.
+     */
     public synchronized void bind() throws ExecutionException, InterruptedException {
-        if (channel != null) return; // Already bound
+        if (!channels.isEmpty()) return; // Already bound
+
+        List<Channel> bound = Lists.newArrayList();
+
+        try {
+            Channel first = bind(address);
+            bound.add(first);
+
+            // Bind the remaining acceptors to the port actually bound, in case an ephemeral port was requested.
+            InetSocketAddress boundAddress = (InetSocketAddress) first.localAddress();
+
+            for (int i = 1; i < transportConfig.getAcceptorCount(); i++) {
+                bound.add(bind(boundAddress));
+            }
+        } catch (ExecutionException | InterruptedException e) {
+            bound.forEach(Channel::close);
+            throw e;
+        }
+
+        channels = ImmutableList.copyOf(bound);
+    }
 
-        CompletableFuture<Void> bindFuture = new CompletableFuture<>();
+    private Channel bind(InetSocketAddress address) throws ExecutionException, InterruptedException {
+        CompletableFuture<Channel> bindFuture = new CompletableFuture<>();
 
         bootstrap.bind(address).addListener(new ChannelFutureListener() {
             @Override
             public void operationComplete(ChannelFuture future) throws Exception {
                 if (future.isSuccess()) {
-                    channel = future.channel();
-                    bindFuture.complete(null);
+                    bindFuture.complete(future.channel());
                 } else {
                     bindFuture.completeExceptionally(future.cause());
                 }
             }
         });
 
-        bindFuture.get();
+        return bindFuture.get();
     }
 
     public void addServer(UaTcpStackServer server) {
@@ -124,11 +168,13 @@ public class SocketServer {
     }
 
     public SocketAddress getLocalAddress() {
-        return channel != null ? channel.localAddress() : null;
+        List<Channel> channels = this.channels;
+
+        return channels.isEmpty() ? null : channels.get(0).localAddress();
     }
 
     public void shutdown() {
-        if (channel != null) channel.close();
+        channels.forEach(Channel::close);
     }
 
     public static synchronized SocketServer boundTo(String address) throws Exception {
@@ -22,6 +22,7 @@ public class UaTcpServerBuilder {
 
     private CertificateManager certificateManager;
     private ExecutorService executor = Stack.sharedExecutor();
+    private HandshakeExecutor handshakeExecutor;
     private List<UserTokenPolicy> userTokenPolicies = Lists.newArrayList();
     private List<SignedSoftwareCertificate> softwareCertificates = Lists.newArrayList();
 
@@ -60,6 +61,11 @@ public class UaTcpServerBuilder {
         return this;
     }
 
+    public UaTcpServerBuilder setHandshakeExecutor(HandshakeExecutor handshakeExecutor) {
+        this.handshakeExecutor = handshakeExecutor;
+        return this;
+    }
+
     public UaTcpServerBuilder addUserTokenPolicy(UserTokenPolicy userTokenPolicy) {
         userTokenPolicies.add(userTokenPolicy);
         return this;
@@ -71,6 +77,21 @@ public class UaTcpServerBuilder {
     }
 
     public UaTcpStackServer build() {
+        if (handshakeExecutor == null) {
+            // The server creates its own HandshakeExecutor, and shuts it down with itself.
+            return new UaTcpStackServer(
+                    serverName,
+                    applicationName,
+                    applicationUri,
+                    productUri,
+                    certificateManager,
+                    executor,
+                    userTokenPolicies,
+                    softwareCertificates,
+                    channelConfig
+            );
+        }
+
         return new UaTcpStackServer(
                 serverName,
                 applicationName,
@@ -80,7 +101,8 @@ public class UaTcpServerBuilder {
                 executor,
                 userTokenPolicies,
                 softwareCertificates,
-                channelConfig
+                channelConfig,
+                handshakeExecutor
         );
     }
 
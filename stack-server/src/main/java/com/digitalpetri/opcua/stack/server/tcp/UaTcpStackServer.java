@@ -36,6 +36,7 @@ import com.digitalpetri.opcua.stack.core.channel.ServerSecureChannel;
 import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.InterningCache;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.enumerated.ApplicationType;
@@ -99,6 +100,9 @@ public class UaTcpStackServer implements UaStackServer {
     private final List<UserTokenPolicy> userTokenPolicies;
     private final List<SignedSoftwareCertificate> softwareCertificates;
     private final ChannelConfig channelConfig;
+    private final HandshakeExecutor handshakeExecutor;
+    private final boolean handshakeExecutorOwned;
+    private final InterningCache interningCache;
 
     public UaTcpStackServer(String serverName,
                             LocalizedText applicationName,
@@ -110,6 +114,41 @@ public class UaTcpStackServer implements UaStackServer {
                             List<SignedSoftwareCertificate> softwareCertificates,
                             ChannelConfig channelConfig) {
 
+        this(serverName, applicationName, applicationUri, productUri, certificateManager, executor,
+                userTokenPolicies, softwareCertificates, channelConfig, new HandshakeExecutor(), true);
+    }
+
+    /**
+     * @param handshakeExecutor the {@link HandshakeExecutor} OpenSecureChannel requests are processed on. It is owned
+     *                          by the caller and is not shut down by {@link #shutdown()}.
+     */
+    public UaTcpStackServer(String serverName,
+                            LocalizedText applicationName,
+                            String applicationUri,
+                            String productUri,
+                            CertificateManager certificateManager,
+                            ExecutorService executor,
+                            List<UserTokenPolicy> userTokenPolicies,
+                            List<SignedSoftwareCertificate> softwareCertificates,
+                            ChannelConfig channelConfig,
+                            HandshakeExecutor handshakeExecutor) {
+
+        this(serverName, applicationName, applicationUri, productUri, certificateManager, executor,
+                userTokenPolicies, softwareCertificates, channelConfig, handshakeExecutor, false);
+    }
+
+    private UaTcpStackServer(String serverName,
+                            LocalizedText applicationName,
+                            String applicationUri,
+                            String productUri,
+                            CertificateManager certificateManager,
+                            ExecutorService executor,
+                            List<UserTokenPolicy> userTokenPolicies,
+                            List<SignedSoftwareCertificate> softwareCertificates,
+                            ChannelConfig channelConfig,
+                            HandshakeExecutor handshakeExecutor,
+                            boolean handshakeExecutorOwned) {
+
         this.serverName = serverName;
         this.applicationName = applicationName;
         this.applicationUri = applicationUri;
@@ -119,6 +158,11 @@ public class UaTcpStackServer implements UaStackServer {
         this.userTokenPolicies = userTokenPolicies;
         this.softwareCertificates = softwareCertificates;
         this.channelConfig = channelConfig;
+        this.handshakeExecutor = handshakeExecutor;
+        this.handshakeExecutorOwned = handshakeExecutorOwned;
+
+        interningCache = channelConfig.getInterningCacheSize() > 0 ?
+                new InterningCache(channelConfig.getInterningCacheSize()) : null;
 
         addServiceSet(new DefaultDiscoveryServiceSet());
 
@@ -191,6 +235,8 @@ public class UaTcpStackServer implements UaStackServer {
 
         List<ServerSecureChannel> copy = Lists.newArrayList(secureChannels.values());
         copy.forEach(this::closeSecureChannel);
+
+        if (handshakeExecutorOwned) handshakeExecutor.shutdown();
     }
 
     public void receiveRequest(ServiceRequest<UaRequestMessage, UaResponseMessage> serviceRequest) {
@@ -200,8 +246,8 @@ public class UaTcpStackServer implements UaStackServer {
             long requestId = serviceRequest.getRequestId();
 
             ServiceResponse serviceResponse = response != null ?
-                    new ServiceResponse(response, requestId) :
-                    new ServiceResponse(serviceRequest.createServiceFault(throwable), requestId);
+                    new ServiceResponse(response, requestId, serviceRequest::release) :
+                    new ServiceResponse(serviceRequest.createServiceFault(throwable), requestId, serviceRequest::release);
 
             ServerSecureChannel secureChannel = serviceRequest.getSecureChannel();
             boolean secureChannelValid = secureChannels.containsKey(secureChannel.getChannelId());
@@ -220,6 +266,8 @@ public class UaTcpStackServer implements UaStackServer {
                     logger.trace("Queueing {} for unbound {}.", serviceResponse, secureChannel);
                     responseQueues.put(secureChannel.getChannelId(), serviceResponse);
                 }
+            } else {
+                serviceResponse.release();
             }
         });
 
@@ -296,6 +344,23 @@ public class UaTcpStackServer implements UaStackServer {
         return channelConfig;
     }
 
+    /**
+     * The cache is shared by every secure channel opened to this server, so its hit and miss counts cover all of them.
+     *
+     * @return the {@link InterningCache} requests are decoded with, if interning is enabled.
+     * @see ChannelConfig#getInterningCacheSize()
+     */
+    public Optional<InterningCache> getInterningCache() {
+        return Optional.ofNullable(interningCache);
+    }
+
+    /**
+     * @return the {@link HandshakeExecutor} OpenSecureChannel requests are processed on.
+     */
+    public HandshakeExecutor getHandshakeExecutor() {
+        return handshakeExecutor;
+    }
+
     private long nextChannelId() {
         return channelIds.incrementAndGet();
     }
@@ -321,6 +386,8 @@ public class UaTcpStackServer implements UaStackServer {
             logger.debug("Removed secure channel id={}", channelId);
         }
 
+        responseQueues.removeAll(channelId).forEach(ServiceResponse::release);
+
         Channel channel = secureChannel.attr(BoundChannelKey).get();
         if (channel != null) {
             logger.debug("Closing secure channel id={}, bound channel: {}", channelId, channel);
@@ -0,0 +1,79 @@
+package com.digitalpetri.opcua.stack;
+
+import java.util.Collections;
+
+import com.digitalpetri.opcua.stack.core.channel.AsymmetricSecurityMaterial;
+import com.digitalpetri.opcua.stack.core.channel.ClientSecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.ServerSecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.headers.AsymmetricSecurityHeader;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import com.digitalpetri.opcua.stack.core.util.DigestUtil;
+import io.netty.buffer.ByteBuf;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class AsymmetricSecurityMaterialTest extends SecurityFixture {
+
+    @Test
+    public void testSecurityHeaderBytes() throws Exception {
+        setUp();
+
+        ClientSecureChannel channel = new ClientSecureChannel(
+                clientKeyPair,
+                clientCertificate,
+                serverCertificate,
+                Collections.singletonList(serverCertificate),
+                SecurityPolicy.Basic256Sha256,
+                MessageSecurityMode.SignAndEncrypt
+        );
+
+        AsymmetricSecurityMaterial material = channel.getAsymmetricSecurityMaterial();
+
+        assertSame(channel.getAsymmetricSecurityMaterial(), material);
+        assertEquals(channel.getLocalCertificateBytes(), ByteString.of(clientCertificateBytes));
+        assertEquals(channel.getRemoteCertificateThumbprint(), ByteString.of(DigestUtil.sha1(serverCertificateBytes)));
+
+        ByteBuf buffer = BufferUtil.buffer().writeBytes(material.getSecurityHeaderBytes());
+
+        try {
+            AsymmetricSecurityHeader header = AsymmetricSecurityHeader.decode(buffer);
+
+            assertEquals(header.getSecurityPolicyUri(), SecurityPolicy.Basic256Sha256.getSecurityPolicyUri());
+            assertEquals(header.getSenderCertificate(), channel.getLocalCertificateBytes());
+            assertEquals(header.getReceiverThumbprint(), channel.getRemoteCertificateThumbprint());
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void testServerMaterialFollowsCertificates() throws Exception {
+        setUp();
+
+        ServerSecureChannel channel = new ServerSecureChannel();
+        channel.setSecurityPolicy(SecurityPolicy.Basic128Rsa15);
+        channel.setLocalCertificate(serverCertificate);
+
+        AsymmetricSecurityMaterial unbound = channel.getAsymmetricSecurityMaterial();
+
+        assertSame(channel.getAsymmetricSecurityMaterial(), unbound);
+        assertEquals(unbound.getRemoteCertificateThumbprint(), ByteString.NULL_VALUE);
+
+        channel.setRemoteCertificate(clientCertificateBytes);
+
+        AsymmetricSecurityMaterial bound = channel.getAsymmetricSecurityMaterial();
+
+        assertNotSame(bound, unbound);
+        assertSame(channel.getAsymmetricSecurityMaterial(), bound);
+        assertEquals(bound.getRemoteCertificateBytes(), ByteString.of(clientCertificateBytes));
+        assertEquals(bound.getRemoteKeyLength(), 2048);
+        assertEquals(channel.getRemoteAsymmetricCipherTextBlockSize(), 2048 / 8);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.digitalpetri.opcua.stack;
+
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.util.CertificateValidator;
+import com.google.common.collect.Sets;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+public class CertificateValidatorTest extends SecurityFixture {
+
+    @Test
+    public void testFailuresNotCached() throws Exception {
+        setUp();
+
+        Set<X509Certificate> trustList = Sets.newConcurrentHashSet();
+        Set<X509Certificate> authorityList = Sets.newConcurrentHashSet();
+
+        CertificateValidator validator = new CertificateValidator(
+                trustList, authorityList, 1, TimeUnit.MINUTES);
+
+        assertRejected(validator);
+
+        // A certificate rejected once is accepted as soon as it chains to a trusted authority.
+        authorityList.add(clientCertificate);
+        validator.validateTrustChain(clientCertificate, Collections.emptyList());
+
+        // The fixture certificates are past their notAfter time, so the success is not remembered either.
+        authorityList.remove(clientCertificate);
+        assertRejected(validator);
+    }
+
+    @Test
+    public void testTrustListReindexedWhenInvalidated() throws Exception {
+        setUp();
+
+        Set<X509Certificate> trustList = Sets.newConcurrentHashSet();
+
+        CertificateValidator validator = new CertificateValidator(
+                trustList, Sets.newConcurrentHashSet(), 1, TimeUnit.MINUTES);
+
+        assertRejected(validator);
+
+        trustList.add(clientCertificate);
+        validator.invalidate();
+        validator.validateTrustChain(clientCertificate, Collections.emptyList());
+
+        trustList.remove(clientCertificate);
+        validator.invalidate();
+        assertRejected(validator);
+    }
+
+    @Test
+    public void testNoCachingWithoutTtl() throws Exception {
+        setUp();
+
+        Set<X509Certificate> trustList = Sets.newConcurrentHashSet();
+
+        CertificateValidator validator = new CertificateValidator(trustList, Sets.newConcurrentHashSet());
+
+        assertRejected(validator);
+
+        trustList.add(clientCertificate);
+        validator.validateTrustChain(clientCertificate, Collections.emptyList());
+    }
+
+    private void assertRejected(CertificateValidator validator) {
+        try {
+            validator.validateTrustChain(clientCertificate, Collections.emptyList());
+            fail("expected trust chain validation to fail");
+        } catch (UaException e) {
+            assertEquals(e.getStatusCode().getValue(), StatusCodes.Bad_SecurityChecksFailed);
+        }
+    }
+
+}
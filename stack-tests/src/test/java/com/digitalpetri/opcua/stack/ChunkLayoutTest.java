@@ -0,0 +1,73 @@
+package com.digitalpetri.opcua.stack;
+
+import java.util.List;
+
+import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
+import com.digitalpetri.opcua.stack.core.channel.ChannelParameters;
+import com.digitalpetri.opcua.stack.core.channel.ChunkEncoder;
+import com.digitalpetri.opcua.stack.core.channel.ChunkLayout;
+import com.digitalpetri.opcua.stack.core.channel.SecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.messages.MessageType;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ChunkLayoutTest extends SecureChannelFixture {
+
+    private static final int MAX_CHUNK_SIZE = 8192;
+
+    @DataProvider
+    public Object[][] getParameters() {
+        return new Object[][]{
+                {SecurityPolicy.None, MessageSecurityMode.None},
+                {SecurityPolicy.Basic128Rsa15, MessageSecurityMode.Sign},
+                {SecurityPolicy.Basic128Rsa15, MessageSecurityMode.SignAndEncrypt},
+                {SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt}
+        };
+    }
+
+    @Test(dataProvider = "getParameters")
+    public void testLayoutMatchesEncodedChunks(SecurityPolicy securityPolicy,
+                                               MessageSecurityMode messageSecurity) throws Exception {
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        SecureChannel clientChannel = channels[0];
+
+        ChunkLayout layout = ChunkLayout.symmetric(clientChannel, 1L, MAX_CHUNK_SIZE);
+
+        assertEquals(layout.isSecured(), securityPolicy != SecurityPolicy.None);
+        assertTrue(layout.getChunkSize(layout.getMaxBodySize()) <= MAX_CHUNK_SIZE);
+
+        ChannelParameters parameters = new ChannelParameters(
+                ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE, MAX_CHUNK_SIZE, MAX_CHUNK_SIZE, ChannelConfig.DEFAULT_MAX_CHUNK_COUNT,
+                ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE, MAX_CHUNK_SIZE, MAX_CHUNK_SIZE, ChannelConfig.DEFAULT_MAX_CHUNK_COUNT
+        );
+
+        int messageSize = layout.getMaxBodySize() * 2 + 1;
+
+        ByteBuf messageBuffer = BufferUtil.buffer(messageSize).writeZero(messageSize);
+
+        List<ByteBuf> chunks = new ChunkEncoder(parameters)
+                .encodeSymmetric(clientChannel, MessageType.SecureMessage, messageBuffer);
+
+        messageBuffer.release();
+
+        try {
+            assertEquals(chunks.size(), layout.getChunkCount(messageSize));
+            assertEquals(chunks.get(0).readableBytes(), layout.getChunkSize(layout.getMaxBodySize()));
+            assertEquals(chunks.get(2).readableBytes(), layout.getChunkSize(1));
+        } finally {
+            chunks.forEach(ByteBuf::release);
+        }
+
+        assertFalse(chunks.stream().anyMatch(c -> c.refCnt() > 0));
+    }
+
+}
@@ -1,25 +1,56 @@
 package com.digitalpetri.opcua.stack;
 
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.List;
 
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
 import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
 import com.digitalpetri.opcua.stack.core.channel.ChannelParameters;
 import com.digitalpetri.opcua.stack.core.channel.ChunkDecoder;
 import com.digitalpetri.opcua.stack.core.channel.ChunkEncoder;
 import com.digitalpetri.opcua.stack.core.channel.SecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.SerializationQueue;
+import com.digitalpetri.opcua.stack.core.channel.ServerSecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.messages.ErrorMessage;
 import com.digitalpetri.opcua.stack.core.channel.messages.MessageType;
+import com.digitalpetri.opcua.stack.core.channel.messages.TcpMessageDecoder;
 import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
 import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.SignatureData;
 import com.digitalpetri.opcua.stack.core.util.BufferUtil;
 import com.digitalpetri.opcua.stack.core.util.CryptoRestrictions;
+import com.digitalpetri.opcua.stack.server.handlers.UaTcpServerSymmetricHandler;
+import com.digitalpetri.opcua.stack.server.tcp.UaTcpServerBuilder;
+import com.digitalpetri.opcua.stack.server.tcp.UaTcpStackServer;
+import com.google.common.base.Strings;
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.util.ReferenceCountUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 public class ChunkSerializationTest extends SecureChannelFixture {
 
@@ -174,4 +205,382 @@ public class ChunkSerializationTest extends SecureChannelFixture {
         assertEquals(decodedBuffer, messageBuffer);
     }
 
+    @Test(dataProvider = "getSymmetricSecurityParameters")
+    public void testParallelSymmetricMessage(SecurityPolicy securityPolicy,
+                                             MessageSecurityMode messageSecurity,
+                                             int messageSize) throws Exception {
+
+        logger.info("Parallel symmetric chunk serialization, securityPolicy={}, messageSecurityMode={}, messageSize={}",
+                securityPolicy, messageSecurity, messageSize);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        SecureChannel clientChannel = channels[0];
+        SecureChannel serverChannel = channels[1];
+
+        byte[] messageBytes = new byte[messageSize];
+        for (int i = 0; i < messageBytes.length; i++) {
+            messageBytes[i] = (byte) i;
+        }
+
+        // Parallel and serial chunk security must produce and accept the same chunks.
+        ChunkEncoder[] encoders = {
+                new ChunkEncoder(parameters, 2), new ChunkEncoder(parameters, 2), new ChunkEncoder(parameters)};
+        ChunkDecoder[] decoders = {
+                new ChunkDecoder(parameters, 2), new ChunkDecoder(parameters), new ChunkDecoder(parameters, 2)};
+
+        for (int i = 0; i < encoders.length; i++) {
+            ByteBuf messageBuffer = BufferUtil.buffer().writeBytes(messageBytes);
+
+            List<ByteBuf> chunkBuffers = encoders[i].encodeSymmetric(
+                    clientChannel,
+                    MessageType.SecureMessage,
+                    messageBuffer
+            );
+
+            ByteBuf decodedBuffer = decoders[i].decodeSymmetric(
+                    serverChannel,
+                    MessageType.SecureMessage,
+                    chunkBuffers
+            );
+
+            ReferenceCountUtil.releaseLater(messageBuffer);
+            ReferenceCountUtil.releaseLater(decodedBuffer);
+
+            messageBuffer.readerIndex(0);
+            assertEquals(decodedBuffer, messageBuffer);
+        }
+    }
+
+    @Test
+    public void testParallelSymmetricMessageTampered() throws Exception {
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+        SecureChannel clientChannel = channels[0];
+        SecureChannel serverChannel = channels[1];
+
+        ChunkEncoder encoder = new ChunkEncoder(parameters, 2);
+        ChunkDecoder decoder = new ChunkDecoder(parameters, 2);
+
+        ByteBuf messageBuffer = BufferUtil.buffer().writeBytes(new byte[ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 4]);
+        ReferenceCountUtil.releaseLater(messageBuffer);
+
+        List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(clientChannel, MessageType.SecureMessage, messageBuffer);
+
+        assertTrue(chunkBuffers.size() > 2);
+
+        ByteBuf tampered = chunkBuffers.get(1);
+        tampered.setByte(tampered.writerIndex() - 1, ~tampered.getByte(tampered.writerIndex() - 1));
+
+        try {
+            decoder.decodeSymmetric(serverChannel, MessageType.SecureMessage, chunkBuffers);
+            fail("expected UaException");
+        } catch (UaException e) {
+            assertEquals(e.getStatusCode().getValue(), StatusCodes.Bad_SecurityChecksFailed);
+        } finally {
+            chunkBuffers.forEach(ReferenceCountUtil::releaseLater);
+        }
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityParameters")
+    public void testStreamingSymmetricMessage(SecurityPolicy securityPolicy,
+                                              MessageSecurityMode messageSecurity,
+                                              int messageSize) throws Exception {
+
+        logger.info("Streaming symmetric chunk serialization, securityPolicy={}, messageSecurityMode={}, messageSize={}",
+                securityPolicy, messageSecurity, messageSize);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        SecureChannel clientChannel = channels[0];
+        SecureChannel serverChannel = channels[1];
+
+        ReadResponse response = readResponse(messageSize);
+
+        ByteBuf messageBuffer = BufferUtil.buffer();
+        ReferenceCountUtil.releaseLater(messageBuffer);
+
+        new BinaryEncoder().setBuffer(messageBuffer).encodeMessage(null, response);
+
+        List<ByteBuf> bufferedChunks = new ChunkEncoder(parameters).encodeSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                messageBuffer
+        );
+        bufferedChunks.forEach(ReferenceCountUtil::releaseLater);
+
+        List<ByteBuf> streamedChunks = new ArrayList<>();
+
+        ChunkEncoder.ChunkStream stream = new ChunkEncoder(parameters).openSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                streamedChunks::add
+        );
+
+        new BinaryEncoder().setBuffer(stream.buffer()).setSink(stream).encodeMessage(null, response);
+
+        // Full chunks are sent while the message is still being encoded.
+        assertEquals(stream.getChunkCount(), bufferedChunks.size() - 1);
+
+        stream.finish();
+
+        // Streaming splits the message at the same places, so the chunks are identical.
+        assertEquals(streamedChunks, bufferedChunks);
+
+        ByteBuf decodedBuffer = new ChunkDecoder(parameters).decodeSymmetric(
+                serverChannel,
+                MessageType.SecureMessage,
+                streamedChunks
+        );
+        ReferenceCountUtil.releaseLater(decodedBuffer);
+
+        messageBuffer.readerIndex(0);
+        assertEquals(decodedBuffer, messageBuffer);
+    }
+
+    @Test
+    public void testStreamingLargeValues() throws Exception {
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+        SecureChannel clientChannel = channels[0];
+        SecureChannel serverChannel = channels[1];
+
+        // Multi-byte chars make the XmlElement cross chunk boundaries in the middle of code points.
+        Variant[] values = {
+                new Variant(ByteString.of(new byte[ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 8])),
+                new Variant(new XmlElement(Strings.repeat("a\u20ac\uD83D\uDE00", 6000)))
+        };
+
+        ByteBuf messageBuffer = BufferUtil.buffer();
+        ReferenceCountUtil.releaseLater(messageBuffer);
+
+        BinaryEncoder bufferedEncoder = new BinaryEncoder().setBuffer(messageBuffer);
+        bufferedEncoder.encodeArray(null, values, bufferedEncoder::encodeVariant);
+
+        List<ByteBuf> streamedChunks = new ArrayList<>();
+
+        ChunkEncoder.ChunkStream stream = new ChunkEncoder(parameters).openSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                streamedChunks::add
+        );
+
+        BinaryEncoder binaryEncoder = new BinaryEncoder().setBuffer(stream.buffer()).setSink(stream);
+        binaryEncoder.encodeArray(null, values, binaryEncoder::encodeVariant);
+        stream.finish();
+
+        // Large values are written a chunk at a time, so no chunk buffer grows past the chunk size.
+        for (ByteBuf chunkBuffer : streamedChunks) {
+            assertTrue(chunkBuffer.capacity() <= parameters.getLocalSendBufferSize());
+        }
+
+        ByteBuf decodedBuffer = new ChunkDecoder(parameters).decodeSymmetric(
+                serverChannel,
+                MessageType.SecureMessage,
+                streamedChunks
+        );
+        ReferenceCountUtil.releaseLater(decodedBuffer);
+
+        assertEquals(decodedBuffer, messageBuffer);
+    }
+
+    @Test
+    public void testStreamingSymmetricMessageAborted() throws Exception {
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+        SecureChannel clientChannel = channels[0];
+
+        List<ByteBuf> streamedChunks = new ArrayList<>();
+
+        ChunkEncoder.ChunkStream stream = new ChunkEncoder(parameters).openSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                streamedChunks::add
+        );
+
+        // The last string exceeds the encoder's limit after several chunks have been sent.
+        Variant[] values = {
+                new Variant(ByteString.of(new byte[ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 3])),
+                new Variant(Strings.repeat("x", 1024))
+        };
+
+        BinaryEncoder binaryEncoder = new BinaryEncoder(ChannelConfig.DEFAULT_MAX_ARRAY_LENGTH, 512);
+
+        try {
+            binaryEncoder.setBuffer(stream.buffer()).setSink(stream).encodeArray(null, values, binaryEncoder::encodeVariant);
+            fail("expected UaSerializationException");
+        } catch (UaSerializationException e) {
+            stream.abort(e.getStatusCode(), e.getMessage());
+        }
+
+        assertEquals(streamedChunks.size(), 4);
+
+        for (int i = 0; i < streamedChunks.size(); i++) {
+            char chunkType = (char) streamedChunks.get(i).getByte(3);
+
+            assertEquals(chunkType, i < 3 ? 'C' : 'A');
+        }
+
+        streamedChunks.forEach(ReferenceCountUtil::releaseLater);
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityParameters")
+    public void testIncrementalSymmetricMessage(SecurityPolicy securityPolicy,
+                                                MessageSecurityMode messageSecurity,
+                                                int messageSize) throws Exception {
+
+        logger.info("Incremental symmetric chunk decoding, securityPolicy={}, messageSecurityMode={}, messageSize={}",
+                securityPolicy, messageSecurity, messageSize);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        SecureChannel clientChannel = channels[0];
+        SecureChannel serverChannel = channels[1];
+
+        ChunkEncoder encoder = new ChunkEncoder(parameters);
+        ChunkDecoder decoder = new ChunkDecoder(parameters);
+
+        byte[] messageBytes = new byte[messageSize];
+        for (int i = 0; i < messageBytes.length; i++) {
+            messageBytes[i] = (byte) i;
+        }
+
+        ByteBuf messageBuffer = BufferUtil.buffer().writeBytes(messageBytes);
+        ReferenceCountUtil.releaseLater(messageBuffer);
+
+        // Decode two messages in a row so the sequence numbers carry over between them.
+        for (int n = 0; n < 2; n++) {
+            List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(
+                    clientChannel,
+                    MessageType.SecureMessage,
+                    messageBuffer.readerIndex(0)
+            );
+
+            ByteBuf decodedBuffer = null;
+
+            for (int i = 0; i < chunkBuffers.size(); i++) {
+                ByteBuf chunkBuffer = chunkBuffers.get(i);
+
+                decodedBuffer = decoder.decodeSymmetricChunk(serverChannel, MessageType.SecureMessage, chunkBuffer);
+
+                if (i < chunkBuffers.size() - 1) {
+                    assertNull(decodedBuffer);
+
+                    // Intermediate chunks are released as soon as their body has been taken.
+                    assertEquals(chunkBuffer.refCnt(), 0);
+                }
+            }
+
+            assertNotNull(decodedBuffer);
+            ReferenceCountUtil.releaseLater(decodedBuffer);
+
+            messageBuffer.readerIndex(0);
+            assertEquals(decodedBuffer, messageBuffer);
+        }
+    }
+
+    @Test
+    public void testIncrementalSymmetricMessageAborted() throws Exception {
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+        SecureChannel clientChannel = channels[0];
+        SecureChannel serverChannel = channels[1];
+
+        ChunkEncoder encoder = new ChunkEncoder(parameters);
+        ChunkDecoder decoder = new ChunkDecoder(parameters);
+
+        List<ByteBuf> abortedChunks = new ArrayList<>();
+
+        ChunkEncoder.ChunkStream stream = encoder.openSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                abortedChunks::add
+        );
+
+        stream.buffer().writeBytes(new byte[ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 2]);
+        stream.flush();
+        stream.abort(StatusCodes.Bad_EncodingError, "aborted");
+
+        assertEquals(abortedChunks.size(), 3);
+
+        for (ByteBuf chunkBuffer : abortedChunks) {
+            assertNull(decoder.decodeSymmetricChunk(serverChannel, MessageType.SecureMessage, chunkBuffer));
+            assertEquals(chunkBuffer.refCnt(), 0);
+        }
+
+        // The next message follows the abort chunk's sequence number.
+        ByteBuf messageBuffer = BufferUtil.buffer().writeBytes(new byte[128]);
+        ReferenceCountUtil.releaseLater(messageBuffer);
+
+        List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(clientChannel, MessageType.SecureMessage, messageBuffer);
+        assertEquals(chunkBuffers.size(), 1);
+
+        ByteBuf decodedBuffer = decoder.decodeSymmetricChunk(
+                serverChannel, MessageType.SecureMessage, chunkBuffers.get(0));
+        ReferenceCountUtil.releaseLater(decodedBuffer);
+
+        messageBuffer.readerIndex(0);
+        assertEquals(decodedBuffer, messageBuffer);
+    }
+
+    @Test
+    public void testAbortChunkChecksSecureChannelId() throws Exception {
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+        SecureChannel clientChannel = channels[0];
+        ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+        List<ByteBuf> chunkBuffers = new ArrayList<>();
+
+        ChunkEncoder.ChunkStream stream = new ChunkEncoder(parameters)
+                .openSymmetric(clientChannel, MessageType.SecureMessage, chunkBuffers::add);
+
+        stream.buffer().writeBytes(new byte[ChannelConfig.DEFAULT_MAX_CHUNK_SIZE]);
+        stream.flush();
+        stream.abort(StatusCodes.Bad_EncodingError, "aborted");
+
+        ByteBuf abortChunk = chunkBuffers.remove(chunkBuffers.size() - 1);
+        chunkBuffers.forEach(ReferenceCountUtil::release);
+
+        assertEquals(abortChunk.getByte(3), 'A');
+
+        // Claim a secure channel other than the one the handler is bound to.
+        abortChunk.order(ByteOrder.LITTLE_ENDIAN).setInt(8, (int) serverChannel.getChannelId() + 1);
+
+        UaTcpStackServer server = new UaTcpServerBuilder().build();
+
+        // Added once the channel is registered, since the handler fires channelActive when added.
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        channel.pipeline().addFirst(new UaTcpServerSymmetricHandler(
+                server, new SerializationQueue(parameters, ChannelConfig.DEFAULT), serverChannel));
+
+        try {
+            channel.writeInbound(abortChunk);
+
+            // The handler answers a rejected chunk with an Error message.
+            ByteBuf errorBuffer = (ByteBuf) channel.readOutbound();
+            assertNotNull(errorBuffer);
+
+            ErrorMessage error = TcpMessageDecoder.decodeError(errorBuffer.order(ByteOrder.LITTLE_ENDIAN));
+            errorBuffer.release();
+
+            assertEquals(error.getError().getValue(), StatusCodes.Bad_SecureChannelIdInvalid);
+        } finally {
+            channel.finish();
+            server.shutdown();
+        }
+    }
+
+    /**
+     * @return a ReadResponse of roughly {@code size} bytes, with a ByteString that spans several chunks and a
+     * structure whose ExtensionObject body spans several chunks.
+     */
+    private static ReadResponse readResponse(int size) {
+        List<DataValue> values = new ArrayList<>();
+
+        for (int i = 0; i < size / 400; i++) {
+            values.add(new DataValue(new Variant("value-" + i + Strings.repeat("x", i % 64))));
+        }
+
+        values.add(new DataValue(new Variant(ByteString.of(new byte[size / 4]))));
+        values.add(new DataValue(new Variant(new SignatureData("algorithm", ByteString.of(new byte[size / 4])))));
+
+        ResponseHeader header = new ResponseHeader(
+                DateTime.now(), uint(1), StatusCode.GOOD, null, new String[0], null);
+
+        return new ReadResponse(header, values.toArray(new DataValue[values.size()]), new DiagnosticInfo[0]);
+    }
+
 }
@@ -1,17 +1,25 @@
 package com.digitalpetri.opcua.stack;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 
 import com.beust.jcommander.internal.Lists;
 import com.digitalpetri.opcua.stack.client.UaTcpStackClient;
 import com.digitalpetri.opcua.stack.client.config.UaTcpStackClientConfig;
 import com.digitalpetri.opcua.stack.core.Stack;
 import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.application.services.ServiceRequest;
+import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
 import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.serialization.binary.ArrayConsumers;
+import com.digitalpetri.opcua.stack.core.serialization.binary.InterningCache;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
@@ -22,7 +30,10 @@ import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
 import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
 import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
 import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import com.digitalpetri.opcua.stack.core.types.structured.EndpointDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
 import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
 import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
 import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
@@ -32,6 +43,7 @@ import com.digitalpetri.opcua.stack.core.util.CryptoRestrictions;
 import com.digitalpetri.opcua.stack.server.tcp.SocketServer;
 import com.digitalpetri.opcua.stack.server.tcp.UaTcpServerBuilder;
 import com.digitalpetri.opcua.stack.server.tcp.UaTcpStackServer;
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.annotations.AfterTest;
@@ -44,6 +56,8 @@ import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.
 import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
 import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 public class ClientServerTest extends SecurityFixture {
 
@@ -114,6 +128,24 @@ public class ClientServerTest extends SecurityFixture {
             service.setResponse(new TestStackResponse(header, request.getInput()));
         });
 
+        server.addRequestHandler(ReadRequest.class, (service) -> {
+            ReadRequest request = service.getRequest();
+
+            ResponseHeader header = new ResponseHeader(
+                    DateTime.now(),
+                    request.getRequestHeader().getRequestHandle(),
+                    StatusCode.GOOD,
+                    null, null, null
+            );
+
+            DataValue[] results = new DataValue[request.getNodesToRead().length];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = new DataValue(new Variant(i));
+            }
+
+            service.setResponse(new ReadResponse(header, results, null));
+        });
+
         server.startup();
 
         endpoints = UaTcpStackClient.getEndpoints("opc.tcp://localhost:12685/test").get();
@@ -254,6 +286,156 @@ public class ClientServerTest extends SecurityFixture {
         }
     }
 
+    @Test
+    public void testArrayConsumersScopedToRequest() throws Exception {
+        UaTcpStackClient client = createClient(endpoints[0]);
+        client.connect().get();
+
+        List<DataValue> streamed = new ArrayList<>();
+        ArrayConsumers arrayConsumers = new ArrayConsumers().put("Results", DataValue.class, streamed::add);
+
+        CompletableFuture<ReadResponse> streaming = client.sendRequest(readRequest(1, 10), arrayConsumers);
+        CompletableFuture<ReadResponse> collected = client.sendRequest(readRequest(2, 10));
+
+        assertEquals(streaming.get().getResults().length, 0);
+        assertEquals(streamed.size(), 10);
+        assertEquals(collected.get().getResults().length, 10);
+        assertFalse(client.hasArrayConsumers());
+
+        client.disconnect().get();
+    }
+
+    @Test
+    public void testInterningCacheStatistics() throws Exception {
+        UaTcpStackClientConfig config = UaTcpStackClientConfig.builder()
+                .setEndpoint(endpoints[0])
+                .setKeyPair(clientKeyPair)
+                .setCertificate(clientCertificate)
+                .setChannelConfig(ChannelConfig.builder().setInterningCacheSize(1024).build())
+                .build();
+
+        UaTcpStackClient client = new UaTcpStackClient(config);
+        client.connect().get();
+
+        client.sendRequest(readRequest(1, 10)).get();
+        client.sendRequest(readRequest(2, 10)).get();
+
+        InterningCache interningCache = client.getInterningCache().get();
+
+        assertTrue(interningCache.getHits() > 0);
+        assertTrue(interningCache.getMisses() > 0);
+        assertFalse(server.getInterningCache().isPresent());
+
+        client.disconnect().get();
+    }
+
+    @Test
+    public void testSlicedByteStringsOwnedByReceiver() throws Exception {
+        ChannelConfig channelConfig = ChannelConfig.builder().setByteStringSliceThreshold(64).build();
+
+        CompletableFuture<ServiceRequest<TestStackRequest, UaResponseMessage>> retained = new CompletableFuture<>();
+
+        UaTcpStackServer slicingServer = new UaTcpServerBuilder()
+                .setServerName("slicing")
+                .setCertificateManager(serverCertificateManager)
+                .setChannelConfig(channelConfig)
+                .build();
+
+        slicingServer.addEndpoint("opc.tcp://localhost:12685/slicing", null);
+
+        slicingServer.addRequestHandler(TestStackRequest.class, (service) -> {
+            TestStackRequest request = service.getRequest();
+
+            // Keep the request's values after the response has been sent.
+            if (request.getIteration() == 0) retained.complete(service.retain());
+
+            ResponseHeader header = new ResponseHeader(
+                    DateTime.now(),
+                    request.getRequestHeader().getRequestHandle(),
+                    StatusCode.GOOD,
+                    null, null, null
+            );
+
+            service.setResponse(new TestStackResponse(header, request.getInput()));
+        });
+
+        slicingServer.startup();
+
+        try {
+            EndpointDescription endpoint = UaTcpStackClient.getEndpoints("opc.tcp://localhost:12685/slicing").get()[0];
+
+            UaTcpStackClientConfig config = UaTcpStackClientConfig.builder()
+                    .setEndpoint(endpoint)
+                    .setKeyPair(clientKeyPair)
+                    .setCertificate(clientCertificate)
+                    .setChannelConfig(channelConfig)
+                    .build();
+
+            UaTcpStackClient client = new UaTcpStackClient(config);
+            client.connect().get();
+
+            byte[] bytes = new byte[1024];
+            new Random().nextBytes(bytes);
+            Variant input = new Variant(ByteString.of(bytes));
+
+            CountDownLatch completed = new CountDownLatch(1);
+
+            CompletableFuture<TestStackResponse> future = client.sendRequest(testStackRequest(0, input));
+
+            // An async consumer that only reads the value once the client has moved on to another response.
+            CompletableFuture<ByteString> output = future.thenApplyAsync(response -> {
+                Uninterruptibles.awaitUninterruptibly(completed);
+                return (ByteString) response.getOutput().getValue();
+            });
+
+            future.get();
+            client.sendRequest(testStackRequest(1, input)).get();
+            completed.countDown();
+
+            ByteString outputValue = output.get();
+            assertTrue(outputValue.isBuffered());
+            assertEquals(outputValue.bytes(), bytes);
+
+            client.releaseResponse(future.get());
+            assertEquals(outputValue.buffer().refCnt(), 0);
+
+            ServiceRequest<TestStackRequest, UaResponseMessage> service = retained.get();
+            ByteString inputValue = (ByteString) service.getRequest().getInput().getValue();
+            assertTrue(inputValue.isBuffered());
+            assertEquals(inputValue.bytes(), bytes);
+            assertTrue(service.release());
+
+            client.disconnect().get();
+        } finally {
+            slicingServer.shutdown();
+        }
+    }
+
+    private TestStackRequest testStackRequest(int iteration, Variant input) {
+        RequestHeader header = new RequestHeader(
+                NodeId.NULL_VALUE,
+                DateTime.now(),
+                uint(iteration), uint(0), null,
+                uint(60000), null);
+
+        return new TestStackRequest(header, uint(iteration), iteration, input);
+    }
+
+    private ReadRequest readRequest(int requestHandle, int count) {
+        RequestHeader header = new RequestHeader(
+                NodeId.NULL_VALUE,
+                DateTime.now(),
+                uint(requestHandle), uint(0), null,
+                uint(60000), null);
+
+        ReadValueId[] nodesToRead = new ReadValueId[count];
+        for (int i = 0; i < count; i++) {
+            nodesToRead[i] = new ReadValueId(new NodeId(0, i), uint(13), null, QualifiedName.NULL_VALUE);
+        }
+
+        return new ReadRequest(header, 0.0, TimestampsToReturn.Neither, nodesToRead);
+    }
+
     private UaTcpStackClient createClient(EndpointDescription endpoint) throws UaException {
         UaTcpStackClientConfig config = UaTcpStackClientConfig.builder()
                 .setEndpoint(endpoint)
@@ -0,0 +1,89 @@
+package com.digitalpetri.opcua.stack;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.server.tcp.HandshakeExecutor;
+import com.digitalpetri.opcua.stack.server.tcp.UaTcpServerBuilder;
+import com.digitalpetri.opcua.stack.server.tcp.UaTcpStackServer;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class HandshakeExecutorTest {
+
+    @Test
+    public void testRenewalsFirstAndIssuesRejectedWhenFull() throws Exception {
+        HandshakeExecutor executor = new HandshakeExecutor(1, 2);
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(4);
+
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        try {
+            // Occupy the only thread so everything after this is queued.
+            assertTrue(executor.execute(true, () -> {
+                running.countDown();
+                try {
+                    blocked.await();
+                } catch (InterruptedException ignored) {
+                }
+            }));
+
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            assertTrue(executor.execute(false, record(order, "issue-1", done)));
+            assertTrue(executor.execute(false, record(order, "issue-2", done)));
+            assertFalse(executor.execute(false, record(order, "issue-3", done)));
+            assertTrue(executor.execute(true, record(order, "renew-1", done)));
+            assertTrue(executor.execute(true, record(order, "renew-2", done)));
+
+            assertEquals(executor.getQueuedIssueCount(), 2);
+            assertEquals(executor.getRejectedCount(), 1);
+
+            blocked.countDown();
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(order.toArray(), new String[]{"renew-1", "renew-2", "issue-1", "issue-2"});
+
+            assertEquals(executor.getQueuedIssueCount(), 0);
+            assertTrue(executor.getMaxLatency(TimeUnit.NANOSECONDS) > 0);
+        } finally {
+            blocked.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static Runnable record(List<String> order, String name, CountDownLatch done) {
+        return () -> {
+            order.add(name);
+            done.countDown();
+        };
+    }
+
+    @Test
+    public void testServerShutsDownOnlyItsOwnExecutor() {
+        UaTcpStackServer server = new UaTcpServerBuilder().build();
+        server.shutdown();
+
+        assertTrue(server.getHandshakeExecutor().isShutdown());
+
+        HandshakeExecutor executor = new HandshakeExecutor(1, 1);
+
+        try {
+            server = new UaTcpServerBuilder().setHandshakeExecutor(executor).build();
+            server.shutdown();
+
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.digitalpetri.opcua.stack;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
+import com.digitalpetri.opcua.stack.core.channel.ChannelParameters;
+import com.digitalpetri.opcua.stack.core.channel.DecodingMode;
+import com.digitalpetri.opcua.stack.core.channel.SerializationQueue;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class SerializationQueueTest {
+
+    private static final int MESSAGE_COUNT = 16;
+
+    private final ChannelParameters parameters = new ChannelParameters(
+            ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_COUNT,
+            ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_COUNT
+    );
+
+    @Test
+    public void testSerialDecodeDispatchesInOrder() throws Exception {
+        List<Integer> dispatched = decodeAll(DecodingMode.SERIAL);
+
+        assertEquals(dispatched, expected());
+    }
+
+    @Test
+    public void testParallelOrderedDecodeDispatchesInOrder() throws Exception {
+        List<Integer> dispatched = decodeAll(DecodingMode.PARALLEL_ORDERED);
+
+        assertEquals(dispatched, expected());
+    }
+
+    @Test
+    public void testParallelUnorderedDecodeDispatchesAll() throws Exception {
+        List<Integer> dispatched = decodeAll(DecodingMode.PARALLEL_UNORDERED);
+
+        assertEquals(dispatched.size(), MESSAGE_COUNT);
+        assertTrue(dispatched.containsAll(expected()));
+    }
+
+    @Test
+    public void testParallelDecodeError() throws Exception {
+        SerializationQueue queue = newQueue(DecodingMode.PARALLEL_ORDERED);
+
+        ByteBuf messageBuffer = message(0);
+        CountDownLatch failed = new CountDownLatch(1);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        queue.decode((binaryDecoder, chunkDecoder) ->
+                queue.decodeMessage(
+                        messageBuffer,
+                        decoder -> {
+                            throw new UaSerializationException(StatusCodes.Bad_DecodingError, "failed");
+                        },
+                        (message, dispose) -> {
+                        },
+                        t -> {
+                            errors.add(t);
+                            failed.countDown();
+                        }
+                ));
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        assertTrue(errors.get(0) instanceof UaSerializationException);
+        assertEquals(messageBuffer.refCnt(), 0);
+    }
+
+    @Test
+    public void testPrimitiveArrays() throws Exception {
+        for (DecodingMode decodingMode : DecodingMode.values()) {
+            SerializationQueue queue = new SerializationQueue(parameters, ChannelConfig.builder()
+                    .setDecodingMode(decodingMode)
+                    .setPrimitiveArrays(true)
+                    .build());
+
+            ByteBuf messageBuffer = BufferUtil.buffer();
+            new BinaryEncoder().setBuffer(messageBuffer).encodeVariant(null, new Variant(new Integer[]{1, 2, 3}));
+
+            CompletableFuture<Object> decoded = new CompletableFuture<>();
+
+            queue.decode((binaryDecoder, chunkDecoder) ->
+                    queue.decodeMessage(
+                            messageBuffer,
+                            decoder -> decoder.decodeVariant(null).getValue(),
+                            (value, dispose) -> decoded.complete(value),
+                            decoded::completeExceptionally
+                    ));
+
+            assertEquals(decoded.get(5, TimeUnit.SECONDS), new int[]{1, 2, 3}, decodingMode.toString());
+        }
+    }
+
+    @Test
+    public void testByteStringSlicesReleasedOnDispose() throws Exception {
+        for (DecodingMode decodingMode : DecodingMode.values()) {
+            SerializationQueue queue = new SerializationQueue(parameters, ChannelConfig.builder()
+                    .setDecodingMode(decodingMode)
+                    .setByteStringSliceThreshold(4)
+                    .build());
+
+            ByteBuf messageBuffer = BufferUtil.buffer();
+            new BinaryEncoder().setBuffer(messageBuffer).encodeByteString(null, ByteString.of(new byte[]{1, 2, 3, 4}));
+
+            CompletableFuture<ByteString> decoded = new CompletableFuture<>();
+            CompletableFuture<Runnable> disposed = new CompletableFuture<>();
+
+            queue.decode((binaryDecoder, chunkDecoder) ->
+                    queue.decodeMessage(
+                            messageBuffer,
+                            decoder -> decoder.decodeByteString(null),
+                            (byteString, dispose) -> {
+                                decoded.complete(byteString);
+                                disposed.complete(dispose);
+                            },
+                            decoded::completeExceptionally
+                    ));
+
+            ByteString byteString = decoded.get(5, TimeUnit.SECONDS);
+
+            assertTrue(byteString.isBuffered(), decodingMode.toString());
+            assertEquals(messageBuffer.refCnt(), 1, decodingMode.toString());
+
+            disposed.get(5, TimeUnit.SECONDS).run();
+
+            assertEquals(messageBuffer.refCnt(), 0, decodingMode.toString());
+        }
+    }
+
+    private List<Integer> decodeAll(DecodingMode decodingMode) throws InterruptedException {
+        SerializationQueue queue = newQueue(decodingMode);
+
+        List<Integer> dispatched = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(MESSAGE_COUNT);
+
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            ByteBuf messageBuffer = message(i);
+
+            queue.decode((binaryDecoder, chunkDecoder) ->
+                    queue.decodeMessage(
+                            messageBuffer,
+                            SerializationQueueTest::decodeSlowly,
+                            (n, dispose) -> {
+                                dispatched.add(n);
+                                done.countDown();
+                            },
+                            Throwable::printStackTrace
+                    ));
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        return dispatched;
+    }
+
+    private SerializationQueue newQueue(DecodingMode decodingMode) {
+        return new SerializationQueue(parameters, ChannelConfig.builder().setDecodingMode(decodingMode).build());
+    }
+
+    /**
+     * Earlier messages take longer to decode, so they finish last when decoded in parallel.
+     */
+    private static Integer decodeSlowly(BinaryDecoder decoder) {
+        int n = decoder.decodeInt32(null);
+
+        try {
+            Thread.sleep(MESSAGE_COUNT - n);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return n;
+    }
+
+    private static ByteBuf message(int n) {
+        return BufferUtil.buffer(4).writeInt(n);
+    }
+
+    private static List<Integer> expected() {
+        List<Integer> expected = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < MESSAGE_COUNT; i++) expected.add(i);
+        return expected;
+    }
+
+}
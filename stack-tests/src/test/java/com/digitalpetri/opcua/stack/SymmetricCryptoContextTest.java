@@ -0,0 +1,139 @@
+package com.digitalpetri.opcua.stack;
+
+import java.util.List;
+
+import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
+import com.digitalpetri.opcua.stack.core.channel.ChannelParameters;
+import com.digitalpetri.opcua.stack.core.channel.ChannelSecurity;
+import com.digitalpetri.opcua.stack.core.channel.ChunkDecoder;
+import com.digitalpetri.opcua.stack.core.channel.ChunkEncoder;
+import com.digitalpetri.opcua.stack.core.channel.ClientSecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.SecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.ServerSecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.SymmetricCryptoContext;
+import com.digitalpetri.opcua.stack.core.channel.messages.MessageType;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.types.structured.ChannelSecurityToken;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import com.digitalpetri.opcua.stack.core.util.CryptoRestrictions;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class SymmetricCryptoContextTest extends SecureChannelFixture {
+
+    static {
+        CryptoRestrictions.remove();
+    }
+
+    ChannelParameters parameters = new ChannelParameters(
+            ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_COUNT,
+            ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_COUNT
+    );
+
+    @Test
+    public void testContextReusedAcrossRenewal() throws Exception {
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+        ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+
+        SymmetricCryptoContext current = clientChannel.getSymmetricCryptoContext(1);
+
+        assertNotNull(current);
+        assertNotNull(current.getEncryptionCipher());
+        assertNotNull(current.getSignatureMac());
+        assertSame(clientChannel.getSymmetricCryptoContext(1), current);
+        assertNull(clientChannel.getSymmetricCryptoContext(2));
+
+        renew(clientChannel, 2);
+
+        SymmetricCryptoContext renewed = clientChannel.getSymmetricCryptoContext(2);
+
+        assertNotNull(renewed);
+        assertNotSame(renewed, current);
+        assertSame(clientChannel.getSymmetricCryptoContext(1), current);
+    }
+
+    @Test
+    public void testMessagesAcrossRenewal() throws Exception {
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+        ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+        ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+        ChunkEncoder encoder = new ChunkEncoder(parameters);
+        ChunkDecoder decoder = new ChunkDecoder(parameters);
+
+        byte[] messageBytes = new byte[ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 3];
+        for (int i = 0; i < messageBytes.length; i++) {
+            messageBytes[i] = (byte) i;
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertRoundTrip(encoder, decoder, clientChannel, serverChannel, messageBytes);
+        }
+
+        // The server installs the new token first; the client may still be sending under the old one.
+        renew(serverChannel, 2);
+        assertRoundTrip(encoder, decoder, clientChannel, serverChannel, messageBytes);
+
+        renew(clientChannel, 2);
+        assertRoundTrip(encoder, decoder, clientChannel, serverChannel, messageBytes);
+    }
+
+    private void assertRoundTrip(ChunkEncoder encoder,
+                                 ChunkDecoder decoder,
+                                 SecureChannel clientChannel,
+                                 SecureChannel serverChannel,
+                                 byte[] messageBytes) throws Exception {
+
+        ByteBuf messageBuffer = BufferUtil.buffer().writeBytes(messageBytes);
+
+        List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(clientChannel, MessageType.SecureMessage, messageBuffer);
+
+        ByteBuf decodedBuffer = decoder.decodeSymmetric(serverChannel, MessageType.SecureMessage, chunkBuffers);
+
+        ReferenceCountUtil.releaseLater(messageBuffer);
+        ReferenceCountUtil.releaseLater(decodedBuffer);
+
+        messageBuffer.readerIndex(0);
+        assertEquals(decodedBuffer, messageBuffer);
+    }
+
+    /**
+     * Replace the channel's security with a new token whose keys are derived from the same nonces, keeping the old
+     * token and keys as the previous ones.
+     */
+    private void renew(SecureChannel channel, long tokenId) {
+        ChannelSecurity old = channel.getChannelSecurity();
+
+        ChannelSecurity.SecuritySecrets secrets = channel instanceof ClientSecureChannel ?
+                ChannelSecurity.generateKeyPair(channel, channel.getLocalNonce(), channel.getRemoteNonce()) :
+                ChannelSecurity.generateKeyPair(channel, channel.getRemoteNonce(), channel.getLocalNonce());
+
+        ChannelSecurityToken token = new ChannelSecurityToken(uint(0), uint(tokenId), DateTime.now(), uint(60000));
+
+        ChannelSecurity security = new ChannelSecurity(
+                secrets, token, old.getCurrentKeys(), old.getCurrentToken());
+
+        if (channel instanceof ClientSecureChannel) {
+            ((ClientSecureChannel) channel).setChannelSecurity(security);
+        } else {
+            ((ServerSecureChannel) channel).setChannelSecurity(security);
+        }
+    }
+
+}